@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * @file   BenchmarkFixtures.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.epsg.openconfigurator.util.XddMarshaller;
+
+/**
+ * Access to the checked-in fixtures of the benchmarks.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+final class BenchmarkFixtures {
+
+    private static final String FIXTURES_PATH = "/fixtures/"; //$NON-NLS-1$
+
+    private static final String TEMP_FILE_PREFIX = "openconfigurator-benchmark"; //$NON-NLS-1$
+
+    /**
+     * Copies the fixture into a temporary file, which is deleted when the
+     * benchmark VM exits.
+     *
+     * @param fixture The file name of the fixture.
+     * @return The temporary file.
+     * @throws IOException If the fixture cannot be copied.
+     */
+    static File copyFixture(final String fixture) throws IOException {
+        checkPluginDirectory();
+        File file = File.createTempFile(TEMP_FILE_PREFIX, fixture);
+        file.deleteOnExit();
+        try (InputStream input = BenchmarkFixtures.class
+                .getResourceAsStream(FIXTURES_PATH + fixture)) {
+            if (input == null) {
+                throw new IOException("Fixture not found: " + fixture); //$NON-NLS-1$
+            }
+            Files.copy(input, file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        return file;
+    }
+
+    /**
+     * Creates an empty temporary file, which is deleted when the benchmark VM
+     * exits.
+     *
+     * @param suffix The suffix of the file.
+     * @return The temporary file.
+     * @throws IOException If the file cannot be created.
+     */
+    static File createTempFile(final String suffix) throws IOException {
+        File file = File.createTempFile(TEMP_FILE_PREFIX, suffix);
+        file.deleteOnExit();
+        return file;
+    }
+
+    /**
+     * The XDD schemas are loaded from the plugin directory outside of the
+     * workbench; without it the XDDs would be parsed without validation and
+     * the results would not be comparable.
+     */
+    private static void checkPluginDirectory() {
+        if (System.getProperty(
+                XddMarshaller.PLUGIN_DIRECTORY_PROPERTY) == null) {
+            throw new IllegalStateException("The system property " //$NON-NLS-1$
+                    + XddMarshaller.PLUGIN_DIRECTORY_PROPERTY
+                    + " is not set."); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private BenchmarkFixtures() {
+    }
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * @file   ObjectDictionaryBenchmark.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.epsg.openconfigurator.model.AbstractPowerlinkObject;
+import org.epsg.openconfigurator.model.Node;
+import org.epsg.openconfigurator.model.ObjectDictionary;
+import org.epsg.openconfigurator.model.PowerlinkObject;
+import org.epsg.openconfigurator.model.PowerlinkSubobject;
+import org.epsg.openconfigurator.util.IPowerlinkConstants;
+import org.epsg.openconfigurator.util.XddMarshaller;
+import org.epsg.openconfigurator.xmlbinding.xdd.ISO15745ProfileContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the construction of the object dictionary, the lookups of
+ * objects and sub-objects and the construction of the mappable object lists
+ * as done by the mapping view.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ObjectDictionaryBenchmark {
+
+    @Param({ XddFixtureGenerator.SMALL_XDD, XddFixtureGenerator.LARGE_XDD })
+    public String fixture;
+
+    private ISO15745ProfileContainer xddModel;
+
+    private ObjectDictionary objectDictionary;
+
+    private long[] objectIds;
+
+    private short[] subObjectIds;
+
+    private int lookup;
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ObjectDictionary createObjectDictionary() {
+        return new ObjectDictionary(new Node(), xddModel);
+    }
+
+    @Benchmark
+    public PowerlinkObject getObject() {
+        int position = nextLookup();
+        return objectDictionary.getObject(objectIds[position]);
+    }
+
+    @Benchmark
+    public PowerlinkSubobject getSubObject() {
+        int position = nextLookup();
+        return objectDictionary.getSubObject(objectIds[position],
+                subObjectIds[position]);
+    }
+
+    /**
+     * Builds the list of the TPDO mappable objects and sub-objects of a
+     * controlled node with the profile object selection of the mapping view.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<AbstractPowerlinkObject> getTpdoMappableObjects() {
+        List<AbstractPowerlinkObject> objectList = new ArrayList<>();
+        for (PowerlinkObject plkObj : objectDictionary
+                .getTpdoMappableObjectList()) {
+            if (plkObj.isTpdoMappable() && !isDeviceProfileObject(plkObj)) {
+                objectList.add(plkObj);
+            }
+            for (PowerlinkSubobject plkSubobj : plkObj
+                    .getTpdoMappableObjectList()) {
+                if (!isDeviceProfileObject(plkSubobj.getObject())) {
+                    objectList.add(plkSubobj);
+                }
+            }
+        }
+        return objectList;
+    }
+
+    private static boolean isDeviceProfileObject(PowerlinkObject object) {
+        return (object
+                .getId() >= IPowerlinkConstants.STANDARDISED_DEVICE_PROFILE_START_INDEX)
+                && (object
+                        .getId() <= IPowerlinkConstants.STANDARDISED_DEVICE_PROFILE_END_INDEX);
+    }
+
+    private int nextLookup() {
+        int position = lookup;
+        lookup = (lookup + 1) % objectIds.length;
+        return position;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        xddModel = XddMarshaller
+                .unmarshallXDDFile(BenchmarkFixtures.copyFixture(fixture));
+        objectDictionary = new ObjectDictionary(new Node(), xddModel);
+
+        List<PowerlinkSubobject> subObjects = new ArrayList<>();
+        for (PowerlinkObject object : objectDictionary.getObjectsList()) {
+            subObjects.addAll(object.getSubObjects());
+        }
+        objectIds = new long[subObjects.size()];
+        subObjectIds = new short[subObjects.size()];
+        for (int i = 0; i < subObjects.size(); i++) {
+            objectIds[i] = subObjects.get(i).getObject().getId();
+            subObjectIds[i] = subObjects.get(i).getId();
+        }
+    }
+}
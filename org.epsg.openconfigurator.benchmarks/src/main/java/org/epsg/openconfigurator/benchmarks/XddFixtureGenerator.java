@@ -0,0 +1,362 @@
+/*******************************************************************************
+ * @file   XddFixtureGenerator.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generates the synthetic XDD fixtures of the benchmarks.
+ *
+ * The fixtures are checked in below src/main/resources/fixtures; run this
+ * class with the fixtures directory as argument to regenerate them after a
+ * change of the generator. The output is deterministic, so that the
+ * regenerated fixtures differ only where the generator was changed.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class XddFixtureGenerator {
+
+    /**
+     * Fixture with a small object dictionary.
+     */
+    public static final String SMALL_XDD = "small.xdd"; //$NON-NLS-1$
+
+    /**
+     * Fixture with a large object dictionary.
+     */
+    public static final String LARGE_XDD = "large.xdd"; //$NON-NLS-1$
+
+    private static final int SMALL_OBJECT_COUNT = 32;
+    private static final int SMALL_SUBOBJECT_COUNT = 4;
+
+    private static final int LARGE_OBJECT_COUNT = 400;
+    private static final int LARGE_SUBOBJECT_COUNT = 6;
+
+    /**
+     * Number of PDO channels in each direction.
+     */
+    private static final int PDO_CHANNEL_COUNT = 4;
+
+    /**
+     * Number of mapping entries of each PDO channel.
+     */
+    private static final int PDO_MAPPING_ENTRIES = 16;
+
+    private static final long MANUFACTURER_START_INDEX = 0x2000L;
+
+    private static final String[] DATA_TYPES = { "0005", "0006", "0007", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "0002", "0003", "0004" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    private static final String[] HIGH_LIMITS = { "0xFF", "0xFFFF", //$NON-NLS-1$ //$NON-NLS-2$
+            "0xFFFFFFFF", "127", "32767", "2147483647" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+    private static final String[] PDO_MAPPINGS = { "TPDO", "RPDO", //$NON-NLS-1$ //$NON-NLS-2$
+            "optional", "no" }; //$NON-NLS-1$ //$NON-NLS-2$
+
+    private static final String LINE_SEPARATOR = "\n"; //$NON-NLS-1$
+
+    private static void appendCommunicationObjects(StringBuilder xdd) {
+        appendObject(xdd, 0x1000, "NMT_DeviceType_U32", "0007", "const", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                "0x000F0191", null, null, "no"); //$NON-NLS-1$ //$NON-NLS-2$
+        appendObject(xdd, 0x1006, "NMT_CycleLen_U32", "0007", "rw", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                "0", null, null, "no"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        for (int channel = 0; channel < PDO_CHANNEL_COUNT; channel++) {
+            appendPdoCommunicationObject(xdd, 0x1400 + channel,
+                    "PDO_RxCommParam_" + channel + "h_REC"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        for (int channel = 0; channel < PDO_CHANNEL_COUNT; channel++) {
+            appendPdoMappingObject(xdd, 0x1600 + channel,
+                    "PDO_RxMappParam_" + channel + "h_AU64"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        for (int channel = 0; channel < PDO_CHANNEL_COUNT; channel++) {
+            appendPdoCommunicationObject(xdd, 0x1800 + channel,
+                    "PDO_TxCommParam_" + channel + "h_REC"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        for (int channel = 0; channel < PDO_CHANNEL_COUNT; channel++) {
+            appendPdoMappingObject(xdd, 0x1A00 + channel,
+                    "PDO_TxMappParam_" + channel + "h_AU64"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private static void appendManufacturerObjects(StringBuilder xdd,
+            int objectCount, int subObjectCount) {
+        for (int object = 0; object < objectCount; object++) {
+            long index = MANUFACTURER_START_INDEX + object;
+            int type = object % DATA_TYPES.length;
+            String pdoMapping = PDO_MAPPINGS[object % PDO_MAPPINGS.length];
+            xdd.append(String.format(
+                    "        <Object index=\"%04X\" name=\"Vendor_Object_%04X\" objectType=\"9\" subNumber=\"%d\">", //$NON-NLS-1$
+                    index, index, subObjectCount + 1));
+            xdd.append(LINE_SEPARATOR);
+            appendSubObject(xdd, 0, "NumberOfEntries", "0005", "const", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    String.valueOf(subObjectCount), null, null, "no"); //$NON-NLS-1$
+            for (int subObject = 1; subObject <= subObjectCount; subObject++) {
+                appendSubObject(xdd, subObject, "Value_" + subObject, //$NON-NLS-1$
+                        DATA_TYPES[type], "rw", String.valueOf(subObject), //$NON-NLS-1$
+                        "0", HIGH_LIMITS[type], pdoMapping); //$NON-NLS-1$
+            }
+            xdd.append("        </Object>"); //$NON-NLS-1$
+            xdd.append(LINE_SEPARATOR);
+        }
+    }
+
+    private static void appendObject(StringBuilder xdd, long index,
+            String name, String dataType, String accessType,
+            String defaultValue, String lowLimit, String highLimit,
+            String pdoMapping) {
+        xdd.append(String.format(
+                "        <Object index=\"%04X\" name=\"%s\" objectType=\"7\" dataType=\"%s\" accessType=\"%s\" defaultValue=\"%s\"%s PDOmapping=\"%s\"/>", //$NON-NLS-1$
+                index, name, dataType, accessType, defaultValue,
+                getLimits(lowLimit, highLimit), pdoMapping));
+        xdd.append(LINE_SEPARATOR);
+    }
+
+    private static void appendPdoCommunicationObject(StringBuilder xdd,
+            long index, String name) {
+        xdd.append(String.format(
+                "        <Object index=\"%04X\" name=\"%s\" objectType=\"9\" subNumber=\"3\">", //$NON-NLS-1$
+                index, name));
+        xdd.append(LINE_SEPARATOR);
+        appendSubObject(xdd, 0, "NumberOfEntries", "0005", "const", "2", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+                null, null, "no"); //$NON-NLS-1$
+        appendSubObject(xdd, 1, "NodeID_U8", "0005", "rw", "0", null, null, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+                "no"); //$NON-NLS-1$
+        appendSubObject(xdd, 2, "MappingVersion_U8", "0005", "rw", "0", null, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+                null, "no"); //$NON-NLS-1$
+        xdd.append("        </Object>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+    }
+
+    private static void appendPdoMappingObject(StringBuilder xdd, long index,
+            String name) {
+        xdd.append(String.format(
+                "        <Object index=\"%04X\" name=\"%s\" objectType=\"8\" subNumber=\"%d\">", //$NON-NLS-1$
+                index, name, PDO_MAPPING_ENTRIES + 1));
+        xdd.append(LINE_SEPARATOR);
+        appendSubObject(xdd, 0, "NumberOfEntries", "0005", "rw", "0", "0", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+                String.valueOf(PDO_MAPPING_ENTRIES), "no"); //$NON-NLS-1$
+        for (int entry = 1; entry <= PDO_MAPPING_ENTRIES; entry++) {
+            appendSubObject(xdd, entry, "ObjectMapping", "001B", "rw", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    "0x0000000000000000", null, null, "no"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        xdd.append("        </Object>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+    }
+
+    private static void appendSubObject(StringBuilder xdd, int subIndex,
+            String name, String dataType, String accessType,
+            String defaultValue, String lowLimit, String highLimit,
+            String pdoMapping) {
+        xdd.append(String.format(
+                "          <SubObject subIndex=\"%02X\" name=\"%s\" objectType=\"7\" dataType=\"%s\" accessType=\"%s\" defaultValue=\"%s\"%s PDOmapping=\"%s\"/>", //$NON-NLS-1$
+                subIndex, name, dataType, accessType, defaultValue,
+                getLimits(lowLimit, highLimit), pdoMapping));
+        xdd.append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Generates the XDD of a controlled node.
+     *
+     * @param fileName The file name written into the XDD.
+     * @param objectCount The number of manufacturer specific objects.
+     * @param subObjectCount The number of value sub-objects of each
+     *            manufacturer specific object.
+     * @return The contents of the XDD.
+     */
+    public static String generateXdd(String fileName, int objectCount,
+            int subObjectCount) {
+        StringBuilder xdd = new StringBuilder();
+        xdd.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append(
+                "<ISO15745ProfileContainer xmlns=\"http://www.ethernet-powerlink.org\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+
+        appendProfileHeader(xdd, "Device"); //$NON-NLS-1$
+        xdd.append(String.format(
+                "    <ProfileBody xsi:type=\"ProfileBody_Device_Powerlink\" fileName=\"%s\" fileCreator=\"openCONFIGURATOR benchmarks\" fileCreationDate=\"2017-01-01\" fileVersion=\"1\">", //$NON-NLS-1$
+                fileName));
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <DeviceIdentity>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("        <vendorName>Synthetic Vendor</vendorName>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("        <productName>Synthetic Controlled Node</productName>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      </DeviceIdentity>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <DeviceFunction/>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("    </ProfileBody>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("  </ISO15745Profile>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+
+        appendProfileHeader(xdd, "CommunicationNetwork"); //$NON-NLS-1$
+        xdd.append(String.format(
+                "    <ProfileBody xsi:type=\"ProfileBody_CommunicationNetwork_Powerlink\" fileName=\"%s\" fileCreator=\"openCONFIGURATOR benchmarks\" fileCreationDate=\"2017-01-01\" fileVersion=\"1\">", //$NON-NLS-1$
+                fileName));
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <ApplicationLayers>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("        <DataTypeList>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        appendDataType(xdd, "0002", "Integer8"); //$NON-NLS-1$ //$NON-NLS-2$
+        appendDataType(xdd, "0003", "Integer16"); //$NON-NLS-1$ //$NON-NLS-2$
+        appendDataType(xdd, "0004", "Integer32"); //$NON-NLS-1$ //$NON-NLS-2$
+        appendDataType(xdd, "0005", "Unsigned8"); //$NON-NLS-1$ //$NON-NLS-2$
+        appendDataType(xdd, "0006", "Unsigned16"); //$NON-NLS-1$ //$NON-NLS-2$
+        appendDataType(xdd, "0007", "Unsigned32"); //$NON-NLS-1$ //$NON-NLS-2$
+        appendDataType(xdd, "001B", "Unsigned64"); //$NON-NLS-1$ //$NON-NLS-2$
+        xdd.append("        </DataTypeList>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("        <ObjectList>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        appendCommunicationObjects(xdd);
+        appendManufacturerObjects(xdd, objectCount, subObjectCount);
+        xdd.append("        </ObjectList>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      </ApplicationLayers>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <TransportLayers/>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <NetworkManagement>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append(
+                "        <GeneralFeatures DLLFeatureMN=\"false\" NMTBootTimeNotActive=\"9000000\" NMTCycleTimeMax=\"4294967295\" NMTCycleTimeMin=\"400\" NMTErrorEntries=\"2\"/>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("        <CNFeatures NMTCNSoC2PReq=\"0\"/>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      </NetworkManagement>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("    </ProfileBody>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("  </ISO15745Profile>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("</ISO15745ProfileContainer>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        return xdd.toString();
+    }
+
+    private static void appendDataType(StringBuilder xdd, String dataType,
+            String name) {
+        xdd.append(String.format(
+                "          <defType dataType=\"%s\"><%s/></defType>", //$NON-NLS-1$
+                dataType, name));
+        xdd.append(LINE_SEPARATOR);
+    }
+
+    private static void appendProfileHeader(StringBuilder xdd,
+            String profileClassId) {
+        xdd.append("  <ISO15745Profile>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("    <ProfileHeader>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <ProfileIdentification>EPL_Device_Profile</ProfileIdentification>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <ProfileRevision>1</ProfileRevision>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <ProfileName>Synthetic benchmark profile</ProfileName>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <ProfileSource/>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append(String.format("      <ProfileClassID>%s</ProfileClassID>", //$NON-NLS-1$
+                profileClassId));
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      <ISO15745Reference>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("        <ISO15745Part>4</ISO15745Part>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("        <ISO15745Edition>1</ISO15745Edition>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("        <ProfileTechnology>Powerlink</ProfileTechnology>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("      </ISO15745Reference>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+        xdd.append("    </ProfileHeader>"); //$NON-NLS-1$
+        xdd.append(LINE_SEPARATOR);
+    }
+
+    private static String getLimits(String lowLimit, String highLimit) {
+        StringBuilder limits = new StringBuilder();
+        if (lowLimit != null) {
+            limits.append(" lowLimit=\"").append(lowLimit).append('"'); //$NON-NLS-1$
+        }
+        if (highLimit != null) {
+            limits.append(" highLimit=\"").append(highLimit).append('"'); //$NON-NLS-1$
+        }
+        return limits.toString();
+    }
+
+    /**
+     * Writes the fixtures into the given directory.
+     *
+     * @param args The fixtures directory.
+     * @throws IOException If a fixture cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println(
+                    "Usage: XddFixtureGenerator <fixtures directory>"); //$NON-NLS-1$
+            System.exit(1);
+        }
+        File directory = new File(args[0]);
+        writeFixture(new File(directory, SMALL_XDD),
+                generateXdd(SMALL_XDD, SMALL_OBJECT_COUNT,
+                        SMALL_SUBOBJECT_COUNT));
+        writeFixture(new File(directory, LARGE_XDD),
+                generateXdd(LARGE_XDD, LARGE_OBJECT_COUNT,
+                        LARGE_SUBOBJECT_COUNT));
+    }
+
+    private static void writeFixture(File file, String contents)
+            throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.UTF_8)) {
+            writer.write(contents);
+        }
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private XddFixtureGenerator() {
+    }
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * @file   XmlPersistenceBenchmark.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.benchmarks;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.epsg.openconfigurator.model.Node;
+import org.epsg.openconfigurator.model.ObjectDictionary;
+import org.epsg.openconfigurator.model.PowerlinkObject;
+import org.epsg.openconfigurator.util.XddMarshaller;
+import org.epsg.openconfigurator.xmloperation.JDomUtil;
+import org.epsg.openconfigurator.xmloperation.XddJdomOperation;
+import org.jdom2.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the reading, the modification and the writing of the XDC files
+ * with JDOM.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class XmlPersistenceBenchmark {
+
+    /**
+     * Object which is updated by the editor for each change of the cycle
+     * time.
+     */
+    private static final long CYCLE_TIME_OBJECT_ID = 0x1006L;
+
+    @Param({ XddFixtureGenerator.SMALL_XDD, XddFixtureGenerator.LARGE_XDD })
+    public String fixture;
+
+    private File xdcFile;
+
+    private File outputFile;
+
+    private Document document;
+
+    private PowerlinkObject cycleTimeObject;
+
+    private int value;
+
+    @Benchmark
+    public Document getXmlDocument() throws Exception {
+        return JDomUtil.getXmlDocument(xdcFile);
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        xdcFile = BenchmarkFixtures.copyFixture(fixture);
+        outputFile = BenchmarkFixtures.createTempFile(fixture);
+        document = JDomUtil.getXmlDocument(xdcFile);
+
+        ObjectDictionary objectDictionary = new ObjectDictionary(new Node(),
+                XddMarshaller.unmarshallXDDFile(xdcFile));
+        cycleTimeObject = objectDictionary.getObject(CYCLE_TIME_OBJECT_ID);
+    }
+
+    @Benchmark
+    public Document updateActualValue() {
+        XddJdomOperation.updateActualValue(document, cycleTimeObject,
+                String.valueOf(value++));
+        return document;
+    }
+
+    @Benchmark
+    public void writeToProjectXmlDocument() throws Exception {
+        JDomUtil.writeToProjectXmlDocument(document, outputFile);
+    }
+}
@@ -45,11 +45,14 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
+import org.epsg.openconfigurator.console.CoreStatisticsHandler;
 import org.epsg.openconfigurator.console.LogFileTailListener;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.resources.IOpenConfiguratorResource;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
+import org.epsg.openconfigurator.util.PersistenceQueue;
 import org.epsg.openconfigurator.util.PluginErrorDialogUtils;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -138,17 +141,22 @@ public class Activator extends AbstractUIPlugin {
         super.start(context);
         Activator.plugin = this;
 
-        // Load openCONFIGURATOR core libraries
-        try {
-            OpenConfiguratorLibraryUtils.loadOpenConfiguratorLibrary();
-        } catch (UnsatisfiedLinkError | SecurityException e) {
-            e.printStackTrace();
-            OpenConfiguratorMessageConsole.getInstance().printErrorMessage(
-                    Activator.PLUGIN_DEPENDENT_LIBRARY_LOAD_ERROR
-                            + e.getMessage(),
-                    "");
-            PluginErrorDialogUtils.displayErrorMessageDialog(
-                    Activator.PLUGIN_DEPENDENT_LIBRARY_LOAD_ERROR, e);
+        // Load openCONFIGURATOR core libraries. The in-memory core does not
+        // need the native libraries.
+        if (OpenConfiguratorCoreProvider.isNativeCore()) {
+            try {
+                OpenConfiguratorLibraryUtils.loadOpenConfiguratorLibrary();
+            } catch (UnsatisfiedLinkError | SecurityException e) {
+                e.printStackTrace();
+                OpenConfiguratorMessageConsole.getInstance().printErrorMessage(
+                        Activator.PLUGIN_DEPENDENT_LIBRARY_LOAD_ERROR
+                                + e.getMessage(),
+                        "");
+                if (!OpenConfiguratorMessageConsole.isHeadless()) {
+                    PluginErrorDialogUtils.displayErrorMessageDialog(
+                            Activator.PLUGIN_DEPENDENT_LIBRARY_LOAD_ERROR, e);
+                }
+            }
         }
 
         // Initialize openCONFIGURATOR library
@@ -158,8 +166,10 @@ public class Activator extends AbstractUIPlugin {
             // Report error to the user using the dialog.
             OpenConfiguratorMessageConsole.getInstance()
                     .printLibraryErrorMessage(libApiRes);
-            PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
-                    libApiRes);
+            if (!OpenConfiguratorMessageConsole.isHeadless()) {
+                PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
+                        libApiRes);
+            }
         }
 
         // Read the log files written by the library and update in the console
@@ -177,6 +187,22 @@ public class Activator extends AbstractUIPlugin {
      */
     @Override
     public void stop(BundleContext context) throws Exception {
+        // Writes the pending property values before the core is stopped.
+        PersistenceQueue.flush();
+        PersistenceQueue.shutdown();
+        if (OpenConfiguratorCoreProvider.isStatisticsEnabled()) {
+            try {
+                CoreStatisticsHandler.writeCoreStatistics();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        try {
+            OpenConfiguratorCoreProvider.closeTrace();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        OpenConfiguratorCoreProvider.getExecutor().shutdown();
         Activator.plugin = null;
         tailer.stop();
         super.stop(context);
@@ -31,9 +31,24 @@
 
 package org.epsg.openconfigurator.adapters;
 
+import java.util.concurrent.Callable;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.views.properties.ComboBoxPropertyDescriptor;
 import org.eclipse.ui.views.properties.PropertyDescriptor;
-import org.eclipse.ui.views.properties.TextPropertyDescriptor;
+import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.ICoreCallback;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+import org.epsg.openconfigurator.model.Node;
+import org.epsg.openconfigurator.util.DisplayExecutor;
+import org.epsg.openconfigurator.util.PersistenceQueue;
+import org.epsg.openconfigurator.views.ObjectDictionaryView;
+import org.epsg.openconfigurator.views.mapping.MappingView;
 
 /**
  * Abstract implementation of property source for POWERLINK Object.
@@ -97,7 +112,7 @@ public class AbstractObjectPropertySource {
             OBJ_DEFAULT_VALUE_ID, OBJ_DEFAULT_VALUE_LABEL);
     protected PropertyDescriptor actualValueReadOnlyDescriptor = new PropertyDescriptor(
             OBJ_ACTUAL_VALUE_READ_ONLY_ID, OBJ_ACTUAL_VALUE_LABEL);
-    protected TextPropertyDescriptor actualValueEditableDescriptor = new TextPropertyDescriptor(
+    protected AsyncValidationTextPropertyDescriptor actualValueEditableDescriptor = new AsyncValidationTextPropertyDescriptor(
             OBJ_ACTUAL_VALUE_EDITABLE_ID, OBJ_ACTUAL_VALUE_LABEL);
 
     protected ComboBoxPropertyDescriptor forceActualValue = new ComboBoxPropertyDescriptor(
@@ -113,4 +128,69 @@ public class AbstractObjectPropertySource {
 
     protected PropertyDescriptor objectErrorDescriptor = new PropertyDescriptor(
             OBJ_ERROR_ID, "Error");
+
+    /**
+     * Refreshes the views of the node after the actual value is committed.
+     *
+     * @param node The node of the object.
+     */
+    private static void refreshViews(Node node) {
+        try {
+            IViewPart viewPart = PlatformUI.getWorkbench()
+                    .getActiveWorkbenchWindow().getActivePage()
+                    .showView(ObjectDictionaryView.ID);
+            if (viewPart instanceof ObjectDictionaryView) {
+                ObjectDictionaryView obd = (ObjectDictionaryView) viewPart;
+                obd.handleRefresh();
+            }
+
+            viewPart = PlatformUI.getWorkbench().getActiveWorkbenchWindow()
+                    .getActivePage().showView(MappingView.ID);
+            if (viewPart instanceof MappingView) {
+                MappingView mappingView = (MappingView) viewPart;
+                mappingView.displayMappingView(node);
+            }
+        } catch (PartInitException e) {
+            e.printStackTrace();
+        }
+
+        try {
+            node.getProject().refreshLocal(IResource.DEPTH_INFINITE,
+                    new NullProgressMonitor());
+        } catch (CoreException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Commits the actual value to the library and the XDC file in the
+     * {@link PersistenceQueue}, so that the UI thread is not blocked. The
+     * views are refreshed once the value is committed.
+     *
+     * @param commit The task which sets the actual value in the library and
+     *            on success in the model and the XDC file.
+     * @param node The node of the object.
+     */
+    protected void submitActualValue(Callable<Result> commit,
+            final Node node) {
+        PersistenceQueue.submit(node.getNetworkId(), commit)
+                .addCallback(new ICoreCallback<Result>() {
+                    @Override
+                    public void completed(Result res) {
+                        if (!res.IsSuccessful()) {
+                            OpenConfiguratorMessageConsole.getInstance()
+                                    .printLibraryErrorMessage(res);
+                        }
+                        refreshViews(node);
+                    }
+
+                    @Override
+                    public void failed(Throwable cause) {
+                        OpenConfiguratorMessageConsole.getInstance()
+                                .printErrorMessage(cause.getMessage(),
+                                        node.getNetworkId());
+                        refreshViews(node);
+                    }
+                }, DisplayExecutor.getInstance());
+    }
 }
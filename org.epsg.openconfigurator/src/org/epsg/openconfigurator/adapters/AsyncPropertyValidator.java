@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * @file   AsyncPropertyValidator.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.adapters;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jface.viewers.ICellEditorValidator;
+import org.epsg.openconfigurator.util.DisplayExecutor;
+
+/**
+ * Cell editor validator which validates the values with the library outside
+ * of the UI thread.
+ *
+ * The validation of a value is delayed until the input has paused for
+ * {@link #DEBOUNCE_DELAY} milliseconds; a newer input cancels the pending
+ * validation and the results of stale validations are discarded. The result is
+ * reported to the cell editor of an
+ * {@link AsyncValidationTextPropertyDescriptor} once available. Until then the
+ * last result of the same value or no error is returned to the cell editor.
+ * A value which is applied before its result is available is validated in the
+ * UI thread, see {@link #validateNow(Object)}.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public abstract class AsyncPropertyValidator implements ICellEditorValidator {
+
+    /**
+     * Delay in milliseconds after the last input before the value is
+     * validated.
+     */
+    public static final long DEBOUNCE_DELAY = 250;
+
+    private static final String THREAD_NAME = "openCONFIGURATOR validation"; //$NON-NLS-1$
+
+    private static final String INVALID_VALUE_ERROR = "Invalid value.";
+
+    private static final ScheduledExecutorService scheduler = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    /**
+     * Cell editor to report the validation results.
+     */
+    private AsyncValidationTextPropertyDescriptor.AsyncValidationTextCellEditor cellEditor;
+
+    /**
+     * Pending validation.
+     */
+    private ScheduledFuture<?> pendingValidation;
+
+    /**
+     * Number of the latest validation request. Results of older requests are
+     * discarded.
+     */
+    private long requestNumber;
+
+    /**
+     * The last validated value and its result.
+     */
+    private Object validatedValue;
+    private String validationResult;
+
+    /**
+     * Applies the result of the validation in the UI thread.
+     */
+    private void completeValidation(long validationRequestNumber,
+            Object value, String errorMessage) {
+        if (validationRequestNumber != requestNumber) {
+            return;
+        }
+        validatedValue = value;
+        validationResult = errorMessage;
+        pendingValidation = null;
+        if (cellEditor != null) {
+            cellEditor.setValidationResult(value, errorMessage);
+        }
+    }
+
+    /**
+     * Schedules the validation of the value and returns the last result of
+     * the same value. Invoked in the UI thread for every input.
+     */
+    @Override
+    public String isValid(final Object value) {
+        if ((validatedValue != null) && validatedValue.equals(value)) {
+            return validationResult;
+        }
+
+        if (pendingValidation != null) {
+            pendingValidation.cancel(false);
+        }
+        final long validationRequestNumber = ++requestNumber;
+        pendingValidation = scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                final String result = runValidation(value);
+                DisplayExecutor.getInstance().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        completeValidation(validationRequestNumber, value,
+                                result);
+                    }
+                });
+            }
+        }, DEBOUNCE_DELAY, TimeUnit.MILLISECONDS);
+        return null;
+    }
+
+    /**
+     * Validates the value and returns the error message of the validator.
+     */
+    private String runValidation(Object value) {
+        try {
+            return validate(value);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            return (e.getMessage() != null) ? e.getMessage()
+                    : INVALID_VALUE_ERROR;
+        }
+    }
+
+    /**
+     * Sets the cell editor to report the validation results. Invoked on
+     * creation of the cell editor.
+     *
+     * @param cellEditor The cell editor.
+     */
+    void setCellEditor(
+            AsyncValidationTextPropertyDescriptor.AsyncValidationTextCellEditor cellEditor) {
+        this.cellEditor = cellEditor;
+        validatedValue = null;
+        validationResult = null;
+    }
+
+    /**
+     * Validates the value in the calling thread, unless the result of the same
+     * value is available. The pending validation is cancelled. Invoked in the
+     * UI thread when the cell editor applies the value, so that a value is not
+     * applied while its validation is pending.
+     *
+     * @param value The value to be validated.
+     * @return The error message or <code>null</code> if the value is valid.
+     */
+    String validateNow(Object value) {
+        if ((validatedValue != null) && validatedValue.equals(value)) {
+            return validationResult;
+        }
+
+        if (pendingValidation != null) {
+            pendingValidation.cancel(false);
+            pendingValidation = null;
+        }
+        // Discards the result of a running validation.
+        requestNumber++;
+        validatedValue = value;
+        validationResult = runValidation(value);
+        return validationResult;
+    }
+
+    /**
+     * Validates the value outside of the UI thread.
+     *
+     * @param value The value to be validated.
+     * @return Returns a string indicating whether the given value is valid;
+     *         null means valid, and non-null means invalid, with the result
+     *         being the error message to display to the end user.
+     */
+    protected abstract String validate(Object value);
+}
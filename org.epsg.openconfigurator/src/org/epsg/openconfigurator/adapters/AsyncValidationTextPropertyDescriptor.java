@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * @file   AsyncValidationTextPropertyDescriptor.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.adapters;
+
+import org.eclipse.jface.viewers.CellEditor;
+import org.eclipse.jface.viewers.ICellEditorValidator;
+import org.eclipse.jface.viewers.TextCellEditor;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.ui.views.properties.TextPropertyDescriptor;
+
+/**
+ * Text property descriptor which reports the results of an
+ * {@link AsyncPropertyValidator} to its cell editor.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class AsyncValidationTextPropertyDescriptor
+        extends TextPropertyDescriptor {
+
+    /**
+     * Text cell editor which accepts the validation results after the input.
+     */
+    static final class AsyncValidationTextCellEditor extends TextCellEditor {
+
+        AsyncValidationTextCellEditor(Composite parent) {
+            super(parent);
+        }
+
+        /**
+         * Validates the value before it is applied, if its result is not
+         * available yet.
+         */
+        @Override
+        protected void fireApplyEditorValue() {
+            ICellEditorValidator validator = getValidator();
+            if (validator instanceof AsyncPropertyValidator) {
+                String errorMessage = ((AsyncPropertyValidator) validator)
+                        .validateNow(doGetValue());
+                setValueValid(errorMessage == null);
+                setErrorMessage(errorMessage);
+            }
+            super.fireApplyEditorValue();
+        }
+
+        /**
+         * Updates the valid state of the editor, if the value is still the
+         * current value of the editor.
+         *
+         * @param value The validated value.
+         * @param errorMessage The error message or <code>null</code> if the
+         *            value is valid.
+         */
+        void setValidationResult(Object value, String errorMessage) {
+            if ((text == null) || text.isDisposed()
+                    || !value.equals(doGetValue())) {
+                return;
+            }
+            boolean oldValidState = isValueValid();
+            boolean newValidState = (errorMessage == null);
+            setValueValid(newValidState);
+            setErrorMessage(errorMessage);
+            fireEditorValueChanged(oldValidState, newValidState);
+        }
+    }
+
+    /**
+     * Creates a property descriptor with the given id and display name.
+     *
+     * @param id The id of the property.
+     * @param displayName The name to display for the property.
+     */
+    public AsyncValidationTextPropertyDescriptor(Object id,
+            String displayName) {
+        super(id, displayName);
+    }
+
+    @Override
+    public CellEditor createPropertyEditor(Composite parent) {
+        AsyncValidationTextCellEditor editor = new AsyncValidationTextCellEditor(
+                parent);
+        ICellEditorValidator validator = getValidator();
+        if (validator != null) {
+            editor.setValidator(validator);
+            if (validator instanceof AsyncPropertyValidator) {
+                ((AsyncPropertyValidator) validator).setCellEditor(editor);
+            }
+        }
+        return editor;
+    }
+}
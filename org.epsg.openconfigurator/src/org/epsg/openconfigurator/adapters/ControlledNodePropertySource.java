@@ -50,8 +50,8 @@ import org.eclipse.ui.views.properties.IPropertySource;
 import org.eclipse.ui.views.properties.PropertyDescriptor;
 import org.eclipse.ui.views.properties.TextPropertyDescriptor;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.FirmwareManager;
 import org.epsg.openconfigurator.model.IAbstractNodeProperties;
@@ -150,7 +150,7 @@ public class ControlledNodePropertySource extends AbstractNodePropertySource
     private static final ComboBoxPropertyDescriptor verifySerialNumber = new ComboBoxPropertyDescriptor(
             IControlledNodeProperties.CN_VERIFY_SERIAL_NUMBER_OBJECT,
             CN_VERIFY_SERIAL_NUMBER_LABEL, YES_NO);
-    private static final TextPropertyDescriptor presTimeoutDescriptor = new TextPropertyDescriptor(
+    private static final AsyncValidationTextPropertyDescriptor presTimeoutDescriptor = new AsyncValidationTextPropertyDescriptor(
             IControlledNodeProperties.CN_POLL_RESPONSE_TIMEOUT_OBJECT,
             CN_POLL_RESPONSE_TIMEOUT_LABEL);
 
@@ -369,9 +369,9 @@ public class ControlledNodePropertySource extends AbstractNodePropertySource
         isType2Router.setFilterFlags(EXPERT_FILTER_FLAG);
         forcedObjects.setFilterFlags(EXPERT_FILTER_FLAG);
 
-        presTimeoutDescriptor.setValidator(new ICellEditorValidator() {
+        presTimeoutDescriptor.setValidator(new AsyncPropertyValidator() {
             @Override
-            public String isValid(Object value) {
+            protected String validate(Object value) {
                 return handlePresTimeout(value);
             }
         });
@@ -587,7 +587,7 @@ public class ControlledNodePropertySource extends AbstractNodePropertySource
                     }
                     case IControlledNodeProperties.CN_POLL_RESPONSE_TIMEOUT_OBJECT: {
                         long[] presTimeOutInNs = new long[1];
-                        Result res = OpenConfiguratorCore.GetInstance()
+                        Result res = OpenConfiguratorCoreProvider.getCore()
                                 .GetPResTimeOut(cnNode.getNetworkId(),
                                         cnNode.getCnNodeIdValue(),
                                         presTimeOutInNs);
@@ -812,7 +812,7 @@ public class ControlledNodePropertySource extends AbstractNodePropertySource
                 return "Invalid name";
             }
 
-            Result res = OpenConfiguratorCore.GetInstance().SetNodeName(
+            Result res = OpenConfiguratorCoreProvider.getCore().SetNodeName(
                     cnNode.getNetworkId(), cnNode.getCnNodeIdValue(), nodeName);
             if (!res.IsSuccessful()) {
                 return OpenConfiguratorLibraryUtils.getErrorMessage(res);
@@ -854,15 +854,16 @@ public class ControlledNodePropertySource extends AbstractNodePropertySource
      */
     @Override
     public void setPropertyValue(Object id, Object value) {
-        Result res = new Result();
+        Result res = OpenConfiguratorCoreProvider.newResult();
         try {
             if (id instanceof String) {
                 String objectId = (String) id;
                 switch (objectId) {
                     case IAbstractNodeProperties.NODE_NAME_OBJECT:
-                        res = OpenConfiguratorCore.GetInstance().SetNodeName(
-                                cnNode.getNetworkId(),
-                                cnNode.getCnNodeIdValue(), (String) value);
+                        res = OpenConfiguratorCoreProvider.getCore()
+                                .SetNodeName(cnNode.getNetworkId(),
+                                        cnNode.getCnNodeIdValue(),
+                                        (String) value);
                         if (!res.IsSuccessful()) {
                             OpenConfiguratorMessageConsole.getInstance()
                                     .printLibraryErrorMessage(res);
@@ -889,50 +890,31 @@ public class ControlledNodePropertySource extends AbstractNodePropertySource
                         if (value instanceof Integer) {
                             int val = ((Integer) value).intValue();
                             if (val == 0) { // Normal Station.
-                                res = OpenConfiguratorCore.GetInstance()
-                                        .ResetOperationMode(
-                                                cnNode.getNetworkId(),
-                                                cnNode.getCnNodeIdValue());
                                 plkMode = PlkOperationMode.NORMAL;
                             } else if (val == 1) {
-                                res = OpenConfiguratorCore.GetInstance()
-                                        .SetOperationModeChained(
-                                                cnNode.getNetworkId(),
-                                                cnNode.getCnNodeIdValue());
                                 plkMode = PlkOperationMode.CHAINED;
                             } else if (val == 2) {
-                                res = OpenConfiguratorCore.GetInstance()
-                                        .SetOperationModeMultiplexed(
-                                                cnNode.getNetworkId(),
-                                                cnNode.getCnNodeIdValue(),
-                                                (short) tcn
-                                                        .getForcedMultiplexedCycle());
                                 plkMode = PlkOperationMode.MULTIPLEXED;
                             }
                             if (plkMode != null) {
+                                // The library modifies the node assignment
+                                // values and the RPDO node IDs along with the
+                                // operation mode, they are read back in the
+                                // same core task.
+                                res = OpenConfiguratorProjectUtils
+                                        .updateOperationMode(cnNode, plkMode,
+                                                (short) tcn
+                                                        .getForcedMultiplexedCycle());
                                 if (res.IsSuccessful()) {
-                                    cnNode.setPlkOperationMode(plkMode);
-                                } else {
-                                    OpenConfiguratorMessageConsole.getInstance()
-                                            .printLibraryErrorMessage(res);
+                                    // Updates the generator attributes in
+                                    // project file.
+                                    OpenConfiguratorProjectUtils
+                                            .updateGeneratorInfo(cnNode);
                                 }
                             } else {
                                 System.err.println(
                                         "Invalid POWERLINK operation mode");
                             }
-                            // Node Assignment values will be modified by the
-                            // library. So refresh the project file data.
-                            OpenConfiguratorProjectUtils
-                                    .updateNodeAssignmentValues(cnNode);
-
-                            // RPDO nodeID will be changed by the library. So
-                            // refresh the node XDD data
-                            OpenConfiguratorProjectUtils
-                                    .persistNodeData(cnNode);
-
-                            // Updates the generator attributes in project file.
-                            OpenConfiguratorProjectUtils
-                                    .updateGeneratorInfo(cnNode);
                         } else {
                             System.err.println("Invalid value type");
                         }
@@ -1121,9 +1103,10 @@ public class ControlledNodePropertySource extends AbstractNodePropertySource
                     case IControlledNodeProperties.CN_POLL_RESPONSE_TIMEOUT_OBJECT: {
                         long presTimeoutInNs = Long.decode((String) value)
                                 .longValue() * 1000;
-                        res = OpenConfiguratorCore.GetInstance().SetPResTimeOut(
-                                cnNode.getNetworkId(),
-                                cnNode.getCnNodeIdValue(), presTimeoutInNs);
+                        res = OpenConfiguratorCoreProvider.getCore()
+                                .SetPResTimeOut(cnNode.getNetworkId(),
+                                        cnNode.getCnNodeIdValue(),
+                                        presTimeoutInNs);
                         if (res.IsSuccessful()) {
                             cnNode.setCnPresTimeout(
                                     String.valueOf(presTimeoutInNs));
@@ -49,8 +49,8 @@ import org.eclipse.ui.views.properties.IPropertySheetEntry;
 import org.eclipse.ui.views.properties.IPropertySource;
 import org.eclipse.ui.views.properties.TextPropertyDescriptor;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.IAbstractNodeProperties;
 import org.epsg.openconfigurator.model.IManagingNodeProperties;
@@ -914,7 +914,7 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
                 return "Invalid name";
             }
 
-            Result res = OpenConfiguratorCore.GetInstance().SetNodeName(
+            Result res = OpenConfiguratorCoreProvider.getCore().SetNodeName(
                     mnNode.getNetworkId(), mnNode.getCnNodeIdValue(), nodeName);
             if (!res.IsSuccessful()) {
                 return OpenConfiguratorLibraryUtils.getErrorMessage(res);
@@ -960,15 +960,16 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
     public void setPropertyValue(Object id, Object value) {
         // The variable res is dead stored, so that it may return value if the
         // result fails in all below conditions.
-        Result res = new Result();
+        Result res = OpenConfiguratorCoreProvider.newResult();
         try {
             if (id instanceof String) {
                 String objectId = (String) id;
                 switch (objectId) {
                     case IAbstractNodeProperties.NODE_NAME_OBJECT:
-                        res = OpenConfiguratorCore.GetInstance().SetNodeName(
-                                mnNode.getNetworkId(),
-                                mnNode.getCnNodeIdValue(), (String) value);
+                        res = OpenConfiguratorCoreProvider.getCore()
+                                .SetNodeName(mnNode.getNetworkId(),
+                                        mnNode.getCnNodeIdValue(),
+                                        (String) value);
                         if (!res.IsSuccessful()) {
                             OpenConfiguratorMessageConsole.getInstance()
                                     .printLibraryErrorMessage(res);
@@ -987,7 +988,7 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
                         // Converted us to ns
                         Long lossOfSocTolerance = Long.decode((String) value)
                                 * 1000;
-                        res = OpenConfiguratorCore.GetInstance()
+                        res = OpenConfiguratorCoreProvider.getCore()
                                 .SetLossOfSocTolerance(mnNode.getNetworkId(),
                                         mnNode.getCnNodeIdValue(),
                                         lossOfSocTolerance);
@@ -1012,7 +1013,7 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
 
                         break;
                     case IManagingNodeProperties.MN_ASYNC_TIMEOUT_OBJECT:
-                        res = OpenConfiguratorCore.GetInstance()
+                        res = OpenConfiguratorCoreProvider.getCore()
                                 .SetAsyncSlotTimeout(mnNode.getNetworkId(),
                                         mnNode.getCnNodeIdValue(),
                                         Long.decode((String) value));
@@ -1026,10 +1027,10 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
 
                         break;
                     case IManagingNodeProperties.MN_ASND_MAX_NR_OBJECT:
-                        res = OpenConfiguratorCore.GetInstance().SetAsndMaxNr(
-                                mnNode.getNetworkId(),
-                                mnNode.getCnNodeIdValue(),
-                                Short.decode((String) value));
+                        res = OpenConfiguratorCoreProvider.getCore()
+                                .SetAsndMaxNr(mnNode.getNetworkId(),
+                                        mnNode.getCnNodeIdValue(),
+                                        Short.decode((String) value));
                         if (res.IsSuccessful()) {
                             mnNode.setAsndMaxNumberOfNode(
                                     Short.decode((String) value));
@@ -1083,8 +1084,9 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
                         break;
                     case INetworkProperties.NET_CYCLE_TIME_OBJECT:
                         Long cycleTimeValue = Long.decode((String) value);
-                        res = OpenConfiguratorCore.GetInstance().SetCycleTime(
-                                mnNode.getNetworkId(), cycleTimeValue);
+                        res = OpenConfiguratorCoreProvider.getCore()
+                                .SetCycleTime(mnNode.getNetworkId(),
+                                        cycleTimeValue);
                         if (res.IsSuccessful()) {
                             mnNode.setCycleTime(cycleTimeValue);
                         } else {
@@ -1095,8 +1097,9 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
                         break;
                     case INetworkProperties.NET_ASYNC_MTU_OBJECT:
                         Integer asyncMtuValue = Integer.decode((String) value);
-                        res = OpenConfiguratorCore.GetInstance().SetAsyncMtu(
-                                mnNode.getNetworkId(), asyncMtuValue);
+                        res = OpenConfiguratorCoreProvider.getCore()
+                                .SetAsyncMtu(mnNode.getNetworkId(),
+                                        asyncMtuValue);
                         if (res.IsSuccessful()) {
                             mnNode.setAsyncMtuOfNode(asyncMtuValue);
                         } else {
@@ -1109,7 +1112,7 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
                     case INetworkProperties.NET_MUTLIPLEX_CYCLE_CNT_OBJECT:
                         Integer multiplxCyclCntVal = Integer
                                 .decode((String) value);
-                        res = OpenConfiguratorCore.GetInstance()
+                        res = OpenConfiguratorCoreProvider.getCore()
                                 .SetMultiplexedCycleCount(mnNode.getNetworkId(),
                                         multiplxCyclCntVal);
                         if (res.IsSuccessful()) {
@@ -1124,8 +1127,9 @@ public class ManagingNodePropertySource extends AbstractNodePropertySource
                     case INetworkProperties.NET_PRESCALER_OBJECT:
 
                         Integer preScalarVal = Integer.decode((String) value);
-                        res = OpenConfiguratorCore.GetInstance().SetPrescaler(
-                                mnNode.getNetworkId(), preScalarVal);
+                        res = OpenConfiguratorCoreProvider.getCore()
+                                .SetPrescaler(mnNode.getNetworkId(),
+                                        preScalarVal);
                         if (res.IsSuccessful()) {
                             mnNode.setPrescaler(preScalarVal);
                         } else {
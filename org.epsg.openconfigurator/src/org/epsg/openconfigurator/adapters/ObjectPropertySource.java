@@ -33,6 +33,7 @@ package org.epsg.openconfigurator.adapters;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.resources.IResource;
@@ -49,7 +50,7 @@ import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.PowerlinkObject;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
-import org.epsg.openconfigurator.views.ObjectDictionaryView;
+import org.epsg.openconfigurator.util.ValueValidator;
 import org.epsg.openconfigurator.views.mapping.MappingView;
 import org.epsg.openconfigurator.xmlbinding.xdd.TObjectAccessType;
 import org.epsg.openconfigurator.xmlbinding.xdd.TParameterGroup;
@@ -101,10 +102,10 @@ public class ObjectPropertySource extends AbstractObjectPropertySource
                 .setCategory(IPropertySourceSupport.INITIAL_VALUE_CATEGORY);
         actualValueEditableDescriptor
                 .setCategory(IPropertySourceSupport.INITIAL_VALUE_CATEGORY);
-        actualValueEditableDescriptor.setValidator(new ICellEditorValidator() {
+        actualValueEditableDescriptor.setValidator(new AsyncPropertyValidator() {
 
             @Override
-            public String isValid(Object value) {
+            protected String validate(Object value) {
 
                 return handleActualValue(value);
             }
@@ -344,24 +345,7 @@ public class ObjectPropertySource extends AbstractObjectPropertySource
      *         being the error message to display to the end user.
      */
     protected String handleActualValue(Object value) {
-        if (isModuleObject()) {
-            long newObjectIndex = OpenConfiguratorLibraryUtils
-                    .getModuleObjectsIndex(plkObject.getModule(),
-                            plkObject.getId());
-            Result res = OpenConfiguratorLibraryUtils
-                    .validateModuleObjectActualValue(plkObject, (String) value,
-                            newObjectIndex);
-            if (!res.IsSuccessful()) {
-                return OpenConfiguratorLibraryUtils.getErrorMessage(res);
-            }
-        } else {
-            Result res = OpenConfiguratorLibraryUtils
-                    .validateObjectActualValue(plkObject, (String) value);
-            if (!res.IsSuccessful()) {
-                return OpenConfiguratorLibraryUtils.getErrorMessage(res);
-            }
-        }
-        return null;
+        return ValueValidator.validateActualValue(plkObject, (String) value);
     }
 
     /**
@@ -527,42 +511,39 @@ public class ObjectPropertySource extends AbstractObjectPropertySource
                 String objectId = (String) id;
                 switch (objectId) {
                     case OBJ_ACTUAL_VALUE_EDITABLE_ID: {
-                        if (isModuleObject()) {
-                            long newObjectIndex = OpenConfiguratorLibraryUtils
-                                    .getModuleObjectsIndex(
-                                            plkObject.getModule(),
-                                            plkObject.getId());
-                            Result res = OpenConfiguratorLibraryUtils
-                                    .setModuleObjectActualValue(plkObject,
-                                            (String) value, newObjectIndex);
-                            if (!res.IsSuccessful()) {
-                                OpenConfiguratorMessageConsole.getInstance()
-                                        .printLibraryErrorMessage(res);
-                            } else {
-                                // Success - update the OBD
-                                plkObject.setActualValue((String) value, true,
-                                        isModuleObject());
-                            }
-                        } else {
-                            Result res = OpenConfiguratorLibraryUtils
-                                    .setObjectActualValue(plkObject,
-                                            (String) value);
-                            if (!res.IsSuccessful()) {
-                                OpenConfiguratorMessageConsole.getInstance()
-                                        .printLibraryErrorMessage(res);
-                            } else {
-                                // Success - update the OBD
-                                plkObject.setActualValue((String) value, true);
+                        final String actualValue = (String) value;
+                        final boolean moduleObject = isModuleObject();
+                        // The views are refreshed once the value is committed.
+                        submitActualValue(new Callable<Result>() {
+                            @Override
+                            public Result call() throws Exception {
+                                if (moduleObject) {
+                                    long newObjectIndex = OpenConfiguratorLibraryUtils
+                                            .getModuleObjectsIndex(
+                                                    plkObject.getModule(),
+                                                    plkObject.getId());
+                                    Result res = OpenConfiguratorLibraryUtils
+                                            .setModuleObjectActualValue(
+                                                    plkObject, actualValue,
+                                                    newObjectIndex);
+                                    if (res.IsSuccessful()) {
+                                        // Success - update the OBD
+                                        plkObject.setActualValue(actualValue,
+                                                true, true);
+                                    }
+                                    return res;
+                                }
+                                Result res = OpenConfiguratorLibraryUtils
+                                        .setObjectActualValue(plkObject,
+                                                actualValue);
+                                if (res.IsSuccessful()) {
+                                    // Success - update the OBD
+                                    plkObject.setActualValue(actualValue, true);
+                                }
+                                return res;
                             }
-                        }
-                        IViewPart viewpart = PlatformUI.getWorkbench()
-                                .getActiveWorkbenchWindow().getActivePage()
-                                .showView(ObjectDictionaryView.ID);
-                        if (viewpart instanceof ObjectDictionaryView) {
-                            ObjectDictionaryView obd = (ObjectDictionaryView) viewpart;
-                            obd.handleRefresh();
-                        }
-                        break;
+                        }, plkObject.getNode());
+                        return;
                     }
                     case OBJ_FORCE_ACTUAL_VALUE_ID: {
 
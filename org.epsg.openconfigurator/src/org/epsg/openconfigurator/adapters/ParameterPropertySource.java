@@ -40,7 +40,7 @@ import org.eclipse.jface.viewers.ICellEditorValidator;
 import org.eclipse.ui.views.properties.IPropertyDescriptor;
 import org.eclipse.ui.views.properties.IPropertySource;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.DataTypeChoice;
 import org.epsg.openconfigurator.model.Parameter;
@@ -287,7 +287,7 @@ public class ParameterPropertySource extends AbstractParameterPropertySource
                 case PARAM_ACTUAL_VALUE_ID:
                     try {
                         String actualValue = (String) value;
-                        Result res = OpenConfiguratorCore.GetInstance()
+                        Result res = OpenConfiguratorCoreProvider.getCore()
                                 .SetParameterActualValue(
                                         param.getNode().getNetworkId(),
                                         param.getNode().getCnNodeIdValue(),
@@ -297,6 +297,9 @@ public class ParameterPropertySource extends AbstractParameterPropertySource
                                     .getErrorMessage(res));
                         } else {
                             param.setActualValue(actualValue);
+                            param.getNode().getObjectDictionary()
+                                    .getParameterGroupVisibility()
+                                    .parameterValueChanged(param);
                         }
                     } catch (JDOMException | IOException e) {
                         OpenConfiguratorMessageConsole.getInstance()
@@ -45,15 +45,15 @@ import org.eclipse.ui.views.properties.IPropertyDescriptor;
 import org.eclipse.ui.views.properties.IPropertySheetEntry;
 import org.eclipse.ui.views.properties.IPropertySource;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.AllowedValues;
 import org.epsg.openconfigurator.model.DataTypeChoice;
 import org.epsg.openconfigurator.model.Parameter;
 import org.epsg.openconfigurator.model.Parameter.ParameterAccess;
 import org.epsg.openconfigurator.model.ParameterReference;
-import org.epsg.openconfigurator.model.Range;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
+import org.epsg.openconfigurator.util.ValueValidator;
 import org.jdom2.JDOMException;
 
 /**
@@ -318,66 +318,14 @@ public class ParameterRefPropertySource extends AbstractParameterPropertySource
         Parameter parameter = paramRef.getObjectDictionary()
                 .getParameter(parameterRefUniqueID);
         String actualvalue = (String) value;
-        if (isModuleParameter()) {
-            String newParameterName = OpenConfiguratorLibraryUtils
-                    .getModuleParameterUniqueID(
-                            paramRef.getObjectDictionary().getModule(),
-                            paramRef.getParameterUniqueId());
-            Result res = OpenConfiguratorCore.GetInstance()
-                    .SetParameterActualValue(paramRef.getNode().getNetworkId(),
-                            paramRef.getNode().getCnNodeIdValue(),
-                            newParameterName, actualvalue);
-            if (!res.IsSuccessful()) {
-                return OpenConfiguratorLibraryUtils.getErrorMessage(res);
-            }
-        } else {
-            Result res = OpenConfiguratorCore.GetInstance()
-                    .SetParameterActualValue(paramRef.getNode().getNetworkId(),
-                            paramRef.getNode().getCnNodeIdValue(),
-                            parameter.getParameterUniqueId(), actualvalue);
-            if (!res.IsSuccessful()) {
-                return OpenConfiguratorLibraryUtils.getErrorMessage(res);
-            }
+        Result res = OpenConfiguratorLibraryUtils
+                .setParameterReferenceActualValue(paramRef, actualvalue);
+        if (!res.IsSuccessful()) {
+            return OpenConfiguratorLibraryUtils.getErrorMessage(res);
         }
-        try {
-            if ((paramRef.getActualValue() != null)) {
-
-                List<Range> rangeList = parameter.getRangeList();
-                if (rangeList != null) {
-                    for (Range range : rangeList) {
-                        if (value instanceof String) {
-                            String val = (String) value;
-                            try {
-                                int maxValue = Integer
-                                        .parseInt(range.getMaxValue());
-
-                                int minValue = Integer
-                                        .parseInt(range.getMinValue());
-
-                                if (Integer.parseInt(val) < minValue) {
-                                    return "Actual value (" + val
-                                            + ") does not fit within the range ("
-                                            + minValue + " to " + maxValue
-                                            + ")";
-                                }
-                                if (Integer.parseInt(val) > maxValue) {
-                                    return "Actual value (" + val
-                                            + ") does not fit within the range ("
-                                            + minValue + " to " + maxValue
-                                            + ")";
-                                }
-                            } catch (NumberFormatException e) {
-                                e.printStackTrace();
-                                return "Invalid actual value.";
-                            }
-                        }
-                    }
-                }
-
-            }
-        } catch (NumberFormatException e) {
-            e.printStackTrace();
-            return "Invalid actual value.";
+        if ((paramRef.getActualValue() != null)) {
+            return ValueValidator.validateParameterValue(parameter,
+                    actualvalue);
         }
 
         return null;
@@ -418,39 +366,14 @@ public class ParameterRefPropertySource extends AbstractParameterPropertySource
                 case PARAM_ACTUAL_VALUE_ID:
                     try {
                         String defaultValue = paramRef.getDefaultValue();
-                        if (isModuleParameter()) {
-
-                            String newParameterName = OpenConfiguratorLibraryUtils
-                                    .getModuleParameterUniqueID(
-                                            paramRef.getObjectDictionary()
-                                                    .getModule(),
-                                            paramRef.getParameterUniqueId());
-                            Result res = OpenConfiguratorCore.GetInstance()
-                                    .SetParameterActualValue(
-                                            paramRef.getNode().getNetworkId(),
-                                            paramRef.getNode()
-                                                    .getCnNodeIdValue(),
-                                            newParameterName, defaultValue);
-                            if (!res.IsSuccessful()) {
-                                System.err.println(OpenConfiguratorLibraryUtils
-                                        .getErrorMessage(res));
-                            } else {
-                                paramRef.setActualValue(defaultValue);
-                            }
+                        Result res = OpenConfiguratorLibraryUtils
+                                .setParameterReferenceActualValue(paramRef,
+                                        defaultValue);
+                        if (!res.IsSuccessful()) {
+                            System.err.println(OpenConfiguratorLibraryUtils
+                                    .getErrorMessage(res));
                         } else {
-                            Result res = OpenConfiguratorCore.GetInstance()
-                                    .SetParameterActualValue(
-                                            paramRef.getNode().getNetworkId(),
-                                            paramRef.getNode()
-                                                    .getCnNodeIdValue(),
-                                            paramRef.getParameterUniqueId(),
-                                            defaultValue);
-                            if (!res.IsSuccessful()) {
-                                System.err.println(OpenConfiguratorLibraryUtils
-                                        .getErrorMessage(res));
-                            } else {
-                                paramRef.setActualValue(defaultValue);
-                            }
+                            paramRef.setActualValue(defaultValue);
                         }
                     } catch (JDOMException | IOException e) {
                         OpenConfiguratorMessageConsole.getInstance()
@@ -507,43 +430,19 @@ public class ParameterRefPropertySource extends AbstractParameterPropertySource
             // The variable res is dead stored, so that it may return value if
             // the
             // result fails in all below conditions.
-            Result res = new Result();
+            Result res = OpenConfiguratorCoreProvider.newResult();
             switch (objectId) {
                 case PARAM_ACTUAL_VALUE_ID:
                     try {
                         String actualValue = (String) value;
-                        if (isModuleParameter()) {
-                            String newParameterName = OpenConfiguratorLibraryUtils
-                                    .getModuleParameterUniqueID(
-                                            paramRef.getObjectDictionary()
-                                                    .getModule(),
-                                            paramRef.getParameterUniqueId());
-                            res = OpenConfiguratorCore.GetInstance()
-                                    .SetParameterActualValue(
-                                            paramRef.getNode().getNetworkId(),
-                                            paramRef.getNode()
-                                                    .getCnNodeIdValue(),
-                                            newParameterName, actualValue);
-                            if (!res.IsSuccessful()) {
-                                System.err.println(OpenConfiguratorLibraryUtils
-                                        .getErrorMessage(res));
-                            } else {
-                                paramRef.setActualValue((String) value);
-                            }
+                        res = OpenConfiguratorLibraryUtils
+                                .setParameterReferenceActualValue(paramRef,
+                                        actualValue);
+                        if (!res.IsSuccessful()) {
+                            System.err.println(OpenConfiguratorLibraryUtils
+                                    .getErrorMessage(res));
                         } else {
-                            res = OpenConfiguratorCore.GetInstance()
-                                    .SetParameterActualValue(
-                                            paramRef.getNode().getNetworkId(),
-                                            paramRef.getNode()
-                                                    .getCnNodeIdValue(),
-                                            paramRef.getParameterUniqueId(),
-                                            actualValue);
-                            if (!res.IsSuccessful()) {
-                                System.err.println(OpenConfiguratorLibraryUtils
-                                        .getErrorMessage(res));
-                            } else {
-                                paramRef.setActualValue((String) value);
-                            }
+                            paramRef.setActualValue(actualValue);
                         }
 
                     } catch (JDOMException | IOException e) {
@@ -560,44 +459,14 @@ public class ParameterRefPropertySource extends AbstractParameterPropertySource
                             String val = ALLOWED_VALUES[(int) value];
                             System.out.println(
                                     "The selected allowed value = " + val);
-                            if (isModuleParameter()) {
-                                String newParameterName = OpenConfiguratorLibraryUtils
-                                        .getModuleParameterUniqueID(
-                                                paramRef.getObjectDictionary()
-                                                        .getModule(),
-                                                paramRef.getParameterUniqueId());
-                                res = OpenConfiguratorCore.GetInstance()
-                                        .SetParameterActualValue(
-                                                paramRef.getNode()
-                                                        .getNetworkId(),
-                                                paramRef.getNode()
-                                                        .getCnNodeIdValue(),
-                                                newParameterName, val);
-                                if (!res.IsSuccessful()) {
-                                    System.err.println(
-                                            OpenConfiguratorLibraryUtils
-                                                    .getErrorMessage(res));
-                                } else {
-                                    paramRef.setActualValue(val);
-                                }
-
+                            res = OpenConfiguratorLibraryUtils
+                                    .setParameterReferenceActualValue(paramRef,
+                                            val);
+                            if (!res.IsSuccessful()) {
+                                System.err.println(OpenConfiguratorLibraryUtils
+                                        .getErrorMessage(res));
                             } else {
-                                res = OpenConfiguratorCore.GetInstance()
-                                        .SetParameterActualValue(
-                                                paramRef.getNode()
-                                                        .getNetworkId(),
-                                                paramRef.getNode()
-                                                        .getCnNodeIdValue(),
-                                                paramRef.getParameterUniqueId(),
-                                                val);
-                                if (!res.IsSuccessful()) {
-                                    System.err.println(
-                                            OpenConfiguratorLibraryUtils
-                                                    .getErrorMessage(res));
-                                } else {
-                                    paramRef.setActualValue(val);
-                                }
-
+                                paramRef.setActualValue(val);
                             }
                         }
                     } catch (RuntimeException e) {
@@ -49,8 +49,8 @@ import org.eclipse.ui.views.properties.IPropertySource;
 import org.eclipse.ui.views.properties.PropertyDescriptor;
 import org.eclipse.ui.views.properties.TextPropertyDescriptor;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.IAbstractNodeProperties;
 import org.epsg.openconfigurator.model.IRedundantManagingNodeProperties;
@@ -76,10 +76,10 @@ public class RedundantManagingNodePropertySource
             + "\u00B5" + "s)";
     private static final String RMN_PRIORITY_LABEL = "Priority";
 
-    private static final TextPropertyDescriptor waitNotActiveDescriptor = new TextPropertyDescriptor(
+    private static final AsyncValidationTextPropertyDescriptor waitNotActiveDescriptor = new AsyncValidationTextPropertyDescriptor(
             IRedundantManagingNodeProperties.RMN_WAIT_NOT_ACTIVE_OBJECT,
             RMN_WAIT_NOT_ACTIVE_LABEL);
-    private static final TextPropertyDescriptor priorityDescriptor = new TextPropertyDescriptor(
+    private static final AsyncValidationTextPropertyDescriptor priorityDescriptor = new AsyncValidationTextPropertyDescriptor(
             IRedundantManagingNodeProperties.RMN_PRIORITY_OBJECT,
             RMN_PRIORITY_LABEL);
     private static final PropertyDescriptor nodeIDDescriptor = new PropertyDescriptor(
@@ -120,18 +120,18 @@ public class RedundantManagingNodePropertySource
         super();
         setNodeData(redundantManagingNode);
 
-        waitNotActiveDescriptor.setValidator(new ICellEditorValidator() {
+        waitNotActiveDescriptor.setValidator(new AsyncPropertyValidator() {
 
             @Override
-            public String isValid(Object value) {
+            protected String validate(Object value) {
                 return handleWaitNotActive(value);
             }
         });
 
-        priorityDescriptor.setValidator(new ICellEditorValidator() {
+        priorityDescriptor.setValidator(new AsyncPropertyValidator() {
 
             @Override
-            public String isValid(Object value) {
+            protected String validate(Object value) {
                 return handleRmnPriority(value);
             }
         });
@@ -457,7 +457,7 @@ public class RedundantManagingNodePropertySource
                 return "Invalid name";
             }
 
-            Result res = OpenConfiguratorCore.GetInstance().SetNodeName(
+            Result res = OpenConfiguratorCoreProvider.getCore().SetNodeName(
                     redundantManagingNode.getNetworkId(),
                     redundantManagingNode.getCnNodeIdValue(), nodeName);
             if (!res.IsSuccessful()) {
@@ -555,16 +555,18 @@ public class RedundantManagingNodePropertySource
     public void setPropertyValue(Object id, Object value) {
         // The variable res is dead stored, so that it may return value if the
         // result fails in all below conditions.
-        Result res = new Result();
+        Result res = OpenConfiguratorCoreProvider.newResult();
         try {
             if (id instanceof String) {
                 String objectId = (String) id;
                 switch (objectId) {
                     case IAbstractNodeProperties.NODE_NAME_OBJECT: {
-                        res = OpenConfiguratorCore.GetInstance().SetNodeName(
-                                redundantManagingNode.getNetworkId(),
-                                redundantManagingNode.getCnNodeIdValue(),
-                                (String) value);
+                        res = OpenConfiguratorCoreProvider.getCore()
+                                .SetNodeName(
+                                        redundantManagingNode.getNetworkId(),
+                                        redundantManagingNode
+                                                .getCnNodeIdValue(),
+                                        (String) value);
                         if (!res.IsSuccessful()) {
                             OpenConfiguratorMessageConsole.getInstance()
                                     .printLibraryErrorMessage(res);
@@ -585,7 +587,7 @@ public class RedundantManagingNodePropertySource
                         System.err.println(objectId + " made editable");
                         break;
                     case IRedundantManagingNodeProperties.RMN_WAIT_NOT_ACTIVE_OBJECT:
-                        res = OpenConfiguratorCore.GetInstance()
+                        res = OpenConfiguratorCoreProvider.getCore()
                                 .SetRedundantManagingNodeWaitNotActive(
                                         redundantManagingNode.getNetworkId(),
                                         redundantManagingNode
@@ -601,7 +603,7 @@ public class RedundantManagingNodePropertySource
 
                         break;
                     case IRedundantManagingNodeProperties.RMN_PRIORITY_OBJECT:
-                        res = OpenConfiguratorCore.GetInstance()
+                        res = OpenConfiguratorCoreProvider.getCore()
                                 .SetRedundantManagingNodePriority(
                                         redundantManagingNode.getNetworkId(),
                                         redundantManagingNode
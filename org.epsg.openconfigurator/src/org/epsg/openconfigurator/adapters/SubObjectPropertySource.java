@@ -33,6 +33,7 @@ package org.epsg.openconfigurator.adapters;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.resources.IResource;
@@ -50,7 +51,7 @@ import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.PowerlinkSubobject;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
-import org.epsg.openconfigurator.views.ObjectDictionaryView;
+import org.epsg.openconfigurator.util.ValueValidator;
 import org.epsg.openconfigurator.views.mapping.MappingView;
 import org.epsg.openconfigurator.xmlbinding.xdd.TObjectAccessType;
 import org.epsg.openconfigurator.xmlbinding.xdd.TParameterGroup;
@@ -118,10 +119,10 @@ public class SubObjectPropertySource extends AbstractObjectPropertySource
                 .setCategory(IPropertySourceSupport.INITIAL_VALUE_CATEGORY);
         actualValueEditableDescriptor
                 .setCategory(IPropertySourceSupport.INITIAL_VALUE_CATEGORY);
-        actualValueEditableDescriptor.setValidator(new ICellEditorValidator() {
+        actualValueEditableDescriptor.setValidator(new AsyncPropertyValidator() {
 
             @Override
-            public String isValid(Object value) {
+            protected String validate(Object value) {
                 return handleActualValue(value);
             }
         });
@@ -380,27 +381,8 @@ public class SubObjectPropertySource extends AbstractObjectPropertySource
      *         being the error message to display to the end user.
      */
     protected String handleActualValue(Object value) {
-        if (isModuleSubObject()) {
-            long newObjectIndex = OpenConfiguratorLibraryUtils
-                    .getModuleObjectsIndex(plkSubObject.getModule(),
-                            plkSubObject.getObject().getId());
-            int newSubObjectIndex = OpenConfiguratorLibraryUtils
-                    .getModuleObjectsSubIndex(plkSubObject.getModule(),
-                            plkSubObject, plkSubObject.getObject().getId());
-            Result res = OpenConfiguratorLibraryUtils
-                    .validateModuleSubobjectActualValue(plkSubObject,
-                            (String) value, newObjectIndex, newSubObjectIndex);
-            if (!res.IsSuccessful()) {
-                return OpenConfiguratorLibraryUtils.getErrorMessage(res);
-            }
-        } else {
-            Result res = OpenConfiguratorLibraryUtils
-                    .validateSubobjectActualValue(plkSubObject, (String) value);
-            if (!res.IsSuccessful()) {
-                return OpenConfiguratorLibraryUtils.getErrorMessage(res);
-            }
-        }
-        return null;
+        return ValueValidator.validateActualValue(plkSubObject,
+                (String) value);
     }
 
     /**
@@ -595,55 +577,48 @@ public class SubObjectPropertySource extends AbstractObjectPropertySource
                 String objectId = (String) id;
                 switch (objectId) {
                     case OBJ_ACTUAL_VALUE_EDITABLE_ID: {
-                        if (isModuleSubObject()) {
-                            long newObjectIndex = OpenConfiguratorLibraryUtils
-                                    .getModuleObjectsIndex(
-                                            plkSubObject.getModule(),
-                                            plkSubObject.getObject().getId());
-                            int newSubObjectIndex = OpenConfiguratorLibraryUtils
-                                    .getModuleObjectsSubIndex(
-                                            plkSubObject.getModule(),
-                                            plkSubObject,
-                                            plkSubObject.getObject().getId());
-                            Result res = OpenConfiguratorLibraryUtils
-                                    .setModuleSubObjectActualValue(plkSubObject,
-                                            (String) value, newObjectIndex,
-                                            newSubObjectIndex);
-                            if (!res.IsSuccessful()) {
-                                OpenConfiguratorMessageConsole.getInstance()
-                                        .printLibraryErrorMessage(res);
-                            } else {
-                                // Success - update the OBD
-                                plkSubObject.setActualValue((String) value,
-                                        true, isModuleSubObject());
-                            }
-                        } else {
-                            Result res = OpenConfiguratorLibraryUtils
-                                    .setSubObjectActualValue(plkSubObject,
-                                            (String) value);
-                            if (!res.IsSuccessful()) {
-                                OpenConfiguratorMessageConsole.getInstance()
-                                        .printLibraryErrorMessage(res);
-                            } else {
-                                // Success - update the OBD
-                                plkSubObject.setActualValue((String) value,
-                                        true);
-                            }
-                        }
-                        try {
-                            IViewPart viewpart = PlatformUI.getWorkbench()
-                                    .getActiveWorkbenchWindow().getActivePage()
-                                    .showView(ObjectDictionaryView.ID);
-                            if (viewpart instanceof ObjectDictionaryView) {
-                                ObjectDictionaryView obd = (ObjectDictionaryView) viewpart;
-                                obd.handleRefresh();
-
+                        final String actualValue = (String) value;
+                        final boolean moduleSubObject = isModuleSubObject();
+                        // The views are refreshed once the value is committed.
+                        submitActualValue(new Callable<Result>() {
+                            @Override
+                            public Result call() throws Exception {
+                                if (moduleSubObject) {
+                                    long newObjectIndex = OpenConfiguratorLibraryUtils
+                                            .getModuleObjectsIndex(
+                                                    plkSubObject.getModule(),
+                                                    plkSubObject.getObject()
+                                                            .getId());
+                                    int newSubObjectIndex = OpenConfiguratorLibraryUtils
+                                            .getModuleObjectsSubIndex(
+                                                    plkSubObject.getModule(),
+                                                    plkSubObject,
+                                                    plkSubObject.getObject()
+                                                            .getId());
+                                    Result res = OpenConfiguratorLibraryUtils
+                                            .setModuleSubObjectActualValue(
+                                                    plkSubObject, actualValue,
+                                                    newObjectIndex,
+                                                    newSubObjectIndex);
+                                    if (res.IsSuccessful()) {
+                                        // Success - update the OBD
+                                        plkSubObject.setActualValue(
+                                                actualValue, true, true);
+                                    }
+                                    return res;
+                                }
+                                Result res = OpenConfiguratorLibraryUtils
+                                        .setSubObjectActualValue(plkSubObject,
+                                                actualValue);
+                                if (res.IsSuccessful()) {
+                                    // Success - update the OBD
+                                    plkSubObject.setActualValue(actualValue,
+                                            true);
+                                }
+                                return res;
                             }
-                        } catch (PartInitException e) {
-                            e.printStackTrace();
-                        }
-
-                        break;
+                        }, plkSubObject.getNode());
+                        return;
                     }
                     case OBJ_FORCE_ACTUAL_VALUE_ID: {
                         if (value instanceof Integer) {
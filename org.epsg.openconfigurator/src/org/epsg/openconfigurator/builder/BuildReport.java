@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * @file   BuildReport.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.builder;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
+
+/**
+ * Collects the duration, the number of bytes written and the number of
+ * library calls of every phase of a POWERLINK network project build.
+ *
+ * The library calls of a phase are the core calls of the network recorded
+ * while the phase runs, see
+ * {@link OpenConfiguratorCoreProvider#getCallCount(String)}. The calls of the
+ * other networks are not counted, the calls of the same network made outside
+ * of the build, for example by the views, are. They are not tracked if the
+ * statistics of the core calls are disabled.
+ *
+ * The report is printed in the openCONFIGURATOR console and written as JSON
+ * next to the build outputs.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class BuildReport {
+
+    /**
+     * Measurements of a single build phase.
+     */
+    public static final class Phase {
+        private final String name;
+        private long durationNanos;
+        private long bytesWritten;
+        private long libraryCalls = -1;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return The number of bytes written in the phase.
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        /**
+         * @return The duration of the phase in nanoseconds.
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * @return The number of library calls in the phase, <code>-1</code>
+         *         if not tracked.
+         */
+        public long getLibraryCalls() {
+            return libraryCalls;
+        }
+
+        /**
+         * @return The name of the phase.
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static final String BUILD_REPORT_FILE = "build_report.json"; //$NON-NLS-1$
+
+    private static final String REPORT_VERSION = "1.0"; //$NON-NLS-1$
+
+    private static String escapeJson(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\""); //$NON-NLS-1$
+                    break;
+                case '\\':
+                    sb.append("\\\\"); //$NON-NLS-1$
+                    break;
+                case '\n':
+                    sb.append("\\n"); //$NON-NLS-1$
+                    break;
+                case '\r':
+                    sb.append("\\r"); //$NON-NLS-1$
+                    break;
+                case '\t':
+                    sb.append("\\t"); //$NON-NLS-1$
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+
+    /**
+     * Returns the size of the given file.
+     *
+     * @param file The file.
+     * @return The size of the file in bytes, <code>0</code> if not available.
+     */
+    public static long getFileSize(Path file) {
+        try {
+            if (Files.exists(file, LinkOption.NOFOLLOW_LINKS)) {
+                return Files.size(file);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", //$NON-NLS-1$
+                nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private final String projectName;
+
+    private final long startTime = System.currentTimeMillis();
+
+    private final List<Phase> phases = new ArrayList<>();
+
+    private Phase currentPhase;
+
+    private long currentPhaseStart;
+
+    private long currentPhaseStartCalls;
+
+    /**
+     * Creates a build report for the project.
+     *
+     * @param projectName Name of the project, which is also the network ID.
+     */
+    public BuildReport(String projectName) {
+        this.projectName = projectName;
+    }
+
+    /**
+     * Adds the bytes written to the current phase.
+     *
+     * @param bytes Number of bytes written.
+     */
+    public void addBytesWritten(long bytes) {
+        if (currentPhase != null) {
+            currentPhase.bytesWritten += bytes;
+        }
+    }
+
+    /**
+     * Adds a phase that has been measured outside of the report.
+     *
+     * @param name Name of the phase.
+     * @param durationNanos Duration of the phase in nanoseconds.
+     * @param bytesWritten Number of bytes written in the phase.
+     * @param libraryCalls Number of library calls in the phase,
+     *            <code>-1</code> if not tracked.
+     */
+    public void addPhase(String name, long durationNanos, long bytesWritten,
+            long libraryCalls) {
+        Phase phase = new Phase(name);
+        phase.durationNanos = durationNanos;
+        phase.bytesWritten = bytesWritten;
+        phase.libraryCalls = libraryCalls;
+        phases.add(phase);
+    }
+
+    /**
+     * Ends the current phase.
+     */
+    public void endPhase() {
+        if (currentPhase == null) {
+            return;
+        }
+        currentPhase.durationNanos = System.nanoTime() - currentPhaseStart;
+        currentPhase.libraryCalls = OpenConfiguratorCoreProvider
+                .getCallsSince(projectName, currentPhaseStartCalls);
+        phases.add(currentPhase);
+        currentPhase = null;
+    }
+
+    /**
+     * @return The measured phases in the order of their completion.
+     */
+    public List<Phase> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    /**
+     * @return The lines of the phase summary for the console.
+     */
+    public List<String> getSummary() {
+        List<String> summary = new ArrayList<>();
+        for (Phase phase : phases) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(phase.name).append(": ")
+                    .append(toMillis(phase.durationNanos)).append(" ms");
+            if (phase.bytesWritten > 0) {
+                sb.append(", ").append(phase.bytesWritten).append(" bytes");
+            }
+            if (phase.libraryCalls >= 0) {
+                sb.append(", ").append(phase.libraryCalls)
+                        .append(" library calls");
+            }
+            summary.add(sb.toString());
+        }
+        summary.add("Total: " + toMillis(getTotalDurationNanos()) + " ms, "
+                + getTotalBytesWritten() + " bytes");
+        return summary;
+    }
+
+    /**
+     * @return The sum of the bytes written in all the phases.
+     */
+    public long getTotalBytesWritten() {
+        long total = 0;
+        for (Phase phase : phases) {
+            total += phase.bytesWritten;
+        }
+        return total;
+    }
+
+    /**
+     * @return The sum of the duration of all the phases in nanoseconds.
+     */
+    public long getTotalDurationNanos() {
+        long total = 0;
+        for (Phase phase : phases) {
+            total += phase.durationNanos;
+        }
+        return total;
+    }
+
+    /**
+     * Starts a new phase. A running phase is ended before.
+     *
+     * @param name Name of the phase.
+     */
+    public void startPhase(String name) {
+        endPhase();
+        currentPhase = new Phase(name);
+        currentPhaseStartCalls = OpenConfiguratorCoreProvider
+                .getCallCount(projectName);
+        currentPhaseStart = System.nanoTime();
+    }
+
+    /**
+     * @return The report in JSON format.
+     */
+    public String toJson() {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(
+                "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"); //$NON-NLS-1$
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC")); //$NON-NLS-1$
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n"); //$NON-NLS-1$
+        sb.append("  \"version\": ").append(escapeJson(REPORT_VERSION)) //$NON-NLS-1$
+                .append(",\n"); //$NON-NLS-1$
+        sb.append("  \"project\": ").append(escapeJson(projectName)) //$NON-NLS-1$
+                .append(",\n"); //$NON-NLS-1$
+        sb.append("  \"started\": ") //$NON-NLS-1$
+                .append(escapeJson(dateFormat.format(new Date(startTime))))
+                .append(",\n"); //$NON-NLS-1$
+        sb.append("  \"totalDurationMs\": ") //$NON-NLS-1$
+                .append(toMillis(getTotalDurationNanos())).append(",\n"); //$NON-NLS-1$
+        sb.append("  \"totalBytesWritten\": ").append(getTotalBytesWritten()) //$NON-NLS-1$
+                .append(",\n"); //$NON-NLS-1$
+        sb.append("  \"phases\": ["); //$NON-NLS-1$
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            sb.append(i == 0 ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+            sb.append("    { \"name\": ").append(escapeJson(phase.name)); //$NON-NLS-1$
+            sb.append(", \"durationMs\": ") //$NON-NLS-1$
+                    .append(toMillis(phase.durationNanos));
+            sb.append(", \"bytesWritten\": ").append(phase.bytesWritten); //$NON-NLS-1$
+            if (phase.libraryCalls >= 0) {
+                sb.append(", \"libraryCalls\": ").append(phase.libraryCalls); //$NON-NLS-1$
+            }
+            sb.append(" }"); //$NON-NLS-1$
+        }
+        sb.append(phases.isEmpty() ? "]\n" : "\n  ]\n"); //$NON-NLS-1$ //$NON-NLS-2$
+        sb.append("}\n"); //$NON-NLS-1$
+        return sb.toString();
+    }
+
+    /**
+     * Writes the report in JSON format into the output directory.
+     *
+     * @param outputDirectory The output directory of the project.
+     * @return The path of the report file.
+     * @throws IOException Errors with writing the report file.
+     */
+    public Path write(Path outputDirectory) throws IOException {
+        endPhase();
+        Files.createDirectories(outputDirectory);
+        Path reportFile = outputDirectory.resolve(BUILD_REPORT_FILE);
+        Files.write(reportFile, toJson().getBytes(Charset.forName("UTF-8"))); //$NON-NLS-1$
+        return reportFile;
+    }
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * @file   PowerlinkNetworkBuildApplication.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.builder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.epsg.openconfigurator.Activator;
+import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+
+/**
+ * Headless application to build POWERLINK network projects without the
+ * workbench.
+ *
+ * Usage: <code>-application org.epsg.openconfigurator.headlessBuild
+ * [-threads N] &lt;project directory or project XML&gt;...</code>
+ *
+ * The projects are built in parallel. The calls into the openCONFIGURATOR
+ * library are serialized by the core executor, see
+ * {@link org.epsg.openconfigurator.core.CoreExecutor}, because the library is
+ * not thread safe. The results of the builds are reported in the console.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class PowerlinkNetworkBuildApplication implements IApplication {
+
+    private static final String THREADS_ARGUMENT = "-threads"; //$NON-NLS-1$
+    private static final String PROJECT_DESCRIPTION_FILE = ".project"; //$NON-NLS-1$
+
+    private static final Integer EXIT_BUILD_FAILED = Integer.valueOf(1);
+
+    private static final String USAGE_MESSAGE = "Usage: -application org.epsg.openconfigurator.headlessBuild [-threads N] <project directory or project XML>...";
+    private static final String INVALID_PROJECT_PATH_ERROR = "Project path does not exist: ";
+    private static final String BUILD_SUCCESSFUL_MESSAGE = "Build successful";
+    private static final String BUILD_FAILED_MESSAGE = "Build failed";
+
+    /**
+     * Builds a single project with the given engine.
+     *
+     * @param engine The build engine of the project.
+     * @return The status of the build.
+     */
+    private static IStatus buildProject(PowerlinkNetworkBuildEngine engine) {
+        NullProgressMonitor monitor = new NullProgressMonitor();
+        BuildReport report = engine.getBuildReport();
+        report.startPhase("Project load");
+        IStatus status = engine.loadProjectModel();
+        if (!status.isOK()) {
+            return status;
+        }
+
+        try {
+            report.startPhase("Network import");
+            status = engine.importNetwork(monitor);
+            if (!status.isOK()) {
+                return status;
+            }
+            engine.generateOutputs(monitor);
+            engine.generateFirmwareOutputs();
+            engine.writeBuildReport();
+        } catch (CoreException e) {
+            return e.getStatus();
+        } finally {
+            engine.dispose();
+        }
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Opens the project available in the given location in the workspace.
+     *
+     * @param workspace The workspace instance.
+     * @param location The project directory or the project XML file.
+     * @return The opened project.
+     * @throws CoreException If the project cannot be created or opened.
+     */
+    private static IProject openProject(IWorkspace workspace, File location)
+            throws CoreException {
+        File projectDirectory = location.isFile() ? location.getParentFile()
+                : location;
+        File descriptionFile = new File(projectDirectory,
+                PROJECT_DESCRIPTION_FILE);
+
+        IProjectDescription description;
+        if (descriptionFile.exists()) {
+            description = workspace.loadProjectDescription(
+                    new org.eclipse.core.runtime.Path(
+                            descriptionFile.getAbsolutePath()));
+        } else {
+            description = workspace
+                    .newProjectDescription(projectDirectory.getName());
+        }
+        description.setLocation(new org.eclipse.core.runtime.Path(
+                projectDirectory.getAbsolutePath()));
+
+        IProject project = workspace.getRoot()
+                .getProject(description.getName());
+        if (!project.exists()) {
+            project.create(description, new NullProgressMonitor());
+        }
+        if (!project.isOpen()) {
+            project.open(new NullProgressMonitor());
+        }
+        return project;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * org.eclipse.equinox.app.IApplication#start(org.eclipse.equinox.app.
+     * IApplicationContext)
+     */
+    @Override
+    public Object start(IApplicationContext context) throws Exception {
+        String[] args = (String[]) context.getArguments()
+                .get(IApplicationContext.APPLICATION_ARGS);
+        if (args == null) {
+            args = new String[0];
+        }
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<File> projectLocations = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (THREADS_ARGUMENT.equals(args[i]) && ((i + 1) < args.length)) {
+                try {
+                    threads = Math.max(1, Integer.parseInt(args[++i]));
+                } catch (NumberFormatException e) {
+                    System.err.println(USAGE_MESSAGE);
+                    return EXIT_BUILD_FAILED;
+                }
+                continue;
+            }
+            File location = new File(args[i]).getAbsoluteFile();
+            if (!location.exists()) {
+                System.err.println(INVALID_PROJECT_PATH_ERROR + location);
+                return EXIT_BUILD_FAILED;
+            }
+            projectLocations.add(location);
+        }
+
+        if (projectLocations.isEmpty()) {
+            System.err.println(USAGE_MESSAGE);
+            return EXIT_BUILD_FAILED;
+        }
+
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        List<PowerlinkNetworkBuildEngine> engines = new ArrayList<>();
+        for (File location : projectLocations) {
+            IProject project = openProject(workspace, location);
+            engines.add(new PowerlinkNetworkBuildEngine(project));
+        }
+
+        ExecutorService executor = Executors
+                .newFixedThreadPool(Math.min(threads, engines.size()));
+        boolean buildSuccessful = true;
+        try {
+            List<Future<IStatus>> results = new ArrayList<>();
+            for (final PowerlinkNetworkBuildEngine engine : engines) {
+                results.add(executor.submit(new Callable<IStatus>() {
+                    @Override
+                    public IStatus call() {
+                        return buildProject(engine);
+                    }
+                }));
+            }
+
+            OpenConfiguratorMessageConsole console = OpenConfiguratorMessageConsole
+                    .getInstance();
+            for (int i = 0; i < results.size(); i++) {
+                String projectName = engines.get(i).getNetworkId();
+                IStatus status;
+                try {
+                    status = results.get(i).get();
+                } catch (ExecutionException e) {
+                    e.printStackTrace();
+                    status = new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                            e.getCause().getMessage(), e.getCause());
+                }
+                if (status.getSeverity() == IStatus.ERROR) {
+                    console.printErrorMessage(status.getMessage(),
+                            projectName);
+                    console.printErrorMessage(BUILD_FAILED_MESSAGE,
+                            projectName);
+                    buildSuccessful = false;
+                } else {
+                    console.printInfoMessage(BUILD_SUCCESSFUL_MESSAGE,
+                            projectName);
+                }
+            }
+        } finally {
+            executor.shutdown();
+            workspace.save(true, new NullProgressMonitor());
+        }
+
+        return buildSuccessful ? IApplication.EXIT_OK : EXIT_BUILD_FAILED;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.eclipse.equinox.app.IApplication#stop()
+     */
+    @Override
+    public void stop() {
+        // Nothing to do.
+    }
+}
@@ -0,0 +1,1135 @@
+/*******************************************************************************
+ * @file   PowerlinkNetworkBuildEngine.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.builder;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.content.IContentDescription;
+import org.epsg.openconfigurator.Activator;
+import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.NetworkSnapshot;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+import org.epsg.openconfigurator.model.FirmwareManager;
+import org.epsg.openconfigurator.model.IPowerlinkProjectSupport;
+import org.epsg.openconfigurator.model.Module;
+import org.epsg.openconfigurator.model.Node;
+import org.epsg.openconfigurator.model.Path;
+import org.epsg.openconfigurator.model.PowerlinkObject;
+import org.epsg.openconfigurator.model.PowerlinkRootNode;
+import org.epsg.openconfigurator.util.FirmwareFileUtils;
+import org.epsg.openconfigurator.util.IPowerlinkConstants;
+import org.epsg.openconfigurator.util.NetworkSnapshotUtils;
+import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
+import org.epsg.openconfigurator.util.OpenConfiguratorProjectMarshaller;
+import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
+import org.epsg.openconfigurator.xmlbinding.projectfile.OpenCONFIGURATORProject;
+import org.epsg.openconfigurator.xmlbinding.projectfile.TNetworkConfiguration;
+import org.jdom2.JDOMException;
+import org.xml.sax.SAXException;
+
+/**
+ * Editor independent build engine for POWERLINK network projects.
+ *
+ * The engine generates the concise device configuration, the process image
+ * descriptions, the node configuration files and the firmware outputs of a
+ * project. It works either on the model of an open project editor or loads
+ * the project directly from the project XML and the XDC files. No UI
+ * resources are used so that the engine can run in a headless application.
+ *
+ * @see PowerlinkNetworkProjectBuilder
+ * @see PowerlinkNetworkBuildApplication
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class PowerlinkNetworkBuildEngine {
+
+    public static final String MN_OBD_TXT = "mnobd.txt"; //$NON-NLS-1$
+    public static final String MN_OBD_CDC = "mnobd.cdc"; //$NON-NLS-1$
+    public static final String MN_OBD_CHAR_TXT = "mnobd_char.txt"; //$NON-NLS-1$
+    public static final String XAP_H = "xap.h"; //$NON-NLS-1$
+    public static final String XAP_XML = "xap.xml"; //$NON-NLS-1$
+    public static final String PROCESSIMAGE_CS = "ProcessImage.cs"; //$NON-NLS-1$
+    public static final String FIRMWARE_INFO = "fw.info"; //$NON-NLS-1$
+
+    static final String[] OUTPUT_FILES = { MN_OBD_TXT, MN_OBD_CDC,
+            MN_OBD_CHAR_TXT, XAP_H, XAP_XML, PROCESSIMAGE_CS,
+            BuildReport.BUILD_REPORT_FILE };
+
+    /**
+     * Content type ID of the openCONFIGURATOR project XML file.
+     */
+    private static final String PROJECT_FILE_CONTENT_TYPE = "org.epsg.openconfigurator.contenttype.projectfile"; //$NON-NLS-1$
+
+    private static final String BUILD_START_MESSAGE = "Build started for project: {0}";
+    private static final String BUILD_FAILED_ERROR_MESSAGE = "Build failed for project: {0}";
+    private static final String BUILD_COMPLETED_MESSAGE = "Build finished successfully for Project: {0}";
+    private static final String UPDATING_NODE_CONFIGURATION_MESSAGE = "Updating node configuration files.";
+    private static final String UPDATING_NODE_CONFIGURATION__ERROR_MESSAGE = "Failed to update the node configuration files.\n\tError message: ";
+    private static final String UPDATING_NODE_CONFIGURATION__COMPLETED_MESSAGE = "Completed updating node configuration files.";
+    private static final String PROJECT_FILE_NOT_FOUND_ERROR = "openCONFIGURATOR project file not found in the project: {0}";
+    private static final String INVALID_PROJECT_FILE_ERROR = "Invalid openCONFIGURATOR project file: {0}";
+
+    private static final String MN_OBJECT_UPDATE_INDEX = "1F80";
+
+    private static final String RMN_FIRMWARE_AVAILABLITY_VALUE = "19456";
+
+    private static final String FIRMWARE_AVAILABLITY_VALUE = "3072";
+
+    private static final String RMN_AVAILABLITY_VALUE = "18432";
+
+    private static final String TAB_SPACE = "\t";
+
+    private static final String NEW_LINE = "\n";
+
+    private static final int MINIMUM_SINGLE_DIGIT_NODE_ID = 9;
+
+    /**
+     * Build the concise device configuration outputs in the specified output
+     * path.
+     *
+     * @param networkId The network ID.
+     * @param textpath The location to save the output files.
+     * @param monitor Monitor instance to update the progress activity.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws CoreException
+     */
+    private static boolean buildConciseDeviceConfiguration(
+            final String networkId, java.nio.file.Path textpath,
+            java.nio.file.Path binaryPath, java.nio.file.Path charPath,
+            final IProgressMonitor monitor) throws CoreException {
+        String configurationOutput[] = new String[1];
+        List<Short> cdcByteCollection = new ArrayList<>();
+
+        Result res = OpenConfiguratorCoreProvider.getCore().BuildConfiguration(
+                networkId, configurationOutput, cdcByteCollection);
+
+        if (!res.IsSuccessful()) {
+            throw newLibraryException(res);
+        }
+        try {
+            if (!Files.exists(textpath, LinkOption.NOFOLLOW_LINKS)) {
+                Files.createDirectory(textpath);
+            }
+        } catch (IOException e1) {
+            e1.printStackTrace();
+            IStatus errorStatus = new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                    IStatus.OK,
+                    "Output path:" + textpath.toString() + " does not exist.",
+                    e1);
+            throw new CoreException(errorStatus);
+        }
+
+        // String[1] is always empty.
+        boolean retVal = createMnobdTxt(textpath, configurationOutput[0]);
+        if (!retVal) {
+            return retVal;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(cdcByteCollection.size());
+
+        for (Short value : cdcByteCollection) {
+            buffer.put((byte) (value & 0xFF));
+        }
+
+        retVal = createMnobdCdc(binaryPath, buffer);
+        if (!retVal) {
+            return retVal;
+        }
+
+        retVal = createMnobdHexTxt(charPath, buffer);
+        if (!retVal) {
+            return retVal;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the processimage variables for the specified node ID. The format
+     * is usable in the 'C' language.
+     *
+     * @param networkId The network ID.
+     * @param nodeId The node for which the processimage to be generated.
+     * @param targetPath The location to save the output file.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws CoreException
+     */
+    private static boolean buildCProcessImage(String networkId, short nodeId,
+            java.nio.file.Path targetPath) throws CoreException {
+        String piDataOutput[] = new String[1];
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .BuildCProcessImage(networkId, nodeId, piDataOutput);
+        if (!res.IsSuccessful()) {
+            throw newLibraryException(res);
+        }
+        writeOutputFile(targetPath, XAP_H, piDataOutput[0]);
+        return true;
+    }
+
+    /**
+     * Writes the processimage variables for the specified node ID. The format
+     * is usable in the 'C#' language.
+     *
+     * @param networkId The network ID.
+     * @param nodeId The node for which the processimage to be generated.
+     * @param targetPath The location to save the output file.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws CoreException
+     */
+    private static boolean buildCSharpProcessImage(String networkId,
+            short nodeId, java.nio.file.Path targetPath) throws CoreException {
+        String piDataOutput[] = new String[1];
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .BuildNETProcessImage(networkId, nodeId, piDataOutput);
+        if (!res.IsSuccessful()) {
+            throw newLibraryException(res);
+        }
+        writeOutputFile(targetPath, PROCESSIMAGE_CS, piDataOutput[0]);
+        return true;
+    }
+
+    /**
+     * Build the ProcessImage descriptions for currently active project.
+     *
+     * @param networkId The network ID.
+     * @param xmlPath The location to save the output files.
+     * @param monitor Monitor instance to update the progress activity.
+     * @param report The build report to record each process image.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws CoreException
+     */
+    private static boolean buildProcessImageDescriptions(String networkId,
+            java.nio.file.Path xmlPath, java.nio.file.Path cPath,
+            java.nio.file.Path charpSPath, IProgressMonitor monitor,
+            BuildReport report) throws CoreException {
+
+        report.startPhase("Query node IDs");
+        List<Short> nodeIdCollection = new ArrayList<>();
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .GetAvailableNodeIds(networkId, nodeIdCollection);
+        if (!res.IsSuccessful()) {
+            throw newLibraryException(res);
+        }
+
+        boolean ret = false;
+        for (Short value : nodeIdCollection) {
+            if (value != IPowerlinkConstants.MN_DEFAULT_NODE_ID) {
+                // NOTE: Resolve the node ID into the output paths to generate
+                // the Individual CN's PI descriptions.
+                continue;
+            }
+
+            report.startPhase("Process image " + XAP_H);
+            ret = buildCProcessImage(networkId, value, cPath);
+            report.addBytesWritten(
+                    BuildReport.getFileSize(cPath.resolve(XAP_H)));
+
+            report.startPhase("Process image " + XAP_XML);
+            ret = buildXmlProcessImage(networkId, value, xmlPath);
+            report.addBytesWritten(
+                    BuildReport.getFileSize(xmlPath.resolve(XAP_XML)));
+
+            report.startPhase("Process image " + PROCESSIMAGE_CS);
+            ret = buildCSharpProcessImage(networkId, value, charpSPath);
+            report.addBytesWritten(BuildReport
+                    .getFileSize(charpSPath.resolve(PROCESSIMAGE_CS)));
+        }
+        report.endPhase();
+        return ret;
+    }
+
+    /**
+     * Writes the processimage variables for the specified node ID. The
+     * processimage variable are available in the XML format.
+     *
+     * @param networkId The network ID.
+     * @param nodeId The node for which the processimage to be generated.
+     * @param targetPath The location to save the output file.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws CoreException
+     */
+    private static boolean buildXmlProcessImage(String networkId, short nodeId,
+            java.nio.file.Path targetPath) throws CoreException {
+        String piDataOutput[] = new String[1];
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .BuildXMLProcessImage(networkId, nodeId, piDataOutput);
+        if (!res.IsSuccessful()) {
+            throw newLibraryException(res);
+        }
+        // XAP.xml is terminated with a line separator.
+        writeOutputFile(targetPath, XAP_XML,
+                piDataOutput[0] + System.lineSeparator());
+        return true;
+    }
+
+    /**
+     * Create the mnobd.cdc in the specified output folder.
+     *
+     * @param outputFolder Location to save the file.
+     * @param buffer The file contents.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws CoreException
+     */
+    private static boolean createMnobdCdc(java.nio.file.Path outputFolder,
+            ByteBuffer buffer) throws CoreException {
+        writeOutputFile(outputFolder, MN_OBD_CDC, buffer.array());
+        return true;
+    }
+
+    /**
+     * Create the mnobd_char.txt in the specified output folder.
+     *
+     * @param outputFolder Location to save the file.
+     * @param buffer The file contents.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws CoreException
+     */
+    private static boolean createMnobdHexTxt(java.nio.file.Path outputFolder,
+            ByteBuffer buffer) throws CoreException {
+        writeOutputFile(outputFolder, MN_OBD_CHAR_TXT,
+                getMnobdHexTxt(buffer.array()));
+        return true;
+    }
+
+    /**
+     * Create the mnobd.txt in the specified output folder.
+     *
+     * @param outputFolder Location to save the file.
+     * @param configuration The file contents.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws CoreException
+     */
+    private static boolean createMnobdTxt(java.nio.file.Path outputFolder,
+            final String configuration) throws CoreException {
+        writeOutputFile(outputFolder, MN_OBD_TXT, configuration);
+        return true;
+    }
+
+    /**
+     * Finds the openCONFIGURATOR project XML file in the root of the given
+     * project.
+     *
+     * @param project The POWERLINK network project.
+     * @return The project XML file, or <code>null</code> if not available.
+     * @throws CoreException If the project members cannot be accessed.
+     */
+    public static IFile findProjectFile(IProject project) throws CoreException {
+        IFile defaultProjectFile = project.getFile(project.getName() + ".xml"); //$NON-NLS-1$
+        if (defaultProjectFile.exists()) {
+            return defaultProjectFile;
+        }
+
+        for (IResource member : project.members()) {
+            if ((member.getType() != IResource.FILE)
+                    || !"xml".equalsIgnoreCase(member.getFileExtension())) { //$NON-NLS-1$
+                continue;
+            }
+            IFile file = (IFile) member;
+            IContentDescription description = file.getContentDescription();
+            if ((description != null) && PROJECT_FILE_CONTENT_TYPE.equals(
+                    description.getContentType().getId())) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Formats the concise device configuration as written into the
+     * mnobd_char.txt, with 16 hexadecimal bytes in each line.
+     *
+     * @param txtArray The concise device configuration.
+     * @return The file contents.
+     */
+    public static String getMnobdHexTxt(final byte[] txtArray) {
+        StringBuilder sb = new StringBuilder();
+        short lineBreakCount = 0;
+
+        for (int cnt = 0; cnt < txtArray.length; ++cnt) {
+            sb.append("0x"); //$NON-NLS-1$
+            sb.append(String.format("%02X", txtArray[cnt])); //$NON-NLS-1$
+            if (cnt != (txtArray.length - 1)) {
+                sb.append(","); //$NON-NLS-1$
+            }
+            lineBreakCount++;
+
+            if (lineBreakCount == 16) {
+                sb.append(System.lineSeparator());
+                lineBreakCount = 0;
+            } else {
+                if (cnt != (txtArray.length - 1)) {
+                    sb.append(" "); //$NON-NLS-1$
+                }
+            }
+        }
+        sb.append("\n");
+        return sb.toString();
+    }
+
+    private static CoreException newLibraryException(final Result res) {
+        String errorMessage = OpenConfiguratorLibraryUtils.getErrorMessage(res);
+        // Displays error message in console.
+        OpenConfiguratorMessageConsole.getInstance()
+                .printLibraryErrorMessage(res);
+        System.err.println("Build ERR " + errorMessage);
+        IStatus errorStatus = new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                IStatus.OK, errorMessage, null);
+        return new CoreException(errorStatus);
+    }
+
+    private static void updateMnObject(PowerlinkObject swVersionObj,
+            boolean isRmnAvailable, boolean isFirmwareAvailable) {
+
+        String value;
+        if (isFirmwareAvailable && isRmnAvailable) {
+            value = RMN_FIRMWARE_AVAILABLITY_VALUE;
+        } else if (isFirmwareAvailable) {
+            value = FIRMWARE_AVAILABLITY_VALUE;
+        } else if (isRmnAvailable) {
+            value = RMN_AVAILABLITY_VALUE;
+        } else {
+            return;
+        }
+
+        try {
+            swVersionObj.setActualValue(value, true);
+            OpenConfiguratorLibraryUtils.setObjectActualValue(swVersionObj,
+                    value);
+        } catch (JDOMException | IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void writeOutputFile(java.nio.file.Path targetPath,
+            String fileName, byte[] contents) throws CoreException {
+        java.nio.file.Path targetFilePath = targetPath.resolve(fileName);
+        try {
+            if (!Files.exists(targetPath)) {
+                Files.createDirectories(targetPath);
+            }
+            Files.write(targetFilePath, contents);
+        } catch (IOException e) {
+            e.printStackTrace();
+            IStatus errorStatus = new Status(IStatus.ERROR,
+                    Activator.PLUGIN_ID, IStatus.OK, "Output file:"
+                            + targetFilePath.toString() + " is not accessible.",
+                    e);
+            throw new CoreException(errorStatus);
+        }
+    }
+
+    private static void writeOutputFile(java.nio.file.Path targetPath,
+            String fileName, String contents) throws CoreException {
+        writeOutputFile(targetPath, fileName,
+                contents.getBytes(Charset.forName("UTF-8")));
+    }
+
+    /**
+     * The POWERLINK network project.
+     */
+    private final IProject project;
+
+    /**
+     * Network identifier of the project in the library.
+     */
+    private final String networkId;
+
+    /**
+     * openCONFIGURATOR project model.
+     */
+    private OpenCONFIGURATORProject projectModel;
+
+    /**
+     * PowerlinkRoot node instance.
+     */
+    private PowerlinkRootNode rootNode;
+
+    /**
+     * Project XML file.
+     */
+    private IFile projectFile;
+
+    /**
+     * <code>True</code> if the network has been created by this engine and
+     * has to be removed from the library on dispose.
+     */
+    private boolean networkOwner = false;
+
+    /**
+     * Latest firmware files to be copied into the output.
+     */
+    private final List<FirmwareManager> fwList = new ArrayList<>();
+
+    /**
+     * Timing and output metrics of the build phases.
+     */
+    private final BuildReport buildReport;
+
+    /**
+     * Creates a build engine that loads the project from its project XML.
+     *
+     * @param project The POWERLINK network project.
+     */
+    public PowerlinkNetworkBuildEngine(IProject project) {
+        this.project = project;
+        networkId = project.getName();
+        buildReport = new BuildReport(networkId);
+    }
+
+    /**
+     * Creates a build engine for a project that has already been imported
+     * into the library.
+     *
+     * @param project The POWERLINK network project.
+     * @param projectModel The openCONFIGURATOR project model.
+     * @param rootNode The imported POWERLINK root node.
+     */
+    public PowerlinkNetworkBuildEngine(IProject project,
+            OpenCONFIGURATORProject projectModel, PowerlinkRootNode rootNode) {
+        this(project);
+        this.projectModel = projectModel;
+        this.rootNode = rootNode;
+    }
+
+    /**
+     * Generates all the outputs of the project. The network has to be
+     * imported into the library before.
+     *
+     * @param monitor Monitor instance to update the progress activity.
+     * @throws CoreException If the outputs could not be generated.
+     */
+    public void build(final IProgressMonitor monitor) throws CoreException {
+        generateOutputs(monitor);
+        generateFirmwareOutputs();
+        writeBuildReport();
+    }
+
+    /**
+     * Removes the network from the library if it has been created by this
+     * engine and releases the node collection.
+     */
+    public void dispose() {
+        if (!networkOwner) {
+            return;
+        }
+        networkOwner = false;
+        if (rootNode != null) {
+            rootNode.clearNodeCollection();
+        }
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .RemoveNetwork(networkId);
+        if (!res.IsSuccessful()) {
+            OpenConfiguratorMessageConsole.getInstance()
+                    .printLibraryErrorMessage(res);
+        }
+    }
+
+    private void displayErrorMessage(final String message) {
+        OpenConfiguratorMessageConsole.getInstance().printErrorMessage(message,
+                networkId);
+    }
+
+    private void displayInfoMessage(final String message) {
+        OpenConfiguratorMessageConsole.getInstance().printInfoMessage(message,
+                networkId);
+    }
+
+    /**
+     * Copies the firmware files and writes the firmware information file. The
+     * library is not accessed in this step.
+     *
+     * @throws CoreException If the firmware information file cannot be
+     *             written.
+     */
+    public void generateFirmwareOutputs() throws CoreException {
+        java.nio.file.Path targetPath = getTargetPath(
+                new Path(IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR, true));
+        buildReport.startPhase("Firmware sync");
+        updateFirmwareDevRevList();
+
+        syncFirmwareFiles();
+        generateFirmwareInfoFile(targetPath);
+        fwList.clear();
+        buildReport.endPhase();
+    }
+
+    /**
+     * Writes the firmware information file. The file is rewritten only if its
+     * content has been changed and removed if no firmware is available.
+     */
+    private void generateFirmwareInfoFile(java.nio.file.Path outputpath)
+            throws CoreException {
+        java.nio.file.Path targetFilePath = outputpath.resolve(FIRMWARE_INFO);
+        if (fwList.isEmpty()) {
+            try {
+                Files.deleteIfExists(targetFilePath);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        StringBuilder outputFirmwareInfo = new StringBuilder();
+        for (FirmwareManager fwMngr : fwList) {
+            String nodeIdString = fwMngr.getNodeIdofFirmware();
+            Integer hexadecNodeVal = Integer.valueOf(nodeIdString);
+
+            String nodeId = Integer.toHexString(hexadecNodeVal);
+            if (Integer.parseInt(nodeIdString) <= MINIMUM_SINGLE_DIGIT_NODE_ID) {
+                nodeId = "0" + nodeId;
+            } else if (hexadecNodeVal < 15) {
+                nodeId = "0" + nodeId.toUpperCase();
+            }
+
+            String newFirmwareFileName = fwMngr.getNewFirmwareFileName();
+            String targetFwPath = IPowerlinkProjectSupport.FIRMWARE_OUTPUT_DIRECTORY
+                    + IPath.SEPARATOR + newFirmwareFileName;
+            java.nio.file.Path pathRelative = Paths.get(targetFwPath);
+
+            String firmwareRelativePath = pathRelative.toString();
+            firmwareRelativePath = firmwareRelativePath.replace('\\', '/');
+
+            outputFirmwareInfo.append(nodeId).append(TAB_SPACE)
+                    .append(fwMngr.getVendorId()).append(TAB_SPACE)
+                    .append(fwMngr.getProductNumber()).append(TAB_SPACE)
+                    .append(fwMngr.getdevRevNumber()).append(TAB_SPACE)
+                    .append(fwMngr.getApplSwDate()).append(TAB_SPACE)
+                    .append(fwMngr.getApplSwTime()).append(TAB_SPACE)
+                    .append(fwMngr.getLocked()).append(TAB_SPACE)
+                    .append(firmwareRelativePath)
+                    .append(IPowerlinkProjectSupport.FIRMWARE_EXTENSION)
+                    .append(NEW_LINE);
+        }
+        try {
+            Files.createDirectories(outputpath);
+            byte[] firmwareInfo = outputFirmwareInfo.toString()
+                    .getBytes(Charset.forName("UTF-8"));
+            if (FirmwareFileUtils.writeIfChanged(targetFilePath,
+                    firmwareInfo)) {
+                buildReport.addBytesWritten(firmwareInfo.length);
+            } else {
+                OpenConfiguratorMessageConsole.getInstance().printInfoMessage(
+                        "Firmware info file is up to date.", networkId);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            IStatus errorStatus = new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                    IStatus.OK, "Output file:" + targetFilePath.toString()
+                            + " is not accessible.",
+                    e);
+            throw new CoreException(errorStatus);
+        }
+    }
+
+    /**
+     * Generates the configuration and process image outputs and updates the
+     * node configuration files with the values from the library.
+     *
+     * @param monitor Monitor instance to update the progress activity.
+     * @throws CoreException If the outputs could not be generated.
+     */
+    public void generateOutputs(final IProgressMonitor monitor)
+            throws CoreException {
+        boolean isRmnAvailable = !rootNode.getRmnNodeList().isEmpty();
+        boolean isFirmwareAvailable = false;
+        for (Node node : rootNode.getCnNodeList()) {
+            if (!node.getNodeFirmwareCollection().isEmpty()) {
+                isFirmwareAvailable = true;
+            }
+        }
+
+        displayInfoMessage(MessageFormat.format(BUILD_START_MESSAGE, networkId));
+
+        final java.nio.file.Path targetPath = getTargetPath(
+                new Path(IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR, true));
+
+        final java.nio.file.Path textPath;
+        final java.nio.file.Path binaryPath;
+        final java.nio.file.Path charPath;
+        final java.nio.file.Path xmlPath;
+        final java.nio.file.Path cPath;
+        final java.nio.file.Path cSharpImagePath;
+
+        if (OpenConfiguratorProjectUtils.isCustomPathAvailable(projectModel)) {
+            textPath = getTargetPath(OpenConfiguratorProjectUtils
+                    .getConfigTextPath(projectModel,
+                            OpenConfiguratorProjectUtils.CUSTOM_CONFIG_PATH[0]));
+            binaryPath = getTargetPath(OpenConfiguratorProjectUtils
+                    .getConfigTextPath(projectModel,
+                            OpenConfiguratorProjectUtils.CUSTOM_CONFIG_PATH[1]));
+            charPath = getTargetPath(OpenConfiguratorProjectUtils
+                    .getConfigTextPath(projectModel,
+                            OpenConfiguratorProjectUtils.CUSTOM_CONFIG_PATH[2]));
+            xmlPath = getTargetPath(OpenConfiguratorProjectUtils
+                    .getConfigTextPath(projectModel,
+                            OpenConfiguratorProjectUtils.CUSTOM_CONFIG_PATH[3]));
+            cPath = getTargetPath(OpenConfiguratorProjectUtils
+                    .getConfigTextPath(projectModel,
+                            OpenConfiguratorProjectUtils.CUSTOM_CONFIG_PATH[4]));
+            cSharpImagePath = getTargetPath(OpenConfiguratorProjectUtils
+                    .getConfigTextPath(projectModel,
+                            OpenConfiguratorProjectUtils.CUSTOM_CONFIG_PATH[5]));
+        } else {
+            textPath = targetPath;
+            binaryPath = targetPath;
+            charPath = targetPath;
+            xmlPath = targetPath;
+            cPath = targetPath;
+            cSharpImagePath = targetPath;
+        }
+
+        Node mnNode = rootNode.getMN();
+
+        BigInteger objectId = new BigInteger(MN_OBJECT_UPDATE_INDEX, 16);
+        PowerlinkObject swVersionObj = mnNode.getObjectDictionary()
+                .getObject(objectId.longValue());
+
+        buildReport.startPhase("MN object update");
+        updateMnObject(swVersionObj, isRmnAvailable, isFirmwareAvailable);
+
+        buildReport.startPhase("CDC generation");
+        boolean buildCdcSuccess = buildConciseDeviceConfiguration(networkId,
+                textPath, binaryPath, charPath, monitor);
+        buildReport.addBytesWritten(
+                BuildReport.getFileSize(textPath.resolve(MN_OBD_TXT))
+                        + BuildReport.getFileSize(binaryPath.resolve(MN_OBD_CDC))
+                        + BuildReport
+                                .getFileSize(charPath.resolve(MN_OBD_CHAR_TXT)));
+        buildReport.endPhase();
+        if (!buildCdcSuccess) {
+            String errorStr = MessageFormat.format(BUILD_FAILED_ERROR_MESSAGE,
+                    networkId);
+            displayErrorMessage(errorStr);
+            System.err.println(errorStr);
+            IStatus errorStatus = new Status(IStatus.ERROR,
+                    Activator.PLUGIN_ID, IStatus.OK, errorStr, null);
+            throw new CoreException(errorStatus);
+        }
+
+        boolean buildPiSuccess = buildProcessImageDescriptions(networkId,
+                xmlPath, cPath, cSharpImagePath, monitor, buildReport);
+        if (!buildPiSuccess) {
+            displayErrorMessage(
+                    MessageFormat.format(BUILD_FAILED_ERROR_MESSAGE, networkId));
+        } else {
+            displayInfoMessage(
+                    MessageFormat.format(BUILD_COMPLETED_MESSAGE, networkId));
+            displayInfoMessage("Generated output files at: ");
+            displayInfoMessage("mnobd.txt:  " + textPath.toString());
+            displayInfoMessage("mnobd.cdc:  " + binaryPath.toString());
+            displayInfoMessage("mnobd_char.txt:  " + charPath.toString());
+            displayInfoMessage("xap.h:  " + cPath.toString());
+            displayInfoMessage("xap.xml:  " + xmlPath.toString());
+            displayInfoMessage(
+                    "ProcessImage.cs:  " + cSharpImagePath.toString());
+        }
+
+        displayInfoMessage(UPDATING_NODE_CONFIGURATION_MESSAGE);
+        persistNodes(monitor);
+        displayInfoMessage(UPDATING_NODE_CONFIGURATION__COMPLETED_MESSAGE);
+    }
+
+    /**
+     * @return The timing and output metrics of the build phases.
+     */
+    public BuildReport getBuildReport() {
+        return buildReport;
+    }
+
+    /**
+     * @return The network ID of the project.
+     */
+    public String getNetworkId() {
+        return networkId;
+    }
+
+    /**
+     * @return The POWERLINK network project.
+     */
+    public IProject getProject() {
+        return project;
+    }
+
+    /**
+     * @return The openCONFIGURATOR project model, <code>null</code> if not
+     *         loaded.
+     */
+    public OpenCONFIGURATORProject getProjectModel() {
+        return projectModel;
+    }
+
+    /**
+     * @return The POWERLINK root node, <code>null</code> if not imported.
+     */
+    public PowerlinkRootNode getRootNode() {
+        return rootNode;
+    }
+
+    /**
+     * Resolves the output path relative to the project location.
+     *
+     * @param opPath The output path.
+     * @return The absolute output path.
+     */
+    public java.nio.file.Path getTargetPath(Path opPath) {
+        final java.nio.file.Path path;
+
+        if (opPath.isLocal()) {
+            path = FileSystems.getDefault().getPath(
+                    project.getLocation().toString(), opPath.getPath());
+        } else {
+            path = FileSystems.getDefault().getPath(opPath.getPath());
+        }
+        return path;
+    }
+
+    /**
+     * Creates the network in the library and imports the project
+     * configuration and all the nodes from the XDC files.
+     *
+     * @param monitor Monitor instance to update the progress activity.
+     * @return Status of the import.
+     */
+    public IStatus importNetwork(IProgressMonitor monitor) {
+        if (projectModel == null) {
+            return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                    MessageFormat.format(PROJECT_FILE_NOT_FOUND_ERROR,
+                            networkId));
+        }
+
+        // Load the network from the snapshot of the previous import, if the
+        // project and the XDC files are unchanged.
+        boolean snapshotLoaded = NetworkSnapshotUtils
+                .loadSnapshot(projectFile, projectModel, networkId);
+        NetworkSnapshot.Capture snapshotCapture = snapshotLoaded ? null
+                : NetworkSnapshotUtils.startCapture(networkId);
+        try {
+            if (!snapshotLoaded) {
+                Result res = OpenConfiguratorCoreProvider.getCore()
+                        .CreateNetwork(networkId);
+                if (!res.IsSuccessful()) {
+                    OpenConfiguratorMessageConsole.getInstance()
+                            .printLibraryErrorMessage(res);
+                    return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                            OpenConfiguratorLibraryUtils.getErrorMessage(res));
+                }
+            }
+            networkOwner = true;
+
+            if (!snapshotLoaded) {
+                Result res = OpenConfiguratorLibraryUtils
+                        .addOpenCONFIGURATORProject(projectModel, networkId);
+                if (!res.IsSuccessful()) {
+                    OpenConfiguratorMessageConsole.getInstance()
+                            .printLibraryErrorMessage(res);
+                    return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                            OpenConfiguratorLibraryUtils.getErrorMessage(res));
+                }
+            }
+
+            rootNode = new PowerlinkRootNode(projectModel);
+            TNetworkConfiguration networkCfg = projectModel
+                    .getNetworkConfiguration();
+            int totalWork = 1 + networkCfg.getNodeCollection().getCN().size()
+                    + networkCfg.getNodeCollection().getRMN().size();
+            monitor.beginTask("Import MN XDD/XDC", totalWork);
+            Status status = rootNode.importNodes(projectFile, networkCfg,
+                    monitor, snapshotLoaded);
+            if ((snapshotCapture != null) && status.isOK()
+                    && !monitor.isCanceled()) {
+                NetworkSnapshotUtils.writeSnapshot(snapshotCapture,
+                        projectFile, projectModel, networkId);
+            }
+            return status;
+        } finally {
+            if (snapshotCapture != null) {
+                snapshotCapture.finish();
+            }
+        }
+    }
+
+    /**
+     * Loads the openCONFIGURATOR project model from the project XML file. The
+     * library is not accessed in this step.
+     *
+     * @return Status of the load.
+     */
+    public IStatus loadProjectModel() {
+        try {
+            project.refreshLocal(IResource.DEPTH_INFINITE,
+                    new NullProgressMonitor());
+            projectFile = findProjectFile(project);
+            if (projectFile == null) {
+                return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                        MessageFormat.format(PROJECT_FILE_NOT_FOUND_ERROR,
+                                networkId));
+            }
+            projectModel = OpenConfiguratorProjectMarshaller
+                    .unmarshallOpenConfiguratorProject(
+                            projectFile.getLocation().toFile());
+        } catch (CoreException e) {
+            return e.getStatus();
+        } catch (JAXBException | SAXException | ParserConfigurationException
+                | IOException e) {
+            e.printStackTrace();
+            return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                    MessageFormat.format(INVALID_PROJECT_FILE_ERROR,
+                            projectFile.getLocation()),
+                    e);
+        }
+
+        if (OpenConfiguratorProjectUtils
+                .upgradeOpenConfiguratorProject(projectModel)) {
+            displayInfoMessage("Project upgraded in memory. Open the project"
+                    + " in the editor to save the upgraded version.");
+        }
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Persist the data from the library in the XDC and the project files.
+     *
+     * @param monitor The progress monitor instance.
+     * @throws CoreException If the node configuration files could not be
+     *             updated.
+     */
+    private void persistNodes(IProgressMonitor monitor) throws CoreException {
+        monitor.beginTask("Save XDC configurations", rootNode.getNodeCount());
+        Map<Node, Long> persistDurations = new LinkedHashMap<>();
+        Map<Node, Long> persistLibraryCalls = new LinkedHashMap<>();
+        try {
+            Result res = rootNode.persistNodes(monitor, persistDurations,
+                    persistLibraryCalls);
+            if (!res.IsSuccessful()) {
+                String errorMessage = OpenConfiguratorLibraryUtils
+                        .getErrorMessage(res);
+                displayErrorMessage(
+                        UPDATING_NODE_CONFIGURATION__ERROR_MESSAGE
+                                + errorMessage);
+                IStatus errorStatus = new Status(IStatus.ERROR,
+                        Activator.PLUGIN_ID, IStatus.OK, errorMessage, null);
+                throw new CoreException(errorStatus);
+            }
+        } catch (JDOMException | IOException e) {
+            e.printStackTrace();
+            displayErrorMessage(
+                    UPDATING_NODE_CONFIGURATION__ERROR_MESSAGE + e.getMessage());
+            IStatus errorStatus = new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                    IStatus.OK, "Error while saving the XDC", e);
+            throw new CoreException(errorStatus);
+        } finally {
+            for (Map.Entry<Node, Long> entry : persistDurations.entrySet()) {
+                Node node = entry.getKey();
+                Long libraryCalls = persistLibraryCalls.get(node);
+                buildReport.addPhase(
+                        "Persist node " + node.getNodeIDWithName(),
+                        entry.getValue().longValue(),
+                        BuildReport.getFileSize(
+                                Paths.get(node.getAbsolutePathToXdc())),
+                        (libraryCalls != null) ? libraryCalls.longValue()
+                                : -1);
+            }
+        }
+    }
+
+    /**
+     * Synchronizes the firmware output directory with the latest firmware
+     * files of the nodes and modules. Firmware files with identical content
+     * are kept, changed files are replaced and stale files are deleted.
+     */
+    private void syncFirmwareFiles() {
+        java.nio.file.Path projectRootPath = project.getLocation().toFile()
+                .toPath();
+        java.nio.file.Path firmwareDirectory = projectRootPath
+                .resolve(IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR)
+                .resolve(IPowerlinkProjectSupport.FIRMWARE_OUTPUT_DIRECTORY);
+
+        Set<String> firmwareFileNames = new HashSet<>();
+        int updatedFiles = 0;
+        for (FirmwareManager firmwareMngr : fwList) {
+            String newFirmwareFileName = firmwareMngr.getNewFirmwareFileName()
+                    + IPowerlinkProjectSupport.FIRMWARE_EXTENSION;
+            if (!firmwareFileNames.add(newFirmwareFileName)) {
+                continue;
+            }
+
+            java.nio.file.Path sourceFile = projectRootPath
+                    .resolve(firmwareMngr.getFirmwareConfigPath());
+            java.nio.file.Path targetFile = firmwareDirectory
+                    .resolve(newFirmwareFileName);
+            try {
+                Files.createDirectories(firmwareDirectory);
+                long offset = 0;
+                if (!firmwareMngr.isKeepXmlHeader()) {
+                    offset = FirmwareFileUtils.getXmlHeaderLength(sourceFile);
+                }
+                if (FirmwareFileUtils.syncFile(sourceFile, offset,
+                        targetFile)) {
+                    updatedFiles++;
+                    buildReport.addBytesWritten(
+                            BuildReport.getFileSize(targetFile));
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                displayErrorMessage("Failed to update the firmware file "
+                        + newFirmwareFileName + ". " + e.getMessage());
+            }
+        }
+
+        if (Files.isDirectory(firmwareDirectory)) {
+            try (DirectoryStream<java.nio.file.Path> outputFiles = Files
+                    .newDirectoryStream(firmwareDirectory)) {
+                for (java.nio.file.Path outputFile : outputFiles) {
+                    if (!firmwareFileNames
+                            .contains(outputFile.getFileName().toString())) {
+                        Files.deleteIfExists(outputFile);
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        OpenConfiguratorMessageConsole.getInstance()
+                .printInfoMessage("Firmware files updated: " + updatedFiles
+                        + "/" + firmwareFileNames.size(), networkId);
+    }
+
+    /**
+     * Collects the latest firmware file for every device revision of the
+     * nodes and modules.
+     */
+    private void updateFirmwareDevRevList() {
+        fwList.clear();
+        ArrayList<Node> cnNodes = rootNode.getCnNodeList();
+        for (Node cnNode : cnNodes) {
+            Map<String, FirmwareManager> nodeDevRevisionList = new HashMap<>();
+            Map<String, FirmwareManager> moduleDevRevisionList = new HashMap<>();
+            if (cnNode.getNodeFirmwareCollection() != null) {
+                for (FirmwareManager fwManager : cnNode
+                        .getNodeFirmwareCollection().keySet()) {
+                    nodeDevRevisionList.put(fwManager.getdevRevNumber(),
+                            fwManager);
+
+                    for (FirmwareManager fwMan : nodeDevRevisionList
+                            .values()) {
+                        if (fwMan.getNodeIdofFirmware()
+                                .equalsIgnoreCase(String.valueOf(
+                                        cnNode.getCnNodeIdValue()))) {
+                            if (fwMan.getFirmwarefileVersion() < fwManager
+                                    .getFirmwarefileVersion()) {
+                                nodeDevRevisionList.put(
+                                        fwManager.getdevRevNumber(),
+                                        fwManager);
+                            }
+                        }
+                    }
+                }
+            } else {
+                System.err.println("Firmware list not available for node!");
+            }
+            if (cnNode.getInterface() != null) {
+                for (Module module : cnNode.getInterface().getModuleCollection()
+                        .values()) {
+                    for (FirmwareManager fwManager : module
+                            .getModuleFirmwareCollection().keySet()) {
+                        moduleDevRevisionList.put(fwManager.getdevRevNumber(),
+                                fwManager);
+                        for (FirmwareManager fwMan : moduleDevRevisionList
+                                .values()) {
+                            if (fwMan.getModule().getPosition() == module
+                                    .getPosition()) {
+                                if (fwMan.getFirmwarefileVersion() < fwManager
+                                        .getFirmwarefileVersion()) {
+                                    moduleDevRevisionList.put(
+                                            fwManager.getdevRevNumber(),
+                                            fwManager);
+                                }
+                            }
+                        }
+                    }
+                    fwList.addAll(moduleDevRevisionList.values());
+                }
+            }
+            fwList.addAll(nodeDevRevisionList.values());
+        }
+    }
+
+    /**
+     * Writes the build report next to the outputs and prints the phase
+     * summary in the console.
+     */
+    public void writeBuildReport() {
+        buildReport.endPhase();
+        for (String line : buildReport.getSummary()) {
+            displayInfoMessage(line);
+        }
+        try {
+            java.nio.file.Path outputPath = getTargetPath(
+                    new Path(IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR, true));
+            java.nio.file.Path reportFile = buildReport.write(outputPath);
+            displayInfoMessage("Build report:  " + reportFile.toString());
+        } catch (IOException e) {
+            e.printStackTrace();
+            displayErrorMessage(
+                    "Failed to write the build report. " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * @file   CoreStatisticsHandler.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.console;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
+import org.epsg.openconfigurator.resources.IOpenConfiguratorResource;
+
+/**
+ * Prints the statistics of the configuration core calls in the console and
+ * writes them into the dump file of the workspace.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class CoreStatisticsHandler extends AbstractHandler {
+
+    private static final String CORE_STATISTICS = "Core statistics";
+
+    private static final String STATISTICS_DISABLED_MESSAGE = "Core statistics are disabled.";
+
+    private static final String STATISTICS_WRITTEN_MESSAGE = "Core statistics written to ";
+
+    private static final String STATISTICS_WRITE_ERROR = "Failed to write the core statistics. ";
+
+    /**
+     * Writes the statistics of the core calls into the dump file of the
+     * workspace.
+     *
+     * @return The path of the dump file.
+     * @throws IOException Errors with writing the dump file.
+     */
+    public static Path writeCoreStatistics() throws IOException {
+        Path dumpFile = Paths.get(ResourcesPlugin.getWorkspace().getRoot()
+                .getLocation().toString()
+                + IOpenConfiguratorResource.CORE_STATISTICS_FILE_PATH);
+        OpenConfiguratorCoreProvider.getStatistics().write(dumpFile);
+        return dumpFile;
+    }
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        OpenConfiguratorMessageConsole console = OpenConfiguratorMessageConsole
+                .getInstance();
+        if (!OpenConfiguratorCoreProvider.isStatisticsEnabled()) {
+            console.printInfoMessage(STATISTICS_DISABLED_MESSAGE,
+                    CORE_STATISTICS);
+            return null;
+        }
+
+        for (String line : OpenConfiguratorCoreProvider.getStatistics()
+                .getSummary()) {
+            console.printInfoMessage(line, CORE_STATISTICS);
+        }
+        try {
+            Path dumpFile = writeCoreStatistics();
+            console.printInfoMessage(
+                    STATISTICS_WRITTEN_MESSAGE + dumpFile.toString(),
+                    CORE_STATISTICS);
+        } catch (IOException e) {
+            e.printStackTrace();
+            console.printErrorMessage(STATISTICS_WRITE_ERROR + e.getMessage(),
+                    CORE_STATISTICS);
+        }
+        return null;
+    }
+}
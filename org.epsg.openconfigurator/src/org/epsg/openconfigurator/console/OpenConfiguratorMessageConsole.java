@@ -38,6 +38,7 @@ import java.util.Date;
 
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.console.ConsolePlugin;
 import org.eclipse.ui.console.IConsole;
 import org.eclipse.ui.console.IConsoleManager;
@@ -105,6 +106,18 @@ public class OpenConfiguratorMessageConsole {
         return console;
     }
 
+    /**
+     * Checks whether the messages have to be written to the standard streams
+     * instead of the console view. This is the case for headless builds where
+     * no workbench is available.
+     *
+     * @return <code>True</code> if the workbench is not running,
+     *         <code>False</code> otherwise.
+     */
+    public static boolean isHeadless() {
+        return !PlatformUI.isWorkbenchRunning();
+    }
+
     /**
      * List of available console streams
      */
@@ -175,6 +188,10 @@ public class OpenConfiguratorMessageConsole {
             final String projectName) {
         String fullMessage = "[" + getCurrentTime() + "] [ERROR] " + "["
                 + projectName + "] " + message;
+        if (isHeadless()) {
+            System.err.println(fullMessage);
+            return;
+        }
         @SuppressWarnings("resource")
         MessageConsoleStream out = getErrorMessageStream();
         out.println(fullMessage);
@@ -191,6 +208,10 @@ public class OpenConfiguratorMessageConsole {
             final String projectName) {
         String fullMessage = "[" + getCurrentTime() + "] [INFO] " + "["
                 + projectName + "] " + message;
+        if (isHeadless()) {
+            System.out.println(fullMessage);
+            return;
+        }
         @SuppressWarnings("resource")
         MessageConsoleStream out = getInfoMessageStream();
         out.println(fullMessage);
@@ -198,20 +219,24 @@ public class OpenConfiguratorMessageConsole {
     }
 
     /**
-     * Displays the given library message in the error console.
+     * Displays the given library message in the error console. The message is
+     * displayed asynchronously, so that the core thread does not wait for the
+     * UI thread, which may wait for the core.
      *
      * @param res The result from openCONFIGURATOR library.
      */
     public void printLibraryErrorMessage(final Result res) {
+        final String fullMessage = "[" + getCurrentTime() + "] [ERROR] "
+                + OpenConfiguratorLibraryUtils.getErrorMessage(res);
+        if (isHeadless()) {
+            System.err.println(fullMessage);
+            return;
+        }
 
-        Display.getDefault().syncExec(new Runnable() {
+        Display.getDefault().asyncExec(new Runnable() {
 
             @Override
             public void run() {
-                String message = OpenConfiguratorLibraryUtils
-                        .getErrorMessage(res);
-                String fullMessage = "[" + getCurrentTime() + "] [ERROR] "
-                        + message;
                 @SuppressWarnings("resource")
                 MessageConsoleStream out = getErrorMessageStream();
                 out.println(fullMessage);
@@ -220,12 +245,17 @@ public class OpenConfiguratorMessageConsole {
     }
 
     /**
-     * Prints the error / info / warn messages from the library.
+     * Prints the error / info / warn messages from the library. The message
+     * is displayed asynchronously.
      *
      * @param message The message to be updated.
      */
     public void printLibraryMessage(final String message) {
-        Display.getDefault().syncExec(new Runnable() {
+        if (isHeadless()) {
+            System.out.println(message);
+            return;
+        }
+        Display.getDefault().asyncExec(new Runnable() {
 
             @Override
             public void run() {
@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * @file   CoreCallStatistics.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.core;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects the number of calls, the number of failed calls and the latency of
+ * every method of the configuration core.
+ *
+ * The latencies are recorded in a fixed size histogram with four buckets per
+ * power of two, so that recording a call neither allocates nor locks and the
+ * percentiles are accurate within 25%. The calls are also counted per network,
+ * so that the calls of a build are not mixed with the calls of the other
+ * networks.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class CoreCallStatistics {
+
+    /**
+     * Statistics of a single method of the core.
+     */
+    public static final class MethodStatistics {
+        private final String name;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(
+                NR_OF_BUCKETS);
+
+        MethodStatistics(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return The number of calls.
+         */
+        public long getCalls() {
+            return calls.get();
+        }
+
+        /**
+         * @return The number of calls which were not successful.
+         */
+        public long getFailures() {
+            return failures.get();
+        }
+
+        /**
+         * @return The longest call in nanoseconds.
+         */
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        /**
+         * @return The name of the method.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the latency below which the given percentage of the calls
+         * completed.
+         *
+         * @param percentile The percentile in the range 0 to 100.
+         * @return The latency in nanoseconds.
+         */
+        public long getPercentileNanos(double percentile) {
+            long[] counts = new long[NR_OF_BUCKETS];
+            long total = 0;
+            for (int i = 0; i < NR_OF_BUCKETS; i++) {
+                counts[i] = histogram.get(i);
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil((percentile / 100.0) * total);
+            long count = 0;
+            for (int i = 0; i < NR_OF_BUCKETS; i++) {
+                count += counts[i];
+                if ((count >= rank) && (counts[i] > 0)) {
+                    return Math.min(getBucketUpperBound(i), getMaxNanos());
+                }
+            }
+            return getMaxNanos();
+        }
+
+        /**
+         * @return The sum of the duration of all calls in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+
+        void record(long nanos, boolean failed) {
+            calls.incrementAndGet();
+            if (failed) {
+                failures.incrementAndGet();
+            }
+            totalNanos.addAndGet(nanos);
+            histogram.incrementAndGet(getBucketIndex(nanos));
+            long max = maxNanos.get();
+            while ((nanos > max) && !maxNanos.compareAndSet(max, nanos)) {
+                max = maxNanos.get();
+            }
+        }
+    }
+
+    /**
+     * Number of sub-buckets per power of two in bits.
+     */
+    private static final int SUB_BUCKET_BITS = 2;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int NR_OF_BUCKETS = 64 * SUB_BUCKETS;
+
+    private static final String LINE_SEPARATOR = System
+            .getProperty("line.separator"); //$NON-NLS-1$
+
+    private static int getBucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(nanos, 0);
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (msb - SUB_BUCKET_BITS))
+                & (SUB_BUCKETS - 1);
+        return ((msb - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    private static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = index & (SUB_BUCKETS - 1);
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", //$NON-NLS-1$
+                nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private final ConcurrentMap<String, MethodStatistics> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Number of all the recorded calls, not cleared by {@link #reset()}.
+     */
+    private final AtomicLong totalCalls = new AtomicLong();
+
+    /**
+     * Number of the recorded calls of each network, not cleared by
+     * {@link #reset()}.
+     */
+    private final ConcurrentMap<String, AtomicLong> networkCalls = new ConcurrentHashMap<>();
+
+    private volatile long startTime = System.currentTimeMillis();
+
+    /**
+     * @return The statistics of all the called methods sorted by the total
+     *         duration of the calls.
+     */
+    public List<MethodStatistics> getMethodStatistics() {
+        List<MethodStatistics> statistics = new ArrayList<>(methods.values());
+        Collections.sort(statistics, new Comparator<MethodStatistics>() {
+            @Override
+            public int compare(MethodStatistics first,
+                    MethodStatistics second) {
+                return Long.compare(second.getTotalNanos(),
+                        first.getTotalNanos());
+            }
+        });
+        return statistics;
+    }
+
+    /**
+     * Returns the number of the calls of the network recorded since the
+     * start. The number is not cleared by {@link #reset()}.
+     *
+     * @param networkId The network ID.
+     * @return The number of calls of the network.
+     */
+    public long getNetworkCalls(String networkId) {
+        AtomicLong calls = networkCalls.get(networkId);
+        return (calls == null) ? 0 : calls.get();
+    }
+
+    /**
+     * @return The lines of the statistics summary for the console.
+     */
+    public List<String> getSummary() {
+        List<String> summary = new ArrayList<>();
+        long calls = 0;
+        long failures = 0;
+        long totalNanos = 0;
+        for (MethodStatistics statistics : getMethodStatistics()) {
+            calls += statistics.getCalls();
+            failures += statistics.getFailures();
+            totalNanos += statistics.getTotalNanos();
+            summary.add(String.format(Locale.ROOT,
+                    "%s: %d calls, %d failed, total %s ms, p50 %s ms, p90 %s ms, p99 %s ms, max %s ms", //$NON-NLS-1$
+                    statistics.getName(), statistics.getCalls(),
+                    statistics.getFailures(),
+                    toMillis(statistics.getTotalNanos()),
+                    toMillis(statistics.getPercentileNanos(50)),
+                    toMillis(statistics.getPercentileNanos(90)),
+                    toMillis(statistics.getPercentileNanos(99)),
+                    toMillis(statistics.getMaxNanos())));
+        }
+        summary.add(String.format(Locale.ROOT,
+                "Total: %d calls, %d failed, %s ms since %tF %<tT", calls, //$NON-NLS-1$
+                failures, toMillis(totalNanos), startTime));
+        return summary;
+    }
+
+    /**
+     * Returns the number of all the calls recorded since the start. The
+     * number is not cleared by {@link #reset()}, so that the calls of a
+     * period are the difference of the numbers at its start and its end.
+     *
+     * @return The number of calls.
+     */
+    public long getTotalCalls() {
+        return totalCalls.get();
+    }
+
+    /**
+     * Records a call of the core.
+     *
+     * @param method Name of the method.
+     * @param nanos Duration of the call in nanoseconds.
+     * @param failed <code>True</code> if the call was not successful.
+     */
+    public void record(String method, long nanos, boolean failed) {
+        MethodStatistics statistics = methods.get(method);
+        if (statistics == null) {
+            statistics = new MethodStatistics(method);
+            MethodStatistics existing = methods.putIfAbsent(method,
+                    statistics);
+            if (existing != null) {
+                statistics = existing;
+            }
+        }
+        statistics.record(nanos, failed);
+        totalCalls.incrementAndGet();
+    }
+
+    /**
+     * Records a call of the core for the network.
+     *
+     * @param method Name of the method.
+     * @param networkId The network ID of the call, <code>null</code> if the
+     *            call is not made for a network.
+     * @param nanos Duration of the call in nanoseconds.
+     * @param failed <code>True</code> if the call was not successful.
+     */
+    public void record(String method, String networkId, long nanos,
+            boolean failed) {
+        record(method, nanos, failed);
+        if (networkId == null) {
+            return;
+        }
+        AtomicLong calls = networkCalls.get(networkId);
+        if (calls == null) {
+            calls = new AtomicLong();
+            AtomicLong existing = networkCalls.putIfAbsent(networkId, calls);
+            if (existing != null) {
+                calls = existing;
+            }
+        }
+        calls.incrementAndGet();
+    }
+
+    /**
+     * Clears the statistics of all the methods.
+     */
+    public void reset() {
+        methods.clear();
+        startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Writes the statistics summary into the given file.
+     *
+     * @param file The dump file.
+     * @throws IOException Errors with writing the file.
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String line : getSummary()) {
+            sb.append(line).append(LINE_SEPARATOR);
+        }
+        Files.write(file, sb.toString().getBytes(Charset.forName("UTF-8"))); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * @file   CoreExecutor.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Executor which runs all the calls of the configuration core in a single
+ * dedicated thread.
+ *
+ * The calls of the UI thread, the jobs and the builder are queued and run one
+ * after the other, so that they cannot interleave in the core. The
+ * synchronous calls through {@link #serialize(IOpenConfiguratorCore)} wait for
+ * their result. The UI submits the tasks with {@link #submit(Callable)} and
+ * applies the result in a callback of the returned {@link CoreFuture}.
+ *
+ * The submitted tasks should only call the core; waiting for other threads in
+ * a task blocks every caller of the core.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class CoreExecutor {
+
+    /**
+     * Invocation handler which runs the calls of the core in the executor.
+     */
+    private final class SerializingHandler implements InvocationHandler {
+
+        private final IOpenConfiguratorCore core;
+
+        SerializingHandler(IOpenConfiguratorCore core) {
+            this.core = core;
+        }
+
+        @Override
+        public Object invoke(Object proxy, final Method method,
+                final Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeCore(method, args);
+            }
+            return call(new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    return invokeCore(method, args);
+                }
+            });
+        }
+
+        private Object invokeCore(Method method, Object[] args)
+                throws Exception {
+            try {
+                return method.invoke(core, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                throw (Error) cause;
+            }
+        }
+    }
+
+    private static final String THREAD_NAME = "openCONFIGURATOR core"; //$NON-NLS-1$
+
+    private final ExecutorService executor;
+
+    private volatile Thread coreThread;
+
+    /**
+     * Creates the executor. The thread is started with the first task.
+     */
+    public CoreExecutor() {
+        executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, THREAD_NAME);
+                thread.setDaemon(true);
+                coreThread = thread;
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Runs the task in the core thread and waits for the result. The task is
+     * run directly if called from the core thread.
+     *
+     * An interrupt of the waiting thread does not abort the call, so that the
+     * caller always gets the result of a task which has changed the core. The
+     * interrupt status is restored after the call.
+     *
+     * @param task The task to be run.
+     * @return The result of the task.
+     * @throws Exception The exception thrown by the task.
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        if (isCoreThread()) {
+            return task.call();
+        }
+
+        CoreFuture<T> future = submit(task);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof Exception) {
+                        throw (Exception) cause;
+                    }
+                    throw (Error) cause;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return <code>True</code> if the current thread is the core thread,
+     *         <code>False</code> otherwise.
+     */
+    public boolean isCoreThread() {
+        return Thread.currentThread() == coreThread;
+    }
+
+    /**
+     * Creates a facade of the core which runs all calls in the core thread.
+     *
+     * @param core The configuration core.
+     * @return The facade of the core.
+     */
+    public IOpenConfiguratorCore serialize(IOpenConfiguratorCore core) {
+        return (IOpenConfiguratorCore) Proxy.newProxyInstance(
+                IOpenConfiguratorCore.class.getClassLoader(),
+                new Class<?>[] { IOpenConfiguratorCore.class },
+                new SerializingHandler(core));
+    }
+
+    /**
+     * Stops the core thread after the queued tasks. The later tasks are run
+     * in the calling thread.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Queues the task to be run in the core thread. The task is run directly
+     * if submitted from the core thread or after the shutdown.
+     *
+     * @param task The task to be run.
+     * @return The future result of the task.
+     */
+    public <T> CoreFuture<T> submit(Callable<T> task) {
+        CoreFuture<T> future = new CoreFuture<>(task);
+        if (isCoreThread() || executor.isShutdown()) {
+            future.run();
+        } else {
+            executor.execute(future);
+        }
+        return future;
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * @file   CoreFuture.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Result of a task submitted to the {@link CoreExecutor} or another background
+ * queue, which notifies the registered callbacks when the task is completed.
+ *
+ * @param <T> The result type of the task.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class CoreFuture<T> extends FutureTask<T> {
+
+    private final List<Runnable> listeners = new ArrayList<>();
+
+    private boolean completed;
+
+    /**
+     * @param task The task to be run.
+     */
+    public CoreFuture(Callable<T> task) {
+        super(task);
+    }
+
+    /**
+     * Registers a callback to be run with the given executor when the task is
+     * completed. The callback is run immediately with the executor if the task
+     * is already completed.
+     *
+     * @param callback The callback of the task.
+     * @param executor The executor to run the callback, for example the one
+     *            of the UI thread.
+     */
+    public void addCallback(final ICoreCallback<? super T> callback,
+            final Executor executor) {
+        Runnable listener = new Runnable() {
+            @Override
+            public void run() {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        notifyCallback(callback);
+                    }
+                });
+            }
+        };
+
+        synchronized (listeners) {
+            if (!completed) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    @Override
+    protected void done() {
+        List<Runnable> completedListeners;
+        synchronized (listeners) {
+            completed = true;
+            completedListeners = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+        for (Runnable listener : completedListeners) {
+            listener.run();
+        }
+    }
+
+    private void notifyCallback(ICoreCallback<? super T> callback) {
+        T result;
+        try {
+            result = get();
+        } catch (ExecutionException e) {
+            callback.failed(e.getCause());
+            return;
+        } catch (InterruptedException | CancellationException e) {
+            callback.failed(e);
+            return;
+        }
+        callback.completed(result);
+    }
+}
@@ -0,0 +1,427 @@
+/*******************************************************************************
+ * @file   CoreTrace.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.core;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.epsg.openconfigurator.lib.wrapper.AccessType;
+import org.epsg.openconfigurator.lib.wrapper.ObjectType;
+import org.epsg.openconfigurator.lib.wrapper.PDOMapping;
+import org.epsg.openconfigurator.lib.wrapper.PlkDataType;
+
+/**
+ * Binary trace format of the configuration core calls.
+ *
+ * The trace starts with the magic number, the format version and the
+ * signatures of the traced methods. Each call is stored as the method number,
+ * the arguments, the duration and the success of the call. Strings are
+ * written once and referenced by their number afterwards, numbers are written
+ * as variable length integers, so that the network and the node IDs repeated
+ * in every call take one or two bytes.
+ *
+ * @see RecordingOpenConfiguratorCore
+ * @see CoreTraceReplayer
+ *
+ * @author Ramakrishnan P
+ *
+ */
+final class CoreTrace {
+
+    /**
+     * Reads the strings and the numbers of a trace.
+     */
+    static final class Reader {
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        boolean readBoolean() throws IOException {
+            return in.readBoolean();
+        }
+
+        int readByte() throws IOException {
+            return in.read();
+        }
+
+        String readString() throws IOException {
+            int index = (int) readVarLong();
+            if (index == 0) {
+                return null;
+            }
+            if (index > strings.size()) {
+                String value = in.readUTF();
+                strings.add(value);
+                return value;
+            }
+            return strings.get(index - 1);
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        long readZigZag() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    /**
+     * Writes the strings and the numbers of a trace.
+     */
+    static final class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeBoolean(boolean value) throws IOException {
+            out.writeBoolean(value);
+        }
+
+        void writeByte(int value) throws IOException {
+            out.write(value);
+        }
+
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarLong(index);
+                return;
+            }
+            index = strings.size() + 1;
+            strings.put(value, index);
+            writeVarLong(index);
+            out.writeUTF(value);
+        }
+
+        void writeVarLong(long value) throws IOException {
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                out.write((int) ((remaining & 0x7F) | 0x80));
+                remaining >>>= 7;
+            }
+            out.write((int) remaining);
+        }
+
+        void writeZigZag(long value) throws IOException {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+    }
+
+    static final int MAGIC = 0x4F435452; // OCTR
+
+    static final int VERSION = 1;
+
+    /**
+     * Element types of the collection arguments.
+     */
+    static final int TYPE_NULL = 0;
+    static final int TYPE_STRING = 1;
+    static final int TYPE_SHORT = 2;
+    static final int TYPE_INTEGER = 3;
+    static final int TYPE_LONG = 4;
+
+    private static Object getEnumConstant(Class<?> type, String name)
+            throws IOException {
+        if (name == null) {
+            return null;
+        }
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new IOException("Unknown constant " + name + " of " //$NON-NLS-1$
+                + type.getSimpleName());
+    }
+
+    /**
+     * @return The methods of the core in a stable order.
+     */
+    static List<Method> getMethods() {
+        List<Method> methods = new ArrayList<>(
+                Arrays.asList(IOpenConfiguratorCore.class.getMethods()));
+        Collections.sort(methods, new Comparator<Method>() {
+            @Override
+            public int compare(Method first, Method second) {
+                return getSignature(first).compareTo(getSignature(second));
+            }
+        });
+        return methods;
+    }
+
+    /**
+     * @return The signature of the method used to match the methods of the
+     *         trace with the methods of the core.
+     */
+    static String getSignature(Method method) {
+        StringBuilder sb = new StringBuilder(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(parameterTypes[i].getSimpleName());
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Reads an argument of the given type.
+     */
+    static Object readArgument(Reader reader, Class<?> type)
+            throws IOException {
+        if (type == String.class) {
+            return reader.readString();
+        } else if (type == short.class) {
+            return (short) reader.readZigZag();
+        } else if (type == int.class) {
+            return (int) reader.readZigZag();
+        } else if (type == long.class) {
+            return reader.readZigZag();
+        } else if (type == boolean.class) {
+            return reader.readBoolean();
+        } else if (type.isEnum()) {
+            return getEnumConstant(type, reader.readString());
+        } else if (type == ObjectDictionaryBatch.class) {
+            return readBatch(reader);
+        } else if (type.isArray()) {
+            return Array.newInstance(type.getComponentType(),
+                    (int) reader.readVarLong());
+        } else if (type == List.class) {
+            int size = (int) reader.readVarLong();
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readElement(reader));
+            }
+            return list;
+        } else if (type == Map.class) {
+            int size = (int) reader.readVarLong();
+            Map<Map.Entry<Long, Integer>, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                Long key = reader.readZigZag();
+                Integer subKey = (int) reader.readZigZag();
+                map.put(new AbstractMap.SimpleEntry<Long, Integer>(key, subKey),
+                        reader.readString());
+            }
+            return map;
+        }
+        throw new IOException(
+                "Unsupported argument type " + type.getName()); //$NON-NLS-1$
+    }
+
+    private static ObjectDictionaryBatch readBatch(Reader reader)
+            throws IOException {
+        int size = (int) reader.readVarLong();
+        ObjectDictionaryBatch batch = new ObjectDictionaryBatch(size);
+        for (int i = 0; i < size; i++) {
+            long objectId = reader.readZigZag();
+            short subObjectId = (short) reader.readZigZag();
+            ObjectType objectType = (ObjectType) getEnumConstant(
+                    ObjectType.class, reader.readString());
+            String name = reader.readString();
+            PlkDataType dataType = (PlkDataType) getEnumConstant(
+                    PlkDataType.class, reader.readString());
+            AccessType accessType = (AccessType) getEnumConstant(
+                    AccessType.class, reader.readString());
+            PDOMapping pdoMapping = (PDOMapping) getEnumConstant(
+                    PDOMapping.class, reader.readString());
+            batch.add(objectId, subObjectId, objectType, name, dataType,
+                    accessType, pdoMapping, reader.readString(),
+                    reader.readString(), reader.readString(),
+                    reader.readString(), reader.readString());
+        }
+        return batch;
+    }
+
+    private static Object readElement(Reader reader) throws IOException {
+        int elementType = reader.readByte();
+        switch (elementType) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return reader.readString();
+            case TYPE_SHORT:
+                return (short) reader.readZigZag();
+            case TYPE_INTEGER:
+                return (int) reader.readZigZag();
+            case TYPE_LONG:
+                return reader.readZigZag();
+            default:
+                throw new IOException(
+                        "Unsupported element type " + elementType); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Writes an argument of the given type. The contents of the arrays are
+     * not written as they only carry the values returned by the core.
+     */
+    static void writeArgument(Writer writer, Class<?> type, Object value)
+            throws IOException {
+        if (type == String.class) {
+            writer.writeString((String) value);
+        } else if ((type == short.class) || (type == int.class)
+                || (type == long.class)) {
+            writer.writeZigZag(((Number) value).longValue());
+        } else if (type == boolean.class) {
+            writer.writeBoolean(((Boolean) value).booleanValue());
+        } else if (type.isEnum()) {
+            writeEnum(writer, (Enum<?>) value);
+        } else if (type == ObjectDictionaryBatch.class) {
+            writeBatch(writer, (ObjectDictionaryBatch) value);
+        } else if (type.isArray()) {
+            writer.writeVarLong(Array.getLength(value));
+        } else if (type == List.class) {
+            List<?> list = (List<?>) value;
+            writer.writeVarLong(list.size());
+            for (Object element : list) {
+                writeElement(writer, element);
+            }
+        } else if (type == Map.class) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writer.writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Map.Entry<?, ?> key = (Map.Entry<?, ?>) entry.getKey();
+                writer.writeZigZag(((Number) key.getKey()).longValue());
+                writer.writeZigZag(((Number) key.getValue()).longValue());
+                writer.writeString((String) entry.getValue());
+            }
+        } else {
+            throw new IOException(
+                    "Unsupported argument type " + type.getName()); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Writes the header of the trace.
+     *
+     * @return The numbers of the methods in the trace.
+     */
+    static Map<Method, Integer> writeHeader(DataOutputStream out,
+            Writer writer) throws IOException {
+        List<Method> methods = getMethods();
+        out.writeInt(MAGIC);
+        writer.writeVarLong(VERSION);
+        writer.writeVarLong(methods.size());
+        Map<Method, Integer> methodNumbers = new HashMap<>();
+        for (int i = 0; i < methods.size(); i++) {
+            Method method = methods.get(i);
+            methodNumbers.put(method, i);
+            out.writeUTF(getSignature(method));
+        }
+        return methodNumbers;
+    }
+
+    private static void writeBatch(Writer writer, ObjectDictionaryBatch batch)
+            throws IOException {
+        writer.writeVarLong(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            writer.writeZigZag(batch.getObjectId(i));
+            writer.writeZigZag(batch.getSubObjectId(i));
+            writeEnum(writer, batch.getObjectType(i));
+            writer.writeString(batch.getName(i));
+            writeEnum(writer, batch.getDataType(i));
+            writeEnum(writer, batch.getAccessType(i));
+            writeEnum(writer, batch.getPdoMapping(i));
+            writer.writeString(batch.getUniqueIdRef(i));
+            writer.writeString(batch.getDefaultValue(i));
+            writer.writeString(batch.getActualValue(i));
+            writer.writeString(batch.getLowLimit(i));
+            writer.writeString(batch.getHighLimit(i));
+        }
+    }
+
+    private static void writeElement(Writer writer, Object element)
+            throws IOException {
+        if (element == null) {
+            writer.writeByte(TYPE_NULL);
+        } else if (element instanceof String) {
+            writer.writeByte(TYPE_STRING);
+            writer.writeString((String) element);
+        } else if (element instanceof Short) {
+            writer.writeByte(TYPE_SHORT);
+            writer.writeZigZag((Short) element);
+        } else if (element instanceof Integer) {
+            writer.writeByte(TYPE_INTEGER);
+            writer.writeZigZag((Integer) element);
+        } else if (element instanceof Long) {
+            writer.writeByte(TYPE_LONG);
+            writer.writeZigZag((Long) element);
+        } else {
+            throw new IOException("Unsupported element type " //$NON-NLS-1$
+                    + element.getClass().getName());
+        }
+    }
+
+    private static void writeEnum(Writer writer, Enum<?> value)
+            throws IOException {
+        writer.writeString((value != null) ? value.name() : null);
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private CoreTrace() {
+    }
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * @file   CoreTraceReplayer.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.core;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.epsg.openconfigurator.lib.wrapper.Result;
+
+/**
+ * Replays a trace written by the {@link RecordingOpenConfiguratorCore} against
+ * a configuration core.
+ *
+ * The replay re-issues the recorded calls in the recorded order and compares
+ * the success of each call with the recording. With the in-memory core a slow
+ * session can be reproduced and measured without the native libraries and
+ * without the original project files.
+ *
+ * Usage: <code>java -Dorg.epsg.openconfigurator.core=memory
+ * org.epsg.openconfigurator.core.CoreTraceReplayer &lt;trace file&gt;</code>
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class CoreTraceReplayer {
+
+    private static final String USAGE = "Usage: CoreTraceReplayer <trace file>"; //$NON-NLS-1$
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", //$NON-NLS-1$
+                nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Replays the given trace with the core selected by the
+     * {@link OpenConfiguratorCoreProvider} and prints the statistics of the
+     * replayed calls.
+     *
+     * @param args The path of the trace file.
+     * @throws IOException Errors with reading the trace file.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        CoreTraceReplayer replayer = new CoreTraceReplayer(
+                OpenConfiguratorCoreProvider.getCore());
+        replayer.replay(Paths.get(args[0]));
+
+        System.out.println("Replayed " + replayer.getCalls() + " calls in " //$NON-NLS-1$ //$NON-NLS-2$
+                + toMillis(replayer.getReplayedNanos()) + " ms, recorded " //$NON-NLS-1$
+                + toMillis(replayer.getRecordedNanos()) + " ms, " //$NON-NLS-1$
+                + replayer.getMismatches() + " results differ"); //$NON-NLS-1$
+        for (String line : OpenConfiguratorCoreProvider.getStatistics()
+                .getSummary()) {
+            System.out.println(line);
+        }
+    }
+
+    private final IOpenConfiguratorCore core;
+
+    private long calls;
+
+    private long mismatches;
+
+    private long recordedNanos;
+
+    private long replayedNanos;
+
+    /**
+     * Creates a replayer for the given core.
+     *
+     * @param core The core to replay the calls against.
+     */
+    public CoreTraceReplayer(IOpenConfiguratorCore core) {
+        this.core = core;
+    }
+
+    /**
+     * @return The number of replayed calls.
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * @return The number of calls whose success differs from the recording.
+     */
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    /**
+     * @return The sum of the recorded duration of the calls in nanoseconds.
+     */
+    public long getRecordedNanos() {
+        return recordedNanos;
+    }
+
+    /**
+     * @return The sum of the replayed duration of the calls in nanoseconds.
+     */
+    public long getReplayedNanos() {
+        return replayedNanos;
+    }
+
+    private Object invoke(Method method, Object[] args) {
+        try {
+            return method.invoke(core, args);
+        } catch (InvocationTargetException e) {
+            e.getCause().printStackTrace();
+        } catch (IllegalAccessException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Replays the calls of the given trace file.
+     *
+     * @param traceFile The trace file.
+     * @throws IOException Errors with reading the trace file or a trace with
+     *             methods unknown to the core.
+     */
+    public void replay(Path traceFile) throws IOException {
+        try (InputStream stream = Files.newInputStream(traceFile)) {
+            replay(new DataInputStream(new BufferedInputStream(stream)));
+        }
+    }
+
+    /**
+     * Replays the calls of the trace from the stream.
+     */
+    void replay(DataInputStream in) throws IOException {
+        CoreTrace.Reader reader = new CoreTrace.Reader(in);
+        if (in.readInt() != CoreTrace.MAGIC) {
+            throw new IOException("Not a core trace file"); //$NON-NLS-1$
+        }
+        long version = reader.readVarLong();
+        if (version != CoreTrace.VERSION) {
+            throw new IOException("Unsupported trace version " + version); //$NON-NLS-1$
+        }
+
+        Map<String, Method> coreMethods = new HashMap<>();
+        for (Method method : CoreTrace.getMethods()) {
+            coreMethods.put(CoreTrace.getSignature(method), method);
+        }
+        int nrOfMethods = (int) reader.readVarLong();
+        Method[] methods = new Method[nrOfMethods];
+        for (int i = 0; i < nrOfMethods; i++) {
+            methods[i] = coreMethods.get(in.readUTF());
+        }
+
+        while (true) {
+            int methodNumber;
+            try {
+                methodNumber = (int) reader.readVarLong();
+            } catch (EOFException e) {
+                // End of the trace.
+                break;
+            }
+            if ((methodNumber >= nrOfMethods)
+                    || (methods[methodNumber] == null)) {
+                throw new IOException(
+                        "Unsupported method in the trace " + methodNumber); //$NON-NLS-1$
+            }
+
+            Method method = methods[methodNumber];
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Object[] args = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                args[i] = CoreTrace.readArgument(reader, parameterTypes[i]);
+            }
+            long recordedDuration = reader.readVarLong();
+            boolean recordedSuccess = reader.readBoolean();
+
+            long startTime = System.nanoTime();
+            Object result = invoke(method, args);
+            replayedNanos += System.nanoTime() - startTime;
+            recordedNanos += recordedDuration;
+            calls++;
+
+            boolean successful = (result instanceof Result)
+                    ? ((Result) result).IsSuccessful() : (result != null);
+            if (successful != recordedSuccess) {
+                mismatches++;
+            }
+        }
+    }
+}
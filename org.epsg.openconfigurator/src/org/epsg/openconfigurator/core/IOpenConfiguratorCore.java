@@ -0,0 +1,774 @@
+/*******************************************************************************
+ * @file   IOpenConfiguratorCore.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.core;
+
+import java.util.List;
+import java.util.Map;
+
+import org.epsg.openconfigurator.lib.wrapper.AccessType;
+import org.epsg.openconfigurator.lib.wrapper.CNFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.Direction;
+import org.epsg.openconfigurator.lib.wrapper.DynamicChannelAccessType;
+import org.epsg.openconfigurator.lib.wrapper.ErrorCode;
+import org.epsg.openconfigurator.lib.wrapper.GeneralFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.IEC_Datatype;
+import org.epsg.openconfigurator.lib.wrapper.MNFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.ModuleAddressing;
+import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
+import org.epsg.openconfigurator.lib.wrapper.ObjectType;
+import org.epsg.openconfigurator.lib.wrapper.PDOMapping;
+import org.epsg.openconfigurator.lib.wrapper.ParameterAccess;
+import org.epsg.openconfigurator.lib.wrapper.PlkDataType;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+import org.epsg.openconfigurator.lib.wrapper.SortMode;
+import org.epsg.openconfigurator.lib.wrapper.SortNumber;
+
+/**
+ * Network and object dictionary operations of the openCONFIGURATOR core.
+ *
+ * The method names and the arguments are the same as in the
+ * OpenConfiguratorCore library wrapper so that the library calls are
+ * exchangeable with the implementations of this interface. The native library
+ * collections are replaced with the Java collections. Values returned by the
+ * core are written into the first element of the given array.
+ *
+ * @see OpenConfiguratorCoreProvider
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public interface IOpenConfiguratorCore {
+
+    /**
+     * Adds the given node assignment to the NMT_NodeAssignment of the node.
+     */
+    Result AddNodeAssignment(String networkId, short nodeId,
+            NodeAssignment nodeAssign);
+
+    /**
+     * Builds the C process image description of the node.
+     */
+    Result BuildCProcessImage(String networkId, short nodeId,
+            String[] piDataOutput);
+
+    /**
+     * Builds the concise device configuration of the network.
+     *
+     * The text output is written into the configurationOutput and the binary
+     * output is added to the cdcOutput.
+     */
+    Result BuildConfiguration(String networkId, String[] configurationOutput,
+            List<Short> cdcOutput);
+
+    /**
+     * Builds the C# process image description of the node.
+     */
+    Result BuildNETProcessImage(String networkId, short nodeId,
+            String[] piDataOutput);
+
+    /**
+     * Builds the XML process image description of the node.
+     */
+    Result BuildXMLProcessImage(String networkId, short nodeId,
+            String[] piDataOutput);
+
+    /**
+     * Clears all the mapping entries of the PDO channel.
+     */
+    Result ClearMappingChannel(String networkId, short nodeId, Direction dir,
+            int channelNumber);
+
+    /**
+     * Clears the mapping entry at the given position of the PDO channel.
+     */
+    Result ClearMappingObject(String networkId, short nodeId, Direction dir,
+            int channelNumber, short position);
+
+    /**
+     * Creates a node with the given node ID and name as a copy of an existing
+     * node of the network. The object dictionary, the parameters, the modules
+     * and the actual values are copied. The caller sets the node assignments
+     * of the new node. The wrapper has no copy entry point, so
+     * {@link NativeOpenConfiguratorCore} replays the calls of the node.
+     */
+    Result CopyNode(String networkId, short nodeId, short newNodeId,
+            String nodeName);
+
+    /**
+     * Creates an array datatype of the parameters of the node.
+     */
+    Result CreateArrayDatatype(String networkId, short nodeId,
+            String uniqueId, String name, long lowerLimit, long upperLimit,
+            IEC_Datatype dataType);
+
+    /**
+     * Creates an array datatype of the parameters of the node.
+     */
+    Result CreateArrayDatatype(String networkId, short nodeId,
+            String uniqueId, String name, long lowerLimit, long upperLimit,
+            IEC_Datatype dataType, String interfaceId, String moduleId,
+            long modulePosition);
+
+    /**
+     * Creates the auto generation setting of the network.
+     */
+    Result CreateConfiguration(String networkId, String configurationName);
+
+    /**
+     * Creates a build setting in the auto generation setting.
+     */
+    Result CreateConfigurationSetting(String networkId,
+            String configurationName, String settingName, String value);
+
+    /**
+     * Creates a dynamic channel for the managing node.
+     */
+    Result CreateDynamicChannel(String networkId, short nodeId,
+            PlkDataType dataType, DynamicChannelAccessType accessType,
+            long startIndex, long endIndex, long maxNumber, long addressOffset,
+            short bitAlignment);
+
+    /**
+     * Creates an enumeration datatype of the parameters of the node.
+     */
+    Result CreateEnumDatatype(String networkId, short nodeId,
+            String uniqueId, String name, IEC_Datatype dataType);
+
+    /**
+     * Creates an enumeration datatype of the parameters of the node.
+     */
+    Result CreateEnumDatatype(String networkId, short nodeId,
+            String uniqueId, String name, IEC_Datatype dataType, int size);
+
+    /**
+     * Creates an enumeration datatype of the parameters of the node.
+     */
+    Result CreateEnumDatatype(String networkId, short nodeId,
+            String uniqueId, String name, IEC_Datatype dataType, int size,
+            String interfaceId, String moduleId, long modulePosition);
+
+    /**
+     * Adds a value to the enumeration datatype.
+     */
+    Result CreateEnumValue(String networkId, short nodeId, String uniqueId,
+            String name, String value);
+
+    /**
+     * Adds a value to the enumeration datatype.
+     */
+    Result CreateEnumValue(String networkId, short nodeId, String uniqueId,
+            String name, String value, String interfaceId, String moduleId,
+            long modulePosition);
+
+    /**
+     * Creates an interface of the modular head node.
+     */
+    Result CreateInterface(String networkId, short nodeId,
+            String interfaceId, String interfaceType,
+            ModuleAddressing moduleAddressing, long maxModules,
+            boolean unusedSlots, boolean multipleModules);
+
+    /**
+     * Creates a modular head node.
+     */
+    Result CreateModularHeadNode(String networkId, short nodeId,
+            String nodeName);
+
+    /**
+     * Creates a module in the given interface of the modular head node.
+     */
+    Result CreateModule(String networkId, short nodeId, String interfaceId,
+            String moduleId, int modulePosition, int moduleAddress,
+            String moduleType, String moduleName,
+            ModuleAddressing moduleAddressing, int minPosition,
+            int maxPosition, int minAddress, int maxAddress, int maxCount);
+
+    /**
+     * Creates an object of the module in the object dictionary of the modular
+     * head node.
+     */
+    Result CreateModuleObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String defaultValue, String actualValue, String rangeSelector);
+
+    /**
+     * Creates an object of the module which refers to a parameter of the
+     * module.
+     */
+    Result CreateModuleParameterObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String uniqueIdRef, String defaultValue, String actualValue,
+            String rangeSelector);
+
+    /**
+     * Creates a subobject of the module which refers to a parameter of the
+     * module.
+     */
+    Result CreateModuleParameterSubObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, short subObjectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String uniqueIdRef, String defaultValue,
+            String actualValue);
+
+    /**
+     * Creates a subobject of the module in the object dictionary of the
+     * modular head node.
+     */
+    Result CreateModuleSubObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, short subObjectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String defaultValue, String actualValue);
+
+    /**
+     * Creates a network with the given ID.
+     */
+    Result CreateNetwork(String networkId);
+
+    /**
+     * Creates a managing, controlled or redundant managing node.
+     */
+    Result CreateNode(String networkId, short nodeId, String nodeName,
+            boolean isRmn);
+
+    /**
+     * Creates an object in the object dictionary of the node.
+     */
+    Result CreateObject(String networkId, short nodeId, long objectId,
+            ObjectType objectType, String name, PlkDataType dataType,
+            AccessType accessType, PDOMapping pdoMapping, String defaultValue,
+            String actualValue);
+
+    /**
+     * Creates the objects and the subobjects of the batch along with their
+     * limits, starting with the entry at the fromIndex. The creation stops at
+     * the first failing entry; its index is set into the failedIndex and its
+     * result is returned. The failedIndex is -1 if all entries are created.
+     */
+    Result CreateObjects(String networkId, short nodeId,
+            ObjectDictionaryBatch batch, int fromIndex, int[] failedIndex);
+
+    /**
+     * Creates a parameter of the node.
+     */
+    Result CreateParameter(String networkId, short nodeId, String uniqueId,
+            ParameterAccess access, IEC_Datatype dataType,
+            boolean hasDataTypeStruct);
+
+    /**
+     * Creates a parameter of the node.
+     */
+    Result CreateParameter(String networkId, short nodeId, String uniqueId,
+            ParameterAccess access, IEC_Datatype dataType,
+            boolean hasDataTypeStruct, String interfaceId, String moduleId,
+            long modulePosition);
+
+    /**
+     * Creates a parameter of the node.
+     */
+    Result CreateParameter(String networkId, short nodeId, String uniqueId,
+            ParameterAccess access, String templateUniqueId);
+
+    /**
+     * Creates a parameter of the node.
+     */
+    Result CreateParameter(String networkId, short nodeId, String uniqueId,
+            ParameterAccess access, String templateUniqueId,
+            String interfaceId, String moduleId, long modulePosition);
+
+    /**
+     * Creates a parameter of the node.
+     */
+    Result CreateParameter(String networkId, short nodeId, String uniqueId,
+            String dataTypeUniqueIdRef, ParameterAccess access,
+            boolean hasDataTypeStruct);
+
+    /**
+     * Creates a parameter of the node.
+     */
+    Result CreateParameter(String networkId, short nodeId, String uniqueId,
+            String dataTypeUniqueIdRef, ParameterAccess access,
+            boolean hasDataTypeStruct, String interfaceId, String moduleId,
+            long modulePosition);
+
+    /**
+     * Creates a parameter group of the node.
+     */
+    Result CreateParameterGroup(String networkId, short nodeId,
+            String uniqueId, String interfaceId, String moduleId,
+            long modulePosition);
+
+    /**
+     * Creates a parameter group of the node.
+     */
+    Result CreateParameterGroup(String networkId, short nodeId,
+            String uniqueId, String parentUniqueId, int bitOffset,
+            String interfaceId, String moduleId, long modulePosition);
+
+    /**
+     * Creates a parameter group of the node.
+     */
+    Result CreateParameterGroup(String networkId, short nodeId,
+            String uniqueId, String parentUniqueId, String conditionalUniqueId,
+            String conditionalValue, int bitOffset, String interfaceId,
+            String moduleId, long modulePosition);
+
+    /**
+     * Creates an object which refers to a parameter of the node.
+     */
+    Result CreateParameterObject(String networkId, short nodeId,
+            long objectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String uniqueIdRef, String defaultValue, String actualValue);
+
+    /**
+     * Adds a parameter reference to the parameter group.
+     */
+    Result CreateParameterReference(String networkId, short nodeId,
+            String parameterGroupUniqueId, String uniqueIdRef,
+            String actualValue, int bitOffset, String interfaceId,
+            String moduleId, long modulePosition);
+
+    /**
+     * Creates a subobject which refers to a parameter of the node.
+     */
+    Result CreateParameterSubObject(String networkId, short nodeId,
+            long objectId, short subObjectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String uniqueIdRef, String defaultValue,
+            String actualValue);
+
+    /**
+     * Creates an object range of the interface of the modular head node.
+     */
+    Result CreateRange(String networkId, short nodeId, String interfaceId,
+            String name, long baseIndex, long maxIndex, long maxSubIndex,
+            long sortStep, SortMode sortMode, SortNumber sortNumber,
+            PDOMapping pdoMapping);
+
+    /**
+     * Creates a structure datatype of the parameters of the node.
+     */
+    Result CreateStructDatatype(String networkId, short nodeId,
+            String uniqueId, String name);
+
+    /**
+     * Creates a structure datatype of the parameters of the node.
+     */
+    Result CreateStructDatatype(String networkId, short nodeId,
+            String uniqueId, String name, String interfaceId, String moduleId,
+            long modulePosition);
+
+    /**
+     * Creates a subobject in the object dictionary of the node.
+     */
+    Result CreateSubObject(String networkId, short nodeId, long objectId,
+            short subObjectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String defaultValue, String actualValue);
+
+    /**
+     * Adds a variable declaration to the structure datatype.
+     */
+    Result CreateVarDeclaration(String networkId, short nodeId,
+            String structUniqueId, String uniqueId, String name,
+            IEC_Datatype dataType, long size, String initialValue);
+
+    /**
+     * Adds a variable declaration to the structure datatype.
+     */
+    Result CreateVarDeclaration(String networkId, short nodeId,
+            String structUniqueId, String uniqueId, String name,
+            IEC_Datatype dataType, long size, String initialValue,
+            String interfaceId, String moduleId, long modulePosition);
+
+    /**
+     * Enables or disables the module of the modular head node.
+     */
+    Result EnableModule(String networkId, short nodeId, String interfaceId,
+            String moduleId, int modulePosition, boolean enable);
+
+    /**
+     * Enables or disables the node.
+     */
+    Result EnableNode(String networkId, short nodeId, boolean enable);
+
+    /**
+     * Adds the IDs of the nodes available in the network to the nodeIds.
+     */
+    Result GetAvailableNodeIds(String networkId, List<Short> nodeIds);
+
+    /**
+     * Adds the actual values of the mapping objects of the PDO channel to the
+     * objectCollection. The key is the object and the subobject ID where the
+     * subobject ID is -1 for objects.
+     */
+    Result GetChannelActualValues(String networkId, short nodeId,
+            Direction dir, int channelNumber,
+            Map<Map.Entry<Long, Integer>, String> objectCollection);
+
+    /**
+     * Size of the mapped objects of the PDO channel in bits.
+     */
+    Result GetChannelSize(String networkId, short nodeId, Direction dir,
+            int channelNumber, long[] size);
+
+    /**
+     * Loss of SoC tolerance of the node in nanoseconds.
+     */
+    Result GetLossOfSocTolerance(String networkId, short nodeId,
+            long[] lossOfSocTolerance);
+
+    /**
+     * Index and subindex of the module object after the object has been
+     * placed in the range of the interface.
+     */
+    Result GetModuleObjectCurrentIndex(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, int subObjectId, long[] index, int[] subIndex);
+
+    /**
+     * Unique ID of the module parameter after the module has been added to
+     * the modular head node.
+     */
+    Result GetModuleParameterCurrentName(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            String parameterUniqueId, String[] newParameterUniqueId);
+
+    /**
+     * Adds the node assignment values of the node to the assignments.
+     */
+    Result GetNodeAssignment(String networkId, short nodeId,
+            List<Long> assignments);
+
+    /**
+     * Size of the datatype of the object in bits.
+     */
+    Result GetObjectSize(String networkId, short nodeId, long objectId,
+            long[] size);
+
+    /**
+     * Adds the actual values of the objects and the subobjects of the node to
+     * the objectCollection. The key is the object and the subobject ID where
+     * the subobject ID is -1 for objects.
+     */
+    Result GetObjectsWithActualValue(String networkId, short nodeId,
+            Map<Map.Entry<Long, Integer>, String> objectCollection);
+
+    /**
+     * PRes timeout of the node in nanoseconds.
+     */
+    Result GetPResTimeOut(String networkId, short nodeId,
+            long[] presTimeout);
+
+    /**
+     * Actual value of the subobject.
+     */
+    Result GetSubObjectActualValue(String networkId, short nodeId,
+            long objectId, short subObjectId, String[] actualValue);
+
+    /**
+     * Adds the build setting IDs supported by the core to the settingIds.
+     */
+    Result GetSupportedSettingIds(List<String> settingIds);
+
+    /**
+     * Initializes the logging of the core into the given path.
+     */
+    Result InitEclipseLoggingPath(String loggingPath);
+
+    /**
+     * Maps all the mapping entries of the PDO channel again.
+     */
+    Result MapAllObjectsToChannel(String networkId, short nodeId,
+            Direction dir, int channelNumber, boolean updateNrOfEntries);
+
+    /**
+     * Maps the object to the given position of the PDO channel.
+     */
+    Result MapObjectToChannel(String networkId, short nodeId, Direction dir,
+            int channelNumber, short position, long objectId,
+            short fromNode, boolean updateNrOfEntries);
+
+    /**
+     * Maps the subobject to the given position of the PDO channel.
+     */
+    Result MapSubObjectToChannel(String networkId, short nodeId,
+            Direction dir, int channelNumber, short position, long objectId,
+            int subObjectId, short fromNode, boolean updateNrOfEntries);
+
+    /**
+     * Moves the mapping entry of the PDO channel to the new position.
+     */
+    Result MoveMappingObject(String networkId, short nodeId, Direction dir,
+            int channelNumber, int oldPosition, int newPosition);
+
+    /**
+     * Moves the module of the modular head node to the new position.
+     */
+    Result MoveModule(String networkId, short nodeId, String interfaceId,
+            String moduleId, int oldPosition, int newPosition);
+
+    /**
+     * Moves the modules of the interface of the modular head node to their new
+     * positions and updates their addresses. The modules are identified by
+     * their ID and their position before the call. The new positions must not
+     * be occupied by modules which are not moved. If the call fails, the
+     * modules keep their old positions and addresses.
+     */
+    Result MoveModules(String networkId, short nodeId, String interfaceId,
+            List<String> moduleIds, List<Integer> oldPositions,
+            List<Integer> oldAddresses, List<Integer> newPositions,
+            List<Integer> newAddresses);
+
+    /**
+     * @return A successful result instance of the core.
+     */
+    Result newResult();
+
+    /**
+     * @return A failed result instance of the core with the given error.
+     */
+    Result newResult(ErrorCode errorType, String errorMessage);
+
+    /**
+     * Removes the auto generation setting of the network.
+     */
+    Result RemoveConfiguration(String networkId, String configurationName);
+
+    /**
+     * Removes the build setting from the auto generation setting.
+     */
+    Result RemoveConfigurationSetting(String networkId,
+            String configurationName, String settingName);
+
+    /**
+     * Removes the module from the modular head node.
+     */
+    Result RemoveModule(String networkId, short nodeId, String interfaceId,
+            String moduleId, int modulePosition);
+
+    /**
+     * Removes the network and all of its nodes.
+     */
+    Result RemoveNetwork(String networkId);
+
+    /**
+     * Removes the node from the network.
+     */
+    Result RemoveNode(String networkId, short nodeId);
+
+    /**
+     * Removes the given node assignment from the NMT_NodeAssignment of the
+     * node.
+     */
+    Result RemoveNodeAssignment(String networkId, short nodeId,
+            NodeAssignment nodeAssign);
+
+    /**
+     * Renames the auto generation setting of the network.
+     */
+    Result ReplaceConfigurationName(String networkId, String oldName,
+            String newName);
+
+    /**
+     * Resets the operation mode of the node to normal.
+     */
+    Result ResetOperationMode(String networkId, short nodeId);
+
+    /**
+     * Activates the auto generation setting of the network.
+     */
+    Result SetActiveConfiguration(String networkId, String configurationName);
+
+    /**
+     * Updates the maximum number of ASnd frames of the managing node.
+     */
+    Result SetAsndMaxNr(String networkId, short nodeId, short asndMaxNr);
+
+    /**
+     * Updates the asynchronous MTU of the network.
+     */
+    Result SetAsyncMtu(String networkId, int asyncMtu);
+
+    /**
+     * Updates the asynchronous slot timeout of the managing node.
+     */
+    Result SetAsyncSlotTimeout(String networkId, short nodeId,
+            long asyncSlotTimeout);
+
+    /**
+     * Enables or disables the build setting of the auto generation setting.
+     */
+    Result SetConfigurationSettingEnabled(String networkId,
+            String configurationName, String settingName, boolean enabled);
+
+    /**
+     * Updates the cycle time of the network.
+     */
+    Result SetCycleTime(String networkId, long cycleTime);
+
+    /**
+     * Updates the value of the feature of the node.
+     */
+    Result SetFeatureValue(String networkId, short nodeId,
+            CNFeatureEnum feature, String value);
+
+    /**
+     * Updates the value of the feature of the node.
+     */
+    Result SetFeatureValue(String networkId, short nodeId,
+            GeneralFeatureEnum feature, String value);
+
+    /**
+     * Updates the value of the feature of the node.
+     */
+    Result SetFeatureValue(String networkId, short nodeId,
+            MNFeatureEnum feature, String value);
+
+    /**
+     * Updates the loss of SoC tolerance of the node.
+     */
+    Result SetLossOfSocTolerance(String networkId, short nodeId,
+            long lossOfSocTolerance);
+
+    /**
+     * Updates the address of the module.
+     */
+    Result SetModuleAddress(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            int moduleAddress);
+
+    /**
+     * Updates the multiplexed cycle count of the network.
+     */
+    Result SetMultiplexedCycleCount(String networkId,
+            int multiplexedCycleCount);
+
+    /**
+     * Changes the ID of the node.
+     */
+    Result SetNodeId(String networkId, short nodeId, short newNodeId);
+
+    /**
+     * Updates the name of the node.
+     */
+    Result SetNodeName(String networkId, short nodeId, String nodeName);
+
+    /**
+     * Updates the actual value of the object.
+     */
+    Result SetObjectActualValue(String networkId, short nodeId,
+            long objectId, String actualValue, boolean force,
+            boolean enableValidation);
+
+    /**
+     * Updates the limits of the object.
+     */
+    Result SetObjectLimits(String networkId, short nodeId, long objectId,
+            String lowLimit, String highLimit);
+
+    /**
+     * Sets the operation mode of the node to chained.
+     */
+    Result SetOperationModeChained(String networkId, short nodeId);
+
+    /**
+     * Sets the operation mode of the node to multiplexed.
+     */
+    Result SetOperationModeMultiplexed(String networkId, short nodeId,
+            short multiplexedCycle);
+
+    /**
+     * Updates the actual value of the parameter.
+     */
+    Result SetParameterActualValue(String networkId, short nodeId,
+            String uniqueId, String actualValue);
+
+    /**
+     * Updates the allowed range of the parameter.
+     */
+    Result SetParameterAllowedRange(String networkId, short nodeId,
+            String uniqueId, String minValue, String maxValue);
+
+    /**
+     * Updates the allowed values of the parameter.
+     */
+    Result SetParameterAllowedValues(String networkId, short nodeId,
+            String uniqueId, List<String> allowedValues);
+
+    /**
+     * Updates the default value of the parameter.
+     */
+    Result SetParameterDefaultValue(String networkId, short nodeId,
+            String uniqueId, String defaultValue);
+
+    /**
+     * Updates the prescaler of the network.
+     */
+    Result SetPrescaler(String networkId, int prescaler);
+
+    /**
+     * Updates the PRes timeout of the node.
+     */
+    Result SetPResTimeOut(String networkId, short nodeId, long presTimeout);
+
+    /**
+     * Updates the priority of the redundant managing node.
+     */
+    Result SetRedundantManagingNodePriority(String networkId, short nodeId,
+            long priority);
+
+    /**
+     * Updates the wait not active time of the redundant managing node.
+     */
+    Result SetRedundantManagingNodeWaitNotActive(String networkId,
+            short nodeId, long waitNotActive);
+
+    /**
+     * Updates the actual value of the subobject.
+     */
+    Result SetSubObjectActualValue(String networkId, short nodeId,
+            long objectId, short subObjectId, String actualValue,
+            boolean force, boolean enableValidation);
+
+    /**
+     * Updates the limits of the subobject.
+     */
+    Result SetSubObjectLimits(String networkId, short nodeId, long objectId,
+            short subObjectId, String lowLimit, String highLimit);
+}
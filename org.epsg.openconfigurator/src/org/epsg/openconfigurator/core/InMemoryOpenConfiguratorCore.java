@@ -0,0 +1,2399 @@
+/*******************************************************************************
+ * @file   InMemoryOpenConfiguratorCore.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.core;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.epsg.openconfigurator.lib.wrapper.AccessType;
+import org.epsg.openconfigurator.lib.wrapper.CNFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.Direction;
+import org.epsg.openconfigurator.lib.wrapper.DynamicChannelAccessType;
+import org.epsg.openconfigurator.lib.wrapper.ErrorCode;
+import org.epsg.openconfigurator.lib.wrapper.GeneralFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.IEC_Datatype;
+import org.epsg.openconfigurator.lib.wrapper.MNFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.ModuleAddressing;
+import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
+import org.epsg.openconfigurator.lib.wrapper.ObjectType;
+import org.epsg.openconfigurator.lib.wrapper.PDOMapping;
+import org.epsg.openconfigurator.lib.wrapper.ParameterAccess;
+import org.epsg.openconfigurator.lib.wrapper.PlkDataType;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+import org.epsg.openconfigurator.lib.wrapper.SortMode;
+import org.epsg.openconfigurator.lib.wrapper.SortNumber;
+
+/**
+ * Pure Java configuration core which keeps the networks in memory.
+ *
+ * The core is complete enough to import projects, to edit the values and the
+ * mapping of the nodes and to persist the actual values without the native
+ * openCONFIGURATOR libraries. The build outputs are simplified: the concise
+ * device configuration lists the actual values of all nodes and the process
+ * image descriptions only contain the size of the process images of the
+ * managing node.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class InMemoryOpenConfiguratorCore implements IOpenConfiguratorCore {
+
+    /**
+     * Build setting IDs supported by the core.
+     */
+    private static final List<String> SUPPORTED_SETTING_IDS = Arrays.asList(
+            "GENERATE_MN_MAPPING_FOR_NODES", //$NON-NLS-1$
+            "GENERATE_MN_NODE_ASSIGNMENT_FOR_NODES", //$NON-NLS-1$
+            "GENERATE_MN_PRES_TIMEOUT_FOR_NODES"); //$NON-NLS-1$
+
+    private static final short MN_NODE_ID = 240;
+
+    private static final long DEFAULT_LOSS_OF_SOC_TOLERANCE = 100000L;
+
+    private static final long NMT_CYCLE_LEN = 0x1006L;
+    private static final long NMT_LOSS_OF_SOC_TOLERANCE = 0x1C14L;
+    private static final long NMT_NODE_ASSIGNMENT = 0x1F81L;
+    private static final long NMT_MN_CN_PRES_TIMEOUT = 0x1F92L;
+    private static final long NMT_CYCLE_TIMING = 0x1F98L;
+    private static final long NMT_MN_CYCLE_TIMING = 0x1F8AL;
+    private static final long NMT_MULTIPLEXED_CYCLE_ASSIGN = 0x1F9BL;
+
+    private static final short ASYNC_MTU_SUB_INDEX = 0x05;
+    private static final short MULTIPLEXED_CYCLE_COUNT_SUB_INDEX = 0x07;
+    private static final short PRESCALER_SUB_INDEX = 0x09;
+    private static final short ASYNC_SLOT_TIMEOUT_SUB_INDEX = 0x02;
+    private static final short ASND_MAX_NUMBER_SUB_INDEX = 0x03;
+
+    private static final long TPDO_COMMUNICATION_PARAM = 0x1800L;
+    private static final long TPDO_MAPPING_PARAM = 0x1A00L;
+    private static final long RPDO_COMMUNICATION_PARAM = 0x1400L;
+    private static final long RPDO_MAPPING_PARAM = 0x1600L;
+    private static final short PDO_NODE_ID_SUB_INDEX = 0x01;
+
+    private static final String EMPTY_MAPPING_ENTRY = "0x0000000000000000"; //$NON-NLS-1$
+
+    private static final String LINE_SEPARATOR = "\n"; //$NON-NLS-1$
+
+    /**
+     * Result of the in-memory core. It does not allocate a native result.
+     */
+    private static final class CoreResult extends Result {
+        private final ErrorCode errorType;
+        private final String errorMessage;
+
+        CoreResult(ErrorCode errorType, String errorMessage) {
+            super(0, false);
+            this.errorType = errorType;
+            this.errorMessage = errorMessage;
+        }
+
+        @Override
+        public String GetErrorMessage() {
+            return errorMessage;
+        }
+
+        @Override
+        public ErrorCode GetErrorType() {
+            return errorType;
+        }
+
+        @Override
+        public boolean IsSuccessful() {
+            return errorType == ErrorCode.SUCCESS;
+        }
+    }
+
+    /**
+     * Interface of a modular head node.
+     */
+    private static final class InterfaceData {
+        private final String interfaceId;
+        private final List<RangeData> ranges = new ArrayList<>();
+        private final TreeMap<Integer, ModuleData> modules = new TreeMap<>();
+
+        InterfaceData(String interfaceId) {
+            this.interfaceId = interfaceId;
+        }
+
+        RangeData getRange(String rangeSelector, long objectId) {
+            for (RangeData range : ranges) {
+                if ((rangeSelector != null) && !rangeSelector.isEmpty()) {
+                    if (range.name.equals(rangeSelector)) {
+                        return range;
+                    }
+                } else if ((objectId >= range.baseIndex)
+                        && (objectId <= range.maxIndex)) {
+                    return range;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Module of an interface of the modular head node.
+     */
+    private static final class ModuleData {
+        private final InterfaceData moduleInterface;
+        private final String moduleId;
+        private int position;
+        private int address;
+        private boolean enabled = true;
+        private final Map<Long, Long> objectIndices = new LinkedHashMap<>();
+        private final Map<Long, RangeData> objectRanges = new HashMap<>();
+        private final Map<Long, Integer> subObjectIndices = new HashMap<>();
+        private final Map<String, String> parameterNames = new HashMap<>();
+
+        ModuleData(InterfaceData moduleInterface, String moduleId,
+                int position, int address) {
+            this.moduleInterface = moduleInterface;
+            this.moduleId = moduleId;
+            this.position = position;
+            this.address = address;
+        }
+
+        String getParameterName(String uniqueId) {
+            String parameterName = parameterNames.get(uniqueId);
+            if (parameterName == null) {
+                parameterName = uniqueId + "_" + moduleInterface.interfaceId //$NON-NLS-1$
+                        + "_" + moduleId + "_" + position; //$NON-NLS-1$ //$NON-NLS-2$
+                parameterNames.put(uniqueId, parameterName);
+            }
+            return parameterName;
+        }
+    }
+
+    /**
+     * Network with the nodes and the auto generation settings.
+     */
+    private static final class NetworkData {
+        private final TreeMap<Short, NodeData> nodes = new TreeMap<>();
+        private final Map<String, Map<String, Boolean>> configurations = new LinkedHashMap<>();
+        private String activeConfiguration = ""; //$NON-NLS-1$
+    }
+
+    /**
+     * Node of the network along with the object dictionary.
+     */
+    private static final class NodeData {
+        private short nodeId;
+        private String name;
+        private boolean enabled = true;
+        private final Set<NodeAssignment> assignments = EnumSet
+                .noneOf(NodeAssignment.class);
+        private long presTimeout;
+        private long lossOfSocTolerance = DEFAULT_LOSS_OF_SOC_TOLERANCE;
+        private final TreeMap<Long, ObjectData> objects = new TreeMap<>();
+        private final Map<String, ParameterData> parameters = new HashMap<>();
+        private final Set<String> parameterItems = new HashSet<>();
+        private final Map<String, InterfaceData> interfaces = new LinkedHashMap<>();
+
+        NodeData(short nodeId, String name) {
+            this.nodeId = nodeId;
+            this.name = name;
+        }
+    }
+
+    /**
+     * Object or subobject of the object dictionary.
+     */
+    private static final class ObjectData {
+        private final PlkDataType dataType;
+        private String actualValue;
+        private String lowLimit = ""; //$NON-NLS-1$
+        private String highLimit = ""; //$NON-NLS-1$
+        private ModuleData module;
+        private final TreeMap<Short, ObjectData> subObjects = new TreeMap<>();
+
+        ObjectData(PlkDataType dataType, String actualValue) {
+            this.dataType = dataType;
+            this.actualValue = getValue(actualValue);
+        }
+
+        boolean isEnabled() {
+            return (module == null) || module.enabled;
+        }
+    }
+
+    /**
+     * Parameter of a node.
+     */
+    private static final class ParameterData {
+        private String defaultValue = ""; //$NON-NLS-1$
+        private String actualValue = ""; //$NON-NLS-1$
+        private String minValue = ""; //$NON-NLS-1$
+        private String maxValue = ""; //$NON-NLS-1$
+        private final List<String> allowedValues = new ArrayList<>();
+        private ModuleData module;
+    }
+
+    /**
+     * Object range of an interface of the modular head node.
+     */
+    private static final class RangeData {
+        private final String name;
+        private final long baseIndex;
+        private final long maxIndex;
+        private final long maxSubIndex;
+        private final long sortStep;
+        private final SortMode sortMode;
+        private final SortNumber sortNumber;
+        private long nextIndex;
+
+        RangeData(String name, long baseIndex, long maxIndex, long maxSubIndex,
+                long sortStep, SortMode sortMode, SortNumber sortNumber) {
+            this.name = name;
+            this.baseIndex = baseIndex;
+            this.maxIndex = maxIndex;
+            this.maxSubIndex = maxSubIndex;
+            this.sortStep = (sortStep > 0) ? sortStep : 1;
+            this.sortMode = sortMode;
+            this.sortNumber = sortNumber;
+            nextIndex = baseIndex;
+        }
+    }
+
+
+    private static final Result SUCCESS = new CoreResult(ErrorCode.SUCCESS,
+            ""); //$NON-NLS-1$
+
+    /**
+     * Appends the actual value of the object into the configuration outputs.
+     *
+     * @return The number of entries added to the configuration.
+     */
+    private static int appendConfiguration(StringBuilder configuration,
+            ByteArrayOutputStream cdc, long index, short subIndex,
+            ObjectData object) {
+        if (object.actualValue.isEmpty() || !object.isEnabled()) {
+            return 0;
+        }
+        byte[] data = encodeValue(object);
+        configuration.append(String.format("%04X\t%02X\t%08X\t", index, //$NON-NLS-1$
+                subIndex, data.length));
+        for (byte value : data) {
+            configuration.append(String.format("%02X", value)); //$NON-NLS-1$
+        }
+        configuration.append(LINE_SEPARATOR);
+
+        writeLittleEndian(cdc, index, 2);
+        writeLittleEndian(cdc, subIndex, 1);
+        writeLittleEndian(cdc, data.length, 4);
+        cdc.write(data, 0, data.length);
+        return 1;
+    }
+
+    /**
+     * Creates a deep copy of the node with the given node ID and name.
+     */
+    private static NodeData copyNode(NodeData node, short nodeId,
+            String name) {
+        NodeData copy = new NodeData(nodeId, name);
+        copy.enabled = node.enabled;
+        copy.assignments.addAll(node.assignments);
+        copy.presTimeout = node.presTimeout;
+        copy.lossOfSocTolerance = node.lossOfSocTolerance;
+        copy.parameterItems.addAll(node.parameterItems);
+
+        Map<ModuleData, ModuleData> modules = new IdentityHashMap<>();
+        for (InterfaceData moduleInterface : node.interfaces.values()) {
+            InterfaceData interfaceCopy = new InterfaceData(
+                    moduleInterface.interfaceId);
+            Map<RangeData, RangeData> ranges = new IdentityHashMap<>();
+            for (RangeData range : moduleInterface.ranges) {
+                RangeData rangeCopy = new RangeData(range.name,
+                        range.baseIndex, range.maxIndex, range.maxSubIndex,
+                        range.sortStep, range.sortMode, range.sortNumber);
+                rangeCopy.nextIndex = range.nextIndex;
+                interfaceCopy.ranges.add(rangeCopy);
+                ranges.put(range, rangeCopy);
+            }
+            for (Map.Entry<Integer, ModuleData> entry : moduleInterface.modules
+                    .entrySet()) {
+                ModuleData module = entry.getValue();
+                ModuleData moduleCopy = new ModuleData(interfaceCopy,
+                        module.moduleId, module.position, module.address);
+                moduleCopy.enabled = module.enabled;
+                moduleCopy.objectIndices.putAll(module.objectIndices);
+                for (Map.Entry<Long, RangeData> objectRange : module.objectRanges
+                        .entrySet()) {
+                    moduleCopy.objectRanges.put(objectRange.getKey(),
+                            ranges.get(objectRange.getValue()));
+                }
+                moduleCopy.subObjectIndices.putAll(module.subObjectIndices);
+                moduleCopy.parameterNames.putAll(module.parameterNames);
+                interfaceCopy.modules.put(entry.getKey(), moduleCopy);
+                modules.put(module, moduleCopy);
+            }
+            copy.interfaces.put(interfaceCopy.interfaceId, interfaceCopy);
+        }
+
+        for (Map.Entry<Long, ObjectData> entry : node.objects.entrySet()) {
+            copy.objects.put(entry.getKey(),
+                    copyObject(entry.getValue(), modules));
+        }
+        for (Map.Entry<String, ParameterData> entry : node.parameters
+                .entrySet()) {
+            ParameterData parameter = entry.getValue();
+            ParameterData parameterCopy = new ParameterData();
+            parameterCopy.defaultValue = parameter.defaultValue;
+            parameterCopy.actualValue = parameter.actualValue;
+            parameterCopy.minValue = parameter.minValue;
+            parameterCopy.maxValue = parameter.maxValue;
+            parameterCopy.allowedValues.addAll(parameter.allowedValues);
+            parameterCopy.module = modules.get(parameter.module);
+            copy.parameters.put(entry.getKey(), parameterCopy);
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a deep copy of the object along with its subobjects.
+     *
+     * @param modules The copies of the modules by the original modules.
+     */
+    private static ObjectData copyObject(ObjectData object,
+            Map<ModuleData, ModuleData> modules) {
+        ObjectData copy = new ObjectData(object.dataType, object.actualValue);
+        copy.lowLimit = object.lowLimit;
+        copy.highLimit = object.highLimit;
+        copy.module = modules.get(object.module);
+        for (Map.Entry<Short, ObjectData> entry : object.subObjects
+                .entrySet()) {
+            copy.subObjects.put(entry.getKey(),
+                    copyObject(entry.getValue(), modules));
+        }
+        return copy;
+    }
+
+    /**
+     * Encodes the actual value of the object in little endian byte order.
+     */
+    private static byte[] encodeValue(ObjectData object) {
+        int bitSize = getBitSize(object.dataType);
+        if (bitSize > 0) {
+            try {
+                long value = parseValue(object.actualValue);
+                byte[] data = new byte[(bitSize + 7) / 8];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (byte) (value >>> (8 * i));
+                }
+                return data;
+            } catch (NumberFormatException e) {
+                // Not a number; written as text.
+            }
+        }
+        return object.actualValue.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Result error(ErrorCode errorType, String message) {
+        return new CoreResult(errorType, message);
+    }
+
+    /**
+     * @return The size of the POWERLINK datatype in bits or 0 for datatypes
+     *         without a fixed size.
+     */
+    private static int getBitSize(PlkDataType dataType) {
+        if (dataType == null) {
+            return 0;
+        }
+        switch (dataType) {
+            case BOOLEAN:
+                return 1;
+            case INTEGER8:
+            case UNSIGNED8:
+                return 8;
+            case INTEGER16:
+            case UNSIGNED16:
+                return 16;
+            case INTEGER24:
+            case UNSIGNED24:
+                return 24;
+            case INTEGER32:
+            case UNSIGNED32:
+            case REAL32:
+            case IP_ADDRESS:
+                return 32;
+            case INTEGER40:
+            case UNSIGNED40:
+                return 40;
+            case INTEGER48:
+            case UNSIGNED48:
+            case MAC_ADDRESS:
+            case TIME_OF_DAY:
+            case TIME_DIFF:
+                return 48;
+            case INTEGER56:
+            case UNSIGNED56:
+                return 56;
+            case INTEGER64:
+            case UNSIGNED64:
+            case REAL64:
+            case NETTIME:
+                return 64;
+            default:
+                return 0;
+        }
+    }
+
+    private static long getCommunicationParamIndex(Direction dir,
+            int channelNumber) {
+        return ((dir == Direction.TX) ? TPDO_COMMUNICATION_PARAM
+                : RPDO_COMMUNICATION_PARAM) + channelNumber;
+    }
+
+    private static long getMappingParamIndex(Direction dir,
+            int channelNumber) {
+        return ((dir == Direction.TX) ? TPDO_MAPPING_PARAM : RPDO_MAPPING_PARAM)
+                + channelNumber;
+    }
+
+    private static long getMappingEntry(String actualValue) {
+        try {
+            return parseValue(actualValue);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * @return The value or an empty string for <code>null</code>.
+     */
+    private static String getValue(String value) {
+        return (value != null) ? value : ""; //$NON-NLS-1$
+    }
+
+    /**
+     * Checks if the value is within the limits of the object.
+     */
+    private static boolean isWithinLimits(ObjectData object, String value) {
+        try {
+            long actualValue = parseValue(value);
+            if (!object.lowLimit.isEmpty()
+                    && (actualValue < parseValue(object.lowLimit))) {
+                return false;
+            }
+            if (!object.highLimit.isEmpty()
+                    && (actualValue > parseValue(object.highLimit))) {
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            // Limits apply only to numbers.
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the value is within the allowed range of the parameter.
+     */
+    private static boolean isWithinRange(ParameterData parameter,
+            String value) {
+        try {
+            long actualValue = parseValue(value);
+            if (!parameter.minValue.isEmpty()
+                    && (actualValue < parseValue(parameter.minValue))) {
+                return false;
+            }
+            if (!parameter.maxValue.isEmpty()
+                    && (actualValue > parseValue(parameter.maxValue))) {
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            // Ranges apply only to numbers.
+        }
+        return true;
+    }
+
+    private static Result networkNotFound(String networkId) {
+        return error(ErrorCode.NETWORK_DOES_NOT_EXIST,
+                "Network " + networkId + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static Result objectNotFound(long objectId) {
+        return error(ErrorCode.OBJECT_DOES_NOT_EXIST, String.format(
+                "Object 0x%04X does not exist.", objectId)); //$NON-NLS-1$
+    }
+
+    /**
+     * Parses the decimal or the hexadecimal value with the 0x prefix.
+     *
+     * @throws NumberFormatException If the value is not a number.
+     */
+    private static long parseValue(String value) {
+        String trimmedValue = getValue(value).trim();
+        if (trimmedValue.startsWith("0x") || trimmedValue.startsWith("0X")) { //$NON-NLS-1$ //$NON-NLS-2$
+            return new BigInteger(trimmedValue.substring(2), 16).longValue();
+        }
+        return new BigInteger(trimmedValue).longValue();
+    }
+
+    private static Result subObjectNotFound(long objectId, short subObjectId) {
+        return error(ErrorCode.SUBOBJECT_DOES_NOT_EXIST,
+                String.format("Subobject 0x%04X/0x%02X does not exist.", //$NON-NLS-1$
+                        objectId, subObjectId));
+    }
+
+    private static void writeLittleEndian(ByteArrayOutputStream stream,
+            long value, int length) {
+        for (int i = 0; i < length; i++) {
+            stream.write((int) (value >>> (8 * i)) & 0xFF);
+        }
+    }
+
+    /**
+     * Networks of the core.
+     */
+    private final Map<String, NetworkData> networks = new HashMap<>();
+
+
+    /**
+     * Creates the module object and places it in the range of the interface.
+     */
+    private Result addModuleObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, String rangeSelector, ObjectData object) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ModuleData module = findModule(node, interfaceId, moduleId,
+                modulePosition);
+        if (module == null) {
+            return moduleNotFound(moduleId, modulePosition);
+        }
+
+        long index = objectId;
+        RangeData range = module.moduleInterface.getRange(rangeSelector,
+                objectId);
+        if (range != null) {
+            if (range.sortMode == SortMode.SUBINDEX) {
+                index = range.baseIndex;
+            } else if (range.sortNumber == SortNumber.ADDRESS) {
+                index = range.baseIndex
+                        + ((module.address - 1) * range.sortStep);
+            } else {
+                index = range.nextIndex;
+                range.nextIndex += range.sortStep;
+            }
+            if (index > range.maxIndex) {
+                return error(ErrorCode.UNHANDLED_EXCEPTION,
+                        "Range " + range.name + " has no free index."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            module.objectRanges.put(objectId, range);
+        }
+        module.objectIndices.put(objectId, index);
+
+        if (!node.objects.containsKey(index)) {
+            object.module = module;
+            node.objects.put(index, object);
+        }
+        return SUCCESS;
+    }
+
+    /**
+     * Creates the subobject of a module object and places it in the range of
+     * the interface.
+     */
+    private Result addModuleSubObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, short subObjectId, ObjectData subObject) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ModuleData module = findModule(node, interfaceId, moduleId,
+                modulePosition);
+        if (module == null) {
+            return moduleNotFound(moduleId, modulePosition);
+        }
+        Long index = module.objectIndices.get(objectId);
+        ObjectData object = (index != null) ? node.objects.get(index) : null;
+        if (object == null) {
+            return objectNotFound(objectId);
+        }
+
+        short subIndex = subObjectId;
+        RangeData range = module.objectRanges.get(objectId);
+        if ((range != null) && (range.sortMode == SortMode.SUBINDEX)
+                && (subObjectId != 0)) {
+            subIndex = object.subObjects.isEmpty() ? 1
+                    : (short) (object.subObjects.lastKey() + 1);
+            if (subIndex > range.maxSubIndex) {
+                return error(ErrorCode.UNHANDLED_EXCEPTION,
+                        "Range " + range.name + " has no free subindex."); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+        module.subObjectIndices.put(getSubObjectKey(objectId, subObjectId),
+                (int) subIndex);
+
+        if (!object.subObjects.containsKey(subIndex)) {
+            subObject.module = module;
+            object.subObjects.put(subIndex, subObject);
+        }
+        return SUCCESS;
+    }
+
+    /**
+     * Creates the object in the object dictionary of the node.
+     */
+    private Result addObject(String networkId, short nodeId, long objectId,
+            ObjectData object) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        if (node.objects.containsKey(objectId)) {
+            return error(ErrorCode.OBJECT_EXISTS, String
+                    .format("Object 0x%04X already exists.", objectId)); //$NON-NLS-1$
+        }
+        node.objects.put(objectId, object);
+        return SUCCESS;
+    }
+
+    /**
+     * Creates the parameter of the node or of the module.
+     */
+    private Result addParameter(String networkId, short nodeId,
+            String uniqueId, String templateUniqueId, String interfaceId,
+            String moduleId, long modulePosition) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        String parameterId = uniqueId;
+        ModuleData module = null;
+        if (interfaceId != null) {
+            module = findModule(node, interfaceId, moduleId,
+                    (int) modulePosition);
+            if (module == null) {
+                return moduleNotFound(moduleId, (int) modulePosition);
+            }
+            parameterId = module.getParameterName(uniqueId);
+        }
+
+        ParameterData parameter = new ParameterData();
+        parameter.module = module;
+        ParameterData template = (templateUniqueId != null)
+                ? node.parameters.get(templateUniqueId) : null;
+        if (template != null) {
+            parameter.defaultValue = template.defaultValue;
+            parameter.actualValue = template.actualValue;
+            parameter.minValue = template.minValue;
+            parameter.maxValue = template.maxValue;
+            parameter.allowedValues.addAll(template.allowedValues);
+        }
+        node.parameters.put(parameterId, parameter);
+        return SUCCESS;
+    }
+
+    /**
+     * Records a datatype, a parameter group or a parameter reference of the
+     * node or of the module.
+     */
+    private Result addParameterItem(String networkId, short nodeId,
+            String parentUniqueId, String uniqueId, String interfaceId,
+            String moduleId, long modulePosition) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        String prefix = ""; //$NON-NLS-1$
+        if (interfaceId != null) {
+            ModuleData module = findModule(node, interfaceId, moduleId,
+                    (int) modulePosition);
+            if (module == null) {
+                return moduleNotFound(moduleId, (int) modulePosition);
+            }
+            prefix = interfaceId + "_" + moduleId + "_" + modulePosition //$NON-NLS-1$ //$NON-NLS-2$
+                    + "_"; //$NON-NLS-1$
+        }
+        if ((parentUniqueId != null) && !parentUniqueId.isEmpty()
+                && !node.parameterItems.contains(prefix + parentUniqueId)) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION,
+                    "Parameter item " + parentUniqueId + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        node.parameterItems.add(prefix + uniqueId);
+        return SUCCESS;
+    }
+
+    /**
+     * Builds the process image description of the managing node.
+     */
+    private Result buildProcessImage(String networkId, short nodeId,
+            String[] piDataOutput, String format) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        long outputSize = 0;
+        long inputSize = 0;
+        for (Map.Entry<Long, ObjectData> objectEntry : node.objects
+                .entrySet()) {
+            long index = objectEntry.getKey();
+            if ((index >= TPDO_MAPPING_PARAM)
+                    && (index < (TPDO_MAPPING_PARAM + 0x100))) {
+                outputSize += getChannelBitSize(objectEntry.getValue());
+            } else if ((index >= RPDO_MAPPING_PARAM)
+                    && (index < (RPDO_MAPPING_PARAM + 0x100))) {
+                inputSize += getChannelBitSize(objectEntry.getValue());
+            }
+        }
+        piDataOutput[0] = String.format(format, (outputSize + 7) / 8,
+                (inputSize + 7) / 8);
+        return SUCCESS;
+    }
+
+    private Result checkNode(String networkId, short nodeId) {
+        if (findNode(networkId, nodeId) == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        return SUCCESS;
+    }
+
+    private Result configurationNotFound(String networkId,
+            String configurationName) {
+        if (!networks.containsKey(networkId)) {
+            return networkNotFound(networkId);
+        }
+        return error(ErrorCode.UNHANDLED_EXCEPTION, "Configuration " //$NON-NLS-1$
+                + configurationName + " does not exist."); //$NON-NLS-1$
+    }
+
+    private Map<String, Boolean> findConfiguration(String networkId,
+            String configurationName) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return null;
+        }
+        return network.configurations.get(configurationName);
+    }
+
+    private NodeData findNode(String networkId, short nodeId) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return null;
+        }
+        return network.nodes.get(nodeId);
+    }
+
+    private ObjectData findObject(NodeData node, long objectId,
+            int subObjectId) {
+        ObjectData object = node.objects.get(objectId);
+        if ((object != null) && (subObjectId >= 0)) {
+            return object.subObjects.get((short) subObjectId);
+        }
+        return object;
+    }
+
+    private ModuleData findModule(NodeData node, String interfaceId,
+            String moduleId, int modulePosition) {
+        InterfaceData moduleInterface = node.interfaces.get(interfaceId);
+        if (moduleInterface == null) {
+            return null;
+        }
+        ModuleData module = moduleInterface.modules.get(modulePosition);
+        if ((module == null) || !module.moduleId.equals(moduleId)) {
+            return null;
+        }
+        return module;
+    }
+
+    private ModuleData findModule(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return null;
+        }
+        return findModule(node, interfaceId, moduleId, modulePosition);
+    }
+
+    /**
+     * @return The size of the mapped objects of the channel in bits.
+     */
+    private static long getChannelBitSize(ObjectData mappingParam) {
+        long size = 0;
+        for (Map.Entry<Short, ObjectData> entry : mappingParam.subObjects
+                .entrySet()) {
+            if (entry.getKey() != 0) {
+                size += getMappingEntry(entry.getValue().actualValue) >>> 48;
+            }
+        }
+        return size;
+    }
+
+    private static long getSubObjectKey(long objectId, int subObjectId) {
+        return (objectId << 16) | (subObjectId & 0xFFFF);
+    }
+
+    /**
+     * Maps the object or the subobject into the PDO channel of the node.
+     */
+    private Result mapToChannel(String networkId, short nodeId, Direction dir,
+            int channelNumber, short position, long objectId, int subObjectId,
+            short fromNode, boolean updateNrOfEntries) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        long mappingIndex = getMappingParamIndex(dir, channelNumber);
+        ObjectData mappingParam = node.objects.get(mappingIndex);
+        if (mappingParam == null) {
+            return objectNotFound(mappingIndex);
+        }
+        ObjectData mappingEntry = mappingParam.subObjects.get(position);
+        if (mappingEntry == null) {
+            return subObjectNotFound(mappingIndex, position);
+        }
+        ObjectData mappedObject = findObject(node, objectId, subObjectId);
+        if (mappedObject == null) {
+            return (subObjectId < 0) ? objectNotFound(objectId)
+                    : subObjectNotFound(objectId, (short) subObjectId);
+        }
+
+        long length = getBitSize(mappedObject.dataType);
+        long subIndex = (subObjectId < 0) ? 0 : subObjectId;
+        mappingEntry.actualValue = String.format("0x%016X", //$NON-NLS-1$
+                (length << 48) | (subIndex << 16) | objectId);
+        updateObject(node, getCommunicationParamIndex(dir, channelNumber),
+                PDO_NODE_ID_SUB_INDEX, String.format("0x%02X", fromNode)); //$NON-NLS-1$
+        updateMappingOffsets(mappingParam, updateNrOfEntries);
+        return SUCCESS;
+    }
+
+    private Result mappingParamNotFound(String networkId, short nodeId,
+            Direction dir, int channelNumber) {
+        if (findNode(networkId, nodeId) == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        return objectNotFound(getMappingParamIndex(dir, channelNumber));
+    }
+
+    private static Result moduleNotFound(String moduleId, int position) {
+        return error(ErrorCode.UNHANDLED_EXCEPTION, "Module " + moduleId //$NON-NLS-1$
+                + " at position " + position + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private Result nodeNotFound(String networkId, short nodeId) {
+        if (!networks.containsKey(networkId)) {
+            return networkNotFound(networkId);
+        }
+        return error(ErrorCode.NODE_DOES_NOT_EXIST,
+                "Node " + nodeId + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private ParameterData findParameter(String networkId, short nodeId,
+            String uniqueId) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return null;
+        }
+        return node.parameters.get(uniqueId);
+    }
+
+    private Result parameterNotFound(String networkId, short nodeId,
+            String uniqueId) {
+        if (findNode(networkId, nodeId) == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        return error(ErrorCode.UNHANDLED_EXCEPTION,
+                "Parameter " + uniqueId + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Updates the actual value of an existing object or subobject of the
+     * node.
+     */
+    private Result setNodeObjectValue(String networkId, short nodeId,
+            long objectId, int subObjectId, String value) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        updateObject(node, objectId, subObjectId, value);
+        return SUCCESS;
+    }
+
+    /**
+     * Updates the actual value of the subobject of the managing node.
+     */
+    private void updateManagingNodeObject(String networkId, long objectId,
+            short subObjectId, String value) {
+        NodeData managingNode = findNode(networkId, MN_NODE_ID);
+        if (managingNode != null) {
+            updateObject(managingNode, objectId, subObjectId, value);
+        }
+    }
+
+    /**
+     * Recalculates the offsets of the mapping entries of the channel.
+     */
+    private static void updateMappingOffsets(ObjectData mappingParam,
+            boolean updateNrOfEntries) {
+        long offset = 0;
+        int nrOfEntries = 0;
+        for (Map.Entry<Short, ObjectData> entry : mappingParam.subObjects
+                .entrySet()) {
+            if (entry.getKey() == 0) {
+                continue;
+            }
+            long value = getMappingEntry(entry.getValue().actualValue);
+            long length = value >>> 48;
+            if (length == 0) {
+                continue;
+            }
+            entry.getValue().actualValue = String.format("0x%016X", //$NON-NLS-1$
+                    (length << 48) | (offset << 32) | (value & 0xFFFFFFFFL));
+            offset += length;
+            nrOfEntries++;
+        }
+        if (updateNrOfEntries) {
+            ObjectData nrOfEntriesObject = mappingParam.subObjects
+                    .get((short) 0);
+            if (nrOfEntriesObject != null) {
+                nrOfEntriesObject.actualValue = String.format("0x%02X", //$NON-NLS-1$
+                        nrOfEntries);
+            }
+        }
+    }
+
+    /**
+     * Updates the NMT_NodeAssignment of the node in the managing node.
+     */
+    private void updateNodeAssignment(String networkId, NodeData node) {
+        long assignment = 0;
+        for (NodeAssignment nodeAssign : node.assignments) {
+            assignment |= nodeAssign.swigValue();
+        }
+        updateManagingNodeObject(networkId, NMT_NODE_ASSIGNMENT, node.nodeId,
+                String.format("0x%08X", assignment)); //$NON-NLS-1$
+    }
+
+    /**
+     * Updates the actual value of an existing object or subobject.
+     */
+    private static void updateObject(NodeData node, long objectId,
+            int subObjectId, String value) {
+        ObjectData object = node.objects.get(objectId);
+        if ((object != null) && (subObjectId >= 0)) {
+            object = object.subObjects.get((short) subObjectId);
+        }
+        if (object != null) {
+            object.actualValue = value;
+        }
+    }
+
+
+    @Override
+    public synchronized Result AddNodeAssignment(String networkId,
+            short nodeId, NodeAssignment nodeAssign) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        node.assignments.add(nodeAssign);
+        updateNodeAssignment(networkId, node);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result BuildCProcessImage(String networkId,
+            short nodeId, String[] piDataOutput) {
+        return buildProcessImage(networkId, nodeId, piDataOutput,
+                "#ifndef XAP_h\n#define XAP_h\n\n" //$NON-NLS-1$
+                        + "#define COMPUTED_PI_OUT_SIZE %d\n" //$NON-NLS-1$
+                        + "#define COMPUTED_PI_IN_SIZE %d\n\n" //$NON-NLS-1$
+                        + "#endif\n"); //$NON-NLS-1$
+    }
+
+    @Override
+    public synchronized Result BuildConfiguration(String networkId,
+            String[] configurationOutput, List<Short> cdcOutput) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return networkNotFound(networkId);
+        }
+
+        StringBuilder configuration = new StringBuilder();
+        ByteArrayOutputStream cdc = new ByteArrayOutputStream();
+        int nrOfEntries = 0;
+        for (NodeData node : network.nodes.values()) {
+            if (!node.enabled) {
+                continue;
+            }
+            configuration.append("////Configuration Data for ") //$NON-NLS-1$
+                    .append((node.nodeId == MN_NODE_ID) ? "MN" : "CN") //$NON-NLS-1$ //$NON-NLS-2$
+                    .append(": ").append(node.name).append('(') //$NON-NLS-1$
+                    .append(node.nodeId).append(')').append(LINE_SEPARATOR);
+            for (Map.Entry<Long, ObjectData> objectEntry : node.objects
+                    .entrySet()) {
+                ObjectData object = objectEntry.getValue();
+                if (object.subObjects.isEmpty()) {
+                    nrOfEntries += appendConfiguration(configuration, cdc,
+                            objectEntry.getKey(), (short) 0, object);
+                    continue;
+                }
+                for (Map.Entry<Short, ObjectData> subObjectEntry : object.subObjects
+                        .entrySet()) {
+                    nrOfEntries += appendConfiguration(configuration, cdc,
+                            objectEntry.getKey(), subObjectEntry.getKey(),
+                            subObjectEntry.getValue());
+                }
+            }
+            configuration.append(LINE_SEPARATOR);
+        }
+
+        configurationOutput[0] = configuration.toString();
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        writeLittleEndian(header, nrOfEntries, 4);
+        for (byte value : header.toByteArray()) {
+            cdcOutput.add((short) (value & 0xFF));
+        }
+        for (byte value : cdc.toByteArray()) {
+            cdcOutput.add((short) (value & 0xFF));
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result BuildNETProcessImage(String networkId,
+            short nodeId, String[] piDataOutput) {
+        return buildProcessImage(networkId, nodeId, piDataOutput,
+                "namespace openPOWERLINK\n{\n" //$NON-NLS-1$
+                        + "    public static class ProcessImageSize\n    {\n" //$NON-NLS-1$
+                        + "        public const int Output = %d;\n" //$NON-NLS-1$
+                        + "        public const int Input = %d;\n" //$NON-NLS-1$
+                        + "    }\n}\n"); //$NON-NLS-1$
+    }
+
+    @Override
+    public synchronized Result BuildXMLProcessImage(String networkId,
+            short nodeId, String[] piDataOutput) {
+        return buildProcessImage(networkId, nodeId, piDataOutput,
+                "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n" //$NON-NLS-1$
+                        + "<ApplicationProcess>\n" //$NON-NLS-1$
+                        + "  <ProcessImage type=\"output\" size=\"%d\"/>\n" //$NON-NLS-1$
+                        + "  <ProcessImage type=\"input\" size=\"%d\"/>\n" //$NON-NLS-1$
+                        + "</ApplicationProcess>"); //$NON-NLS-1$
+    }
+
+    @Override
+    public synchronized Result ClearMappingChannel(String networkId,
+            short nodeId, Direction dir, int channelNumber) {
+        NodeData node = findNode(networkId, nodeId);
+        ObjectData mappingParam = (node != null)
+                ? node.objects.get(getMappingParamIndex(dir, channelNumber))
+                : null;
+        if (mappingParam == null) {
+            return mappingParamNotFound(networkId, nodeId, dir, channelNumber);
+        }
+        for (Map.Entry<Short, ObjectData> entry : mappingParam.subObjects
+                .entrySet()) {
+            entry.getValue().actualValue = (entry.getKey() == 0) ? "0x00" //$NON-NLS-1$
+                    : EMPTY_MAPPING_ENTRY;
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result ClearMappingObject(String networkId,
+            short nodeId, Direction dir, int channelNumber, short position) {
+        NodeData node = findNode(networkId, nodeId);
+        ObjectData mappingParam = (node != null)
+                ? node.objects.get(getMappingParamIndex(dir, channelNumber))
+                : null;
+        if (mappingParam == null) {
+            return mappingParamNotFound(networkId, nodeId, dir, channelNumber);
+        }
+        ObjectData mappingEntry = mappingParam.subObjects.get(position);
+        if (mappingEntry == null) {
+            return subObjectNotFound(getMappingParamIndex(dir, channelNumber),
+                    position);
+        }
+        mappingEntry.actualValue = EMPTY_MAPPING_ENTRY;
+        updateMappingOffsets(mappingParam, false);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CopyNode(String networkId, short nodeId,
+            short newNodeId, String nodeName) {
+        NetworkData network = networks.get(networkId);
+        NodeData node = (network != null) ? network.nodes.get(nodeId) : null;
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        if (network.nodes.containsKey(newNodeId)) {
+            return error(ErrorCode.NODE_EXISTS,
+                    "Node " + newNodeId + " already exists."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        NodeData copy = copyNode(node, newNodeId, nodeName);
+        network.nodes.put(newNodeId, copy);
+        updateNodeAssignment(networkId, copy);
+        if (copy.presTimeout != 0) {
+            updateManagingNodeObject(networkId, NMT_MN_CN_PRES_TIMEOUT,
+                    newNodeId, String.valueOf(copy.presTimeout));
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateArrayDatatype(String networkId,
+            short nodeId, String uniqueId, String name, long lowerLimit,
+            long upperLimit, IEC_Datatype dataType) {
+        return addParameterItem(networkId, nodeId, null, uniqueId, null, null,
+                0);
+    }
+
+    @Override
+    public synchronized Result CreateArrayDatatype(String networkId,
+            short nodeId, String uniqueId, String name, long lowerLimit,
+            long upperLimit, IEC_Datatype dataType, String interfaceId,
+            String moduleId, long modulePosition) {
+        return addParameterItem(networkId, nodeId, null, uniqueId,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateConfiguration(String networkId,
+            String configurationName) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return networkNotFound(networkId);
+        }
+        if (!network.configurations.containsKey(configurationName)) {
+            network.configurations.put(configurationName,
+                    new LinkedHashMap<String, Boolean>());
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateConfigurationSetting(String networkId,
+            String configurationName, String settingName, String value) {
+        Map<String, Boolean> settings = findConfiguration(networkId,
+                configurationName);
+        if (settings == null) {
+            return configurationNotFound(networkId, configurationName);
+        }
+        settings.put(settingName, Boolean.TRUE);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateDynamicChannel(String networkId,
+            short nodeId, PlkDataType dataType,
+            DynamicChannelAccessType accessType, long startIndex,
+            long endIndex, long maxNumber, long addressOffset,
+            short bitAlignment) {
+        if (findNode(networkId, nodeId) == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateEnumDatatype(String networkId,
+            short nodeId, String uniqueId, String name,
+            IEC_Datatype dataType) {
+        return addParameterItem(networkId, nodeId, null, uniqueId, null, null,
+                0);
+    }
+
+    @Override
+    public synchronized Result CreateEnumDatatype(String networkId,
+            short nodeId, String uniqueId, String name, IEC_Datatype dataType,
+            int size) {
+        return addParameterItem(networkId, nodeId, null, uniqueId, null, null,
+                0);
+    }
+
+    @Override
+    public synchronized Result CreateEnumDatatype(String networkId,
+            short nodeId, String uniqueId, String name, IEC_Datatype dataType,
+            int size, String interfaceId, String moduleId,
+            long modulePosition) {
+        return addParameterItem(networkId, nodeId, null, uniqueId,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateEnumValue(String networkId,
+            short nodeId, String uniqueId, String name, String value) {
+        return addParameterItem(networkId, nodeId, uniqueId,
+                uniqueId + "." + name, null, null, 0); //$NON-NLS-1$
+    }
+
+    @Override
+    public synchronized Result CreateEnumValue(String networkId,
+            short nodeId, String uniqueId, String name, String value,
+            String interfaceId, String moduleId, long modulePosition) {
+        return addParameterItem(networkId, nodeId, uniqueId,
+                uniqueId + "." + name, interfaceId, moduleId, //$NON-NLS-1$
+                modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateInterface(String networkId,
+            short nodeId, String interfaceId, String interfaceType,
+            ModuleAddressing moduleAddressing, long maxModules,
+            boolean unusedSlots, boolean multipleModules) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        if (!node.interfaces.containsKey(interfaceId)) {
+            node.interfaces.put(interfaceId, new InterfaceData(interfaceId));
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateModularHeadNode(String networkId,
+            short nodeId, String nodeName) {
+        return CreateNode(networkId, nodeId, nodeName, false);
+    }
+
+    @Override
+    public synchronized Result CreateModule(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            int moduleAddress, String moduleType, String moduleName,
+            ModuleAddressing moduleAddressing, int minPosition,
+            int maxPosition, int minAddress, int maxAddress, int maxCount) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        InterfaceData moduleInterface = node.interfaces.get(interfaceId);
+        if (moduleInterface == null) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION,
+                    "Interface " + interfaceId + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        if (moduleInterface.modules.containsKey(modulePosition)) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION, "Position " //$NON-NLS-1$
+                    + modulePosition + " is already used by a module."); //$NON-NLS-1$
+        }
+        moduleInterface.modules.put(modulePosition, new ModuleData(
+                moduleInterface, moduleId, modulePosition, moduleAddress));
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateModuleObject(String networkId,
+            short nodeId, String interfaceId, String moduleId,
+            int modulePosition, long objectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String defaultValue, String actualValue,
+            String rangeSelector) {
+        return addModuleObject(networkId, nodeId, interfaceId, moduleId,
+                modulePosition, objectId, rangeSelector,
+                new ObjectData(dataType, actualValue));
+    }
+
+    @Override
+    public synchronized Result CreateModuleParameterObject(String networkId,
+            short nodeId, String interfaceId, String moduleId,
+            int modulePosition, long objectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String uniqueIdRef, String defaultValue,
+            String actualValue, String rangeSelector) {
+        return addModuleObject(networkId, nodeId, interfaceId, moduleId,
+                modulePosition, objectId, rangeSelector,
+                new ObjectData(dataType, actualValue));
+    }
+
+    @Override
+    public synchronized Result CreateModuleParameterSubObject(
+            String networkId, short nodeId, String interfaceId,
+            String moduleId, int modulePosition, long objectId,
+            short subObjectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String uniqueIdRef, String defaultValue, String actualValue) {
+        return addModuleSubObject(networkId, nodeId, interfaceId, moduleId,
+                modulePosition, objectId, subObjectId,
+                new ObjectData(dataType, actualValue));
+    }
+
+    @Override
+    public synchronized Result CreateModuleSubObject(String networkId,
+            short nodeId, String interfaceId, String moduleId,
+            int modulePosition, long objectId, short subObjectId,
+            ObjectType objectType, String name, PlkDataType dataType,
+            AccessType accessType, PDOMapping pdoMapping, String defaultValue,
+            String actualValue) {
+        return addModuleSubObject(networkId, nodeId, interfaceId, moduleId,
+                modulePosition, objectId, subObjectId,
+                new ObjectData(dataType, actualValue));
+    }
+
+    @Override
+    public synchronized Result CreateNetwork(String networkId) {
+        if (networks.containsKey(networkId)) {
+            return error(ErrorCode.NETWORK_EXISTS,
+                    "Network " + networkId + " already exists."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        networks.put(networkId, new NetworkData());
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateNode(String networkId, short nodeId,
+            String nodeName, boolean isRmn) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return networkNotFound(networkId);
+        }
+        if (network.nodes.containsKey(nodeId)) {
+            return error(ErrorCode.NODE_EXISTS,
+                    "Node " + nodeId + " already exists."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        NodeData node = new NodeData(nodeId, nodeName);
+        if (nodeId != MN_NODE_ID) {
+            node.assignments.add(NodeAssignment.NMT_NODEASSIGN_NODE_EXISTS);
+            node.assignments.add(NodeAssignment.NMT_NODEASSIGN_NODE_IS_CN);
+            node.assignments.add(NodeAssignment.MNT_NODEASSIGN_VALID);
+        }
+        network.nodes.put(nodeId, node);
+        updateNodeAssignment(networkId, node);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateObject(String networkId, short nodeId,
+            long objectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String defaultValue, String actualValue) {
+        return addObject(networkId, nodeId, objectId,
+                new ObjectData(dataType, actualValue));
+    }
+
+    @Override
+    public synchronized Result CreateObjects(String networkId, short nodeId,
+            ObjectDictionaryBatch batch, int fromIndex, int[] failedIndex) {
+        return ObjectDictionaryBatch.create(this, networkId, nodeId, batch,
+                fromIndex, failedIndex);
+    }
+
+    @Override
+    public synchronized Result CreateParameter(String networkId,
+            short nodeId, String uniqueId, ParameterAccess access,
+            IEC_Datatype dataType, boolean hasDataTypeStruct) {
+        return addParameter(networkId, nodeId, uniqueId, null, null, null, 0);
+    }
+
+    @Override
+    public synchronized Result CreateParameter(String networkId,
+            short nodeId, String uniqueId, ParameterAccess access,
+            IEC_Datatype dataType, boolean hasDataTypeStruct,
+            String interfaceId, String moduleId, long modulePosition) {
+        return addParameter(networkId, nodeId, uniqueId, null, interfaceId,
+                moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateParameter(String networkId,
+            short nodeId, String uniqueId, ParameterAccess access,
+            String templateUniqueId) {
+        return addParameter(networkId, nodeId, uniqueId, templateUniqueId,
+                null, null, 0);
+    }
+
+    @Override
+    public synchronized Result CreateParameter(String networkId,
+            short nodeId, String uniqueId, ParameterAccess access,
+            String templateUniqueId, String interfaceId, String moduleId,
+            long modulePosition) {
+        return addParameter(networkId, nodeId, uniqueId, templateUniqueId,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateParameter(String networkId,
+            short nodeId, String uniqueId, String dataTypeUniqueIdRef,
+            ParameterAccess access, boolean hasDataTypeStruct) {
+        return addParameter(networkId, nodeId, uniqueId, null, null, null, 0);
+    }
+
+    @Override
+    public synchronized Result CreateParameter(String networkId,
+            short nodeId, String uniqueId, String dataTypeUniqueIdRef,
+            ParameterAccess access, boolean hasDataTypeStruct,
+            String interfaceId, String moduleId, long modulePosition) {
+        return addParameter(networkId, nodeId, uniqueId, null, interfaceId,
+                moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateParameterGroup(String networkId,
+            short nodeId, String uniqueId, String interfaceId,
+            String moduleId, long modulePosition) {
+        return addParameterItem(networkId, nodeId, null, uniqueId,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateParameterGroup(String networkId,
+            short nodeId, String uniqueId, String parentUniqueId,
+            int bitOffset, String interfaceId, String moduleId,
+            long modulePosition) {
+        return addParameterItem(networkId, nodeId, parentUniqueId, uniqueId,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateParameterGroup(String networkId,
+            short nodeId, String uniqueId, String parentUniqueId,
+            String conditionalUniqueId, String conditionalValue,
+            int bitOffset, String interfaceId, String moduleId,
+            long modulePosition) {
+        return addParameterItem(networkId, nodeId, parentUniqueId, uniqueId,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateParameterObject(String networkId,
+            short nodeId, long objectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String uniqueIdRef, String defaultValue, String actualValue) {
+        return addObject(networkId, nodeId, objectId,
+                new ObjectData(dataType, actualValue));
+    }
+
+    @Override
+    public synchronized Result CreateParameterReference(String networkId,
+            short nodeId, String parameterGroupUniqueId, String uniqueIdRef,
+            String actualValue, int bitOffset, String interfaceId,
+            String moduleId, long modulePosition) {
+        return addParameterItem(networkId, nodeId, parameterGroupUniqueId,
+                parameterGroupUniqueId + "." + uniqueIdRef, interfaceId, //$NON-NLS-1$
+                moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateParameterSubObject(String networkId,
+            short nodeId, long objectId, short subObjectId,
+            ObjectType objectType, String name, PlkDataType dataType,
+            AccessType accessType, PDOMapping pdoMapping, String uniqueIdRef,
+            String defaultValue, String actualValue) {
+        return CreateSubObject(networkId, nodeId, objectId, subObjectId,
+                objectType, name, dataType, accessType, pdoMapping,
+                defaultValue, actualValue);
+    }
+
+    @Override
+    public synchronized Result CreateRange(String networkId, short nodeId,
+            String interfaceId, String name, long baseIndex, long maxIndex,
+            long maxSubIndex, long sortStep, SortMode sortMode,
+            SortNumber sortNumber, PDOMapping pdoMapping) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        InterfaceData moduleInterface = node.interfaces.get(interfaceId);
+        if (moduleInterface == null) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION,
+                    "Interface " + interfaceId + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        moduleInterface.ranges.add(new RangeData(name, baseIndex, maxIndex,
+                maxSubIndex, sortStep, sortMode, sortNumber));
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateStructDatatype(String networkId,
+            short nodeId, String uniqueId, String name) {
+        return addParameterItem(networkId, nodeId, null, uniqueId, null, null,
+                0);
+    }
+
+    @Override
+    public synchronized Result CreateStructDatatype(String networkId,
+            short nodeId, String uniqueId, String name, String interfaceId,
+            String moduleId, long modulePosition) {
+        return addParameterItem(networkId, nodeId, null, uniqueId,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public synchronized Result CreateSubObject(String networkId,
+            short nodeId, long objectId, short subObjectId,
+            ObjectType objectType, String name, PlkDataType dataType,
+            AccessType accessType, PDOMapping pdoMapping, String defaultValue,
+            String actualValue) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ObjectData object = node.objects.get(objectId);
+        if (object == null) {
+            return objectNotFound(objectId);
+        }
+        if (object.subObjects.containsKey(subObjectId)) {
+            return error(ErrorCode.SUBOBJECT_EXISTS,
+                    String.format("Subobject 0x%04X/0x%02X already exists.", //$NON-NLS-1$
+                            objectId, subObjectId));
+        }
+        object.subObjects.put(subObjectId,
+                new ObjectData(dataType, actualValue));
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result CreateVarDeclaration(String networkId,
+            short nodeId, String structUniqueId, String uniqueId, String name,
+            IEC_Datatype dataType, long size, String initialValue) {
+        return addParameterItem(networkId, nodeId, structUniqueId,
+                structUniqueId + "." + uniqueId, null, null, 0); //$NON-NLS-1$
+    }
+
+    @Override
+    public synchronized Result CreateVarDeclaration(String networkId,
+            short nodeId, String structUniqueId, String uniqueId, String name,
+            IEC_Datatype dataType, long size, String initialValue,
+            String interfaceId, String moduleId, long modulePosition) {
+        return addParameterItem(networkId, nodeId, structUniqueId,
+                structUniqueId + "." + uniqueId, interfaceId, moduleId, //$NON-NLS-1$
+                modulePosition);
+    }
+
+    @Override
+    public synchronized Result EnableModule(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            boolean enable) {
+        ModuleData module = findModule(networkId, nodeId, interfaceId,
+                moduleId, modulePosition);
+        if (module == null) {
+            return moduleNotFound(moduleId, modulePosition);
+        }
+        module.enabled = enable;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result EnableNode(String networkId, short nodeId,
+            boolean enable) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        node.enabled = enable;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetAvailableNodeIds(String networkId,
+            List<Short> nodeIdCollection) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return networkNotFound(networkId);
+        }
+        nodeIdCollection.addAll(network.nodes.keySet());
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetChannelActualValues(String networkId,
+            short nodeId, Direction dir, int channelNumber,
+            Map<Map.Entry<Long, Integer>, String> objectCollection) {
+        NodeData node = findNode(networkId, nodeId);
+        ObjectData mappingParam = (node != null)
+                ? node.objects.get(getMappingParamIndex(dir, channelNumber))
+                : null;
+        if (mappingParam == null) {
+            return mappingParamNotFound(networkId, nodeId, dir, channelNumber);
+        }
+        long mappingIndex = getMappingParamIndex(dir, channelNumber);
+        for (Map.Entry<Short, ObjectData> entry : mappingParam.subObjects
+                .entrySet()) {
+            objectCollection.put(
+                    new AbstractMap.SimpleEntry<Long, Integer>(
+                            mappingIndex, Integer.valueOf(entry.getKey())),
+                    getValue(entry.getValue().actualValue));
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetChannelSize(String networkId, short nodeId,
+            Direction dir, int channelNumber, long[] size) {
+        NodeData node = findNode(networkId, nodeId);
+        ObjectData mappingParam = (node != null)
+                ? node.objects.get(getMappingParamIndex(dir, channelNumber))
+                : null;
+        if (mappingParam == null) {
+            return mappingParamNotFound(networkId, nodeId, dir, channelNumber);
+        }
+        size[0] = getChannelBitSize(mappingParam);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetLossOfSocTolerance(String networkId,
+            short nodeId, long[] lossOfSocTolerance) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        lossOfSocTolerance[0] = node.lossOfSocTolerance;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetModuleObjectCurrentIndex(String networkId,
+            short nodeId, String interfaceId, String moduleId,
+            int modulePosition, long objectId, int subObjectId, long[] index,
+            int[] subIndex) {
+        ModuleData module = findModule(networkId, nodeId, interfaceId,
+                moduleId, modulePosition);
+        if (module == null) {
+            return moduleNotFound(moduleId, modulePosition);
+        }
+        Long currentIndex;
+        if (objectId == 0) {
+            Iterator<Long> indices = module.objectIndices.values().iterator();
+            currentIndex = indices.hasNext() ? indices.next() : null;
+        } else {
+            currentIndex = module.objectIndices.get(objectId);
+        }
+        if (currentIndex == null) {
+            return objectNotFound(objectId);
+        }
+        index[0] = currentIndex;
+        if (subObjectId >= 0) {
+            Integer currentSubIndex = module.subObjectIndices
+                    .get(getSubObjectKey(objectId, subObjectId));
+            subIndex[0] = (currentSubIndex != null) ? currentSubIndex
+                    : subObjectId;
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetModuleParameterCurrentName(
+            String networkId, short nodeId, String interfaceId,
+            String moduleId, int modulePosition, String parameterUniqueId,
+            String[] parameterName) {
+        ModuleData module = findModule(networkId, nodeId, interfaceId,
+                moduleId, modulePosition);
+        if (module == null) {
+            return moduleNotFound(moduleId, modulePosition);
+        }
+        parameterName[0] = module.getParameterName(parameterUniqueId);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetNodeAssignment(String networkId,
+            short nodeId, List<Long> assignmentCollection) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        for (NodeAssignment assignment : node.assignments) {
+            assignmentCollection.add(Long.valueOf(assignment.swigValue()));
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetObjectSize(String networkId, short nodeId,
+            long objectId, long[] size) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ObjectData object = node.objects.get(objectId);
+        if (object == null) {
+            return objectNotFound(objectId);
+        }
+        size[0] = getBitSize(object.dataType);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetObjectsWithActualValue(String networkId,
+            short nodeId,
+            Map<Map.Entry<Long, Integer>, String> objectCollection) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        for (Map.Entry<Long, ObjectData> objectEntry : node.objects
+                .entrySet()) {
+            ObjectData object = objectEntry.getValue();
+            if (object.subObjects.isEmpty()) {
+                if (!getValue(object.actualValue).isEmpty()) {
+                    objectCollection.put(
+                            new AbstractMap.SimpleEntry<Long, Integer>(
+                                    objectEntry.getKey(), Integer.valueOf(-1)),
+                            object.actualValue);
+                }
+                continue;
+            }
+            for (Map.Entry<Short, ObjectData> subObjectEntry : object.subObjects
+                    .entrySet()) {
+                String actualValue = subObjectEntry.getValue().actualValue;
+                if (!getValue(actualValue).isEmpty()) {
+                    objectCollection.put(
+                            new AbstractMap.SimpleEntry<Long, Integer>(
+                                    objectEntry.getKey(),
+                                    Integer.valueOf(subObjectEntry.getKey())),
+                            actualValue);
+                }
+            }
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetPResTimeOut(String networkId, short nodeId,
+            long[] presTimeout) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        presTimeout[0] = node.presTimeout;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetSubObjectActualValue(String networkId,
+            short nodeId, long objectId, short subObjectId,
+            String[] actualValue) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ObjectData subObject = findObject(node, objectId, subObjectId);
+        if (subObject == null) {
+            return subObjectNotFound(objectId, subObjectId);
+        }
+        actualValue[0] = getValue(subObject.actualValue);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result GetSupportedSettingIds(
+            List<String> supportedSettings) {
+        supportedSettings.addAll(SUPPORTED_SETTING_IDS);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result InitEclipseLoggingPath(String loggingPath) {
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result MapAllObjectsToChannel(String networkId,
+            short nodeId, Direction dir, int channelNumber,
+            boolean updateNrOfEntries) {
+        NodeData node = findNode(networkId, nodeId);
+        ObjectData mappingParam = (node != null)
+                ? node.objects.get(getMappingParamIndex(dir, channelNumber))
+                : null;
+        if (mappingParam == null) {
+            return mappingParamNotFound(networkId, nodeId, dir, channelNumber);
+        }
+        updateMappingOffsets(mappingParam, updateNrOfEntries);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result MapObjectToChannel(String networkId,
+            short nodeId, Direction dir, int channelNumber, short position,
+            long objectId, short fromNode, boolean updateNrOfEntries) {
+        return mapToChannel(networkId, nodeId, dir, channelNumber, position,
+                objectId, (short) 0, fromNode, updateNrOfEntries);
+    }
+
+    @Override
+    public synchronized Result MapSubObjectToChannel(String networkId,
+            short nodeId, Direction dir, int channelNumber, short position,
+            long objectId, int subObjectId, short fromNode,
+            boolean updateNrOfEntries) {
+        return mapToChannel(networkId, nodeId, dir, channelNumber, position,
+                objectId, (short) subObjectId, fromNode, updateNrOfEntries);
+    }
+
+    @Override
+    public synchronized Result MoveMappingObject(String networkId,
+            short nodeId, Direction dir, int channelNumber, int oldPosition,
+            int newPosition) {
+        NodeData node = findNode(networkId, nodeId);
+        ObjectData mappingParam = (node != null)
+                ? node.objects.get(getMappingParamIndex(dir, channelNumber))
+                : null;
+        if (mappingParam == null) {
+            return mappingParamNotFound(networkId, nodeId, dir, channelNumber);
+        }
+        ObjectData oldEntry = mappingParam.subObjects.get((short) oldPosition);
+        ObjectData newEntry = mappingParam.subObjects.get((short) newPosition);
+        if ((oldEntry == null) || (newEntry == null)) {
+            return subObjectNotFound(getMappingParamIndex(dir, channelNumber),
+                    (short) ((oldEntry == null) ? oldPosition : newPosition));
+        }
+        String oldValue = oldEntry.actualValue;
+        oldEntry.actualValue = newEntry.actualValue;
+        newEntry.actualValue = oldValue;
+        updateMappingOffsets(mappingParam, false);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result MoveModule(String networkId, short nodeId,
+            String interfaceId, String moduleId, int oldPosition,
+            int newPosition) {
+        ModuleData module = findModule(networkId, nodeId, interfaceId,
+                moduleId, oldPosition);
+        if (module == null) {
+            return moduleNotFound(moduleId, oldPosition);
+        }
+        Map<Integer, ModuleData> modules = module.moduleInterface.modules;
+        ModuleData otherModule = modules.remove(newPosition);
+        modules.remove(oldPosition);
+        module.position = newPosition;
+        modules.put(newPosition, module);
+        if (otherModule != null) {
+            otherModule.position = oldPosition;
+            modules.put(oldPosition, otherModule);
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result MoveModules(String networkId, short nodeId,
+            String interfaceId, List<String> moduleIds,
+            List<Integer> oldPositions, List<Integer> oldAddresses,
+            List<Integer> newPositions, List<Integer> newAddresses) {
+        List<ModuleData> movedModules = new ArrayList<>(moduleIds.size());
+        for (int i = 0; i < moduleIds.size(); i++) {
+            ModuleData module = findModule(networkId, nodeId, interfaceId,
+                    moduleIds.get(i), oldPositions.get(i).intValue());
+            if (module == null) {
+                return moduleNotFound(moduleIds.get(i),
+                        oldPositions.get(i).intValue());
+            }
+            movedModules.add(module);
+        }
+        if (movedModules.isEmpty()) {
+            return SUCCESS;
+        }
+
+        Map<Integer, ModuleData> modules = movedModules
+                .get(0).moduleInterface.modules;
+        for (ModuleData module : movedModules) {
+            modules.remove(module.position);
+        }
+        for (Integer newPosition : newPositions) {
+            if (modules.containsKey(newPosition)) {
+                for (ModuleData module : movedModules) {
+                    modules.put(module.position, module);
+                }
+                return error(ErrorCode.UNHANDLED_EXCEPTION, "Position " //$NON-NLS-1$
+                        + newPosition + " is occupied by another module."); //$NON-NLS-1$
+            }
+        }
+        for (int i = 0; i < movedModules.size(); i++) {
+            ModuleData module = movedModules.get(i);
+            module.position = newPositions.get(i).intValue();
+            module.address = newAddresses.get(i).intValue();
+            modules.put(module.position, module);
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public Result newResult() {
+        return SUCCESS;
+    }
+
+    @Override
+    public Result newResult(ErrorCode errorType, String errorMessage) {
+        return error(errorType, errorMessage);
+    }
+
+    @Override
+    public synchronized Result RemoveConfiguration(String networkId,
+            String configurationName) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return networkNotFound(networkId);
+        }
+        if (network.configurations.remove(configurationName) == null) {
+            return configurationNotFound(networkId, configurationName);
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result RemoveConfigurationSetting(String networkId,
+            String configurationName, String settingName) {
+        Map<String, Boolean> settings = findConfiguration(networkId,
+                configurationName);
+        if (settings == null) {
+            return configurationNotFound(networkId, configurationName);
+        }
+        settings.remove(settingName);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result RemoveModule(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition) {
+        NodeData node = findNode(networkId, nodeId);
+        ModuleData module = findModule(networkId, nodeId, interfaceId,
+                moduleId, modulePosition);
+        if ((node == null) || (module == null)) {
+            return moduleNotFound(moduleId, modulePosition);
+        }
+        Iterator<ObjectData> objects = node.objects.values().iterator();
+        while (objects.hasNext()) {
+            ObjectData object = objects.next();
+            if (object.module == module) {
+                objects.remove();
+                continue;
+            }
+            Iterator<ObjectData> subObjects = object.subObjects.values()
+                    .iterator();
+            while (subObjects.hasNext()) {
+                if (subObjects.next().module == module) {
+                    subObjects.remove();
+                }
+            }
+        }
+        Iterator<ParameterData> parameters = node.parameters.values()
+                .iterator();
+        while (parameters.hasNext()) {
+            if (parameters.next().module == module) {
+                parameters.remove();
+            }
+        }
+        module.moduleInterface.modules.remove(modulePosition);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result RemoveNetwork(String networkId) {
+        if (networks.remove(networkId) == null) {
+            return networkNotFound(networkId);
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result RemoveNode(String networkId, short nodeId) {
+        NetworkData network = networks.get(networkId);
+        if ((network == null) || (network.nodes.remove(nodeId) == null)) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        updateManagingNodeObject(networkId, NMT_NODE_ASSIGNMENT, nodeId,
+                "0x00000000"); //$NON-NLS-1$
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result RemoveNodeAssignment(String networkId,
+            short nodeId, NodeAssignment nodeAssign) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        node.assignments.remove(nodeAssign);
+        updateNodeAssignment(networkId, node);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result ReplaceConfigurationName(String networkId,
+            String oldConfigurationName, String newConfigurationName) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return networkNotFound(networkId);
+        }
+        Map<String, Boolean> settings = network.configurations
+                .remove(oldConfigurationName);
+        if (settings == null) {
+            return configurationNotFound(networkId, oldConfigurationName);
+        }
+        network.configurations.put(newConfigurationName, settings);
+        if (oldConfigurationName.equals(network.activeConfiguration)) {
+            network.activeConfiguration = newConfigurationName;
+        }
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result ResetOperationMode(String networkId,
+            short nodeId) {
+        if (findNode(networkId, nodeId) == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        updateManagingNodeObject(networkId, NMT_MULTIPLEXED_CYCLE_ASSIGN,
+                nodeId, "0"); //$NON-NLS-1$
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetActiveConfiguration(String networkId,
+            String configurationName) {
+        NetworkData network = networks.get(networkId);
+        if (network == null) {
+            return networkNotFound(networkId);
+        }
+        if (!network.configurations.containsKey(configurationName)) {
+            return configurationNotFound(networkId, configurationName);
+        }
+        network.activeConfiguration = configurationName;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetAsndMaxNr(String networkId, short nodeId,
+            short asndMaxNr) {
+        return setNodeObjectValue(networkId, nodeId, NMT_MN_CYCLE_TIMING,
+                ASND_MAX_NUMBER_SUB_INDEX, String.valueOf(asndMaxNr));
+    }
+
+    @Override
+    public synchronized Result SetAsyncMtu(String networkId, int asyncMtu) {
+        return setNodeObjectValue(networkId, MN_NODE_ID, NMT_CYCLE_TIMING,
+                ASYNC_MTU_SUB_INDEX, String.valueOf(asyncMtu));
+    }
+
+    @Override
+    public synchronized Result SetAsyncSlotTimeout(String networkId,
+            short nodeId, long asyncSlotTimeout) {
+        return setNodeObjectValue(networkId, nodeId, NMT_MN_CYCLE_TIMING,
+                ASYNC_SLOT_TIMEOUT_SUB_INDEX, String.valueOf(asyncSlotTimeout));
+    }
+
+    @Override
+    public synchronized Result SetConfigurationSettingEnabled(
+            String networkId, String configurationName, String settingName,
+            boolean enabled) {
+        Map<String, Boolean> settings = findConfiguration(networkId,
+                configurationName);
+        if (settings == null) {
+            return configurationNotFound(networkId, configurationName);
+        }
+        if (!settings.containsKey(settingName)) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION,
+                    "Setting " + settingName + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        settings.put(settingName, Boolean.valueOf(enabled));
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetCycleTime(String networkId,
+            long cycleTime) {
+        return setNodeObjectValue(networkId, MN_NODE_ID, NMT_CYCLE_LEN, -1,
+                String.valueOf(cycleTime));
+    }
+
+    @Override
+    public synchronized Result SetFeatureValue(String networkId,
+            short nodeId, CNFeatureEnum feature, String value) {
+        return checkNode(networkId, nodeId);
+    }
+
+    @Override
+    public synchronized Result SetFeatureValue(String networkId,
+            short nodeId, GeneralFeatureEnum feature, String value) {
+        return checkNode(networkId, nodeId);
+    }
+
+    @Override
+    public synchronized Result SetFeatureValue(String networkId,
+            short nodeId, MNFeatureEnum feature, String value) {
+        return checkNode(networkId, nodeId);
+    }
+
+    @Override
+    public synchronized Result SetLossOfSocTolerance(String networkId,
+            short nodeId, long lossOfSocTolerance) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        node.lossOfSocTolerance = lossOfSocTolerance;
+        updateObject(node, NMT_LOSS_OF_SOC_TOLERANCE, -1,
+                String.valueOf(lossOfSocTolerance));
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetModuleAddress(String networkId,
+            short nodeId, String interfaceId, String moduleId,
+            int modulePosition, int moduleAddress) {
+        ModuleData module = findModule(networkId, nodeId, interfaceId,
+                moduleId, modulePosition);
+        if (module == null) {
+            return moduleNotFound(moduleId, modulePosition);
+        }
+        module.address = moduleAddress;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetMultiplexedCycleCount(String networkId,
+            int multiplexedCycleCount) {
+        return setNodeObjectValue(networkId, MN_NODE_ID, NMT_CYCLE_TIMING,
+                MULTIPLEXED_CYCLE_COUNT_SUB_INDEX,
+                String.valueOf(multiplexedCycleCount));
+    }
+
+    @Override
+    public synchronized Result SetNodeId(String networkId, short nodeId,
+            short newNodeId) {
+        NetworkData network = networks.get(networkId);
+        NodeData node = (network != null) ? network.nodes.get(nodeId) : null;
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        if (network.nodes.containsKey(newNodeId)) {
+            return error(ErrorCode.NODE_EXISTS,
+                    "Node " + newNodeId + " already exists."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        network.nodes.remove(nodeId);
+        updateManagingNodeObject(networkId, NMT_NODE_ASSIGNMENT, nodeId,
+                "0x00000000"); //$NON-NLS-1$
+        node.nodeId = newNodeId;
+        network.nodes.put(newNodeId, node);
+        updateNodeAssignment(networkId, node);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetNodeName(String networkId, short nodeId,
+            String nodeName) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        node.name = nodeName;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetObjectActualValue(String networkId,
+            short nodeId, long objectId, String actualValue, boolean force,
+            boolean enableValidation) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ObjectData object = node.objects.get(objectId);
+        if (object == null) {
+            return objectNotFound(objectId);
+        }
+        if (enableValidation && !isWithinLimits(object, actualValue)) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION, String.format(
+                    "Value %s is not valid for object 0x%04X.", //$NON-NLS-1$
+                    actualValue, objectId));
+        }
+        object.actualValue = actualValue;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetObjectLimits(String networkId,
+            short nodeId, long objectId, String lowLimit, String highLimit) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ObjectData object = node.objects.get(objectId);
+        if (object == null) {
+            return objectNotFound(objectId);
+        }
+        object.lowLimit = lowLimit;
+        object.highLimit = highLimit;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetOperationModeChained(String networkId,
+            short nodeId) {
+        return checkNode(networkId, nodeId);
+    }
+
+    @Override
+    public synchronized Result SetOperationModeMultiplexed(String networkId,
+            short nodeId, short multiplexedCycle) {
+        if (findNode(networkId, nodeId) == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        updateManagingNodeObject(networkId, NMT_MULTIPLEXED_CYCLE_ASSIGN,
+                nodeId, String.valueOf(multiplexedCycle));
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetParameterActualValue(String networkId,
+            short nodeId, String uniqueId, String actualValue) {
+        ParameterData parameter = findParameter(networkId, nodeId, uniqueId);
+        if (parameter == null) {
+            return parameterNotFound(networkId, nodeId, uniqueId);
+        }
+        if (!parameter.allowedValues.isEmpty()
+                && !parameter.allowedValues.contains(actualValue)) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION, "Value " + actualValue //$NON-NLS-1$
+                    + " is not allowed for parameter " + uniqueId + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        if (!isWithinRange(parameter, actualValue)) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION, "Value " + actualValue //$NON-NLS-1$
+                    + " is out of range for parameter " + uniqueId + "."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        parameter.actualValue = actualValue;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetParameterAllowedRange(String networkId,
+            short nodeId, String uniqueId, String minValue, String maxValue) {
+        ParameterData parameter = findParameter(networkId, nodeId, uniqueId);
+        if (parameter == null) {
+            return parameterNotFound(networkId, nodeId, uniqueId);
+        }
+        parameter.minValue = minValue;
+        parameter.maxValue = maxValue;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetParameterAllowedValues(String networkId,
+            short nodeId, String uniqueId, List<String> allowedValues) {
+        ParameterData parameter = findParameter(networkId, nodeId, uniqueId);
+        if (parameter == null) {
+            return parameterNotFound(networkId, nodeId, uniqueId);
+        }
+        parameter.allowedValues.clear();
+        parameter.allowedValues.addAll(allowedValues);
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetParameterDefaultValue(String networkId,
+            short nodeId, String uniqueId, String defaultValue) {
+        ParameterData parameter = findParameter(networkId, nodeId, uniqueId);
+        if (parameter == null) {
+            return parameterNotFound(networkId, nodeId, uniqueId);
+        }
+        parameter.defaultValue = defaultValue;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetPrescaler(String networkId, int prescaler) {
+        return setNodeObjectValue(networkId, MN_NODE_ID, NMT_CYCLE_TIMING,
+                PRESCALER_SUB_INDEX, String.valueOf(prescaler));
+    }
+
+    @Override
+    public synchronized Result SetPResTimeOut(String networkId, short nodeId,
+            long presTimeout) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        node.presTimeout = presTimeout;
+        updateManagingNodeObject(networkId, NMT_MN_CN_PRES_TIMEOUT, nodeId,
+                String.valueOf(presTimeout));
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetRedundantManagingNodePriority(
+            String networkId, short nodeId, long priority) {
+        return checkNode(networkId, nodeId);
+    }
+
+    @Override
+    public synchronized Result SetRedundantManagingNodeWaitNotActive(
+            String networkId, short nodeId, long waitNotActive) {
+        return checkNode(networkId, nodeId);
+    }
+
+    @Override
+    public synchronized Result SetSubObjectActualValue(String networkId,
+            short nodeId, long objectId, short subObjectId,
+            String actualValue, boolean force, boolean enableValidation) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ObjectData subObject = findObject(node, objectId, subObjectId);
+        if (subObject == null) {
+            return subObjectNotFound(objectId, subObjectId);
+        }
+        if (enableValidation && !isWithinLimits(subObject, actualValue)) {
+            return error(ErrorCode.UNHANDLED_EXCEPTION, String.format(
+                    "Value %s is not valid for subobject 0x%04X/0x%02X.", //$NON-NLS-1$
+                    actualValue, objectId, subObjectId));
+        }
+        subObject.actualValue = actualValue;
+        return SUCCESS;
+    }
+
+    @Override
+    public synchronized Result SetSubObjectLimits(String networkId,
+            short nodeId, long objectId, short subObjectId, String lowLimit,
+            String highLimit) {
+        NodeData node = findNode(networkId, nodeId);
+        if (node == null) {
+            return nodeNotFound(networkId, nodeId);
+        }
+        ObjectData subObject = findObject(node, objectId, subObjectId);
+        if (subObject == null) {
+            return subObjectNotFound(objectId, subObjectId);
+        }
+        subObject.lowLimit = lowLimit;
+        subObject.highLimit = highLimit;
+        return SUCCESS;
+    }
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * @file   InstrumentedOpenConfiguratorCore.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.epsg.openconfigurator.lib.wrapper.Result;
+
+/**
+ * Facade which records the calls of a configuration core into the
+ * {@link CoreCallStatistics}.
+ *
+ * The facade is a dynamic proxy of {@link IOpenConfiguratorCore} so that every
+ * method of the core is instrumented without further changes when the
+ * interface grows. A call is counted as failed if it throws or if the returned
+ * result is not successful. The calls are counted for the network given as
+ * their first argument.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class InstrumentedOpenConfiguratorCore
+        implements InvocationHandler {
+
+    /**
+     * Creates the instrumented facade of the given core.
+     *
+     * @param core The core to be instrumented.
+     * @param statistics The statistics to record the calls into.
+     * @return The instrumented core.
+     */
+    public static IOpenConfiguratorCore create(IOpenConfiguratorCore core,
+            CoreCallStatistics statistics) {
+        return (IOpenConfiguratorCore) Proxy.newProxyInstance(
+                IOpenConfiguratorCore.class.getClassLoader(),
+                new Class<?>[] { IOpenConfiguratorCore.class },
+                new InstrumentedOpenConfiguratorCore(core, statistics));
+    }
+
+    /**
+     * Returns the instrumented core of the given facade.
+     *
+     * @param core The core or the instrumented facade.
+     * @return The instrumented core, or the given core if it is not a facade.
+     */
+    public static IOpenConfiguratorCore getDelegate(
+            IOpenConfiguratorCore core) {
+        if (Proxy.isProxyClass(core.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(core);
+            if (handler instanceof InstrumentedOpenConfiguratorCore) {
+                return ((InstrumentedOpenConfiguratorCore) handler).core;
+            }
+        }
+        return core;
+    }
+
+    private final IOpenConfiguratorCore core;
+
+    private final CoreCallStatistics statistics;
+
+    private InstrumentedOpenConfiguratorCore(IOpenConfiguratorCore core,
+            CoreCallStatistics statistics) {
+        this.core = core;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args)
+            throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(core, args);
+        }
+
+        String networkId = ((args != null) && (args.length > 0)
+                && (args[0] instanceof String)) ? (String) args[0] : null;
+        long startTime = System.nanoTime();
+        Object result;
+        try {
+            result = method.invoke(core, args);
+        } catch (InvocationTargetException e) {
+            statistics.record(method.getName(), networkId,
+                    System.nanoTime() - startTime, true);
+            throw e.getCause();
+        }
+        long duration = System.nanoTime() - startTime;
+
+        boolean failed = (result instanceof Result)
+                && !((Result) result).IsSuccessful();
+        statistics.record(method.getName(), networkId, duration, failed);
+        return result;
+    }
+}
@@ -0,0 +1,999 @@
+/*******************************************************************************
+ * @file   NativeOpenConfiguratorCore.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.core;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.epsg.openconfigurator.lib.wrapper.AccessType;
+import org.epsg.openconfigurator.lib.wrapper.AssignmentCollection;
+import org.epsg.openconfigurator.lib.wrapper.ByteCollection;
+import org.epsg.openconfigurator.lib.wrapper.CNFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.Direction;
+import org.epsg.openconfigurator.lib.wrapper.DynamicChannelAccessType;
+import org.epsg.openconfigurator.lib.wrapper.ErrorCode;
+import org.epsg.openconfigurator.lib.wrapper.GeneralFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.IEC_Datatype;
+import org.epsg.openconfigurator.lib.wrapper.MNFeatureEnum;
+import org.epsg.openconfigurator.lib.wrapper.MapIterator;
+import org.epsg.openconfigurator.lib.wrapper.ModuleAddressing;
+import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
+import org.epsg.openconfigurator.lib.wrapper.ObjectCollection;
+import org.epsg.openconfigurator.lib.wrapper.ObjectType;
+import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.lib.wrapper.PDOMapping;
+import org.epsg.openconfigurator.lib.wrapper.ParameterAccess;
+import org.epsg.openconfigurator.lib.wrapper.PlkDataType;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+import org.epsg.openconfigurator.lib.wrapper.SortMode;
+import org.epsg.openconfigurator.lib.wrapper.SortNumber;
+import org.epsg.openconfigurator.lib.wrapper.StringCollection;
+
+/**
+ * Configuration core which delegates to the native openCONFIGURATOR library.
+ *
+ * The native library collections are copied into the Java collections of the
+ * {@link IOpenConfiguratorCore}.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class NativeOpenConfiguratorCore implements IOpenConfiguratorCore {
+
+    /**
+     * Copies the objects with actual values of the library into the Java
+     * collection.
+     *
+     * @param libObjectCollection The object collection of the library.
+     * @param objectCollection The Java object collection.
+     */
+    private static void copyObjectCollection(
+            ObjectCollection libObjectCollection,
+            Map<Map.Entry<Long, Integer>, String> objectCollection) {
+        MapIterator iterator = libObjectCollection.iterator();
+        while (iterator.hasNext()) {
+            String actualValue = iterator.GetValue();
+            Map.Entry<Long, Integer> entryVal = new AbstractMap.SimpleEntry<>(
+                    iterator.GetKey().getFirst(),
+                    iterator.GetKey().getSecond());
+            objectCollection.put(entryVal, actualValue);
+            iterator.next();
+        }
+    }
+
+    /**
+     * Instance of the native library.
+     */
+    private final OpenConfiguratorCore core;
+
+    /**
+     * Journal of the node calls to emulate the copy of the nodes.
+     */
+    private final NodeJournal journal = new NodeJournal(this);
+
+    /**
+     * Creates the configuration core with the instance of the native library.
+     * The native libraries have to be loaded before.
+     */
+    public NativeOpenConfiguratorCore() {
+        core = OpenConfiguratorCore.GetInstance();
+    }
+
+    @Override
+    public Result AddNodeAssignment(String networkId, short nodeId,
+            NodeAssignment nodeAssign) {
+        return core.AddNodeAssignment(networkId, nodeId, nodeAssign);
+    }
+
+    @Override
+    public Result BuildCProcessImage(String networkId, short nodeId,
+            String[] piDataOutput) {
+        return core.BuildCProcessImage(networkId, nodeId, piDataOutput);
+    }
+
+    @Override
+    public Result BuildConfiguration(String networkId,
+            String[] configurationOutput, List<Short> cdcOutput) {
+        ByteCollection cdcByteCollection = new ByteCollection();
+        Result res = core.BuildConfiguration(networkId, configurationOutput,
+                cdcByteCollection);
+        for (int i = 0; i < cdcByteCollection.size(); i++) {
+            cdcOutput.add(cdcByteCollection.get(i));
+        }
+        return res;
+    }
+
+    @Override
+    public Result BuildNETProcessImage(String networkId, short nodeId,
+            String[] piDataOutput) {
+        return core.BuildNETProcessImage(networkId, nodeId, piDataOutput);
+    }
+
+    @Override
+    public Result BuildXMLProcessImage(String networkId, short nodeId,
+            String[] piDataOutput) {
+        return core.BuildXMLProcessImage(networkId, nodeId, piDataOutput);
+    }
+
+    @Override
+    public Result ClearMappingChannel(String networkId, short nodeId,
+            Direction dir, int channelNumber) {
+        return core.ClearMappingChannel(networkId, nodeId, dir, channelNumber);
+    }
+
+    @Override
+    public Result ClearMappingObject(String networkId, short nodeId,
+            Direction dir, int channelNumber, short position) {
+        return core.ClearMappingObject(networkId, nodeId, dir, channelNumber,
+                position);
+    }
+
+    /**
+     * The wrapper has no copy entry point, so the calls journaled for the node
+     * are replayed under the new node ID. Only the nodes created through the
+     * facade of {@link #getJournal()} can be copied.
+     */
+    @Override
+    public Result CopyNode(String networkId, short nodeId, short newNodeId,
+            String nodeName) {
+        return journal.copy(networkId, nodeId, newNodeId, nodeName);
+    }
+
+    @Override
+    public Result CreateArrayDatatype(String networkId, short nodeId,
+            String uniqueId, String name, long lowerLimit, long upperLimit,
+            IEC_Datatype dataType) {
+        return core.CreateArrayDatatype(networkId, nodeId, uniqueId, name,
+                lowerLimit, upperLimit, dataType);
+    }
+
+    @Override
+    public Result CreateArrayDatatype(String networkId, short nodeId,
+            String uniqueId, String name, long lowerLimit, long upperLimit,
+            IEC_Datatype dataType, String interfaceId, String moduleId,
+            long modulePosition) {
+        return core.CreateArrayDatatype(networkId, nodeId, uniqueId, name,
+                lowerLimit, upperLimit, dataType, interfaceId, moduleId,
+                modulePosition);
+    }
+
+    @Override
+    public Result CreateConfiguration(String networkId,
+            String configurationName) {
+        return core.CreateConfiguration(networkId, configurationName);
+    }
+
+    @Override
+    public Result CreateConfigurationSetting(String networkId,
+            String configurationName, String settingName, String value) {
+        return core.CreateConfigurationSetting(networkId, configurationName,
+                settingName, value);
+    }
+
+    @Override
+    public Result CreateDynamicChannel(String networkId, short nodeId,
+            PlkDataType dataType, DynamicChannelAccessType accessType,
+            long startIndex, long endIndex, long maxNumber, long addressOffset,
+            short bitAlignment) {
+        return core.CreateDynamicChannel(networkId, nodeId, dataType,
+                accessType, startIndex, endIndex, maxNumber, addressOffset,
+                bitAlignment);
+    }
+
+    @Override
+    public Result CreateEnumDatatype(String networkId, short nodeId,
+            String uniqueId, String name, IEC_Datatype dataType) {
+        return core.CreateEnumDatatype(networkId, nodeId, uniqueId, name,
+                dataType);
+    }
+
+    @Override
+    public Result CreateEnumDatatype(String networkId, short nodeId,
+            String uniqueId, String name, IEC_Datatype dataType, int size) {
+        return core.CreateEnumDatatype(networkId, nodeId, uniqueId, name,
+                dataType, size);
+    }
+
+    @Override
+    public Result CreateEnumDatatype(String networkId, short nodeId,
+            String uniqueId, String name, IEC_Datatype dataType, int size,
+            String interfaceId, String moduleId, long modulePosition) {
+        return core.CreateEnumDatatype(networkId, nodeId, uniqueId, name,
+                dataType, size, interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public Result CreateEnumValue(String networkId, short nodeId,
+            String uniqueId, String name, String value) {
+        return core.CreateEnumValue(networkId, nodeId, uniqueId, name, value);
+    }
+
+    @Override
+    public Result CreateEnumValue(String networkId, short nodeId,
+            String uniqueId, String name, String value, String interfaceId,
+            String moduleId, long modulePosition) {
+        return core.CreateEnumValue(networkId, nodeId, uniqueId, name, value,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public Result CreateInterface(String networkId, short nodeId,
+            String interfaceId, String interfaceType,
+            ModuleAddressing moduleAddressing, long maxModules,
+            boolean unusedSlots, boolean multipleModules) {
+        return core.CreateInterface(networkId, nodeId, interfaceId,
+                interfaceType, moduleAddressing, maxModules, unusedSlots,
+                multipleModules);
+    }
+
+    @Override
+    public Result CreateModularHeadNode(String networkId, short nodeId,
+            String nodeName) {
+        return core.CreateModularHeadNode(networkId, nodeId, nodeName);
+    }
+
+    @Override
+    public Result CreateModule(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            int moduleAddress, String moduleType, String moduleName,
+            ModuleAddressing moduleAddressing, int minPosition, int maxPosition,
+            int minAddress, int maxAddress, int maxCount) {
+        return core.CreateModule(networkId, nodeId, interfaceId, moduleId,
+                modulePosition, moduleAddress, moduleType, moduleName,
+                moduleAddressing, minPosition, maxPosition, minAddress,
+                maxAddress, maxCount);
+    }
+
+    @Override
+    public Result CreateModuleObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String defaultValue, String actualValue, String rangeSelector) {
+        return core.CreateModuleObject(networkId, nodeId, interfaceId, moduleId,
+                modulePosition, objectId, objectType, name, dataType,
+                accessType, pdoMapping, defaultValue, actualValue,
+                rangeSelector);
+    }
+
+    @Override
+    public Result CreateModuleParameterObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String uniqueIdRef, String defaultValue, String actualValue,
+            String rangeSelector) {
+        return core.CreateModuleParameterObject(networkId, nodeId, interfaceId,
+                moduleId, modulePosition, objectId, objectType, name, dataType,
+                accessType, pdoMapping, uniqueIdRef, defaultValue, actualValue,
+                rangeSelector);
+    }
+
+    @Override
+    public Result CreateModuleParameterSubObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, short subObjectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String uniqueIdRef, String defaultValue,
+            String actualValue) {
+        return core.CreateModuleParameterSubObject(networkId, nodeId,
+                interfaceId, moduleId, modulePosition, objectId, subObjectId,
+                objectType, name, dataType, accessType, pdoMapping, uniqueIdRef,
+                defaultValue, actualValue);
+    }
+
+    @Override
+    public Result CreateModuleSubObject(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, short subObjectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String defaultValue, String actualValue) {
+        return core.CreateModuleSubObject(networkId, nodeId, interfaceId,
+                moduleId, modulePosition, objectId, subObjectId, objectType,
+                name, dataType, accessType, pdoMapping, defaultValue,
+                actualValue);
+    }
+
+    @Override
+    public Result CreateNetwork(String networkId) {
+        return core.CreateNetwork(networkId);
+    }
+
+    @Override
+    public Result CreateNode(String networkId, short nodeId, String nodeName,
+            boolean isRmn) {
+        return core.CreateNode(networkId, nodeId, nodeName, isRmn);
+    }
+
+    @Override
+    public Result CreateObject(String networkId, short nodeId, long objectId,
+            ObjectType objectType, String name, PlkDataType dataType,
+            AccessType accessType, PDOMapping pdoMapping, String defaultValue,
+            String actualValue) {
+        return core.CreateObject(networkId, nodeId, objectId, objectType, name,
+                dataType, accessType, pdoMapping, defaultValue, actualValue);
+    }
+
+    /**
+     * The wrapper has no bulk entry point yet, so the entries are created with
+     * the single-object calls of the library.
+     */
+    @Override
+    public Result CreateObjects(String networkId, short nodeId,
+            ObjectDictionaryBatch batch, int fromIndex, int[] failedIndex) {
+        return ObjectDictionaryBatch.create(this, networkId, nodeId, batch,
+                fromIndex, failedIndex);
+    }
+
+    @Override
+    public Result CreateParameter(String networkId, short nodeId,
+            String uniqueId, ParameterAccess access, IEC_Datatype dataType,
+            boolean hasDataTypeStruct) {
+        return core.CreateParameter(networkId, nodeId, uniqueId, access,
+                dataType, hasDataTypeStruct);
+    }
+
+    @Override
+    public Result CreateParameter(String networkId, short nodeId,
+            String uniqueId, ParameterAccess access, IEC_Datatype dataType,
+            boolean hasDataTypeStruct, String interfaceId, String moduleId,
+            long modulePosition) {
+        return core.CreateParameter(networkId, nodeId, uniqueId, access,
+                dataType, hasDataTypeStruct, interfaceId, moduleId,
+                modulePosition);
+    }
+
+    @Override
+    public Result CreateParameter(String networkId, short nodeId,
+            String uniqueId, ParameterAccess access, String templateUniqueId) {
+        return core.CreateParameter(networkId, nodeId, uniqueId, access,
+                templateUniqueId);
+    }
+
+    @Override
+    public Result CreateParameter(String networkId, short nodeId,
+            String uniqueId, ParameterAccess access, String templateUniqueId,
+            String interfaceId, String moduleId, long modulePosition) {
+        return core.CreateParameter(networkId, nodeId, uniqueId, access,
+                templateUniqueId, interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public Result CreateParameter(String networkId, short nodeId,
+            String uniqueId, String dataTypeUniqueIdRef, ParameterAccess access,
+            boolean hasDataTypeStruct) {
+        return core.CreateParameter(networkId, nodeId, uniqueId,
+                dataTypeUniqueIdRef, access, hasDataTypeStruct);
+    }
+
+    @Override
+    public Result CreateParameter(String networkId, short nodeId,
+            String uniqueId, String dataTypeUniqueIdRef, ParameterAccess access,
+            boolean hasDataTypeStruct, String interfaceId, String moduleId,
+            long modulePosition) {
+        return core.CreateParameter(networkId, nodeId, uniqueId,
+                dataTypeUniqueIdRef, access, hasDataTypeStruct, interfaceId,
+                moduleId, modulePosition);
+    }
+
+    @Override
+    public Result CreateParameterGroup(String networkId, short nodeId,
+            String uniqueId, String interfaceId, String moduleId,
+            long modulePosition) {
+        return core.CreateParameterGroup(networkId, nodeId, uniqueId,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public Result CreateParameterGroup(String networkId, short nodeId,
+            String uniqueId, String parentUniqueId, int bitOffset,
+            String interfaceId, String moduleId, long modulePosition) {
+        return core.CreateParameterGroup(networkId, nodeId, uniqueId,
+                parentUniqueId, bitOffset, interfaceId, moduleId,
+                modulePosition);
+    }
+
+    @Override
+    public Result CreateParameterGroup(String networkId, short nodeId,
+            String uniqueId, String parentUniqueId, String conditionalUniqueId,
+            String conditionalValue, int bitOffset, String interfaceId,
+            String moduleId, long modulePosition) {
+        return core.CreateParameterGroup(networkId, nodeId, uniqueId,
+                parentUniqueId, conditionalUniqueId, conditionalValue,
+                bitOffset, interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public Result CreateParameterObject(String networkId, short nodeId,
+            long objectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String uniqueIdRef, String defaultValue, String actualValue) {
+        return core.CreateParameterObject(networkId, nodeId, objectId,
+                objectType, name, dataType, accessType, pdoMapping, uniqueIdRef,
+                defaultValue, actualValue);
+    }
+
+    @Override
+    public Result CreateParameterReference(String networkId, short nodeId,
+            String parameterGroupUniqueId, String uniqueIdRef,
+            String actualValue, int bitOffset, String interfaceId,
+            String moduleId, long modulePosition) {
+        return core.CreateParameterReference(networkId, nodeId,
+                parameterGroupUniqueId, uniqueIdRef, actualValue, bitOffset,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public Result CreateParameterSubObject(String networkId, short nodeId,
+            long objectId, short subObjectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String uniqueIdRef, String defaultValue,
+            String actualValue) {
+        return core.CreateParameterSubObject(networkId, nodeId, objectId,
+                subObjectId, objectType, name, dataType, accessType, pdoMapping,
+                uniqueIdRef, defaultValue, actualValue);
+    }
+
+    @Override
+    public Result CreateRange(String networkId, short nodeId,
+            String interfaceId, String name, long baseIndex, long maxIndex,
+            long maxSubIndex, long sortStep, SortMode sortMode,
+            SortNumber sortNumber, PDOMapping pdoMapping) {
+        return core.CreateRange(networkId, nodeId, interfaceId, name, baseIndex,
+                maxIndex, maxSubIndex, sortStep, sortMode, sortNumber,
+                pdoMapping);
+    }
+
+    @Override
+    public Result CreateStructDatatype(String networkId, short nodeId,
+            String uniqueId, String name) {
+        return core.CreateStructDatatype(networkId, nodeId, uniqueId, name);
+    }
+
+    @Override
+    public Result CreateStructDatatype(String networkId, short nodeId,
+            String uniqueId, String name, String interfaceId, String moduleId,
+            long modulePosition) {
+        return core.CreateStructDatatype(networkId, nodeId, uniqueId, name,
+                interfaceId, moduleId, modulePosition);
+    }
+
+    @Override
+    public Result CreateSubObject(String networkId, short nodeId, long objectId,
+            short subObjectId, ObjectType objectType, String name,
+            PlkDataType dataType, AccessType accessType, PDOMapping pdoMapping,
+            String defaultValue, String actualValue) {
+        return core.CreateSubObject(networkId, nodeId, objectId, subObjectId,
+                objectType, name, dataType, accessType, pdoMapping,
+                defaultValue, actualValue);
+    }
+
+    @Override
+    public Result CreateVarDeclaration(String networkId, short nodeId,
+            String structUniqueId, String uniqueId, String name,
+            IEC_Datatype dataType, long size, String initialValue) {
+        return core.CreateVarDeclaration(networkId, nodeId, structUniqueId,
+                uniqueId, name, dataType, size, initialValue);
+    }
+
+    @Override
+    public Result CreateVarDeclaration(String networkId, short nodeId,
+            String structUniqueId, String uniqueId, String name,
+            IEC_Datatype dataType, long size, String initialValue,
+            String interfaceId, String moduleId, long modulePosition) {
+        return core.CreateVarDeclaration(networkId, nodeId, structUniqueId,
+                uniqueId, name, dataType, size, initialValue, interfaceId,
+                moduleId, modulePosition);
+    }
+
+    @Override
+    public Result EnableModule(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            boolean enable) {
+        return core.EnableModule(networkId, nodeId, interfaceId, moduleId,
+                modulePosition, enable);
+    }
+
+    @Override
+    public Result EnableNode(String networkId, short nodeId, boolean enable) {
+        return core.EnableNode(networkId, nodeId, enable);
+    }
+
+    @Override
+    public Result GetAvailableNodeIds(String networkId, List<Short> nodeIds) {
+        ByteCollection nodeIdCollection = new ByteCollection();
+        Result res = core.GetAvailableNodeIds(networkId, nodeIdCollection);
+        for (int i = 0; i < nodeIdCollection.size(); i++) {
+            nodeIds.add(nodeIdCollection.get(i));
+        }
+        return res;
+    }
+
+    @Override
+    public Result GetChannelActualValues(String networkId, short nodeId,
+            Direction dir, int channelNumber, Map<Map.Entry<Long, Integer>,
+            String> objectCollection) {
+        ObjectCollection libObjectCollection = new ObjectCollection();
+        Result res = core.GetChannelActualValues(networkId, nodeId, dir,
+                channelNumber, libObjectCollection);
+        copyObjectCollection(libObjectCollection, objectCollection);
+        return res;
+    }
+
+    @Override
+    public Result GetChannelSize(String networkId, short nodeId, Direction dir,
+            int channelNumber, long[] size) {
+        return core.GetChannelSize(networkId, nodeId, dir, channelNumber, size);
+    }
+
+    @Override
+    public Result GetLossOfSocTolerance(String networkId, short nodeId,
+            long[] lossOfSocTolerance) {
+        return core.GetLossOfSocTolerance(networkId, nodeId,
+                lossOfSocTolerance);
+    }
+
+    @Override
+    public Result GetModuleObjectCurrentIndex(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            long objectId, int subObjectId, long[] index, int[] subIndex) {
+        return core.GetModuleObjectCurrentIndex(networkId, nodeId, interfaceId,
+                moduleId, modulePosition, objectId, subObjectId, index,
+                subIndex);
+    }
+
+    @Override
+    public Result GetModuleParameterCurrentName(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            String parameterUniqueId, String[] newParameterUniqueId) {
+        return core.GetModuleParameterCurrentName(networkId, nodeId,
+                interfaceId, moduleId, modulePosition, parameterUniqueId,
+                newParameterUniqueId);
+    }
+
+    @Override
+    public Result GetNodeAssignment(String networkId, short nodeId,
+            List<Long> assignments) {
+        AssignmentCollection assignmentColl = new AssignmentCollection();
+        Result res = core.GetNodeAssignment(networkId, nodeId, assignmentColl);
+        for (int i = 0; i < assignmentColl.size(); i++) {
+            assignments.add(Long.valueOf(assignmentColl.get(i)));
+        }
+        return res;
+    }
+
+    @Override
+    public Result GetObjectSize(String networkId, short nodeId, long objectId,
+            long[] size) {
+        return core.GetObjectSize(networkId, nodeId, objectId, size);
+    }
+
+    @Override
+    public Result GetObjectsWithActualValue(String networkId, short nodeId,
+            Map<Map.Entry<Long, Integer>, String> objectCollection) {
+        ObjectCollection libObjectCollection = new ObjectCollection();
+        Result res = core.GetObjectsWithActualValue(networkId, nodeId,
+                libObjectCollection);
+        copyObjectCollection(libObjectCollection, objectCollection);
+        return res;
+    }
+
+    @Override
+    public Result GetPResTimeOut(String networkId, short nodeId,
+            long[] presTimeout) {
+        return core.GetPResTimeOut(networkId, nodeId, presTimeout);
+    }
+
+    @Override
+    public Result GetSubObjectActualValue(String networkId, short nodeId,
+            long objectId, short subObjectId, String[] actualValue) {
+        return core.GetSubObjectActualValue(networkId, nodeId, objectId,
+                subObjectId, actualValue);
+    }
+
+    @Override
+    public Result GetSupportedSettingIds(List<String> settingIds) {
+        StringCollection support = new StringCollection();
+        Result res = core.GetSupportedSettingIds(support);
+        for (int i = 0; i < support.size(); i++) {
+            settingIds.add(support.get(i));
+        }
+        return res;
+    }
+
+    @Override
+    public Result InitEclipseLoggingPath(String loggingPath) {
+        return core.InitEclipseLoggingPath(loggingPath);
+    }
+
+    @Override
+    public Result MapAllObjectsToChannel(String networkId, short nodeId,
+            Direction dir, int channelNumber, boolean updateNrOfEntries) {
+        return core.MapAllObjectsToChannel(networkId, nodeId, dir,
+                channelNumber, updateNrOfEntries);
+    }
+
+    @Override
+    public Result MapObjectToChannel(String networkId, short nodeId,
+            Direction dir, int channelNumber, short position, long objectId,
+            short fromNode, boolean updateNrOfEntries) {
+        return core.MapObjectToChannel(networkId, nodeId, dir, channelNumber,
+                position, objectId, fromNode, updateNrOfEntries);
+    }
+
+    @Override
+    public Result MapSubObjectToChannel(String networkId, short nodeId,
+            Direction dir, int channelNumber, short position, long objectId,
+            int subObjectId, short fromNode, boolean updateNrOfEntries) {
+        return core.MapSubObjectToChannel(networkId, nodeId, dir, channelNumber,
+                position, objectId, subObjectId, fromNode, updateNrOfEntries);
+    }
+
+    @Override
+    public Result MoveMappingObject(String networkId, short nodeId,
+            Direction dir, int channelNumber, int oldPosition,
+            int newPosition) {
+        return core.MoveMappingObject(networkId, nodeId, dir, channelNumber,
+                oldPosition, newPosition);
+    }
+
+    @Override
+    public Result MoveModule(String networkId, short nodeId, String interfaceId,
+            String moduleId, int oldPosition, int newPosition) {
+        return core.MoveModule(networkId, nodeId, interfaceId, moduleId,
+                oldPosition, newPosition);
+    }
+
+    /**
+     * The wrapper has no bulk entry point yet. MoveModule of the library swaps
+     * the modules at both positions, so every module is swapped into its new
+     * position once and stays there. This takes at most one swap per module.
+     * If a swap or an address update fails, the applied changes are undone in
+     * reverse order and the failed result is returned.
+     */
+    @Override
+    public Result MoveModules(String networkId, short nodeId,
+            String interfaceId, List<String> moduleIds,
+            List<Integer> oldPositions, List<Integer> oldAddresses,
+            List<Integer> newPositions, List<Integer> newAddresses) {
+        Result res = newResult();
+        int[] currentPositions = new int[moduleIds.size()];
+        for (int i = 0; i < currentPositions.length; i++) {
+            currentPositions[i] = oldPositions.get(i).intValue();
+        }
+
+        // Module index, position before and position after each swap.
+        List<int[]> swaps = new ArrayList<>();
+        for (int i = 0; i < currentPositions.length; i++) {
+            int newPosition = newPositions.get(i).intValue();
+            int currentPosition = currentPositions[i];
+            if (currentPosition == newPosition) {
+                continue;
+            }
+            res = core.MoveModule(networkId, nodeId, interfaceId,
+                    moduleIds.get(i), currentPosition, newPosition);
+            if (!res.IsSuccessful()) {
+                revertModuleSwaps(networkId, nodeId, interfaceId, moduleIds,
+                        swaps);
+                return res;
+            }
+            swaps.add(new int[] { i, currentPosition, newPosition });
+            currentPositions[i] = newPosition;
+            for (int j = i + 1; j < currentPositions.length; j++) {
+                if (currentPositions[j] == newPosition) {
+                    currentPositions[j] = currentPosition;
+                    break;
+                }
+            }
+        }
+
+        for (int i = 0; i < currentPositions.length; i++) {
+            res = core.SetModuleAddress(networkId, nodeId, interfaceId,
+                    moduleIds.get(i), currentPositions[i],
+                    newAddresses.get(i).intValue());
+            if (!res.IsSuccessful()) {
+                for (int j = i - 1; j >= 0; j--) {
+                    core.SetModuleAddress(networkId, nodeId, interfaceId,
+                            moduleIds.get(j), currentPositions[j],
+                            oldAddresses.get(j).intValue());
+                }
+                revertModuleSwaps(networkId, nodeId, interfaceId, moduleIds,
+                        swaps);
+                return res;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @return The journal of the node calls of this core.
+     */
+    NodeJournal getJournal() {
+        return journal;
+    }
+
+    @Override
+    public Result newResult() {
+        return new Result();
+    }
+
+    @Override
+    public Result newResult(ErrorCode errorType, String errorMessage) {
+        return new Result(errorType, errorMessage);
+    }
+
+    @Override
+    public Result RemoveConfiguration(String networkId,
+            String configurationName) {
+        return core.RemoveConfiguration(networkId, configurationName);
+    }
+
+    @Override
+    public Result RemoveConfigurationSetting(String networkId,
+            String configurationName, String settingName) {
+        return core.RemoveConfigurationSetting(networkId, configurationName,
+                settingName);
+    }
+
+    @Override
+    public Result RemoveModule(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition) {
+        return core.RemoveModule(networkId, nodeId, interfaceId, moduleId,
+                modulePosition);
+    }
+
+    @Override
+    public Result RemoveNetwork(String networkId) {
+        return core.RemoveNetwork(networkId);
+    }
+
+    @Override
+    public Result RemoveNode(String networkId, short nodeId) {
+        return core.RemoveNode(networkId, nodeId);
+    }
+
+    @Override
+    public Result RemoveNodeAssignment(String networkId, short nodeId,
+            NodeAssignment nodeAssign) {
+        return core.RemoveNodeAssignment(networkId, nodeId, nodeAssign);
+    }
+
+    @Override
+    public Result ReplaceConfigurationName(String networkId, String oldName,
+            String newName) {
+        return core.ReplaceConfigurationName(networkId, oldName, newName);
+    }
+
+    @Override
+    public Result ResetOperationMode(String networkId, short nodeId) {
+        return core.ResetOperationMode(networkId, nodeId);
+    }
+
+    /**
+     * Swaps the modules back in reverse order. Each swap is undone by the
+     * swap between the same two positions.
+     */
+    private void revertModuleSwaps(String networkId, short nodeId,
+            String interfaceId, List<String> moduleIds, List<int[]> swaps) {
+        for (int i = swaps.size() - 1; i >= 0; i--) {
+            int[] swap = swaps.get(i);
+            core.MoveModule(networkId, nodeId, interfaceId,
+                    moduleIds.get(swap[0]), swap[2], swap[1]);
+        }
+    }
+
+    @Override
+    public Result SetActiveConfiguration(String networkId,
+            String configurationName) {
+        return core.SetActiveConfiguration(networkId, configurationName);
+    }
+
+    @Override
+    public Result SetAsndMaxNr(String networkId, short nodeId,
+            short asndMaxNr) {
+        return core.SetAsndMaxNr(networkId, nodeId, asndMaxNr);
+    }
+
+    @Override
+    public Result SetAsyncMtu(String networkId, int asyncMtu) {
+        return core.SetAsyncMtu(networkId, asyncMtu);
+    }
+
+    @Override
+    public Result SetAsyncSlotTimeout(String networkId, short nodeId,
+            long asyncSlotTimeout) {
+        return core.SetAsyncSlotTimeout(networkId, nodeId, asyncSlotTimeout);
+    }
+
+    @Override
+    public Result SetConfigurationSettingEnabled(String networkId,
+            String configurationName, String settingName, boolean enabled) {
+        return core.SetConfigurationSettingEnabled(networkId, configurationName,
+                settingName, enabled);
+    }
+
+    @Override
+    public Result SetCycleTime(String networkId, long cycleTime) {
+        return core.SetCycleTime(networkId, cycleTime);
+    }
+
+    @Override
+    public Result SetFeatureValue(String networkId, short nodeId,
+            CNFeatureEnum feature, String value) {
+        return core.SetFeatureValue(networkId, nodeId, feature, value);
+    }
+
+    @Override
+    public Result SetFeatureValue(String networkId, short nodeId,
+            GeneralFeatureEnum feature, String value) {
+        return core.SetFeatureValue(networkId, nodeId, feature, value);
+    }
+
+    @Override
+    public Result SetFeatureValue(String networkId, short nodeId,
+            MNFeatureEnum feature, String value) {
+        return core.SetFeatureValue(networkId, nodeId, feature, value);
+    }
+
+    @Override
+    public Result SetLossOfSocTolerance(String networkId, short nodeId,
+            long lossOfSocTolerance) {
+        return core.SetLossOfSocTolerance(networkId, nodeId,
+                lossOfSocTolerance);
+    }
+
+    @Override
+    public Result SetModuleAddress(String networkId, short nodeId,
+            String interfaceId, String moduleId, int modulePosition,
+            int moduleAddress) {
+        return core.SetModuleAddress(networkId, nodeId, interfaceId, moduleId,
+                modulePosition, moduleAddress);
+    }
+
+    @Override
+    public Result SetMultiplexedCycleCount(String networkId,
+            int multiplexedCycleCount) {
+        return core.SetMultiplexedCycleCount(networkId, multiplexedCycleCount);
+    }
+
+    @Override
+    public Result SetNodeId(String networkId, short nodeId, short newNodeId) {
+        return core.SetNodeId(networkId, nodeId, newNodeId);
+    }
+
+    @Override
+    public Result SetNodeName(String networkId, short nodeId, String nodeName) {
+        return core.SetNodeName(networkId, nodeId, nodeName);
+    }
+
+    @Override
+    public Result SetObjectActualValue(String networkId, short nodeId,
+            long objectId, String actualValue, boolean force,
+            boolean enableValidation) {
+        return core.SetObjectActualValue(networkId, nodeId, objectId,
+                actualValue, force, enableValidation);
+    }
+
+    @Override
+    public Result SetObjectLimits(String networkId, short nodeId, long objectId,
+            String lowLimit, String highLimit) {
+        return core.SetObjectLimits(networkId, nodeId, objectId, lowLimit,
+                highLimit);
+    }
+
+    @Override
+    public Result SetOperationModeChained(String networkId, short nodeId) {
+        return core.SetOperationModeChained(networkId, nodeId);
+    }
+
+    @Override
+    public Result SetOperationModeMultiplexed(String networkId, short nodeId,
+            short multiplexedCycle) {
+        return core.SetOperationModeMultiplexed(networkId, nodeId,
+                multiplexedCycle);
+    }
+
+    @Override
+    public Result SetParameterActualValue(String networkId, short nodeId,
+            String uniqueId, String actualValue) {
+        return core.SetParameterActualValue(networkId, nodeId, uniqueId,
+                actualValue);
+    }
+
+    @Override
+    public Result SetParameterAllowedRange(String networkId, short nodeId,
+            String uniqueId, String minValue, String maxValue) {
+        return core.SetParameterAllowedRange(networkId, nodeId, uniqueId,
+                minValue, maxValue);
+    }
+
+    @Override
+    public Result SetParameterAllowedValues(String networkId, short nodeId,
+            String uniqueId, List<String> allowedValues) {
+        StringCollection allowedValueCollection = new StringCollection();
+        for (String allowedValue : allowedValues) {
+            allowedValueCollection.add(allowedValue);
+        }
+        return core.SetParameterAllowedValues(networkId, nodeId, uniqueId,
+                allowedValueCollection);
+    }
+
+    @Override
+    public Result SetParameterDefaultValue(String networkId, short nodeId,
+            String uniqueId, String defaultValue) {
+        return core.SetParameterDefaultValue(networkId, nodeId, uniqueId,
+                defaultValue);
+    }
+
+    @Override
+    public Result SetPrescaler(String networkId, int prescaler) {
+        return core.SetPrescaler(networkId, prescaler);
+    }
+
+    @Override
+    public Result SetPResTimeOut(String networkId, short nodeId,
+            long presTimeout) {
+        return core.SetPResTimeOut(networkId, nodeId, presTimeout);
+    }
+
+    @Override
+    public Result SetRedundantManagingNodePriority(String networkId,
+            short nodeId, long priority) {
+        return core.SetRedundantManagingNodePriority(networkId, nodeId,
+                priority);
+    }
+
+    @Override
+    public Result SetRedundantManagingNodeWaitNotActive(String networkId,
+            short nodeId, long waitNotActive) {
+        return core.SetRedundantManagingNodeWaitNotActive(networkId, nodeId,
+                waitNotActive);
+    }
+
+    @Override
+    public Result SetSubObjectActualValue(String networkId, short nodeId,
+            long objectId, short subObjectId, String actualValue, boolean force,
+            boolean enableValidation) {
+        return core.SetSubObjectActualValue(networkId, nodeId, objectId,
+                subObjectId, actualValue, force, enableValidation);
+    }
+
+    @Override
+    public Result SetSubObjectLimits(String networkId, short nodeId,
+            long objectId, short subObjectId, String lowLimit,
+            String highLimit) {
+        return core.SetSubObjectLimits(networkId, nodeId, objectId, subObjectId,
+                lowLimit, highLimit);
+    }
+}
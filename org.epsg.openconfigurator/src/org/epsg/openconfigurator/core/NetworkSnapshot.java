@@ -0,0 +1,352 @@
+/*******************************************************************************
+ * @file   NetworkSnapshot.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.core;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.epsg.openconfigurator.lib.wrapper.Result;
+
+/**
+ * Warm-start snapshot of the network state imported into the configuration
+ * core.
+ *
+ * The calls which change a network are captured while the project is imported
+ * and written into a snapshot file along with the fingerprint of the imported
+ * files. On the next import with the same fingerprint the snapshot is replayed
+ * into the core directly, without walking the project and the XDC models.
+ *
+ * The snapshot file contains the magic number, the format version, the
+ * network ID and the fingerprint, followed by the captured calls in the
+ * {@link CoreTrace} format.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class NetworkSnapshot {
+
+    /**
+     * Calls of a network captured during an import.
+     */
+    public static final class Capture {
+
+        private final String networkId;
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private final DataOutputStream out = new DataOutputStream(buffer);
+
+        private final CoreTrace.Writer writer = new CoreTrace.Writer(out);
+
+        private final Map<Method, Integer> methodNumbers;
+
+        private int calls;
+
+        private int failedCalls;
+
+        /**
+         * True if the capture was stopped due to an error with writing the
+         * calls.
+         */
+        private boolean incomplete;
+
+        private Capture(String networkId) throws IOException {
+            this.networkId = networkId;
+            methodNumbers = CoreTrace.writeHeader(out, writer);
+        }
+
+        /**
+         * Stops the capture of the calls.
+         */
+        public void finish() {
+            CAPTURES.remove(networkId, this);
+        }
+
+        /**
+         * @return The number of captured calls.
+         */
+        public synchronized int getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return The number of captured calls which have failed. A snapshot
+         *         is only valid without failed calls.
+         */
+        public synchronized int getFailedCalls() {
+            return failedCalls;
+        }
+
+        private synchronized Object invoke(IOpenConfiguratorCore core,
+                Method method, Object[] args) throws Throwable {
+            if (incomplete) {
+                return invokeCore(core, method, args);
+            }
+            try {
+                writer.writeVarLong(methodNumbers.get(method));
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    CoreTrace.writeArgument(writer, parameterTypes[i],
+                            args[i]);
+                }
+            } catch (IOException e) {
+                stopCapture(e);
+                return invokeCore(core, method, args);
+            }
+
+            boolean successful = false;
+            try {
+                Object result = invokeCore(core, method, args);
+                successful = !(result instanceof Result)
+                        || ((Result) result).IsSuccessful();
+                return result;
+            } finally {
+                try {
+                    writer.writeVarLong(0);
+                    writer.writeBoolean(successful);
+                } catch (IOException e) {
+                    stopCapture(e);
+                }
+                calls++;
+                if (!successful) {
+                    failedCalls++;
+                }
+            }
+        }
+
+        /**
+         * @return <code>True</code> if the capture was stopped due to an error
+         *         with writing the calls, <code>False</code> otherwise. An
+         *         incomplete capture is not written as a snapshot.
+         */
+        public synchronized boolean isIncomplete() {
+            return incomplete;
+        }
+
+        /**
+         * Stops the capture after an error with writing the calls. The error
+         * is reported once, the later calls are passed to the core only.
+         */
+        private void stopCapture(IOException cause) {
+            incomplete = true;
+            finish();
+            System.err.println("Capture of network " + networkId //$NON-NLS-1$
+                    + " stopped: " + cause.getMessage()); //$NON-NLS-1$
+        }
+
+        /**
+         * Writes the captured calls into the snapshot file. The file is
+         * written into a temporary file first, so that an incomplete snapshot
+         * never replaces the previous one.
+         *
+         * @param snapshotFile The snapshot file.
+         * @param fingerprint The fingerprint of the imported files.
+         * @throws IOException Errors with writing the file.
+         */
+        public synchronized void write(Path snapshotFile, String fingerprint)
+                throws IOException {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent,
+                    snapshotFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+            try {
+                try (OutputStream stream = Files.newOutputStream(tempFile)) {
+                    DataOutputStream header = new DataOutputStream(stream);
+                    header.writeInt(MAGIC);
+                    header.writeInt(VERSION);
+                    header.writeUTF(networkId);
+                    header.writeUTF(fingerprint);
+                    out.flush();
+                    buffer.writeTo(header);
+                    header.flush();
+                }
+                Files.move(tempFile, snapshotFile,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Invocation handler which passes the calls of the captured networks to
+     * their capture.
+     */
+    private static final class CapturingHandler implements InvocationHandler {
+
+        private final IOpenConfiguratorCore core;
+
+        CapturingHandler(IOpenConfiguratorCore core) {
+            this.core = core;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args)
+                throws Throwable {
+            if (!CAPTURES.isEmpty() && (args != null) && (args.length > 0)
+                    && (args[0] instanceof String) && isModifying(method)) {
+                Capture capture = CAPTURES.get(args[0]);
+                if (capture != null) {
+                    return capture.invoke(core, method, args);
+                }
+            }
+            return invokeCore(core, method, args);
+        }
+    }
+
+    private static final int MAGIC = 0x4F434E53; // OCNS
+
+    private static final int VERSION = 2;
+
+    /**
+     * Active captures by the network ID.
+     */
+    private static final Map<String, Capture> CAPTURES = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a facade of the core which captures the calls of the networks
+     * with an active capture.
+     *
+     * @param core The configuration core.
+     * @return The facade of the core.
+     */
+    public static IOpenConfiguratorCore capture(IOpenConfiguratorCore core) {
+        return (IOpenConfiguratorCore) Proxy.newProxyInstance(
+                IOpenConfiguratorCore.class.getClassLoader(),
+                new Class<?>[] { IOpenConfiguratorCore.class },
+                new CapturingHandler(core));
+    }
+
+    private static Object invokeCore(IOpenConfiguratorCore core,
+            Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(core, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return <code>True</code> if the method changes the state of the core,
+     *         <code>False</code> for the queries and the builds.
+     */
+    private static boolean isModifying(Method method) {
+        String name = method.getName();
+        return !name.startsWith("Get") && !name.startsWith("Build"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Replays the snapshot of the network into the core if the fingerprint of
+     * the snapshot matches. The network must not exist in the core. It is
+     * removed from the core if the replay fails, so that it can be imported
+     * from the files.
+     *
+     * @param core The configuration core.
+     * @param snapshotFile The snapshot file.
+     * @param networkId The network ID.
+     * @param fingerprint The fingerprint of the files to be imported.
+     * @return <code>True</code> if the network is loaded from the snapshot,
+     *         <code>False</code> if the network has to be imported.
+     */
+    public static boolean load(IOpenConfiguratorCore core, Path snapshotFile,
+            String networkId, String fingerprint) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return false;
+        }
+
+        try (InputStream stream = Files.newInputStream(snapshotFile)) {
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(stream));
+            if ((in.readInt() != MAGIC) || (in.readInt() != VERSION)
+                    || !networkId.equals(in.readUTF())
+                    || !fingerprint.equals(in.readUTF())) {
+                return false;
+            }
+
+            CoreTraceReplayer replayer = new CoreTraceReplayer(core);
+            try {
+                replayer.replay(in);
+            } catch (IOException e) {
+                core.RemoveNetwork(networkId);
+                throw e;
+            }
+            if (replayer.getMismatches() > 0) {
+                core.RemoveNetwork(networkId);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Starts capturing the calls of the network. Replaces an active capture of
+     * the same network.
+     *
+     * @param networkId The network ID.
+     * @return The capture of the network.
+     */
+    public static Capture startCapture(String networkId) {
+        Capture capture;
+        try {
+            capture = new Capture(networkId);
+        } catch (IOException e) {
+            // Cannot happen with the in-memory buffer.
+            throw new IllegalStateException(e);
+        }
+        CAPTURES.put(networkId, capture);
+        return capture;
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private NetworkSnapshot() {
+    }
+}
@@ -0,0 +1,437 @@
+/*******************************************************************************
+ * @file   NodeJournal.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.epsg.openconfigurator.lib.wrapper.ErrorCode;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+
+/**
+ * Journal of the calls which created and changed the nodes of the native
+ * core.
+ *
+ * The native library has no entry point to copy a node, so the successful
+ * calls of each node are kept in the {@link CoreTrace} encoding, without the
+ * network and the node ID. A node is copied by replaying the calls of the
+ * source node under the new node ID, the same way the bulk calls of the
+ * {@link NativeOpenConfiguratorCore} are emulated with the single calls of the
+ * library. The node assignments are not journaled, they are added to the new
+ * node by the caller of the copy.
+ *
+ * The journal is compacted per target of the setters: a later call of a setter
+ * replaces the journaled call of the same setter and target, so that editing
+ * the values of a node does not grow its journal.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+final class NodeJournal implements InvocationHandler {
+
+    /**
+     * Journaled calls of a node.
+     */
+    private static final class Entry {
+        /**
+         * Encoded calls in the order of the calls by their compaction key.
+         */
+        private final Map<Object, byte[]> calls = new LinkedHashMap<>();
+
+        /**
+         * Bytes of the encoded calls.
+         */
+        private long size;
+    }
+
+    private static final List<Method> METHODS = CoreTrace.getMethods();
+
+    private static final Map<Method, Integer> METHOD_NUMBERS = new HashMap<>();
+
+    /**
+     * Calls which create a node and start its journal.
+     */
+    private static final Set<String> CREATE_NODE_METHODS = new HashSet<>(
+            Arrays.asList("CreateNode", "CreateModularHeadNode")); //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * Calls with the name of the node as third argument, which is replaced by
+     * the name of the new node during the copy.
+     */
+    private static final Set<String> NODE_NAME_METHODS = new HashSet<>(
+            Arrays.asList("CreateNode", "CreateModularHeadNode", //$NON-NLS-1$ //$NON-NLS-2$
+                    "SetNodeName")); //$NON-NLS-1$
+
+    /**
+     * Node calls which are not journaled.
+     */
+    private static final Set<String> EXCLUDED_METHODS = new HashSet<>(
+            Arrays.asList("AddNodeAssignment", "RemoveNodeAssignment", //$NON-NLS-1$ //$NON-NLS-2$
+                    "CopyNode", "RemoveNode", "SetNodeId")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    /**
+     * Setters which are compacted with their number of arguments after the
+     * network and the node ID which identify the target of the setter. The
+     * other setters have the node as target.
+     */
+    private static final Map<String, Integer> SETTER_TARGET_ARGUMENTS = new HashMap<>();
+
+    /**
+     * Calls which change the operation mode of the node and replace each
+     * other.
+     */
+    private static final Set<String> OPERATION_MODE_METHODS = new HashSet<>(
+            Arrays.asList("ResetOperationMode", "SetOperationModeChained", //$NON-NLS-1$ //$NON-NLS-2$
+                    "SetOperationModeMultiplexed")); //$NON-NLS-1$
+
+    /**
+     * Setters which add to the target instead of replacing it and are not
+     * compacted.
+     */
+    private static final Set<String> ADDING_SETTERS = new HashSet<>(
+            Arrays.asList("SetParameterAllowedRange")); //$NON-NLS-1$
+
+    static {
+        SETTER_TARGET_ARGUMENTS.put("SetFeatureValue", 1); //$NON-NLS-1$
+        SETTER_TARGET_ARGUMENTS.put("SetModuleAddress", 3); //$NON-NLS-1$
+        SETTER_TARGET_ARGUMENTS.put("SetObjectActualValue", 1); //$NON-NLS-1$
+        SETTER_TARGET_ARGUMENTS.put("SetObjectLimits", 1); //$NON-NLS-1$
+        SETTER_TARGET_ARGUMENTS.put("SetParameterActualValue", 1); //$NON-NLS-1$
+        SETTER_TARGET_ARGUMENTS.put("SetParameterAllowedValues", 1); //$NON-NLS-1$
+        SETTER_TARGET_ARGUMENTS.put("SetParameterDefaultValue", 1); //$NON-NLS-1$
+        SETTER_TARGET_ARGUMENTS.put("SetSubObjectActualValue", 2); //$NON-NLS-1$
+        SETTER_TARGET_ARGUMENTS.put("SetSubObjectLimits", 2); //$NON-NLS-1$
+
+        for (int i = 0; i < METHODS.size(); i++) {
+            METHOD_NUMBERS.put(METHODS.get(i), i);
+        }
+    }
+
+    /**
+     * Creates the facade of the core which journals the calls of the nodes,
+     * if the core is a native core.
+     *
+     * @param core The configuration core.
+     * @return The facade of the native core, or the given core otherwise.
+     */
+    static IOpenConfiguratorCore attach(IOpenConfiguratorCore core) {
+        if (!(core instanceof NativeOpenConfiguratorCore)) {
+            return core;
+        }
+        return (IOpenConfiguratorCore) Proxy.newProxyInstance(
+                IOpenConfiguratorCore.class.getClassLoader(),
+                new Class<?>[] { IOpenConfiguratorCore.class },
+                ((NativeOpenConfiguratorCore) core).getJournal());
+    }
+
+    /**
+     * @return The part of the batch between the given indices.
+     */
+    private static ObjectDictionaryBatch copyOfRange(
+            ObjectDictionaryBatch batch, int fromIndex, int toIndex) {
+        ObjectDictionaryBatch range = new ObjectDictionaryBatch(
+                toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            range.add(batch.getObjectId(i), batch.getSubObjectId(i),
+                    batch.getObjectType(i), batch.getName(i),
+                    batch.getDataType(i), batch.getAccessType(i),
+                    batch.getPdoMapping(i), batch.getUniqueIdRef(i),
+                    batch.getDefaultValue(i), batch.getActualValue(i),
+                    batch.getLowLimit(i), batch.getHighLimit(i));
+        }
+        return range;
+    }
+
+    /**
+     * @return The key of the call which is replaced by a later call with the
+     *         same key, or <code>null</code> if the call is kept.
+     */
+    private static Object getCompactionKey(Method method, Object[] args) {
+        String name = method.getName();
+        if (OPERATION_MODE_METHODS.contains(name)) {
+            return "OperationMode"; //$NON-NLS-1$
+        }
+        if (!name.startsWith("Set") || ADDING_SETTERS.contains(name)) { //$NON-NLS-1$
+            return null;
+        }
+
+        Integer targetArguments = SETTER_TARGET_ARGUMENTS.get(name);
+        int nrOfTargetArguments = (targetArguments != null)
+                ? targetArguments.intValue() : 0;
+        List<Object> key = new ArrayList<>(nrOfTargetArguments + 1);
+        key.add(name);
+        key.addAll(Arrays.asList(args).subList(2, 2 + nrOfTargetArguments));
+        return key;
+    }
+
+    /**
+     * @return <code>True</code> if the method changes a single node,
+     *         <code>False</code> otherwise.
+     */
+    private static boolean isJournaled(Method method) {
+        String name = method.getName();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return (parameterTypes.length >= 2)
+                && (parameterTypes[0] == String.class)
+                && (parameterTypes[1] == short.class)
+                && !name.startsWith("Get") && !name.startsWith("Build") //$NON-NLS-1$ //$NON-NLS-2$
+                && !EXCLUDED_METHODS.contains(name);
+    }
+
+    private final IOpenConfiguratorCore core;
+
+    /**
+     * Journals of the nodes by the network ID and the node ID.
+     */
+    private final Map<String, Map<Short, Entry>> journals = new HashMap<>();
+
+    /**
+     * Creates the journal of the given core.
+     *
+     * @param core The core which runs the calls.
+     */
+    NodeJournal(IOpenConfiguratorCore core) {
+        this.core = core;
+    }
+
+    /**
+     * Copies the node by replaying its journal under the new node ID. The new
+     * node is removed again if a call fails.
+     *
+     * @param networkId The network ID.
+     * @param nodeId The node ID of the node to be copied.
+     * @param newNodeId The node ID of the new node.
+     * @param nodeName The name of the new node.
+     * @return The result of the failed call or a successful result.
+     */
+    synchronized Result copy(String networkId, short nodeId, short newNodeId,
+            String nodeName) {
+        Map<Short, Entry> nodes = journals.get(networkId);
+        Entry source = (nodes != null) ? nodes.get(nodeId) : null;
+        if (source == null) {
+            return core.newResult(ErrorCode.NODE_DOES_NOT_EXIST,
+                    "Node " + nodeId + " does not exist."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        if (nodes.containsKey(newNodeId)) {
+            return core.newResult(ErrorCode.NODE_EXISTS,
+                    "Node " + newNodeId + " already exists."); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        Entry target = new Entry();
+        Result res = core.newResult();
+        try {
+            for (byte[] call : source.calls.values()) {
+                CoreTrace.Reader reader = new CoreTrace.Reader(
+                        new DataInputStream(new ByteArrayInputStream(call)));
+                Method method = METHODS.get((int) reader.readVarLong());
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                Object[] args = new Object[parameterTypes.length];
+                args[0] = networkId;
+                args[1] = Short.valueOf(newNodeId);
+                for (int i = 2; i < parameterTypes.length; i++) {
+                    args[i] = CoreTrace.readArgument(reader,
+                            parameterTypes[i]);
+                }
+                if (NODE_NAME_METHODS.contains(method.getName())) {
+                    args[2] = nodeName;
+                }
+
+                res = (Result) invokeCore(method, args);
+                if (!res.IsSuccessful()) {
+                    core.RemoveNode(networkId, newNodeId);
+                    return res;
+                }
+                write(target, method, args);
+            }
+        } catch (IOException e) {
+            core.RemoveNode(networkId, newNodeId);
+            return core.newResult(ErrorCode.UNHANDLED_EXCEPTION,
+                    e.getMessage());
+        }
+
+        nodes.put(Short.valueOf(newNodeId), target);
+        return res;
+    }
+
+    /**
+     * @param networkId The network ID.
+     * @return The bytes of the journaled calls of the nodes of the network.
+     */
+    synchronized long getSize(String networkId) {
+        Map<Short, Entry> nodes = journals.get(networkId);
+        long size = 0;
+        if (nodes != null) {
+            for (Entry entry : nodes.values()) {
+                size += entry.size;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args)
+            throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(core, args);
+        }
+
+        Object result = invokeCore(method, args);
+        if (result instanceof Result) {
+            update(method, args, (Result) result);
+        }
+        return result;
+    }
+
+    private Object invokeCore(Method method, Object[] args) {
+        try {
+            return method.invoke(core, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Updates the journals with the completed call.
+     */
+    private synchronized void update(Method method, Object[] args,
+            Result result) {
+        String name = method.getName();
+        if ("RemoveNetwork".equals(name)) { //$NON-NLS-1$
+            if (result.IsSuccessful()) {
+                journals.remove(args[0]);
+            }
+            return;
+        }
+        if (!isJournaled(method) && !EXCLUDED_METHODS.contains(name)) {
+            return;
+        }
+
+        String networkId = (String) args[0];
+        Short nodeId = (Short) args[1];
+        Map<Short, Entry> nodes = journals.get(networkId);
+        if (CREATE_NODE_METHODS.contains(name) && result.IsSuccessful()) {
+            if (nodes == null) {
+                nodes = new HashMap<>();
+                journals.put(networkId, nodes);
+            }
+            nodes.put(nodeId, new Entry());
+        }
+        Entry entry = (nodes != null) ? nodes.get(nodeId) : null;
+        if (entry == null) {
+            return;
+        }
+
+        if ("CreateObjects".equals(name)) { //$NON-NLS-1$
+            // Only the created entries of the batch are journaled. The
+            // entries before the failed entry are created.
+            ObjectDictionaryBatch batch = (ObjectDictionaryBatch) args[2];
+            int fromIndex = ((Integer) args[3]).intValue();
+            int toIndex = result.IsSuccessful() ? batch.size()
+                    : ((int[]) args[4])[0];
+            if (toIndex > fromIndex) {
+                write(entry, method,
+                        new Object[] { args[0], args[1],
+                                copyOfRange(batch, fromIndex, toIndex),
+                                Integer.valueOf(0), new int[1] });
+            }
+            return;
+        }
+        if (!result.IsSuccessful()) {
+            return;
+        }
+
+        if ("RemoveNode".equals(name)) { //$NON-NLS-1$
+            nodes.remove(nodeId);
+        } else if ("SetNodeId".equals(name)) { //$NON-NLS-1$
+            nodes.remove(nodeId);
+            nodes.put((Short) args[2], entry);
+        } else if (!EXCLUDED_METHODS.contains(name)) {
+            write(entry, method, args);
+        }
+    }
+
+    /**
+     * Writes the call without the network and the node ID into the journal.
+     * The call replaces the journaled call with the same compaction key.
+     */
+    private void write(Entry entry, Method method, Object[] args) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        CoreTrace.Writer writer = new CoreTrace.Writer(
+                new DataOutputStream(buffer));
+        try {
+            writer.writeVarLong(METHOD_NUMBERS.get(method));
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 2; i < parameterTypes.length; i++) {
+                CoreTrace.writeArgument(writer, parameterTypes[i], args[i]);
+            }
+        } catch (IOException e) {
+            // Cannot happen with the in-memory buffer.
+            throw new IllegalStateException(e);
+        }
+
+        Object key = getCompactionKey(method, args);
+        if (key == null) {
+            key = new Object();
+        }
+        byte[] replacedCall = entry.calls.remove(key);
+        if (replacedCall != null) {
+            entry.size -= replacedCall.length;
+        }
+        byte[] call = buffer.toByteArray();
+        entry.calls.put(key, call);
+        entry.size += call.length;
+    }
+}
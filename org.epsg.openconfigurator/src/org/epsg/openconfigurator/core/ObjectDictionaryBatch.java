@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * @file   ObjectDictionaryBatch.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.core;
+
+import java.util.Arrays;
+
+import org.epsg.openconfigurator.lib.wrapper.AccessType;
+import org.epsg.openconfigurator.lib.wrapper.ObjectType;
+import org.epsg.openconfigurator.lib.wrapper.PDOMapping;
+import org.epsg.openconfigurator.lib.wrapper.PlkDataType;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+
+/**
+ * Objects and subobjects of an object dictionary packed into arrays, to be
+ * created in the configuration core with a single call.
+ *
+ * The entries are created in the order of the batch, so the objects have to
+ * be added before their subobjects. The batch can be reused after
+ * {@link #clear()}.
+ *
+ * @see IOpenConfiguratorCore#CreateObjects(String, short,
+ *      ObjectDictionaryBatch, int, int[])
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class ObjectDictionaryBatch {
+
+    /**
+     * Subobject ID of the entries which are objects.
+     */
+    public static final short NO_SUB_OBJECT = -1;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Creates the entries of the batch from the given index with the
+     * single-object calls of the core.
+     *
+     * @param core The core to create the entries in.
+     * @param networkId The network ID.
+     * @param nodeId The node ID.
+     * @param batch The batch of entries.
+     * @param fromIndex The index of the first entry to be created.
+     * @param failedIndex Receives the index of the failed entry.
+     * @return The result of the failed entry or a successful result.
+     */
+    static Result create(IOpenConfiguratorCore core, String networkId,
+            short nodeId, ObjectDictionaryBatch batch, int fromIndex,
+            int[] failedIndex) {
+        Result res = null;
+        for (int i = fromIndex; i < batch.size; i++) {
+            res = batch.createEntry(core, networkId, nodeId, i);
+            if (!res.IsSuccessful()) {
+                failedIndex[0] = i;
+                return res;
+            }
+        }
+        failedIndex[0] = -1;
+        return (res != null) ? res : core.newResult();
+    }
+
+    private static boolean isEmpty(String value) {
+        return (value == null) || value.isEmpty();
+    }
+
+    private int size;
+    private long[] objectIds;
+    private short[] subObjectIds;
+    private ObjectType[] objectTypes;
+    private String[] names;
+    private PlkDataType[] dataTypes;
+    private AccessType[] accessTypes;
+    private PDOMapping[] pdoMappings;
+    private String[] uniqueIdRefs;
+    private String[] defaultValues;
+    private String[] actualValues;
+    private String[] lowLimits;
+    private String[] highLimits;
+
+    /**
+     * Creates an empty batch.
+     */
+    public ObjectDictionaryBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty batch with the given initial capacity.
+     *
+     * @param capacity The initial number of entries.
+     */
+    public ObjectDictionaryBatch(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        objectIds = new long[initialCapacity];
+        subObjectIds = new short[initialCapacity];
+        objectTypes = new ObjectType[initialCapacity];
+        names = new String[initialCapacity];
+        dataTypes = new PlkDataType[initialCapacity];
+        accessTypes = new AccessType[initialCapacity];
+        pdoMappings = new PDOMapping[initialCapacity];
+        uniqueIdRefs = new String[initialCapacity];
+        defaultValues = new String[initialCapacity];
+        actualValues = new String[initialCapacity];
+        lowLimits = new String[initialCapacity];
+        highLimits = new String[initialCapacity];
+    }
+
+    /**
+     * Adds an entry to the batch.
+     *
+     * @param objectId The object ID.
+     * @param subObjectId The subobject ID or {@link #NO_SUB_OBJECT} for
+     *            objects.
+     * @param objectType The object type.
+     * @param name The name of the object.
+     * @param dataType The data type.
+     * @param accessType The access type.
+     * @param pdoMapping The PDO mapping.
+     * @param uniqueIdRef The unique ID of the referenced parameter or
+     *            <code>null</code> for the objects without a parameter.
+     * @param defaultValue The default value.
+     * @param actualValue The actual value.
+     * @param lowLimit The low limit or <code>null</code>.
+     * @param highLimit The high limit or <code>null</code>.
+     * @return The index of the entry.
+     */
+    public int add(long objectId, short subObjectId, ObjectType objectType,
+            String name, PlkDataType dataType, AccessType accessType,
+            PDOMapping pdoMapping, String uniqueIdRef, String defaultValue,
+            String actualValue, String lowLimit, String highLimit) {
+        if (size == objectIds.length) {
+            grow();
+        }
+        objectIds[size] = objectId;
+        subObjectIds[size] = subObjectId;
+        objectTypes[size] = objectType;
+        names[size] = name;
+        dataTypes[size] = dataType;
+        accessTypes[size] = accessType;
+        pdoMappings[size] = pdoMapping;
+        uniqueIdRefs[size] = uniqueIdRef;
+        defaultValues[size] = defaultValue;
+        actualValues[size] = actualValue;
+        lowLimits[size] = lowLimit;
+        highLimits[size] = highLimit;
+        return size++;
+    }
+
+    /**
+     * Removes all entries of the batch.
+     */
+    public void clear() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(uniqueIdRefs, 0, size, null);
+        Arrays.fill(defaultValues, 0, size, null);
+        Arrays.fill(actualValues, 0, size, null);
+        Arrays.fill(lowLimits, 0, size, null);
+        Arrays.fill(highLimits, 0, size, null);
+        size = 0;
+    }
+
+    private Result createEntry(IOpenConfiguratorCore core, String networkId,
+            short nodeId, int index) {
+        long objectId = objectIds[index];
+        short subObjectId = subObjectIds[index];
+        Result res;
+        if (uniqueIdRefs[index] != null) {
+            if (subObjectId == NO_SUB_OBJECT) {
+                return core.CreateParameterObject(networkId, nodeId, objectId,
+                        objectTypes[index], names[index], dataTypes[index],
+                        accessTypes[index], pdoMappings[index],
+                        uniqueIdRefs[index], defaultValues[index],
+                        actualValues[index]);
+            }
+            return core.CreateParameterSubObject(networkId, nodeId, objectId,
+                    subObjectId, objectTypes[index], names[index],
+                    dataTypes[index], accessTypes[index], pdoMappings[index],
+                    uniqueIdRefs[index], defaultValues[index],
+                    actualValues[index]);
+        }
+
+        boolean hasLimits = !isEmpty(lowLimits[index])
+                || !isEmpty(highLimits[index]);
+        if (subObjectId == NO_SUB_OBJECT) {
+            res = core.CreateObject(networkId, nodeId, objectId,
+                    objectTypes[index], names[index], dataTypes[index],
+                    accessTypes[index], pdoMappings[index],
+                    defaultValues[index], actualValues[index]);
+            if (res.IsSuccessful() && hasLimits) {
+                res = core.SetObjectLimits(networkId, nodeId, objectId,
+                        lowLimits[index], highLimits[index]);
+            }
+        } else {
+            res = core.CreateSubObject(networkId, nodeId, objectId,
+                    subObjectId, objectTypes[index], names[index],
+                    dataTypes[index], accessTypes[index], pdoMappings[index],
+                    defaultValues[index], actualValues[index]);
+            if (res.IsSuccessful() && hasLimits) {
+                res = core.SetSubObjectLimits(networkId, nodeId, objectId,
+                        subObjectId, lowLimits[index], highLimits[index]);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @return The access type of the entry.
+     */
+    public AccessType getAccessType(int index) {
+        return accessTypes[index];
+    }
+
+    /**
+     * @return The actual value of the entry.
+     */
+    public String getActualValue(int index) {
+        return actualValues[index];
+    }
+
+    /**
+     * @return The data type of the entry.
+     */
+    public PlkDataType getDataType(int index) {
+        return dataTypes[index];
+    }
+
+    /**
+     * @return The default value of the entry.
+     */
+    public String getDefaultValue(int index) {
+        return defaultValues[index];
+    }
+
+    /**
+     * @return The high limit of the entry.
+     */
+    public String getHighLimit(int index) {
+        return highLimits[index];
+    }
+
+    /**
+     * @return The low limit of the entry.
+     */
+    public String getLowLimit(int index) {
+        return lowLimits[index];
+    }
+
+    /**
+     * @return The name of the entry.
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * @return The object ID of the entry.
+     */
+    public long getObjectId(int index) {
+        return objectIds[index];
+    }
+
+    /**
+     * @return The object type of the entry.
+     */
+    public ObjectType getObjectType(int index) {
+        return objectTypes[index];
+    }
+
+    /**
+     * @return The PDO mapping of the entry.
+     */
+    public PDOMapping getPdoMapping(int index) {
+        return pdoMappings[index];
+    }
+
+    /**
+     * @return The subobject ID of the entry.
+     */
+    public short getSubObjectId(int index) {
+        return subObjectIds[index];
+    }
+
+    /**
+     * @return The unique ID of the referenced parameter of the entry.
+     */
+    public String getUniqueIdRef(int index) {
+        return uniqueIdRefs[index];
+    }
+
+    private void grow() {
+        int capacity = objectIds.length * 2;
+        objectIds = Arrays.copyOf(objectIds, capacity);
+        subObjectIds = Arrays.copyOf(subObjectIds, capacity);
+        objectTypes = Arrays.copyOf(objectTypes, capacity);
+        names = Arrays.copyOf(names, capacity);
+        dataTypes = Arrays.copyOf(dataTypes, capacity);
+        accessTypes = Arrays.copyOf(accessTypes, capacity);
+        pdoMappings = Arrays.copyOf(pdoMappings, capacity);
+        uniqueIdRefs = Arrays.copyOf(uniqueIdRefs, capacity);
+        defaultValues = Arrays.copyOf(defaultValues, capacity);
+        actualValues = Arrays.copyOf(actualValues, capacity);
+        lowLimits = Arrays.copyOf(lowLimits, capacity);
+        highLimits = Arrays.copyOf(highLimits, capacity);
+    }
+
+    /**
+     * @return The number of entries in the batch.
+     */
+    public int size() {
+        return size;
+    }
+}
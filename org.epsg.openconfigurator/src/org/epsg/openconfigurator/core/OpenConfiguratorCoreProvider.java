@@ -0,0 +1,351 @@
+/*******************************************************************************
+ * @file   OpenConfiguratorCoreProvider.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.core;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+
+import org.epsg.openconfigurator.lib.wrapper.ErrorCode;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+
+/**
+ * Provides the configuration core used by the plugin.
+ *
+ * The native openCONFIGURATOR library is used by default. The pure Java
+ * in-memory core is selected with the system property
+ * <code>-Dorg.epsg.openconfigurator.core=memory</code>, so that the project
+ * import, the editing and the persistence can run without the native
+ * libraries.
+ *
+ * The calls of the core are recorded in the {@link CoreCallStatistics} unless
+ * disabled with <code>-Dorg.epsg.openconfigurator.core.statistics=false</code>.
+ * The calls are also written into a trace file for the
+ * {@link CoreTraceReplayer} if the file is given with
+ * <code>-Dorg.epsg.openconfigurator.core.trace=&lt;trace file&gt;</code>.
+ *
+ * All calls of the core run in the single thread of the {@link CoreExecutor},
+ * unless disabled with <code>-Dorg.epsg.openconfigurator.core.executor=false
+ * </code>.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class OpenConfiguratorCoreProvider {
+
+    /**
+     * System property to select the configuration core.
+     */
+    public static final String CORE_PROPERTY = "org.epsg.openconfigurator.core"; //$NON-NLS-1$
+
+    /**
+     * Value of the {@link #CORE_PROPERTY} for the in-memory core.
+     */
+    public static final String IN_MEMORY_CORE = "memory"; //$NON-NLS-1$
+
+    /**
+     * Value of the {@link #CORE_PROPERTY} for the native core.
+     */
+    public static final String NATIVE_CORE = "native"; //$NON-NLS-1$
+
+    /**
+     * System property to disable the batched creation of the object
+     * dictionaries.
+     */
+    public static final String BATCH_PROPERTY = "org.epsg.openconfigurator.core.batch"; //$NON-NLS-1$
+
+    /**
+     * System property to disable the core thread.
+     */
+    public static final String EXECUTOR_PROPERTY = "org.epsg.openconfigurator.core.executor"; //$NON-NLS-1$
+
+    /**
+     * System property to disable the statistics of the core calls.
+     */
+    public static final String STATISTICS_PROPERTY = "org.epsg.openconfigurator.core.statistics"; //$NON-NLS-1$
+
+    /**
+     * System property with the path of the trace file of the core calls.
+     */
+    public static final String TRACE_PROPERTY = "org.epsg.openconfigurator.core.trace"; //$NON-NLS-1$
+
+    private static final CoreCallStatistics STATISTICS = new CoreCallStatistics();
+
+    private static final CoreExecutor EXECUTOR = new CoreExecutor();
+
+    private static volatile IOpenConfiguratorCore core;
+
+    /**
+     * The core without the instrumentation and the recording facades.
+     */
+    private static volatile IOpenConfiguratorCore delegate;
+
+    private static RecordingOpenConfiguratorCore recording;
+
+    /**
+     * Closes the trace of the core calls if it is recorded.
+     *
+     * @throws IOException Errors with writing the trace file.
+     */
+    public static synchronized void closeTrace() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Returns the number of the core calls made so far for the network. The
+     * calls made in a period are the difference of the counts at its start and
+     * its end. The calls of the other networks, for example of parallel
+     * builds, are not counted.
+     *
+     * @param networkId The network ID.
+     * @return The number of core calls of the network, <code>-1</code> if the
+     *         statistics are disabled.
+     */
+    public static long getCallCount(String networkId) {
+        if (!isStatisticsEnabled()) {
+            return -1;
+        }
+        return STATISTICS.getNetworkCalls(networkId);
+    }
+
+    /**
+     * Returns the number of the core calls of the network made since the given
+     * count.
+     *
+     * @param networkId The network ID.
+     * @param startCount The count of {@link #getCallCount(String)} at the
+     *            start.
+     * @return The number of core calls of the network, <code>-1</code> if the
+     *         statistics are disabled.
+     */
+    public static long getCallsSince(String networkId, long startCount) {
+        long count = getCallCount(networkId);
+        if ((startCount < 0) || (count < 0)) {
+            return -1;
+        }
+        return count - startCount;
+    }
+
+    /**
+     * @return The configuration core instance.
+     */
+    public static IOpenConfiguratorCore getCore() {
+        IOpenConfiguratorCore currentCore = core;
+        if (currentCore == null) {
+            synchronized (OpenConfiguratorCoreProvider.class) {
+                currentCore = core;
+                if (currentCore == null) {
+                    if (isInMemoryCoreSelected()) {
+                        currentCore = wrap(new InMemoryOpenConfiguratorCore());
+                    } else {
+                        currentCore = wrap(new NativeOpenConfiguratorCore());
+                    }
+                    core = currentCore;
+                }
+            }
+        }
+        return currentCore;
+    }
+
+    /**
+     * @return The executor which runs the calls of the core.
+     */
+    public static CoreExecutor getExecutor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * @param networkId The network ID.
+     * @return The bytes held by the node journal of the network, 0 if the
+     *         core does not journal the calls.
+     */
+    public static long getJournalSize(String networkId) {
+        IOpenConfiguratorCore currentDelegate = delegate;
+        if (currentDelegate instanceof NativeOpenConfiguratorCore) {
+            return ((NativeOpenConfiguratorCore) currentDelegate).getJournal()
+                    .getSize(networkId);
+        }
+        return 0;
+    }
+
+    /**
+     * @return The statistics of the core calls.
+     */
+    public static CoreCallStatistics getStatistics() {
+        return STATISTICS;
+    }
+
+    private static IOpenConfiguratorCore instrument(
+            IOpenConfiguratorCore newCore) {
+        if (!isStatisticsEnabled()) {
+            return newCore;
+        }
+        return InstrumentedOpenConfiguratorCore.create(newCore, STATISTICS);
+    }
+
+    /**
+     * @return <code>True</code> if the object dictionaries are created in
+     *         batches, <code>False</code> if they are created object by
+     *         object.
+     */
+    public static boolean isBatchEnabled() {
+        return Boolean.parseBoolean(
+                System.getProperty(BATCH_PROPERTY, "true")); //$NON-NLS-1$
+    }
+
+    /**
+     * @return <code>True</code> if the calls of the core run in the core
+     *         thread, <code>False</code> otherwise.
+     */
+    public static boolean isExecutorEnabled() {
+        return Boolean.parseBoolean(
+                System.getProperty(EXECUTOR_PROPERTY, "true")); //$NON-NLS-1$
+    }
+
+    /**
+     * @return <code>True</code> if the in-memory core is selected with the
+     *         system property, <code>False</code> otherwise.
+     */
+    private static boolean isInMemoryCoreSelected() {
+        return IN_MEMORY_CORE.equalsIgnoreCase(
+                System.getProperty(CORE_PROPERTY, NATIVE_CORE));
+    }
+
+    /**
+     * Checks if the native libraries are required by the configuration core.
+     *
+     * @return <code>True</code> if the native core is used, <code>False</code>
+     *         otherwise.
+     */
+    public static boolean isNativeCore() {
+        IOpenConfiguratorCore currentCore = core;
+        if (currentCore != null) {
+            return delegate instanceof NativeOpenConfiguratorCore;
+        }
+        return !isInMemoryCoreSelected();
+    }
+
+    /**
+     * Records the calls of the core into the trace file given with the
+     * {@link #TRACE_PROPERTY}. The core is used without recording if the
+     * trace file cannot be created.
+     */
+    private static IOpenConfiguratorCore record(
+            IOpenConfiguratorCore newCore) {
+        String traceFile = System.getProperty(TRACE_PROPERTY);
+        if ((traceFile == null) || traceFile.isEmpty()) {
+            return newCore;
+        }
+        try {
+            closeTrace();
+            recording = RecordingOpenConfiguratorCore.create(newCore,
+                    Paths.get(traceFile));
+            return recording.getCore();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return newCore;
+        }
+    }
+
+    /**
+     * @return <code>True</code> if the calls of the core are recorded,
+     *         <code>False</code> otherwise.
+     */
+    public static boolean isStatisticsEnabled() {
+        return Boolean.parseBoolean(
+                System.getProperty(STATISTICS_PROPERTY, "true")); //$NON-NLS-1$
+    }
+
+    /**
+     * @return A successful result instance of the configuration core.
+     */
+    public static Result newResult() {
+        return getCore().newResult();
+    }
+
+    /**
+     * @param errorType The error code.
+     * @param errorMessage The error message.
+     * @return A failed result instance of the configuration core.
+     */
+    public static Result newResult(ErrorCode errorType, String errorMessage) {
+        return getCore().newResult(errorType, errorMessage);
+    }
+
+    /**
+     * Replaces the configuration core. Used by the tools which run the
+     * configuration without the native libraries.
+     *
+     * @param newCore The new configuration core.
+     */
+    public static synchronized void setCore(IOpenConfiguratorCore newCore) {
+        if (newCore == null) {
+            throw new IllegalArgumentException("Invalid core"); //$NON-NLS-1$
+        }
+        core = wrap(newCore);
+    }
+
+    /**
+     * Queues a task which calls the core to be run in the core thread. The
+     * UI thread applies the result in a callback of the returned future
+     * instead of waiting for the core.
+     *
+     * @param task The task to be run.
+     * @return The future result of the task.
+     */
+    public static <T> CoreFuture<T> submit(Callable<T> task) {
+        return EXECUTOR.submit(task);
+    }
+
+    /**
+     * Wraps the core with the node journal, the snapshot capture, the
+     * recording, the instrumentation and the executor facades.
+     */
+    private static IOpenConfiguratorCore wrap(IOpenConfiguratorCore newCore) {
+        delegate = newCore;
+        IOpenConfiguratorCore wrappedCore = instrument(record(
+                NetworkSnapshot.capture(NodeJournal.attach(newCore))));
+        if (isExecutorEnabled()) {
+            wrappedCore = EXECUTOR.serialize(wrappedCore);
+        }
+        return wrappedCore;
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private OpenConfiguratorCoreProvider() {
+    }
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * @file   RecordingOpenConfiguratorCore.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.core;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.epsg.openconfigurator.lib.wrapper.Result;
+
+/**
+ * Facade which records the calls of a configuration core into a binary trace.
+ *
+ * The trace contains the sequence and the arguments of the calls during the
+ * import, the editing and the build of the projects, so that a session can be
+ * replayed with the {@link CoreTraceReplayer} without the project files. The
+ * calls are serialized while they are recorded to keep the order of the trace.
+ * The recording is best-effort: if the trace cannot be written, the recording
+ * is stopped and the calls are passed to the core without recording.
+ *
+ * @see CoreTrace
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class RecordingOpenConfiguratorCore
+        implements InvocationHandler, Closeable {
+
+    /**
+     * Creates the recording facade of the given core.
+     *
+     * @param core The core to be recorded.
+     * @param traceFile The trace file to be written.
+     * @return The recording facade.
+     * @throws IOException Errors with creating the trace file.
+     */
+    public static RecordingOpenConfiguratorCore create(
+            IOpenConfiguratorCore core, Path traceFile) throws IOException {
+        Path parent = traceFile.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new RecordingOpenConfiguratorCore(core,
+                Files.newOutputStream(traceFile));
+    }
+
+    private final IOpenConfiguratorCore core;
+
+    private final DataOutputStream out;
+
+    private final CoreTrace.Writer writer;
+
+    private final Map<Method, Integer> methodNumbers;
+
+    private boolean closed;
+
+    private RecordingOpenConfiguratorCore(IOpenConfiguratorCore core,
+            OutputStream stream) throws IOException {
+        this.core = core;
+        out = new DataOutputStream(new BufferedOutputStream(stream));
+        writer = new CoreTrace.Writer(out);
+
+        methodNumbers = CoreTrace.writeHeader(out, writer);
+    }
+
+    /**
+     * Flushes and closes the trace. The calls after closing are passed to the
+     * core without recording.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            out.close();
+        }
+    }
+
+    /**
+     * @return The recording facade as a configuration core.
+     */
+    public IOpenConfiguratorCore getCore() {
+        return (IOpenConfiguratorCore) Proxy.newProxyInstance(
+                IOpenConfiguratorCore.class.getClassLoader(),
+                new Class<?>[] { IOpenConfiguratorCore.class }, this);
+    }
+
+    @Override
+    public synchronized Object invoke(Object proxy, Method method,
+            Object[] args) throws Throwable {
+        Integer methodNumber = methodNumbers.get(method);
+        if (closed || (methodNumber == null)) {
+            return invokeCore(method, args);
+        }
+
+        try {
+            writer.writeVarLong(methodNumber);
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                CoreTrace.writeArgument(writer, parameterTypes[i], args[i]);
+            }
+        } catch (IOException e) {
+            stopRecording(e);
+            return invokeCore(method, args);
+        }
+
+        long startTime = System.nanoTime();
+        Object result;
+        try {
+            result = invokeCore(method, args);
+        } catch (Throwable e) {
+            writeCallEnd(System.nanoTime() - startTime, false);
+            throw e;
+        }
+        long duration = System.nanoTime() - startTime;
+
+        writeCallEnd(duration, !(result instanceof Result)
+                || ((Result) result).IsSuccessful());
+        return result;
+    }
+
+    private Object invokeCore(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(core, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Stops the recording after an error with writing the trace. The error is
+     * reported once, the later calls are not recorded.
+     */
+    private void stopRecording(IOException cause) {
+        System.err.println("Recording of the library calls stopped: " //$NON-NLS-1$
+                + cause.getMessage());
+        try {
+            close();
+        } catch (IOException e) {
+            // The trace is incomplete anyway.
+        }
+    }
+
+    private void writeCallEnd(long duration, boolean successful) {
+        try {
+            writer.writeVarLong(duration);
+            writer.writeBoolean(successful);
+        } catch (IOException e) {
+            stopRecording(e);
+        }
+    }
+}
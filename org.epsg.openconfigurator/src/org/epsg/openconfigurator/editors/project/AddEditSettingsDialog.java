@@ -54,9 +54,8 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Text;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
-import org.epsg.openconfigurator.lib.wrapper.StringCollection;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
 import org.epsg.openconfigurator.util.PluginErrorDialogUtils;
 import org.epsg.openconfigurator.xmlbinding.projectfile.TAutoGenerationSettings;
@@ -193,8 +192,8 @@ public final class AddEditSettingsDialog extends TitleAreaDialog {
         agSettings = autoGenerationSettings;
 
         // Create the builderConfiguration based on the input from the library.
-        StringCollection support = new StringCollection();
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        List<String> support = new ArrayList<>();
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .GetSupportedSettingIds(support);
         if (!libApiRes.IsSuccessful()) {
             // Display a dialog to report it to the user.
@@ -206,8 +205,8 @@ public final class AddEditSettingsDialog extends TitleAreaDialog {
             return;
         }
 
-        for (int i = 0; i < support.size(); i++) {
-            BuilderConfiguration cfg = new BuilderConfiguration(support.get(i));
+        for (String settingId : support) {
+            BuilderConfiguration cfg = new BuilderConfiguration(settingId);
             builderConfig.add(cfg);
         }
 
@@ -36,7 +36,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.Charset;
-import java.util.List;
+import java.text.MessageFormat;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.parsers.ParserConfigurationException;
@@ -55,7 +57,9 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.jface.dialogs.ErrorDialog;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.text.IDocument;
@@ -76,20 +80,25 @@ import org.eclipse.ui.ide.IDE;
 import org.eclipse.ui.part.FileEditorInput;
 import org.eclipse.ui.texteditor.IDocumentProvider;
 import org.epsg.openconfigurator.Activator;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.ICoreCallback;
+import org.epsg.openconfigurator.core.NetworkSnapshot;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.IPowerlinkProjectSupport;
 import org.epsg.openconfigurator.model.Path;
 import org.epsg.openconfigurator.model.PowerlinkRootNode;
+import org.epsg.openconfigurator.util.DisplayExecutor;
+import org.epsg.openconfigurator.util.FirmwareFileUtils;
+import org.epsg.openconfigurator.util.NetworkSnapshotUtils;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectMarshaller;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
+import org.epsg.openconfigurator.util.PersistenceQueue;
 import org.epsg.openconfigurator.util.PluginErrorDialogUtils;
 import org.epsg.openconfigurator.views.IndustrialNetworkView;
 import org.epsg.openconfigurator.xmlbinding.projectfile.OpenCONFIGURATORProject;
 import org.epsg.openconfigurator.xmlbinding.projectfile.TNetworkConfiguration;
-import org.epsg.openconfigurator.xmlbinding.projectfile.TPath;
-import org.epsg.openconfigurator.xmlbinding.projectfile.TProjectConfiguration.PathSettings;
 import org.jdom2.JDOMException;
 import org.xml.sax.SAXException;
 
@@ -123,6 +132,8 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
     private static final String MARSHALL_ERROR = "Error marshalling the openCONFIGURATOR project.";
     private static final String UNMARSHALL_ERROR = "Error unmarshalling the openCONFIGURATOR project.";
     private static final String INVALID_INPUT_ERROR = "Invalid input: Must be a valid openCONFIGURATOR project file.";
+    private static final String ESTIMATED_MEMORY_USAGE_MESSAGE = "Estimated memory usage: {0} KB";
+    private static final String NETWORK_EVICTED_MESSAGE = "Network released from memory until the editor is activated.";
 
     /**
      * @return Returns the output path settings from the project XML.
@@ -181,6 +192,17 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
      */
     private boolean upgradeFlag;
 
+    /**
+     * Flag to check if the network is released from the library and the
+     * model to reclaim the memory while the editor is inactive.
+     */
+    private volatile boolean networkEvicted = false;
+
+    /**
+     * Estimated memory usage of the network in bytes.
+     */
+    private volatile long estimatedMemoryUsage;
+
     /**
      * Constructor
      */
@@ -277,28 +299,16 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
     }
 
     /**
-     * Disposes the project editor UI.
+     * Disposes the project editor UI. The network is removed from the library
+     * and the models of the nodes are released.
      */
     @Override
     public void dispose() {
         if (initSuccessful) {
-
-            Display.getDefault().syncExec(new Runnable() {
-                @Override
-                public void run() {
-                    if (importNodeXdcJob != null) {
-                        importNodeXdcJob.cancel();
-                        try {
-                            importNodeXdcJob.join();
-                        } catch (InterruptedException e) {
-                            // TODO Auto-generated catch block
-                            e.printStackTrace();
-                        }
-                    }
-                }
-            });
-
-            rootNode.clearNodeCollection();
+            NetworkLifecycleManager.editorClosed(this);
+            if (!networkEvicted) {
+                releaseNetwork();
+            }
 
             Display.getDefault().syncExec(new Runnable() {
                 @Override
@@ -313,17 +323,6 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
                     }
                 }
             });
-
-            Result libApiRes = OpenConfiguratorCore.GetInstance()
-                    .RemoveNetwork(networkId);
-            if (!libApiRes.IsSuccessful()) {
-                // Report error to the user using the dialog.
-                String errorMessage = OpenConfiguratorLibraryUtils
-                        .getErrorMessage(libApiRes);
-                System.err.println(errorMessage);
-                PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
-                        libApiRes);
-            }
         }
         ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
         super.dispose();
@@ -334,9 +333,13 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
      */
     @Override
     public void doSave(IProgressMonitor monitor) {
-        upgradeFlag = false;
-        editorPage.doSave(monitor);
-        sourcePage.doSave(monitor);
+        // Waits for the property values which are still being committed.
+        try {
+            PersistenceQueue.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        saveCommitted(monitor);
     }
 
     @Override
@@ -344,69 +347,53 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
         // TODO Auto-generated method stub
     }
 
-    public Path getConfigTextPath(String pathtext) {
-        List<PathSettings> pathSettList = currentProject
-                .getProjectConfiguration().getPathSettings();
-        String activepathSetting = currentProject.getProjectConfiguration()
-                .getActivePathSetting();
-        PathSettings pathSett = null;
-        for (PathSettings setPath : pathSettList) {
-            if (setPath.getId() != null) {
-                if (setPath.getId().equalsIgnoreCase(activepathSetting)) {
-                    pathSett = setPath;
-                    break;
-                }
-            } else {
-                pathSett = setPath;
-            }
-        }
-
-        if (pathSett == null) {
-            return new Path(IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR, true);
+    /**
+     * Releases the network from the library and the models of the nodes to
+     * reclaim the memory of an inactive editor. The network is imported again
+     * once the editor is activated. The network is removed in the core thread,
+     * so that the UI thread does not wait for the library; the import of the
+     * restored network is queued after the removal.
+     */
+    void evictNetwork() {
+        if (networkEvicted) {
+            return;
         }
-
-        List<TPath> pathList = pathSett.getPath();
-        TPath pathConfig = null;
-        for (TPath path : pathList) {
-            if (path.getId().equalsIgnoreCase(pathtext)) {
-                pathConfig = path;
+        rootNode.clearNodeCollection();
+        FirmwareFileUtils.clearContentHashes(
+                activeProject.getLocation().toFile().toPath());
+        OpenConfiguratorCoreProvider.submit(new Callable<Result>() {
+            @Override
+            public Result call() {
+                return OpenConfiguratorCoreProvider.getCore()
+                        .RemoveNetwork(networkId);
             }
-        }
-
-        if (pathConfig == null) {
-            TPath defaultPath = OpenConfiguratorProjectUtils.getTPath(pathSett,
-                    OpenConfiguratorProjectUtils.PATH_SETTINGS_DEFAULT_PATH_ID);
-            if (defaultPath != null) {
-                return new Path(defaultPath.getPath(), true);
+        }).addCallback(new ICoreCallback<Result>() {
+            @Override
+            public void completed(Result res) {
+                if (!res.IsSuccessful()) {
+                    OpenConfiguratorMessageConsole.getInstance()
+                            .printLibraryErrorMessage(res);
+                }
             }
-        }
 
-        if (pathConfig != null) {
-            String activeOutputPathID = pathConfig.getId();
-            if (activeOutputPathID == null) {
-                if (!pathSett.getPath().isEmpty()) {
-                    TPath defaultPath = OpenConfiguratorProjectUtils.getTPath(
-                            pathSett,
-                            OpenConfiguratorProjectUtils.PATH_SETTINGS_DEFAULT_PATH_ID);
-                    if (defaultPath != null) {
-                        return new Path(defaultPath.getPath(), true);
-                    }
-                }
-            } else {
-                TPath defaultPath = OpenConfiguratorProjectUtils
-                        .getTPath(pathSett, activeOutputPathID);
-                if (defaultPath != null) {
-                    if (!defaultPath.getId().equalsIgnoreCase(
-                            OpenConfiguratorProjectUtils.PATH_SETTINGS_DEFAULT_PATH_ID)) {
-                        return new Path(defaultPath.getPath(), false);
-                    }
-                } else {
-                    System.err.println(
-                            "Unhandled error occurred. activeOutputPath not found");
-                }
+            @Override
+            public void failed(Throwable cause) {
+                OpenConfiguratorMessageConsole.getInstance()
+                        .printErrorMessage(cause.getMessage(), networkId);
             }
-        }
-        return new Path(IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR, true);
+        }, DisplayExecutor.getInstance());
+        networkEvicted = true;
+        estimatedMemoryUsage = 0;
+        firePropertyChange(PROP_TITLE);
+    }
+
+    /**
+     * @param pathtext The output type.
+     * @return The output path configured for the given output type.
+     */
+    public Path getConfigTextPath(String pathtext) {
+        return OpenConfiguratorProjectUtils.getConfigTextPath(currentProject,
+                pathtext);
     }
 
     public OpenCONFIGURATORProject getCurrentProject() {
@@ -452,6 +439,13 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
         return retVal;
     }
 
+    /**
+     * @return The estimated memory usage of the network in bytes.
+     */
+    public long getEstimatedMemoryUsage() {
+        return estimatedMemoryUsage;
+    }
+
     /**
      * @return The network configuration instance from the project model.
      */
@@ -480,6 +474,22 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
         return projectFile;
     }
 
+    /**
+     * Appends the estimated memory usage of the network to the tool tip.
+     */
+    @Override
+    public String getTitleToolTip() {
+        String toolTip = super.getTitleToolTip();
+        if (networkEvicted) {
+            return toolTip + "\n" + NETWORK_EVICTED_MESSAGE;
+        }
+        if (estimatedMemoryUsage > 0) {
+            return toolTip + "\n" + MessageFormat.format(
+                    ESTIMATED_MEMORY_USAGE_MESSAGE, estimatedMemoryUsage / 1024);
+        }
+        return toolTip;
+    }
+
     /**
      * Marks the content in the project editor source page based on the marker.
      *
@@ -499,54 +509,28 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
     }
 
     /**
-     * Initializes the project editor
+     * Creates the network in the library and schedules the import of the
+     * nodes into the root node. The network is loaded from the snapshot of
+     * the previous import, if the project and the XDC files are unchanged.
      *
-     * The <code>IndustrialNetworkProjectEditor</code> implementation of this
-     * method checks that the input is an instance of
-     * <code>IFileEditorInput</code>.
-     */
-    @Override
-    public void init(IEditorSite site, IEditorInput editorInput)
-            throws PartInitException {
-        if (!(editorInput instanceof IFileEditorInput)) {
-            throw new PartInitException(
-                    IndustrialNetworkProjectEditor.INVALID_INPUT_ERROR);
-        }
-        super.init(site, editorInput);
-
-        IFileEditorInput input = (IFileEditorInput) editorInput;
-        projectFile = input.getFile();
-        setPartName(projectFile.getName());
-
-        activeProject = projectFile.getProject();
-        networkId = activeProject.getName();
-
-        try {
-            activeProject.refreshLocal(IResource.DEPTH_INFINITE,
-                    new NullProgressMonitor());
-        } catch (CoreException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
-
-        // Validate the input with openCONFIGURATOR project file schema.
-        try {
-            currentProject = OpenConfiguratorProjectMarshaller
-                    .unmarshallOpenConfiguratorProject(
-                            projectFile.getContents());
-        } catch (JAXBException | SAXException | ParserConfigurationException
-                | CoreException e) {
-            e.printStackTrace();
-            throw new PartInitException(
-                    IndustrialNetworkProjectEditor.INVALID_INPUT_ERROR);
-        }
-        rootNode = new PowerlinkRootNode(currentProject);
-
-        upgradeFlag = OpenConfiguratorProjectUtils
-                .upgradeOpenConfiguratorProject(currentProject);
-
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
-                .CreateNetwork(networkId);
+     * @return <code>True</code> if the import is scheduled,
+     *         <code>False</code> if the network could not be created.
+     */
+    private boolean importNetwork() {
+        final PowerlinkRootNode importRootNode = rootNode;
+
+        // Upgraded projects differ from the project file and are always
+        // imported.
+        final boolean snapshotLoaded = !upgradeFlag && NetworkSnapshotUtils
+                .loadSnapshot(projectFile, currentProject, networkId);
+        final NetworkSnapshot.Capture snapshotCapture = (snapshotLoaded
+                || upgradeFlag) ? null
+                        : NetworkSnapshotUtils.startCapture(networkId);
+
+        Result libApiRes = snapshotLoaded
+                ? OpenConfiguratorCoreProvider.newResult()
+                : OpenConfiguratorCoreProvider.getCore()
+                        .CreateNetwork(networkId);
         if (!libApiRes.IsSuccessful()) {
             // Report error to the user using the dialog.
             String errorMessage = OpenConfiguratorLibraryUtils
@@ -554,11 +538,18 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
             System.err.println(errorMessage);
             PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
                     libApiRes);
-            return;
+            importRootNode.completeImport(new Status(IStatus.ERROR,
+                    Activator.PLUGIN_ID, errorMessage));
+            if (snapshotCapture != null) {
+                snapshotCapture.finish();
+            }
+            return false;
         }
 
-        libApiRes = OpenConfiguratorLibraryUtils
-                .addOpenCONFIGURATORProject(currentProject, networkId);
+        if (!snapshotLoaded) {
+            libApiRes = OpenConfiguratorLibraryUtils
+                    .addOpenCONFIGURATORProject(currentProject, networkId);
+        }
         if (!libApiRes.IsSuccessful()) {
             // Report error to the user using the dialog.
             String errorMessage = OpenConfiguratorLibraryUtils
@@ -566,7 +557,12 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
             System.err.println(errorMessage);
             PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
                     libApiRes);
-            return;
+            importRootNode.completeImport(new Status(IStatus.ERROR,
+                    Activator.PLUGIN_ID, errorMessage));
+            if (snapshotCapture != null) {
+                snapshotCapture.finish();
+            }
+            return false;
         }
 
         System.out.println("activeProject- path" + activeProject.getLocation());
@@ -582,9 +578,19 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
                         + networkCfg.getNodeCollection().getCN().size()
                         + networkCfg.getNodeCollection().getRMN().size();
                 monitor.beginTask("Import MN XDD/XDC", totalWork);
-                IStatus result = rootNode.importNodes(projectFile, networkCfg,
-                        monitor);
-                Display.getDefault().syncExec(new Runnable() {
+                IStatus result = importRootNode.importNodes(projectFile, networkCfg,
+                        monitor, snapshotLoaded);
+                if (snapshotCapture != null) {
+                    if (result.isOK() && !monitor.isCanceled()) {
+                        NetworkSnapshotUtils.writeSnapshot(snapshotCapture,
+                                projectFile, currentProject, networkId);
+                    } else {
+                        snapshotCapture.finish();
+                    }
+                }
+                // Refresh the view without blocking the import on the UI
+                // thread.
+                Display.getDefault().asyncExec(new Runnable() {
                     @Override
                     public void run() {
                         IViewPart viewPart = PlatformUI.getWorkbench()
@@ -602,33 +608,88 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
             }
         };
 
+        // Releases the builds waiting for the import even if the job is
+        // cancelled before it runs.
+        importNodeXdcJob.addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void done(IJobChangeEvent event) {
+                importRootNode.completeImport(event.getResult());
+                NetworkLifecycleManager
+                        .importCompleted(IndustrialNetworkProjectEditor.this);
+            }
+        });
         importNodeXdcJob.schedule();
-
-        PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage()
-                .showView(IndustrialNetworkView.ID);
-        initSuccessful = true;
+        return true;
     }
 
-    public boolean isCustomPathAvailable() {
+    /**
+     * Initializes the project editor
+     *
+     * The <code>IndustrialNetworkProjectEditor</code> implementation of this
+     * method checks that the input is an instance of
+     * <code>IFileEditorInput</code>.
+     */
+    @Override
+    public void init(IEditorSite site, IEditorInput editorInput)
+            throws PartInitException {
+        if (!(editorInput instanceof IFileEditorInput)) {
+            throw new PartInitException(
+                    IndustrialNetworkProjectEditor.INVALID_INPUT_ERROR);
+        }
+        super.init(site, editorInput);
 
-        if (currentProject.getProjectConfiguration()
-                .getActivePathSetting() == null) {
-            return false;
+        IFileEditorInput input = (IFileEditorInput) editorInput;
+        projectFile = input.getFile();
+        setPartName(projectFile.getName());
+
+        activeProject = projectFile.getProject();
+        networkId = activeProject.getName();
+
+        try {
+            activeProject.refreshLocal(IResource.DEPTH_INFINITE,
+                    new NullProgressMonitor());
+        } catch (CoreException e) {
+            // TODO Auto-generated catch block
+            e.printStackTrace();
         }
 
-        String activepathSetting = currentProject.getProjectConfiguration()
-                .getActivePathSetting();
-        if (activepathSetting.equalsIgnoreCase(
-                OpenConfiguratorProjectUtils.PATH_SETTINGS_ALL_PATH_ID)) {
-            return false;
+        // Validate the input with openCONFIGURATOR project file schema.
+        try {
+            currentProject = OpenConfiguratorProjectMarshaller
+                    .unmarshallOpenConfiguratorProject(
+                            projectFile.getContents());
+        } catch (JAXBException | SAXException | ParserConfigurationException
+                | CoreException e) {
+            e.printStackTrace();
+            throw new PartInitException(
+                    IndustrialNetworkProjectEditor.INVALID_INPUT_ERROR);
         }
+        rootNode = new PowerlinkRootNode(currentProject);
+
+        upgradeFlag = OpenConfiguratorProjectUtils
+                .upgradeOpenConfiguratorProject(currentProject);
 
-        if (activepathSetting.equalsIgnoreCase(
-                OpenConfiguratorProjectUtils.PATH_SETTINGS_CUSTOM_PATH_ID)) {
-            return true;
+        if (!importNetwork()) {
+            return;
         }
 
-        return false;
+        PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage()
+                .showView(IndustrialNetworkView.ID);
+        initSuccessful = true;
+        NetworkLifecycleManager.editorOpened(this);
+    }
+
+    /**
+     * @return <code>True</code> if the network is released from the memory,
+     *         <code>False</code> otherwise.
+     */
+    public boolean isNetworkEvicted() {
+        return networkEvicted;
+    }
+
+    public boolean isCustomPathAvailable() {
+        return OpenConfiguratorProjectUtils
+                .isCustomPathAvailable(currentProject);
     }
 
     /**
@@ -699,6 +760,46 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
         // TODO Auto-generated method stub
     }
 
+    /**
+     * Cancels the import, releases the models of the nodes and removes the
+     * network from the library. A running import is not awaited; the network
+     * is removed once the cancelled import has stopped.
+     */
+    private void releaseNetwork() {
+        final Job importJob = importNodeXdcJob;
+        if ((importJob != null) && (importJob.getState() != Job.NONE)) {
+            final AtomicBoolean removed = new AtomicBoolean();
+            importJob.addJobChangeListener(new JobChangeAdapter() {
+                @Override
+                public void done(IJobChangeEvent event) {
+                    if (removed.compareAndSet(false, true)) {
+                        Result libApiRes = removeNetwork();
+                        if (!libApiRes.IsSuccessful()) {
+                            OpenConfiguratorMessageConsole.getInstance()
+                                    .printLibraryErrorMessage(libApiRes);
+                        }
+                    }
+                }
+            });
+            importJob.cancel();
+            // The import may have stopped before the listener was added.
+            if ((importJob.getState() != Job.NONE)
+                    || !removed.compareAndSet(false, true)) {
+                return;
+            }
+        }
+
+        Result libApiRes = removeNetwork();
+        if (!libApiRes.IsSuccessful()) {
+            // Report error to the user using the dialog.
+            String errorMessage = OpenConfiguratorLibraryUtils
+                    .getErrorMessage(libApiRes);
+            System.err.println(errorMessage);
+            PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
+                    libApiRes);
+        }
+    }
+
     /**
      * Reloads the project editor source page contents from the model.
      */
@@ -820,6 +921,49 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
         }
     }
 
+    /**
+     * Releases the models of the nodes and removes the network from the
+     * library.
+     *
+     * @return Result from the library.
+     */
+    private Result removeNetwork() {
+        rootNode.clearNodeCollection();
+        FirmwareFileUtils.clearContentHashes(
+                activeProject.getLocation().toFile().toPath());
+
+        return OpenConfiguratorCoreProvider.getCore().RemoveNetwork(networkId);
+    }
+
+    /**
+     * Imports the released network again into the library and the model. The
+     * root node is reused, so that the views and the nodes keep referring to
+     * the root node of the editor.
+     */
+    void restoreNetwork() {
+        if (!networkEvicted) {
+            return;
+        }
+        networkEvicted = false;
+        rootNode.resetImport();
+        importNetwork();
+        firePropertyChange(PROP_TITLE);
+    }
+
+    /**
+     * Saves the pages of the editor without waiting for the property values
+     * which are still being committed. Used by the builder, which waits for
+     * the {@link PersistenceQueue} in the build thread before it saves the
+     * editor in the UI thread.
+     *
+     * @param monitor The progress monitor.
+     */
+    public void saveCommitted(IProgressMonitor monitor) {
+        upgradeFlag = false;
+        editorPage.doSave(monitor);
+        sourcePage.doSave(monitor);
+    }
+
     /**
      * Sets the input contents to the project source editor.
      *
@@ -829,6 +973,27 @@ public final class IndustrialNetworkProjectEditor extends FormEditor
         getDocument().set(source);
     }
 
+    /**
+     * Restores the released network once the editor is activated.
+     */
+    @Override
+    public void setFocus() {
+        super.setFocus();
+        if (initSuccessful) {
+            NetworkLifecycleManager.editorActivated(this);
+        }
+    }
+
+    /**
+     * Updates the estimated memory usage of the network shown in the tool tip.
+     */
+    void updateEstimatedMemoryUsage() {
+        if (!networkEvicted) {
+            estimatedMemoryUsage = rootNode.getEstimatedMemoryUsage();
+            firePropertyChange(PROP_TITLE);
+        }
+    }
+
     /**
      * Updates the openCONIGURATOR project model into the XML source file.
      */
@@ -77,7 +77,7 @@ import org.eclipse.ui.forms.widgets.Hyperlink;
 import org.eclipse.ui.forms.widgets.ScrolledForm;
 import org.eclipse.ui.forms.widgets.Section;
 import org.eclipse.ui.forms.widgets.TableWrapLayout;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
@@ -213,7 +213,7 @@ public final class IndustrialNetworkProjectEditorPage extends FormPage {
                         currentProject.getProjectConfiguration()
                                 .getActiveAutoGenerationSetting())) {
 
-                    Result libApiRes = OpenConfiguratorCore.GetInstance()
+                    Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                             .SetActiveConfiguration(editor.getNetworkId(),
                                     autoGenerationCombo.getText());
                     if (!libApiRes.IsSuccessful()) {
@@ -303,7 +303,7 @@ public final class IndustrialNetworkProjectEditorPage extends FormPage {
                     if (addEditSettingsDialog.isDirty()) {
 
                         // Remove the setting from model and library.
-                        Result libApiRes = OpenConfiguratorCore.GetInstance()
+                        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                                 .RemoveConfigurationSetting(
                                         editor.getNetworkId(),
                                         activeAgSettings.getId(),
@@ -330,7 +330,7 @@ public final class IndustrialNetworkProjectEditorPage extends FormPage {
                         TKeyValuePair modifiedData = addEditSettingsDialog
                                 .getData();
 
-                        libApiRes = OpenConfiguratorCore.GetInstance()
+                        libApiRes = OpenConfiguratorCoreProvider.getCore()
                                 .CreateConfigurationSetting(
                                         editor.getNetworkId(),
                                         activeAgSettings.getId(),
@@ -350,7 +350,7 @@ public final class IndustrialNetworkProjectEditorPage extends FormPage {
                             return;
                         }
 
-                        libApiRes = OpenConfiguratorCore.GetInstance()
+                        libApiRes = OpenConfiguratorCoreProvider.getCore()
                                 .SetConfigurationSettingEnabled(
                                         editor.getNetworkId(),
                                         activeAgSettings.getId(),
@@ -399,7 +399,7 @@ public final class IndustrialNetworkProjectEditorPage extends FormPage {
                         TKeyValuePair newSetting = addEditSettingsDialog
                                 .getData();
 
-                        Result libApiRes = OpenConfiguratorCore.GetInstance()
+                        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                                 .CreateConfigurationSetting(
                                         editor.getNetworkId(),
                                         activeAgSetting.getId(),
@@ -419,7 +419,7 @@ public final class IndustrialNetworkProjectEditorPage extends FormPage {
                             return;
                         }
 
-                        libApiRes = OpenConfiguratorCore.GetInstance()
+                        libApiRes = OpenConfiguratorCoreProvider.getCore()
                                 .SetConfigurationSettingEnabled(
                                         editor.getNetworkId(),
                                         activeAgSetting.getId(),
@@ -2154,7 +2154,7 @@ public final class IndustrialNetworkProjectEditorPage extends FormPage {
                             + activeAutoGenerationSetting);
             autoGenerationCombo.select(0);
             if (!autoGenerationCombo.getText().isEmpty()) {
-                Result libApiRes = OpenConfiguratorCore.GetInstance()
+                Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                         .SetActiveConfiguration(editor.getNetworkId(),
                                 autoGenerationCombo.getText());
                 if (!libApiRes.IsSuccessful()) {
@@ -64,7 +64,7 @@ import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
@@ -139,7 +139,7 @@ public final class ModifyAutoGenerationSettingsDialog extends TitleAreaDialog {
 
             if (ModifyAutoGenerationSettingsDialog.NAME.equals(property)) {
                 String oldAgSettingId = ag.getId();
-                Result libApiRes = OpenConfiguratorCore.GetInstance()
+                Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                         .ReplaceConfigurationName(networkID, oldAgSettingId,
                                 (String) value);
                 if (!libApiRes.IsSuccessful()) {
@@ -159,7 +159,7 @@ public final class ModifyAutoGenerationSettingsDialog extends TitleAreaDialog {
                 // update the active setting also.
                 if (oldAgSettingId.equalsIgnoreCase(projectConfiguration
                         .getActiveAutoGenerationSetting())) {
-                    libApiRes = OpenConfiguratorCore.GetInstance()
+                    libApiRes = OpenConfiguratorCoreProvider.getCore()
                             .SetActiveConfiguration(networkID, ag.getId());
                     if (!libApiRes.IsSuccessful()) {
                         final String errorMessage = OpenConfiguratorLibraryUtils
@@ -379,7 +379,7 @@ public final class ModifyAutoGenerationSettingsDialog extends TitleAreaDialog {
             public void widgetSelected(SelectionEvent event) {
 
                 String newAutoGenerationSettingsID = newAutoGenerationSettingsID();
-                Result libApiRes = OpenConfiguratorCore.GetInstance()
+                Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                         .CreateConfiguration(networkID,
                                 newAutoGenerationSettingsID);
                 if (!libApiRes.IsSuccessful()) {
@@ -578,7 +578,7 @@ public final class ModifyAutoGenerationSettingsDialog extends TitleAreaDialog {
             return false;
         }
 
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .RemoveConfiguration(networkID, settingToBeRemoved);
         if (!libApiRes.IsSuccessful()) {
             final String errorMessage = OpenConfiguratorLibraryUtils
@@ -598,7 +598,7 @@ public final class ModifyAutoGenerationSettingsDialog extends TitleAreaDialog {
             // generation setting.
             // Update the active auto-generation setting to 0, then remove it.
             String currentActiveSetting = agList.get(0).getId().trim();
-            libApiRes = OpenConfiguratorCore.GetInstance()
+            libApiRes = OpenConfiguratorCoreProvider.getCore()
                     .SetActiveConfiguration(networkID, currentActiveSetting);
             if (!libApiRes.IsSuccessful()) {
                 final String errorMessage = OpenConfiguratorLibraryUtils
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * @file   NetworkLifecycleManager.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.editors.project;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.swt.widgets.Display;
+import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.util.PersistenceQueue;
+
+/**
+ * Manages the lifecycle of the networks of the open project editors.
+ *
+ * The network of an editor is created in the library on opening and removed on
+ * closing of the editor. If a memory budget is configured with the
+ * {@link #MEMORY_BUDGET_PROPERTY} in megabytes, the networks of the least
+ * recently activated editors are released until the estimated memory usage of
+ * all networks is within the budget. Editors with unsaved changes, a running
+ * import, a running build or property values which are still being committed
+ * in the {@link PersistenceQueue} are not released. The editors to be
+ * released are selected while holding the lock of the manager and released
+ * after the lock is freed. A released network is imported again once its
+ * editor is activated.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class NetworkLifecycleManager {
+
+    /**
+     * System property for the memory budget of the networks in megabytes.
+     * The networks are not released if no budget is configured.
+     */
+    public static final String MEMORY_BUDGET_PROPERTY = "org.epsg.openconfigurator.memoryBudget"; //$NON-NLS-1$
+
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    /**
+     * Open project editors from the least to the most recently activated.
+     */
+    private static final List<IndustrialNetworkProjectEditor> editors = new ArrayList<>();
+
+    /**
+     * Editors which are in use by a build and must not be released.
+     */
+    private static final Set<IndustrialNetworkProjectEditor> acquiredEditors = new HashSet<>();
+
+    /**
+     * Restores the network of the editor, if released, and keeps it in the
+     * memory until {@link #release(IndustrialNetworkProjectEditor)} is
+     * invoked. Used by the builder to build the network of the editor.
+     *
+     * @param editor The project editor.
+     */
+    public static void acquire(final IndustrialNetworkProjectEditor editor) {
+        synchronized (NetworkLifecycleManager.class) {
+            acquiredEditors.add(editor);
+        }
+        Display.getDefault().syncExec(new Runnable() {
+            @Override
+            public void run() {
+                editor.restoreNetwork();
+            }
+        });
+    }
+
+    /**
+     * Marks the editor as the most recently activated one and restores the
+     * released network. Invoked in the UI thread.
+     *
+     * @param editor The activated project editor.
+     */
+    static void editorActivated(IndustrialNetworkProjectEditor editor) {
+        List<IndustrialNetworkProjectEditor> evictedEditors;
+        synchronized (NetworkLifecycleManager.class) {
+            if (!editors.remove(editor)) {
+                return;
+            }
+            editors.add(editor);
+            editor.restoreNetwork();
+            evictedEditors = getEditorsToEvict();
+        }
+        evict(evictedEditors);
+    }
+
+    /**
+     * Removes the closed editor. Invoked in the UI thread.
+     *
+     * @param editor The closed project editor.
+     */
+    static synchronized void editorClosed(
+            IndustrialNetworkProjectEditor editor) {
+        editors.remove(editor);
+        acquiredEditors.remove(editor);
+    }
+
+    /**
+     * Adds the opened editor as the most recently activated one. Invoked in
+     * the UI thread.
+     *
+     * @param editor The opened project editor.
+     */
+    static synchronized void editorOpened(
+            IndustrialNetworkProjectEditor editor) {
+        editors.add(editor);
+    }
+
+    /**
+     * Releases the networks of the editors. Invoked in the UI thread without
+     * holding the lock of the manager.
+     *
+     * @param evictedEditors The editors selected with
+     *            {@link #getEditorsToEvict()}.
+     */
+    private static void evict(
+            List<IndustrialNetworkProjectEditor> evictedEditors) {
+        for (IndustrialNetworkProjectEditor editor : evictedEditors) {
+            long editorMemoryUsage = editor.getEstimatedMemoryUsage();
+            editor.evictNetwork();
+            OpenConfiguratorMessageConsole.getInstance().printInfoMessage(
+                    "Network " + editor.getNetworkId() //$NON-NLS-1$
+                            + " released from memory (" //$NON-NLS-1$
+                            + (editorMemoryUsage / 1024) + " KB).", //$NON-NLS-1$
+                    editor.getNetworkId());
+        }
+    }
+
+    /**
+     * Selects the least recently activated editors to be released until the
+     * estimated memory usage is within the memory budget. Invoked while
+     * holding the lock of the manager.
+     *
+     * @return The editors whose networks are to be released.
+     */
+    private static List<IndustrialNetworkProjectEditor> getEditorsToEvict() {
+        List<IndustrialNetworkProjectEditor> evictedEditors = new ArrayList<>();
+        long memoryBudget = getMemoryBudget();
+        if (memoryBudget <= 0) {
+            return evictedEditors;
+        }
+
+        long memoryUsage = getEstimatedMemoryUsage();
+        // The most recently activated editor is never released.
+        for (int index = 0; (index < (editors.size() - 1))
+                && (memoryUsage > memoryBudget); index++) {
+            IndustrialNetworkProjectEditor editor = editors.get(index);
+            if (editor.isNetworkEvicted() || editor.isDirty()
+                    || acquiredEditors.contains(editor)
+                    || !editor.getPowerlinkRootNode().isImportCompleted()
+                    || PersistenceQueue
+                            .hasPendingTasks(editor.getNetworkId())) {
+                continue;
+            }
+            evictedEditors.add(editor);
+            memoryUsage -= editor.getEstimatedMemoryUsage();
+        }
+        return evictedEditors;
+    }
+
+    /**
+     * @return The estimated memory usage of the networks of all open editors
+     *         in bytes.
+     */
+    public static synchronized long getEstimatedMemoryUsage() {
+        long memoryUsage = 0;
+        for (IndustrialNetworkProjectEditor editor : editors) {
+            memoryUsage += editor.getEstimatedMemoryUsage();
+        }
+        return memoryUsage;
+    }
+
+    /**
+     * @return The memory budget of the networks in bytes or 0 if no budget is
+     *         configured.
+     */
+    public static long getMemoryBudget() {
+        return Long.getLong(MEMORY_BUDGET_PROPERTY, 0).longValue()
+                * BYTES_PER_MEGABYTE;
+    }
+
+    /**
+     * Updates the memory usage estimate of the editor once the import is
+     * completed and enforces the memory budget.
+     *
+     * @param editor The project editor.
+     */
+    static void importCompleted(final IndustrialNetworkProjectEditor editor) {
+        Display.getDefault().asyncExec(new Runnable() {
+            @Override
+            public void run() {
+                List<IndustrialNetworkProjectEditor> evictedEditors;
+                synchronized (NetworkLifecycleManager.class) {
+                    if (!editors.contains(editor)) {
+                        return;
+                    }
+                    editor.updateEstimatedMemoryUsage();
+                    evictedEditors = getEditorsToEvict();
+                }
+                evict(evictedEditors);
+            }
+        });
+    }
+
+    /**
+     * Allows the network of the editor to be released again.
+     *
+     * @param editor The project editor.
+     * @see #acquire(IndustrialNetworkProjectEditor)
+     */
+    public static synchronized void release(
+            IndustrialNetworkProjectEditor editor) {
+        acquiredEditors.remove(editor);
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private NetworkLifecycleManager() {
+    }
+}
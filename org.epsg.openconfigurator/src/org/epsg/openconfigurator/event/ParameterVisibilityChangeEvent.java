@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * @file   ParameterVisibilityChangeEvent.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.event;
+
+import java.util.Collections;
+import java.util.EventObject;
+import java.util.List;
+
+import org.epsg.openconfigurator.model.ParameterGroup;
+
+/**
+ * ParameterVisibilityChangeEvent class notifies change in the visibility of
+ * conditional parameter groups.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class ParameterVisibilityChangeEvent extends EventObject {
+
+    /**
+     * All serializable objects should have a stable serialVersionUID
+     */
+    private static final long serialVersionUID = 4712269347263893154L;
+
+    /**
+     * Parameter groups whose conditions have changed.
+     */
+    private final transient List<ParameterGroup> changedGroups;
+
+    /**
+     * Constructor method to override listeners in the EventObject class.
+     *
+     * @param source The object dictionary in which the change in event has
+     *            occurred.
+     * @param changedGroups The parameter groups whose conditions have changed.
+     */
+    public ParameterVisibilityChangeEvent(Object source,
+            List<ParameterGroup> changedGroups) {
+        super(source);
+        this.changedGroups = Collections.unmodifiableList(changedGroups);
+    }
+
+    /**
+     * @return The parameter groups whose conditions have changed.
+     */
+    public List<ParameterGroup> getChangedGroups() {
+        return changedGroups;
+    }
+}
@@ -40,8 +40,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
 import org.epsg.openconfigurator.xmlbinding.projectfile.FirmwareList;
@@ -381,7 +381,7 @@ public class FirmwareManager {
      */
     public boolean updateFirmwareInProjectFile(FirmwareManager firmwareMngr,
             Object nodeOrModuleObj, Firmware firmwareObj) {
-        Result res = new Result();
+        Result res = OpenConfiguratorCoreProvider.newResult();
         try {
             OpenConfiguratorProjectUtils.addFirmwareList(firmwareMngr,
                     nodeOrModuleObj, firmwareObj);
@@ -393,7 +393,7 @@ public class FirmwareManager {
         }
         if (getNode(nodeOrModuleObj) != null) {
             Node node = getNode(nodeOrModuleObj);
-            res = OpenConfiguratorCore.GetInstance().AddNodeAssignment(
+            res = OpenConfiguratorCoreProvider.getCore().AddNodeAssignment(
                     node.getNetworkId(), node.getCnNodeIdValue(),
                     NodeAssignment.NMT_NODEASSIGN_SWUPDATE);
 
@@ -402,7 +402,7 @@ public class FirmwareManager {
                         .printLibraryErrorMessage(res);
             }
 
-            res = OpenConfiguratorCore.GetInstance().AddNodeAssignment(
+            res = OpenConfiguratorCoreProvider.getCore().AddNodeAssignment(
                     node.getNetworkId(), node.getCnNodeIdValue(),
                     NodeAssignment.NMT_NODEASSIGN_SWVERSIONCHECK);
             if (!res.IsSuccessful()) {
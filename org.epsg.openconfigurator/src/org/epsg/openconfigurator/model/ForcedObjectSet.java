@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * @file   ForcedObjectSet.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Set of the forced objects of a node or a module. The index and the
+ * sub-index of each forced object are packed into an int and kept in a hash
+ * table, so that an object is looked up without scanning the forced objects
+ * of the project model.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+final class ForcedObjectSet {
+
+    /**
+     * Sub-index value of the forced objects without a sub-index.
+     */
+    private static final int NO_SUBINDEX = 0x100;
+
+    /**
+     * Marks an unused slot of the hash table.
+     */
+    private static final int EMPTY_SLOT = -1;
+
+    /**
+     * Builds the set from the forced objects of the project model.
+     *
+     * @param forcedObjects The forced objects or <code>null</code> if no
+     *            object is forced.
+     * @return The set of the forced objects.
+     */
+    static ForcedObjectSet of(
+            List<org.epsg.openconfigurator.xmlbinding.projectfile.Object> forcedObjects) {
+        int size = (forcedObjects != null) ? forcedObjects.size() : 0;
+        ForcedObjectSet forcedObjectSet = new ForcedObjectSet(size);
+        if (forcedObjects != null) {
+            for (org.epsg.openconfigurator.xmlbinding.projectfile.Object forcedObject : forcedObjects) {
+                int index = toInt(forcedObject.getIndex());
+                int subIndex = toInt(forcedObject.getSubindex());
+                add(forcedObjectSet.indices, index);
+                add(forcedObjectSet.objects, pack(index, subIndex));
+            }
+        }
+        return forcedObjectSet;
+    }
+
+    /**
+     * Adds the key into the hash table. The table is created with enough free
+     * slots for all the keys.
+     */
+    private static void add(int[] table, int key) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (table[slot] != EMPTY_SLOT) {
+            if (table[slot] == key) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+    }
+
+    private static boolean contains(int[] table, int key) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (table[slot] != EMPTY_SLOT) {
+            if (table[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Creates a hash table with enough free slots for the given number of
+     * keys.
+     */
+    private static int[] newTable(int expectedSize) {
+        int capacity = 4;
+        while (capacity < (expectedSize * 2)) {
+            capacity <<= 1;
+        }
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY_SLOT);
+        return table;
+    }
+
+    /**
+     * Packs the index and the sub-index of an object into an int.
+     *
+     * @param index The object index.
+     * @param subIndex The sub-index, or a negative value if the object has no
+     *            sub-index.
+     */
+    private static int pack(long index, int subIndex) {
+        return ((int) index << 9) | ((subIndex < 0) ? NO_SUBINDEX : subIndex);
+    }
+
+    /**
+     * @return The unsigned value of the big-endian bytes, or -1 for
+     *         <code>null</code>.
+     */
+    private static int toInt(byte[] value) {
+        if (value == null) {
+            return -1;
+        }
+        int result = 0;
+        for (byte b : value) {
+            result = (result << 8) | (b & 0xFF);
+        }
+        return result;
+    }
+
+    /**
+     * The packed index and sub-index of the forced objects.
+     */
+    private final int[] objects;
+
+    /**
+     * The indices of the forced objects.
+     */
+    private final int[] indices;
+
+    private ForcedObjectSet(int expectedSize) {
+        objects = newTable(expectedSize);
+        indices = newTable(expectedSize);
+    }
+
+    /**
+     * Checks if an object or one of its sub-objects is forced.
+     *
+     * @param index The object index.
+     * @return <code>True</code> if forced, <code>False</code> otherwise.
+     */
+    boolean contains(long index) {
+        return contains(indices, (int) index);
+    }
+
+    /**
+     * Checks if the sub-object is forced.
+     *
+     * @param index The object index.
+     * @param subIndex The sub-object index.
+     * @return <code>True</code> if forced, <code>False</code> otherwise.
+     */
+    boolean contains(long index, int subIndex) {
+        return contains(objects, pack(index, subIndex));
+    }
+
+    /**
+     * Checks if an object or a sub-object is forced.
+     *
+     * @param objectId The object index in arrays of bytes.
+     * @param subObjectId The sub-object index in arrays of bytes, or
+     *            <code>null</code> to check the object and its sub-objects.
+     * @return <code>True</code> if forced, <code>False</code> otherwise.
+     */
+    boolean contains(byte[] objectId, byte[] subObjectId) {
+        if (objectId == null) {
+            return false;
+        }
+        if (subObjectId == null) {
+            return contains(toInt(objectId));
+        }
+        return contains(toInt(objectId), toInt(subObjectId));
+    }
+}
@@ -37,8 +37,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
+import org.epsg.openconfigurator.event.NodePropertyChangeEvent;
+import org.epsg.openconfigurator.lib.wrapper.Result;
+import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
 import org.epsg.openconfigurator.xmlbinding.xdd.ConnectedModuleList;
 import org.epsg.openconfigurator.xmlbinding.xdd.FileList;
@@ -265,6 +273,88 @@ public class HeadNodeInterface {
         return multipleModules;
     }
 
+    /**
+     * Reorders the modules of the interface. The modules take the occupied
+     * positions of the interface in the given order. Only the modules whose
+     * position changes are moved; they are moved in the library with a single
+     * call, and the project file and the XDC of the head node are written
+     * once.
+     *
+     * @param newOrder All modules of the interface in their new order.
+     * @return Result from the library. On failure the modules are not moved
+     *         in the library and the project model is left unchanged.
+     * @throws IOException Errors with XDC file modifications.
+     * @throws JDOMException Errors with time modifications.
+     */
+    public Result reorderModules(List<Module> newOrder)
+            throws JDOMException, IOException {
+        if ((newOrder.size() != moduleCollection.size())
+                || !moduleCollection.values().containsAll(newOrder)) {
+            throw new IllegalArgumentException(
+                    "The new order does not match the modules of the interface.");
+        }
+
+        boolean positionAddressing = String.valueOf(getModuleAddressing())
+                .equalsIgnoreCase("POSITION");
+        List<Integer> positions = new ArrayList<>(
+                new TreeSet<>(moduleCollection.keySet()));
+        List<Module> movedModules = new ArrayList<>();
+        List<Integer> newPositions = new ArrayList<>();
+        List<Integer> newAddresses = new ArrayList<>();
+        for (int i = 0; i < newOrder.size(); i++) {
+            Module module = newOrder.get(i);
+            Integer newPosition = positions.get(i);
+            if (module.getPosition() != newPosition.intValue()) {
+                movedModules.add(module);
+                newPositions.add(newPosition);
+                newAddresses.add(positionAddressing ? newPosition
+                        : Integer.valueOf(module.getAddress()));
+            }
+        }
+        if (movedModules.isEmpty()) {
+            return OpenConfiguratorCoreProvider.newResult();
+        }
+
+        Result res = OpenConfiguratorLibraryUtils.moveModules(this,
+                movedModules, newPositions, newAddresses);
+        if (!res.IsSuccessful()) {
+            return res;
+        }
+
+        // The configuration files are named by the old positions.
+        OpenConfiguratorProjectUtils
+                .updateModuleConfigurationPaths(movedModules, newPositions);
+
+        for (Module module : movedModules) {
+            moduleCollection.remove(module.getPosition());
+            if (addressCollection.get(module.getAddress()) == module) {
+                addressCollection.remove(module.getAddress());
+            }
+        }
+        for (int i = 0; i < movedModules.size(); i++) {
+            Module module = movedModules.get(i);
+            module.setModelPositionAndAddress(newPositions.get(i).intValue(),
+                    newAddresses.get(i).intValue());
+            moduleCollection.put(newPositions.get(i), module);
+            addressCollection.put(newAddresses.get(i), module);
+        }
+
+        OpenConfiguratorProjectUtils.updateModulePositions(node, movedModules);
+        updateConnectedModuleList();
+
+        try {
+            node.getProject().refreshLocal(IResource.DEPTH_INFINITE,
+                    new NullProgressMonitor());
+        } catch (CoreException e) {
+            System.err.println("unable to refresh the resource due to "
+                    + e.getCause().getMessage());
+        }
+
+        node.getPowerlinkRootNode()
+                .fireNodePropertyChanged(new NodePropertyChangeEvent(node));
+        return res;
+    }
+
     /**
      * Sets the connected module to java model from XDD instance.
      *
@@ -53,6 +53,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.event.NodePropertyChangeEvent;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
@@ -177,6 +178,11 @@ public class Module {
 
     private Map<FirmwareManager, Integer> moduleFirmwareCollection = new HashMap<>();
 
+    /**
+     * Forced objects of the module, built on demand from the project model.
+     */
+    private volatile ForcedObjectSet forcedObjectSet;
+
     /**
      * Constructor that defines null values.
      */
@@ -592,6 +598,8 @@ public class Module {
                 }
             }
         }
+
+        forcedObjectSet = null;
     }
 
     /**
@@ -1195,130 +1203,74 @@ public class Module {
         return enabled;
     }
 
-    public boolean isObjectIdForced(long newObjectIndex) {
-        ForcedObjects forcedObjTag = null;
-        if (moduleModel instanceof InterfaceList.Interface.Module) {
-            InterfaceList.Interface.Module net = (InterfaceList.Interface.Module) moduleModel;
-            forcedObjTag = net.getForcedObjects();
-        }
-
-        if (forcedObjTag == null) {
-            return false;
-        }
-
-        boolean alreadyForced = false;
-        for (org.epsg.openconfigurator.xmlbinding.projectfile.Object tempForceObj : forcedObjTag
-                .getObject()) {
-            String objectIndex = Long.toHexString(newObjectIndex);
-            byte[] objectId = DatatypeConverter
-                    .parseHexBinary(objectIndex.toUpperCase());
-
-            if (java.util.Arrays.equals(tempForceObj.getIndex(), objectId)) {
-                alreadyForced = true;
+    /**
+     * @return The forced objects of the module.
+     */
+    private ForcedObjectSet getForcedObjectSet() {
+        ForcedObjectSet forcedObjects = forcedObjectSet;
+        if (forcedObjects == null) {
+            ForcedObjects forcedObjTag = null;
+            if (moduleModel instanceof InterfaceList.Interface.Module) {
+                InterfaceList.Interface.Module net = (InterfaceList.Interface.Module) moduleModel;
+                forcedObjTag = net.getForcedObjects();
             }
+
+            forcedObjects = ForcedObjectSet.of((forcedObjTag != null)
+                    ? forcedObjTag.getObject() : null);
+            forcedObjectSet = forcedObjects;
         }
+        return forcedObjects;
+    }
 
-        return alreadyForced;
+    public boolean isObjectIdForced(long newObjectIndex) {
+        return getForcedObjectSet().contains(newObjectIndex);
     }
 
     public boolean isObjectIdForced(long moduleObjectIndex,
             int moduleSubobjectindex) {
-        ForcedObjects forcedObjTag = null;
-        if (moduleModel instanceof InterfaceList.Interface.Module) {
-            InterfaceList.Interface.Module net = (InterfaceList.Interface.Module) moduleModel;
-            forcedObjTag = net.getForcedObjects();
-        }
-
-        if (forcedObjTag == null) {
-            return false;
-        }
-
-        boolean alreadyForced = false;
-        for (org.epsg.openconfigurator.xmlbinding.projectfile.Object tempForceObj : forcedObjTag
-                .getObject()) {
-            String objectIndex = Long.toHexString(moduleObjectIndex);
-            byte[] objectId = DatatypeConverter.parseHexBinary(objectIndex);
-            String subobjectindex = Integer.toHexString(moduleSubobjectindex);
-            if (moduleSubobjectindex < 16) {
-                subobjectindex = "0" + subobjectindex;
-            }
-            byte[] subObjectId = DatatypeConverter
-                    .parseHexBinary(subobjectindex.toUpperCase());
-            if (java.util.Arrays.equals(tempForceObj.getIndex(), objectId)) {
-                if (subObjectId == null) {
-                    alreadyForced = true;
-                } else if (java.util.Arrays.equals(tempForceObj.getSubindex(),
-                        subObjectId)) {
-                    alreadyForced = true;
-                }
-            }
-        }
-
-        return alreadyForced;
+        return getForcedObjectSet().contains(moduleObjectIndex,
+                moduleSubobjectindex);
     }
 
     /**
-     * Moves the module based on given position.
+     * Moves the module based on given position. The modules in between are
+     * shifted by one slot, the modules at adjacent positions are swapped. The
+     * caller validates the module types of the new order, see
+     * {@link #validateMoveModuleUpPosition(int, int)} and
+     * {@link #validateMoveModuleDownPosition(int, int)}.
      *
      * @param newPosition position to be moved
      * @param oldPosition current position of module.
+     * @return Result from the library.
+     * @throws IOException Errors with XDC file modifications.
+     * @throws JDOMException Errors with time modifications.
      */
-    public void moveModule(int newPosition, int oldPosition) {
-
-        Set<Integer> positionSet = getInterfaceOfModule().getModuleCollection()
-                .keySet();
+    public Result moveModule(int newPosition, int oldPosition)
+            throws JDOMException, IOException {
+        if (newPosition == oldPosition) {
+            return OpenConfiguratorCoreProvider.newResult();
+        }
 
-        if (newPosition > oldPosition) {
-            List<Integer> positiontoBeMoved = new ArrayList<>();
-            for (Integer position : positionSet) {
-                if (position >= oldPosition) {
-                    if (position <= newPosition) {
-                        positiontoBeMoved.add(position);
-                    }
-                }
-            }
-            for (Integer positionMove : positiontoBeMoved) {
-                if (getPreviousModulePosition(positionMove) != 0) {
-                    int newPositionToBeMoved = getPreviousModulePosition(
-                            positionMove);
-                    System.err.println("The new  previous position.."
-                            + newPositionToBeMoved);
-                    try {
-                        setPosition(String.valueOf(newPositionToBeMoved));
-                    } catch (JDOMException | IOException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    }
-                }
-            }
+        HeadNodeInterface headNodeInterface = getInterfaceOfModule();
+        Set<Integer> positionSet = new TreeSet<>(
+                headNodeInterface.getModuleCollection().keySet());
 
-        } else if (newPosition < oldPosition) {
-            List<Integer> positiontoBeMoved = new ArrayList<>();
-            for (Integer position : positionSet) {
-                if (position <= oldPosition) {
-                    if (position >= newPosition) {
-                        positiontoBeMoved.add(position);
-                    }
-                }
+        // The module takes the slot of the module at the new position.
+        int newIndex = 0;
+        List<Module> newOrder = new ArrayList<>();
+        for (Integer position : positionSet) {
+            if (position.intValue() < newPosition) {
+                newIndex++;
             }
-
-            for (Integer positionMove : positiontoBeMoved) {
-                if (getNextModulePosition(positionMove) != 0) {
-                    int newPositionToBeMoved = getNextModulePosition(
-                            positionMove);
-                    System.err.println(
-                            "The new  next position.." + newPositionToBeMoved);
-                    try {
-                        setPosition(String.valueOf(newPositionToBeMoved));
-                    } catch (JDOMException | IOException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    }
-                }
+            if (position.intValue() != oldPosition) {
+                newOrder.add(
+                        headNodeInterface.getModuleCollection().get(position));
             }
-
         }
+        newIndex = Math.max(0, Math.min(newIndex, newOrder.size()));
+        newOrder.add(newIndex, this);
 
+        return headNodeInterface.reorderModules(newOrder);
     }
 
     /**
@@ -1405,6 +1357,23 @@ public class Module {
         configurationError = errorDescription;
     }
 
+    /**
+     * Updates the position and the address of the module model. The project
+     * file, the library and the module collections are updated by the caller.
+     *
+     * @param position The new position.
+     * @param address The new address.
+     */
+    void setModelPositionAndAddress(int position, int address) {
+        if (moduleModel instanceof InterfaceList.Interface.Module) {
+            InterfaceList.Interface.Module module = (InterfaceList.Interface.Module) moduleModel;
+            module.setPosition(BigInteger.valueOf(position));
+            module.setAddress(BigInteger.valueOf(address));
+        } else {
+            System.err.println("Invalid module model.");
+        }
+    }
+
     /**
      * Updates the enabled and disabled state of module.
      *
@@ -1663,138 +1632,6 @@ public class Module {
 
     }
 
-    /**
-     * Swap the modules based on the given position for addressing scheme manual
-     *
-     * @param oldPosition Current position to be moved
-     * @param position New position to be updated
-     * @throws IOException Errors with XDC file modifications.
-     * @throws JDOMException Errors with time modifications.
-     */
-    public void swapManualPosition(int oldPosition, int position)
-            throws IOException, JDOMException {
-        Result res = OpenConfiguratorLibraryUtils.moveModule(this, oldPosition,
-                position);
-        if (!res.IsSuccessful()) {
-            OpenConfiguratorMessageConsole.getInstance()
-                    .printLibraryErrorMessage(res);
-        }
-
-        OpenConfiguratorProjectUtils.swapModuleAttributeValue(this,
-                IAbstractNodeProperties.MODULE_POSITION_OBJECT,
-                String.valueOf(position));
-        OpenConfiguratorProjectUtils.updateModuleConfigurationPath(this,
-                position);
-        OpenConfiguratorProjectUtils.swapModuleAttributeValue(this,
-                IAbstractNodeProperties.NODE_CONIFG_OBJECT,
-                getModulePathToXdc());
-
-        Module newModule = getInterfaceOfModule().getModuleCollection()
-                .get(position);
-
-        OpenConfiguratorProjectUtils.swapModuleAttributeValue(newModule,
-                IAbstractNodeProperties.MODULE_POSITION_OBJECT,
-                String.valueOf(oldPosition));
-        OpenConfiguratorProjectUtils.updateModuleConfigurationPath(newModule,
-                oldPosition);
-        OpenConfiguratorProjectUtils.swapModuleAttributeValue(newModule,
-                IAbstractNodeProperties.NODE_CONIFG_OBJECT,
-                newModule.getModulePathToXdc());
-
-        Object moduleObjModel = getModelOfModule();
-        if (moduleObjModel instanceof InterfaceList.Interface.Module) {
-            InterfaceList.Interface.Module moduleModelObj = (InterfaceList.Interface.Module) moduleObjModel;
-            moduleModelObj.setPosition(BigInteger.valueOf(position));
-            getInterfaceOfModule().getModuleCollection().put(position, this);
-        }
-
-        try {
-            getProject().refreshLocal(IResource.DEPTH_INFINITE,
-                    new NullProgressMonitor());
-        } catch (CoreException e) {
-            System.err.println("unable to refresh the resource due to "
-                    + e.getCause().getMessage());
-        }
-
-        Object newmoduleObjModel = newModule.getModelOfModule();
-        if (newmoduleObjModel instanceof InterfaceList.Interface.Module) {
-            InterfaceList.Interface.Module newmoduleModelObj = (InterfaceList.Interface.Module) newmoduleObjModel;
-            newmoduleModelObj.setPosition(BigInteger.valueOf(oldPosition));
-            getInterfaceOfModule().getModuleCollection().put(oldPosition,
-                    newModule);
-        }
-    }
-
-    /**
-     * Swap the modules based on the given position for addressing scheme
-     * position.
-     *
-     * @param oldPosition Current position to be moved
-     * @param position New position to be updated
-     * @throws IOException Errors with XDC file modifications.
-     * @throws JDOMException Errors with time modifications.
-     */
-    public void swapPosition(int oldPosition, int position)
-            throws JDOMException, IOException {
-
-        Result res = OpenConfiguratorLibraryUtils.moveModule(this, oldPosition,
-                position);
-        if (!res.IsSuccessful()) {
-            OpenConfiguratorMessageConsole.getInstance()
-                    .printLibraryErrorMessage(res);
-        }
-
-        OpenConfiguratorProjectUtils.swapModuleAttributeValue(this,
-                IAbstractNodeProperties.MODULE_POSITION_OBJECT,
-                String.valueOf(position));
-        setAddresss(String.valueOf(position));
-        OpenConfiguratorProjectUtils.updateModuleConfigurationPath(this,
-                position);
-        OpenConfiguratorProjectUtils.swapModuleAttributeValue(this,
-                IAbstractNodeProperties.NODE_CONIFG_OBJECT,
-                getModulePathToXdc());
-
-        Module newModule = getInterfaceOfModule().getModuleCollection()
-                .get(position);
-
-        OpenConfiguratorProjectUtils.swapModuleAttributeValue(newModule,
-                IAbstractNodeProperties.MODULE_POSITION_OBJECT,
-                String.valueOf(oldPosition));
-
-        newModule.setAddresss(String.valueOf(oldPosition));
-        OpenConfiguratorProjectUtils.updateModuleConfigurationPath(newModule,
-                oldPosition);
-        OpenConfiguratorProjectUtils.swapModuleAttributeValue(newModule,
-                IAbstractNodeProperties.NODE_CONIFG_OBJECT,
-                newModule.getModulePathToXdc());
-
-        Object moduleObjModel = getModelOfModule();
-        if (moduleObjModel instanceof InterfaceList.Interface.Module) {
-            InterfaceList.Interface.Module moduleModelObj = (InterfaceList.Interface.Module) moduleObjModel;
-            moduleModelObj.setPosition(BigInteger.valueOf(position));
-
-            getInterfaceOfModule().getModuleCollection().put(position, this);
-        }
-
-        Object newmoduleObjModel = newModule.getModelOfModule();
-        if (newmoduleObjModel instanceof InterfaceList.Interface.Module) {
-            InterfaceList.Interface.Module newmoduleModelObj = (InterfaceList.Interface.Module) newmoduleObjModel;
-            newmoduleModelObj.setPosition(BigInteger.valueOf(oldPosition));
-
-            getInterfaceOfModule().getModuleCollection().put(oldPosition,
-                    newModule);
-        }
-
-        try {
-            newModule.getProject().refreshLocal(IResource.DEPTH_INFINITE,
-                    new NullProgressMonitor());
-        } catch (CoreException e) {
-            System.err.println("unable to refresh the resource due to "
-                    + e.getCause().getMessage());
-        }
-
-    }
-
     public PowerlinkObject updateModuleObjectsFromLibrary(byte[] forcedObject) {
 
         for (PowerlinkObject obj : getObjectDictionary().getObjectsList()) {
@@ -58,12 +58,15 @@ import org.epsg.openconfigurator.adapters.AbstractObjectPropertySource;
 import org.epsg.openconfigurator.adapters.ObjectPropertySource;
 import org.epsg.openconfigurator.adapters.SubObjectPropertySource;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.CoreFuture;
+import org.epsg.openconfigurator.core.ICoreCallback;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.event.NodePropertyChangeEvent;
 import org.epsg.openconfigurator.lib.wrapper.ErrorCode;
 import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.resources.IPluginImages;
+import org.epsg.openconfigurator.util.DisplayExecutor;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
 import org.epsg.openconfigurator.util.PluginErrorDialogUtils;
@@ -89,6 +92,7 @@ import org.epsg.openconfigurator.xmlbinding.xdd.TCNFeatures;
 import org.epsg.openconfigurator.xmlbinding.xdd.TGeneralFeatures;
 import org.epsg.openconfigurator.xmlbinding.xdd.TInterfaceList;
 import org.epsg.openconfigurator.xmlbinding.xdd.TVersion;
+import org.epsg.openconfigurator.xmloperation.HeadNodeXdcMerge;
 import org.epsg.openconfigurator.xmloperation.XddJdomOperation;
 import org.jdom2.JDOMException;
 
@@ -305,8 +309,18 @@ public class Node {
      */
     private HeadNodeInterface headNodeInterface;
 
+    /**
+     * Merged XDC of the modular head node from the last export.
+     */
+    private final HeadNodeXdcMerge xdcMerge = new HeadNodeXdcMerge();
+
     private Map<FirmwareManager, Integer> nodeFirmwareCollection = new HashMap<>();
 
+    /**
+     * Forced objects of the node, built on demand from the project model.
+     */
+    private volatile ForcedObjectSet forcedObjectSet;
+
     /**
      * Constructor to initialize the node variables.
      */
@@ -536,7 +550,7 @@ public class Node {
 
     public void addStationTypeofNode(int stationTypeChanged)
             throws JDOMException, IOException {
-        Result res = new Result();
+        Result res = OpenConfiguratorCoreProvider.newResult();
         Object nodeObject = getNodeModel();
         if (nodeObject instanceof TCN) {
             TCN tcn = (TCN) nodeObject;
@@ -557,16 +571,16 @@ public class Node {
             PlkOperationMode plkMode = null;
             int val = ((Integer) stationTypeChanged).intValue();
             if (val == 0) { // Normal Station.
-                res = OpenConfiguratorCore.GetInstance()
+                res = OpenConfiguratorCoreProvider.getCore()
                         .ResetOperationMode(getNetworkId(), getCnNodeIdValue());
                 plkMode = PlkOperationMode.NORMAL;
             } else if (val == 1) {
-                res = OpenConfiguratorCore.GetInstance()
+                res = OpenConfiguratorCoreProvider.getCore()
                         .SetOperationModeChained(getNetworkId(),
                                 getCnNodeIdValue());
                 plkMode = PlkOperationMode.CHAINED;
             } else if (val == 2) {
-                res = OpenConfiguratorCore.GetInstance()
+                res = OpenConfiguratorCoreProvider.getCore()
                         .SetOperationModeMultiplexed(getNetworkId(),
                                 getCnNodeIdValue(),
                                 (short) tcn.getForcedMultiplexedCycle());
@@ -601,27 +615,56 @@ public class Node {
 
     }
 
-    public void copyNode(int nodeId, int stationType, String name) {
-        copyXdcFile(this, nodeId, stationType, name);
-    }
-
-    private void copyXdcFile(Node selectednode, int nodeId, int stationType,
-            String name) {
-
+    /**
+     * Copies the node without parsing the configuration file again. The new
+     * node shares the XDD model of this node and takes the actual values of
+     * this node, the library copies the node and its modules in memory. The
+     * configuration file is written from the model in the background, the
+     * file of a modular head node is copied since the objects of its modules
+     * are not available in the model.
+     */
+    private void cloneNode(int nodeId, final int stationType, String name) {
         TCN cnModel = new TCN();
         cnModel.setName(name);
         cnModel.setNodeID(String.valueOf(nodeId));
 
-        Node newNode = new Node(rootNode, projectXml, cnModel, xddModel);
-        try {
-            OpenConfiguratorProjectUtils.copyConfigurationFile(selectednode,
-                    nodeId, newNode);
+        final Node newNode = new Node(rootNode, projectXml, cnModel, xddModel);
+        newNode.getObjectDictionary().copyActualValues(getObjectDictionary());
 
-        } catch (IOException e1) {
+        Result res = OpenConfiguratorLibraryUtils.copyNode(this, newNode);
+        if (!res.IsSuccessful()) {
+            PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR, res);
 
+            // Remove the node.
+            res = OpenConfiguratorLibraryUtils.removeNode(newNode);
+            if (!res.IsSuccessful()) {
+                if (res.GetErrorType() != ErrorCode.NODE_DOES_NOT_EXIST) {
+                    System.err.println("ERROR occured while removin the node. "
+                            + OpenConfiguratorLibraryUtils
+                                    .getErrorMessage(res));
+                }
+            }
+            return;
+        }
+
+        boolean modularHead = getProfileBody(
+                xddModel) instanceof ProfileBodyDevicePowerlinkModularHead;
+        CoreFuture<Void> xdcCopy;
+        try {
+            if (modularHead) {
+                xdcCopy = OpenConfiguratorProjectUtils
+                        .copyConfigurationFileInBackground(this, nodeId,
+                                newNode);
+            } else {
+                xdcCopy = OpenConfiguratorProjectUtils
+                        .writeConfigurationFileInBackground(this, nodeId,
+                                newNode);
+            }
+        } catch (IOException e) {
             PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
-                    e1.getCause().getMessage(), getProject().getName());
-            e1.printStackTrace();
+                    ERROR_WHILE_COPYING_XDD, getProject().getName());
+            OpenConfiguratorLibraryUtils.removeNode(newNode);
+            return;
         }
 
         TNodeCollection nodeCollection = null;
@@ -631,109 +674,62 @@ public class Node {
             nodeCollection = netConfig.getNodeCollection();
         }
 
-        if (getProfileBody(
-                xddModel) instanceof ProfileBodyDevicePowerlinkModularHead) {
-            Result res = OpenConfiguratorLibraryUtils
-                    .addModularHeadNode(newNode);
-            if (res.IsSuccessful()) {
-                try {
-                    rootNode.addNode(nodeCollection, newNode);
-
-                } catch (IOException | JDOMException e) {
-                    if ((e.getMessage() != null) && !e.getMessage().isEmpty()) {
-                        PluginErrorDialogUtils.showMessageWindow(
-                                MessageDialog.ERROR, e.getMessage(), "");
-                    } else if ((e.getCause() != null)
-                            && (e.getCause().getMessage() != null)
-                            && !e.getCause().getMessage().isEmpty()) {
-                        PluginErrorDialogUtils.showMessageWindow(
-                                MessageDialog.ERROR, ERROR_WHILE_COPYING_XDD,
-                                newNode.getProject().getName());
-                    }
-                }
-                if (!selectednode.getInterface().getModuleCollection()
-                        .isEmpty()) {
-                    for (Module module : selectednode.getInterface()
-                            .getModuleCollection().values()) {
-                        updateModuleNode(module, newNode);
-                    }
-
-                }
-
-            } else {
+        try {
+            rootNode.addNode(nodeCollection, newNode);
+        } catch (IOException | JDOMException e) {
+            if ((e.getMessage() != null) && !e.getMessage().isEmpty()) {
                 PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
-                        res);
-
-                // Remove the node.
-                res = OpenConfiguratorLibraryUtils.removeNode(newNode);
-                if (!res.IsSuccessful()) {
-                    if (res.GetErrorType() != ErrorCode.NODE_DOES_NOT_EXIST) {
-                        // Show or print error message.
-                        System.err.println(
-                                "ERROR occured while removin the node. "
-                                        + OpenConfiguratorLibraryUtils
-                                                .getErrorMessage(res));
-                    }
-                }
-            }
-
-        } else {
-            Result res = OpenConfiguratorLibraryUtils.addNode(newNode);
-            if (res.IsSuccessful()) {
-
-                try {
-                    rootNode.addNode(nodeCollection, newNode);
-
-                } catch (IOException | JDOMException e) {
-                    if ((e.getMessage() != null) && !e.getMessage().isEmpty()) {
-                        PluginErrorDialogUtils.showMessageWindow(
-                                MessageDialog.ERROR, e.getMessage(), "");
-                    } else if ((e.getCause() != null)
-                            && (e.getCause().getMessage() != null)
-                            && !e.getCause().getMessage().isEmpty()) {
-                        PluginErrorDialogUtils.showMessageWindow(
-                                MessageDialog.ERROR, ERROR_WHILE_COPYING_XDD,
-                                newNode.getProject().getName());
-                    }
-                }
+                        e.getMessage(), "");
             } else {
                 PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
-                        res);
-
-                // Remove the node.
-                res = OpenConfiguratorLibraryUtils.removeNode(newNode);
-                if (!res.IsSuccessful()) {
-                    if (res.GetErrorType() != ErrorCode.NODE_DOES_NOT_EXIST) {
-                        // Show or print error message.
-                        System.err.println(
-                                "ERROR occured while removin the node. "
-                                        + OpenConfiguratorLibraryUtils
-                                                .getErrorMessage(res));
-                    }
-                }
+                        ERROR_WHILE_COPYING_XDD, getProject().getName());
             }
         }
 
-        try {
-
-            newNode.addStationTypeofNode(stationType);
-
-        } catch (JDOMException | IOException e) {
-            e.printStackTrace();
+        if (modularHead) {
+            for (Module module : getInterface().getModuleCollection()
+                    .values()) {
+                updateModuleNode(module, newNode);
+            }
         }
 
         if (addNodeFirmwareFile(newNode)) {
             System.out.println("Firmware File added.");
         }
 
-        try {
-            getProject().refreshLocal(IResource.DEPTH_INFINITE,
-                    new NullProgressMonitor());
-        } catch (CoreException e) {
-            System.err.println("unable to refresh the resource due to "
-                    + e.getCause().getMessage());
-        }
+        xdcCopy.addCallback(new ICoreCallback<Void>() {
+            @Override
+            public void completed(Void result) {
+                // The new node is a normal station, the other station types
+                // update the node assignment and the XDC of the new node.
+                if (stationType != 0) {
+                    try {
+                        newNode.addStationTypeofNode(stationType);
+                    } catch (JDOMException | IOException e) {
+                        e.printStackTrace();
+                    }
+                }
+
+                try {
+                    getProject().refreshLocal(IResource.DEPTH_INFINITE,
+                            new NullProgressMonitor());
+                } catch (CoreException e) {
+                    System.err.println("unable to refresh the resource due to "
+                            + e.getCause().getMessage());
+                }
+            }
+
+            @Override
+            public void failed(Throwable cause) {
+                OpenConfiguratorMessageConsole.getInstance().printErrorMessage(
+                        ERROR_WHILE_COPYING_XDD + " " + cause.getMessage(),
+                        getNetworkId());
+            }
+        }, DisplayExecutor.getInstance());
+    }
 
+    public void copyNode(int nodeId, int stationType, String name) {
+        cloneNode(nodeId, stationType, name);
     }
 
     public void createActions(final Object adaptableObject,
@@ -992,6 +988,8 @@ public class Node {
                 }
             }
         }
+
+        forcedObjectSet = null;
     }
 
     /**
@@ -1739,6 +1737,13 @@ public class Node {
         return waitNotActiveValue;
     }
 
+    /**
+     * @return Merged XDC of the modular head node.
+     */
+    public HeadNodeXdcMerge getXdcMerge() {
+        return xdcMerge;
+    }
+
     /**
      * @return Instance of FirmwareFile.
      */
@@ -1829,40 +1834,29 @@ public class Node {
      *         otherwise.
      */
     public boolean isObjectIdForced(byte[] objectId, byte[] subObjectId) {
-
-        ForcedObjects forcedObjTag = null;
-        if (nodeModel instanceof TNetworkConfiguration) {
-            TNetworkConfiguration net = (TNetworkConfiguration) nodeModel;
-            TMN mn = net.getNodeCollection().getMN();
-            forcedObjTag = mn.getForcedObjects();
-        } else if (nodeModel instanceof TCN) {
-            TCN cn = (TCN) nodeModel;
-            forcedObjTag = cn.getForcedObjects();
-        } else if (nodeModel instanceof TRMN) {
-            TRMN rmn = (TRMN) nodeModel;
-            forcedObjTag = rmn.getForcedObjects();
-        } else {
-            System.err.println("Invalid node model" + nodeModel);
-        }
-
-        if (forcedObjTag == null) {
-            return false;
-        }
-
-        boolean alreadyForced = false;
-        for (org.epsg.openconfigurator.xmlbinding.projectfile.Object tempForceObj : forcedObjTag
-                .getObject()) {
-            if (java.util.Arrays.equals(tempForceObj.getIndex(), objectId)) {
-                if (subObjectId == null) {
-                    alreadyForced = true;
-                } else if (java.util.Arrays.equals(tempForceObj.getSubindex(),
-                        subObjectId)) {
-                    alreadyForced = true;
-                }
+        ForcedObjectSet forcedObjects = forcedObjectSet;
+        if (forcedObjects == null) {
+            ForcedObjects forcedObjTag = null;
+            if (nodeModel instanceof TNetworkConfiguration) {
+                TNetworkConfiguration net = (TNetworkConfiguration) nodeModel;
+                TMN mn = net.getNodeCollection().getMN();
+                forcedObjTag = mn.getForcedObjects();
+            } else if (nodeModel instanceof TCN) {
+                TCN cn = (TCN) nodeModel;
+                forcedObjTag = cn.getForcedObjects();
+            } else if (nodeModel instanceof TRMN) {
+                TRMN rmn = (TRMN) nodeModel;
+                forcedObjTag = rmn.getForcedObjects();
+            } else {
+                System.err.println("Invalid node model" + nodeModel);
             }
+
+            forcedObjects = ForcedObjectSet.of((forcedObjTag != null)
+                    ? forcedObjTag.getObject() : null);
+            forcedObjectSet = forcedObjects;
         }
 
-        return alreadyForced;
+        return forcedObjects.contains(objectId, subObjectId);
     }
 
     /**
@@ -1965,16 +1959,7 @@ public class Node {
                 IAbstractNodeProperties.NODE_ID_OBJECT,
                 String.valueOf(newNodeId));
 
-        // Update the new node id.
-        if (nodeModel instanceof TCN) {
-            TCN cn = (TCN) nodeModel;
-            cn.setNodeID(String.valueOf(newNodeId));
-        } else if (nodeModel instanceof TRMN) {
-            TRMN rmn = (TRMN) nodeModel;
-            rmn.setNodeID(String.valueOf(newNodeId));
-        }
-
-        nodeId = newNodeId;
+        updateNodeId(newNodeId);
     }
 
     /**
@@ -2489,6 +2474,13 @@ public class Node {
 
     }
 
+    /**
+     * Adds the copy of the selected module to the new node. The library has
+     * copied the module along with the node.
+     *
+     * @param selectedModule The module to be copied.
+     * @param newNode The copy of the node of the module.
+     */
     private void updateModuleNode(Module selectedModule, Node newNode) {
         Object moduleObject = selectedModule.getModelOfModule();
         if (moduleObject instanceof InterfaceList.Interface.Module) {
@@ -2535,40 +2527,23 @@ public class Node {
             e1.printStackTrace();
         }
 
-        Result res = OpenConfiguratorLibraryUtils.addModule(newModule);
-        if (res.IsSuccessful()) {
-            selectedNodeObj.getModuleCollection()
-                    .put(Integer.valueOf(newModule.getPosition()), newModule);
+        newModule.getObjectDictionary()
+                .copyActualValues(selectedModule.getObjectDictionary());
 
-            selectedNodeObj.getAddressCollection()
-                    .put(Integer.valueOf(newModule.getAddress()), newModule);
+        selectedNodeObj.getModuleCollection()
+                .put(Integer.valueOf(newModule.getPosition()), newModule);
 
-            selectedNodeObj.getModuleNameCollection()
-                    .put(newModule.getModuleName(), newModule);
+        selectedNodeObj.getAddressCollection()
+                .put(Integer.valueOf(newModule.getAddress()), newModule);
 
-            try {
-                OpenConfiguratorProjectUtils.addModuleNode(
-                        selectedNodeObj.getNode(), selectedNodeObj, newModule);
-            } catch (JDOMException | IOException e) {
-                e.printStackTrace();
-            }
-
-        } else {
-            System.err.println("ERROR occured while adding the module. "
-                    + OpenConfiguratorLibraryUtils.getErrorMessage(res));
-            PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR, res);
+        selectedNodeObj.getModuleNameCollection()
+                .put(newModule.getModuleName(), newModule);
 
-            // Remove the module.
-            res = OpenConfiguratorLibraryUtils.removeModule(newModule);
-            if (!res.IsSuccessful()) {
-                if (res.GetErrorType() != ErrorCode.NODE_DOES_NOT_EXIST) {
-                    // Show or print error message.
-                    System.err
-                            .println("ERROR occured while removin the module. "
-                                    + OpenConfiguratorLibraryUtils
-                                            .getErrorMessage(res));
-                }
-            }
+        try {
+            OpenConfiguratorProjectUtils.addModuleNode(
+                    selectedNodeObj.getNode(), selectedNodeObj, newModule);
+        } catch (JDOMException | IOException e) {
+            e.printStackTrace();
         }
 
         if (newModule.canFirmwareAdded(newModule)) {
@@ -2588,6 +2563,24 @@ public class Node {
 
     }
 
+    /**
+     * Sets the new node ID in the node model. The project file and the
+     * configuration file are not updated.
+     *
+     * @param newNodeId The new node ID.
+     */
+    void updateNodeId(short newNodeId) {
+        if (nodeModel instanceof TCN) {
+            TCN cn = (TCN) nodeModel;
+            cn.setNodeID(String.valueOf(newNodeId));
+        } else if (nodeModel instanceof TRMN) {
+            TRMN rmn = (TRMN) nodeModel;
+            rmn.setNodeID(String.valueOf(newNodeId));
+        }
+
+        nodeId = newNodeId;
+    }
+
     /**
      * Updates the actual value of objects in XDD file.
      *
@@ -33,8 +33,11 @@ package org.epsg.openconfigurator.model;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -115,6 +118,17 @@ public class ObjectDictionary {
      */
     private LinkedHashMap<String, ParameterGroup> parameterGroupMap = new LinkedHashMap<>();
 
+    /**
+     * Parameter references with the parameter reference model.
+     */
+    private final Map<TParameterGroup.ParameterRef, ParameterReference> parameterReferenceMap = new HashMap<>();
+
+    /**
+     * Conditional visibility of the parameter groups.
+     */
+    private final ParameterGroupVisibility parameterGroupVisibility = new ParameterGroupVisibility(
+            this);
+
     /**
      * Instance of Module.
      */
@@ -122,6 +136,77 @@ public class ObjectDictionary {
 
     private boolean isModule = false;
 
+    /**
+     * XDD/XDC model of the object dictionary.
+     */
+    private ISO15745ProfileContainer xddModel;
+
+    /**
+     * XDD models of the objects in the order of the XDD/XDC file. The wrapper
+     * of an object is created on the first access of the object.
+     */
+    private final List<Object> objectModelList = new ArrayList<>();
+
+    /**
+     * Position of the XDD model in the object model list with the object ID.
+     */
+    private final Map<Long, Integer> objectModelIndex = new HashMap<>();
+
+    /**
+     * Wrappers of the objects created so far at the position of their XDD
+     * model in the object model list.
+     */
+    private PowerlinkObject[] objects = new PowerlinkObject[0];
+
+    /**
+     * Number of sub-objects in the XDD models of the objects.
+     */
+    private int subObjectCount = 0;
+
+    private boolean isObjectsListCreated = false;
+
+    private boolean isPdoListCreated = false;
+
+    private boolean isParameterListCreated = false;
+
+    private boolean isParameterGroupListCreated = false;
+
+    /**
+     * Returns the application processes of the given device profile.
+     *
+     * @param profileBody The profile body of the XDD/XDC model.
+     * @return The application processes, or an empty list for the other
+     *         profiles.
+     */
+    private static List<TApplicationProcess> getApplicationProcessList(
+            ProfileBodyDataType profileBody) {
+        if (profileBody instanceof ProfileBodyDevicePowerlink) {
+            return ((ProfileBodyDevicePowerlink) profileBody)
+                    .getApplicationProcess();
+        } else if (profileBody instanceof ProfileBodyDevicePowerlinkModularChild) {
+            return ((ProfileBodyDevicePowerlinkModularChild) profileBody)
+                    .getApplicationProcess();
+        } else if (profileBody instanceof ProfileBodyDevicePowerlinkModularHead) {
+            return ((ProfileBodyDevicePowerlinkModularHead) profileBody)
+                    .getApplicationProcess();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return The ID of the object from the index of the XDD model, or 0 if
+     *         the index is not available.
+     */
+    private static long getObjectId(byte[] index) {
+        long objectId = 0;
+        if (index != null) {
+            for (byte value : index) {
+                objectId = (objectId << 8) | (value & 0xFF);
+            }
+        }
+        return objectId;
+    }
+
     public ObjectDictionary(Module module, Node node,
             ISO15745ProfileContainer xddModelArg) {
         this.node = node;
@@ -140,6 +225,224 @@ public class ObjectDictionary {
         setXddModel(xddModelArg);
     }
 
+    /**
+     * Adds the parameter reference of the given model.
+     */
+    void addParameterReference(
+            TParameterGroup.ParameterRef parameterReferenceModel,
+            ParameterReference parameterReference) {
+        parameterReferenceMap.put(parameterReferenceModel, parameterReference);
+    }
+
+    /**
+     * Adds the XDD model of an object to the index of the objects.
+     */
+    private void addObjectModel(Object objectModel, long objectId,
+            int subObjectModelCount) {
+        // The first object of the XDD/XDC file is used for duplicate IDs.
+        if (!objectModelIndex.containsKey(objectId)) {
+            objectModelIndex.put(objectId, objectModelList.size());
+        }
+        objectModelList.add(objectModel);
+        subObjectCount += subObjectModelCount;
+    }
+
+    /**
+     * Takes the actual values of the objects, the parameters and the parameter
+     * references of the object dictionary of another node which is built from
+     * the same XDD/XDC model.
+     *
+     * Note: This does not update the XML file.
+     *
+     * @param source The object dictionary to copy the actual values from.
+     */
+    public void copyActualValues(final ObjectDictionary source) {
+        // Objects, parameters and parameter references without a wrapper in
+        // the source still have the actual value of the XDD/XDC model.
+        for (PowerlinkObject sourceObject : source.getCreatedObjects()) {
+            PowerlinkObject object = getObject(sourceObject.getId());
+            if (object == null) {
+                continue;
+            }
+            object.copyActualValue(sourceObject);
+            for (PowerlinkSubobject subObject : object.getSubObjects()) {
+                PowerlinkSubobject sourceSubObject = sourceObject
+                        .getSubObject(subObject.getId());
+                if (sourceSubObject != null) {
+                    subObject.copyActualValue(sourceSubObject);
+                }
+            }
+        }
+
+        if (source.isParameterListCreated) {
+            for (Parameter sourceParameter : source.getParameterList()) {
+                Parameter parameter = getParameter(
+                        sourceParameter.getUniqueId());
+                if (parameter != null) {
+                    parameter.copyActualValue(sourceParameter);
+                }
+            }
+        }
+
+        if (source.isParameterGroupListCreated) {
+            createParameterGroups();
+            for (Map.Entry<TParameterGroup.ParameterRef, ParameterReference> entry : parameterReferenceMap
+                    .entrySet()) {
+                ParameterReference sourceReference = source.parameterReferenceMap
+                        .get(entry.getKey());
+                if (sourceReference != null) {
+                    entry.getValue().copyActualValue(sourceReference);
+                }
+            }
+        }
+
+        parameterGroupVisibility.reset();
+    }
+
+    /**
+     * Creates the wrapper of the object at the given position of the object
+     * model list, if it is not yet available.
+     */
+    private synchronized PowerlinkObject createObject(int position) {
+        PowerlinkObject object = objects[position];
+        if (object == null) {
+            Object objectModel = objectModelList.get(position);
+            if (objectModel instanceof TObject) {
+                object = new PowerlinkObject(node, (TObject) objectModel);
+            } else if (objectModel instanceof TObjectExtensionHead) {
+                object = new PowerlinkObject(node,
+                        (TObjectExtensionHead) objectModel);
+            } else {
+                object = new PowerlinkObject(module, node,
+                        (TObjectExtension) objectModel);
+            }
+            objects[position] = object;
+        }
+        return object;
+    }
+
+    /**
+     * Creates the parameter groups and the parameter references of the
+     * XDD/XDC model, if they are not yet available.
+     */
+    private synchronized void createParameterGroups() {
+        if (isParameterGroupListCreated) {
+            return;
+        }
+        isParameterGroupListCreated = true;
+        createParameters();
+        if (xddModel == null) {
+            return;
+        }
+
+        for (ISO15745Profile profile : xddModel.getISO15745Profile()) {
+            for (TApplicationProcess appProcess : getApplicationProcessList(
+                    profile.getProfileBody())) {
+                TParameterGroupList paramGroupList = appProcess
+                        .getParameterGroupList();
+                if (paramGroupList != null) {
+                    List<TParameterGroup> paramGroup = paramGroupList
+                            .getParameterGroup();
+                    for (TParameterGroup grp : paramGroup) {
+                        ParameterGroup pg = new ParameterGroup(node, this,
+                                grp);
+                        parameterGroupMap.put(pg.getParamGroupUniqueId(), pg);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the parameters of the XDD/XDC model, if they are not yet
+     * available.
+     */
+    private synchronized void createParameters() {
+        if (isParameterListCreated) {
+            return;
+        }
+        isParameterListCreated = true;
+        if (xddModel == null) {
+            return;
+        }
+
+        for (ISO15745Profile profile : xddModel.getISO15745Profile()) {
+            for (TApplicationProcess appProcess : getApplicationProcessList(
+                    profile.getProfileBody())) {
+                TParameterList paramList = appProcess.getParameterList();
+                if (paramList != null) {
+                    List<TParameterList.Parameter> parameterModelList = paramList
+                            .getParameter();
+                    for (TParameterList.Parameter param : parameterModelList) {
+                        Parameter p = new Parameter(node, param);
+                        parameterListMap.put(p.getParameterUniqueId(), p);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the PDO mappable objects and the PDO channels lists, if they are
+     * not yet available.
+     */
+    private synchronized void createPdoLists() {
+        if (isPdoListCreated) {
+            return;
+        }
+        isPdoListCreated = true;
+
+        List<PowerlinkObject> commParamObjList = new ArrayList<>();
+        List<PowerlinkObject> mapParamObjList = new ArrayList<>();
+
+        List<PowerlinkObject> objList = getObjectsList();
+        for (int position = 0; position < objList.size(); position++) {
+            PowerlinkObject plkObj = objList.get(position);
+
+            // Objects of the modules are not part of the PDO channels.
+            if (!(objectModelList.get(position) instanceof TObjectExtension)) {
+                if (plkObj.getIdHex().startsWith("0x14")
+                        || plkObj.getIdHex().startsWith("0x18")) {
+                    commParamObjList.add(plkObj);
+                } else if (plkObj.getIdHex().startsWith("0x16")
+                        || plkObj.getIdHex().startsWith("0x1A")) {
+                    mapParamObjList.add(plkObj);
+                }
+            }
+
+            if (plkObj.hasRpdoMappableSubObjects()
+                    || plkObj.isRpdoMappable()) {
+                rpdoMappableObjectList.add(plkObj);
+            }
+
+            if (plkObj.hasTpdoMappableSubObjects()
+                    || plkObj.isTpdoMappable()) {
+                tpdoMappableObjectList.add(plkObj);
+            }
+        }
+
+        for (int cnt = 0; cnt < commParamObjList.size(); cnt++) {
+            try {
+                PowerlinkObject commParam = commParamObjList.get(cnt);
+                PowerlinkObject mapParam = mapParamObjList.get(cnt);
+
+                char mapParamId = mapParam.getIdHex().charAt(3);
+
+                if (mapParamId == '6') {
+                    rpdoChannelsList
+                            .add(new RpdoChannel(node, commParam, mapParam));
+                } else if ((mapParamId == 'A') || (mapParamId == 'a')) {
+                    tpdoChannelsList
+                            .add(new TpdoChannel(node, commParam, mapParam));
+                } else {
+                    System.err.println("Invalid PDO detected!");
+                }
+            } catch (IndexOutOfBoundsException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
     /**
      * Get the actual value for the given object id.
      *
@@ -175,6 +478,19 @@ public class ObjectDictionary {
         return subObject.getActualValue();
     }
 
+    /**
+     * @return The wrappers of the objects created so far.
+     */
+    private synchronized List<PowerlinkObject> getCreatedObjects() {
+        List<PowerlinkObject> createdObjects = new ArrayList<>();
+        for (PowerlinkObject object : objects) {
+            if (object != null) {
+                createdObjects.add(object);
+            }
+        }
+        return createdObjects;
+    }
+
     /**
      * @return Instance of module.
      */
@@ -211,19 +527,53 @@ public class ObjectDictionary {
      * @param objectId The ID of the object in long data type.
      * @return Object from the object ID.
      */
-    public PowerlinkObject getObject(final long objectId) {
-        for (PowerlinkObject obj : getObjectsList()) {
-            if (obj.getId() == objectId) {
-                return obj;
-            }
+    public synchronized PowerlinkObject getObject(final long objectId) {
+        Integer position = objectModelIndex.get(objectId);
+        if (position == null) {
+            return null;
         }
-        return null;
+        return createObject(position);
+    }
+
+    /**
+     * Returns the number of objects without creating the wrappers of the
+     * objects.
+     *
+     * @return Number of objects available in the node.
+     */
+    public synchronized int getObjectCount() {
+        return objectModelList.size();
+    }
+
+    /**
+     * Returns the entry of the object at the given position in the order of
+     * the XDD/XDC file. The entry is taken from the wrapper of the object if it
+     * is already created, otherwise from the XDD/XDC model without creating
+     * the wrapper.
+     *
+     * @param position Position of the object, from 0 to
+     *            {@link #getObjectCount()} - 1.
+     * @return The entry of the object.
+     */
+    public synchronized ObjectDictionaryEntry getObjectEntry(int position) {
+        PowerlinkObject object = objects[position];
+        return new ObjectDictionaryEntry(this,
+                (object != null) ? object : objectModelList.get(position));
     }
 
     /**
+     * Returns the list of objects. Creates the wrappers of all the objects
+     * that are not yet accessed.
+     *
      * @return List of objects available in the node.
      */
-    public List<PowerlinkObject> getObjectsList() {
+    public synchronized List<PowerlinkObject> getObjectsList() {
+        if (!isObjectsListCreated) {
+            for (int position = 0; position < objects.length; position++) {
+                objectsList.add(createObject(position));
+            }
+            isObjectsListCreated = true;
+        }
         return objectsList;
     }
 
@@ -233,27 +583,63 @@ public class ObjectDictionary {
      * @param uniqueId The unique ID given to each parameter.
      * @return Parameter based on given unique ID.
      */
-    public Parameter getParameter(String uniqueId) {
+    public synchronized Parameter getParameter(String uniqueId) {
+        createParameters();
         return parameterListMap.get(uniqueId);
     }
 
     /**
      * @return Parameter group available in the given XDD file.
      */
-    public List<ParameterGroup> getParameterGroupList() {
+    public synchronized List<ParameterGroup> getParameterGroupList() {
+        createParameterGroups();
         List<ParameterGroup> valueList = new ArrayList<>(
                 parameterGroupMap.values());
         return valueList;
     }
 
+    /**
+     * @return Conditional visibility of the parameter groups.
+     */
+    public ParameterGroupVisibility getParameterGroupVisibility() {
+        return parameterGroupVisibility;
+    }
+
     /**
      * @return List of parameters available in the given XDD file.
      */
-    public List<Parameter> getParameterList() {
+    public synchronized List<Parameter> getParameterList() {
+        createParameters();
         List<Parameter> valueList = new ArrayList<>(parameterListMap.values());
         return valueList;
     }
 
+    /**
+     * Returns the actual value of the parameter reference of this object
+     * dictionary. The XDD model of a module can be shared by the modules of
+     * the same device description, so the value is taken from the parameter
+     * reference instead of the model.
+     *
+     * @param parameterReferenceModel Parameter reference XDD model instance.
+     * @return Actual value of the parameter reference.
+     */
+    public synchronized String getParameterReferenceActualValue(
+            TParameterGroup.ParameterRef parameterReferenceModel) {
+        ParameterReference parameterReference = parameterReferenceMap
+                .get(parameterReferenceModel);
+        if (parameterReference != null) {
+            return parameterReference.getReferenceActualValue();
+        }
+        return parameterReferenceModel.getActualValue();
+    }
+
+    /**
+     * @return List of parameter references created for the parameter groups.
+     */
+    public synchronized List<ParameterReference> getParameterReferenceList() {
+        return new ArrayList<>(parameterReferenceMap.values());
+    }
+
     /**
      * @return List of parameters or parameter group.
      */
@@ -285,6 +671,7 @@ public class ObjectDictionary {
      * @return List of RPDOChannels available in the node.
      */
     public List<RpdoChannel> getRpdoChannelsList() {
+        createPdoLists();
         return rpdoChannelsList;
     }
 
@@ -292,6 +679,7 @@ public class ObjectDictionary {
      * @return List of RPDOMappableObjects available in the node.
      */
     public List<PowerlinkObject> getRpdoMappableObjectList() {
+        createPdoLists();
         return rpdoMappableObjectList;
     }
 
@@ -332,6 +720,7 @@ public class ObjectDictionary {
      * @return List of TPDOchannels from the available node.
      */
     public List<TpdoChannel> getTpdoChannelsList() {
+        createPdoLists();
         return tpdoChannelsList;
     }
 
@@ -339,9 +728,20 @@ public class ObjectDictionary {
      * @return List of TPDOmappable objects available in the node.
      */
     public List<PowerlinkObject> getTpdoMappableObjectList() {
+        createPdoLists();
         return tpdoMappableObjectList;
     }
 
+    /**
+     * Returns the number of sub-objects without creating the wrappers of the
+     * objects.
+     *
+     * @return Number of sub-objects available in the node.
+     */
+    public synchronized int getSubObjectCount() {
+        return subObjectCount;
+    }
+
     /**
      * Returns actual or default value of object from the given object ID.
      *
@@ -426,190 +826,62 @@ public class ObjectDictionary {
     }
 
     /**
-     * Sets XDD/XDC model from the available inputs.
+     * Sets XDD/XDC model from the available inputs. Only the index of the
+     * objects is built; the wrappers of the objects, the parameters and the
+     * parameter groups are created on their first access.
      *
      * @param xddModel The instance of XDD/XDC file.
      */
-    public void setXddModel(ISO15745ProfileContainer xddModel) {
+    public synchronized void setXddModel(ISO15745ProfileContainer xddModel) {
+        this.xddModel = xddModel;
 
         parameterListMap.clear();
         parameterGroupMap.clear();
+        parameterReferenceMap.clear();
+        parameterGroupVisibility.reset();
+        isParameterListCreated = false;
+        isParameterGroupListCreated = false;
 
         objectsList.clear();
         rpdoMappableObjectList.clear();
         tpdoMappableObjectList.clear();
         rpdoChannelsList.clear();
         tpdoChannelsList.clear();
+        isObjectsListCreated = false;
+        isPdoListCreated = false;
 
-        if (xddModel != null) {
-
-            List<PowerlinkObject> commParamObjList = new ArrayList<>();
-            List<PowerlinkObject> mapParamObjList = new ArrayList<>();
+        objectModelList.clear();
+        objectModelIndex.clear();
+        subObjectCount = 0;
 
+        if (xddModel != null) {
             List<ISO15745Profile> profiles = xddModel.getISO15745Profile();
             for (ISO15745Profile profile : profiles) {
                 ProfileBodyDataType profileBodyDatatype = profile
                         .getProfileBody();
-                if (profileBodyDatatype instanceof ProfileBodyDevicePowerlink) {
-                    ProfileBodyDevicePowerlink devProfile = (ProfileBodyDevicePowerlink) profileBodyDatatype;
-                    List<TApplicationProcess> appProcessList = devProfile
-                            .getApplicationProcess();
-                    for (TApplicationProcess appProcess : appProcessList) {
-                        // Parameter List
-                        TParameterList paramList = appProcess
-                                .getParameterList();
-                        if (paramList != null) {
-                            List<TParameterList.Parameter> parameterModelList = paramList
-                                    .getParameter();
-                            for (TParameterList.Parameter param : parameterModelList) {
-                                Parameter p = new Parameter(node, param);
-                                parameterListMap.put(p.getParameterUniqueId(),
-                                        p);
-                            }
-                        }
-
-                        // Parameter Groups List
-                        TParameterGroupList paramGroupList = appProcess
-                                .getParameterGroupList();
-                        if (paramGroupList != null) {
-                            List<TParameterGroup> paramGroup = paramGroupList
-                                    .getParameterGroup();
-                            for (TParameterGroup grp : paramGroup) {
-                                ParameterGroup pg = new ParameterGroup(node,
-                                        this, grp);
-
-                                parameterGroupMap
-                                        .put(pg.getParamGroupUniqueId(), pg);
-                            }
-                        }
-                    }
-                }
-
-                if (profileBodyDatatype instanceof ProfileBodyDevicePowerlinkModularChild) {
-                    ProfileBodyDevicePowerlinkModularChild modularDevProfile = (ProfileBodyDevicePowerlinkModularChild) profileBodyDatatype;
-                    List<TApplicationProcess> appProcessList = modularDevProfile
-                            .getApplicationProcess();
-                    for (TApplicationProcess appProcess : appProcessList) {
-                        isModule = true;
-                        // Parameter List
-                        TParameterList paramList = appProcess
-                                .getParameterList();
-                        if (paramList != null) {
-                            List<TParameterList.Parameter> parameterModelList = paramList
-                                    .getParameter();
-                            for (TParameterList.Parameter param : parameterModelList) {
-                                Parameter p = new Parameter(node, param);
-                                parameterListMap.put(p.getParameterUniqueId(),
-                                        p);
-                            }
-                        }
-
-                        // Parameter Groups List
-                        TParameterGroupList paramGroupList = appProcess
-                                .getParameterGroupList();
-                        if (paramGroupList != null) {
-                            List<TParameterGroup> paramGroup = paramGroupList
-                                    .getParameterGroup();
-                            for (TParameterGroup grp : paramGroup) {
-                                ParameterGroup pg = new ParameterGroup(node,
-                                        this, grp);
-                                parameterGroupMap
-                                        .put(pg.getParamGroupUniqueId(), pg);
-                            }
-                        }
-                    }
-
-                }
-
-                if (profileBodyDatatype instanceof ProfileBodyDevicePowerlinkModularHead) {
-                    ProfileBodyDevicePowerlinkModularHead modularDevProfile = (ProfileBodyDevicePowerlinkModularHead) profileBodyDatatype;
-                    List<TApplicationProcess> appProcessList = modularDevProfile
-                            .getApplicationProcess();
-                    for (TApplicationProcess appProcess : appProcessList) {
-                        // Parameter List
-                        TParameterList paramList = appProcess
-                                .getParameterList();
-                        if (paramList != null) {
-                            List<TParameterList.Parameter> parameterModelList = paramList
-                                    .getParameter();
-                            for (TParameterList.Parameter param : parameterModelList) {
-                                Parameter p = new Parameter(node, param);
-                                parameterListMap.put(p.getParameterUniqueId(),
-                                        p);
-                            }
-                        }
-
-                        // Parameter Groups List
-                        TParameterGroupList paramGroupList = appProcess
-                                .getParameterGroupList();
-                        if (paramGroupList != null) {
-                            List<TParameterGroup> paramGroup = paramGroupList
-                                    .getParameterGroup();
-                            for (TParameterGroup grp : paramGroup) {
-                                ParameterGroup pg = new ParameterGroup(node,
-                                        this, grp);
-                                parameterGroupMap
-                                        .put(pg.getParamGroupUniqueId(), pg);
-                            }
-                        }
-                    }
+                if ((profileBodyDatatype instanceof ProfileBodyDevicePowerlinkModularChild)
+                        && !getApplicationProcessList(profileBodyDatatype)
+                                .isEmpty()) {
+                    isModule = true;
                 }
 
                 if (profileBodyDatatype instanceof ProfileBodyCommunicationNetworkPowerlink) {
                     ProfileBodyCommunicationNetworkPowerlink commProfile = (ProfileBodyCommunicationNetworkPowerlink) profileBodyDatatype;
                     TApplicationLayers.ObjectList tempObjectLists = commProfile
                             .getApplicationLayers().getObjectList();
-                    List<TObject> objList = tempObjectLists.getObject();
-                    for (TObject obj : objList) {
-                        PowerlinkObject plkObj = new PowerlinkObject(node, obj);
-                        objectsList.add(plkObj);
-
-                        if (plkObj.getIdHex().startsWith("0x14")
-                                || plkObj.getIdHex().startsWith("0x18")) {
-                            commParamObjList.add(plkObj);
-                        } else if (plkObj.getIdHex().startsWith("0x16")
-                                || plkObj.getIdHex().startsWith("0x1A")) {
-                            mapParamObjList.add(plkObj);
-                        }
-
-                        if (plkObj.hasRpdoMappableSubObjects()
-                                || plkObj.isRpdoMappable()) {
-                            rpdoMappableObjectList.add(plkObj);
-                        }
-
-                        if (plkObj.hasTpdoMappableSubObjects()
-                                || plkObj.isTpdoMappable()) {
-                            tpdoMappableObjectList.add(plkObj);
-                        }
+                    for (TObject obj : tempObjectLists.getObject()) {
+                        addObjectModel(obj, getObjectId(obj.getIndex()),
+                                obj.getSubObject().size());
                     }
                 }
                 if (profileBodyDatatype instanceof ProfileBodyCommunicationNetworkPowerlinkModularHead) {
                     ProfileBodyCommunicationNetworkPowerlinkModularHead modularCommProfile = (ProfileBodyCommunicationNetworkPowerlinkModularHead) profileBodyDatatype;
                     TApplicationLayersModularHead.ObjectList tempObjectLists = modularCommProfile
                             .getApplicationLayers().getObjectList();
-                    List<TObjectExtensionHead> objList = tempObjectLists
-                            .getObject();
-                    for (TObjectExtensionHead obj : objList) {
-                        PowerlinkObject plkObj = new PowerlinkObject(node, obj);
-                        objectsList.add(plkObj);
-
-                        if (plkObj.getIdHex().startsWith("0x14")
-                                || plkObj.getIdHex().startsWith("0x18")) {
-                            commParamObjList.add(plkObj);
-                        } else if (plkObj.getIdHex().startsWith("0x16")
-                                || plkObj.getIdHex().startsWith("0x1A")) {
-                            mapParamObjList.add(plkObj);
-                        }
-
-                        if (plkObj.hasRpdoMappableSubObjects()
-                                || plkObj.isRpdoMappable()) {
-                            rpdoMappableObjectList.add(plkObj);
-                        }
-
-                        if (plkObj.hasTpdoMappableSubObjects()
-                                || plkObj.isTpdoMappable()) {
-                            tpdoMappableObjectList.add(plkObj);
-                        }
+                    for (TObjectExtensionHead obj : tempObjectLists
+                            .getObject()) {
+                        addObjectModel(obj, getObjectId(obj.getIndex()),
+                                obj.getSubObject().size());
                     }
                 }
 
@@ -617,49 +889,14 @@ public class ObjectDictionary {
                     ProfileBodyCommunicationNetworkPowerlinkModularChild modularCommProfile = (ProfileBodyCommunicationNetworkPowerlinkModularChild) profileBodyDatatype;
                     TApplicationLayersExtension.ObjectList tempObjectLists = modularCommProfile
                             .getApplicationLayers().getObjectList();
-                    List<TObjectExtension> objList = tempObjectLists
-                            .getObject();
-                    for (TObjectExtension obj : objList) {
-                        PowerlinkObject plkObj = new PowerlinkObject(module,
-                                node, obj);
-                        objectsList.add(plkObj);
-                        System.out.println(
-                                "Objects list of module...." + objectsList);
-                        if (plkObj.hasRpdoMappableSubObjects()
-                                || plkObj.isRpdoMappable()) {
-                            rpdoMappableObjectList.add(plkObj);
-                        }
-
-                        if (plkObj.hasTpdoMappableSubObjects()
-                                || plkObj.isTpdoMappable()) {
-                            tpdoMappableObjectList.add(plkObj);
-                        }
-
-                    }
-                }
-
-            }
-
-            for (int cnt = 0; cnt < commParamObjList.size(); cnt++) {
-                try {
-                    PowerlinkObject commParam = commParamObjList.get(cnt);
-                    PowerlinkObject mapParam = mapParamObjList.get(cnt);
-
-                    char mapParamId = mapParam.getIdHex().charAt(3);
-
-                    if (mapParamId == '6') {
-                        rpdoChannelsList.add(
-                                new RpdoChannel(node, commParam, mapParam));
-                    } else if ((mapParamId == 'A') || (mapParamId == 'a')) {
-                        tpdoChannelsList.add(
-                                new TpdoChannel(node, commParam, mapParam));
-                    } else {
-                        System.err.println("Invalid PDO detected!");
+                    for (TObjectExtension obj : tempObjectLists.getObject()) {
+                        addObjectModel(obj, getObjectId(obj.getIndex()),
+                                obj.getSubObject().size());
                     }
-                } catch (IndexOutOfBoundsException e) {
-                    e.printStackTrace();
                 }
             }
         }
+
+        objects = new PowerlinkObject[objectModelList.size()];
     }
 }
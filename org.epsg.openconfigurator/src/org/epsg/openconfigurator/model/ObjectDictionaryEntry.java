@@ -0,0 +1,398 @@
+/*******************************************************************************
+ * @file   ObjectDictionaryEntry.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.epsg.openconfigurator.xmlbinding.xdd.TObject;
+import org.epsg.openconfigurator.xmlbinding.xdd.TObjectAccessType;
+import org.epsg.openconfigurator.xmlbinding.xdd.TObjectExtension;
+import org.epsg.openconfigurator.xmlbinding.xdd.TObjectExtensionHead;
+import org.epsg.openconfigurator.xmlbinding.xdd.TObjectPDOMapping;
+
+/**
+ * Read-only view of an object or a sub-object of the object dictionary.
+ *
+ * The view takes the attributes from the wrapper of the object if it is
+ * already created, otherwise from the XDD/XDC model, so that the object
+ * dictionary can be imported into the library without creating the wrappers
+ * of all the objects. The wrapper is only created to report an error of the
+ * object, see {@link #setError(String)}.
+ *
+ * @see ObjectDictionary#getObjectEntry(int)
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class ObjectDictionaryEntry {
+
+    /**
+     * Sub-object ID of the entries of the objects.
+     */
+    public static final short NO_SUB_OBJECT = -1;
+
+    private static long getId(byte[] index) {
+        long id = 0;
+        if (index != null) {
+            for (byte value : index) {
+                id = (id << 8) | (value & 0xFF);
+            }
+        }
+        return id;
+    }
+
+    private static String toEmpty(String value) {
+        return (value == null) ? StringUtils.EMPTY : value;
+    }
+
+    private final ObjectDictionary objectDictionary;
+
+    /**
+     * The wrapper or the XDD/XDC model of the object or the sub-object.
+     */
+    private final Object model;
+
+    private final long objectId;
+
+    private final short subObjectId;
+
+    private final short objectType;
+
+    private final String name;
+
+    private final byte[] dataType;
+
+    private final TObjectAccessType accessType;
+
+    private final TObjectPDOMapping pdoMapping;
+
+    private final Object uniqueIDRef;
+
+    private final String defaultValue;
+
+    private final String actualValue;
+
+    private final String lowLimit;
+
+    private final String highLimit;
+
+    /**
+     * Creates the entry of the given wrapper or XDD/XDC model of an object.
+     *
+     * @param objectDictionary The object dictionary of the object.
+     * @param objectModel The wrapper or the XDD/XDC model of the object.
+     */
+    ObjectDictionaryEntry(ObjectDictionary objectDictionary,
+            Object objectModel) {
+        this.objectDictionary = objectDictionary;
+        model = objectModel;
+        subObjectId = NO_SUB_OBJECT;
+        if (objectModel instanceof PowerlinkObject) {
+            PowerlinkObject object = (PowerlinkObject) objectModel;
+            objectId = object.getId();
+            objectType = object.getObjectType();
+            name = object.getName();
+            dataType = object.getDataType();
+            accessType = object.getAccessType();
+            pdoMapping = object.getPdoMappingObject();
+            uniqueIDRef = object.getUniqueIDRef();
+            defaultValue = object.getDefaultValue();
+            actualValue = object.getActualValue();
+            lowLimit = object.getLowLimit();
+            highLimit = object.getHighLimit();
+        } else if (objectModel instanceof TObject) {
+            TObject object = (TObject) objectModel;
+            objectId = getId(object.getIndex());
+            objectType = object.getObjectType();
+            name = toEmpty(object.getName());
+            dataType = object.getDataType();
+            accessType = object.getAccessType();
+            pdoMapping = object.getPDOmapping();
+            uniqueIDRef = object.getUniqueIDRef();
+            defaultValue = toEmpty(object.getDefaultValue());
+            actualValue = toEmpty(object.getActualValue());
+            lowLimit = toEmpty(object.getLowLimit());
+            highLimit = toEmpty(object.getHighLimit());
+        } else if (objectModel instanceof TObjectExtensionHead) {
+            TObjectExtensionHead object = (TObjectExtensionHead) objectModel;
+            objectId = getId(object.getIndex());
+            objectType = object.getObjectType();
+            name = toEmpty(object.getName());
+            dataType = object.getDataType();
+            accessType = object.getAccessType();
+            pdoMapping = object.getPDOmapping();
+            uniqueIDRef = object.getUniqueIDRef();
+            defaultValue = toEmpty(object.getDefaultValue());
+            actualValue = toEmpty(object.getActualValue());
+            lowLimit = toEmpty(object.getLowLimit());
+            highLimit = toEmpty(object.getHighLimit());
+        } else {
+            TObjectExtension object = (TObjectExtension) objectModel;
+            objectId = getId(object.getIndex());
+            objectType = object.getObjectType();
+            name = toEmpty(object.getName());
+            dataType = object.getDataType();
+            accessType = object.getAccessType();
+            pdoMapping = object.getPDOmapping();
+            uniqueIDRef = object.getUniqueIDRef();
+            defaultValue = toEmpty(object.getDefaultValue());
+            actualValue = toEmpty(object.getActualValue());
+            lowLimit = toEmpty(object.getLowLimit());
+            highLimit = toEmpty(object.getHighLimit());
+        }
+    }
+
+    /**
+     * Creates the entry of the given wrapper or XDD/XDC model of a
+     * sub-object.
+     */
+    private ObjectDictionaryEntry(ObjectDictionary objectDictionary,
+            long objectId, Object subObjectModel) {
+        this.objectDictionary = objectDictionary;
+        model = subObjectModel;
+        this.objectId = objectId;
+        if (subObjectModel instanceof PowerlinkSubobject) {
+            PowerlinkSubobject subObject = (PowerlinkSubobject) subObjectModel;
+            subObjectId = subObject.getId();
+            objectType = subObject.getObjectType();
+            name = subObject.getName();
+            dataType = subObject.getDataType();
+            accessType = subObject.getAccessType();
+            pdoMapping = subObject.getPdoMappingObject();
+            uniqueIDRef = subObject.getUniqueIDRef();
+            defaultValue = subObject.getDefaultValue();
+            actualValue = subObject.getActualValue();
+            lowLimit = subObject.getLowLimit();
+            highLimit = subObject.getHighLimit();
+        } else if (subObjectModel instanceof TObject.SubObject) {
+            TObject.SubObject subObject = (TObject.SubObject) subObjectModel;
+            subObjectId = (short) getId(subObject.getSubIndex());
+            objectType = subObject.getObjectType();
+            name = toEmpty(subObject.getName());
+            dataType = subObject.getDataType();
+            accessType = subObject.getAccessType();
+            pdoMapping = subObject.getPDOmapping();
+            uniqueIDRef = subObject.getUniqueIDRef();
+            defaultValue = toEmpty(subObject.getDefaultValue());
+            actualValue = toEmpty(subObject.getActualValue());
+            lowLimit = toEmpty(subObject.getLowLimit());
+            highLimit = toEmpty(subObject.getHighLimit());
+        } else if (subObjectModel instanceof TObjectExtensionHead.SubObject) {
+            TObjectExtensionHead.SubObject subObject = (TObjectExtensionHead.SubObject) subObjectModel;
+            subObjectId = (short) getId(subObject.getSubIndex());
+            objectType = subObject.getObjectType();
+            name = toEmpty(subObject.getName());
+            dataType = subObject.getDataType();
+            accessType = subObject.getAccessType();
+            pdoMapping = subObject.getPDOmapping();
+            uniqueIDRef = subObject.getUniqueIDRef();
+            defaultValue = toEmpty(subObject.getDefaultValue());
+            actualValue = toEmpty(subObject.getActualValue());
+            lowLimit = toEmpty(subObject.getLowLimit());
+            highLimit = toEmpty(subObject.getHighLimit());
+        } else {
+            TObjectExtension.SubObject subObject = (TObjectExtension.SubObject) subObjectModel;
+            subObjectId = (short) getId(subObject.getSubIndex());
+            objectType = subObject.getObjectType();
+            name = toEmpty(subObject.getName());
+            dataType = subObject.getDataType();
+            accessType = subObject.getAccessType();
+            pdoMapping = subObject.getPDOmapping();
+            uniqueIDRef = subObject.getUniqueIDRef();
+            defaultValue = toEmpty(subObject.getDefaultValue());
+            actualValue = toEmpty(subObject.getActualValue());
+            lowLimit = toEmpty(subObject.getLowLimit());
+            highLimit = toEmpty(subObject.getHighLimit());
+        }
+    }
+
+    /**
+     * @return Access type of the object or the sub-object.
+     */
+    public TObjectAccessType getAccessType() {
+        return accessType;
+    }
+
+    /**
+     * @return Actual value of the object or the sub-object.
+     */
+    public String getActualValue() {
+        return actualValue;
+    }
+
+    /**
+     * @return Data type of the object or the sub-object.
+     */
+    public byte[] getDataType() {
+        return dataType;
+    }
+
+    /**
+     * @return Default value of the object or the sub-object.
+     */
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @return Upper limit of the object or the sub-object.
+     */
+    public String getHighLimit() {
+        return highLimit;
+    }
+
+    /**
+     * @return The object ID in hexadecimal format.
+     */
+    public String getIdHex() {
+        return String.format("0x%04X", objectId); //$NON-NLS-1$
+    }
+
+    /**
+     * @return Lower limit of the object or the sub-object.
+     */
+    public String getLowLimit() {
+        return lowLimit;
+    }
+
+    /**
+     * @return Name of the object or the sub-object.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Name and ID of the object or the sub-object.
+     */
+    public String getNameWithId() {
+        if (subObjectId == NO_SUB_OBJECT) {
+            return (name + " (" + getIdHex() + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return (name + " (" //$NON-NLS-1$
+                + String.format("0x%02X", subObjectId) + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * @return ID of the object, also for the entries of the sub-objects.
+     */
+    public long getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * @return Type of the object or the sub-object.
+     */
+    public short getObjectType() {
+        return objectType;
+    }
+
+    /**
+     * @return PDO mapping of the object or the sub-object.
+     */
+    public TObjectPDOMapping getPdoMappingObject() {
+        return pdoMapping;
+    }
+
+    /**
+     * @return ID of the sub-object, {@link #NO_SUB_OBJECT} for the entries of
+     *         the objects.
+     */
+    public short getSubObjectId() {
+        return subObjectId;
+    }
+
+    /**
+     * Returns the entries of the sub-objects of the object. The wrappers of
+     * the sub-objects are not created.
+     *
+     * @return The entries of the sub-objects, an empty list for the entries
+     *         of the sub-objects.
+     */
+    public List<ObjectDictionaryEntry> getSubObjects() {
+        List<ObjectDictionaryEntry> subObjects = new ArrayList<>();
+        if (model instanceof PowerlinkObject) {
+            for (PowerlinkSubobject subObject : ((PowerlinkObject) model)
+                    .getSubObjects()) {
+                subObjects.add(new ObjectDictionaryEntry(objectDictionary,
+                        objectId, subObject));
+            }
+        } else if (model instanceof TObject) {
+            for (TObject.SubObject subObject : ((TObject) model)
+                    .getSubObject()) {
+                subObjects.add(new ObjectDictionaryEntry(objectDictionary,
+                        objectId, subObject));
+            }
+        } else if (model instanceof TObjectExtensionHead) {
+            for (TObjectExtensionHead.SubObject subObject : ((TObjectExtensionHead) model)
+                    .getSubObject()) {
+                subObjects.add(new ObjectDictionaryEntry(objectDictionary,
+                        objectId, subObject));
+            }
+        } else if (model instanceof TObjectExtension) {
+            for (TObjectExtension.SubObject subObject : ((TObjectExtension) model)
+                    .getSubObject()) {
+                subObjects.add(new ObjectDictionaryEntry(objectDictionary,
+                        objectId, subObject));
+            }
+        }
+        return subObjects;
+    }
+
+    /**
+     * @return The unique ID reference of the object or the sub-object.
+     */
+    public Object getUniqueIDRef() {
+        return uniqueIDRef;
+    }
+
+    /**
+     * Sets the configuration error to the wrapper of the object or the
+     * sub-object. The wrapper is created if it is not yet available.
+     *
+     * @param errorMessage The error message.
+     */
+    public void setError(final String errorMessage) {
+        IPowerlinkBaseObject object;
+        if (subObjectId == NO_SUB_OBJECT) {
+            object = objectDictionary.getObject(objectId);
+        } else {
+            object = objectDictionary.getSubObject(objectId, subObjectId);
+        }
+        if (object != null) {
+            object.setError(errorMessage);
+        }
+    }
+}
@@ -32,12 +32,9 @@
 package org.epsg.openconfigurator.model;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import org.apache.commons.lang3.StringUtils;
 import org.epsg.openconfigurator.xmlbinding.xdd.TParameterList;
-import org.epsg.openconfigurator.xmlbinding.xdd.TParameterTemplate;
 import org.epsg.openconfigurator.xmlbinding.xdd.TProperty;
 import org.jdom2.JDOMException;
 
@@ -151,39 +148,10 @@ public class Parameter implements IParameter {
     private Node node;
 
     /**
-     * Instance of parameter Xpath.
+     * Resolved description of the parameter shared with the nodes and modules
+     * of the same XDD model.
      */
-    private String xpath;
-
-    /**
-     * Instance of parameter actual value Xpath.
-     */
-    private String actualValueXpath;
-
-    /**
-     * Instance of TParameterTemplate XDD model.
-     */
-    private TParameterTemplate parameterTemplate;
-
-    /**
-     * Instance of LabelDescription
-     */
-    private LabelDescription label;
-
-    /**
-     * UniqueID of parameter
-     */
-    private String uniqueId;
-
-    /**
-     * Instance of parameter access enum.
-     */
-    private ParameterAccess access;
-
-    /**
-     * Instance of DataTypeChoice.
-     */
-    private DataTypeChoice dataType;
+    private ParameterDescriptor descriptor;
 
     // private Parameter conditionalParameter;
     // TODO: ConditionalSupport is ignored as of now.
@@ -193,26 +161,6 @@ public class Parameter implements IParameter {
      */
     private String actualValue;
 
-    /**
-     * Default value of parameter.
-     */
-    private String defaultValue;
-
-    /**
-     * Instance of LabelDescription to define the unitLabel element.
-     */
-    private LabelDescription unitLabel;
-
-    /**
-     * List of parameter property.
-     */
-    private List<Property> propertyList = new ArrayList<>();
-
-    /**
-     * Instance of parameter allowed values.
-     */
-    private AllowedValues allowedValues;
-
     /**
      * Constructor of parameter class to define values of parameter child
      * elements.
@@ -222,51 +170,21 @@ public class Parameter implements IParameter {
      */
     public Parameter(Node nodeinstance, TParameterList.Parameter param) {
         if (param != null) {
-            label = new LabelDescription(
-                    param.getLabelOrDescriptionOrLabelRef());
-            uniqueId = param.getUniqueID();
-
-            if (param.getAccess() != null) {
-                access = ParameterAccess.fromValue(param.getAccess());
-            }
-
             node = nodeinstance;
-            xpath = "//plk:parameter[@uniqueID='" + uniqueId + "']";
-            actualValueXpath = xpath + "/plk:actualValue";
-
-            dataType = new DataTypeChoice(param);
-
-            Object paramTempladeIDRef = param.getTemplateIDRef();
-            if (paramTempladeIDRef != null) {
-
-                if (paramTempladeIDRef instanceof TParameterTemplate) {
-                    TParameterTemplate parameteratemplateModel = (TParameterTemplate) paramTempladeIDRef;
-                    parameterTemplate = parameteratemplateModel;
-                }
-            }
-            if (param.getActualValue() != null) {
-                actualValue = param.getActualValue().getValue();
-            }
-
-            if (param.getDefaultValue() != null) {
-                defaultValue = param.getDefaultValue().getValue();
-            }
-
-            if (param.getUnit() != null) {
-                unitLabel = new LabelDescription(
-                        param.getUnit().getLabelOrDescriptionOrLabelRef());
-            }
-
-            for (TProperty propertyModel : param.getProperty()) {
-                propertyList.add(new Property(propertyModel));
-            }
-
-            allowedValues = new AllowedValues(param.getAllowedValues());
+            descriptor = ParameterDescriptor.getDescriptor(param);
+            actualValue = descriptor.getActualValue();
         } else {
             // ignore.
         }
     }
 
+    /**
+     * Takes the actual value of the parameter of another node.
+     */
+    void copyActualValue(Parameter source) {
+        actualValue = source.actualValue;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -274,18 +192,7 @@ public class Parameter implements IParameter {
      */
     @Override
     public ParameterAccess getAccess() {
-        if (access == null) {
-            if (parameterTemplate != null) {
-
-                if (parameterTemplate.getAccess() != null) {
-                    return ParameterAccess
-                            .fromValue(parameterTemplate.getAccess());
-                }
-                return ParameterAccess.UNDEFINED;
-
-            }
-        }
-        return access;
+        return descriptor.getAccess();
     }
 
     /*
@@ -296,14 +203,10 @@ public class Parameter implements IParameter {
     @Override
     public String getActualValue() {
         if ((actualValue == null) || (actualValue.isEmpty())) {
-            if (parameterTemplate != null) {
-
-                if (parameterTemplate.getActualValue() != null) {
-                    return parameterTemplate.getActualValue().getValue();
-                }
-                return StringUtils.EMPTY;
+            String templateActualValue = descriptor.getTemplateActualValue();
+            if (templateActualValue != null) {
+                return templateActualValue;
             }
-
         } else if (actualValue.contains("Â")) {
             actualValue = actualValue.replace("Â", "");
         }
@@ -317,16 +220,7 @@ public class Parameter implements IParameter {
      */
     @Override
     public AllowedValues getAllowedValues() {
-        if ((allowedValues.getValuesList().isEmpty())) {
-            if (parameterTemplate != null) {
-                if (getParameterTemplateAllowedValues() != null) {
-                    return getParameterTemplateAllowedValues();
-                }
-            } else {
-                System.err.println("Parameter template not available!");
-            }
-        }
-        return allowedValues;
+        return descriptor.getAllowedValues();
     }
 
     /*
@@ -336,7 +230,7 @@ public class Parameter implements IParameter {
      */
     @Override
     public DataTypeChoice getDataType() {
-        return dataType;
+        return descriptor.getDataType();
     }
 
     /*
@@ -346,7 +240,7 @@ public class Parameter implements IParameter {
      */
     @Override
     public DataTypeChoiceType getDataTypeChoice() {
-        return dataType.getChoiceType();
+        return descriptor.getDataType().getChoiceType();
     }
 
     /*
@@ -356,19 +250,14 @@ public class Parameter implements IParameter {
      */
     @Override
     public String getDefaultValue() {
-        if ((defaultValue == null) || (defaultValue.isEmpty())) {
-            if (parameterTemplate != null) {
-
-                if (parameterTemplate.getDefaultValue() != null) {
-                    return parameterTemplate.getDefaultValue().getValue();
-                }
-                return StringUtils.EMPTY;
+        return descriptor.getDefaultValue();
+    }
 
-            }
-        } else if (defaultValue.contains("Â")) {
-            defaultValue = defaultValue.replace("Â", "");
-        }
-        return defaultValue;
+    /**
+     * @return The resolved description of the parameter.
+     */
+    public ParameterDescriptor getDescriptor() {
+        return descriptor;
     }
 
     /*
@@ -379,7 +268,7 @@ public class Parameter implements IParameter {
     @Override
     public LabelDescription getLabelDescription() {
         // TODO:Check for label of templateIDRef
-        return label;
+        return descriptor.getLabel();
     }
 
     /**
@@ -393,7 +282,7 @@ public class Parameter implements IParameter {
      * @return The actual value element XPath of Parameter.
      */
     public String getParameterActualValueXpath() {
-        return actualValueXpath;
+        return descriptor.getActualValueXpath();
     }
 
     /**
@@ -401,10 +290,7 @@ public class Parameter implements IParameter {
      *         parameter.
      */
     public AllowedValues getParameterTemplateAllowedValues() {
-        if (parameterTemplate.getAllowedValues() != null) {
-            return new AllowedValues(parameterTemplate.getAllowedValues());
-        }
-        return null;
+        return descriptor.getTemplateAllowedValues();
     }
 
     /*
@@ -414,7 +300,7 @@ public class Parameter implements IParameter {
      */
     @Override
     public String getParameterUniqueId() {
-        return uniqueId;
+        return descriptor.getUniqueId();
     }
 
     /*
@@ -424,7 +310,7 @@ public class Parameter implements IParameter {
      */
     @Override
     public List<Property> getPropertyList() {
-        return propertyList;
+        return descriptor.getPropertyList();
     }
 
     /**
@@ -432,18 +318,12 @@ public class Parameter implements IParameter {
      *         XDD file.
      */
     public List<Range> getRangeList() {
-        if (parameterTemplate != null) {
-            if ((allowedValues.getRangeList() == null)
-                    || (allowedValues.getRangeList().isEmpty())) {
-                return getParameterTemplateAllowedValues().getRangeList();
-            }
-        }
-        return allowedValues.getRangeList();
+        return descriptor.getRangeList();
     }
 
     @Override
     public SimpleDataType getSimpleDataType() {
-        return dataType.getSimpleDataType();
+        return descriptor.getDataType().getSimpleDataType();
     }
 
     /*
@@ -453,7 +333,7 @@ public class Parameter implements IParameter {
      */
     @Override
     public StructType getStructDataType() {
-        return dataType.getStructDataType();
+        return descriptor.getDataType().getStructDataType();
     }
 
     /*
@@ -463,14 +343,14 @@ public class Parameter implements IParameter {
      */
     @Override
     public LabelDescription getUnitLabel() {
-        return unitLabel;
+        return descriptor.getUnitLabel();
     }
 
     /**
      * @return The XPath of parameter based on UniqueID.
      */
     public String getXpath() {
-        return xpath;
+        return descriptor.getXpath();
     }
 
     /**
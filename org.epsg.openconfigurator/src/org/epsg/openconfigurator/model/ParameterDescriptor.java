@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * @file   ParameterDescriptor.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.epsg.openconfigurator.model.Parameter.ParameterAccess;
+import org.epsg.openconfigurator.model.Parameter.Property;
+import org.epsg.openconfigurator.xmlbinding.xdd.TParameterList;
+import org.epsg.openconfigurator.xmlbinding.xdd.TParameterTemplate;
+import org.epsg.openconfigurator.xmlbinding.xdd.TProperty;
+
+/**
+ * Resolved description of a parameter of the XDD model.
+ *
+ * The datatype, the allowed values and the values of the parameter template
+ * are resolved once per XDD parameter. The descriptors are cached against the
+ * XDD model so that the nodes and the modules sharing the same XDD model share
+ * the descriptors as well. The actual value is not part of the descriptor.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class ParameterDescriptor {
+
+    /**
+     * Descriptors of the XDD parameters.
+     */
+    private static final Map<TParameterList.Parameter, ParameterDescriptor> descriptors = Collections
+            .synchronizedMap(
+                    new WeakHashMap<TParameterList.Parameter, ParameterDescriptor>());
+
+    /**
+     * Returns the descriptor of the XDD parameter. The descriptor is resolved
+     * only on the first call for a parameter.
+     *
+     * @param param XDD model of the parameter.
+     * @return The resolved descriptor of the parameter.
+     */
+    public static ParameterDescriptor getDescriptor(
+            TParameterList.Parameter param) {
+        ParameterDescriptor descriptor = descriptors.get(param);
+        if (descriptor == null) {
+            descriptor = new ParameterDescriptor(param);
+            descriptors.put(param, descriptor);
+        }
+        return descriptor;
+    }
+
+    private final String uniqueId;
+    private final String xpath;
+    private final String actualValueXpath;
+    private final LabelDescription label;
+    private final LabelDescription unitLabel;
+    private final ParameterAccess access;
+    private final DataTypeChoice dataType;
+    private final List<Property> propertyList;
+    private final TParameterTemplate parameterTemplate;
+
+    /**
+     * Actual value of the XDD parameter or of its template.
+     */
+    private final String actualValue;
+
+    /**
+     * Default value of the XDD parameter or of its template.
+     */
+    private final String defaultValue;
+
+    /**
+     * Allowed values of the XDD parameter.
+     */
+    private final AllowedValues parameterAllowedValues;
+
+    /**
+     * Allowed values of the parameter template.
+     */
+    private final AllowedValues templateAllowedValues;
+
+    private ParameterDescriptor(TParameterList.Parameter param) {
+        uniqueId = param.getUniqueID().intern();
+        xpath = "//plk:parameter[@uniqueID='" + uniqueId + "']";
+        actualValueXpath = xpath + "/plk:actualValue";
+        label = new LabelDescription(param.getLabelOrDescriptionOrLabelRef());
+        dataType = new DataTypeChoice(param);
+
+        Object paramTemplateIdRef = param.getTemplateIDRef();
+        if (paramTemplateIdRef instanceof TParameterTemplate) {
+            parameterTemplate = (TParameterTemplate) paramTemplateIdRef;
+        } else {
+            parameterTemplate = null;
+        }
+
+        if (param.getAccess() != null) {
+            access = ParameterAccess.fromValue(param.getAccess());
+        } else if (parameterTemplate == null) {
+            access = null;
+        } else if (parameterTemplate.getAccess() != null) {
+            access = ParameterAccess.fromValue(parameterTemplate.getAccess());
+        } else {
+            access = ParameterAccess.UNDEFINED;
+        }
+
+        if (param.getActualValue() != null) {
+            actualValue = param.getActualValue().getValue();
+        } else {
+            actualValue = null;
+        }
+
+        String value = null;
+        if (param.getDefaultValue() != null) {
+            value = param.getDefaultValue().getValue();
+        }
+        if ((value == null) || value.isEmpty()) {
+            if (parameterTemplate != null) {
+                value = StringUtils.EMPTY;
+                if (parameterTemplate.getDefaultValue() != null) {
+                    value = parameterTemplate.getDefaultValue().getValue();
+                }
+            }
+        } else {
+            value = value.replace("Â", ""); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        defaultValue = value;
+
+        if (param.getUnit() != null) {
+            unitLabel = new LabelDescription(
+                    param.getUnit().getLabelOrDescriptionOrLabelRef());
+        } else {
+            unitLabel = null;
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (TProperty propertyModel : param.getProperty()) {
+            properties.add(new Property(propertyModel));
+        }
+        propertyList = Collections.unmodifiableList(properties);
+
+        parameterAllowedValues = new AllowedValues(param.getAllowedValues());
+        if ((parameterTemplate != null)
+                && (parameterTemplate.getAllowedValues() != null)) {
+            templateAllowedValues = new AllowedValues(
+                    parameterTemplate.getAllowedValues());
+        } else {
+            templateAllowedValues = null;
+        }
+    }
+
+    /**
+     * @return The access of the parameter or of its template.
+     */
+    public ParameterAccess getAccess() {
+        return access;
+    }
+
+    /**
+     * @return The actual value of the XDD parameter.
+     */
+    public String getActualValue() {
+        return actualValue;
+    }
+
+    /**
+     * @return The XPath of the actual value of the parameter.
+     */
+    public String getActualValueXpath() {
+        return actualValueXpath;
+    }
+
+    /**
+     * @return The allowed values of the parameter or of its template, if the
+     *         parameter does not define allowed values.
+     */
+    public AllowedValues getAllowedValues() {
+        if (parameterAllowedValues.getValuesList().isEmpty()
+                && (templateAllowedValues != null)) {
+            return templateAllowedValues;
+        }
+        return parameterAllowedValues;
+    }
+
+    /**
+     * @return The datatype of the parameter.
+     */
+    public DataTypeChoice getDataType() {
+        return dataType;
+    }
+
+    /**
+     * @return The default value of the parameter or of its template.
+     */
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @return The label of the parameter.
+     */
+    public LabelDescription getLabel() {
+        return label;
+    }
+
+    /**
+     * @return The allowed values defined in the parameter.
+     */
+    public AllowedValues getParameterAllowedValues() {
+        return parameterAllowedValues;
+    }
+
+    /**
+     * @return The parameter template or <code>null</code>.
+     */
+    public TParameterTemplate getParameterTemplate() {
+        return parameterTemplate;
+    }
+
+    /**
+     * @return The properties of the parameter.
+     */
+    public List<Property> getPropertyList() {
+        return propertyList;
+    }
+
+    /**
+     * @return The range list of the parameter or of its template, if the
+     *         parameter does not define ranges.
+     */
+    public List<Range> getRangeList() {
+        if (parameterAllowedValues.getRangeList().isEmpty()
+                && (templateAllowedValues != null)) {
+            return templateAllowedValues.getRangeList();
+        }
+        return parameterAllowedValues.getRangeList();
+    }
+
+    /**
+     * @return The actual value of the parameter template, an empty string if
+     *         the template does not define it or <code>null</code> without a
+     *         template.
+     */
+    public String getTemplateActualValue() {
+        if (parameterTemplate == null) {
+            return null;
+        }
+        if (parameterTemplate.getActualValue() != null) {
+            return parameterTemplate.getActualValue().getValue();
+        }
+        return StringUtils.EMPTY;
+    }
+
+    /**
+     * @return The allowed values of the parameter template or
+     *         <code>null</code>.
+     */
+    public AllowedValues getTemplateAllowedValues() {
+        return templateAllowedValues;
+    }
+
+    /**
+     * @return The interned unique ID of the parameter.
+     */
+    public String getUniqueId() {
+        return uniqueId;
+    }
+
+    /**
+     * @return The unit label of the parameter.
+     */
+    public LabelDescription getUnitLabel() {
+        return unitLabel;
+    }
+
+    /**
+     * @return The XPath of the parameter.
+     */
+    public String getXpath() {
+        return xpath;
+    }
+}
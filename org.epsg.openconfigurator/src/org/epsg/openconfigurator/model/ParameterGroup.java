@@ -123,6 +123,103 @@ public class ParameterGroup {
         }
     }
 
+    /**
+     * @return Visible objects of parameter that match the conditional values.
+     */
+    LinkedHashSet<Object> computeVisibleObjects() {
+
+        LinkedHashSet<Object> vSet = new LinkedHashSet<>();
+        if (!isConditionsMet()) {
+            return vSet;
+        }
+
+        Collection<ParameterGroup> pgmGrpList = parameterGroupMap.values();
+        for (ParameterGroup pgmGrp : pgmGrpList) {
+            if (pgmGrp.isConditionsMet()) {
+                if ((pgmGrp.isGroupLevelVisible())
+                        && (pgmGrp.isConfigParameter())) {
+                    vSet.add(pgmGrp);
+                } else {
+
+                    // TODO: Check the below addAll.
+                    vSet.addAll(pgmGrp.getVisibleObjects());
+
+                    Collection<ParameterReference> prmRefList = pgmGrp.parameterRefMap
+                            .values();
+                    for (ParameterReference prmRef : prmRefList) {
+                        if (prmRef.isVisible()) {
+                            vSet.add(prmRef);
+                        }
+                    }
+                }
+            }
+        }
+
+        Collection<ParameterReference> prmRefList = parameterRefMap.values();
+        for (ParameterReference prmRef : prmRefList) {
+            if (prmRef.isVisible()) {
+                vSet.add(prmRef);
+            }
+        }
+
+        return vSet;
+    }
+
+    /**
+     * @return <code>True</code> if parameter group could be visible,
+     *         <code>False</code> if parameter group is not visible
+     */
+    boolean computeHasVisibleObjects() {
+        if (!isConditionsMet()) {
+            return false;
+        }
+
+        // Check all the parameterReferences
+        for (ParameterReference prmRef : parameterRefMap.values()) {
+            if (prmRef.isVisible()) {
+                return true;
+            }
+        }
+
+        // Check all the parameterGroups also
+        for (ParameterGroup grp : parameterGroupMap.values()) {
+            if (grp.isConditionsMet() && grp.isGroupLevelVisible()
+                    && grp.isConfigParameter()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return <code>True</code> if parameter group matches the conditional
+     *         Unique ID and conditional value of parameter references
+     *         <code>False</code> if parameter group does not match the
+     *         conditional Unique ID and conditional value of parameter
+     *         references
+     */
+    boolean evaluateConditions() {
+        boolean conditionalParameterAllowed = false;
+        if ((conditionalParameter != null) && (conditionalValue != null)) {
+            if (conditionalParameter.getActualValue() != null) {
+                if (conditionalValue.equalsIgnoreCase(
+                        conditionalParameter.getActualValue())) {
+                    conditionalParameterAllowed = true;
+                }
+            } else if (conditionalParameter.getDefaultValue() != null) {
+                if (conditionalValue.equalsIgnoreCase(
+                        conditionalParameter.getDefaultValue())) {
+                    conditionalParameterAllowed = true;
+                }
+            }
+        } else {
+            // Conditional parameter not available. Thus conditions are met.
+            conditionalParameterAllowed = true;
+        }
+        return conditionalParameterAllowed;
+    }
+
     /**
      * @return Bitoffset value of parameter group.
      */
@@ -186,60 +283,12 @@ public class ParameterGroup {
 
     /**
      * @return Visible objects of parameter that match the conditional values.
+     *         The list is cached until the value of a conditional parameter
+     *         changes.
      */
-    public LinkedHashSet<Object> getVisibleObjects() {
-
-        LinkedHashSet<Object> vSet = new LinkedHashSet<>();
-        if (!isConditionsMet()) {
-            return vSet;
-        }
-
-        Collection<ParameterGroup> pgmGrpList = getParameterGroupList();
-        for (ParameterGroup pgmGrp : pgmGrpList) {
-            if (pgmGrp.isConditionsMet()) {
-                if ((pgmGrp.isGroupLevelVisible())
-                        && (pgmGrp.isConfigParameter())) {
-                    vSet.add(pgmGrp);
-                } else {
-
-                    // TODO: Check the below addAll.
-                    vSet.addAll(pgmGrp.getVisibleObjects());
-
-                    List<ParameterReference> prmRefList = pgmGrp
-                            .getParameterRefList();
-                    for (ParameterReference prmRef : prmRefList) {
-                        if (prmRef.isVisible()) {
-                            vSet.add(prmRef);
-                        }
-                    }
-                }
-            }
-        }
-
-        Collection<ParameterReference> prmRefList = getParameterRefList();
-        for (ParameterReference prmRef : prmRefList) {
-            if (prmRef.isVisible()) {
-                vSet.add(prmRef);
-            }
-        }
-
-        System.out.println("=========================" + uniqueId + " m:"
-                + isConditionsMet() + " v:" + isGroupLevelVisible());
-        for (Object a : vSet) {
-            if (a instanceof ParameterGroup) {
-                ParameterGroup b = (ParameterGroup) a;
-                System.out.println("--------> " + b.getLabel().getText() + " m:"
-                        + b.isConditionsMet() + " v:"
-                        + b.isGroupLevelVisible());
-            } else if (a instanceof ParameterReference) {
-                ParameterReference b = (ParameterReference) a;
-                System.out.println(
-                        "--------> " + b.getLabelDescription().getText());
-            }
-        }
-
-        System.out.println("==========END===============");
-        return vSet;
+    public List<Object> getVisibleObjects() {
+        return objectDictionary.getParameterGroupVisibility()
+                .getVisibleObjects(this);
     }
 
     /**
@@ -254,26 +303,8 @@ public class ParameterGroup {
      *         <code>False</code> if parameter group is not visible
      */
     public boolean hasVisibleObjects() {
-        boolean retVal = false;
-
-        if (!isConditionsMet()) {
-            return retVal;
-        }
-
-        // Check all the parameterReferences
-        Collection<ParameterReference> prmRefList = getParameterRefList();
-        for (ParameterReference prmRef : prmRefList) {
-            retVal = retVal || prmRef.isVisible();
-        }
-
-        // Check all the parameterGroups also
-        Collection<ParameterGroup> paramGrp = getParameterGroupList();
-        for (ParameterGroup grp : paramGrp) {
-            retVal = retVal || (grp.isConditionsMet()
-                    && grp.isGroupLevelVisible() && grp.isConfigParameter());
-        }
-
-        return retVal;
+        return objectDictionary.getParameterGroupVisibility()
+                .hasVisibleObjects(this);
     }
 
     /**
@@ -284,24 +315,8 @@ public class ParameterGroup {
      *         references
      */
     public boolean isConditionsMet() {
-        boolean conditionalParameterAllowed = false;
-        if ((conditionalParameter != null) && (conditionalValue != null)) {
-            if (conditionalParameter.getActualValue() != null) {
-                if (conditionalValue.equalsIgnoreCase(
-                        conditionalParameter.getActualValue())) {
-                    conditionalParameterAllowed = true;
-                }
-            } else if (conditionalParameter.getDefaultValue() != null) {
-                if (conditionalValue.equalsIgnoreCase(
-                        conditionalParameter.getDefaultValue())) {
-                    conditionalParameterAllowed = true;
-                }
-            }
-        } else {
-            // Conditional parameter not available. Thus conditions are met.
-            conditionalParameterAllowed = true;
-        }
-        return conditionalParameterAllowed;
+        return objectDictionary.getParameterGroupVisibility()
+                .isConditionsMet(this);
     }
 
     /**
@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * @file   ParameterGroupVisibility.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.jface.util.SafeRunnable;
+import org.epsg.openconfigurator.event.IParameterVisibilityChangeListener;
+import org.epsg.openconfigurator.event.ParameterVisibilityChangeEvent;
+
+/**
+ * Tracks the conditional visibility of the parameter groups of an object
+ * dictionary.
+ *
+ * The conditions and the visible objects of the parameter groups are cached.
+ * A change in the value of a parameter re-evaluates only the parameter groups
+ * that reference the parameter as conditional parameter and invalidates the
+ * cached visible objects of these groups and of their parent groups.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class ParameterGroupVisibility {
+
+    /**
+     * Object dictionary of the parameter groups.
+     */
+    private final ObjectDictionary objectDictionary;
+
+    /**
+     * Parameter groups that depend on the value of a conditional parameter.
+     */
+    private final Map<Parameter, List<ParameterGroup>> dependentGroups = new HashMap<>();
+
+    /**
+     * Parent of the nested parameter groups.
+     */
+    private final Map<ParameterGroup, ParameterGroup> parentGroups = new HashMap<>();
+
+    /**
+     * Cached conditions of the parameter groups.
+     */
+    private final Map<ParameterGroup, Boolean> conditionsMet = new HashMap<>();
+
+    /**
+     * Cached visible objects of the parameter groups.
+     */
+    private final Map<ParameterGroup, List<Object>> visibleObjects = new HashMap<>();
+
+    /**
+     * Cached visible state of the parameter groups.
+     */
+    private final Map<ParameterGroup, Boolean> hasVisibleObjects = new HashMap<>();
+
+    /**
+     * Cached visible objects of the top level parameter groups.
+     */
+    private List<Object> visibleRootObjects;
+
+    /**
+     * Dependencies are built on the first use of the parameter groups.
+     */
+    private boolean dependenciesBuilt = false;
+
+    private ListenerList visibilityChangeListeners = new ListenerList(
+            ListenerList.IDENTITY);
+
+    /**
+     * Constructs the visibility of parameter groups of the object dictionary.
+     *
+     * @param objectDictionary Instance of object dictionary.
+     */
+    public ParameterGroupVisibility(ObjectDictionary objectDictionary) {
+        this.objectDictionary = objectDictionary;
+    }
+
+    /**
+     * Adds the visibility change listener.
+     *
+     * @param listener Instance of IParameterVisibilityChangeListener to listen
+     *            the change event
+     */
+    @SuppressWarnings("unchecked")
+    public void addVisibilityChangeListener(
+            IParameterVisibilityChangeListener listener) {
+        visibilityChangeListeners.add(listener);
+    }
+
+    private void addDependencies(ParameterGroup group) {
+        Parameter conditionalParameter = group.getConditionalParameter();
+        if (conditionalParameter != null) {
+            List<ParameterGroup> groups = dependentGroups
+                    .get(conditionalParameter);
+            if (groups == null) {
+                groups = new ArrayList<>();
+                dependentGroups.put(conditionalParameter, groups);
+            }
+            groups.add(group);
+        }
+
+        for (ParameterGroup childGroup : group.getParameterGroupList()) {
+            parentGroups.put(childGroup, group);
+            addDependencies(childGroup);
+        }
+    }
+
+    private void buildDependencies() {
+        if (dependenciesBuilt) {
+            return;
+        }
+        for (ParameterGroup group : objectDictionary.getParameterGroupList()) {
+            addDependencies(group);
+        }
+        dependenciesBuilt = true;
+    }
+
+    /**
+     * Reports the change in visibility to the registered listeners.
+     *
+     * @param event Instance of ParameterVisibilityChangeEvent
+     */
+    private void fireVisibilityChanged(
+            final ParameterVisibilityChangeEvent event) {
+        Object[] listeners = visibilityChangeListeners.getListeners();
+        for (Object listener : listeners) {
+            final IParameterVisibilityChangeListener l = (IParameterVisibilityChangeListener) listener;
+            SafeRunnable.run(new SafeRunnable() {
+                @Override
+                public void run() {
+                    l.parameterVisibilityChanged(event);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return The parent of the parameter group or <code>null</code> for the
+     *         top level parameter groups.
+     */
+    public synchronized ParameterGroup getParentGroup(ParameterGroup group) {
+        buildDependencies();
+        return parentGroups.get(group);
+    }
+
+    /**
+     * @return Visible objects of the parameter group.
+     */
+    public synchronized List<Object> getVisibleObjects(ParameterGroup group) {
+        List<Object> objects = visibleObjects.get(group);
+        if (objects == null) {
+            objects = Collections.unmodifiableList(
+                    new ArrayList<>(group.computeVisibleObjects()));
+            visibleObjects.put(group, objects);
+        }
+        return objects;
+    }
+
+    /**
+     * @return Visible objects of the top level parameter groups.
+     */
+    public synchronized List<Object> getVisibleRootObjects() {
+        if (visibleRootObjects != null) {
+            return visibleRootObjects;
+        }
+
+        LinkedHashSet<Object> objects = new LinkedHashSet<>();
+        for (ParameterGroup pgmGrp : objectDictionary
+                .getParameterGroupList()) {
+            if (!isConditionsMet(pgmGrp) || !pgmGrp.isConfigParameter()) {
+                continue;
+            }
+
+            if (pgmGrp.isGroupLevelVisible()) {
+                objects.add(pgmGrp);
+                continue;
+            }
+
+            for (ParameterReference prmRef : pgmGrp.getParameterRefList()) {
+                if (prmRef.isVisible()) {
+                    objects.add(prmRef);
+                }
+            }
+
+            // Nested groups are listed only if there are more than one.
+            List<ParameterGroup> prmGrpList = pgmGrp.getParameterGroupList();
+            if (prmGrpList.size() > 1) {
+                for (ParameterGroup prmGrp : prmGrpList) {
+                    if (!prmGrp.isConfigParameter()) {
+                        continue;
+                    }
+                    if (prmGrp.isGroupLevelVisible()) {
+                        objects.add(prmGrp);
+                    } else {
+                        for (ParameterReference prmRef : prmGrp
+                                .getParameterRefList()) {
+                            if (prmRef.isVisible()) {
+                                objects.add(prmRef);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        visibleRootObjects = Collections
+                .unmodifiableList(new ArrayList<>(objects));
+        return visibleRootObjects;
+    }
+
+    /**
+     * @return <code>True</code> if the parameter group has visible objects,
+     *         <code>False</code> otherwise.
+     */
+    public synchronized boolean hasVisibleObjects(ParameterGroup group) {
+        Boolean visible = hasVisibleObjects.get(group);
+        if (visible == null) {
+            visible = Boolean.valueOf(group.computeHasVisibleObjects());
+            hasVisibleObjects.put(group, visible);
+        }
+        return visible.booleanValue();
+    }
+
+    /**
+     * Invalidates the cached visible objects of the parameter group and of its
+     * parent groups.
+     */
+    private void invalidate(ParameterGroup group) {
+        for (ParameterGroup grp = group; grp != null; grp = parentGroups
+                .get(grp)) {
+            visibleObjects.remove(grp);
+            hasVisibleObjects.remove(grp);
+        }
+        visibleRootObjects = null;
+    }
+
+    /**
+     * @return <code>True</code> if the conditions of the parameter group are
+     *         met, <code>False</code> otherwise.
+     */
+    public synchronized boolean isConditionsMet(ParameterGroup group) {
+        Boolean met = conditionsMet.get(group);
+        if (met == null) {
+            met = Boolean.valueOf(group.evaluateConditions());
+            conditionsMet.put(group, met);
+        }
+        return met.booleanValue();
+    }
+
+    /**
+     * Re-evaluates the parameter groups that depend on the value of the
+     * parameter and notifies the listeners if the visibility has changed.
+     *
+     * @param parameter The parameter whose value has changed.
+     */
+    public void parameterValueChanged(Parameter parameter) {
+        List<ParameterGroup> changedGroups = new ArrayList<>();
+        synchronized (this) {
+            buildDependencies();
+            List<ParameterGroup> groups = dependentGroups.get(parameter);
+            if (groups == null) {
+                return;
+            }
+
+            for (ParameterGroup group : groups) {
+                Boolean met = conditionsMet.get(group);
+                if (met == null) {
+                    // Not evaluated yet. Nothing depends on it.
+                    continue;
+                }
+                boolean newMet = group.evaluateConditions();
+                if (met.booleanValue() != newMet) {
+                    conditionsMet.put(group, Boolean.valueOf(newMet));
+                    invalidate(group);
+                    changedGroups.add(group);
+                }
+            }
+        }
+
+        if (!changedGroups.isEmpty()) {
+            fireVisibilityChanged(new ParameterVisibilityChangeEvent(
+                    objectDictionary, changedGroups));
+        }
+    }
+
+    /**
+     * Removes the visibility change listener.
+     *
+     * @param listener Instance of IParameterVisibilityChangeListener.
+     */
+    public void removeVisibilityChangeListener(
+            IParameterVisibilityChangeListener listener) {
+        visibilityChangeListeners.remove(listener);
+    }
+
+    /**
+     * Clears the dependencies and the cached visibility of the parameter
+     * groups. The listeners are retained.
+     */
+    public synchronized void reset() {
+        dependentGroups.clear();
+        parentGroups.clear();
+        conditionsMet.clear();
+        visibleObjects.clear();
+        hasVisibleObjects.clear();
+        visibleRootObjects = null;
+        dependenciesBuilt = false;
+    }
+}
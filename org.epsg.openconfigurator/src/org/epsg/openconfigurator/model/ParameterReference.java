@@ -65,7 +65,6 @@ public class ParameterReference implements IParameter {
 
     private ObjectDictionary objectDictionary;
     private ParameterGroup parameterGroup;
-    private TParameterGroup.ParameterRef parameterReference;
 
     /**
      * Parameter reference constructor initializes the attribute values from the
@@ -84,7 +83,8 @@ public class ParameterReference implements IParameter {
         this.objectDictionary = objectDictionary;
 
         if (parameterReferenceModel != null) {
-            parameterReference = parameterReferenceModel;
+            this.objectDictionary.addParameterReference(
+                    parameterReferenceModel, this);
             actualValue = parameterReferenceModel.getActualValue();
             visible = parameterReferenceModel.isVisible();
             locked = parameterReferenceModel.isLocked();
@@ -107,6 +107,13 @@ public class ParameterReference implements IParameter {
 
     }
 
+    /**
+     * Takes the actual value of the parameter reference of another node.
+     */
+    void copyActualValue(ParameterReference source) {
+        actualValue = source.actualValue;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -265,6 +272,14 @@ public class ParameterReference implements IParameter {
         return new ArrayList<>();
     }
 
+    /**
+     * @return Actual value of the parameter reference as available in the
+     *         XDD/XDC file.
+     */
+    public String getReferenceActualValue() {
+        return actualValue;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -336,21 +351,23 @@ public class ParameterReference implements IParameter {
         if (value.contains("Â")) {
             value = value.replace("Â", "");
         }
+        // The XDD model is shared by the modules of the same device
+        // description and by the nodes added together. So the value is kept
+        // only in this instance.
         actualValue = value;
-        parameterReference.setActualValue(value);
+        Parameter param = getObjectDictionary()
+                .getParameter(getParameterUniqueId());
         if (getObjectDictionary().isModule()) {
-            Parameter param = getObjectDictionary()
-                    .getParameter(getParameterUniqueId());
             param.setActualValue(value);
             OpenConfiguratorProjectUtils.updateParameterActualValue(
                     getObjectDictionary().getModule(), param, actualValue);
         } else {
-            Parameter param = getObjectDictionary()
-                    .getParameter(getParameterUniqueId());
             param.setActualValue(value);
             OpenConfiguratorProjectUtils.updateParameterActualValue(node, param,
                     actualValue);
         }
+        getObjectDictionary().getParameterGroupVisibility()
+                .parameterValueChanged(param);
 
     }
 }
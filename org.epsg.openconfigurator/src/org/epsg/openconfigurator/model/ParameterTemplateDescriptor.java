@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * @file   ParameterTemplateDescriptor.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.epsg.openconfigurator.xmlbinding.xdd.TDataTypeList;
+import org.epsg.openconfigurator.xmlbinding.xdd.TParameterTemplate;
+
+/**
+ * Resolved description of a parameter template of the XDD model.
+ *
+ * The counterpart of the {@link ParameterDescriptor} for the parameter
+ * templates. The referenced datatype and template, the allowed values and the
+ * values of the template are resolved once per XDD parameter template and
+ * cached against the XDD model. The descriptor keeps only the unique IDs of
+ * the referenced XDD elements, so that it does not hold the XDD model and the
+ * cached entries are released with the model.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class ParameterTemplateDescriptor {
+
+    /**
+     * Descriptors of the XDD parameter templates.
+     */
+    private static final Map<TParameterTemplate, ParameterTemplateDescriptor> descriptors = Collections
+            .synchronizedMap(
+                    new WeakHashMap<TParameterTemplate, ParameterTemplateDescriptor>());
+
+    /**
+     * Returns the descriptor of the XDD parameter template. The descriptor is
+     * resolved only on the first call for a template.
+     *
+     * @param template XDD model of the parameter template.
+     * @return The resolved descriptor of the parameter template.
+     */
+    public static ParameterTemplateDescriptor getDescriptor(
+            TParameterTemplate template) {
+        ParameterTemplateDescriptor descriptor = descriptors.get(template);
+        if (descriptor == null) {
+            descriptor = new ParameterTemplateDescriptor(template);
+            descriptors.put(template, descriptor);
+        }
+        return descriptor;
+    }
+
+    private final String uniqueId;
+    private final String access;
+
+    /**
+     * True if the template references a datatype instead of a simple
+     * datatype.
+     */
+    private final boolean dataTypeReferenced;
+
+    /**
+     * Unique ID of the referenced struct datatype, <code>null</code> if the
+     * datatype reference does not target a struct.
+     */
+    private final String structDataTypeId;
+
+    /**
+     * True if the template references another parameter template.
+     */
+    private final boolean templateReferenced;
+
+    /**
+     * Unique ID of the referenced parameter template, <code>null</code> if the
+     * template reference does not target a parameter template.
+     */
+    private final String referencedTemplateId;
+
+    /**
+     * Allowed values of the template, <code>null</code> if not defined.
+     */
+    private final AllowedValues allowedValues;
+
+    private final String defaultValue;
+    private final String actualValue;
+
+    private ParameterTemplateDescriptor(TParameterTemplate template) {
+        uniqueId = template.getUniqueID().intern();
+        access = template.getAccess();
+
+        dataTypeReferenced = template.getDataTypeIDRef() != null;
+        Object dataTypeReference = dataTypeReferenced
+                ? template.getDataTypeIDRef().getUniqueIDRef() : null;
+        if (dataTypeReference instanceof TDataTypeList.Struct) {
+            structDataTypeId = ((TDataTypeList.Struct) dataTypeReference)
+                    .getUniqueID();
+        } else {
+            structDataTypeId = null;
+        }
+
+        Object templateReference = template.getTemplateIDRef();
+        templateReferenced = templateReference != null;
+        if (templateReference instanceof TParameterTemplate) {
+            referencedTemplateId = ((TParameterTemplate) templateReference)
+                    .getUniqueID();
+        } else {
+            referencedTemplateId = null;
+        }
+
+        if (template.getAllowedValues() != null) {
+            allowedValues = new AllowedValues(template.getAllowedValues());
+        } else {
+            allowedValues = null;
+        }
+
+        if (template.getDefaultValue() != null) {
+            defaultValue = template.getDefaultValue().getValue();
+        } else {
+            defaultValue = null;
+        }
+        if (template.getActualValue() != null) {
+            actualValue = template.getActualValue().getValue();
+        } else {
+            actualValue = null;
+        }
+    }
+
+    /**
+     * @return The access of the template as given in the XDD.
+     */
+    public String getAccess() {
+        return access;
+    }
+
+    /**
+     * @return The actual value of the template or <code>null</code>.
+     */
+    public String getActualValue() {
+        return actualValue;
+    }
+
+    /**
+     * @return The allowed values of the template or <code>null</code>.
+     */
+    public AllowedValues getAllowedValues() {
+        return allowedValues;
+    }
+
+    /**
+     * @return The default value of the template or <code>null</code>.
+     */
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @return The unique ID of the referenced parameter template or
+     *         <code>null</code>.
+     */
+    public String getReferencedTemplateId() {
+        return referencedTemplateId;
+    }
+
+    /**
+     * @return The unique ID of the referenced struct datatype or
+     *         <code>null</code>.
+     */
+    public String getStructDataTypeId() {
+        return structDataTypeId;
+    }
+
+    /**
+     * @return The interned unique ID of the template.
+     */
+    public String getUniqueId() {
+        return uniqueId;
+    }
+
+    /**
+     * @return <code>True</code> if the template has a datatype reference,
+     *         <code>False</code> for a simple datatype.
+     */
+    public boolean hasDataTypeReference() {
+        return dataTypeReferenced;
+    }
+
+    /**
+     * @return <code>True</code> if the template references another parameter
+     *         template, <code>False</code> otherwise.
+     */
+    public boolean hasTemplateReference() {
+        return templateReferenced;
+    }
+}
@@ -656,6 +656,15 @@ public class PowerlinkObject extends AbstractPowerlinkObject
         return buffer.getLong();
     }
 
+    /**
+     * Takes the actual value of the object of another node.
+     *
+     * Note: This does not update the XML file.
+     */
+    void copyActualValue(PowerlinkObject source) {
+        actualValue = source.actualValue;
+    }
+
     /**
      * Note: This does not delete from the XML file.
      */
@@ -40,15 +40,22 @@ import java.math.BigInteger;
 import java.net.URLDecoder;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.parsers.ParserConfigurationException;
@@ -71,9 +78,9 @@ import org.eclipse.jface.util.SafeRunnable;
 import org.eclipse.ui.actions.WorkspaceModifyOperation;
 import org.epsg.openconfigurator.Activator;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.event.INodePropertyChangeListener;
 import org.epsg.openconfigurator.event.NodePropertyChangeEvent;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.Node.NodeType;
 import org.epsg.openconfigurator.util.IPowerlinkConstants;
@@ -113,10 +120,64 @@ public class PowerlinkRootNode {
     private static final String INVALID_NODE_XDC_ERROR = " The XDD/XDC file of node {0} is not available.";
     private static final String INVALID_FIRMWARE_FILE_ERROR = " The firmware file {0} is not available for the node {1}.";
     private static final String INVALID_MODULE_FIRMWARE_FILE_ERROR = " The firmware file {0} is not available for the module {1}.";
+    private static final String IMPORT_CANCELLED_MESSAGE = "Import of the node XDD/XDC files cancelled.";
+
+    /**
+     * Interval in milliseconds to check the cancellation while waiting for the
+     * import.
+     */
+    private static final long IMPORT_WAIT_INTERVAL = 100;
+
+    /**
+     * Estimated bytes of the unmarshalled XDD/XDC model per byte of the
+     * XDD/XDC file.
+     */
+    private static final long XDC_MODEL_BYTES_PER_FILE_BYTE = 6;
+
+    /**
+     * Estimated bytes of an object in the object dictionary of the model and
+     * the library.
+     */
+    private static final long OBJECT_BYTES = 1024;
+
+    /**
+     * Estimated bytes of a sub-object in the object dictionary of the model
+     * and the library.
+     */
+    private static final long SUBOBJECT_BYTES = 768;
+
+    /**
+     * @return The estimated memory usage of the object dictionary and the
+     *         XDD/XDC file.
+     */
+    private static long estimateMemoryUsage(ObjectDictionary objectDictionary,
+            String pathToXdc) {
+        long memoryUsage = new File(pathToXdc).length()
+                * XDC_MODEL_BYTES_PER_FILE_BYTE;
+        if (objectDictionary != null) {
+            memoryUsage += (objectDictionary.getObjectCount() * OBJECT_BYTES)
+                    + (objectDictionary.getSubObjectCount() * SUBOBJECT_BYTES);
+        }
+        return memoryUsage;
+    }
+
     private Map<Short, Node> nodeCollection = new HashMap<>();
     boolean isFileToBeRemoved = false;
     private OpenCONFIGURATORProject currentProject;
 
+    /**
+     * Released once the import of the nodes has been completed. Replaced by
+     * {@link #resetImport()} for the next import.
+     */
+    private volatile CountDownLatch importCompletion = new CountDownLatch(1);
+
+    private final Object importLock = new Object();
+
+    /**
+     * Status of the completed import.
+     */
+    private volatile IStatus importStatus;
+
     @SuppressWarnings("rawtypes")
     private ListenerList nodePropertyChangeListeners = new ListenerList(
             ListenerList.IDENTITY);
@@ -146,11 +207,13 @@ public class PowerlinkRootNode {
         String projectXmlLocation = node.getProjectXml().getLocation()
                 .toString();
         File xmlFile = new File(projectXmlLocation);
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.addNode(document, node);
+            ProjectJDomOperation.addNode(document, node);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
 
         // Updates generator attributes in project file.
         OpenConfiguratorProjectUtils.updateGeneratorInfo(node);
@@ -186,11 +249,13 @@ public class PowerlinkRootNode {
         String projectXmlLocation = node.getProjectXml().getLocation()
                 .toString();
         File xmlFile = new File(projectXmlLocation);
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.addNode(document, node);
+            ProjectJDomOperation.addNode(document, node);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
 
         // Updates generator attributes in project file.
         OpenConfiguratorProjectUtils.updateGeneratorInfo(node);
@@ -200,6 +265,64 @@ public class PowerlinkRootNode {
         return true;
     }
 
+    /**
+     * Add the nodes into the node collection and the node list. The project
+     * file is updated once for all the nodes.
+     *
+     * @param nodeCollectionModel The TNodeCollection instance.
+     * @param nodes New nodes.
+     * @return <code>True</code> if successful and <code>False</code> otherwise.
+     * @throws IOException Errors with XDC file modifications.
+     * @throws JDOMException Errors with time modifications.
+     */
+    public synchronized boolean addNodes(TNodeCollection nodeCollectionModel,
+            List<Node> nodes) throws IOException, JDOMException {
+        if (nodes.isEmpty()) {
+            return true;
+        }
+
+        for (Node node : nodes) {
+            Object nodeModel = node.getNodeModel();
+            if (!(nodeModel instanceof TCN) && !(nodeModel instanceof TRMN)) {
+                // Invalid node
+                return false;
+            }
+        }
+
+        Node firstNode = nodes.get(0);
+        String projectXmlLocation = firstNode.getProjectXml().getLocation()
+                .toString();
+        File xmlFile = new File(projectXmlLocation);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+
+            for (Node node : nodes) {
+                Object nodeModel = node.getNodeModel();
+                if (nodeModel instanceof TCN) {
+                    nodeCollectionModel.getCN().add((TCN) nodeModel);
+                } else {
+                    nodeCollectionModel.getRMN().add((TRMN) nodeModel);
+                }
+
+                nodeCollection.put(Short.valueOf(node.getCnNodeIdValue()),
+                        node);
+
+                ProjectJDomOperation.addNode(document, node);
+            }
+
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
+
+        // Updates generator attributes in project file.
+        OpenConfiguratorProjectUtils.updateGeneratorInfo(firstNode);
+        for (Node node : nodes) {
+            if (node.isModularheadNode()) {
+                node.getInterface().updateInterfaceList();
+            }
+        }
+        return true;
+    }
+
     /**
      * Adds the property change event to the change listener.
      *
@@ -230,6 +353,22 @@ public class PowerlinkRootNode {
         nodePropertyChangeListeners.clear();
     }
 
+    /**
+     * Marks the import of the nodes as completed. Only the first status is
+     * kept.
+     *
+     * @param status Status of the import.
+     */
+    public void completeImport(IStatus status) {
+        synchronized (importLock) {
+            if (importCompletion.getCount() == 0) {
+                return;
+            }
+            importStatus = status;
+            importCompletion.countDown();
+        }
+    }
+
     /**
      * Reports a bound indexed property update to listeners that have been
      * registered to track updates of all properties or a property with the
@@ -267,6 +406,39 @@ public class PowerlinkRootNode {
         return returnNodeList;
     }
 
+    /**
+     * Estimates the memory used by the network, i.e. the XDD/XDC models and
+     * the object dictionaries of the nodes and the modules in the model and in
+     * the library. The estimate is derived from the size of the XDD/XDC files
+     * and the number of objects, and includes the node journal of the core.
+     *
+     * @return The estimated memory usage in bytes.
+     */
+    public long getEstimatedMemoryUsage() {
+        List<Node> nodeList;
+        synchronized (nodeCollection) {
+            nodeList = new ArrayList<>(nodeCollection.values());
+        }
+        long memoryUsage = 0;
+        for (Node node : nodeList) {
+            memoryUsage += estimateMemoryUsage(node.getObjectDictionary(),
+                    node.getAbsolutePathToXdc());
+            if (node.getInterface() != null) {
+                for (Module module : node.getInterface().getModuleCollection()
+                        .values()) {
+                    memoryUsage += estimateMemoryUsage(
+                            module.getObjectDictionary(),
+                            module.getAbsolutePathToXdc());
+                }
+            }
+        }
+        if (!nodeList.isEmpty()) {
+            memoryUsage += OpenConfiguratorCoreProvider
+                    .getJournalSize(nodeList.get(0).getNetworkId());
+        }
+        return memoryUsage;
+    }
+
     /**
      * @return List of interface available in the modular head node.
      */
@@ -394,7 +566,7 @@ public class PowerlinkRootNode {
 
     /**
      * Import the nodes available in the project XML file. Add the created node
-     * into the nodeCollection.
+     * into the nodeCollection. The import is marked as completed on return.
      *
      * @param projectFile The project file instance.
      * @param networkCfg The network configuration instance from the project XML
@@ -404,6 +576,40 @@ public class PowerlinkRootNode {
      */
     public Status importNodes(IFile projectFile,
             TNetworkConfiguration networkCfg, IProgressMonitor monitor) {
+        return importNodes(projectFile, networkCfg, monitor, false);
+    }
+
+    /**
+     * Import the nodes available in the project XML file. Add the created node
+     * into the nodeCollection. The import is marked as completed on return.
+     *
+     * @param projectFile The project file instance.
+     * @param networkCfg The network configuration instance from the project XML
+     *            file.
+     * @param monitor The monitor instance to display the current status.
+     * @param libraryLoaded True if the nodes and the modules are already
+     *            available in the library, e.g. loaded from the network
+     *            snapshot, and only the models have to be created.
+     * @return Status of the import nodes.
+     */
+    public Status importNodes(IFile projectFile,
+            TNetworkConfiguration networkCfg, IProgressMonitor monitor,
+            boolean libraryLoaded) {
+        Status status = new Status(IStatus.CANCEL,
+                org.epsg.openconfigurator.Activator.PLUGIN_ID,
+                IMPORT_CANCELLED_MESSAGE);
+        try {
+            status = importNodeConfigurations(projectFile, networkCfg, monitor,
+                    libraryLoaded);
+            return status;
+        } finally {
+            completeImport(status);
+        }
+    }
+
+    private Status importNodeConfigurations(IFile projectFile,
+            TNetworkConfiguration networkCfg, IProgressMonitor monitor,
+            boolean libraryLoaded) {
         Node processingNode = new Node();
         // ProcessingModule is used within the try block.
         Module processingModule = new Module();
@@ -430,7 +636,9 @@ public class PowerlinkRootNode {
                 Node newNode = new Node(this, projectFile, networkCfg, xdd);
                 processingNode = newNode;
 
-                Result res = OpenConfiguratorLibraryUtils.addNode(newNode);
+                Result res = libraryLoaded
+                        ? OpenConfiguratorCoreProvider.newResult()
+                        : OpenConfiguratorLibraryUtils.addNode(newNode);
                 if (res.IsSuccessful()) {
                     nodeCollection.put(newNode.getCnNodeIdValue(), newNode);
                 } else {
@@ -489,8 +697,10 @@ public class PowerlinkRootNode {
                     processingNode = newNode;
                     if (getProfileBody(
                             xdd) instanceof ProfileBodyDevicePowerlinkModularHead) {
-                        Result res = OpenConfiguratorLibraryUtils
-                                .addModularHeadNode(newNode);
+                        Result res = libraryLoaded
+                                ? OpenConfiguratorCoreProvider.newResult()
+                                : OpenConfiguratorLibraryUtils
+                                        .addModularHeadNode(newNode);
                         if (!res.IsSuccessful()) {
                             newNode.setError(OpenConfiguratorLibraryUtils
                                     .getErrorMessage(res));
@@ -505,8 +715,9 @@ public class PowerlinkRootNode {
                                     null);
                         }
                     } else {
-                        Result res = OpenConfiguratorLibraryUtils
-                                .addNode(newNode);
+                        Result res = libraryLoaded
+                                ? OpenConfiguratorCoreProvider.newResult()
+                                : OpenConfiguratorLibraryUtils.addNode(newNode);
                         if (!res.IsSuccessful()) {
                             newNode.setError(OpenConfiguratorLibraryUtils
                                     .getErrorMessage(res));
@@ -694,7 +905,8 @@ public class PowerlinkRootNode {
                             try {
 
                                 ISO15745ProfileContainer xdd = XddMarshaller
-                                        .unmarshallXDDFile(cnModuleXddFile);
+                                        .unmarshallModuleXDDFile(
+                                                cnModuleXddFile);
 
                                 Module newModule = new Module(this, projectFile,
                                         module, processingNode, xdd,
@@ -720,8 +932,10 @@ public class PowerlinkRootNode {
                                 }
                                 processingModule = newModule;
 
-                                Result res = OpenConfiguratorLibraryUtils
-                                        .addModule(newModule);
+                                Result res = libraryLoaded
+                                        ? OpenConfiguratorCoreProvider.newResult()
+                                        : OpenConfiguratorLibraryUtils
+                                                .addModule(newModule);
                                 if (!res.IsSuccessful()) {
                                     newModule.setError(
                                             OpenConfiguratorLibraryUtils
@@ -934,7 +1148,9 @@ public class PowerlinkRootNode {
                     Node newNode = new Node(this, projectFile, rmnNode, xdd);
                     processingNode = newNode;
 
-                    Result res = OpenConfiguratorLibraryUtils.addNode(newNode);
+                    Result res = libraryLoaded
+                            ? OpenConfiguratorCoreProvider.newResult()
+                            : OpenConfiguratorLibraryUtils.addNode(newNode);
                     if (!res.IsSuccessful()) {
                         System.err.println("RMN library addition failed..");
                         newNode.setError(OpenConfiguratorLibraryUtils
@@ -1031,6 +1247,14 @@ public class PowerlinkRootNode {
         return nodeIdAvailable;
     }
 
+    /**
+     * @return <code>true</code> if the import of the nodes has been completed,
+     *         <code>false</code> otherwise.
+     */
+    public boolean isImportCompleted() {
+        return importCompletion.getCount() == 0;
+    }
+
     /**
      * Check availability of XDD/XDC file for the node and persist the node
      * data.
@@ -1042,6 +1266,26 @@ public class PowerlinkRootNode {
      */
     public synchronized Result persistNodes(IProgressMonitor monitor)
             throws JDOMException, IOException {
+        return persistNodes(monitor, null, null);
+    }
+
+    /**
+     * Check availability of XDD/XDC file for the node and persist the node
+     * data.
+     *
+     * @param monitor The monitor instance to display the current status.
+     * @param persistDurations Collects the time in nanoseconds spent to
+     *            persist each node, may be <code>null</code>.
+     * @param persistLibraryCalls Collects the number of library calls to
+     *            persist each node, may be <code>null</code>.
+     * @return Result from the persist node data.
+     * @throws IOException Errors with XDC file modifications.
+     * @throws JDOMException Errors with time modifications.
+     */
+    public synchronized Result persistNodes(IProgressMonitor monitor,
+            Map<Node, Long> persistDurations,
+            Map<Node, Long> persistLibraryCalls)
+            throws JDOMException, IOException {
 
         final Iterator<Entry<Short, Node>> entries = nodeCollection.entrySet()
                 .iterator();
@@ -1070,6 +1314,9 @@ public class PowerlinkRootNode {
 
             monitor.subTask("Updating node:" + node.getNodeIDWithName() + " ->"
                     + node.getPathToXDC());
+            long persistStartTime = System.nanoTime();
+            long persistStartCalls = OpenConfiguratorCoreProvider
+                    .getCallCount(node.getNetworkId());
             try {
 
                 Result res = OpenConfiguratorProjectUtils.persistNodeData(node);
@@ -1096,6 +1343,15 @@ public class PowerlinkRootNode {
                                     node.getProject().getName());
                 }
             }
+            if (persistDurations != null) {
+                persistDurations.put(node,
+                        Long.valueOf(System.nanoTime() - persistStartTime));
+            }
+            if (persistLibraryCalls != null) {
+                persistLibraryCalls.put(node,
+                        Long.valueOf(OpenConfiguratorCoreProvider.getCallsSince(
+                                node.getNetworkId(), persistStartCalls)));
+            }
 
             monitor.worked(1);
         }
@@ -1103,9 +1359,10 @@ public class PowerlinkRootNode {
         Node mnNode = getMN();
         // Updates LossOfSoc tolerance value during build from library.
         long[] lossOfSocToleranceValue = new long[1];
-        Result res = OpenConfiguratorCore.GetInstance().GetLossOfSocTolerance(
-                mnNode.getNetworkId(), IPowerlinkConstants.MN_DEFAULT_NODE_ID,
-                lossOfSocToleranceValue);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .GetLossOfSocTolerance(mnNode.getNetworkId(),
+                        IPowerlinkConstants.MN_DEFAULT_NODE_ID,
+                        lossOfSocToleranceValue);
         if (res.IsSuccessful()) {
             mnNode.setLossOfSocTolerance(lossOfSocToleranceValue[0]);
         } else {
@@ -1116,7 +1373,7 @@ public class PowerlinkRootNode {
         // Updates generator attributes in project file.
         OpenConfiguratorProjectUtils.updateGeneratorInfo(getMN());
 
-        return new Result();
+        return OpenConfiguratorCoreProvider.newResult();
     }
 
     /**
@@ -1193,12 +1450,14 @@ public class PowerlinkRootNode {
                 File xmlFile = new File(projectXmlLocation);
 
                 try {
-                    org.jdom2.Document document = JDomUtil
-                            .getXmlDocument(xmlFile);
-                    ProjectJDomOperation.deleteModule(document, module,
-                            finalModuleCheck);
+                    synchronized (JDomUtil.getFileLock(xmlFile)) {
+                        org.jdom2.Document document = JDomUtil
+                                .getXmlDocument(xmlFile);
+                        ProjectJDomOperation.deleteModule(document, module,
+                                finalModuleCheck);
 
-                    JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+                        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+                    }
 
                     // Updates generator attributes in project file.
                     OpenConfiguratorProjectUtils
@@ -1257,6 +1516,88 @@ public class PowerlinkRootNode {
 
     }
 
+    /**
+     * Deletes the XDC file of the node and of its modules from the
+     * deviceConfiguration directory.
+     *
+     * @param node The node to be removed.
+     * @throws IOException Errors with XDC file deletion.
+     */
+    private static void deleteConfigurationFiles(Node node)
+            throws IOException {
+        if (node.isModularheadNode()) {
+
+            Collection<Module> moduleList = node.getInterface()
+                    .getModuleCollection().values();
+            if (moduleList != null) {
+                for (Module module : moduleList) {
+                    Files.delete(Paths.get(module.getAbsolutePathToXdc()));
+                }
+                String nodeName = StringUtils.EMPTY;
+                java.nio.file.Path nodeImportFile = new File(
+                        node.getPathToXDC()).toPath();
+                if (nodeImportFile != null) {
+                    if ((nodeImportFile.getFileName() != null)) {
+                        nodeName = FilenameUtils.removeExtension(String
+                                .valueOf(nodeImportFile.getFileName()));
+                    }
+                }
+                System.out.println("The path to be deleted.."
+                        + node.getAbsolutePathToXdc(nodeName));
+
+                FileUtils.deleteDirectory(
+                        new File(node.getAbsolutePathToXdc(nodeName)));
+                Files.delete(Paths.get(node.getAbsolutePathToXdc()));
+            }
+        } else {
+
+            Files.delete(Paths.get(node.getAbsolutePathToXdc()));
+        }
+    }
+
+    /**
+     * Removes the node from the node collection and from the openCONFIGURATOR
+     * model.
+     *
+     * @param node The node to be removed.
+     */
+    private void removeNodeModel(Node node) {
+        Node mnNode = getMN();
+
+        // Remove from the viewer node collection.
+        Object nodeObjectModel = node.getNodeModel();
+        if (nodeObjectModel instanceof TRMN) {
+            TRMN rMN = (TRMN) nodeObjectModel;
+            short nodeId = Short.parseShort(rMN.getNodeID());
+            nodeCollection.remove(nodeId);
+        } else if (nodeObjectModel instanceof TCN) {
+            TCN cnNode = (TCN) nodeObjectModel;
+            short nodeId = Short.parseShort(cnNode.getNodeID());
+            nodeCollection.remove(nodeId);
+        } else {
+            System.err.println("Un-supported node" + nodeObjectModel);
+        }
+
+        // Remove from the openconfigurator model.
+        if (mnNode.getNodeModel() instanceof TNetworkConfiguration) {
+            TNetworkConfiguration net = (TNetworkConfiguration) mnNode
+                    .getNodeModel();
+            if (nodeObjectModel instanceof TRMN) {
+                List<TRMN> rmn = net.getNodeCollection().getRMN();
+                rmn.remove(nodeObjectModel);
+            } else if (nodeObjectModel instanceof TCN) {
+                List<TCN> cn = net.getNodeCollection().getCN();
+                cn.remove(nodeObjectModel);
+            } else {
+                System.err.println("Remove from openCONF model failed. Node ID:"
+                        + node.getCnNodeIdValue() + " modelType:"
+                        + nodeObjectModel);
+            }
+        } else {
+            System.err.println("Node model has been changed");
+        }
+    }
+
     /**
      * Removes the node from the project.
      *
@@ -1284,8 +1625,6 @@ public class PowerlinkRootNode {
                     throws CoreException, InvocationTargetException,
                     InterruptedException {
 
-                Node mnNode = getMN();
-
                 if (!node.hasError()) {
                     Result libResult = OpenConfiguratorLibraryUtils
                             .removeNode(node);
@@ -1296,39 +1635,7 @@ public class PowerlinkRootNode {
                     }
                 }
 
-                // Remove from the viewer node collection.
-                Object nodeObjectModel = node.getNodeModel();
-                if (nodeObjectModel instanceof TRMN) {
-                    TRMN rMN = (TRMN) nodeObjectModel;
-                    short nodeId = Short.parseShort(rMN.getNodeID());
-                    nodeCollection.remove(nodeId);
-                } else if (nodeObjectModel instanceof TCN) {
-                    TCN cnNode = (TCN) nodeObjectModel;
-                    short nodeId = Short.parseShort(cnNode.getNodeID());
-                    nodeCollection.remove(nodeId);
-                } else {
-                    System.err.println("Un-supported node" + nodeObjectModel);
-                }
-
-                // Remove from the openconfigurator model.
-                if (mnNode.getNodeModel() instanceof TNetworkConfiguration) {
-                    TNetworkConfiguration net = (TNetworkConfiguration) mnNode
-                            .getNodeModel();
-                    if (nodeObjectModel instanceof TRMN) {
-                        List<TRMN> rmn = net.getNodeCollection().getRMN();
-                        rmn.remove(nodeObjectModel);
-                    } else if (nodeObjectModel instanceof TCN) {
-                        List<TCN> cn = net.getNodeCollection().getCN();
-                        cn.remove(nodeObjectModel);
-                    } else {
-                        System.err.println(
-                                "Remove from openCONF model failed. Node ID:"
-                                        + node.getCnNodeIdValue()
-                                        + " modelType:" + nodeObjectModel);
-                    }
-                } else {
-                    System.err.println("Node model has been changed");
-                }
+                removeNodeModel(node);
 
                 // Remove from the openconfigurator project xml.
                 String projectXmlLocation = node.getProjectXml().getLocation()
@@ -1336,48 +1643,20 @@ public class PowerlinkRootNode {
                 File xmlFile = new File(projectXmlLocation);
 
                 try {
-                    org.jdom2.Document document = JDomUtil
-                            .getXmlDocument(xmlFile);
-                    ProjectJDomOperation.deleteNode(document, node);
+                    synchronized (JDomUtil.getFileLock(xmlFile)) {
+                        org.jdom2.Document document = JDomUtil
+                                .getXmlDocument(xmlFile);
+                        ProjectJDomOperation.deleteNode(document, node);
 
-                    JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+                        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+                    }
 
                     // Updates generator attributes in project file.
                     OpenConfiguratorProjectUtils.updateGeneratorInfo(node);
 
                     // Delete the XDC file from the deviceConfiguration
                     // directory.
-                    if (node.isModularheadNode()) {
-
-                        Collection<Module> moduleList = node.getInterface()
-                                .getModuleCollection().values();
-                        if (moduleList != null) {
-                            for (Module module : moduleList) {
-                                Files.delete(Paths
-                                        .get(module.getAbsolutePathToXdc()));
-                            }
-                            String nodeName = StringUtils.EMPTY;
-                            java.nio.file.Path nodeImportFile = new File(
-                                    node.getPathToXDC()).toPath();
-                            if (nodeImportFile != null) {
-                                if ((nodeImportFile.getFileName() != null)) {
-                                    nodeName = FilenameUtils.removeExtension(
-                                            String.valueOf(nodeImportFile
-                                                    .getFileName()));
-                                }
-                            }
-                            System.out.println("The path to be deleted.."
-                                    + node.getAbsolutePathToXdc(nodeName));
-
-                            FileUtils.deleteDirectory(new File(
-                                    node.getAbsolutePathToXdc(nodeName)));
-                            Files.delete(
-                                    Paths.get(node.getAbsolutePathToXdc()));
-                        }
-                    } else {
-
-                        Files.delete(Paths.get(node.getAbsolutePathToXdc()));
-                    }
+                    deleteConfigurationFiles(node);
 
                 } catch (JDOMException | IOException ex) {
                     // TODO Auto-generated catch block
@@ -1435,6 +1714,172 @@ public class PowerlinkRootNode {
         nodePropertyChangeListeners.remove(listener);
     }
 
+    /**
+     * Removes the nodes from the project. The nodes are removed from the
+     * library in one pass, the project file is updated once and the XDC files
+     * are deleted in one workspace operation. If the library fails to remove
+     * a node, only the nodes removed so far are removed from the project and
+     * the error is reported in the console and in the status of the job.
+     *
+     * @param nodes The nodes to be removed.
+     * @return <code>True</code> if successful and <code>False</code> if a node
+     *         cannot be removed from the network.
+     * @throws IOException Errors with XDC file modifications.
+     * @throws JDOMException Errors with time modifications.
+     */
+    public synchronized boolean removeNodes(final List<Node> nodes)
+            throws JDOMException, IOException {
+        if (nodes.isEmpty()) {
+            return true;
+        }
+
+        Set<Node> nodesToRemove = new HashSet<>();
+        for (Node node : nodes) {
+            if (node == null) {
+                return false;
+            }
+            Object nodeObjectModel = node.getNodeModel();
+            if (!(nodeObjectModel instanceof TCN)
+                    && !(nodeObjectModel instanceof TRMN)) {
+                // The MN cannot be removed.
+                return false;
+            }
+            if (nodeCollection.get(
+                    Short.valueOf(node.getCnNodeIdValue())) != node) {
+                return false;
+            }
+            if (!nodesToRemove.add(node)) {
+                return false;
+            }
+        }
+
+        final Node firstNode = nodes.get(0);
+        if (firstNode.getProject() == null) {
+            return false;
+        }
+
+        final WorkspaceModifyOperation wmo = new WorkspaceModifyOperation() {
+
+            @Override
+            protected void execute(IProgressMonitor monitor)
+                    throws CoreException, InvocationTargetException,
+                    InterruptedException {
+
+                // Only the nodes removed from the library are removed from
+                // the model and the project, so that they stay in sync if the
+                // removal of a node fails.
+                List<Node> removedNodes = new ArrayList<>();
+                Result libResult = OpenConfiguratorLibraryUtils
+                        .removeNodes(nodes, removedNodes);
+                if (!removedNodes.isEmpty()) {
+                    removeNodesFromProject(removedNodes);
+                }
+
+                if (!libResult.IsSuccessful()) {
+                    OpenConfiguratorMessageConsole.getInstance()
+                            .printLibraryErrorMessage(libResult);
+                    IStatus errorStatus = new Status(IStatus.ERROR,
+                            Activator.PLUGIN_ID, IStatus.OK,
+                            OpenConfiguratorLibraryUtils
+                                    .getErrorMessage(libResult),
+                            null);
+                    throw new CoreException(errorStatus);
+                }
+            }
+
+            /**
+             * Removes the nodes from the model, the project file and the
+             * configuration directory.
+             */
+            private void removeNodesFromProject(List<Node> removedNodes)
+                    throws CoreException {
+                for (Node node : removedNodes) {
+                    removeNodeModel(node);
+                }
+
+                // Remove from the openconfigurator project xml.
+                Node projectNode = removedNodes.get(0);
+                String projectXmlLocation = projectNode.getProjectXml()
+                        .getLocation().toString();
+                File xmlFile = new File(projectXmlLocation);
+
+                try {
+                    synchronized (JDomUtil.getFileLock(xmlFile)) {
+                        org.jdom2.Document document = JDomUtil
+                                .getXmlDocument(xmlFile);
+                        for (Node node : removedNodes) {
+                            ProjectJDomOperation.deleteNode(document, node);
+                        }
+
+                        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+                    }
+
+                    // Updates generator attributes in project file.
+                    OpenConfiguratorProjectUtils
+                            .updateGeneratorInfo(projectNode);
+
+                    // Delete the XDC files from the deviceConfiguration
+                    // directory.
+                    for (Node node : removedNodes) {
+                        deleteConfigurationFiles(node);
+                    }
+                } catch (JDOMException | IOException ex) {
+                    ex.printStackTrace();
+                    IStatus errorStatus = new Status(IStatus.ERROR,
+                            Activator.PLUGIN_ID, IStatus.OK,
+                            "Error ocurred while delete the nodes", ex);
+                    throw new CoreException(errorStatus);
+                }
+            }
+        };
+
+        WorkspaceJob job = new WorkspaceJob("Delete Nodes") {
+
+            @Override
+            public IStatus runInWorkspace(IProgressMonitor monitor)
+                    throws CoreException {
+                try {
+                    wmo.run(monitor);
+                } catch (InvocationTargetException e) {
+                    if (e.getTargetException() instanceof CoreException) {
+                        throw (CoreException) e.getTargetException();
+                    }
+                    e.printStackTrace();
+                    Status errStatus = new Status(IStatus.ERROR,
+                            Activator.PLUGIN_ID, e.getMessage(),
+                            e.getTargetException());
+                    throw new CoreException(errStatus);
+                } catch (InterruptedException ex) {
+                    ex.printStackTrace();
+                } finally {
+                    // Some of the nodes are removed also if a node fails.
+                    fireNodePropertyChanged(
+                            new NodePropertyChangeEvent(new Object()));
+                }
+
+                return Status.OK_STATUS;
+            }
+        };
+
+        job.setUser(true);
+        job.schedule();
+
+        return true;
+    }
+
+    /**
+     * Prepares the root node for the next import of the nodes, once the
+     * released network is imported again.
+     */
+    public void resetImport() {
+        synchronized (importLock) {
+            if (importCompletion.getCount() == 0) {
+                importStatus = null;
+                importCompletion = new CountDownLatch(1);
+            }
+        }
+    }
+
     /**
      * Set the modified node Id
      *
@@ -1448,6 +1893,98 @@ public class PowerlinkRootNode {
     public void setNodeId(final short oldNodeId, final short newNodeId)
             throws IOException, JDOMException, InterruptedException,
             InvocationTargetException {
+        if (!nodeCollection.containsKey(Short.valueOf(oldNodeId))) {
+            System.err.println(
+                    "Node id not found in the network. ID:" + oldNodeId);
+            return;
+        }
+        setNodeIds(Collections.singletonMap(Short.valueOf(oldNodeId),
+                Short.valueOf(newNodeId)));
+    }
+
+    /**
+     * Changes the node IDs of several nodes. The whole change set is
+     * validated before a node is modified. The node IDs are changed in the
+     * library in one pass, the XDC files are renamed in one workspace
+     * operation and the project file is updated once. The nodes of the change
+     * set may exchange their node IDs. If the files or the project file cannot
+     * be updated, the node IDs are reverted in the library, the files are
+     * moved back and the model is left unchanged.
+     *
+     * @param nodeIds The new node IDs by the current node IDs.
+     * @return <code>True</code> if successful and <code>False</code> if the
+     *         library cannot change the node IDs.
+     * @throws IllegalArgumentException If a node is not available, the new
+     *             node ID is invalid for the node or used by another node.
+     * @throws InterruptedException Errors with interrupt in the thread.
+     * @throws InvocationTargetException Errors with the file modifications.
+     */
+    public synchronized boolean setNodeIds(final Map<Short, Short> nodeIds)
+            throws InterruptedException, InvocationTargetException {
+        final Map<Node, Short> newNodeIds = new LinkedHashMap<>();
+        Map<Short, Short> changes = new LinkedHashMap<>();
+        Set<Short> newNodeIdSet = new HashSet<>();
+        for (Map.Entry<Short, Short> entry : nodeIds.entrySet()) {
+            Short oldNodeId = entry.getKey();
+            Short newNodeId = entry.getValue();
+            Node node = nodeCollection.get(oldNodeId);
+            if (node == null) {
+                throw new IllegalArgumentException(
+                        "Node id not found in the network. ID:" + oldNodeId);
+            }
+
+            short minNodeId;
+            short maxNodeId;
+            if (node.getNodeModel() instanceof TCN) {
+                minNodeId = IPowerlinkConstants.CN_MIN_NODE_ID;
+                maxNodeId = IPowerlinkConstants.CN_MAX_NODE_ID;
+            } else if (node.getNodeModel() instanceof TRMN) {
+                minNodeId = IPowerlinkConstants.RMN_MIN_NODE_ID;
+                maxNodeId = IPowerlinkConstants.RMN_MAX_NODE_ID;
+            } else {
+                throw new IllegalArgumentException("The node ID of the node '"
+                        + node.getNodeIDWithName() + "' cannot be changed.");
+            }
+            if ((newNodeId.shortValue() < minNodeId)
+                    || (newNodeId.shortValue() > maxNodeId)) {
+                throw new IllegalArgumentException("Invalid node ID "
+                        + newNodeId + " for the node '"
+                        + node.getNodeIDWithName() + "'.");
+            }
+            if (!newNodeIdSet.add(newNodeId)) {
+                throw new IllegalArgumentException(
+                        "The node ID " + newNodeId + " is assigned twice.");
+            }
+
+            if (!oldNodeId.equals(newNodeId)) {
+                changes.put(oldNodeId, newNodeId);
+                newNodeIds.put(node, newNodeId);
+            }
+        }
+
+        for (Short newNodeId : newNodeIdSet) {
+            if (nodeCollection.containsKey(newNodeId)
+                    && !nodeIds.containsKey(newNodeId)) {
+                throw new IllegalArgumentException("The node ID " + newNodeId
+                        + " is used by another node.");
+            }
+        }
+
+        if (newNodeIds.isEmpty()) {
+            return true;
+        }
+
+        final List<Map.Entry<Short, Short>> nodeIdChanges = getNodeIdChanges(
+                changes, nodeCollection.keySet());
+
+        final String networkId = getMN().getNetworkId();
+        Result res = OpenConfiguratorLibraryUtils.setNodeIds(networkId,
+                nodeIdChanges);
+        if (!res.IsSuccessful()) {
+            OpenConfiguratorMessageConsole.getInstance()
+                    .printLibraryErrorMessage(res);
+            return false;
+        }
 
         final WorkspaceModifyOperation wmo = new WorkspaceModifyOperation() {
 
@@ -1455,44 +1992,93 @@ public class PowerlinkRootNode {
             protected void execute(IProgressMonitor monitor)
                     throws CoreException, InvocationTargetException,
                     InterruptedException {
-
-                if (nodeCollection.containsKey(oldNodeId)) {
-                    Node oldNode = nodeCollection.get(oldNodeId);
-
-                    try {
-                        oldNode.setCnNodeId(newNodeId);
-
-                        Result res = OpenConfiguratorCore.GetInstance()
-                                .SetNodeId(oldNode.getNetworkId(), oldNodeId,
-                                        newNodeId);
-                        if (!res.IsSuccessful()) {
-                            System.err.println("Reset Node ID:"
-                                    + OpenConfiguratorLibraryUtils
-                                            .getErrorMessage(res));
+                java.nio.file.Path projectRootPath = getMN().getProject()
+                        .getLocation().toFile().toPath();
+                Map<Node, String> oldPathsToXdc = new LinkedHashMap<>();
+                // The applied file moves from the source to the target.
+                List<java.nio.file.Path[]> fileMoves = new ArrayList<>();
+                try {
+                    // The files are moved through a temporary file, so that
+                    // the nodes can exchange their file names.
+                    Map<Node, java.nio.file.Path> temporaryFiles = new LinkedHashMap<>();
+                    for (Map.Entry<Node, Short> entry : newNodeIds
+                            .entrySet()) {
+                        Node node = entry.getKey();
+                        String pathToXdc = OpenConfiguratorProjectUtils
+                                .getNodeConfigurationPath(node,
+                                        String.valueOf(entry.getValue()));
+                        if (pathToXdc == null) {
+                            continue;
                         }
+                        java.nio.file.Path temporaryFile = projectRootPath
+                                .resolve(pathToXdc + ".tmp");
+                        moveFile(fileMoves,
+                                projectRootPath.resolve(node.getPathToXDC()),
+                                temporaryFile);
+                        temporaryFiles.put(node, temporaryFile);
+                        oldPathsToXdc.put(node, node.getPathToXDC());
+                        node.setPathToXDC(pathToXdc);
+                    }
+                    for (Map.Entry<Node, java.nio.file.Path> entry : temporaryFiles
+                            .entrySet()) {
+                        moveFile(fileMoves, entry.getValue(), projectRootPath
+                                .resolve(entry.getKey().getPathToXDC()));
+                    }
 
-                        // Remove the old node ID from node collection.
-                        nodeCollection.remove(Short.valueOf(oldNodeId));
-                        // Add the modified node ID into node collection.
-                        nodeCollection.put(Short.valueOf(newNodeId), oldNode);
-
-                        fireNodePropertyChanged(
-                                new NodePropertyChangeEvent(oldNode));
-
-                    } catch (IOException | JDOMException ex) {
-                        ex.printStackTrace();
-                        IStatus errorStatus = new Status(IStatus.ERROR,
-                                Activator.PLUGIN_ID, IStatus.OK,
-                                "Error ocurred while setting the new node id",
-                                ex);
-                        throw new CoreException(errorStatus);
-                    } finally {
-                        monitor.done();
+                    String projectXmlLocation = getMN().getProjectXml()
+                            .getLocation().toString();
+                    File xmlFile = new File(projectXmlLocation);
+                    synchronized (JDomUtil.getFileLock(xmlFile)) {
+                        org.jdom2.Document document = JDomUtil
+                                .getXmlDocument(xmlFile);
+                        ProjectJDomOperation.updateNodeIds(document,
+                                newNodeIds);
+                        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
                     }
-                } else {
-                    System.err.println("Node id not found in the network. ID:"
-                            + oldNodeId);
+                } catch (IOException | JDOMException ex) {
+                    ex.printStackTrace();
+                    // Keep the files, the library and the model in sync with
+                    // the unchanged project file.
+                    revertFileMoves(fileMoves);
+                    for (Map.Entry<Node, String> entry : oldPathsToXdc
+                            .entrySet()) {
+                        entry.getKey().setPathToXDC(entry.getValue());
+                    }
+                    Result revertRes = OpenConfiguratorLibraryUtils.setNodeIds(
+                            networkId, getRevertedNodeIdChanges(nodeIdChanges));
+                    if (!revertRes.IsSuccessful()) {
+                        OpenConfiguratorMessageConsole.getInstance()
+                                .printLibraryErrorMessage(revertRes);
+                    }
+                    monitor.done();
+                    IStatus errorStatus = new Status(IStatus.ERROR,
+                            Activator.PLUGIN_ID, IStatus.OK,
+                            "Error ocurred while setting the new node ids",
+                            ex);
+                    throw new CoreException(errorStatus);
+                }
+
+                for (Node node : newNodeIds.keySet()) {
+                    nodeCollection
+                            .remove(Short.valueOf(node.getCnNodeIdValue()));
+                }
+                for (Map.Entry<Node, Short> entry : newNodeIds.entrySet()) {
+                    Node node = entry.getKey();
+                    node.updateNodeId(entry.getValue().shortValue());
+                    nodeCollection.put(entry.getValue(), node);
                 }
+
+                try {
+                    // Updates generator attributes in project file.
+                    OpenConfiguratorProjectUtils.updateGeneratorInfo(getMN());
+                } catch (IOException | JDOMException ex) {
+                    ex.printStackTrace();
+                } finally {
+                    monitor.done();
+                }
+
+                fireNodePropertyChanged(
+                        new NodePropertyChangeEvent(new Object()));
             }
         };
         wmo.run(new NullProgressMonitor());
@@ -1504,6 +2090,150 @@ public class PowerlinkRootNode {
             System.err.println("unable to refresh the resource due to "
                     + e.getCause().getMessage());
         }
+        return true;
+    }
+
+    /**
+     * Orders the node ID changes, so that a node ID is changed only if no
+     * other node uses the new node ID. If the nodes of the change set exchange
+     * their node IDs, a node is moved to an unused node ID first.
+     *
+     * @param changes The new node IDs by the current node IDs.
+     * @param usedNodeIds The node IDs used in the network.
+     * @return The ordered changes from the old to the new node ID.
+     * @throws IllegalArgumentException If no node ID is available to exchange
+     *             the node IDs.
+     */
+    private static List<Map.Entry<Short, Short>> getNodeIdChanges(
+            Map<Short, Short> changes, Set<Short> usedNodeIds) {
+        List<Map.Entry<Short, Short>> nodeIdChanges = new ArrayList<>();
+        Map<Short, Short> pendingChanges = new LinkedHashMap<>(changes);
+        Set<Short> occupiedNodeIds = new HashSet<>(usedNodeIds);
+        while (!pendingChanges.isEmpty()) {
+            boolean changed = false;
+            Iterator<Map.Entry<Short, Short>> iterator = pendingChanges
+                    .entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Short, Short> change = iterator.next();
+                if (!occupiedNodeIds.contains(change.getValue())) {
+                    nodeIdChanges.add(new AbstractMap.SimpleImmutableEntry<>(
+                            change.getKey(), change.getValue()));
+                    occupiedNodeIds.remove(change.getKey());
+                    occupiedNodeIds.add(change.getValue());
+                    iterator.remove();
+                    changed = true;
+                }
+            }
+
+            if (!changed) {
+                // The remaining nodes exchange their node IDs. The node is
+                // moved to an unused node ID in the range of its new node ID,
+                // since the CN and the RMN node ID ranges are disjoint.
+                Map.Entry<Short, Short> change = pendingChanges.entrySet()
+                        .iterator().next();
+                short minNodeId = IPowerlinkConstants.CN_MIN_NODE_ID;
+                short maxNodeId = IPowerlinkConstants.CN_MAX_NODE_ID;
+                if (change.getValue()
+                        .shortValue() >= IPowerlinkConstants.RMN_MIN_NODE_ID) {
+                    minNodeId = IPowerlinkConstants.RMN_MIN_NODE_ID;
+                    maxNodeId = IPowerlinkConstants.RMN_MAX_NODE_ID;
+                }
+                Short unusedNodeId = null;
+                short nodeId = maxNodeId;
+                while (nodeId >= minNodeId) {
+                    if (!occupiedNodeIds.contains(Short.valueOf(nodeId))) {
+                        unusedNodeId = Short.valueOf(nodeId);
+                        break;
+                    }
+                    nodeId--;
+                }
+                if (unusedNodeId == null) {
+                    throw new IllegalArgumentException(
+                            "No unused node ID available to exchange the node IDs.");
+                }
+
+                nodeIdChanges.add(new AbstractMap.SimpleImmutableEntry<>(
+                        change.getKey(), unusedNodeId));
+                occupiedNodeIds.remove(change.getKey());
+                occupiedNodeIds.add(unusedNodeId);
+                pendingChanges.remove(change.getKey());
+                pendingChanges.put(unusedNodeId, change.getValue());
+            }
+        }
+        return nodeIdChanges;
+    }
 
+    /**
+     * Returns the node ID changes which revert the given changes. The changes
+     * are inverted and reversed in order.
+     *
+     * @param nodeIdChanges The ordered changes from the old to the new node
+     *            ID.
+     * @return The ordered changes from the new to the old node ID.
+     */
+    private static List<Map.Entry<Short, Short>> getRevertedNodeIdChanges(
+            List<Map.Entry<Short, Short>> nodeIdChanges) {
+        List<Map.Entry<Short, Short>> revertedChanges = new ArrayList<>();
+        for (int i = nodeIdChanges.size() - 1; i >= 0; i--) {
+            Map.Entry<Short, Short> change = nodeIdChanges.get(i);
+            revertedChanges.add(new AbstractMap.SimpleImmutableEntry<>(
+                    change.getValue(), change.getKey()));
+        }
+        return revertedChanges;
+    }
+
+    /**
+     * Moves the file and records the move, so that it can be reverted.
+     *
+     * @param fileMoves The applied file moves from the source to the target.
+     * @param source The file to be moved.
+     * @param target The new location of the file.
+     * @throws IOException Errors with the file move.
+     */
+    private static void moveFile(List<java.nio.file.Path[]> fileMoves,
+            java.nio.file.Path source, java.nio.file.Path target)
+            throws IOException {
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        fileMoves.add(new java.nio.file.Path[] { source, target });
+    }
+
+    /**
+     * Moves the files back to their sources in the reverse order of the moves.
+     *
+     * @param fileMoves The applied file moves from the source to the target.
+     */
+    private static void revertFileMoves(List<java.nio.file.Path[]> fileMoves) {
+        for (int i = fileMoves.size() - 1; i >= 0; i--) {
+            java.nio.file.Path[] fileMove = fileMoves.get(i);
+            try {
+                Files.move(fileMove[1], fileMove[0],
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                System.err.println("Unable to move the file " + fileMove[1]
+                        + " back to " + fileMove[0]);
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Waits in the calling thread until the import of the nodes has been
+     * completed. Must not be called from the UI thread.
+     *
+     * @param monitor The monitor instance to cancel the wait.
+     * @return Status of the import, or the cancel status if the wait has been
+     *         cancelled.
+     * @throws InterruptedException If the thread has been interrupted.
+     */
+    public IStatus waitForImport(IProgressMonitor monitor)
+            throws InterruptedException {
+        CountDownLatch completion = importCompletion;
+        while (!completion.await(IMPORT_WAIT_INTERVAL,
+                TimeUnit.MILLISECONDS)) {
+            if (monitor.isCanceled()) {
+                return Status.CANCEL_STATUS;
+            }
+        }
+        return importStatus;
     }
 }
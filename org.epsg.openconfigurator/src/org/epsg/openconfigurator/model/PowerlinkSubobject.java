@@ -38,7 +38,7 @@ import javax.xml.bind.DatatypeConverter;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.resources.IProject;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
@@ -585,6 +585,15 @@ public class PowerlinkSubobject extends AbstractPowerlinkObject
         }
     }
 
+    /**
+     * Takes the actual value of the sub object of another node.
+     *
+     * Note: This does not update the XML file.
+     */
+    void copyActualValue(PowerlinkSubobject source) {
+        actualValue = source.actualValue;
+    }
+
     /**
      * Deletes the actual value of given sub object of the node.
      *
@@ -1098,7 +1107,7 @@ public class PowerlinkSubobject extends AbstractPowerlinkObject
      */
     public long getSize() {
         long size[] = new long[2];
-        Result res = OpenConfiguratorCore.GetInstance().GetObjectSize(
+        Result res = OpenConfiguratorCoreProvider.getCore().GetObjectSize(
                 getNetworkId(), getCNNodeId(), object.getId(), size);
         if (!res.IsSuccessful()) {
             System.err.println("Error getting the Size "
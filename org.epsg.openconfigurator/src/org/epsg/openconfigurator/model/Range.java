@@ -31,6 +31,7 @@
 
 package org.epsg.openconfigurator.model;
 
+import org.apache.commons.lang3.StringUtils;
 import org.epsg.openconfigurator.xmlbinding.xdd.TRange;
 
 /**
@@ -53,8 +54,14 @@ public class Range {
      */
     public Range(TRange range) {
         this.range = range;
-        maxValue = range.getMaxValue().getValue();
-        minValue = range.getMinValue().getValue();
+        maxValue = StringUtils.EMPTY;
+        minValue = StringUtils.EMPTY;
+        if (range.getMaxValue() != null) {
+            maxValue = range.getMaxValue().getValue();
+        }
+        if (range.getMinValue() != null) {
+            minValue = range.getMinValue().getValue();
+        }
     }
 
     /**
@@ -47,11 +47,29 @@ public interface IOpenConfiguratorResource {
             + org.epsg.openconfigurator.Activator.PLUGIN_ID + "/"
             + org.epsg.openconfigurator.Activator.PLUGIN_ID + ".0.log";
 
+    /**
+     * Core call statistics dump file path in the workspace.
+     */
+    public static final String CORE_STATISTICS_FILE_PATH = "/.metadata/.plugins/" //$NON-NLS-1$
+            + org.epsg.openconfigurator.Activator.PLUGIN_ID
+            + "/core_statistics.txt"; //$NON-NLS-1$
+
+    /**
+     * Directory of the network snapshots in the workspace.
+     */
+    public static final String NETWORK_SNAPSHOT_DIRECTORY_PATH = "/.metadata/.plugins/" //$NON-NLS-1$
+            + org.epsg.openconfigurator.Activator.PLUGIN_ID + "/snapshots"; //$NON-NLS-1$
+
     /**
      * Logging configuration file for BOOST.Log.
      */
     public static final String BOOST_LOG_CONFIGURATION = "resources/boost_log_settings.ini"; //$NON-NLS-1$
 
+    /**
+     * Relative path of the Java wrapper of the openCONFIGURATOR library.
+     */
+    public static final String LIBRARY_WRAPPER = "os/org.epsg.openconfigurator.wrapper.jar"; //$NON-NLS-1$
+
     /**
      * openCONFIGURATOR project schema.
      */
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * @file   DisplayExecutor.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.util;
+
+import java.util.concurrent.Executor;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Executor which runs the tasks asynchronously in the UI thread. Used to
+ * apply the results of the core calls to the views.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class DisplayExecutor implements Executor {
+
+    private static final DisplayExecutor INSTANCE = new DisplayExecutor();
+
+    /**
+     * @return The executor of the UI thread.
+     */
+    public static DisplayExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private DisplayExecutor() {
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Display display = Display.getDefault();
+        if (!display.isDisposed()) {
+            display.asyncExec(task);
+        }
+    }
+}
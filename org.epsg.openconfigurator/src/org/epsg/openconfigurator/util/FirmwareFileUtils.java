@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * @file   FirmwareFileUtils.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+package org.epsg.openconfigurator.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class to synchronize the firmware files into the project output
+ * based on the content of the files.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class FirmwareFileUtils {
+
+    /**
+     * Content hash of a file region along with the file state it has been
+     * computed for.
+     */
+    private static final class ContentHash {
+        private final long size;
+        private final long lastModified;
+        private final long offset;
+        private final byte[] digest;
+
+        ContentHash(long size, long lastModified, long offset, byte[] digest) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.offset = offset;
+            this.digest = digest;
+        }
+
+        boolean isValid(long fileSize, long fileLastModified,
+                long regionOffset) {
+            return (size == fileSize) && (lastModified == fileLastModified)
+                    && (offset == regionOffset);
+        }
+    }
+
+    private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * End of the XML header in the firmware files.
+     */
+    private static final byte XML_HEADER_END = '>';
+
+    /**
+     * Content hashes of the firmware files with respect to their absolute
+     * path.
+     */
+    private static final Map<Path, ContentHash> hashCache = new ConcurrentHashMap<>();
+
+    /**
+     * Removes the cached content hashes of the files within the given
+     * directory.
+     *
+     * @param directory The directory, e.g. the location of a project.
+     */
+    public static void clearContentHashes(Path directory) {
+        Path absoluteDirectory = directory.toAbsolutePath();
+        for (Path file : hashCache.keySet()) {
+            if (file.startsWith(absoluteDirectory)) {
+                hashCache.remove(file);
+            }
+        }
+    }
+
+    /**
+     * Computes the content hash of the given file starting from the given
+     * offset. The hash is cached until the size or the modification time of
+     * the file changes.
+     *
+     * @param file The file.
+     * @param offset The offset of the content to be hashed.
+     * @return The content hash.
+     * @throws IOException Errors with reading the file.
+     */
+    public static byte[] getContentHash(Path file, long offset)
+            throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        long size = Files.size(absoluteFile);
+        long lastModified = Files.getLastModifiedTime(absoluteFile)
+                .toMillis();
+
+        ContentHash cachedHash = hashCache.get(absoluteFile);
+        if ((cachedHash != null)
+                && cachedHash.isValid(size, lastModified, offset)) {
+            return cachedHash.digest;
+        }
+
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(absoluteFile,
+                StandardOpenOption.READ)) {
+            channel.position(offset);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                messageDigest.update(buffer);
+                buffer.clear();
+            }
+        }
+
+        byte[] digest = messageDigest.digest();
+        hashCache.put(absoluteFile,
+                new ContentHash(size, lastModified, offset, digest));
+        return digest;
+    }
+
+    /**
+     * Finds the length of the XML header in the given firmware file. The
+     * header ends with the first '&gt;' character in the file. Only the header
+     * prefix of the file is read.
+     *
+     * @param firmwareFile The firmware file.
+     * @return The number of bytes up to and including the end of the header,
+     *         <code>0</code> if the file has no header.
+     * @throws IOException Errors with reading the file.
+     */
+    public static long getXmlHeaderLength(Path firmwareFile)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = 0;
+        try (FileChannel channel = FileChannel.open(firmwareFile,
+                StandardOpenOption.READ)) {
+            int bytesRead;
+            while ((bytesRead = channel.read(buffer)) != -1) {
+                buffer.flip();
+                for (int index = 0; index < bytesRead; index++) {
+                    if (buffer.get(index) == XML_HEADER_END) {
+                        return position + index + 1;
+                    }
+                }
+                position += bytesRead;
+                buffer.clear();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks whether the content of the target file equals the content of the
+     * source file starting from the given offset.
+     *
+     * @param source The source file.
+     * @param offset The offset of the content in the source file.
+     * @param target The target file.
+     * @return <code>True</code> if the content is identical,
+     *         <code>False</code> otherwise.
+     * @throws IOException Errors with reading the files.
+     */
+    public static boolean isContentIdentical(Path source, long offset,
+            Path target) throws IOException {
+        if (!Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+        if ((Files.size(source) - offset) != Files.size(target)) {
+            return false;
+        }
+        if ((offset == 0) && Files.isSameFile(source, target)) {
+            return true;
+        }
+        return Arrays.equals(getContentHash(source, offset),
+                getContentHash(target, 0));
+    }
+
+    /**
+     * Synchronizes the target file with the content of the source file
+     * starting from the given offset. The target is not modified if the
+     * content is identical. Complete files are hard linked if the file system
+     * supports it, otherwise the content is transferred between the file
+     * channels.
+     *
+     * @param source The source file.
+     * @param offset The offset of the content in the source file.
+     * @param target The target file.
+     * @return <code>True</code> if the target has been updated,
+     *         <code>False</code> if it was already up to date.
+     * @throws IOException Errors with reading or writing the files.
+     */
+    public static boolean syncFile(Path source, long offset, Path target)
+            throws IOException {
+        if (isContentIdentical(source, offset, target)) {
+            return false;
+        }
+
+        Files.deleteIfExists(target);
+        hashCache.remove(target.toAbsolutePath());
+
+        if (offset == 0) {
+            try {
+                Files.createLink(target, source);
+                return true;
+            } catch (UnsupportedOperationException | FileSystemException e) {
+                // Hard links are not available, copy the content instead.
+            }
+        }
+
+        transferFile(source, offset, target);
+        if (offset == 0) {
+            FileTime lastModified = Files.getLastModifiedTime(source);
+            Files.setLastModifiedTime(target, lastModified);
+        }
+        return true;
+    }
+
+    /**
+     * Transfers the content of the source file starting from the given offset
+     * into the target file.
+     *
+     * @param source The source file.
+     * @param offset The offset of the content in the source file.
+     * @param target The target file.
+     * @throws IOException Errors with reading or writing the files.
+     */
+    public static void transferFile(Path source, long offset, Path target)
+            throws IOException {
+        try (FileChannel sourceChannel = FileChannel.open(source,
+                StandardOpenOption.READ);
+                FileChannel targetChannel = FileChannel.open(target,
+                        StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = sourceChannel.size();
+            long position = offset;
+            while (position < size) {
+                position += sourceChannel.transferTo(position,
+                        size - position, targetChannel);
+            }
+        }
+    }
+
+    /**
+     * Writes the given content into the file only if the content differs
+     * from the existing content.
+     *
+     * @param file The file.
+     * @param content The file content.
+     * @return <code>True</code> if the file has been written,
+     *         <code>False</code> if it was already up to date.
+     * @throws IOException Errors with reading or writing the file.
+     */
+    public static boolean writeIfChanged(Path file, byte[] content)
+            throws IOException {
+        if (Files.exists(file, LinkOption.NOFOLLOW_LINKS)
+                && (Files.size(file) == content.length)
+                && Arrays.equals(Files.readAllBytes(file), content)) {
+            return false;
+        }
+        Files.write(file, content);
+        return true;
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private FirmwareFileUtils() {
+
+    }
+}
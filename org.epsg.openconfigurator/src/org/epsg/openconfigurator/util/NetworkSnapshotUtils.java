@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * @file   NetworkSnapshotUtils.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
+import org.epsg.openconfigurator.Activator;
+import org.epsg.openconfigurator.core.NetworkSnapshot;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
+import org.epsg.openconfigurator.resources.IOpenConfiguratorResource;
+import org.epsg.openconfigurator.xmlbinding.projectfile.InterfaceList;
+import org.epsg.openconfigurator.xmlbinding.projectfile.OpenCONFIGURATORProject;
+import org.epsg.openconfigurator.xmlbinding.projectfile.TCN;
+import org.epsg.openconfigurator.xmlbinding.projectfile.TNetworkConfiguration;
+import org.epsg.openconfigurator.xmlbinding.projectfile.TRMN;
+import org.osgi.framework.Bundle;
+
+/**
+ * Utility class to load and write the warm-start snapshots of the networks.
+ *
+ * The snapshot of a network is written after a successful import of the
+ * project and loaded into the library on the next import, if the project file
+ * and the XDC files of the nodes and the modules are unchanged. The project
+ * is imported from the files if the snapshot is missing or outdated.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class NetworkSnapshotUtils {
+
+    private static final String SNAPSHOT_FILE_EXTENSION = ".snapshot"; //$NON-NLS-1$
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    private static void addXdcFile(List<File> files, IFile projectFile,
+            String pathToXdc) throws UnsupportedEncodingException {
+        if (pathToXdc == null) {
+            return;
+        }
+        files.add(new File(projectFile.getProject().getLocation()
+                + File.separator + URLDecoder.decode(pathToXdc, "UTF-8"))); //$NON-NLS-1$
+    }
+
+    /**
+     * Adds the versions of the plug-in and of the configuration core to the
+     * fingerprint. The openCONFIGURATOR library does not report its version,
+     * hence the native core is identified by its wrapper library.
+     */
+    private static void addVersions(MessageDigest digest) throws IOException {
+        StringBuilder versions = new StringBuilder();
+        Bundle bundle = Platform.getBundle(Activator.PLUGIN_ID);
+        if (bundle != null) {
+            versions.append(bundle.getVersion());
+        }
+        versions.append('|');
+        if (OpenConfiguratorCoreProvider.isNativeCore()) {
+            versions.append(OpenConfiguratorCoreProvider.NATIVE_CORE);
+            URL wrapperUrl = (bundle == null) ? null
+                    : bundle.getEntry(
+                            IOpenConfiguratorResource.LIBRARY_WRAPPER);
+            if (wrapperUrl != null) {
+                File wrapper = new File(
+                        FileLocator.toFileURL(wrapperUrl).getPath());
+                versions.append('|').append(wrapper.length()).append('|')
+                        .append(wrapper.lastModified());
+            }
+        } else {
+            versions.append(OpenConfiguratorCoreProvider.IN_MEMORY_CORE);
+        }
+        versions.append('\n');
+        digest.update(versions.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Computes the fingerprint of the files imported into the library. The
+     * fingerprint covers the path, the size and the modification time of the
+     * project file and of the XDC files of all nodes and modules, the version
+     * of the plug-in and the version of the configuration core.
+     *
+     * @param projectFile The project file.
+     * @param projectModel The project model.
+     * @return The fingerprint of the files.
+     * @throws IOException Errors with decoding the paths of the XDC files.
+     */
+    public static String getFingerprint(IFile projectFile,
+            OpenCONFIGURATORProject projectModel) throws IOException {
+        List<File> files = new ArrayList<>();
+        files.add(projectFile.getLocation().toFile());
+
+        TNetworkConfiguration networkCfg = projectModel
+                .getNetworkConfiguration();
+        addXdcFile(files, projectFile,
+                networkCfg.getNodeCollection().getMN().getPathToXDC());
+        for (TCN cnNode : networkCfg.getNodeCollection().getCN()) {
+            addXdcFile(files, projectFile, cnNode.getPathToXDC());
+            if (cnNode.getInterfaceList() != null) {
+                for (InterfaceList.Interface intrfce : cnNode.getInterfaceList()
+                        .getInterface()) {
+                    for (InterfaceList.Interface.Module module : intrfce
+                            .getModule()) {
+                        addXdcFile(files, projectFile, module.getPathToXDC());
+                    }
+                }
+            }
+        }
+        for (TRMN rmnNode : networkCfg.getNodeCollection().getRMN()) {
+            addXdcFile(files, projectFile, rmnNode.getPathToXDC());
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        addVersions(digest);
+        for (File file : files) {
+            String entry = file.getAbsolutePath() + '|' + file.length() + '|'
+                    + file.lastModified() + '\n';
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        }
+        return DatatypeConverter.printHexBinary(digest.digest());
+    }
+
+    /**
+     * @return The path of the snapshot file of the network.
+     */
+    public static Path getSnapshotPath(String networkId) {
+        return Paths.get(
+                ResourcesPlugin.getWorkspace().getRoot().getLocation()
+                        .toString(),
+                IOpenConfiguratorResource.NETWORK_SNAPSHOT_DIRECTORY_PATH,
+                networkId + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    /**
+     * Loads the network from the snapshot into the library. The network must
+     * not exist in the library.
+     *
+     * @param projectFile The project file.
+     * @param projectModel The project model.
+     * @param networkId The network ID.
+     * @return <code>True</code> if the network is loaded from the snapshot,
+     *         <code>False</code> if the project has to be imported.
+     */
+    public static boolean loadSnapshot(IFile projectFile,
+            OpenCONFIGURATORProject projectModel, String networkId) {
+        Path snapshotFile = getSnapshotPath(networkId);
+        if (!snapshotFile.toFile().isFile()) {
+            return false;
+        }
+        try {
+            return NetworkSnapshot.load(OpenConfiguratorCoreProvider.getCore(),
+                    snapshotFile, networkId,
+                    getFingerprint(projectFile, projectModel));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Starts capturing the library calls of the network for the snapshot.
+     *
+     * @param networkId The network ID.
+     * @return The capture of the network.
+     */
+    public static NetworkSnapshot.Capture startCapture(String networkId) {
+        return NetworkSnapshot.startCapture(networkId);
+    }
+
+    /**
+     * Stops the capture and writes the snapshot of the network. The snapshot
+     * is not written if any captured library call has failed or if the
+     * capture is incomplete.
+     *
+     * @param capture The capture of the network.
+     * @param projectFile The project file.
+     * @param projectModel The project model.
+     * @param networkId The network ID.
+     */
+    public static void writeSnapshot(NetworkSnapshot.Capture capture,
+            IFile projectFile, OpenCONFIGURATORProject projectModel,
+            String networkId) {
+        capture.finish();
+        if (capture.getFailedCalls() > 0) {
+            System.err.println("Network snapshot of " + networkId //$NON-NLS-1$
+                    + " not written due to " + capture.getFailedCalls() //$NON-NLS-1$
+                    + " failed library calls."); //$NON-NLS-1$
+            return;
+        }
+        if (capture.isIncomplete()) {
+            return;
+        }
+        try {
+            capture.write(getSnapshotPath(networkId),
+                    getFingerprint(projectFile, projectModel));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private NetworkSnapshotUtils() {
+    }
+}
@@ -35,9 +35,11 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.AbstractMap;
+import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -45,8 +47,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.IOpenConfiguratorCore;
+import org.epsg.openconfigurator.core.ObjectDictionaryBatch;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.AccessType;
-import org.epsg.openconfigurator.lib.wrapper.AssignmentCollection;
 import org.epsg.openconfigurator.lib.wrapper.CNFeatureEnum;
 import org.epsg.openconfigurator.lib.wrapper.Direction;
 import org.epsg.openconfigurator.lib.wrapper.DynamicChannelAccessType;
@@ -54,27 +58,29 @@ import org.epsg.openconfigurator.lib.wrapper.ErrorCode;
 import org.epsg.openconfigurator.lib.wrapper.GeneralFeatureEnum;
 import org.epsg.openconfigurator.lib.wrapper.IEC_Datatype;
 import org.epsg.openconfigurator.lib.wrapper.MNFeatureEnum;
-import org.epsg.openconfigurator.lib.wrapper.MapIterator;
 import org.epsg.openconfigurator.lib.wrapper.ModuleAddressing;
 import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
-import org.epsg.openconfigurator.lib.wrapper.ObjectCollection;
 import org.epsg.openconfigurator.lib.wrapper.ObjectType;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
 import org.epsg.openconfigurator.lib.wrapper.PDOMapping;
 import org.epsg.openconfigurator.lib.wrapper.ParameterAccess;
 import org.epsg.openconfigurator.lib.wrapper.PlkDataType;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.lib.wrapper.SortMode;
 import org.epsg.openconfigurator.lib.wrapper.SortNumber;
-import org.epsg.openconfigurator.lib.wrapper.StringCollection;
+import org.epsg.openconfigurator.model.AllowedValues;
 import org.epsg.openconfigurator.model.HeadNodeInterface;
 import org.epsg.openconfigurator.model.Module;
 import org.epsg.openconfigurator.model.NetworkManagement;
 import org.epsg.openconfigurator.model.Node;
 import org.epsg.openconfigurator.model.Node.NodeType;
 import org.epsg.openconfigurator.model.ObjectDictionary;
+import org.epsg.openconfigurator.model.ObjectDictionaryEntry;
+import org.epsg.openconfigurator.model.ParameterDescriptor;
+import org.epsg.openconfigurator.model.ParameterReference;
+import org.epsg.openconfigurator.model.ParameterTemplateDescriptor;
 import org.epsg.openconfigurator.model.PdoChannel;
 import org.epsg.openconfigurator.model.PdoType;
+import org.epsg.openconfigurator.model.PlkOperationMode;
 import org.epsg.openconfigurator.model.PowerlinkObject;
 import org.epsg.openconfigurator.model.PowerlinkSubobject;
 import org.epsg.openconfigurator.resources.IOpenConfiguratorResource;
@@ -100,7 +106,6 @@ import org.epsg.openconfigurator.xmlbinding.xdd.ProfileBodyDevicePowerlinkModula
 import org.epsg.openconfigurator.xmlbinding.xdd.ProfileBodyDevicePowerlinkModularHead;
 import org.epsg.openconfigurator.xmlbinding.xdd.Range;
 import org.epsg.openconfigurator.xmlbinding.xdd.TAddressingAttribute;
-import org.epsg.openconfigurator.xmlbinding.xdd.TAllowedValues;
 import org.epsg.openconfigurator.xmlbinding.xdd.TApplicationLayers;
 import org.epsg.openconfigurator.xmlbinding.xdd.TApplicationLayersModularHead;
 import org.epsg.openconfigurator.xmlbinding.xdd.TApplicationProcess;
@@ -120,7 +125,6 @@ import org.epsg.openconfigurator.xmlbinding.xdd.TParameterGroupList;
 import org.epsg.openconfigurator.xmlbinding.xdd.TParameterList;
 import org.epsg.openconfigurator.xmlbinding.xdd.TParameterList.Parameter;
 import org.epsg.openconfigurator.xmlbinding.xdd.TParameterTemplate;
-import org.epsg.openconfigurator.xmlbinding.xdd.TRange;
 import org.epsg.openconfigurator.xmlbinding.xdd.TSortMode;
 import org.epsg.openconfigurator.xmlbinding.xdd.TSubrange;
 import org.epsg.openconfigurator.xmlbinding.xdd.TTemplateList;
@@ -136,11 +140,18 @@ import org.epsg.openconfigurator.xmlbinding.xdd.TVarDeclaration;
  */
 public class OpenConfiguratorLibraryUtils {
 
+    /**
+     * Number of objects and subobjects submitted to the library at once.
+     */
+    private static final int OBJECT_DICTIONARY_BATCH_SIZE = 256;
+
+    private static final String NODE_NOT_AVAILABLE_ERROR = "Node {0} is not available in the library.";
+
     private static Result addChildModuleParameterGroupReference(
             String networkId, short nodeId,
             TParameterGroup parentParameterGroup, Module module) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         String interfaceId = module.getInterfaceOfModule().getInterfaceUId();
         String moduleId = module.getChildID();
         long modulePosition = module.getPosition();
@@ -179,7 +190,8 @@ public class OpenConfiguratorLibraryUtils {
                 if (conditionalObjectModel != null) {
                     if (conditionalObjectModel instanceof TParameterList.Parameter) {
                         TParameterList.Parameter parameter = (TParameterList.Parameter) conditionalObjectModel;
-                        conditionalUniqueId = parameter.getUniqueID();
+                        conditionalUniqueId = ParameterDescriptor
+                                .getDescriptor(parameter).getUniqueId();
                     } else {
                         System.err.println(
                                 "ParameterGroup conditional unique id is not an instance of Parameter.! ");
@@ -228,9 +240,10 @@ public class OpenConfiguratorLibraryUtils {
                 if (paramRefUniqueIdRef instanceof Parameter) {
                     Parameter referencedParameter = (Parameter) paramRefUniqueIdRef;
 
-                    String referencedParamUId = referencedParameter
-                            .getUniqueID();
-                    String paramRefActualValue = paramRef.getActualValue();
+                    String referencedParamUId = ParameterDescriptor
+                            .getDescriptor(referencedParameter).getUniqueId();
+                    String paramRefActualValue = module.getObjectDictionary()
+                            .getParameterReferenceActualValue(paramRef);
 
                     int bitOffset = paramRef.getBitOffset().intValue();
 
@@ -286,9 +299,9 @@ public class OpenConfiguratorLibraryUtils {
     }
 
     private static Result addChildParameterGroupReference(String networkId,
-            short nodeId, TParameterGroup parentParameterGroup) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+            short nodeId, TParameterGroup parentParameterGroup, Node node) {
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         String interfaceId = StringUtils.EMPTY;
         String moduleId = StringUtils.EMPTY;
         long position = 0;
@@ -327,7 +340,8 @@ public class OpenConfiguratorLibraryUtils {
                 if (conditionalObjectModel != null) {
                     if (conditionalObjectModel instanceof TParameterList.Parameter) {
                         TParameterList.Parameter parameter = (TParameterList.Parameter) conditionalObjectModel;
-                        conditionalUniqueId = parameter.getUniqueID();
+                        conditionalUniqueId = ParameterDescriptor
+                                .getDescriptor(parameter).getUniqueId();
                     } else {
                         System.err.println(
                                 "ParameterGroup conditional unique id is not an instance of Parameter.! ");
@@ -363,7 +377,7 @@ public class OpenConfiguratorLibraryUtils {
                 }
 
                 libApiRes = addChildParameterGroupReference(networkId, nodeId,
-                        parameterGrp);
+                        parameterGrp, node);
                 if (!libApiRes.IsSuccessful()) {
                     System.err.println("Create parameter group WARN: "
                             + getErrorMessage(libApiRes));
@@ -374,9 +388,10 @@ public class OpenConfiguratorLibraryUtils {
                 if (paramRefUniqueIdRef instanceof Parameter) {
                     Parameter referencedParameter = (Parameter) paramRefUniqueIdRef;
 
-                    String referencedParamUId = referencedParameter
-                            .getUniqueID();
-                    String paramRefActualValue = paramRef.getActualValue();
+                    String referencedParamUId = ParameterDescriptor
+                            .getDescriptor(referencedParameter).getUniqueId();
+                    String paramRefActualValue = node.getObjectDictionary()
+                            .getParameterReferenceActualValue(paramRef);
 
                     int bitOffset = paramRef.getBitOffset().intValue();
 
@@ -441,8 +456,8 @@ public class OpenConfiguratorLibraryUtils {
      */
     private static Result addDataTypeList(final String networkId,
             final short nodeId, TDataTypeList dataTypeList) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
 
         if (dataTypeList == null) {
             return libApiRes;
@@ -581,8 +596,8 @@ public class OpenConfiguratorLibraryUtils {
 
     private static Result addDataTypeList(String networkId, short nodeId,
             TDataTypeList dataTypeList, Module module) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         String interfaceId = module.getInterfaceOfModule().getInterfaceUId();
         String moduleId = module.getChildID();
         long position = module.getPosition();
@@ -738,12 +753,12 @@ public class OpenConfiguratorLibraryUtils {
      */
     private static Result addDynamicChannels(String networkId, short nodeId,
             TApplicationLayers.DynamicChannels dynamicChannels) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         if (dynamicChannels == null) {
             return libApiRes;
         }
 
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
         List<TDynamicChannel> dynamicChannelsList = dynamicChannels
                 .getDynamicChannel();
         for (TDynamicChannel dynamicChannel : dynamicChannelsList) {
@@ -801,12 +816,12 @@ public class OpenConfiguratorLibraryUtils {
      */
     private static Result addDynamicChannels(String networkId, short nodeId,
             TApplicationLayersModularHead.DynamicChannels dynamicChannels) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         if (dynamicChannels == null) {
             return libApiRes;
         }
 
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
         List<TDynamicChannel> dynamicChannelsList = dynamicChannels
                 .getDynamicChannel();
         for (TDynamicChannel dynamicChannel : dynamicChannelsList) {
@@ -876,7 +891,7 @@ public class OpenConfiguratorLibraryUtils {
                 // Workaround:
                 // only set the LossOfSocTolerance if not default value
                 if (lossOfSocTolerance != IPowerlinkConstants.LOSS_OF_SOC_TOLERANCE_DEFAULT_VALUE) {
-                    libApiRes = OpenConfiguratorCore.GetInstance()
+                    libApiRes = OpenConfiguratorCoreProvider.getCore()
                             .SetLossOfSocTolerance(node.getNetworkId(),
                                     node.getCnNodeIdValue(),
                                     lossOfSocTolerance);
@@ -929,7 +944,7 @@ public class OpenConfiguratorLibraryUtils {
     private static Result addModuleObjectDictionary(Module module,
             ObjectDictionary objectDict) throws NullPointerException {
         Result libApiRes = null;
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
         Node node = module.getNode();
 
         List<PowerlinkObject> plkObjects = objectDict.getObjectsList();
@@ -1101,8 +1116,8 @@ public class OpenConfiguratorLibraryUtils {
     private static Result addModuleParameterGroup(String networkId,
             short nodeId, TParameterGroupList parameterGroupList,
             Module module) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         String interfaceId = module.getInterfaceOfModule().getInterfaceUId();
         String moduleId = module.getChildID();
         long modulePosition = Long.valueOf(module.getPosition());
@@ -1153,7 +1168,7 @@ public class OpenConfiguratorLibraryUtils {
      */
     private static Result addNetworkManagement(String networkId, short nodeId,
             NetworkManagement networkManagement) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         if (networkManagement == null) {
             return libApiRes;
         }
@@ -1176,11 +1191,11 @@ public class OpenConfiguratorLibraryUtils {
      */
     private static Result addNetworkManagementCnFeatures(String networkId,
             short nodeId, TCNFeatures cnFeatures) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         if (cnFeatures == null) {
             return libApiRes;
         }
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
 
         CNFeatureEnum[] cnFeaturesList = CNFeatureEnum.values();
         for (CNFeatureEnum cnFeature : cnFeaturesList) {
@@ -1233,11 +1248,11 @@ public class OpenConfiguratorLibraryUtils {
      */
     private static Result addNetworkManagementGeneralFeatures(String networkId,
             short nodeId, TGeneralFeatures generalFeatures) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         if (generalFeatures == null) {
             return libApiRes;
         }
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
         GeneralFeatureEnum[] generalFeaturesList = GeneralFeatureEnum.values();
         for (GeneralFeatureEnum generalFeature : generalFeaturesList) {
             String value = StringUtils.EMPTY;
@@ -1528,11 +1543,11 @@ public class OpenConfiguratorLibraryUtils {
      */
     private static Result addNetworkManagementMnFeatures(String networkId,
             short nodeId, TMNFeatures mnFeatures) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         if (mnFeatures == null) {
             return libApiRes;
         }
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
         MNFeatureEnum[] mnFeaturesList = MNFeatureEnum.values();
         for (MNFeatureEnum mnFeature : mnFeaturesList) {
             String value = "";
@@ -1643,7 +1658,7 @@ public class OpenConfiguratorLibraryUtils {
                 // Workaround:
                 // only set the LossOfSocTolerance if not default value
                 if (lossOfSocTolerance != IPowerlinkConstants.LOSS_OF_SOC_TOLERANCE_DEFAULT_VALUE) {
-                    libApiRes = OpenConfiguratorCore.GetInstance()
+                    libApiRes = OpenConfiguratorCoreProvider.getCore()
                             .SetLossOfSocTolerance(node.getNetworkId(),
                                     node.getCnNodeIdValue(),
                                     lossOfSocTolerance);
@@ -1679,7 +1694,7 @@ public class OpenConfiguratorLibraryUtils {
     public static Result addNodeAssignments(final Node node) {
         Result libApiRes = null;
         TAbstractNode abstractNode = null;
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
         if (node.getNodeModel() instanceof TNetworkConfiguration) {
             TNetworkConfiguration net = (TNetworkConfiguration) node
                     .getNodeModel();
@@ -1804,13 +1819,57 @@ public class OpenConfiguratorLibraryUtils {
         return libApiRes;
     }
 
+    /**
+     * Add the nodes into the library. The calls of all nodes are run as one
+     * task of the core thread. If a node cannot be added, the nodes added so
+     * far are removed from the library again.
+     *
+     * @param nodes The nodes to be added.
+     * @return Result instance from the library.
+     */
+    public static Result addNodes(final List<Node> nodes) {
+        Callable<Result> task = new Callable<Result>() {
+            @Override
+            public Result call() {
+                Result libApiRes = OpenConfiguratorCoreProvider.newResult();
+                List<Node> addedNodes = new ArrayList<>();
+                for (Node node : nodes) {
+                    addedNodes.add(node);
+                    if (node.isModularheadNode()) {
+                        libApiRes = addModularHeadNode(node);
+                    } else {
+                        libApiRes = addNode(node);
+                    }
+                    if (!libApiRes.IsSuccessful()) {
+                        for (Node addedNode : addedNodes) {
+                            Result res = removeNode(addedNode);
+                            if (!res.IsSuccessful() && (res
+                                    .GetErrorType() != ErrorCode.NODE_DOES_NOT_EXIST)) {
+                                System.err.println("Remove node WARN: "
+                                        + getErrorMessage(res));
+                            }
+                        }
+                        break;
+                    }
+                }
+                return libApiRes;
+            }
+        };
+        return callInCore(task);
+    }
+
     private static Result addObjectDictionary(Node node,
             ObjectDictionary objectDict) {
+        if (OpenConfiguratorCoreProvider.isBatchEnabled()) {
+            return addObjectDictionaryInBatches(node, objectDict);
+        }
+
         Result libApiRes = null;
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
 
-        List<PowerlinkObject> plkObjects = objectDict.getObjectsList();
-        for (PowerlinkObject object : plkObjects) {
+        for (int position = 0; position < objectDict
+                .getObjectCount(); position++) {
+            ObjectDictionaryEntry object = objectDict.getObjectEntry(position);
             ObjectType objectType = getObjectType(object.getObjectType());
             PDOMapping mapping = getPdoMapping(object.getPdoMappingObject());
 
@@ -1832,9 +1891,9 @@ public class OpenConfiguratorLibraryUtils {
                 }
 
                 libApiRes = core.CreateObject(node.getNetworkId(),
-                        node.getCnNodeIdValue(), object.getId(), objectType,
-                        object.getName(), dataType, accessType, mapping,
-                        object.getDefaultValue(), actualValue);
+                        node.getCnNodeIdValue(), object.getObjectId(),
+                        objectType, object.getName(), dataType, accessType,
+                        mapping, object.getDefaultValue(), actualValue);
 
                 if (libApiRes.IsSuccessful()) {
                     if ((!object.getLowLimit().isEmpty())
@@ -1844,7 +1903,7 @@ public class OpenConfiguratorLibraryUtils {
                                 + " Object high limit..."
                                 + object.getHighLimit());
                         libApiRes = core.SetObjectLimits(node.getNetworkId(),
-                                node.getCnNodeIdValue(), object.getId(),
+                                node.getCnNodeIdValue(), object.getObjectId(),
                                 object.getLowLimit(), object.getHighLimit());
                         if (!libApiRes.IsSuccessful()) {
                             object.setError(getErrorMessage(libApiRes));
@@ -1865,8 +1924,8 @@ public class OpenConfiguratorLibraryUtils {
                         .getUniqueIDRef() instanceof TParameterList.Parameter) {
                     Parameter parameter = (Parameter) object.getUniqueIDRef();
                     libApiRes = core.CreateParameterObject(node.getNetworkId(),
-                            node.getCnNodeIdValue(), object.getId(), objectType,
-                            object.getName(),
+                            node.getCnNodeIdValue(), object.getObjectId(),
+                            objectType, object.getName(),
                             getObjectDatatype(object.getDataType()),
                             getAccessType(object.getAccessType()), mapping,
                             parameter.getUniqueID(), object.getDefaultValue(),
@@ -1882,8 +1941,8 @@ public class OpenConfiguratorLibraryUtils {
                     TParameterGroup parameter = (TParameterGroup) object
                             .getUniqueIDRef();
                     libApiRes = core.CreateParameterObject(node.getNetworkId(),
-                            node.getCnNodeIdValue(), object.getId(), objectType,
-                            object.getName(),
+                            node.getCnNodeIdValue(), object.getObjectId(),
+                            objectType, object.getName(),
                             getObjectDatatype(object.getDataType()),
                             getAccessType(object.getAccessType()), mapping,
                             parameter.getUniqueID(), object.getDefaultValue(),
@@ -1904,8 +1963,8 @@ public class OpenConfiguratorLibraryUtils {
                         .getUniqueIDRef() instanceof TParameterList.Parameter) {
                     Parameter parameter = (Parameter) object.getUniqueIDRef();
                     libApiRes = core.CreateParameterObject(node.getNetworkId(),
-                            node.getCnNodeIdValue(), object.getId(), objectType,
-                            object.getName(), datatype,
+                            node.getCnNodeIdValue(), object.getObjectId(),
+                            objectType, object.getName(), datatype,
                             getAccessType(object.getAccessType()), mapping,
                             parameter.getUniqueID(), object.getDefaultValue(),
                             object.getActualValue());
@@ -1920,8 +1979,8 @@ public class OpenConfiguratorLibraryUtils {
                     TParameterGroup parameter = (TParameterGroup) object
                             .getUniqueIDRef();
                     libApiRes = core.CreateParameterObject(node.getNetworkId(),
-                            node.getCnNodeIdValue(), object.getId(), objectType,
-                            object.getName(), datatype,
+                            node.getCnNodeIdValue(), object.getObjectId(),
+                            objectType, object.getName(), datatype,
                             getAccessType(object.getAccessType()), mapping,
                             parameter.getUniqueID(), object.getDefaultValue(),
                             object.getActualValue());
@@ -1950,6 +2009,124 @@ public class OpenConfiguratorLibraryUtils {
         return libApiRes;
     }
 
+    /**
+     * Adds the object dictionary of the node into the library in batches of
+     * objects and subobjects, instead of a library call for each of them.
+     *
+     * @param node Instance of Node.
+     * @param objectDict The object dictionary of the node.
+     * @return The result of the first failed object or a successful result.
+     */
+    private static Result addObjectDictionaryInBatches(Node node,
+            ObjectDictionary objectDict) {
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
+        ObjectDictionaryBatch batch = new ObjectDictionaryBatch(
+                OBJECT_DICTIONARY_BATCH_SIZE);
+        List<ObjectDictionaryEntry> batchObjects = new ArrayList<>(
+                OBJECT_DICTIONARY_BATCH_SIZE);
+
+        for (int position = 0; position < objectDict
+                .getObjectCount(); position++) {
+            ObjectDictionaryEntry object = objectDict.getObjectEntry(position);
+            ObjectType objectType = getObjectType(object.getObjectType());
+            PDOMapping mapping = getPdoMapping(object.getPdoMappingObject());
+
+            if ((object.getObjectType() != 7) || ((object.getObjectType() == 7)
+                    && (object.getDataType() != null)
+                    && (object.getUniqueIDRef() == null))) {
+                // Normal objects with dataType and without uniqueIdRef.
+                AccessType accessType = getAccessType(object.getAccessType());
+                String actualValue = object.getActualValue();
+
+                // An workaround to avoid the library setting the actualValue
+                // for non writable objects.
+                if ((accessType == AccessType.CONST)
+                        || (accessType == AccessType.RO)) {
+                    actualValue = StringUtils.EMPTY;
+                }
+
+                batch.add(object.getObjectId(),
+                        ObjectDictionaryBatch.NO_SUB_OBJECT, objectType,
+                        object.getName(),
+                        getObjectDatatype(object.getDataType()), accessType,
+                        mapping, null, object.getDefaultValue(), actualValue,
+                        object.getLowLimit(), object.getHighLimit());
+                batchObjects.add(object);
+            } else {
+                String uniqueIdRef = getUniqueIdRef(object.getUniqueIDRef());
+                if (uniqueIdRef != null) {
+                    PlkDataType dataType = (object.getDataType() != null)
+                            ? getObjectDatatype(object.getDataType())
+                            : PlkDataType.UNDEFINED;
+                    batch.add(object.getObjectId(),
+                            ObjectDictionaryBatch.NO_SUB_OBJECT, objectType,
+                            object.getName(), dataType,
+                            getAccessType(object.getAccessType()), mapping,
+                            uniqueIdRef, object.getDefaultValue(),
+                            object.getActualValue(), null, null);
+                    batchObjects.add(object);
+                }
+            }
+
+            for (ObjectDictionaryEntry subObject : object.getSubObjects()) {
+                ObjectType subObjectType = getObjectType(
+                        subObject.getObjectType());
+                PDOMapping pdoMapping = getPdoMapping(
+                        subObject.getPdoMappingObject());
+                AccessType accessType = getAccessType(
+                        subObject.getAccessType());
+
+                if (subObject.getUniqueIDRef() == null) {
+                    String actualValue = subObject.getActualValue();
+                    if ((accessType == AccessType.CONST)
+                            || (accessType == AccessType.RO)) {
+                        actualValue = StringUtils.EMPTY;
+                    }
+
+                    batch.add(object.getObjectId(), subObject.getSubObjectId(),
+                            subObjectType, subObject.getName(),
+                            getObjectDatatype(subObject.getDataType()),
+                            accessType, pdoMapping, null,
+                            subObject.getDefaultValue(), actualValue,
+                            subObject.getLowLimit(), subObject.getHighLimit());
+                    batchObjects.add(subObject);
+                } else {
+                    String uniqueIdRef = getUniqueIdRef(
+                            subObject.getUniqueIDRef());
+                    if (uniqueIdRef != null) {
+                        PlkDataType dataType = (subObject.getDataType() != null)
+                                ? getObjectDatatype(subObject.getDataType())
+                                : PlkDataType.UNDEFINED;
+                        batch.add(object.getObjectId(),
+                                subObject.getSubObjectId(), subObjectType,
+                                subObject.getName(), dataType,
+                                accessType, pdoMapping, uniqueIdRef,
+                                subObject.getDefaultValue(),
+                                subObject.getActualValue(), null, null);
+                        batchObjects.add(subObject);
+                    }
+                }
+            }
+
+            if (batch.size() >= OBJECT_DICTIONARY_BATCH_SIZE) {
+                Result batchRes = submitObjectDictionaryBatch(node, batch,
+                        batchObjects);
+                if (libApiRes.IsSuccessful()) {
+                    libApiRes = batchRes;
+                }
+            }
+        }
+
+        if (batch.size() > 0) {
+            Result batchRes = submitObjectDictionaryBatch(node, batch,
+                    batchObjects);
+            if (libApiRes.IsSuccessful()) {
+                libApiRes = batchRes;
+            }
+        }
+        return libApiRes;
+    }
+
     /**
      * Add the configurations in openCONFIGURTOR project into the Network
      * available in the library.
@@ -1970,9 +2147,9 @@ public class OpenConfiguratorLibraryUtils {
     }
 
     private static Result addParameterGroup(String networkId, short nodeId,
-            TParameterGroupList parameterGroupElement) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+            TParameterGroupList parameterGroupElement, Node node) {
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         String interfaceID = StringUtils.EMPTY;
         String moduleID = StringUtils.EMPTY;
         long position = 0;
@@ -2000,7 +2177,7 @@ public class OpenConfiguratorLibraryUtils {
 
                 // Add child parameterGroup/parameterReferenceList...
                 libApiRes = addChildParameterGroupReference(networkId, nodeId,
-                        parameterGrp);
+                        parameterGrp, node);
                 if (!libApiRes.IsSuccessful()) {
                     System.err.println("Create parameter group WARN: "
                             + getErrorMessage(libApiRes));
@@ -2022,8 +2199,8 @@ public class OpenConfiguratorLibraryUtils {
     private static Result addParameterList(final String networkId,
             final short nodeId,
             List<TParameterList.Parameter> parameterListModel) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
 
         for (TParameterList.Parameter parameter : parameterListModel) {
             ParameterAccess access = getParameterAccess(parameter.getAccess());
@@ -2058,52 +2235,11 @@ public class OpenConfiguratorLibraryUtils {
                         continue;
                     }
 
-                    TAllowedValues allowedValuesModel = parameter
-                            .getAllowedValues();
-                    if (allowedValuesModel != null) {
-                        List<TValue> parameterAllowedValuesList = allowedValuesModel
-                                .getValue();
-                        // Create a string collection with allowed values list.
-                        StringCollection allowedValues = new StringCollection();
-                        for (TValue parameterAllowedValue : parameterAllowedValuesList) {
-
-                            allowedValues.add(parameterAllowedValue.getValue());
-                        }
-
-                        libApiRes = core.SetParameterAllowedValues(networkId,
-                                nodeId, parameterUniqueId, allowedValues);
-                        if (!libApiRes.IsSuccessful()) {
-                            System.err.println(
-                                    "SetParameter Allowed Values list WARN: "
-                                            + getErrorMessage(libApiRes));
-                        }
-
-                        List<TRange> rangeList = allowedValuesModel.getRange();
-                        for (TRange range : rangeList) {
-
-                            TRange.MinValue minValueModel = range.getMinValue();
-                            TRange.MaxValue maxValueModel = range.getMaxValue();
-
-                            String minValue = StringUtils.EMPTY;
-                            String maxValue = StringUtils.EMPTY;
-
-                            if (minValueModel != null) {
-                                minValue = minValueModel.getValue();
-                            }
-
-                            if (maxValueModel != null) {
-                                maxValue = maxValueModel.getValue();
-                            }
-
-                            libApiRes = core.SetParameterAllowedRange(networkId,
-                                    nodeId, parameterUniqueId, minValue,
-                                    maxValue);
-                            if (!libApiRes.IsSuccessful()) {
-                                System.err.println(
-                                        "SetParameter Allowed Range WARN: "
-                                                + getErrorMessage(libApiRes));
-                            }
-                        }
+                    if (parameter.getAllowedValues() != null) {
+                        ParameterDescriptor descriptor = ParameterDescriptor
+                                .getDescriptor(parameter);
+                        libApiRes = setParameterAllowedValues(networkId, nodeId,
+                                parameterUniqueId, descriptor.getParameterAllowedValues());
                     }
 
                     TValue defaultValueModel = parameter.getDefaultValue();
@@ -2168,51 +2304,11 @@ public class OpenConfiguratorLibraryUtils {
                     }
                 }
 
-                TAllowedValues allowedValuesModel = parameter
-                        .getAllowedValues();
-                if (allowedValuesModel != null) {
-                    List<TValue> parameterAllowedValuesList = allowedValuesModel
-                            .getValue();
-                    // Create a string collection with allowed values list.
-                    StringCollection allowedValues = new StringCollection();
-                    for (TValue parameterAllowedValue : parameterAllowedValuesList) {
-
-                        allowedValues.add(parameterAllowedValue.getValue());
-                    }
-
-                    libApiRes = core.SetParameterAllowedValues(networkId,
-                            nodeId, parameterUniqueId, allowedValues);
-                    if (!libApiRes.IsSuccessful()) {
-                        System.err.println(
-                                "SetParameter Allowed Values list WARN: "
-                                        + getErrorMessage(libApiRes));
-                    }
-
-                    List<TRange> rangeList = allowedValuesModel.getRange();
-                    for (TRange range : rangeList) {
-
-                        TRange.MinValue minValueModel = range.getMinValue();
-                        TRange.MaxValue maxValueModel = range.getMaxValue();
-
-                        String minValue = StringUtils.EMPTY;
-                        String maxValue = StringUtils.EMPTY;
-
-                        if (minValueModel != null) {
-                            minValue = minValueModel.getValue();
-                        }
-
-                        if (maxValueModel != null) {
-                            maxValue = maxValueModel.getValue();
-                        }
-
-                        libApiRes = core.SetParameterAllowedRange(networkId,
-                                nodeId, parameterUniqueId, minValue, maxValue);
-                        if (!libApiRes.IsSuccessful()) {
-                            System.err
-                                    .println("SetParameter Allowed Range WARN: "
-                                            + getErrorMessage(libApiRes));
-                        }
-                    }
+                if (parameter.getAllowedValues() != null) {
+                    ParameterDescriptor descriptor = ParameterDescriptor
+                            .getDescriptor(parameter);
+                    libApiRes = setParameterAllowedValues(networkId, nodeId,
+                            parameterUniqueId, descriptor.getParameterAllowedValues());
                 }
 
                 TValue defaultValueModel = parameter.getDefaultValue();
@@ -2241,8 +2337,8 @@ public class OpenConfiguratorLibraryUtils {
 
     private static Result addParameterList(String networkId, short nodeId,
             List<TParameterList.Parameter> parameterListModel, Module module) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
 
         String interfaceId = module.getInterfaceOfModule().getInterfaceUId();
         String moduleId = module.getChildID();
@@ -2286,52 +2382,11 @@ public class OpenConfiguratorLibraryUtils {
                             "Parameter Name=....." + parameterUniqueId);
                     String newParameterUniqueId = getModuleParameterUniqueID(
                             module, parameterUniqueId);
-                    TAllowedValues allowedValuesModel = parameter
-                            .getAllowedValues();
-                    if (allowedValuesModel != null) {
-                        List<TValue> parameterAllowedValuesList = allowedValuesModel
-                                .getValue();
-                        // Create a string collection with allowed values list.
-                        StringCollection allowedValues = new StringCollection();
-                        for (TValue parameterAllowedValue : parameterAllowedValuesList) {
-
-                            allowedValues.add(parameterAllowedValue.getValue());
-                        }
-
-                        libApiRes = core.SetParameterAllowedValues(networkId,
-                                nodeId, newParameterUniqueId, allowedValues);
-                        if (!libApiRes.IsSuccessful()) {
-                            System.err.println(
-                                    "Set Parameter Allowed Values list for module WARN: "
-                                            + getErrorMessage(libApiRes));
-                        }
-
-                        List<TRange> rangeList = allowedValuesModel.getRange();
-                        for (TRange range : rangeList) {
-
-                            TRange.MinValue minValueModel = range.getMinValue();
-                            TRange.MaxValue maxValueModel = range.getMaxValue();
-
-                            String minValue = StringUtils.EMPTY;
-                            String maxValue = StringUtils.EMPTY;
-
-                            if (minValueModel != null) {
-                                minValue = minValueModel.getValue();
-                            }
-
-                            if (maxValueModel != null) {
-                                maxValue = maxValueModel.getValue();
-                            }
-
-                            libApiRes = core.SetParameterAllowedRange(networkId,
-                                    nodeId, newParameterUniqueId, minValue,
-                                    maxValue);
-                            if (!libApiRes.IsSuccessful()) {
-                                System.err.println(
-                                        "SetParameter Allowed Range WARN: "
-                                                + getErrorMessage(libApiRes));
-                            }
-                        }
+                    if (parameter.getAllowedValues() != null) {
+                        ParameterDescriptor descriptor = ParameterDescriptor
+                                .getDescriptor(parameter);
+                        libApiRes = setParameterAllowedValues(networkId, nodeId,
+                                newParameterUniqueId, descriptor.getParameterAllowedValues());
                     }
 
                     TValue defaultValueModel = parameter.getDefaultValue();
@@ -2398,52 +2453,11 @@ public class OpenConfiguratorLibraryUtils {
                 }
                 String newParameterUniqueId = getModuleParameterUniqueID(module,
                         parameterUniqueId);
-                TAllowedValues allowedValuesModel = parameter
-                        .getAllowedValues();
-                if (allowedValuesModel != null) {
-                    List<TValue> parameterAllowedValuesList = allowedValuesModel
-                            .getValue();
-                    // Create a string collection with allowed values list.
-                    StringCollection allowedValues = new StringCollection();
-                    for (TValue parameterAllowedValue : parameterAllowedValuesList) {
-
-                        allowedValues.add(parameterAllowedValue.getValue());
-                    }
-
-                    libApiRes = core.SetParameterAllowedValues(networkId,
-                            nodeId, newParameterUniqueId, allowedValues);
-                    if (!libApiRes.IsSuccessful()) {
-                        System.err.println(
-                                "SetParameter Allowed Values list WARN: "
-                                        + getErrorMessage(libApiRes));
-                    }
-
-                    List<TRange> rangeList = allowedValuesModel.getRange();
-                    for (TRange range : rangeList) {
-
-                        TRange.MinValue minValueModel = range.getMinValue();
-                        TRange.MaxValue maxValueModel = range.getMaxValue();
-
-                        String minValue = StringUtils.EMPTY;
-                        String maxValue = StringUtils.EMPTY;
-
-                        if (minValueModel != null) {
-                            minValue = minValueModel.getValue();
-                        }
-
-                        if (maxValueModel != null) {
-                            maxValue = maxValueModel.getValue();
-                        }
-
-                        libApiRes = core.SetParameterAllowedRange(networkId,
-                                nodeId, newParameterUniqueId, minValue,
-                                maxValue);
-                        if (!libApiRes.IsSuccessful()) {
-                            System.err
-                                    .println("SetParameter Allowed Range WARN: "
-                                            + getErrorMessage(libApiRes));
-                        }
-                    }
+                if (parameter.getAllowedValues() != null) {
+                    ParameterDescriptor descriptor = ParameterDescriptor
+                            .getDescriptor(parameter);
+                    libApiRes = setParameterAllowedValues(networkId, nodeId,
+                            newParameterUniqueId, descriptor.getParameterAllowedValues());
                 }
 
                 TValue defaultValueModel = parameter.getDefaultValue();
@@ -2472,115 +2486,71 @@ public class OpenConfiguratorLibraryUtils {
 
     private static Result addParameterTemplateList(String networkId,
             short nodeId, List<TParameterTemplate> parameterTemplate) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
 
         for (TParameterTemplate parameter : parameterTemplate) {
-            ParameterAccess access = getParameterAccess(parameter.getAccess());
+            ParameterTemplateDescriptor descriptor = ParameterTemplateDescriptor
+                    .getDescriptor(parameter);
+            ParameterAccess access = getParameterAccess(descriptor.getAccess());
             if (access == null) {
                 access = ParameterAccess.undefined;
             }
-            String parameterUniqueId = parameter.getUniqueID();
-
-            Object paramTempladeIDRef = parameter.getTemplateIDRef();
+            String parameterUniqueId = descriptor.getUniqueId();
 
-            if (parameter.getDataTypeIDRef() == null) {
+            if (!descriptor.hasDataTypeReference()) {
 
                 IEC_Datatype iecDataType = getIEC_DataType(parameter);
                 libApiRes = core.CreateParameter(networkId, nodeId,
-                        parameter.getUniqueID(), access, iecDataType, true);
+                        parameterUniqueId, access, iecDataType, true);
                 if (!libApiRes.IsSuccessful()) {
                     System.err.println("CreateParameter data type WARN: "
                             + getErrorMessage(libApiRes));
                 }
             } else {
                 // FIXME: could be variableRef also
-                Object dataTypeObj = parameter.getDataTypeIDRef()
-                        .getUniqueIDRef();
-                if (dataTypeObj instanceof TDataTypeList.Struct) {
-                    TDataTypeList.Struct structDt = (TDataTypeList.Struct) dataTypeObj;
-                    String uniqueIdRef = structDt.getUniqueID();
+                String structDtId = descriptor.getStructDataTypeId();
+                if (structDtId != null) {
                     libApiRes = core.CreateParameter(networkId, nodeId,
-                            parameter.getUniqueID(), uniqueIdRef, access, true);
+                            parameterUniqueId, structDtId, access,
+                            true);
                     if (!libApiRes.IsSuccessful()) {
                         System.err.println("CreateParameter UID WARN: "
                                 + getErrorMessage(libApiRes));
                     }
                 } else {
-                    System.err.println("Unhandled datatypeObj: " + dataTypeObj);
+                    System.err.println("Unhandled datatypeObj: "
+                            + parameter.getDataTypeIDRef().getUniqueIDRef());
                 }
             }
 
-            if (paramTempladeIDRef != null) {
-                if (paramTempladeIDRef instanceof TParameterTemplate) {
-                    TParameterTemplate parameteratemplateModel = (TParameterTemplate) paramTempladeIDRef;
+            if (descriptor.hasTemplateReference()) {
+                String parameterTemplateId = descriptor
+                        .getReferencedTemplateId();
+                if (parameterTemplateId != null) {
                     System.out.println(
                             "Create Parameter template : Parameter UID = "
                                     + parameterUniqueId
                                     + " \nParameter template UID = "
-                                    + parameteratemplateModel.getUniqueID());
+                                    + parameterTemplateId);
                     libApiRes = core.CreateParameter(networkId, nodeId,
                             parameterUniqueId, access,
-                            parameteratemplateModel.getUniqueID());
+                            parameterTemplateId);
                     if (!libApiRes.IsSuccessful()) {
                         System.err.println("CreateParameter Template WARN: "
                                 + getErrorMessage(libApiRes));
                         continue;
                     }
 
-                    TAllowedValues allowedValuesModel = parameter
-                            .getAllowedValues();
-                    if (allowedValuesModel != null) {
-                        List<TValue> parameterAllowedValuesList = allowedValuesModel
-                                .getValue();
-                        // Create a string collection with allowed values list.
-                        StringCollection allowedValues = new StringCollection();
-                        for (TValue parameterAllowedValue : parameterAllowedValuesList) {
-
-                            allowedValues.add(parameterAllowedValue.getValue());
-                        }
-
-                        libApiRes = core.SetParameterAllowedValues(networkId,
-                                nodeId, parameterUniqueId, allowedValues);
-                        if (!libApiRes.IsSuccessful()) {
-                            System.err.println(
-                                    "SetParameter Allowed Values list WARN: "
-                                            + getErrorMessage(libApiRes));
-                        }
-
-                        List<TRange> rangeList = allowedValuesModel.getRange();
-                        for (TRange range : rangeList) {
-
-                            TRange.MinValue minValueModel = range.getMinValue();
-                            TRange.MaxValue maxValueModel = range.getMaxValue();
-
-                            String minValue = StringUtils.EMPTY;
-                            String maxValue = StringUtils.EMPTY;
-
-                            if (minValueModel != null) {
-                                minValue = minValueModel.getValue();
-                            }
-
-                            if (maxValueModel != null) {
-                                maxValue = maxValueModel.getValue();
-                            }
-
-                            libApiRes = core.SetParameterAllowedRange(networkId,
-                                    nodeId, parameterUniqueId, minValue,
-                                    maxValue);
-                            if (!libApiRes.IsSuccessful()) {
-                                System.err.println(
-                                        "SetParameter Allowed Range WARN: "
-                                                + getErrorMessage(libApiRes));
-                            }
-                        }
+                    if (descriptor.getAllowedValues() != null) {
+                        libApiRes = setParameterAllowedValues(networkId, nodeId,
+                                parameterUniqueId, descriptor.getAllowedValues());
                     }
 
-                    TValue defaultValueModel = parameter.getDefaultValue();
-                    if (defaultValueModel != null) {
+                    if (descriptor.getDefaultValue() != null) {
                         libApiRes = core.SetParameterDefaultValue(networkId,
                                 nodeId, parameterUniqueId,
-                                defaultValueModel.getValue());
+                                descriptor.getDefaultValue());
                         if (!libApiRes.IsSuccessful()) {
                             System.err
                                     .println("SetParameter Default value WARN: "
@@ -2588,11 +2558,10 @@ public class OpenConfiguratorLibraryUtils {
                         }
                     }
 
-                    TValue actualValueModel = parameter.getActualValue();
-                    if (actualValueModel != null) {
+                    if (descriptor.getActualValue() != null) {
                         libApiRes = core.SetParameterActualValue(networkId,
                                 nodeId, parameterUniqueId,
-                                actualValueModel.getValue());
+                                descriptor.getActualValue());
                         if (!libApiRes.IsSuccessful()) {
                             System.err
                                     .println("SetParameter Actual value WARN: "
@@ -2612,8 +2581,8 @@ public class OpenConfiguratorLibraryUtils {
     private static Result addParameterTemplateList(String networkId,
             short nodeId, List<TParameterTemplate> parameterTemplate,
             Module module) {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        Result libApiRes = new Result();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         String interfaceId = module.getInterfaceOfModule().getInterfaceUId();
         String moduleId = module.getChildID();
         long position = module.getPosition();
@@ -2621,19 +2590,19 @@ public class OpenConfiguratorLibraryUtils {
         System.err
                 .println("Module position in parameter template..." + position);
         for (TParameterTemplate parameter : parameterTemplate) {
-            ParameterAccess access = getParameterAccess(parameter.getAccess());
+            ParameterTemplateDescriptor descriptor = ParameterTemplateDescriptor
+                    .getDescriptor(parameter);
+            ParameterAccess access = getParameterAccess(descriptor.getAccess());
             if (access == null) {
                 access = ParameterAccess.undefined;
             }
-            String parameterUniqueId = parameter.getUniqueID();
+            String parameterUniqueId = descriptor.getUniqueId();
 
-            Object paramTempladeIDRef = parameter.getTemplateIDRef();
-
-            if (parameter.getDataTypeIDRef() == null) {
+            if (!descriptor.hasDataTypeReference()) {
 
                 IEC_Datatype iecDataType = getIEC_DataType(parameter);
                 libApiRes = core.CreateParameter(networkId, nodeId,
-                        parameter.getUniqueID(), access, iecDataType, true,
+                        parameterUniqueId, access, iecDataType, true,
                         interfaceId, moduleId, position);
                 if (!libApiRes.IsSuccessful()) {
                     System.err.println(
@@ -2642,35 +2611,34 @@ public class OpenConfiguratorLibraryUtils {
                 }
             } else {
                 // FIXME: could be variableRef also
-                Object dataTypeObj = parameter.getDataTypeIDRef()
-                        .getUniqueIDRef();
-                if (dataTypeObj instanceof TDataTypeList.Struct) {
-                    TDataTypeList.Struct structDt = (TDataTypeList.Struct) dataTypeObj;
-                    String uniqueIdRef = structDt.getUniqueID();
+                String structDtId = descriptor.getStructDataTypeId();
+                if (structDtId != null) {
                     libApiRes = core.CreateParameter(networkId, nodeId,
-                            parameter.getUniqueID(), uniqueIdRef, access, true,
-                            interfaceId, moduleId, position);
+                            parameterUniqueId, structDtId, access,
+                            true, interfaceId, moduleId, position);
                     if (!libApiRes.IsSuccessful()) {
                         System.err.println(
                                 "CreateParameter UID  of Struct data typeWARN: "
                                         + getErrorMessage(libApiRes));
                     }
                 } else {
-                    System.err.println("Unhandled datatypeObj: " + dataTypeObj);
+                    System.err.println("Unhandled datatypeObj: "
+                            + parameter.getDataTypeIDRef().getUniqueIDRef());
                 }
             }
 
-            if (paramTempladeIDRef != null) {
-                if (paramTempladeIDRef instanceof TParameterTemplate) {
-                    TParameterTemplate parameteratemplateModel = (TParameterTemplate) paramTempladeIDRef;
+            if (descriptor.hasTemplateReference()) {
+                String parameterTemplateId = descriptor
+                        .getReferencedTemplateId();
+                if (parameterTemplateId != null) {
                     System.out.println(
                             "Create Parameter template : Parameter UID = "
                                     + parameterUniqueId
                                     + " \nParameter template UID = "
-                                    + parameteratemplateModel.getUniqueID());
+                                    + parameterTemplateId);
                     libApiRes = core.CreateParameter(networkId, nodeId,
                             parameterUniqueId, access,
-                            parameteratemplateModel.getUniqueID(), interfaceId,
+                            parameterTemplateId, interfaceId,
                             moduleId, position);
                     if (!libApiRes.IsSuccessful()) {
                         System.err.println("CreateParameter Template WARN: "
@@ -2683,59 +2651,16 @@ public class OpenConfiguratorLibraryUtils {
                     System.err.println(
                             "Parameter Name=....." + parameterUniqueId);
 
-                    TAllowedValues allowedValuesModel = parameter
-                            .getAllowedValues();
-                    if (allowedValuesModel != null) {
-                        List<TValue> parameterAllowedValuesList = allowedValuesModel
-                                .getValue();
-                        // Create a string collection with allowed values list.
-                        StringCollection allowedValues = new StringCollection();
-                        for (TValue parameterAllowedValue : parameterAllowedValuesList) {
-
-                            allowedValues.add(parameterAllowedValue.getValue());
-                        }
-
-                        libApiRes = core.SetParameterAllowedValues(networkId,
-                                nodeId, newParameterUniqueId, allowedValues);
-                        if (!libApiRes.IsSuccessful()) {
-                            System.err.println(
-                                    "SetParameter Allowed Values list WARN: "
-                                            + getErrorMessage(libApiRes));
-                        }
-
-                        List<TRange> rangeList = allowedValuesModel.getRange();
-                        for (TRange range : rangeList) {
-
-                            TRange.MinValue minValueModel = range.getMinValue();
-                            TRange.MaxValue maxValueModel = range.getMaxValue();
-
-                            String minValue = StringUtils.EMPTY;
-                            String maxValue = StringUtils.EMPTY;
-
-                            if (minValueModel != null) {
-                                minValue = minValueModel.getValue();
-                            }
-
-                            if (maxValueModel != null) {
-                                maxValue = maxValueModel.getValue();
-                            }
-
-                            libApiRes = core.SetParameterAllowedRange(networkId,
-                                    nodeId, newParameterUniqueId, minValue,
-                                    maxValue);
-                            if (!libApiRes.IsSuccessful()) {
-                                System.err.println(
-                                        "SetParameter Allowed Range WARN: "
-                                                + getErrorMessage(libApiRes));
-                            }
-                        }
+                    if (descriptor.getAllowedValues() != null) {
+                        libApiRes = setParameterAllowedValues(networkId, nodeId,
+                                newParameterUniqueId,
+                                descriptor.getAllowedValues());
                     }
 
-                    TValue defaultValueModel = parameter.getDefaultValue();
-                    if (defaultValueModel != null) {
+                    if (descriptor.getDefaultValue() != null) {
                         libApiRes = core.SetParameterDefaultValue(networkId,
                                 nodeId, newParameterUniqueId,
-                                defaultValueModel.getValue());
+                                descriptor.getDefaultValue());
                         if (!libApiRes.IsSuccessful()) {
                             System.err
                                     .println("SetParameter Default value WARN: "
@@ -2743,11 +2668,10 @@ public class OpenConfiguratorLibraryUtils {
                         }
                     }
 
-                    TValue actualValueModel = parameter.getActualValue();
-                    if (actualValueModel != null) {
+                    if (descriptor.getActualValue() != null) {
                         libApiRes = core.SetParameterActualValue(networkId,
                                 nodeId, newParameterUniqueId,
-                                actualValueModel.getValue());
+                                descriptor.getActualValue());
                         if (!libApiRes.IsSuccessful()) {
                             System.err
                                     .println("SetParameter Actual value WARN: "
@@ -2783,7 +2707,7 @@ public class OpenConfiguratorLibraryUtils {
 
         for (TAutoGenerationSettings agSetting : agSettingsList) {
 
-            Result libApiRes = OpenConfiguratorCore.GetInstance()
+            Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                     .CreateConfiguration(networkId, agSetting.getId());
             if (!libApiRes.IsSuccessful()) {
                 return libApiRes;
@@ -2792,7 +2716,7 @@ public class OpenConfiguratorLibraryUtils {
             java.util.List<TKeyValuePair> settingList = agSetting.getSetting();
             for (TKeyValuePair setting : settingList) {
 
-                libApiRes = OpenConfiguratorCore.GetInstance()
+                libApiRes = OpenConfiguratorCoreProvider.getCore()
                         .CreateConfigurationSetting(networkId,
                                 agSetting.getId(), setting.getName(),
                                 setting.getValue());
@@ -2800,7 +2724,7 @@ public class OpenConfiguratorLibraryUtils {
                     return libApiRes;
                 }
 
-                libApiRes = OpenConfiguratorCore.GetInstance()
+                libApiRes = OpenConfiguratorCoreProvider.getCore()
                         .SetConfigurationSettingEnabled(networkId,
                                 agSetting.getId(), setting.getName(),
                                 setting.isEnabled());
@@ -2811,7 +2735,7 @@ public class OpenConfiguratorLibraryUtils {
         }
 
         // ActiveAutoGenerationSetting
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .SetActiveConfiguration(networkId,
                         projectConfiguration.getActiveAutoGenerationSetting());
 
@@ -2821,8 +2745,8 @@ public class OpenConfiguratorLibraryUtils {
     @SuppressWarnings("unused")
     private static Result addSubObjects(Module module, PowerlinkObject object,
             long index) {
-        Result libApiRes = new Result();
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
         Node node = module.getNode();
 
         List<PowerlinkSubobject> subObjectsList = object.getSubObjects();
@@ -3036,16 +2960,16 @@ public class OpenConfiguratorLibraryUtils {
      * Add the list of sub-objects available in the object into the library.
      *
      * @param Node Instance of Node.
-     * @param object Instance of POWERLINK Object to get list of objects.
+     * @param object Entry of the POWERLINK object to get the sub-objects.
      * @return Result instance from the library.
      */
     private static Result addSubObjects(final Node node,
-            PowerlinkObject object) {
+            ObjectDictionaryEntry object) {
 
-        Result libApiRes = new Result();
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
-        List<PowerlinkSubobject> subObjectsList = object.getSubObjects();
-        for (PowerlinkSubobject subObject : subObjectsList) {
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        List<ObjectDictionaryEntry> subObjectsList = object.getSubObjects();
+        for (ObjectDictionaryEntry subObject : subObjectsList) {
 
             ObjectType subObjectType = getObjectType(subObject.getObjectType());
             PDOMapping pdoMapping = getPdoMapping(
@@ -3069,16 +2993,17 @@ public class OpenConfiguratorLibraryUtils {
                 }
 
                 libApiRes = core.CreateSubObject(node.getNetworkId(),
-                        node.getCnNodeIdValue(), object.getId(),
-                        subObject.getId(), subObjectType, subObject.getName(),
-                        dataType, accessType, pdoMapping,
+                        node.getCnNodeIdValue(), object.getObjectId(),
+                        subObject.getSubObjectId(), subObjectType,
+                        subObject.getName(), dataType, accessType, pdoMapping,
                         subObject.getDefaultValue(), actualValue);
                 if (libApiRes.IsSuccessful()) {
                     if ((!subObject.getLowLimit().isEmpty())
                             || (!subObject.getHighLimit().isEmpty())) {
                         libApiRes = core.SetSubObjectLimits(node.getNetworkId(),
-                                node.getCnNodeIdValue(), object.getId(),
-                                subObject.getId(), subObject.getLowLimit(),
+                                node.getCnNodeIdValue(), object.getObjectId(),
+                                subObject.getSubObjectId(),
+                                subObject.getLowLimit(),
                                 subObject.getHighLimit());
                         if (!libApiRes.IsSuccessful()) {
                             subObject.setError(getErrorMessage(libApiRes));
@@ -3103,7 +3028,8 @@ public class OpenConfiguratorLibraryUtils {
                                 .getUniqueIDRef();
                         libApiRes = core.CreateParameterSubObject(
                                 node.getNetworkId(), node.getCnNodeIdValue(),
-                                object.getId(), subObject.getId(),
+                                object.getObjectId(),
+                                subObject.getSubObjectId(),
                                 subObjectType, subObject.getName(),
                                 getObjectDatatype(subObject.getDataType()),
                                 getAccessType(subObject.getAccessType()),
@@ -3124,7 +3050,8 @@ public class OpenConfiguratorLibraryUtils {
                                 .getUniqueIDRef();
                         libApiRes = core.CreateParameterSubObject(
                                 node.getNetworkId(), node.getCnNodeIdValue(),
-                                object.getId(), subObject.getId(),
+                                object.getObjectId(),
+                                subObject.getSubObjectId(),
                                 subObjectType, subObject.getName(),
                                 getObjectDatatype(subObject.getDataType()),
                                 getAccessType(subObject.getAccessType()),
@@ -3158,7 +3085,8 @@ public class OpenConfiguratorLibraryUtils {
                                 .getUniqueIDRef();
                         libApiRes = core.CreateParameterSubObject(
                                 node.getNetworkId(), node.getCnNodeIdValue(),
-                                object.getId(), subObject.getId(),
+                                object.getObjectId(),
+                                subObject.getSubObjectId(),
                                 subObjectType, subObject.getName(), dataType,
                                 getAccessType(subObject.getAccessType()),
                                 pdoMapping, parameter.getUniqueID(),
@@ -3178,7 +3106,8 @@ public class OpenConfiguratorLibraryUtils {
                                 .getUniqueIDRef();
                         libApiRes = core.CreateParameterSubObject(
                                 node.getNetworkId(), node.getCnNodeIdValue(),
-                                object.getId(), subObject.getId(),
+                                object.getObjectId(),
+                                subObject.getSubObjectId(),
                                 subObjectType, subObject.getName(), dataType,
                                 getAccessType(subObject.getAccessType()),
                                 pdoMapping, parameterGrp.getUniqueID(),
@@ -3209,7 +3138,7 @@ public class OpenConfiguratorLibraryUtils {
                             .printErrorMessage(
                                     "Sub-Object " + subObject.getNameWithId()
                                             + " has not created in the library",
-                                    subObject.getNode().getNetworkId());
+                                    node.getNetworkId());
                     System.err.println(
                             "ERROR: Invalid subObject.getUniqueIDRef():"
                                     + subObject.getUniqueIDRef()
@@ -3232,7 +3161,7 @@ public class OpenConfiguratorLibraryUtils {
                 "ClearMappingChannel: " + channel.getNode().getCnNodeIdValue()
                         + " Direction:" + getDirection(channel.getPdoType())
                         + " ChannelNumber:" + channel.getChannelNumber());
-        return OpenConfiguratorCore.GetInstance().ClearMappingChannel(
+        return OpenConfiguratorCoreProvider.getCore().ClearMappingChannel(
                 channel.getNode().getNetworkId(),
                 channel.getNode().getCnNodeIdValue(),
                 getDirection(channel.getPdoType()), channel.getChannelNumber());
@@ -3255,7 +3184,7 @@ public class OpenConfiguratorLibraryUtils {
                         + " ChannelNumber:" + channel.getChannelNumber()
                         + " Position:" + mappingSubObject.getId());
 
-        return OpenConfiguratorCore.GetInstance().ClearMappingObject(
+        return OpenConfiguratorCoreProvider.getCore().ClearMappingObject(
                 channel.getNode().getNetworkId(),
                 channel.getNode().getCnNodeIdValue(),
                 getDirection(channel.getPdoType()), channel.getChannelNumber(),
@@ -3263,7 +3192,7 @@ public class OpenConfiguratorLibraryUtils {
     }
 
     private static Result createModularHeadNode(Node node) {
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .CreateModularHeadNode(node.getNetworkId(),
                         node.getCnNodeIdValue(), node.getName());
         if (!libApiRes.IsSuccessful()) {
@@ -3284,7 +3213,7 @@ public class OpenConfiguratorLibraryUtils {
         List<HeadNodeInterface> headNodeInterfaceList = node
                 .getHeadNodeInterface();
         for (HeadNodeInterface headNodeInterface : headNodeInterfaceList) {
-            libApiRes = OpenConfiguratorCore.GetInstance().CreateInterface(
+            libApiRes = OpenConfiguratorCoreProvider.getCore().CreateInterface(
                     node.getNetworkId(), node.getCnNodeIdValue(),
                     headNodeInterface.getInterfaceUId(),
                     headNodeInterface.getInterfaceType(),
@@ -3311,7 +3240,7 @@ public class OpenConfiguratorLibraryUtils {
                         List<Range> rangeList = headNodeInterface.getRangeList()
                                 .getRange();
                         for (Range range : rangeList) {
-                            libApiRes = OpenConfiguratorCore.GetInstance()
+                            libApiRes = OpenConfiguratorCoreProvider.getCore()
                                     .CreateRange(node.getNetworkId(),
                                             node.getCnNodeIdValue(),
                                             headNodeInterface.getInterfaceUId(),
@@ -3337,7 +3266,7 @@ public class OpenConfiguratorLibraryUtils {
 
         // TODO: Create Range for modular head node.
 
-        libApiRes = OpenConfiguratorCore.GetInstance().EnableNode(
+        libApiRes = OpenConfiguratorCoreProvider.getCore().EnableNode(
                 node.getNetworkId(), node.getCnNodeIdValue(), node.isEnabled());
         if (!libApiRes.IsSuccessful()) {
             return libApiRes;
@@ -3352,15 +3281,15 @@ public class OpenConfiguratorLibraryUtils {
             HeadNodeInterface interfaceOfModule = module.getInterfaceOfModule();
             String interfaceId = interfaceOfModule.getInterfaceUId();
 
-            Result libApiRes = OpenConfiguratorCore.GetInstance().CreateModule(
-                    node.getNetworkId(), node.getCnNodeIdValue(), interfaceId,
-                    module.getChildID(), module.getPosition(),
-                    module.getAddress(), module.getModuleType(),
-                    module.getModuleName(),
-                    getModuleAddressing(module.getModuleAddressing()),
-                    module.getMinPosition(), module.getMaxPosition(),
-                    module.getMinAddress(), module.getMaxAddress(),
-                    module.getMaxCount());
+            Result libApiRes = OpenConfiguratorCoreProvider.getCore()
+                    .CreateModule(node.getNetworkId(), node.getCnNodeIdValue(),
+                            interfaceId, module.getChildID(),
+                            module.getPosition(), module.getAddress(),
+                            module.getModuleType(), module.getModuleName(),
+                            getModuleAddressing(module.getModuleAddressing()),
+                            module.getMinPosition(), module.getMaxPosition(),
+                            module.getMinAddress(), module.getMaxAddress(),
+                            module.getMaxCount());
             System.err.println("Node id.." + node.getCnNodeIdValue()
                     + " interfaceID.. " + interfaceId + " Module Id. . "
                     + module.getChildID());
@@ -3380,9 +3309,61 @@ public class OpenConfiguratorLibraryUtils {
         return null;
     }
 
+    /**
+     * Runs the library calls of the task as one task of the core thread, so
+     * that they do not interleave with the calls of other threads.
+     *
+     * @param task The task which does not throw checked exceptions.
+     * @return Result of the task.
+     */
+    public static <T> T callInCore(Callable<T> task) {
+        try {
+            return OpenConfiguratorCoreProvider.getExecutor().call(task);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // The task does not throw checked exceptions.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Adds the new node into the library as a copy of the given node. The
+     * object dictionary and the actual values are copied within the library
+     * and only the node ID, the name and the node assignments of the new node
+     * are updated. The new node is a normal station. The modules of a modular
+     * head node are copied along with the node.
+     *
+     * @param sourceNode The node to be copied.
+     * @param newNode The new node.
+     * @return Result instance from the library.
+     */
+    public static Result copyNode(final Node sourceNode, final Node newNode) {
+        final String networkId = newNode.getNetworkId();
+        final short nodeId = newNode.getCnNodeIdValue();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = core.CopyNode(networkId,
+                sourceNode.getCnNodeIdValue(), nodeId, newNode.getName());
+        if (!libApiRes.IsSuccessful()) {
+            return libApiRes;
+        }
+
+        libApiRes = core.ResetOperationMode(networkId, nodeId);
+        if (!libApiRes.IsSuccessful()) {
+            return libApiRes;
+        }
+
+        libApiRes = core.EnableNode(networkId, nodeId, newNode.isEnabled());
+        if (!libApiRes.IsSuccessful()) {
+            return libApiRes;
+        }
+
+        return addNodeAssignments(newNode);
+    }
+
     private static Result createNode(final Node node) {
         System.err.println("RMN node type..." + node.getNodeType());
-        Result libApiRes = OpenConfiguratorCore.GetInstance().CreateNode(
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore().CreateNode(
                 node.getNetworkId(), node.getCnNodeIdValue(), node.getName(),
                 (node.getNodeType() == Node.NodeType.REDUNDANT_MANAGING_NODE
                         ? true : false));
@@ -3401,7 +3382,7 @@ public class OpenConfiguratorLibraryUtils {
             return libApiRes;
         }
 
-        libApiRes = OpenConfiguratorCore.GetInstance().EnableNode(
+        libApiRes = OpenConfiguratorCoreProvider.getCore().EnableNode(
                 node.getNetworkId(), node.getCnNodeIdValue(), node.isEnabled());
         if (!libApiRes.IsSuccessful()) {
             return libApiRes;
@@ -3418,9 +3399,10 @@ public class OpenConfiguratorLibraryUtils {
      * @return The result from the library.
      */
     public static Result forceObject(PowerlinkObject plkObject, boolean force) {
-        Result res = OpenConfiguratorCore.GetInstance().SetObjectActualValue(
-                plkObject.getNetworkId(), plkObject.getCNNodeId(),
-                plkObject.getId(), plkObject.getActualValue(), force, false);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetObjectActualValue(plkObject.getNetworkId(),
+                        plkObject.getCNNodeId(), plkObject.getId(),
+                        plkObject.getActualValue(), force, false);
         return res;
     }
 
@@ -3433,9 +3415,10 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result forceObject(PowerlinkObject plkObject, boolean result,
             long newObjectIndex) {
-        Result res = OpenConfiguratorCore.GetInstance().SetObjectActualValue(
-                plkObject.getNetworkId(), plkObject.getCNNodeId(),
-                newObjectIndex, plkObject.getActualValue(), result, false);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetObjectActualValue(plkObject.getNetworkId(),
+                        plkObject.getCNNodeId(), newObjectIndex,
+                        plkObject.getActualValue(), result, false);
         return res;
     }
 
@@ -3450,10 +3433,11 @@ public class OpenConfiguratorLibraryUtils {
             boolean force) {
         String actualValue = plkSubObject.getActualValue();
 
-        Result res = OpenConfiguratorCore.GetInstance().SetSubObjectActualValue(
-                plkSubObject.getNetworkId(), plkSubObject.getCNNodeId(),
-                plkSubObject.getObject().getId(), plkSubObject.getId(),
-                actualValue, force, false);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetSubObjectActualValue(plkSubObject.getNetworkId(),
+                        plkSubObject.getCNNodeId(),
+                        plkSubObject.getObject().getId(), plkSubObject.getId(),
+                        actualValue, force, false);
         return res;
     }
 
@@ -3468,10 +3452,10 @@ public class OpenConfiguratorLibraryUtils {
     public static Result forceSubObject(PowerlinkSubobject plkSubObject,
             boolean result, long newObjectIndex, int newSubObjectIndex) {
         String actualValue = plkSubObject.getActualValue();
-        Result res = OpenConfiguratorCore.GetInstance().SetSubObjectActualValue(
-                plkSubObject.getNetworkId(), plkSubObject.getCNNodeId(),
-                newObjectIndex, (short) newSubObjectIndex, actualValue, result,
-                false);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetSubObjectActualValue(plkSubObject.getNetworkId(),
+                        plkSubObject.getCNNodeId(), newObjectIndex,
+                        (short) newSubObjectIndex, actualValue, result, false);
         return res;
     }
 
@@ -3519,9 +3503,10 @@ public class OpenConfiguratorLibraryUtils {
             long moduleObjectIndex) {
         String[] actualValue = new String[1];
         short subObjectIndex = (short) subIndex;
-        Result res = OpenConfiguratorCore.GetInstance().GetSubObjectActualValue(
-                node.getNetworkId(), node.getCnNodeIdValue(), moduleObjectIndex,
-                subObjectIndex, actualValue);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .GetSubObjectActualValue(node.getNetworkId(),
+                        node.getCnNodeIdValue(), moduleObjectIndex,
+                        subObjectIndex, actualValue);
         if (!res.IsSuccessful()) {
             System.err.println(res);
         }
@@ -3542,28 +3527,12 @@ public class OpenConfiguratorLibraryUtils {
     public static Result getChannelObjectsWithActualValue(
             final PdoChannel pdoChannel,
             java.util.LinkedHashMap<java.util.Map.Entry<Long, Integer>, String> objectJCollection) {
-        ObjectCollection objectCollection = new ObjectCollection();
-        Result res = OpenConfiguratorCore.GetInstance().GetChannelActualValues(
-                pdoChannel.getNode().getNetworkId(),
-                pdoChannel.getNode().getCnNodeIdValue(),
-                OpenConfiguratorLibraryUtils
-                        .getDirection(pdoChannel.getPdoType()),
-                pdoChannel.getChannelNumber(), objectCollection);
-
-        if (!res.IsSuccessful()) {
-            return res;
-        }
-
-        for (MapIterator iterator = objectCollection.iterator(); iterator
-                .hasNext();) {
-            String actualValue = iterator.GetValue();
-
-            Map.Entry<Long, Integer> entryVal = new AbstractMap.SimpleEntry<>(
-                    iterator.GetKey().getFirst(),
-                    iterator.GetKey().getSecond());
-            objectJCollection.put(entryVal, actualValue);
-            iterator.next();
-        }
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .GetChannelActualValues(pdoChannel.getNode().getNetworkId(),
+                        pdoChannel.getNode().getCnNodeIdValue(),
+                        OpenConfiguratorLibraryUtils
+                                .getDirection(pdoChannel.getPdoType()),
+                        pdoChannel.getChannelNumber(), objectJCollection);
 
         return res;
     }
@@ -3576,7 +3545,7 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static long getChannelSize(PdoChannel channel) {
         long[] tempSize = new long[1];
-        OpenConfiguratorCore.GetInstance().GetChannelSize(
+        OpenConfiguratorCoreProvider.getCore().GetChannelSize(
                 channel.getNode().getNetworkId(),
                 channel.getNode().getCnNodeIdValue(),
                 getDirection(channel.getPdoType()), channel.getChannelNumber(),
@@ -3994,7 +3963,7 @@ public class OpenConfiguratorLibraryUtils {
         long[] index = new long[1];
         int[] subIndex = new int[1];
 
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .GetModuleObjectCurrentIndex(node.getNetworkId(),
                         node.getCnNodeIdValue(),
                         module.getInterfaceOfModule().getInterfaceUId(),
@@ -4022,7 +3991,7 @@ public class OpenConfiguratorLibraryUtils {
         long[] index = new long[1];
         int[] subIndex = new int[1];
 
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .GetModuleObjectCurrentIndex(node.getNetworkId(),
                         node.getCnNodeIdValue(),
                         module.getInterfaceOfModule().getInterfaceUId(),
@@ -4043,7 +4012,7 @@ public class OpenConfiguratorLibraryUtils {
         long[] index = new long[1];
         int[] subIndex = new int[1];
 
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .GetModuleObjectCurrentIndex(node.getNetworkId(),
                         node.getCnNodeIdValue(),
                         module.getInterfaceOfModule().getInterfaceUId(),
@@ -4073,7 +4042,7 @@ public class OpenConfiguratorLibraryUtils {
         long[] index = new long[1];
         int[] subIndex = new int[1];
 
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .GetModuleObjectCurrentIndex(node.getNetworkId(),
                         node.getCnNodeIdValue(),
                         module.getInterfaceOfModule().getInterfaceUId(),
@@ -4106,7 +4075,7 @@ public class OpenConfiguratorLibraryUtils {
         long[] index = new long[1];
         int[] subIndex = new int[1];
 
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .GetModuleObjectCurrentIndex(node.getNetworkId(),
                         node.getCnNodeIdValue(),
                         module.getInterfaceOfModule().getInterfaceUId(),
@@ -4135,7 +4104,7 @@ public class OpenConfiguratorLibraryUtils {
             String oldParameterName) {
         Node node = module.getNode();
         String[] parameterName = new String[1];
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .GetModuleParameterCurrentName(node.getNetworkId(),
                         node.getCnNodeIdValue(),
                         module.getInterfaceOfModule().getInterfaceUId(),
@@ -4157,17 +4126,18 @@ public class OpenConfiguratorLibraryUtils {
     public static long getNodeAssignment(final Node node) {
         long nodeAssignValue = 0L;
 
-        AssignmentCollection assignmentColl = new AssignmentCollection();
+        List<Long> assignmentColl = new ArrayList<>();
 
-        Result libApiRes = OpenConfiguratorCore.GetInstance().GetNodeAssignment(
-                node.getNetworkId(), node.getCnNodeIdValue(), assignmentColl);
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
+                .GetNodeAssignment(node.getNetworkId(), node.getCnNodeIdValue(),
+                        assignmentColl);
         if (!libApiRes.IsSuccessful()) {
             System.err.println("ERROR: " + getErrorMessage(libApiRes));
             return nodeAssignValue;
         }
 
-        for (int i = 0; i < assignmentColl.size(); i++) {
-            nodeAssignValue |= assignmentColl.get(i);
+        for (Long assignment : assignmentColl) {
+            nodeAssignValue |= assignment;
         }
 
         return nodeAssignValue;
@@ -4207,34 +4177,10 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result getObjectsWithActualValue(final Node node,
             java.util.LinkedHashMap<java.util.Map.Entry<Long, Integer>, String> objectJCollection) {
-        ObjectCollection objectCollection = new ObjectCollection();
-        Result res = OpenConfiguratorCore.GetInstance()
-                .GetObjectsWithActualValue(node.getNetworkId(),
-                        node.getCnNodeIdValue(), objectCollection);
-        if (!res.IsSuccessful()) {
-            return res;
-        }
-
-        MapIterator iterator = objectCollection.iterator();
-        while (iterator.hasNext()) {
-            String actualValue = iterator.GetValue();
-            Map.Entry<Long, Integer> entryVal = new AbstractMap.SimpleEntry<>(
-                    iterator.GetKey().getFirst(),
-                    iterator.GetKey().getSecond());
-            objectJCollection.put(entryVal, actualValue);
-            iterator.next();
-        }
         // Persist actual value of objects into XDC.
-        // for (MapIterator iterator = objectCollection.iterator(); iterator
-        // .hasNext();) {
-        // String actualValue = iterator.GetValue();
-        //
-        // Map.Entry<Long, Integer> entryVal = new AbstractMap.SimpleEntry<>(
-        // iterator.GetKey().getFirst(),
-        // iterator.GetKey().getSecond());
-        // objectJCollection.put(entryVal, actualValue);
-        // iterator.next();
-        // }
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .GetObjectsWithActualValue(node.getNetworkId(),
+                        node.getCnNodeIdValue(), objectJCollection);
 
         return res;
     }
@@ -4472,6 +4418,19 @@ public class OpenConfiguratorLibraryUtils {
         return sortNumber;
     }
 
+    /**
+     * @return The unique ID of the referenced parameter or parameter group,
+     *         <code>null</code> for other references.
+     */
+    private static String getUniqueIdRef(Object uniqueIdRef) {
+        if (uniqueIdRef instanceof TParameterList.Parameter) {
+            return ((Parameter) uniqueIdRef).getUniqueID();
+        } else if (uniqueIdRef instanceof TParameterGroup) {
+            return ((TParameterGroup) uniqueIdRef).getUniqueID();
+        }
+        return null;
+    }
+
     private static Result importProfileBodyCommunicationNetworkPowerlink(
             final Node node,
             final ProfileBodyCommunicationNetworkPowerlink commProfile) {
@@ -4541,7 +4500,7 @@ public class OpenConfiguratorLibraryUtils {
 
     private static Result importProfileBodyDevicePowerlink(final Node node,
             final ProfileBodyDevicePowerlink devProfile) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         List<TApplicationProcess> appProcessList = devProfile
                 .getApplicationProcess();
         for (TApplicationProcess appProcess : appProcessList) {
@@ -4576,7 +4535,7 @@ public class OpenConfiguratorLibraryUtils {
 
             libApiRes = addParameterGroup(node.getNetworkId(),
                     node.getCnNodeIdValue(),
-                    appProcess.getParameterGroupList());
+                    appProcess.getParameterGroupList(), node);
             if (!libApiRes.IsSuccessful()) {
                 System.err.println(
                         "Parameter group WARN: " + getErrorMessage(libApiRes));
@@ -4588,7 +4547,7 @@ public class OpenConfiguratorLibraryUtils {
     private static Result importProfileBodyDevicePowerlinkModularChild(
             Module module,
             ProfileBodyDevicePowerlinkModularChild childModularProfile) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         Node node = module.getNode();
         List<TApplicationProcess> appProcessList = childModularProfile
                 .getApplicationProcess();
@@ -4641,7 +4600,7 @@ public class OpenConfiguratorLibraryUtils {
 
     private static Result importProfileBodyDevicePowerlinkModularHead(Node node,
             final ProfileBodyDevicePowerlinkModularHead modularDevProfile) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         List<TApplicationProcess> appProcessList = modularDevProfile
                 .getApplicationProcess();
         for (TApplicationProcess appProcess : appProcessList) {
@@ -4678,7 +4637,7 @@ public class OpenConfiguratorLibraryUtils {
                     .getParameterGroupList();
             if (parameterGroupList != null) {
                 libApiRes = addParameterGroup(node.getNetworkId(),
-                        node.getCnNodeIdValue(), parameterGroupList);
+                        node.getCnNodeIdValue(), parameterGroupList, node);
                 if (!libApiRes.IsSuccessful()) {
                     System.err.println("Parameter group list WARN: "
                             + getErrorMessage(libApiRes));
@@ -4689,7 +4648,7 @@ public class OpenConfiguratorLibraryUtils {
     }
 
     private static Result importXddModel(final Module module) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         List<ISO15745Profile> profiles = module.getISO15745ProfileContainer()
                 .getISO15745Profile();
         for (ISO15745Profile profile : profiles) {
@@ -4712,7 +4671,7 @@ public class OpenConfiguratorLibraryUtils {
 
     private static Result importXddModel(final Node node) {
 
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
 
         List<ISO15745Profile> profiles = node.getISO15745ProfileContainer()
                 .getISO15745Profile();
@@ -4749,7 +4708,7 @@ public class OpenConfiguratorLibraryUtils {
      * @throws IOException if the configuration files are not found.
      */
     public static Result initOpenConfiguratorLibrary() throws IOException {
-        OpenConfiguratorCore core = OpenConfiguratorCore.GetInstance();
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
 
         File libraryLogFile = new File(ResourcesPlugin.getWorkspace().getRoot()
                 .getLocation().toString()
@@ -4837,7 +4796,7 @@ public class OpenConfiguratorLibraryUtils {
      * @return Result from the library.
      */
     public static Result mappAvailableObjects(PdoChannel channel) {
-        return OpenConfiguratorCore.GetInstance().MapAllObjectsToChannel(
+        return OpenConfiguratorCoreProvider.getCore().MapAllObjectsToChannel(
                 channel.getNode().getNetworkId(),
                 channel.getNode().getCnNodeIdValue(),
                 getDirection(channel.getPdoType()), channel.getChannelNumber(),
@@ -4856,7 +4815,7 @@ public class OpenConfiguratorLibraryUtils {
     public static Result mappModuleObjectToChannel(PdoChannel pdoChannel,
             PowerlinkSubobject mappingSubObject,
             PowerlinkObject objectTobeMapped, long moduleObjectIndex) {
-        return OpenConfiguratorCore.GetInstance().MapObjectToChannel(
+        return OpenConfiguratorCoreProvider.getCore().MapObjectToChannel(
                 pdoChannel.getNode().getNetworkId(),
                 pdoChannel.getNode().getCnNodeIdValue(),
                 getDirection(pdoChannel.getPdoType()),
@@ -4884,7 +4843,7 @@ public class OpenConfiguratorLibraryUtils {
                 + mappingSubObject.getObject().getIdHex() + "/"
                 + moduleObjectIndex + " --- " + moduleSubObjectIndex);
 
-        return OpenConfiguratorCore.GetInstance().MapSubObjectToChannel(
+        return OpenConfiguratorCoreProvider.getCore().MapSubObjectToChannel(
                 pdoChannel.getNode().getNetworkId(),
                 pdoChannel.getNode().getCnNodeIdValue(),
                 getDirection(pdoChannel.getPdoType()),
@@ -4911,7 +4870,7 @@ public class OpenConfiguratorLibraryUtils {
                 + mappingSubObject.getIdHex() + " --- "
                 + objectToBeMapped.getIdHex());
 
-        return OpenConfiguratorCore.GetInstance().MapObjectToChannel(
+        return OpenConfiguratorCoreProvider.getCore().MapObjectToChannel(
                 channel.getNode().getNetworkId(),
                 channel.getNode().getCnNodeIdValue(),
                 getDirection(channel.getPdoType()), channel.getChannelNumber(),
@@ -4939,7 +4898,7 @@ public class OpenConfiguratorLibraryUtils {
                 + subObjectTobeMapped.getObject().getIdHex() + "/"
                 + subObjectTobeMapped.getIdHex());
 
-        return OpenConfiguratorCore.GetInstance().MapSubObjectToChannel(
+        return OpenConfiguratorCoreProvider.getCore().MapSubObjectToChannel(
                 channel.getNode().getNetworkId(),
                 channel.getNode().getCnNodeIdValue(),
                 getDirection(channel.getPdoType()), channel.getChannelNumber(),
@@ -4963,7 +4922,7 @@ public class OpenConfiguratorLibraryUtils {
                 + getDirection(channel.getPdoType()) + " ChannelNumber:"
                 + channel.getChannelNumber() + " CurrentPosition:"
                 + currentPosition + " NewPosition:" + newPosition);
-        return OpenConfiguratorCore.GetInstance().MoveMappingObject(
+        return OpenConfiguratorCoreProvider.getCore().MoveMappingObject(
                 channel.getNode().getNetworkId(),
                 channel.getNode().getCnNodeIdValue(),
                 getDirection(channel.getPdoType()), channel.getChannelNumber(),
@@ -4981,13 +4940,42 @@ public class OpenConfiguratorLibraryUtils {
     public static Result moveModule(Module module, int oldPosition,
             int position) {
         Node node = module.getNode();
-        Result res = OpenConfiguratorCore.GetInstance().MoveModule(
+        Result res = OpenConfiguratorCoreProvider.getCore().MoveModule(
                 node.getNetworkId(), node.getCnNodeIdValue(),
                 module.getInterfaceOfModule().getInterfaceUId(),
                 module.getChildID(), oldPosition, position);
         return res;
     }
 
+    /**
+     * Moves the modules of the interface to their new positions and updates
+     * their addresses with a single library call.
+     *
+     * @param headNodeInterface Interface of the modules.
+     * @param modules The modules to be moved.
+     * @param newPositions New positions of the modules.
+     * @param newAddresses New addresses of the modules.
+     * @return Result from the library. On failure the library keeps the old
+     *         positions and addresses.
+     */
+    public static Result moveModules(HeadNodeInterface headNodeInterface,
+            List<Module> modules, List<Integer> newPositions,
+            List<Integer> newAddresses) {
+        Node node = headNodeInterface.getNode();
+        List<String> moduleIds = new ArrayList<>(modules.size());
+        List<Integer> oldPositions = new ArrayList<>(modules.size());
+        List<Integer> oldAddresses = new ArrayList<>(modules.size());
+        for (Module module : modules) {
+            moduleIds.add(module.getChildID());
+            oldPositions.add(module.getPosition());
+            oldAddresses.add(module.getAddress());
+        }
+        return OpenConfiguratorCoreProvider.getCore().MoveModules(
+                node.getNetworkId(), node.getCnNodeIdValue(),
+                headNodeInterface.getInterfaceUId(), moduleIds, oldPositions,
+                oldAddresses, newPositions, newAddresses);
+    }
+
     /**
      * Removes the module from library
      *
@@ -4995,7 +4983,7 @@ public class OpenConfiguratorLibraryUtils {
      * @return Result from the library.
      */
     public static Result removeModule(Module module) {
-        return OpenConfiguratorCore.GetInstance().RemoveModule(
+        return OpenConfiguratorCoreProvider.getCore().RemoveModule(
                 module.getNode().getNetworkId(),
                 module.getNode().getCnNodeIdValue(),
                 module.getInterfaceOfModule().getInterfaceUId(),
@@ -5009,10 +4997,63 @@ public class OpenConfiguratorLibraryUtils {
      * @return Result from the openCONFIGURATOR library.
      */
     public static Result removeNode(Node node) {
-        return OpenConfiguratorCore.GetInstance()
+        return OpenConfiguratorCoreProvider.getCore()
                 .RemoveNode(node.getNetworkId(), node.getCnNodeIdValue());
     }
 
+    /**
+     * Removes the nodes from the library. The calls of all nodes are run as
+     * one task of the core thread. All nodes are checked to be available in
+     * the library before any node is removed. Nodes without a valid XDD/XDC
+     * file are not available in the library and are skipped.
+     *
+     * @param nodes The nodes to be removed.
+     * @param removedNodes The nodes which are removed, also if the removal of
+     *            a later node fails.
+     * @return Result instance from the library.
+     */
+    public static Result removeNodes(final List<Node> nodes,
+            final List<Node> removedNodes) {
+        Callable<Result> task = new Callable<Result>() {
+            @Override
+            public Result call() {
+                Result libApiRes = OpenConfiguratorCoreProvider.newResult();
+                if (nodes.isEmpty()) {
+                    return libApiRes;
+                }
+
+                List<Short> availableNodeIds = new ArrayList<>();
+                libApiRes = OpenConfiguratorCoreProvider.getCore()
+                        .GetAvailableNodeIds(nodes.get(0).getNetworkId(),
+                                availableNodeIds);
+                if (!libApiRes.IsSuccessful()) {
+                    return libApiRes;
+                }
+                for (Node node : nodes) {
+                    if (!node.hasError() && !availableNodeIds
+                            .contains(Short.valueOf(node.getCnNodeIdValue()))) {
+                        return OpenConfiguratorCoreProvider.newResult(
+                                ErrorCode.NODE_DOES_NOT_EXIST,
+                                MessageFormat.format(NODE_NOT_AVAILABLE_ERROR,
+                                        node.getNodeIDWithName()));
+                    }
+                }
+
+                for (Node node : nodes) {
+                    if (!node.hasError()) {
+                        libApiRes = removeNode(node);
+                        if (!libApiRes.IsSuccessful()) {
+                            break;
+                        }
+                    }
+                    removedNodes.add(node);
+                }
+                return libApiRes;
+            }
+        };
+        return callInCore(task);
+    }
+
     /**
      * Sets address value to Module
      *
@@ -5021,7 +5062,7 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result setModuleAddress(Module module) {
         Node node = module.getNode();
-        Result res = OpenConfiguratorCore.GetInstance().SetModuleAddress(
+        Result res = OpenConfiguratorCoreProvider.getCore().SetModuleAddress(
                 node.getNetworkId(), node.getCnNodeIdValue(),
                 module.getInterfaceOfModule().getInterfaceUId(),
                 module.getChildID(), module.getPosition(), module.getAddress());
@@ -5038,9 +5079,10 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result setModuleObjectActualValue(PowerlinkObject plkObject,
             String value, long newObjectIndex) {
-        Result res = OpenConfiguratorCore.GetInstance().SetObjectActualValue(
-                plkObject.getNetworkId(), plkObject.getCNNodeId(),
-                newObjectIndex, value, plkObject.isObjectForced(), false);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetObjectActualValue(plkObject.getNetworkId(),
+                        plkObject.getCNNodeId(), newObjectIndex, value,
+                        plkObject.isObjectForced(), false);
         return res;
     }
 
@@ -5055,10 +5097,11 @@ public class OpenConfiguratorLibraryUtils {
     public static Result setModuleSubObjectActualValue(
             PowerlinkSubobject plkSubObject, String actualValue,
             long newObjectIndex, int newSubObjectIndex) {
-        Result res = OpenConfiguratorCore.GetInstance().SetSubObjectActualValue(
-                plkSubObject.getNetworkId(), plkSubObject.getCNNodeId(),
-                newObjectIndex, (short) newSubObjectIndex, actualValue,
-                plkSubObject.isObjectForced(), false);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetSubObjectActualValue(plkSubObject.getNetworkId(),
+                        plkSubObject.getCNNodeId(), newObjectIndex,
+                        (short) newSubObjectIndex, actualValue,
+                        plkSubObject.isObjectForced(), false);
 
         return res;
     }
@@ -5078,15 +5121,114 @@ public class OpenConfiguratorLibraryUtils {
         final String networkId = node.getNetworkId();
         final short nodeId = node.getCnNodeIdValue();
         if (value) {
-            libApiRes = OpenConfiguratorCore.GetInstance()
+            libApiRes = OpenConfiguratorCoreProvider.getCore()
                     .AddNodeAssignment(networkId, nodeId, nodeAssign);
         } else {
-            libApiRes = OpenConfiguratorCore.GetInstance()
+            libApiRes = OpenConfiguratorCoreProvider.getCore()
                     .RemoveNodeAssignment(networkId, nodeId, nodeAssign);
         }
         return libApiRes;
     }
 
+    /**
+     * Changes the node IDs of the nodes in the library. The changes are
+     * applied in the given order as one task of the core thread. If a node ID
+     * cannot be changed, the changes applied so far are reverted.
+     *
+     * @param networkId The ID of the network.
+     * @param nodeIdChanges The old and the new node ID of each change.
+     * @return Result instance from the library.
+     */
+    public static Result setNodeIds(final String networkId,
+            final List<Map.Entry<Short, Short>> nodeIdChanges) {
+        Callable<Result> task = new Callable<Result>() {
+            @Override
+            public Result call() {
+                IOpenConfiguratorCore core = OpenConfiguratorCoreProvider
+                        .getCore();
+                Result libApiRes = OpenConfiguratorCoreProvider.newResult();
+                for (int i = 0; i < nodeIdChanges.size(); i++) {
+                    Map.Entry<Short, Short> change = nodeIdChanges.get(i);
+                    libApiRes = core.SetNodeId(networkId,
+                            change.getKey().shortValue(),
+                            change.getValue().shortValue());
+                    if (!libApiRes.IsSuccessful()) {
+                        for (int j = i - 1; j >= 0; j--) {
+                            Map.Entry<Short, Short> appliedChange = nodeIdChanges
+                                    .get(j);
+                            Result res = core.SetNodeId(networkId,
+                                    appliedChange.getValue().shortValue(),
+                                    appliedChange.getKey().shortValue());
+                            if (!res.IsSuccessful()) {
+                                System.err.println("Reset Node ID WARN: "
+                                        + getErrorMessage(res));
+                            }
+                        }
+                        break;
+                    }
+                }
+                return libApiRes;
+            }
+        };
+        return callInCore(task);
+    }
+
+    /**
+     * Changes the POWERLINK operation mode of the node in the library. The
+     * library updates the node assignment and the actual values of the node
+     * along with the operation mode, hence they are read back in the same
+     * task of the core thread.
+     *
+     * @param node The node.
+     * @param mode The new operation mode.
+     * @param multiplexedCycle The forced multiplexed cycle of a multiplexed
+     *            node.
+     * @param nodeAssignments The node assignments of the node after the change.
+     * @param objectJCollection The objects of the node with an actual value
+     *            after the change.
+     * @return Result of the operation mode change, or of the failed read.
+     */
+    public static Result setOperationMode(final Node node,
+            final PlkOperationMode mode, final short multiplexedCycle,
+            final List<Long> nodeAssignments,
+            final java.util.LinkedHashMap<java.util.Map.Entry<Long, Integer>, String> objectJCollection) {
+        Callable<Result> task = new Callable<Result>() {
+            @Override
+            public Result call() {
+                IOpenConfiguratorCore core = OpenConfiguratorCoreProvider
+                        .getCore();
+                String networkId = node.getNetworkId();
+                short nodeId = node.getCnNodeIdValue();
+                Result libApiRes;
+                switch (mode) {
+                    case CHAINED:
+                        libApiRes = core.SetOperationModeChained(networkId,
+                                nodeId);
+                        break;
+                    case MULTIPLEXED:
+                        libApiRes = core.SetOperationModeMultiplexed(
+                                networkId, nodeId, multiplexedCycle);
+                        break;
+                    case NORMAL:
+                    default:
+                        libApiRes = core.ResetOperationMode(networkId, nodeId);
+                        break;
+                }
+                if (!libApiRes.IsSuccessful()) {
+                    return libApiRes;
+                }
+
+                Result res = core.GetNodeAssignment(networkId, nodeId,
+                        nodeAssignments);
+                if (!res.IsSuccessful()) {
+                    return res;
+                }
+                return getObjectsWithActualValue(node, objectJCollection);
+            }
+        };
+        return callInCore(task);
+    }
+
     /**
      * Set the actual value of the object into the library.
      *
@@ -5096,13 +5238,77 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result setObjectActualValue(PowerlinkObject plkObject,
             String actualValue) {
-        Result res = OpenConfiguratorCore.GetInstance().SetObjectActualValue(
-                plkObject.getNetworkId(), plkObject.getCNNodeId(),
-                plkObject.getId(), actualValue, plkObject.isObjectForced(),
-                false);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetObjectActualValue(plkObject.getNetworkId(),
+                        plkObject.getCNNodeId(), plkObject.getId(), actualValue,
+                        plkObject.isObjectForced(), false);
         return res;
     }
 
+    /**
+     * Sets the actual value of the referenced parameter in the library. The
+     * current name of a module parameter is resolved in the same task of the
+     * core thread.
+     *
+     * @param paramRef The parameter reference.
+     * @param actualValue The value to be updated in the library.
+     * @return Result from the library.
+     */
+    public static Result setParameterReferenceActualValue(
+            final ParameterReference paramRef, final String actualValue) {
+        Callable<Result> task = new Callable<Result>() {
+            @Override
+            public Result call() {
+                String parameterUniqueId = paramRef.getParameterUniqueId();
+                if (paramRef.getObjectDictionary().isModule()) {
+                    parameterUniqueId = getModuleParameterUniqueID(
+                            paramRef.getObjectDictionary().getModule(),
+                            parameterUniqueId);
+                }
+                Node node = paramRef.getNode();
+                return OpenConfiguratorCoreProvider.getCore()
+                        .SetParameterActualValue(node.getNetworkId(),
+                                node.getCnNodeIdValue(), parameterUniqueId,
+                                actualValue);
+            }
+        };
+        return callInCore(task);
+    }
+
+    /**
+     * Updates the allowed values and the allowed ranges of the parameter in
+     * the library.
+     *
+     * @param networkId The network ID.
+     * @param nodeId The node ID.
+     * @param parameterUniqueId Unique ID of the parameter in the library.
+     * @param allowedValues The allowed values of the parameter.
+     * @return Result of the last library call.
+     */
+    private static Result setParameterAllowedValues(String networkId,
+            short nodeId, String parameterUniqueId,
+            AllowedValues allowedValues) {
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        Result libApiRes = core.SetParameterAllowedValues(networkId, nodeId,
+                parameterUniqueId, allowedValues.getValuesList());
+        if (!libApiRes.IsSuccessful()) {
+            System.err.println("SetParameter Allowed Values list WARN: "
+                    + getErrorMessage(libApiRes));
+        }
+
+        for (org.epsg.openconfigurator.model.Range range : allowedValues
+                .getRangeList()) {
+            libApiRes = core.SetParameterAllowedRange(networkId, nodeId,
+                    parameterUniqueId, range.getMinValue(),
+                    range.getMaxValue());
+            if (!libApiRes.IsSuccessful()) {
+                System.err.println("SetParameter Allowed Range WARN: "
+                        + getErrorMessage(libApiRes));
+            }
+        }
+        return libApiRes;
+    }
+
     /**
      * Set the actual value of the sub-object into the library.
      *
@@ -5115,16 +5321,53 @@ public class OpenConfiguratorLibraryUtils {
         System.out.println("Set SubObject ActualValue--- "
                 + plkSubObject.getObject().getIdHex() + "/"
                 + plkSubObject.getIdHex() + " Value:" + actualValue);
-        Result res = OpenConfiguratorCore.GetInstance().SetSubObjectActualValue(
-                plkSubObject.getNetworkId(), plkSubObject.getCNNodeId(),
-                plkSubObject.getObject().getId(), plkSubObject.getId(),
-                actualValue, plkSubObject.isObjectForced(), false);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetSubObjectActualValue(plkSubObject.getNetworkId(),
+                        plkSubObject.getCNNodeId(),
+                        plkSubObject.getObject().getId(), plkSubObject.getId(),
+                        actualValue, plkSubObject.isObjectForced(), false);
 
         return res;
     }
 
+    /**
+     * Creates the entries of the batch in the library and clears the batch.
+     * The failed entries are reported to their objects and the creation
+     * continues with the next entry.
+     *
+     * @param node Instance of Node.
+     * @param batch The batch of objects and subobjects.
+     * @param batchObjects The objects of the batch entries.
+     * @return The result of the first failed entry or a successful result.
+     */
+    private static Result submitObjectDictionaryBatch(Node node,
+            ObjectDictionaryBatch batch,
+            List<ObjectDictionaryEntry> batchObjects) {
+        IOpenConfiguratorCore core = OpenConfiguratorCoreProvider.getCore();
+        int[] failedIndex = new int[1];
+        Result libApiRes = core.CreateObjects(node.getNetworkId(),
+                node.getCnNodeIdValue(), batch, 0, failedIndex);
+        Result firstFailure = null;
+        while (failedIndex[0] >= 0) {
+            if (firstFailure == null) {
+                firstFailure = libApiRes;
+            }
+            batchObjects.get(failedIndex[0])
+                    .setError(getErrorMessage(libApiRes));
+            OpenConfiguratorMessageConsole.getInstance()
+                    .printLibraryErrorMessage(libApiRes);
+            libApiRes = core.CreateObjects(node.getNetworkId(),
+                    node.getCnNodeIdValue(), batch, failedIndex[0] + 1,
+                    failedIndex);
+        }
+
+        batch.clear();
+        batchObjects.clear();
+        return (firstFailure != null) ? firstFailure : libApiRes;
+    }
+
     public static Result toggleEnableDisable(Module module) {
-        return OpenConfiguratorCore.GetInstance().EnableModule(
+        return OpenConfiguratorCoreProvider.getCore().EnableModule(
                 module.getNode().getNetworkId(),
                 module.getNode().getCnNodeIdValue(),
                 module.getInterfaceOfModule().getInterfaceUId(),
@@ -5138,7 +5381,7 @@ public class OpenConfiguratorLibraryUtils {
      * @return Result from the openCONFIGURATOR library.
      */
     public static Result toggleEnableDisable(Node node) {
-        return OpenConfiguratorCore.GetInstance().EnableNode(
+        return OpenConfiguratorCoreProvider.getCore().EnableNode(
                 node.getNetworkId(), node.getCnNodeIdValue(),
                 !node.isEnabled());
     }
@@ -5151,7 +5394,7 @@ public class OpenConfiguratorLibraryUtils {
      * @return Result from the library.
      */
     private static Result updateForcedObjectsIntoLibary(Module module) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         InterfaceList.Interface.Module moduleObj = null;
         if (module
                 .getModelOfModule() instanceof InterfaceList.Interface.Module) {
@@ -5243,7 +5486,7 @@ public class OpenConfiguratorLibraryUtils {
      * @return Result from the library.
      */
     private static Result updateForcedObjectsIntoLibary(Node node) {
-        Result libApiRes = new Result();
+        Result libApiRes = OpenConfiguratorCoreProvider.newResult();
         TAbstractNode abstractNode = null;
         if (node.getNodeModel() instanceof TNetworkConfiguration) {
             TNetworkConfiguration net = (TNetworkConfiguration) node
@@ -5368,9 +5611,10 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result validateModuleObjectActualValue(
             PowerlinkObject plkObject, String value, long newObjectIndex) {
-        Result res = OpenConfiguratorCore.GetInstance().SetObjectActualValue(
-                plkObject.getNetworkId(), plkObject.getCNNodeId(),
-                newObjectIndex, value, plkObject.isObjectForced(), true);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetObjectActualValue(plkObject.getNetworkId(),
+                        plkObject.getCNNodeId(), newObjectIndex, value,
+                        plkObject.isObjectForced(), true);
         return res;
     }
 
@@ -5385,10 +5629,11 @@ public class OpenConfiguratorLibraryUtils {
     public static Result validateModuleSubobjectActualValue(
             PowerlinkSubobject plkSubObject, String value, long newObjectIndex,
             int newSubObjectindex) {
-        Result res = OpenConfiguratorCore.GetInstance().SetSubObjectActualValue(
-                plkSubObject.getNetworkId(), plkSubObject.getCNNodeId(),
-                newObjectIndex, (short) newSubObjectindex, value,
-                plkSubObject.isObjectForced(), true);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetSubObjectActualValue(plkSubObject.getNetworkId(),
+                        plkSubObject.getCNNodeId(), newObjectIndex,
+                        (short) newSubObjectindex, value,
+                        plkSubObject.isObjectForced(), true);
         return res;
     }
 
@@ -5401,18 +5646,19 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result validateObjectActualValue(PowerlinkObject plkObject,
             String actualValue) {
-        Result res = OpenConfiguratorCore.GetInstance().SetObjectActualValue(
-                plkObject.getNetworkId(), plkObject.getCNNodeId(),
-                plkObject.getId(), actualValue, plkObject.isObjectForced(),
-                true);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetObjectActualValue(plkObject.getNetworkId(),
+                        plkObject.getCNNodeId(), plkObject.getId(), actualValue,
+                        plkObject.isObjectForced(), true);
         return res;
     }
 
     private static Result validateObjectActualValue(PowerlinkObject plkObject,
             String actualValue, long newObjectIndex) {
-        Result res = OpenConfiguratorCore.GetInstance().SetObjectActualValue(
-                plkObject.getNetworkId(), plkObject.getCNNodeId(),
-                newObjectIndex, actualValue, plkObject.isObjectForced(), true);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetObjectActualValue(plkObject.getNetworkId(),
+                        plkObject.getCNNodeId(), newObjectIndex, actualValue,
+                        plkObject.isObjectForced(), true);
         return res;
     }
 
@@ -5431,8 +5677,9 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result validateObjectActualValue(String networkId,
             short nodeId, long objectId, String actualValue, boolean isForced) {
-        Result res = OpenConfiguratorCore.GetInstance().SetObjectActualValue(
-                networkId, nodeId, objectId, actualValue, isForced, true);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetObjectActualValue(networkId, nodeId, objectId, actualValue,
+                        isForced, true);
         return res;
     }
 
@@ -5445,20 +5692,22 @@ public class OpenConfiguratorLibraryUtils {
      */
     public static Result validateSubobjectActualValue(
             PowerlinkSubobject plkSubObject, String actualValue) {
-        Result res = OpenConfiguratorCore.GetInstance().SetSubObjectActualValue(
-                plkSubObject.getNetworkId(), plkSubObject.getCNNodeId(),
-                plkSubObject.getObject().getId(), plkSubObject.getId(),
-                actualValue, plkSubObject.isObjectForced(), true);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetSubObjectActualValue(plkSubObject.getNetworkId(),
+                        plkSubObject.getCNNodeId(),
+                        plkSubObject.getObject().getId(), plkSubObject.getId(),
+                        actualValue, plkSubObject.isObjectForced(), true);
         return res;
     }
 
     private static Result validateSubobjectActualValue(
             PowerlinkSubobject plkSubObject, String actualValue,
             long newObjectIndex, int newSubObjectIndex) {
-        Result res = OpenConfiguratorCore.GetInstance().SetSubObjectActualValue(
-                plkSubObject.getNetworkId(), plkSubObject.getCNNodeId(),
-                newObjectIndex, (short) newSubObjectIndex, actualValue,
-                plkSubObject.isObjectForced(), true);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetSubObjectActualValue(plkSubObject.getNetworkId(),
+                        plkSubObject.getCNNodeId(), newObjectIndex,
+                        (short) newSubObjectIndex, actualValue,
+                        plkSubObject.isObjectForced(), true);
         return res;
     }
 
@@ -5479,9 +5728,9 @@ public class OpenConfiguratorLibraryUtils {
     public static Result validateSubobjectActualValue(String networkId,
             short nodeId, long objectId, short subObjectId, String actualValue,
             boolean isForced) {
-        Result res = OpenConfiguratorCore.GetInstance().SetSubObjectActualValue(
-                networkId, nodeId, objectId, subObjectId, actualValue, isForced,
-                true);
+        Result res = OpenConfiguratorCoreProvider.getCore()
+                .SetSubObjectActualValue(networkId, nodeId, objectId,
+                        subObjectId, actualValue, isForced, true);
         return res;
     }
 }
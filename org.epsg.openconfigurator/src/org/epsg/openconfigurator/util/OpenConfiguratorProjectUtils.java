@@ -31,11 +31,7 @@
 
 package org.epsg.openconfigurator.util;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -49,7 +45,13 @@ import java.util.GregorianCalendar;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import javax.xml.bind.JAXBException;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -67,18 +69,21 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.CoreFuture;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.NodeAssignment;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
 import org.epsg.openconfigurator.lib.wrapper.Result;
-import org.epsg.openconfigurator.lib.wrapper.StringCollection;
 import org.epsg.openconfigurator.model.FirmwareManager;
 import org.epsg.openconfigurator.model.HeadNodeInterface;
+import org.epsg.openconfigurator.model.IAbstractNodeProperties;
 import org.epsg.openconfigurator.model.IPowerlinkProjectSupport;
 import org.epsg.openconfigurator.model.Module;
 import org.epsg.openconfigurator.model.Node;
+import org.epsg.openconfigurator.model.ObjectDictionary;
 import org.epsg.openconfigurator.model.Parameter;
 import org.epsg.openconfigurator.model.ParameterReference;
 import org.epsg.openconfigurator.model.PdoChannel;
+import org.epsg.openconfigurator.model.PlkOperationMode;
 import org.epsg.openconfigurator.model.PowerlinkObject;
 import org.epsg.openconfigurator.model.PowerlinkSubobject;
 import org.epsg.openconfigurator.xmlbinding.projectfile.FirmwareList.Firmware;
@@ -92,7 +97,9 @@ import org.epsg.openconfigurator.xmlbinding.projectfile.TNetworkConfiguration;
 import org.epsg.openconfigurator.xmlbinding.projectfile.TNodeCollection;
 import org.epsg.openconfigurator.xmlbinding.projectfile.TPath;
 import org.epsg.openconfigurator.xmlbinding.projectfile.TProjectConfiguration;
+import org.epsg.openconfigurator.xmlbinding.projectfile.TProjectConfiguration.PathSettings;
 import org.epsg.openconfigurator.xmlbinding.projectfile.TRMN;
+import org.epsg.openconfigurator.xmloperation.HeadNodeXdcMerge;
 import org.epsg.openconfigurator.xmloperation.JDomUtil;
 import org.epsg.openconfigurator.xmloperation.ProjectJDomOperation;
 import org.epsg.openconfigurator.xmloperation.XddJdomOperation;
@@ -131,12 +138,14 @@ public final class OpenConfiguratorProjectUtils {
 
     private static final String UPGRADE_MESSAGE = "Upgrading openCONFIGURATOR project version {0} to version {1}.";
 
+    private static final String EMPTY_OBJ_ACTUAL_VALUE = "0x0000000000000000"; //$NON-NLS-1$
+
     static {
         // Fetch the list of default buildConfigurationIDs from the
         // openconfigurator-core library.
         OpenConfiguratorProjectUtils.defaultBuildConfigurationIdList = new ArrayList<>();
-        StringCollection support = new StringCollection();
-        Result libApiRes = OpenConfiguratorCore.GetInstance()
+        List<String> support = new ArrayList<>();
+        Result libApiRes = OpenConfiguratorCoreProvider.getCore()
                 .GetSupportedSettingIds(support);
         if (!libApiRes.IsSuccessful()) {
             // TODO: Display a dialog to report it to the user
@@ -167,12 +176,14 @@ public final class OpenConfiguratorProjectUtils {
         String projectXmlLocation = firmwareMngr.getProjectXml().getLocation()
                 .toString();
         File xmlFile = new File(projectXmlLocation);
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.addFirmwareList(document, nodeOrModuleObj,
-                firmwareMngr, firmwareObj);
+            ProjectJDomOperation.addFirmwareList(document, nodeOrModuleObj,
+                    firmwareMngr, firmwareObj);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
         // Updates generator attributes in project file.
 
         if (nodeOrModuleObj instanceof Node) {
@@ -200,12 +211,14 @@ public final class OpenConfiguratorProjectUtils {
         String projectXmlLocation = node.getProjectXml().getLocation()
                 .toString();
         File xmlFile = new File(projectXmlLocation);
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.addInterfaceList(document, node, headinterface,
-                module);
+            ProjectJDomOperation.addInterfaceList(document, node, headinterface,
+                    module);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
     }
@@ -279,81 +292,63 @@ public final class OpenConfiguratorProjectUtils {
     }
 
     /**
-     * Copies the firmware files based on the latest version and hardware
-     * variant of firmware
+     * Copies the configuration file of the selected node for the new node in
+     * the {@link PersistenceQueue}. The path of the new node is updated
+     * immediately, the file is written after the pending updates of the
+     * selected node's XDC.
      *
-     * @param firmwareMngr Instance of Firmware manager
-     * @throws IOException Error with XDC/XDD file modification.
+     * @param selectedNode The node to be copied.
+     * @param nodeId The node ID of the new node.
+     * @param newNode The new node.
+     * @return The future of the file copy.
+     * @throws IOException If the configuration directory cannot be created.
      */
-    public static void copyFirmwareFiles(FirmwareManager firmwareMngr)
-            throws IOException {
-        java.nio.file.Path projectRootPath = firmwareMngr.getProject()
-                .getLocation().toFile().toPath();
-        String path = projectRootPath.toString() + IPath.SEPARATOR
-                + firmwareMngr.getFirmwareConfigPath();
-        java.nio.file.Path firmwareFile = new File(path).toPath();
-        String newFirmwareFileName = StringUtils.EMPTY;
-        if (firmwareFile != null) {
-            if ((firmwareFile.getFileName() != null)) {
-                String newFirmwareName = firmwareMngr.getNewFirmwareFileName();
-
-                newFirmwareFileName = newFirmwareName
-                        + IPowerlinkProjectSupport.FIRMWARE_EXTENSION;
-
-                String targetConfigurationPath = projectRootPath.toString()
-                        + IPath.SEPARATOR
-                        + IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR
-                        + IPath.SEPARATOR
-                        + IPowerlinkProjectSupport.FIRMWARE_OUTPUT_DIRECTORY
-                        + IPath.SEPARATOR + newFirmwareFileName;
-                String targetDirectoryPath = projectRootPath.toString()
-                        + IPath.SEPARATOR
-                        + IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR;
-
-                String firmwareDirPath = targetDirectoryPath + IPath.SEPARATOR
-                        + IPowerlinkProjectSupport.FIRMWARE_OUTPUT_DIRECTORY;
-
-                File firmwareOutputDir = new File(firmwareDirPath);
-
-                if (!firmwareOutputDir.exists()) {
-                    java.nio.file.Files
-                            .createDirectories(Paths.get(firmwareDirPath));
-                } else {
-                    System.out
-                            .println("Fw directory available in the project.");
-                }
-
-                java.nio.file.Files.copy(firmwareFile,
-                        new java.io.File(targetConfigurationPath).toPath(),
-                        java.nio.file.StandardCopyOption.COPY_ATTRIBUTES,
-                        java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-                        java.nio.file.LinkOption.NOFOLLOW_LINKS);
-
-                java.nio.file.Path pathRelative = projectRootPath
-                        .relativize(Paths.get(targetConfigurationPath));
-
-                String outputFirmware = projectRootPath.toString()
-                        + IPath.SEPARATOR + pathRelative;
-
-                File updatedFirmwareFile = new File(outputFirmware);
-                System.out.println("updatedfile file path ==="
-                        + updatedFirmwareFile.getAbsolutePath());
-
-                if (!firmwareMngr.isKeepXmlHeader()) {
-                    if (OpenConfiguratorProjectUtils
-                            .removeXmlheader(updatedFirmwareFile)) {
-                        System.out.println(
-                                "XML header value of firmware file is removed successfully.");
-                    } else {
-                        System.err.println(
-                                "Removing XML header from firmware file not successfull.");
-                    }
-                }
-
+    public static CoreFuture<Void> copyConfigurationFileInBackground(
+            Node selectedNode, int nodeId, Node newNode) throws IOException {
+        final File sourceFile = new File(selectedNode.getAbsolutePathToXdc());
+        final File targetFile = getConfigurationFileOfCopy(selectedNode,
+                nodeId, newNode);
+
+        Callable<Void> task = new Callable<Void>() {
+            @Override
+            public Void call() throws IOException {
+                FileUtils.copyFile(sourceFile, targetFile);
+                return null;
             }
+        };
+        return PersistenceQueue.submit(newNode.getNetworkId(), task);
+    }
 
+    /**
+     * Returns the configuration file of the copy of the selected node and
+     * updates the path of the new node.
+     */
+    private static File getConfigurationFileOfCopy(Node selectedNode,
+            int nodeId, Node newNode) throws IOException {
+        File sourceFile = new File(selectedNode.getAbsolutePathToXdc());
+        java.nio.file.Path projectRootPath = selectedNode.getProject()
+                .getLocation().toFile().toPath();
+        File configDirectory = new File(projectRootPath.toString()
+                + IPath.SEPARATOR
+                + IPowerlinkProjectSupport.DEVICE_CONFIGURATION_DIR);
+        if (!configDirectory.exists() && !configDirectory.mkdir()) {
+            throw new IOException("Unable to create the directory " //$NON-NLS-1$
+                    + configDirectory.getPath());
         }
 
+        // Replace the node ID suffix of the file name.
+        String fileName = FilenameUtils.removeExtension(sourceFile.getName());
+        int indexOfNodeId = fileName.lastIndexOf('_');
+        if (indexOfNodeId > 0) {
+            fileName = fileName.substring(0, indexOfNodeId);
+        }
+        fileName += "_" + nodeId + IPowerlinkProjectSupport.XDC_EXTENSION; //$NON-NLS-1$
+
+        File targetFile = new File(configDirectory, fileName);
+        String relativePath = projectRootPath
+                .relativize(targetFile.toPath()).toString().replace('\\', '/');
+        newNode.setPathToXDC(relativePath);
+        return targetFile;
     }
 
     public static void copyModuleConfigurationFile(Module selectedModule,
@@ -485,11 +480,13 @@ public final class OpenConfiguratorProjectUtils {
                 .toString();
         File xmlFile = new File(projectXmlLocation);
 
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.deleteNode(document, node);
+            ProjectJDomOperation.deleteNode(document, node);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
 
         // Delete the XDC file from the deviceConfiguration directory.
         // File localFile = new File(node.getAbsolutePathToXdc());
@@ -514,16 +511,18 @@ public final class OpenConfiguratorProjectUtils {
         String projectXmlLocation = node.getProjectXml().getLocation()
                 .toString();
         File xmlFile = new File(projectXmlLocation);
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        if (force) {
-            ProjectJDomOperation.forceActualValue(document, module,
-                    powerlinkObject, subObject, newObjectIndex, 0);
-        } else {
-            ProjectJDomOperation.removeForcedObject(document, module,
-                    powerlinkObject, subObject, newObjectIndex, 0);
+            if (force) {
+                ProjectJDomOperation.forceActualValue(document, module,
+                        powerlinkObject, subObject, newObjectIndex, 0);
+            } else {
+                ProjectJDomOperation.removeForcedObject(document, module,
+                        powerlinkObject, subObject, newObjectIndex, 0);
+            }
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
         }
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
 
@@ -536,16 +535,19 @@ public final class OpenConfiguratorProjectUtils {
         String projectXmlLocation = node.getProjectXml().getLocation()
                 .toString();
         File xmlFile = new File(projectXmlLocation);
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        if (force) {
-            ProjectJDomOperation.forceActualValue(document, module, object,
-                    powerlinkSubobject, newObjectIndex, newSubObjectIndex);
-        } else {
-            ProjectJDomOperation.removeForcedObject(document, module, object,
-                    powerlinkSubobject, newObjectIndex, newSubObjectIndex);
+            if (force) {
+                ProjectJDomOperation.forceActualValue(document, module, object,
+                        powerlinkSubobject, newObjectIndex, newSubObjectIndex);
+            } else {
+                ProjectJDomOperation.removeForcedObject(document, module,
+                        object, powerlinkSubobject, newObjectIndex,
+                        newSubObjectIndex);
+            }
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
         }
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
 
@@ -567,16 +569,18 @@ public final class OpenConfiguratorProjectUtils {
         String projectXmlLocation = node.getProjectXml().getLocation()
                 .toString();
         File xmlFile = new File(projectXmlLocation);
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        if (force) {
-            ProjectJDomOperation.forceActualValue(document, node, object,
-                    subObject);
-        } else {
-            ProjectJDomOperation.removeForcedObject(document, node, object,
-                    subObject);
+            if (force) {
+                ProjectJDomOperation.forceActualValue(document, node, object,
+                        subObject);
+            } else {
+                ProjectJDomOperation.removeForcedObject(document, node, object,
+                        subObject);
+            }
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
         }
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
     }
@@ -602,6 +606,83 @@ public final class OpenConfiguratorProjectUtils {
         return null;
     }
 
+    /**
+     * Returns the output path configured for the given output type in the
+     * active path settings of the project.
+     *
+     * @param project OpenCONFIGURATORProject instance.
+     * @param pathtext The output type. One of {@link #CUSTOM_CONFIG_PATH}.
+     * @return The output path instance.
+     */
+    public static org.epsg.openconfigurator.model.Path getConfigTextPath(
+            OpenCONFIGURATORProject project, String pathtext) {
+        List<PathSettings> pathSettList = project.getProjectConfiguration()
+                .getPathSettings();
+        String activepathSetting = project.getProjectConfiguration()
+                .getActivePathSetting();
+        PathSettings pathSett = null;
+        for (PathSettings setPath : pathSettList) {
+            if (setPath.getId() != null) {
+                if (setPath.getId().equalsIgnoreCase(activepathSetting)) {
+                    pathSett = setPath;
+                    break;
+                }
+            } else {
+                pathSett = setPath;
+            }
+        }
+
+        if (pathSett == null) {
+            return new org.epsg.openconfigurator.model.Path(
+                    IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR, true);
+        }
+
+        List<TPath> pathList = pathSett.getPath();
+        TPath pathConfig = null;
+        for (TPath path : pathList) {
+            if (path.getId().equalsIgnoreCase(pathtext)) {
+                pathConfig = path;
+            }
+        }
+
+        if (pathConfig == null) {
+            TPath defaultPath = getTPath(pathSett,
+                    PATH_SETTINGS_DEFAULT_PATH_ID);
+            if (defaultPath != null) {
+                return new org.epsg.openconfigurator.model.Path(
+                        defaultPath.getPath(), true);
+            }
+        }
+
+        if (pathConfig != null) {
+            String activeOutputPathID = pathConfig.getId();
+            if (activeOutputPathID == null) {
+                if (!pathSett.getPath().isEmpty()) {
+                    TPath defaultPath = getTPath(pathSett,
+                            PATH_SETTINGS_DEFAULT_PATH_ID);
+                    if (defaultPath != null) {
+                        return new org.epsg.openconfigurator.model.Path(
+                                defaultPath.getPath(), true);
+                    }
+                }
+            } else {
+                TPath defaultPath = getTPath(pathSett, activeOutputPathID);
+                if (defaultPath != null) {
+                    if (!defaultPath.getId().equalsIgnoreCase(
+                            PATH_SETTINGS_DEFAULT_PATH_ID)) {
+                        return new org.epsg.openconfigurator.model.Path(
+                                defaultPath.getPath(), false);
+                    }
+                } else {
+                    System.err.println(
+                            "Unhandled error occurred. activeOutputPath not found");
+                }
+            }
+        }
+        return new org.epsg.openconfigurator.model.Path(
+                IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR, true);
+    }
+
     /**
      * Get the current date to update XDD/XDC file modification date.
      *
@@ -646,6 +727,50 @@ public final class OpenConfiguratorProjectUtils {
         return ProjectJDomOperation.getParent(document);
     }
 
+    /**
+     * Returns the configuration file path of the node for the new node ID. The
+     * node ID suffix of the file name is replaced by the new node ID.
+     *
+     * @param node The node instance.
+     * @param newNodeId The new node ID.
+     * @return The path relative to the project, or <code>null</code> if the
+     *         node has no configuration file.
+     */
+    public static String getNodeConfigurationPath(Node node,
+            String newNodeId) {
+        java.nio.file.Path nodeImportFile = new File(node.getPathToXDC())
+                .toPath();
+        if ((nodeImportFile == null)
+                || (nodeImportFile.getFileName() == null)) {
+            return null;
+        }
+
+        java.nio.file.Path projectRootPath = node.getProject().getLocation()
+                .toFile().toPath();
+
+        String xddNameWithExtension = String
+                .valueOf(nodeImportFile.getFileName());
+        String oldNodeSuffix = "_" + node.getCnNodeIdValue()
+                + IPowerlinkProjectSupport.XDC_EXTENSION;
+
+        String xddFileNameWithNoSuffix = xddNameWithExtension.substring(0,
+                xddNameWithExtension.length() - oldNodeSuffix.length());
+
+        // Append node ID and the 'XDC' extension to the configuration
+        // file.
+        String xddFileNameWithSuffix = xddFileNameWithNoSuffix + "_"
+                + newNodeId + IPowerlinkProjectSupport.XDC_EXTENSION;
+
+        String targetConfigurationPath = String.valueOf(projectRootPath
+                .toString() + IPath.SEPARATOR
+                + IPowerlinkProjectSupport.DEVICE_CONFIGURATION_DIR
+                + IPath.SEPARATOR + xddFileNameWithSuffix);
+
+        java.nio.file.Path pathRelative = projectRootPath
+                .relativize(Paths.get(targetConfigurationPath));
+        return pathRelative.toString().replace('\\', '/');
+    }
+
     /**
      * Finds the settingId in the list of agSettings and returns the
      * TKeyValuePair instance
@@ -960,31 +1085,109 @@ public final class OpenConfiguratorProjectUtils {
         return isNodeConfigurationFileImport;
     }
 
-    private static void importNodeXDCFile(Node node) throws IOException {
-        java.nio.file.Path nodeImportFile = new File(
-                node.getAbsolutePathToXdc()).toPath();
-        java.nio.file.Path projectRootPath = node.getProject().getLocation()
-                .toFile().toPath();
-        String targetImportPath = StringUtils.EMPTY;
-        if (nodeImportFile != null) {
-            if ((nodeImportFile.getFileName() != null)) {
-                targetImportPath = String
-                        .valueOf(projectRootPath.toString() + IPath.SEPARATOR
-                                + IPowerlinkProjectSupport.DEFAULT_OUTPUT_DIR
-                                + IPath.SEPARATOR
-                                + String.valueOf(nodeImportFile.getFileName()));
+    /**
+     * Import the configuration file of the nodes created from the same XDD
+     * into the workspace. The XDD is imported once with the first node and
+     * the XDC files of the other nodes are copied in parallel.
+     *
+     * @param newNodes The nodes to be imported.
+     * @throws IOException Errors with XDC/XDD file modification.
+     */
+    public static void importNodeConfigurationFiles(List<Node> newNodes)
+            throws IOException {
+        if (newNodes.isEmpty()) {
+            return;
+        }
 
-                // Copy the Node configuration to deviceImport dir
-                // The declared local variable performs copy operation and will
-                // not be used anywhere.
-                java.nio.file.Files.copy(
-                        new java.io.File(nodeImportFile.toString()).toPath(),
-                        new java.io.File(targetImportPath).toPath(),
-                        java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-                        java.nio.file.StandardCopyOption.COPY_ATTRIBUTES,
-                        java.nio.file.LinkOption.NOFOLLOW_LINKS);
+        Node firstNode = newNodes.get(0);
+        String xddFileName = String.valueOf(
+                new File(firstNode.getPathToXDC()).toPath().getFileName());
+        importNodeConfigurationFile(firstNode);
+
+        final java.nio.file.Path projectRootPath = firstNode.getProject()
+                .getLocation().toFile().toPath();
+        final java.nio.file.Path nodeImportFile = Paths.get(
+                projectRootPath.toString(),
+                IPowerlinkProjectSupport.DEVICE_IMPORT_DIR, xddFileName);
+        String baseName = FilenameUtils.removeExtension(xddFileName);
+
+        List<Node> otherNodes = newNodes.subList(1, newNodes.size());
+        if (otherNodes.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(Runtime.getRuntime().availableProcessors(),
+                        otherNodes.size()));
+        try {
+            List<Future<java.nio.file.Path>> results = new ArrayList<>();
+            for (Node node : otherNodes) {
+                final java.nio.file.Path targetConfigurationPath = Paths.get(
+                        projectRootPath.toString(),
+                        IPowerlinkProjectSupport.DEVICE_CONFIGURATION_DIR,
+                        baseName + "_" + node.getCnNodeIdValue()
+                                + IPowerlinkProjectSupport.XDC_EXTENSION);
+                results.add(executor.submit(new Callable<java.nio.file.Path>() {
+                    @Override
+                    public java.nio.file.Path call() throws IOException {
+                        return java.nio.file.Files.copy(nodeImportFile,
+                                targetConfigurationPath,
+                                java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                                java.nio.file.StandardCopyOption.COPY_ATTRIBUTES,
+                                java.nio.file.LinkOption.NOFOLLOW_LINKS);
+                    }
+                }));
             }
+
+            for (int i = 0; i < results.size(); i++) {
+                java.nio.file.Path targetConfigurationPath;
+                try {
+                    targetConfigurationPath = results.get(i).get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                } catch (ExecutionException e) {
+                    throw new IOException(e.getCause());
+                }
+
+                // Set the relative path to the CN object
+                String relativePath = projectRootPath
+                        .relativize(targetConfigurationPath).toString();
+                relativePath = relativePath.replace('\\', '/');
+
+                otherNodes.get(i).setPathToXDC(relativePath);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Checks whether the custom output path settings are active for the
+     * project.
+     *
+     * @param project OpenCONFIGURATORProject instance.
+     * @return <code>True</code> if custom paths are active, <code>False</code>
+     *         otherwise.
+     */
+    public static boolean isCustomPathAvailable(
+            OpenCONFIGURATORProject project) {
+        String activepathSetting = project.getProjectConfiguration()
+                .getActivePathSetting();
+        if (activepathSetting == null) {
+            return false;
         }
+
+        if (activepathSetting.equalsIgnoreCase(PATH_SETTINGS_ALL_PATH_ID)) {
+            return false;
+        }
+
+        if (activepathSetting
+                .equalsIgnoreCase(PATH_SETTINGS_CUSTOM_PATH_ID)) {
+            return true;
+        }
+
+        return false;
     }
 
     /**
@@ -1139,28 +1342,6 @@ public final class OpenConfiguratorProjectUtils {
      */
     public static Result persistNodeData(Node node)
             throws JDOMException, IOException {
-
-        File xdcFile = new File(node.getAbsolutePathToXdc());
-
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
-
-        // Delete the actual value from the model.
-        for (PowerlinkObject obj : node.getObjectDictionary()
-                .getObjectsList()) {
-            List<PowerlinkSubobject> subObjList = obj.getSubObjects();
-            if (!subObjList.isEmpty()) {
-                for (PowerlinkSubobject subObj : subObjList) {
-                    subObj.deleteActualValue();
-                }
-            } else {
-                obj.deleteActualValue();
-            }
-        }
-
-        // Delete the actual value field on all objects available in the
-        // file.
-        XddJdomOperation.deleteActualValues(document);
-
         // Prepare the Java based object collection.
         java.util.LinkedHashMap<java.util.Map.Entry<Long, Integer>, String> objectJCollection = new LinkedHashMap<>();
         Result res = OpenConfiguratorLibraryUtils
@@ -1171,11 +1352,49 @@ public final class OpenConfiguratorProjectUtils {
             return res;
         }
 
-        node.writeObjectActualValues(objectJCollection, document);
+        persistNodeData(node, objectJCollection);
+        return res;
+    }
 
-        writeToXddXmlDocument(document, xdcFile);
+    /**
+     * Persists the given actual values of the node into the XDC.
+     *
+     * @param node The node instance.
+     * @param objectJCollection The objects of the node with an actual value
+     *            read from the library.
+     * @throws IOException Error with XDC/XDD file modification.
+     * @throws JDOMException Error with time modifications
+     */
+    private static void persistNodeData(Node node,
+            java.util.LinkedHashMap<java.util.Map.Entry<Long, Integer>, String> objectJCollection)
+            throws JDOMException, IOException {
 
-        return res;
+        File xdcFile = new File(node.getAbsolutePathToXdc());
+
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+
+            // Delete the actual value from the model.
+            for (PowerlinkObject obj : node.getObjectDictionary()
+                    .getObjectsList()) {
+                List<PowerlinkSubobject> subObjList = obj.getSubObjects();
+                if (!subObjList.isEmpty()) {
+                    for (PowerlinkSubobject subObj : subObjList) {
+                        subObj.deleteActualValue();
+                    }
+                } else {
+                    obj.deleteActualValue();
+                }
+            }
+
+            // Delete the actual value field on all objects available in the
+            // file.
+            XddJdomOperation.deleteActualValues(document);
+
+            node.writeObjectActualValues(objectJCollection, document);
+
+            writeToXddXmlDocument(document, xdcFile);
+        }
     }
 
     /**
@@ -1190,12 +1409,14 @@ public final class OpenConfiguratorProjectUtils {
     public static void removeConnectedModulesList(Node node, Module module,
             boolean finalModuleCheck) throws JDOMException, IOException {
         File xdcFile = new File(node.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.deleteConnectedModules(document, module,
-                finalModuleCheck);
+            XddJdomOperation.deleteConnectedModules(document, module,
+                    finalModuleCheck);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(module.getNode());
@@ -1206,70 +1427,12 @@ public final class OpenConfiguratorProjectUtils {
             throws JDOMException, IOException {
         String projectXmlLocation = projectFile.getLocation().toString();
         File xmlFile = new File(projectXmlLocation);
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
-        ProjectJDomOperation.removeIDEConfigurationSettings(document);
-
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
-    }
-
-    private static boolean removeXmlheader(File updatedFirmwareFile)
-            throws IOException {
-        BufferedReader bufferedRdr = null;
-        BufferedWriter bufferedWriter = null;
-        FileWriter fileWriter = null;
-        boolean isFirmwareFileUpdate = false;
-        try {
-            bufferedRdr = new BufferedReader(
-                    new FileReader(updatedFirmwareFile));
-            String firmwareHeaderLines = StringUtils.EMPTY;
-            String firmwareline = StringUtils.EMPTY;
-            while ((firmwareHeaderLines = bufferedRdr.readLine()) != null) {
-                firmwareline += firmwareHeaderLines.concat("\n");
-            }
-            int firmwareEndIndex = firmwareline.indexOf(">");
-            // Removes the header of firmware file.
-            firmwareline = firmwareline.substring(firmwareEndIndex + 1);
-            fileWriter = new FileWriter(updatedFirmwareFile);
-            bufferedWriter = new BufferedWriter(fileWriter);
-            bufferedWriter.write(firmwareline);
-            bufferedWriter.close();
-            isFirmwareFileUpdate = true;
-        } catch (RuntimeException e) {
-            if (bufferedRdr != null) {
-                bufferedRdr.close();
-            }
-            if (bufferedWriter != null) {
-                bufferedWriter.close();
-            }
-            if (fileWriter != null) {
-                fileWriter.close();
-            }
-            throw e;
-        } catch (Exception e) {
-            if (bufferedWriter != null) {
-                bufferedWriter.close();
-            }
-            if (bufferedRdr != null) {
-                bufferedRdr.close();
-            }
-
-            if (fileWriter != null) {
-                fileWriter.close();
-            }
-            e.printStackTrace();
-        } finally {
-            if (bufferedRdr != null) {
-                bufferedRdr.close();
-            }
-            if (bufferedWriter != null) {
-                bufferedWriter.close();
-            }
-            if (fileWriter != null) {
-                fileWriter.close();
-            }
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+            ProjectJDomOperation.removeIDEConfigurationSettings(document);
 
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
         }
-        return isFirmwareFileUpdate;
     }
 
     /**
@@ -1290,13 +1453,15 @@ public final class OpenConfiguratorProjectUtils {
                 .getLocation().toString();
         File xmlFile = new File(projectXmlLocation);
 
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
-        System.err.println("The position value == " + attributeValue
-                + " module name.." + module.getModuleName());
-        ProjectJDomOperation.swapModuleAttributeValue(document, module,
-                attributeName, attributeValue);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+            System.err.println("The position value == " + attributeValue
+                    + " module name.." + module.getModuleName());
+            ProjectJDomOperation.swapModuleAttributeValue(document,
+                    module, attributeName, attributeValue);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
 
         System.err.println("Successfully updted in the project file.....");
         // Updates generator attributes in project file.
@@ -1318,12 +1483,14 @@ public final class OpenConfiguratorProjectUtils {
             Map<Integer, Module> moduleCollection)
             throws JDOMException, IOException {
         File xdcFile = new File(node.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.addConnectedModules(document, headNodeInterface,
-                moduleCollection);
+            XddJdomOperation.addConnectedModules(document, headNodeInterface,
+                    moduleCollection);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
@@ -1344,23 +1511,25 @@ public final class OpenConfiguratorProjectUtils {
                 .toString();
         File xmlFile = new File(projectXmlLocation);
 
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.updateGeneratorAttribute(document,
-                MODIFIED_ON_ATTRIBUTE, getCurrentTimeandDate());
+            ProjectJDomOperation.updateGeneratorAttribute(document,
+                    MODIFIED_ON_ATTRIBUTE, getCurrentTimeandDate());
 
-        ProjectJDomOperation.updateGeneratorAttribute(document,
-                TOOL_VERSION_ATTRIBUTE, GENERATOR_TOOL_VERSION);
-        String modifiedByName = System
-                .getProperty(OpenConfiguratorProjectUtils.SYSTEM_USER_NAME_ID);
-        ProjectJDomOperation.updateGeneratorAttribute(document,
-                MODIFIED_BY_ATTRIBUTE, modifiedByName);
+            ProjectJDomOperation.updateGeneratorAttribute(document,
+                    TOOL_VERSION_ATTRIBUTE, GENERATOR_TOOL_VERSION);
+            String modifiedByName = System.getProperty(
+                    OpenConfiguratorProjectUtils.SYSTEM_USER_NAME_ID);
+            ProjectJDomOperation.updateGeneratorAttribute(document,
+                    MODIFIED_BY_ATTRIBUTE, modifiedByName);
 
-        OpenCONFIGURATORProject openConfiguratorProject = node
-                .getCurrentProject();
-        updateGeneratorInformation(openConfiguratorProject);
+            OpenCONFIGURATORProject openConfiguratorProject = node
+                    .getCurrentProject();
+            updateGeneratorInformation(openConfiguratorProject);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
     }
 
     /**
@@ -1411,11 +1580,13 @@ public final class OpenConfiguratorProjectUtils {
                 .getLocation().toString();
         File xmlFile = new File(projectXmlLocation);
 
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
-        ProjectJDomOperation.updateModuleAttributeValue(document, module,
-                attributeName, attributeValue);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+            ProjectJDomOperation.updateModuleAttributeValue(document, module,
+                    attributeName, attributeValue);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
 
         System.err.println("Successfully updted in the project file.....");
         // Updates generator attributes in project file.
@@ -1502,6 +1673,77 @@ public final class OpenConfiguratorProjectUtils {
         updateGeneratorInfo(module.getNode());
     }
 
+    /**
+     * Renames the configuration files of the modules to match their new
+     * positions. The files are renamed to temporary names first, so that the
+     * modules of the same type can exchange their positions.
+     *
+     * @param modules The modules to be moved.
+     * @param newPositions The new positions of the modules.
+     */
+    public static void updateModuleConfigurationPaths(List<Module> modules,
+            List<Integer> newPositions) {
+        if (modules.isEmpty()) {
+            return;
+        }
+
+        java.nio.file.Path projectRootPath = modules.get(0).getProject()
+                .getLocation().toFile().toPath();
+        List<File> temporaryFiles = new ArrayList<>(modules.size());
+        List<File> updatedFiles = new ArrayList<>(modules.size());
+        for (int i = 0; i < modules.size(); i++) {
+            Module module = modules.get(i);
+            temporaryFiles.add(null);
+            updatedFiles.add(null);
+            if (module.getModulePathToXdc() == null) {
+                continue;
+            }
+
+            File unModifiedfile = new File(projectRootPath.toFile(),
+                    module.getModulePathToXdc());
+            String xddNameWithExtension = unModifiedfile.getName();
+            String oldNodeSuffix = "_" + module.getPosition()
+                    + IPowerlinkProjectSupport.XDC_EXTENSION;
+            if (!xddNameWithExtension.endsWith(oldNodeSuffix)) {
+                System.err.println("File name not modified.");
+                continue;
+            }
+
+            String xddFileNameWithSuffix = xddNameWithExtension.substring(0,
+                    xddNameWithExtension.length() - oldNodeSuffix.length())
+                    + "_" + newPositions.get(i)
+                    + IPowerlinkProjectSupport.XDC_EXTENSION;
+            File temporaryFile = new File(unModifiedfile.getParentFile(),
+                    xddFileNameWithSuffix + ".move"); //$NON-NLS-1$
+            if (unModifiedfile.renameTo(temporaryFile)) {
+                temporaryFiles.set(i, temporaryFile);
+                updatedFiles.set(i, new File(unModifiedfile.getParentFile(),
+                        xddFileNameWithSuffix));
+            } else {
+                System.err.println("File name not modified.");
+            }
+        }
+
+        for (int i = 0; i < modules.size(); i++) {
+            File temporaryFile = temporaryFiles.get(i);
+            File updatedfile = updatedFiles.get(i);
+            if (temporaryFile == null) {
+                continue;
+            }
+            if (!temporaryFile.renameTo(updatedfile)) {
+                System.err.println("File name not modified.");
+                updatedfile = temporaryFile;
+            }
+
+            String relativePath = projectRootPath
+                    .relativize(updatedfile.toPath()).toString();
+            relativePath = relativePath.replace('\\', '/');
+
+            // Set the relative path to the module object
+            modules.get(i).setPathToXDC(relativePath);
+        }
+    }
+
     /**
      * Updates the index of module object in XDC file
      *
@@ -1515,12 +1757,14 @@ public final class OpenConfiguratorProjectUtils {
             long moduleObjectIndex, PowerlinkObject object)
             throws JDOMException, IOException {
         File xdcFile = new File(module.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateModuleObjectIndex(document, module,
-                moduleObjectIndex, object);
+            XddJdomOperation.updateModuleObjectIndex(document, module,
+                    moduleObjectIndex, object);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(module.getNode());
@@ -1537,18 +1781,13 @@ public final class OpenConfiguratorProjectUtils {
     public static Status updateModuleObjectInNode(Node node,
             IProgressMonitor monitor) throws JDOMException, IOException {
         monitor.subTask("Export module node XDC:");
-        importNodeXDCFile(node);
         File xdcFile = new File(node.getOutputPathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
-
-        XddJdomOperation.updateModuleObjectInNode(document, node);
-
-        XddJdomOperation.updateNumberOfEntries(document, node);
-
-        XddJdomOperation.addConnectedModules(document, node.getInterface(),
-                node.getInterface().getModuleCollection());
+        // Only the modules changed since the last export are merged again.
+        HeadNodeXdcMerge xdcMerge = node.getXdcMerge();
+        org.jdom2.Document document = xdcMerge.update(node, xdcFile);
 
         writeToXddXmlDocument(document, xdcFile);
+        xdcMerge.setOutputWritten(xdcFile);
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
@@ -1563,6 +1802,44 @@ public final class OpenConfiguratorProjectUtils {
                 org.epsg.openconfigurator.Activator.PLUGIN_ID, "OK", null);
     }
 
+    /**
+     * Updates the position, the address and the path to the XDC of the moved
+     * modules in the project file with a single write.
+     *
+     * @param node Instance of modular head node.
+     * @param modules The moved modules.
+     * @throws IOException Errors with XDC file modifications.
+     * @throws JDOMException Errors with time modifications.
+     */
+    public static void updateModulePositions(Node node, List<Module> modules)
+            throws JDOMException, IOException {
+        String projectXmlLocation = node.getProjectXml().getLocation()
+                .toString();
+        File xmlFile = new File(projectXmlLocation);
+
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+            for (Module module : modules) {
+                ProjectJDomOperation.swapModuleAttributeValue(document,
+                        module, IAbstractNodeProperties.MODULE_POSITION_OBJECT,
+                        String.valueOf(module.getPosition()));
+                ProjectJDomOperation.swapModuleAttributeValue(document,
+                        module, IAbstractNodeProperties.MODULE_ADDRESS_OBJECT,
+                        String.valueOf(module.getAddress()));
+                if (module.getModulePathToXdc() != null) {
+                    ProjectJDomOperation.swapModuleAttributeValue(document,
+                            module, IAbstractNodeProperties.NODE_CONIFG_OBJECT,
+                            module.getModulePathToXdc());
+                }
+            }
+
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
+
+        // Updates generator attributes in project file.
+        updateGeneratorInfo(node);
+    }
+
     /**
      * Updates the sub-object of module into node.
      *
@@ -1578,12 +1855,14 @@ public final class OpenConfiguratorProjectUtils {
             long index, PowerlinkSubobject subObject, int subIndex)
             throws JDOMException, IOException {
         File xdcFile = new File(node.getOutputPathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateModuleSubObjectInNode(document, module,
-                subObject, node, index, subIndex);
+            XddJdomOperation.updateModuleSubObjectInNode(document, module,
+                    subObject, node, index, subIndex);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
@@ -1607,12 +1886,14 @@ public final class OpenConfiguratorProjectUtils {
                 .toString();
         File xmlFile = new File(projectXmlLocation);
 
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.updateNetworkAttributeValue(document,
-                attributeName, attributeValue);
+            ProjectJDomOperation.updateNetworkAttributeValue(document,
+                    attributeName, attributeValue);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
@@ -1630,41 +1911,56 @@ public final class OpenConfiguratorProjectUtils {
      */
     public static void updateNodeAssignmentValues(final Node node)
             throws JDOMException, IOException {
-        long nodeAssignmentValue = OpenConfiguratorLibraryUtils
-                .getNodeAssignment(node);
+        updateNodeAssignmentValues(node,
+                OpenConfiguratorLibraryUtils.getNodeAssignment(node));
+    }
 
+    /**
+     * Persists the given node assignment value in the model and the project
+     * XML file.
+     *
+     * @param node The node instance.
+     * @param nodeAssignmentValue The node assignment read from the library.
+     * @throws IOException Error with XDC/XDD file modification.
+     * @throws JDOMException Error with time modifications
+     */
+    private static void updateNodeAssignmentValues(final Node node,
+            long nodeAssignmentValue) throws JDOMException, IOException {
         String projectXmlLocation = node.getProjectXml().getLocation()
                 .toString();
         File xmlFile = new File(projectXmlLocation);
 
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        NodeAssignment[] nodeAssignList = NodeAssignment.values();
+            NodeAssignment[] nodeAssignList = NodeAssignment.values();
 
-        for (NodeAssignment na : nodeAssignList) {
-            boolean nodeAssignmentEnabled = false;
-            if ((nodeAssignmentValue & na.swigValue()) == na.swigValue()) {
-                nodeAssignmentEnabled = true;
-            } else {
-                nodeAssignmentEnabled = false;
-            }
+            for (NodeAssignment na : nodeAssignList) {
+                boolean nodeAssignmentEnabled = false;
+                if ((nodeAssignmentValue & na.swigValue()) == na.swigValue()) {
+                    nodeAssignmentEnabled = true;
+                } else {
+                    nodeAssignmentEnabled = false;
+                }
 
-            // Update in the model immediately.
-            boolean updatedInTheModel = node.setNodeAssignment(na,
-                    nodeAssignmentEnabled);
+                // Update in the model immediately.
+                boolean updatedInTheModel = node.setNodeAssignment(na,
+                        nodeAssignmentEnabled);
 
-            if (updatedInTheModel) {
-                String attributeName = Node.getNodeAssignment(na);
-                if (attributeName.isEmpty()) {
-                    continue;
-                }
+                if (updatedInTheModel) {
+                    String attributeName = Node.getNodeAssignment(na);
+                    if (attributeName.isEmpty()) {
+                        continue;
+                    }
 
-                ProjectJDomOperation.updateNodeAttributeValue(document, node,
-                        attributeName, String.valueOf(nodeAssignmentEnabled));
+                    ProjectJDomOperation.updateNodeAttributeValue(document,
+                            node, attributeName,
+                            String.valueOf(nodeAssignmentEnabled));
+                }
             }
-        }
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
     }
 
     /**
@@ -1684,12 +1980,14 @@ public final class OpenConfiguratorProjectUtils {
                 .toString();
         File xmlFile = new File(projectXmlLocation);
 
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.updateNodeAttributeValue(document, node,
-                attributeName, attributeValue);
+            ProjectJDomOperation.updateNodeAttributeValue(document, node,
+                    attributeName, attributeValue);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
     }
@@ -1707,50 +2005,20 @@ public final class OpenConfiguratorProjectUtils {
     public static void updateNodeConfigurationPath(Node node, String newNodeId)
             throws IOException, JDOMException {
 
-        java.nio.file.Path nodeImportFile = new File(node.getPathToXDC())
-                .toPath();
-
         java.nio.file.Path projectRootPath = node.getProject().getLocation()
                 .toFile().toPath();
 
-        String xddNameWithExtension = StringUtils.EMPTY;
-        if (nodeImportFile != null) {
-            if ((nodeImportFile.getFileName() != null)) {
-                xddNameWithExtension = String
-                        .valueOf(nodeImportFile.getFileName());
-                String oldNodeSuffix = "_" + node.getCnNodeIdValue()
-                        + IPowerlinkProjectSupport.XDC_EXTENSION;
-
-                String xddFileNameWithNoSuffix = xddNameWithExtension.substring(
-                        0,
-                        xddNameWithExtension.length() - oldNodeSuffix.length());
-
-                // Append node ID and the 'XDC' extension to the configuration
-                // file.
-                String xddFileNameWithSuffix = xddFileNameWithNoSuffix + "_"
-                        + newNodeId + IPowerlinkProjectSupport.XDC_EXTENSION;
-
-                String targetConfigurationPath = String
-                        .valueOf(projectRootPath.toString() + IPath.SEPARATOR
-                                + IPowerlinkProjectSupport.DEVICE_CONFIGURATION_DIR
-                                + IPath.SEPARATOR + xddFileNameWithSuffix);
-
-                java.nio.file.Path pathRelative = projectRootPath
-                        .relativize(Paths.get(targetConfigurationPath));
-                File unModifiedfile = new File(
-                        projectRootPath + "/" + nodeImportFile);
-                File updatedfile = new File(
-                        projectRootPath + "/" + pathRelative);
-
-                Files.move(unModifiedfile.toPath(), updatedfile.toPath(),
-                        StandardCopyOption.REPLACE_EXISTING);
+        String relativePath = getNodeConfigurationPath(node, newNodeId);
+        if (relativePath != null) {
+            File unModifiedfile = new File(
+                    projectRootPath + "/" + node.getPathToXDC());
+            File updatedfile = new File(projectRootPath + "/" + relativePath);
 
-                String relativePath = pathRelative.toString();
-                relativePath = relativePath.replace('\\', '/');
+            Files.move(unModifiedfile.toPath(), updatedfile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
 
-                // Set the relative path to the CN object
-                node.setPathToXDC(relativePath);
-            }
+            // Set the relative path to the CN object
+            node.setPathToXDC(relativePath);
         }
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
@@ -1760,12 +2028,14 @@ public final class OpenConfiguratorProjectUtils {
             PowerlinkObject powerlinkObject, String actualValue)
             throws IOException, JDOMException {
         File xdcFile = new File(module.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateActualValue(document, powerlinkObject,
-                actualValue);
+            XddJdomOperation.updateActualValue(document, powerlinkObject,
+                    actualValue);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(module.getNode());
@@ -1776,11 +2046,13 @@ public final class OpenConfiguratorProjectUtils {
             PowerlinkSubobject object, String actualValue)
             throws IOException, JDOMException {
         File xdcFile = new File(module.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateActualValue(document, object, actualValue);
+            XddJdomOperation.updateActualValue(document, object, actualValue);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(module.getNode());
@@ -1800,11 +2072,13 @@ public final class OpenConfiguratorProjectUtils {
             final PowerlinkObject object, String actualValue)
             throws IOException, JDOMException {
         File xdcFile = new File(node.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateActualValue(document, object, actualValue);
+            XddJdomOperation.updateActualValue(document, object, actualValue);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
@@ -1823,16 +2097,58 @@ public final class OpenConfiguratorProjectUtils {
             final PowerlinkSubobject object, String actualValue)
             throws IOException, JDOMException {
         File xdcFile = new File(node.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateActualValue(document, object, actualValue);
+            XddJdomOperation.updateActualValue(document, object, actualValue);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
     }
 
+    /**
+     * Changes the POWERLINK operation mode of the node and persists the node
+     * assignment and the actual values changed by the library along with the
+     * operation mode. The library is changed and read in one task of the core
+     * thread.
+     *
+     * Note: User has to updates the generator attributes in project file.
+     *
+     * @param node The node instance.
+     * @param mode The new operation mode.
+     * @param multiplexedCycle The forced multiplexed cycle of a multiplexed
+     *            node.
+     * @return Result from the library.
+     * @throws IOException Error with XDC/XDD file modification.
+     * @throws JDOMException Error with time modifications
+     */
+    public static Result updateOperationMode(final Node node,
+            PlkOperationMode mode, short multiplexedCycle)
+            throws JDOMException, IOException {
+        List<Long> nodeAssignments = new ArrayList<>();
+        java.util.LinkedHashMap<java.util.Map.Entry<Long, Integer>, String> objectJCollection = new LinkedHashMap<>();
+        Result res = OpenConfiguratorLibraryUtils.setOperationMode(node, mode,
+                multiplexedCycle, nodeAssignments, objectJCollection);
+        if (!res.IsSuccessful()) {
+            OpenConfiguratorMessageConsole.getInstance()
+                    .printLibraryErrorMessage(res);
+            return res;
+        }
+
+        node.setPlkOperationMode(mode);
+
+        long nodeAssignmentValue = 0L;
+        for (Long assignment : nodeAssignments) {
+            nodeAssignmentValue |= assignment;
+        }
+        updateNodeAssignmentValues(node, nodeAssignmentValue);
+        persistNodeData(node, objectJCollection);
+        return res;
+    }
+
     /**
      * Update actual value of parameter into the device configuration file.
      *
@@ -1846,12 +2162,14 @@ public final class OpenConfiguratorProjectUtils {
             Parameter parameter, String actualValue)
             throws JDOMException, IOException {
         File xdcFile = new File(module.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateParameterActualValue(document, parameter,
-                actualValue);
+            XddJdomOperation.updateParameterActualValue(document, parameter,
+                    actualValue);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(module.getNode());
@@ -1870,12 +2188,14 @@ public final class OpenConfiguratorProjectUtils {
             Parameter parameter, String actualValue)
             throws JDOMException, IOException {
         File xdcFile = new File(node.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateParameterActualValue(document, parameter,
-                actualValue);
+            XddJdomOperation.updateParameterActualValue(document, parameter,
+                    actualValue);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
@@ -1896,12 +2216,14 @@ public final class OpenConfiguratorProjectUtils {
             ParameterReference parameterReference, String actualValue)
             throws JDOMException, IOException {
         File xdcFile = new File(node.getAbsolutePathToXdc());
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        XddJdomOperation.updateParameterReferenceActualValue(document,
-                parameterReference, actualValue);
+            XddJdomOperation.updateParameterReferenceActualValue(document,
+                    parameterReference, actualValue);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
 
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
@@ -1923,35 +2245,38 @@ public final class OpenConfiguratorProjectUtils {
         Node node = pdoChannel.getNode();
         File xdcFile = new File(node.getAbsolutePathToXdc());
 
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
+        Result res;
+        synchronized (JDomUtil.getFileLock(xdcFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xdcFile);
 
-        // Delete the mapping actual values from the model.
-        List<PowerlinkSubobject> subObjList = pdoChannel.getMappingParam()
-                .getSubObjects();
-        if (!subObjList.isEmpty()) {
-            for (PowerlinkSubobject subObj : subObjList) {
-                subObj.deleteActualValue();
+            // Delete the mapping actual values from the model.
+            List<PowerlinkSubobject> subObjList = pdoChannel.getMappingParam()
+                    .getSubObjects();
+            if (!subObjList.isEmpty()) {
+                for (PowerlinkSubobject subObj : subObjList) {
+                    subObj.deleteActualValue();
+                }
             }
-        }
-
-        // Delete the mapping actual values from the XDC file.
-        XddJdomOperation.deletePowerlinkObjectActualValue(document,
-                pdoChannel.getMappingParam());
 
-        // Prepare the Java based object collection.
-        java.util.LinkedHashMap<java.util.Map.Entry<Long, Integer>, String> objectJCollection = new LinkedHashMap<>();
-        Result res = OpenConfiguratorLibraryUtils
-                .getChannelObjectsWithActualValue(pdoChannel,
-                        objectJCollection);
-        if (!res.IsSuccessful()) {
-            OpenConfiguratorMessageConsole.getInstance()
-                    .printLibraryErrorMessage(res);
-            return res;
-        }
+            // Delete the mapping actual values from the XDC file.
+            XddJdomOperation.deletePowerlinkObjectActualValue(document,
+                    pdoChannel.getMappingParam());
+
+            // Prepare the Java based object collection.
+            java.util.LinkedHashMap<java.util.Map.Entry<Long, Integer>, String> objectJCollection = new LinkedHashMap<>();
+            res = OpenConfiguratorLibraryUtils
+                    .getChannelObjectsWithActualValue(pdoChannel,
+                            objectJCollection);
+            if (!res.IsSuccessful()) {
+                OpenConfiguratorMessageConsole.getInstance()
+                        .printLibraryErrorMessage(res);
+                return res;
+            }
 
-        node.writeObjectActualValues(objectJCollection, document);
+            node.writeObjectActualValues(objectJCollection, document);
 
-        writeToXddXmlDocument(document, xdcFile);
+            writeToXddXmlDocument(document, xdcFile);
+        }
         // Updates generator attributes in project file.
         updateGeneratorInfo(node);
 
@@ -1976,17 +2301,19 @@ public final class OpenConfiguratorProjectUtils {
     public static void updateProjectSourceFile(File projectSystemFile2)
             throws JDOMException, IOException {
         File xmlFile = projectSystemFile2;
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.removeIDEConfigurationSettings(document);
+            ProjectJDomOperation.removeIDEConfigurationSettings(document);
 
-        ProjectJDomOperation.updateOutputPath(document);
+            ProjectJDomOperation.updateOutputPath(document);
 
-        ProjectJDomOperation.updateAutoGenerationSettings(document);
+            ProjectJDomOperation.updateAutoGenerationSettings(document);
 
-        // ProjectJDomOperation.updatePathToXDC(document);
+            // ProjectJDomOperation.updatePathToXDC(document);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
 
     }
 
@@ -2000,17 +2327,19 @@ public final class OpenConfiguratorProjectUtils {
     public static void updateProjectXDCSourceFile(File projectSystemFile)
             throws JDOMException, IOException {
         File xmlFile = projectSystemFile;
-        org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
+        synchronized (JDomUtil.getFileLock(xmlFile)) {
+            org.jdom2.Document document = JDomUtil.getXmlDocument(xmlFile);
 
-        ProjectJDomOperation.updateMNPathTOXDC(document);
+            ProjectJDomOperation.updateMNPathTOXDC(document);
 
-        ProjectJDomOperation.updateRMNPathTOXDC(document);
+            ProjectJDomOperation.updateRMNPathTOXDC(document);
 
-        ProjectJDomOperation.updateCNPathTOXDC(document);
+            ProjectJDomOperation.updateCNPathTOXDC(document);
 
-        // ProjectJDomOperation.updatePathToXDC(document);
+            // ProjectJDomOperation.updatePathToXDC(document);
 
-        JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+            JDomUtil.writeToProjectXmlDocument(document, xmlFile);
+        }
     }
 
     /**
@@ -2119,6 +2448,99 @@ public final class OpenConfiguratorProjectUtils {
 
     }
 
+    /**
+     * Writes the configuration file of the copied node in the
+     * {@link PersistenceQueue}. The file is written from the XDD model and the
+     * actual values of the new node instead of being copied from the file of
+     * the selected node. The path of the new node is updated immediately.
+     *
+     * @param selectedNode The node that was copied.
+     * @param nodeId The node ID of the new node.
+     * @param newNode The new node.
+     * @return The future of the file write.
+     * @throws IOException If the configuration directory cannot be created.
+     */
+    public static CoreFuture<Void> writeConfigurationFileInBackground(
+            Node selectedNode, int nodeId, final Node newNode)
+            throws IOException {
+        final File targetFile = getConfigurationFileOfCopy(selectedNode,
+                nodeId, newNode);
+
+        Callable<Void> task = new Callable<Void>() {
+            @Override
+            public Void call() throws IOException, JAXBException {
+                org.jdom2.Document document = XddMarshaller
+                        .marshallXDD(newNode.getISO15745ProfileContainer());
+
+                // The XDD model is shared, the actual values are taken from
+                // the library and the object dictionary of the new node.
+                XddJdomOperation.deleteActualValues(document);
+
+                LinkedHashMap<Map.Entry<Long, Integer>, String> objectJCollection = new LinkedHashMap<>();
+                Result res = OpenConfiguratorLibraryUtils
+                        .getObjectsWithActualValue(newNode, objectJCollection);
+                if (!res.IsSuccessful()) {
+                    throw new IOException(OpenConfiguratorLibraryUtils
+                            .getErrorMessage(res));
+                }
+
+                ObjectDictionary objectDictionary = newNode
+                        .getObjectDictionary();
+                for (Map.Entry<Map.Entry<Long, Integer>, String> entry : objectJCollection
+                        .entrySet()) {
+                    String actualValue = entry.getValue();
+                    if (actualValue.equalsIgnoreCase(EMPTY_OBJ_ACTUAL_VALUE)) {
+                        continue;
+                    }
+
+                    PowerlinkObject object = objectDictionary
+                            .getObject(entry.getKey().getKey());
+                    if (object == null) {
+                        continue;
+                    }
+
+                    int subObjectId = entry.getKey().getValue();
+                    if (subObjectId == -1) {
+                        if (!actualValue
+                                .equalsIgnoreCase(object.getDefaultValue())) {
+                            XddJdomOperation.updateActualValue(document,
+                                    object, actualValue);
+                        }
+                    } else {
+                        PowerlinkSubobject subObject = object
+                                .getSubObject((short) subObjectId);
+                        if ((subObject != null) && !actualValue
+                                .equalsIgnoreCase(subObject.getDefaultValue())) {
+                            XddJdomOperation.updateActualValue(document,
+                                    subObject, actualValue);
+                        }
+                    }
+                }
+
+                for (Parameter parameter : objectDictionary
+                        .getParameterList()) {
+                    if (parameter.getActualValue() != null) {
+                        XddJdomOperation.updateParameterActualValue(document,
+                                parameter, parameter.getActualValue());
+                    }
+                }
+
+                for (ParameterReference parameterReference : objectDictionary
+                        .getParameterReferenceList()) {
+                    if (parameterReference.getReferenceActualValue() != null) {
+                        XddJdomOperation.updateParameterReferenceActualValue(
+                                document, parameterReference,
+                                parameterReference.getReferenceActualValue());
+                    }
+                }
+
+                writeToXddXmlDocument(document, targetFile);
+                return null;
+            }
+        };
+        return PersistenceQueue.submit(newNode.getNetworkId(), task);
+    }
+
     /**
      * Write the values modified into XDD/XDC file.
      *
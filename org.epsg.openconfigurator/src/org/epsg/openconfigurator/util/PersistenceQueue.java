@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * @file   PersistenceQueue.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import org.epsg.openconfigurator.core.CoreFuture;
+import org.epsg.openconfigurator.xmloperation.JDomUtil;
+
+/**
+ * Queue which commits the property values to the library and the XDC files
+ * outside of the UI thread.
+ *
+ * The tasks are run one after the other in the order of submission, so that
+ * the values of successive commits are written in order. The UI is updated in
+ * a callback of the returned {@link CoreFuture} with the
+ * {@link DisplayExecutor}. The save and the build wait for the queued commits
+ * with {@link #flush()}. The tasks update the XDC and project files while
+ * holding the lock of the file, as the other updates of the files do, see
+ * {@link JDomUtil#getFileLock(java.io.File)}. The pending tasks are counted
+ * per network, so that a network is not removed from the library while its
+ * commits are queued.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class PersistenceQueue {
+
+    private static final String THREAD_NAME = "openCONFIGURATOR persistence"; //$NON-NLS-1$
+
+    private static final ExecutorService executor = Executors
+            .newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    /**
+     * Number of the queued and running tasks of each network.
+     */
+    private static final Map<String, Integer> pendingTasks = new HashMap<>();
+
+    /**
+     * Counts the task of the network as completed.
+     */
+    private static synchronized void completed(String networkId) {
+        Integer count = pendingTasks.get(networkId);
+        if ((count == null) || (count.intValue() <= 1)) {
+            pendingTasks.remove(networkId);
+        } else {
+            pendingTasks.put(networkId, Integer.valueOf(count.intValue() - 1));
+        }
+    }
+
+    /**
+     * Waits until the tasks queued so far are completed.
+     *
+     * @throws InterruptedException If the waiting thread is interrupted.
+     */
+    public static void flush() throws InterruptedException {
+        CoreFuture<Void> marker = submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                return null;
+            }
+        });
+        try {
+            marker.get();
+        } catch (ExecutionException e) {
+            // The marker task does not fail.
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @param networkId The network ID.
+     * @return <code>True</code> if tasks of the network are queued or
+     *         running, <code>False</code> otherwise.
+     */
+    public static synchronized boolean hasPendingTasks(String networkId) {
+        return pendingTasks.containsKey(networkId);
+    }
+
+    /**
+     * Stops the queue after the queued tasks. The later tasks are run in the
+     * calling thread.
+     */
+    public static void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Queues the task to be run outside of the UI thread. The task is run
+     * directly after the shutdown.
+     *
+     * @param task The task to be run.
+     * @return The future result of the task.
+     */
+    public static <T> CoreFuture<T> submit(Callable<T> task) {
+        CoreFuture<T> future = new CoreFuture<>(task);
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            // The queue is shut down.
+            future.run();
+        }
+        return future;
+    }
+
+    /**
+     * Queues the task of the network to be run outside of the UI thread. The
+     * task is counted as pending until it is completed, see
+     * {@link #hasPendingTasks(String)}.
+     *
+     * @param networkId The network ID of the task.
+     * @param task The task to be run.
+     * @return The future result of the task.
+     */
+    public static <T> CoreFuture<T> submit(final String networkId,
+            final Callable<T> task) {
+        synchronized (PersistenceQueue.class) {
+            Integer count = pendingTasks.get(networkId);
+            pendingTasks.put(networkId, Integer
+                    .valueOf((count == null) ? 1 : (count.intValue() + 1)));
+        }
+        return submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                try {
+                    return task.call();
+                } finally {
+                    completed(networkId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private PersistenceQueue() {
+    }
+}
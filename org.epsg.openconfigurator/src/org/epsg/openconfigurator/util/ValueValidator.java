@@ -0,0 +1,678 @@
+/*******************************************************************************
+ * @file   ValueValidator.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.util;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.epsg.openconfigurator.lib.wrapper.Result;
+import org.epsg.openconfigurator.model.AllowedValues;
+import org.epsg.openconfigurator.model.IPowerlinkBaseObject;
+import org.epsg.openconfigurator.model.Parameter;
+import org.epsg.openconfigurator.model.PowerlinkObject;
+import org.epsg.openconfigurator.model.PowerlinkSubobject;
+import org.epsg.openconfigurator.model.Range;
+
+/**
+ * Validates the actual values of objects, sub-objects and parameters without
+ * the openCONFIGURATOR library.
+ *
+ * The data type, the limits and the allowed values of an object are compiled
+ * once into a {@link ValueChecker}, which is cached for the object. Values
+ * which can be decided from the XDD attributes alone are validated by the
+ * checker. Values which depend on the library, such as $NODEID expressions,
+ * hexadecimal values of signed data types, unchecked data types and accepted
+ * values of the communication profile objects, are validated by the library.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public final class ValueValidator {
+
+    /**
+     * Compiled checker of the actual values of one object.
+     */
+    public static final class ValueChecker {
+
+        private final Kind kind;
+        private final int bitSize;
+        private final boolean confirmedByLibrary;
+
+        private long lowLimit;
+        private long highLimit;
+        private double lowLimitReal;
+        private double highLimitReal;
+        private boolean hasLowLimit;
+        private boolean hasHighLimit;
+        private boolean limitsKnown = true;
+
+        private List<String> allowedValues = Collections.emptyList();
+        private List<long[]> allowedRanges = Collections.emptyList();
+
+        private ValueChecker(Kind kind, int bitSize,
+                boolean confirmedByLibrary) {
+            this.kind = kind;
+            this.bitSize = bitSize;
+            this.confirmedByLibrary = confirmedByLibrary;
+        }
+
+        /**
+         * Checks the value.
+         *
+         * @param value The value to be checked.
+         * @return The verdict for the value.
+         */
+        public Verdict check(String value) {
+            if ((value == null) || value.trim().isEmpty()) {
+                return Verdict.UNDECIDED;
+            }
+            Verdict verdict = checkValue(value.trim());
+            if ((verdict == Verdict.VALID)
+                    && (confirmedByLibrary || !limitsKnown)) {
+                return Verdict.UNDECIDED;
+            }
+            return verdict;
+        }
+
+        private Verdict checkAllowedValues(String value) {
+            for (String allowedValue : allowedValues) {
+                if (isSameValue(allowedValue, value)) {
+                    return Verdict.VALID;
+                }
+            }
+            if (!limitsKnown) {
+                return Verdict.UNDECIDED;
+            }
+            if (allowedRanges.isEmpty()) {
+                return (allowedValues.isEmpty()) ? Verdict.VALID
+                        : Verdict.INVALID;
+            }
+            if (!isHex(value) && !isDecimal(value)) {
+                return Verdict.INVALID;
+            }
+            long number;
+            try {
+                number = parseSigned(value, true);
+            } catch (NumberFormatException e) {
+                // Numbers beyond the signed 64 bit range, such as
+                // 0xFFFFFFFFFFFFFFFF, are left to the library.
+                return Verdict.UNDECIDED;
+            }
+            for (long[] range : allowedRanges) {
+                if ((number >= range[0]) && (number <= range[1])
+                        && ((range[2] <= 0)
+                                || (((number - range[0]) % range[2]) == 0))) {
+                    return Verdict.VALID;
+                }
+            }
+            return Verdict.INVALID;
+        }
+
+        private Verdict checkBoolean(String value) {
+            if (value.equals("0") || value.equals("1")) { //$NON-NLS-1$ //$NON-NLS-2$
+                return Verdict.VALID;
+            }
+            if (isDecimal(value)) {
+                return Verdict.INVALID;
+            }
+            return Verdict.UNDECIDED;
+        }
+
+        private Verdict checkReal(String value) {
+            double number;
+            try {
+                number = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return Verdict.UNDECIDED;
+            }
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                return Verdict.UNDECIDED;
+            }
+            if ((bitSize == 32) && (Math.abs(number) > Float.MAX_VALUE)) {
+                return Verdict.INVALID;
+            }
+            if ((hasLowLimit && (number < lowLimitReal))
+                    || (hasHighLimit && (number > highLimitReal))) {
+                return Verdict.INVALID;
+            }
+            return Verdict.VALID;
+        }
+
+        private Verdict checkSigned(String value) {
+            if (isHex(value)) {
+                return Verdict.UNDECIDED;
+            }
+            if (!isDecimal(value)) {
+                return Verdict.UNDECIDED;
+            }
+            long number;
+            try {
+                number = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                return Verdict.INVALID;
+            }
+            long max = (bitSize >= 64) ? Long.MAX_VALUE
+                    : ((1L << (bitSize - 1)) - 1);
+            long min = (bitSize >= 64) ? Long.MIN_VALUE : (-max - 1);
+            if ((number < min) || (number > max)) {
+                return Verdict.INVALID;
+            }
+            if ((hasLowLimit && (number < lowLimit))
+                    || (hasHighLimit && (number > highLimit))) {
+                return Verdict.INVALID;
+            }
+            return Verdict.VALID;
+        }
+
+        private Verdict checkUnsigned(String value) {
+            if (value.startsWith("-")) { //$NON-NLS-1$
+                return isDecimal(value.substring(1)) ? Verdict.INVALID
+                        : Verdict.UNDECIDED;
+            }
+            if (!isHex(value) && !isDecimal(value)) {
+                return Verdict.UNDECIDED;
+            }
+            long number;
+            try {
+                number = parseUnsigned(value);
+            } catch (NumberFormatException e) {
+                return Verdict.INVALID;
+            }
+            if ((bitSize < 64) && ((number >>> bitSize) != 0)) {
+                return Verdict.INVALID;
+            }
+            if ((hasLowLimit && (compareUnsigned(number, lowLimit) < 0))
+                    || (hasHighLimit
+                            && (compareUnsigned(number, highLimit) > 0))) {
+                return Verdict.INVALID;
+            }
+            return Verdict.VALID;
+        }
+
+        private Verdict checkValue(String value) {
+            switch (kind) {
+                case BOOLEAN:
+                    return checkBoolean(value);
+                case SIGNED:
+                    return checkSigned(value);
+                case UNSIGNED:
+                    return checkUnsigned(value);
+                case REAL:
+                    return checkReal(value);
+                case VISIBLE_STRING:
+                    return checkVisibleString(value);
+                case ALLOWED_VALUES:
+                    return checkAllowedValues(value);
+                default:
+                    return Verdict.UNDECIDED;
+            }
+        }
+
+        private Verdict checkVisibleString(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char character = value.charAt(i);
+                if ((character < 0x20) || (character > 0x7E)) {
+                    return Verdict.INVALID;
+                }
+            }
+            return Verdict.VALID;
+        }
+
+        /**
+         * Returns the error message for a value with the
+         * {@link Verdict#INVALID} verdict.
+         *
+         * @param value The invalid value.
+         * @return The error message.
+         */
+        public String getErrorMessage(String value) {
+            String trimmedValue = value.trim();
+            switch (kind) {
+                case VISIBLE_STRING:
+                    return "Actual value (" + trimmedValue //$NON-NLS-1$
+                            + ") contains characters which are not allowed in a visible string."; //$NON-NLS-1$
+                case ALLOWED_VALUES:
+                    if (!allowedRanges.isEmpty()) {
+                        return "Actual value (" + trimmedValue //$NON-NLS-1$
+                                + ") does not fit within the allowed ranges."; //$NON-NLS-1$
+                    }
+                    return "Actual value (" + trimmedValue //$NON-NLS-1$
+                            + ") is not one of the allowed values."; //$NON-NLS-1$
+                default:
+                    break;
+            }
+            if (!isHex(trimmedValue) && !isDecimal(trimmedValue)
+                    && (kind != Kind.REAL)) {
+                return "Actual value (" + trimmedValue //$NON-NLS-1$
+                        + ") is not a valid value of the data type."; //$NON-NLS-1$
+            }
+            return "Actual value (" + trimmedValue //$NON-NLS-1$
+                    + ") does not fit within the range of the data type or the limits of the object."; //$NON-NLS-1$
+        }
+
+        private void setLimits(String low, String high) {
+            try {
+                if ((low != null) && !low.trim().isEmpty()) {
+                    setLowLimit(low.trim());
+                }
+                if ((high != null) && !high.trim().isEmpty()) {
+                    setHighLimit(high.trim());
+                }
+            } catch (NumberFormatException e) {
+                limitsKnown = false;
+            }
+        }
+
+        private void setHighLimit(String value) {
+            switch (kind) {
+                case SIGNED:
+                    highLimit = parseSigned(value, false);
+                    break;
+                case UNSIGNED:
+                    highLimit = parseUnsigned(value);
+                    break;
+                case REAL:
+                    highLimitReal = Double.parseDouble(value);
+                    break;
+                default:
+                    limitsKnown = false;
+                    return;
+            }
+            hasHighLimit = true;
+        }
+
+        private void setLowLimit(String value) {
+            switch (kind) {
+                case SIGNED:
+                    lowLimit = parseSigned(value, false);
+                    break;
+                case UNSIGNED:
+                    lowLimit = parseUnsigned(value);
+                    break;
+                case REAL:
+                    lowLimitReal = Double.parseDouble(value);
+                    break;
+                default:
+                    limitsKnown = false;
+                    return;
+            }
+            hasLowLimit = true;
+        }
+    }
+
+    /**
+     * Verdict of a {@link ValueChecker}.
+     */
+    public enum Verdict {
+        /** The value is valid. */
+        VALID,
+        /** The value is not valid. */
+        INVALID,
+        /** The value has to be validated by the library. */
+        UNDECIDED
+    }
+
+    private enum Kind {
+        BOOLEAN, SIGNED, UNSIGNED, REAL, VISIBLE_STRING, ALLOWED_VALUES,
+        UNCHECKED
+    }
+
+    /**
+     * Start of the communication profile area. The library validates these
+     * objects against the other objects of the node, so that the accepted
+     * values are confirmed by the library.
+     */
+    private static final long COMM_PROFILE_START = 0x1000L;
+
+    private static final long COMM_PROFILE_END = 0x1FFFL;
+
+    private static final String HEX_PREFIX = "0x"; //$NON-NLS-1$
+
+    /**
+     * Compiled checkers of the objects, sub-objects and parameters.
+     */
+    private static final Map<Object, ValueChecker> checkers = Collections
+            .synchronizedMap(new WeakHashMap<Object, ValueChecker>());
+
+    /**
+     * Compiles the checker of the object or sub-object.
+     */
+    private static ValueChecker compileChecker(IPowerlinkBaseObject object,
+            long objectIndex) {
+        boolean confirmedByLibrary = (objectIndex >= COMM_PROFILE_START)
+                && (objectIndex <= COMM_PROFILE_END);
+        String dataType = object.getDataTypeReadable();
+        ValueChecker checker;
+        if (dataType == null) {
+            checker = new ValueChecker(Kind.UNCHECKED, 0, confirmedByLibrary);
+        } else if (dataType.equals("Boolean")) { //$NON-NLS-1$
+            checker = new ValueChecker(Kind.BOOLEAN, 1, confirmedByLibrary);
+        } else if (dataType.startsWith("Integer")) { //$NON-NLS-1$
+            checker = new ValueChecker(Kind.SIGNED,
+                    getBitSize(dataType, "Integer"), confirmedByLibrary); //$NON-NLS-1$
+        } else if (dataType.startsWith("Unsigned")) { //$NON-NLS-1$
+            checker = new ValueChecker(Kind.UNSIGNED,
+                    getBitSize(dataType, "Unsigned"), confirmedByLibrary); //$NON-NLS-1$
+        } else if (dataType.startsWith("Real")) { //$NON-NLS-1$
+            checker = new ValueChecker(Kind.REAL,
+                    getBitSize(dataType, "Real"), confirmedByLibrary); //$NON-NLS-1$
+        } else if (dataType.equals("Visible_String")) { //$NON-NLS-1$
+            checker = new ValueChecker(Kind.VISIBLE_STRING, 0,
+                    confirmedByLibrary);
+        } else {
+            checker = new ValueChecker(Kind.UNCHECKED, 0, confirmedByLibrary);
+        }
+        checker.setLimits(object.getLowLimit(), object.getHighLimit());
+        return checker;
+    }
+
+    private static int compareUnsigned(long value1, long value2) {
+        long flipped1 = value1 ^ Long.MIN_VALUE;
+        long flipped2 = value2 ^ Long.MIN_VALUE;
+        return (flipped1 < flipped2) ? -1 : ((flipped1 == flipped2) ? 0 : 1);
+    }
+
+    private static int getBitSize(String dataType, String prefix) {
+        try {
+            return Integer.parseInt(dataType.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the compiled checker of the object.
+     *
+     * @param object The POWERLINK object.
+     * @return The checker of the object.
+     */
+    public static ValueChecker getChecker(PowerlinkObject object) {
+        ValueChecker checker = checkers.get(object);
+        if (checker == null) {
+            checker = compileChecker(object, object.getId());
+            checkers.put(object, checker);
+        }
+        return checker;
+    }
+
+    /**
+     * Returns the compiled checker of the parameter.
+     *
+     * The checker validates the allowed values and the allowed ranges of the
+     * parameter.
+     *
+     * @param parameter The parameter.
+     * @return The checker of the parameter.
+     */
+    public static ValueChecker getChecker(Parameter parameter) {
+        ValueChecker checker = checkers.get(parameter);
+        if (checker == null) {
+            checker = new ValueChecker(Kind.ALLOWED_VALUES, 0, false);
+            AllowedValues allowedValues = parameter.getAllowedValues();
+            if ((allowedValues != null)
+                    && (allowedValues.getValuesList() != null)) {
+                checker.allowedValues = new ArrayList<>(
+                        allowedValues.getValuesList());
+            }
+            List<Range> rangeList = parameter.getRangeList();
+            if ((rangeList != null) && !rangeList.isEmpty()) {
+                List<long[]> ranges = new ArrayList<>(rangeList.size());
+                try {
+                    for (Range range : rangeList) {
+                        long step = 0;
+                        if ((range.getStep() != null)
+                                && !range.getStep().trim().isEmpty()) {
+                            step = parseSigned(range.getStep().trim(), true);
+                        }
+                        ranges.add(new long[] {
+                                parseSigned(range.getMinValue().trim(), true),
+                                parseSigned(range.getMaxValue().trim(), true),
+                                step });
+                    }
+                    checker.allowedRanges = ranges;
+                } catch (NumberFormatException | NullPointerException e) {
+                    checker.limitsKnown = false;
+                }
+            }
+            checkers.put(parameter, checker);
+        }
+        return checker;
+    }
+
+    /**
+     * Returns the compiled checker of the sub-object.
+     *
+     * @param subObject The POWERLINK sub-object.
+     * @return The checker of the sub-object.
+     */
+    public static ValueChecker getChecker(PowerlinkSubobject subObject) {
+        ValueChecker checker = checkers.get(subObject);
+        if (checker == null) {
+            checker = compileChecker(subObject, subObject.getObject().getId());
+            checkers.put(subObject, checker);
+        }
+        return checker;
+    }
+
+    private static boolean isDecimal(String value) {
+        int start = (value.startsWith("-")) ? 1 : 0; //$NON-NLS-1$
+        if (value.length() <= start) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameValue(String allowedValue, String value) {
+        if (allowedValue == null) {
+            return false;
+        }
+        String trimmedValue = allowedValue.trim();
+        if (trimmedValue.equals(value)) {
+            return true;
+        }
+        try {
+            return parseSigned(trimmedValue, true) == parseSigned(value, true);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isHex(String value) {
+        if ((value.length() <= HEX_PREFIX.length())
+                || !value.regionMatches(true, 0, HEX_PREFIX, 0,
+                        HEX_PREFIX.length())) {
+            return false;
+        }
+        for (int i = HEX_PREFIX.length(); i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the signed decimal value or, if allowed, the hexadecimal value
+     * with the 0x prefix.
+     *
+     * @throws NumberFormatException If the value is not a number.
+     */
+    private static long parseSigned(String value, boolean allowHex) {
+        if (isHex(value)) {
+            if (!allowHex) {
+                throw new NumberFormatException(value);
+            }
+            return Long.parseLong(value.substring(HEX_PREFIX.length()), 16);
+        }
+        return Long.parseLong(value);
+    }
+
+    /**
+     * Parses the unsigned 64 bit decimal value or the hexadecimal value with
+     * the 0x prefix.
+     *
+     * @throws NumberFormatException If the value is not a number or does not
+     *             fit into 64 bits.
+     */
+    private static long parseUnsigned(String value) {
+        String digits = value;
+        int radix = 10;
+        if (isHex(value)) {
+            digits = value.substring(HEX_PREFIX.length());
+            radix = 16;
+        } else if (!isDecimal(value) || value.startsWith("-")) { //$NON-NLS-1$
+            throw new NumberFormatException(value);
+        }
+        if (digits.length() < ((radix == 16) ? 16 : 19)) {
+            return Long.parseLong(digits, radix);
+        }
+        BigInteger number = new BigInteger(digits, radix);
+        if (number.bitLength() > 64) {
+            throw new NumberFormatException(value);
+        }
+        return number.longValue();
+    }
+
+    /**
+     * Validates the actual value of the object.
+     *
+     * The values which are not decided by the checker of the object are
+     * validated by the openCONFIGURATOR library.
+     *
+     * @param object The POWERLINK object.
+     * @param value The value to be validated.
+     * @return <code>null</code> if the value is valid, otherwise the error
+     *         message.
+     */
+    public static String validateActualValue(PowerlinkObject object,
+            String value) {
+        ValueChecker checker = getChecker(object);
+        Verdict verdict = checker.check(value);
+        if (verdict == Verdict.VALID) {
+            return null;
+        }
+        if (verdict == Verdict.INVALID) {
+            return checker.getErrorMessage(value);
+        }
+        Result res;
+        if (object.isModuleObject()) {
+            long newObjectIndex = OpenConfiguratorLibraryUtils
+                    .getModuleObjectsIndex(object.getModule(), object.getId());
+            res = OpenConfiguratorLibraryUtils
+                    .validateModuleObjectActualValue(object, value,
+                            newObjectIndex);
+        } else {
+            res = OpenConfiguratorLibraryUtils.validateObjectActualValue(object,
+                    value);
+        }
+        if (!res.IsSuccessful()) {
+            return OpenConfiguratorLibraryUtils.getErrorMessage(res);
+        }
+        return null;
+    }
+
+    /**
+     * Validates the actual value of the sub-object.
+     *
+     * The values which are not decided by the checker of the sub-object are
+     * validated by the openCONFIGURATOR library.
+     *
+     * @param subObject The POWERLINK sub-object.
+     * @param value The value to be validated.
+     * @return <code>null</code> if the value is valid, otherwise the error
+     *         message.
+     */
+    public static String validateActualValue(PowerlinkSubobject subObject,
+            String value) {
+        ValueChecker checker = getChecker(subObject);
+        Verdict verdict = checker.check(value);
+        if (verdict == Verdict.VALID) {
+            return null;
+        }
+        if (verdict == Verdict.INVALID) {
+            return checker.getErrorMessage(value);
+        }
+        Result res;
+        if (subObject.isModule()) {
+            long objectId = subObject.getObject().getId();
+            long newObjectIndex = OpenConfiguratorLibraryUtils
+                    .getModuleObjectsIndex(subObject.getModule(), objectId);
+            int newSubObjectIndex = OpenConfiguratorLibraryUtils
+                    .getModuleObjectsSubIndex(subObject.getModule(), subObject,
+                            objectId);
+            res = OpenConfiguratorLibraryUtils
+                    .validateModuleSubobjectActualValue(subObject, value,
+                            newObjectIndex, newSubObjectIndex);
+        } else {
+            res = OpenConfiguratorLibraryUtils
+                    .validateSubobjectActualValue(subObject, value);
+        }
+        if (!res.IsSuccessful()) {
+            return OpenConfiguratorLibraryUtils.getErrorMessage(res);
+        }
+        return null;
+    }
+
+    /**
+     * Validates the actual value of the parameter against its allowed values
+     * and allowed ranges.
+     *
+     * @param parameter The parameter.
+     * @param value The value to be validated.
+     * @return <code>null</code> if the value is valid or cannot be decided,
+     *         otherwise the error message.
+     */
+    public static String validateParameterValue(Parameter parameter,
+            String value) {
+        ValueChecker checker = getChecker(parameter);
+        if (checker.check(value) == Verdict.INVALID) {
+            return checker.getErrorMessage(value);
+        }
+        return null;
+    }
+
+    /**
+     * Private constructor to disable the instantiation
+     */
+    private ValueValidator() {
+    }
+}
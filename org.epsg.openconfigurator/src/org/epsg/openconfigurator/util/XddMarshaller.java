@@ -36,6 +36,7 @@
 package org.epsg.openconfigurator.util;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -45,10 +46,19 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
 import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.DatatypeConverter;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
@@ -62,6 +72,8 @@ import org.epsg.openconfigurator.resources.IOpenConfiguratorResource;
 import org.epsg.openconfigurator.xmlbinding.firmware.Firmware;
 import org.epsg.openconfigurator.xmlbinding.xap.ApplicationProcess;
 import org.epsg.openconfigurator.xmlbinding.xdd.ISO15745ProfileContainer;
+import org.jdom2.Document;
+import org.jdom2.transform.JDOMResult;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
@@ -73,10 +85,24 @@ import org.xml.sax.XMLReader;
  *
  */
 public final class XddMarshaller {
+
+    /**
+     * System property with the directory of the plugin, used to load the
+     * schemas outside of the workbench, for example by the benchmarks.
+     */
+    public static final String PLUGIN_DIRECTORY_PROPERTY = "org.epsg.openconfigurator.pluginDirectory"; //$NON-NLS-1$
+
     private static Schema xddSchema;
     private static Schema firmwareSchema;
     private static Schema xapSchema;
 
+    /**
+     * Parsed module XDD/XDC files by the location and the digest of their
+     * content. Modules of the same device description share the model as
+     * long as one of them is in use.
+     */
+    private static final Map<String, WeakReference<ISO15745ProfileContainer>> moduleXddModels = new HashMap<>();
+
     private static final String XDD_SCHEMA_NOT_FOUND = "openCONFIGURATOR project XML schema not found.";
     private static final String XDD_SCHEMA_INVALID = "openCONFIGURATOR project XML schema has errors.";
     private static final String XAP_SCHEMA_INVALID = "XAP XML schema has errors.";
@@ -91,8 +117,8 @@ public final class XddMarshaller {
         String xapSchemaPath = null;
 
         try {
-            xddSchemaPath = org.epsg.openconfigurator.Activator
-                    .getAbsolutePath(IOpenConfiguratorResource.XDD_SCHEMA);
+            xddSchemaPath = getSchemaPath(
+                    IOpenConfiguratorResource.XDD_SCHEMA);
         } catch (IOException exception) {
             exception.printStackTrace();
 
@@ -101,8 +127,8 @@ public final class XddMarshaller {
         }
 
         try {
-            firmwareSchemaPath = org.epsg.openconfigurator.Activator
-                    .getAbsolutePath(IOpenConfiguratorResource.FIRMWARE_SCHEMA);
+            firmwareSchemaPath = getSchemaPath(
+                    IOpenConfiguratorResource.FIRMWARE_SCHEMA);
         } catch (IOException exception) {
             exception.printStackTrace();
 
@@ -111,8 +137,8 @@ public final class XddMarshaller {
         }
 
         try {
-            xapSchemaPath = org.epsg.openconfigurator.Activator
-                    .getAbsolutePath(IOpenConfiguratorResource.XAP_SCHEMA);
+            xapSchemaPath = getSchemaPath(
+                    IOpenConfiguratorResource.XAP_SCHEMA);
         } catch (IOException exception) {
             exception.printStackTrace();
 
@@ -164,6 +190,38 @@ public final class XddMarshaller {
 
     }
 
+    /**
+     * Returns the absolute path of the schema from the plugin directory given
+     * by {@link #PLUGIN_DIRECTORY_PROPERTY} or from the plugin bundle.
+     */
+    private static String getSchemaPath(final String relativePath)
+            throws IOException {
+        String pluginDirectory = System.getProperty(PLUGIN_DIRECTORY_PROPERTY);
+        if (pluginDirectory != null) {
+            return new File(pluginDirectory, relativePath).getAbsolutePath();
+        }
+        return org.epsg.openconfigurator.Activator
+                .getAbsolutePath(relativePath);
+    }
+
+    /**
+     * Marshalls the {@link ISO15745ProfileContainer} instance into a JDOM
+     * document.
+     *
+     * @param xddModel The XDD/XDC instance.
+     * @return The XDD/XDC document.
+     * @throws JAXBException
+     */
+    public static Document marshallXDD(final ISO15745ProfileContainer xddModel)
+            throws JAXBException {
+        final JAXBContext jc = JAXBContext
+                .newInstance(ISO15745ProfileContainer.class);
+        final Marshaller marshaller = jc.createMarshaller();
+        final JDOMResult result = new JDOMResult();
+        marshaller.marshal(xddModel, result);
+        return result.getDocument();
+    }
+
     private static Firmware unmarshallFirmware(final InputSource inputSource)
             throws JAXBException, SAXException, ParserConfigurationException {
         final JAXBContext jc = JAXBContext.newInstance(Firmware.class);
@@ -282,6 +340,62 @@ public final class XddMarshaller {
         return xapFile;
     }
 
+    /**
+     * Un-marshalls the module XDD/XDC file into the
+     * {@link ISO15745ProfileContainer} instance. Files with the same content
+     * in the same directory are parsed only once and share the instance, so
+     * the instance shall not be modified.
+     *
+     * @param file The module XDD/XDC file.
+     * @return The XDD/XDC instance.
+     * @throws JAXBException
+     * @throws SAXException
+     * @throws ParserConfigurationException
+     * @throws IOException
+     */
+    public static ISO15745ProfileContainer unmarshallModuleXDDFile(
+            final File file) throws JAXBException, SAXException,
+            ParserConfigurationException, IOException {
+        byte[] content = Files.readAllBytes(file.toPath());
+        String key;
+        try {
+            key = file.getAbsoluteFile().getParent() + File.pathSeparator
+                    + DatatypeConverter.printHexBinary(MessageDigest
+                            .getInstance("SHA-256").digest(content)); //$NON-NLS-1$
+        } catch (NoSuchAlgorithmException e) {
+            e.printStackTrace();
+            return unmarshallXDDFile(file);
+        }
+
+        synchronized (moduleXddModels) {
+            WeakReference<ISO15745ProfileContainer> reference = moduleXddModels
+                    .get(key);
+            ISO15745ProfileContainer xddModel = (reference != null)
+                    ? reference.get() : null;
+            if (xddModel != null) {
+                return xddModel;
+            }
+
+            BOMInputStream bomIn = new BOMInputStream(
+                    new ByteArrayInputStream(content), false);
+            InputSource input = new InputSource(new InputStreamReader(bomIn));
+            input.setSystemId(file.toURI().toString());
+            xddModel = unmarshallXDD(input);
+            if (xddModel != null) {
+                // Drop the entries of the models no longer in use.
+                Iterator<WeakReference<ISO15745ProfileContainer>> iterator = moduleXddModels
+                        .values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().get() == null) {
+                        iterator.remove();
+                    }
+                }
+                moduleXddModels.put(key, new WeakReference<>(xddModel));
+            }
+            return xddModel;
+        }
+    }
+
     /**
      * Un-marshalls the contents of the input stream into the
      * {@link ApplicationProcess} instance
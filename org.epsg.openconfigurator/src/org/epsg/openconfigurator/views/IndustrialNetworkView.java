@@ -98,6 +98,7 @@ import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.part.ViewPart;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.editors.project.IndustrialNetworkProjectEditor;
 import org.epsg.openconfigurator.event.INodePropertyChangeListener;
 import org.epsg.openconfigurator.event.NodePropertyChangeEvent;
@@ -1452,7 +1453,7 @@ public class IndustrialNetworkView extends ViewPart
             if (selectedObject instanceof Node) {
                 Node node = (Node) selectedObject;
                 // The variable res is used within the try block.
-                Result res = new Result();
+                Result res = OpenConfiguratorCoreProvider.newResult();
                 // checks for valid XDC file
                 if (!node.hasError()) {
                     res = OpenConfiguratorLibraryUtils
@@ -1622,6 +1623,8 @@ public class IndustrialNetworkView extends ViewPart
         @SuppressWarnings("rawtypes")
         List selectedObjectsList = selection.toList();
 
+        // The selected nodes are removed together.
+        List<Node> nodesToRemove = new ArrayList<>();
         for (Object selectedObject : selectedObjectsList) {
             if (selectedObject instanceof Node) {
                 Node node = (Node) selectedObject;
@@ -1629,46 +1632,7 @@ public class IndustrialNetworkView extends ViewPart
                 Object nodeObjectModel = node.getNodeModel();
                 if ((nodeObjectModel instanceof TRMN)
                         || (nodeObjectModel instanceof TCN)) {
-
-                    MessageDialog dialog = new MessageDialog(null,
-                            "Delete node", null,
-                            "Are you sure you want to delete the node '"
-                                    + node.getNodeIDWithName() + "'",
-                            MessageDialog.QUESTION,
-                            new String[] { "Yes", "No" }, 1);
-                    int result = dialog.open();
-                    if (result == 0) {
-                        // checks for valid XDC file
-
-                        try {
-                            rootNode.removeNode(node);
-                        } catch (JDOMException | IOException e) {
-                            if (e instanceof NoSuchFileException) {
-                                OpenConfiguratorMessageConsole.getInstance()
-                                        .printErrorMessage(
-                                                "The file " + e.getMessage()
-                                                        + " cannot be found.",
-                                                node.getProject().getName());
-                            } else {
-                                OpenConfiguratorMessageConsole.getInstance()
-                                        .printErrorMessage(e.getMessage(),
-                                                node.getProject().getName());
-                            }
-                            e.printStackTrace();
-                        }
-
-                        handleRefresh();
-                        viewer.refresh();
-
-                        try {
-                            node.getProject().refreshLocal(
-                                    IResource.DEPTH_INFINITE,
-                                    new NullProgressMonitor());
-                        } catch (CoreException e) {
-                            // TODO Auto-generated catch block
-                            e.printStackTrace();
-                        }
-                    }
+                    nodesToRemove.add(node);
                 } else {
                     showWarningMessage("Node '" + node.getName()
                             + "' cannot be removed from the network.");
@@ -1722,6 +1686,50 @@ public class IndustrialNetworkView extends ViewPart
                 System.err.println("Invalid tree item instance");
             }
         }
+
+        if (nodesToRemove.isEmpty()) {
+            return;
+        }
+
+        Node firstNode = nodesToRemove.get(0);
+        String message = (nodesToRemove.size() == 1)
+                ? "Are you sure you want to delete the node '"
+                        + firstNode.getNodeIDWithName() + "'"
+                : "Are you sure you want to delete the "
+                        + nodesToRemove.size() + " selected nodes";
+        MessageDialog dialog = new MessageDialog(null, "Delete node", null,
+                message, MessageDialog.QUESTION, new String[] { "Yes", "No" },
+                1);
+        int result = dialog.open();
+        if (result == 0) {
+            try {
+                rootNode.removeNodes(nodesToRemove);
+            } catch (JDOMException | IOException e) {
+                if (e instanceof NoSuchFileException) {
+                    OpenConfiguratorMessageConsole.getInstance()
+                            .printErrorMessage(
+                                    "The file " + e.getMessage()
+                                            + " cannot be found.",
+                                    firstNode.getProject().getName());
+                } else {
+                    OpenConfiguratorMessageConsole.getInstance()
+                            .printErrorMessage(e.getMessage(),
+                                    firstNode.getProject().getName());
+                }
+                e.printStackTrace();
+            }
+
+            handleRefresh();
+            viewer.refresh();
+
+            try {
+                firstNode.getProject().refreshLocal(IResource.DEPTH_INFINITE,
+                        new NullProgressMonitor());
+            } catch (CoreException e) {
+                // TODO Auto-generated catch block
+                e.printStackTrace();
+            }
+        }
     }
 
     private void hookContextMenu() {
@@ -2324,13 +2332,13 @@ public class IndustrialNetworkView extends ViewPart
                 }
                 if (module.validateMoveModuleDownPosition(oldPosition,
                         position)) {
-                    if (String
-                            .valueOf(module.getInterfaceOfModule()
-                                    .getModuleAddressing())
-                            .equalsIgnoreCase("MANUAL")) {
-                        module.swapManualPosition(oldPosition, position);
-                    } else {
-                        module.swapPosition(oldPosition, position);
+                    Result res = module.moveModule(position, oldPosition);
+                    if (!res.IsSuccessful()) {
+                        OpenConfiguratorMessageConsole.getInstance()
+                                .printLibraryErrorMessage(res);
+                        showMessage(OpenConfiguratorLibraryUtils
+                                .getErrorMessage(res));
+                        return;
                     }
                 } else {
                     showErrorMessage(module.errorOfMoveModuleDownPosition(
@@ -2364,14 +2372,13 @@ public class IndustrialNetworkView extends ViewPart
                 }
                 if (module.validateMoveModuleUpPosition(oldPosition,
                         position)) {
-                    if (String.valueOf(
-                            module.getInterfaceOfModule().getModuleAddressing())
-                            .equals("MANUAL")) {
-
-                        module.swapManualPosition(oldPosition, position);
-
-                    } else {
-                        module.swapPosition(oldPosition, position);
+                    Result res = module.moveModule(position, oldPosition);
+                    if (!res.IsSuccessful()) {
+                        OpenConfiguratorMessageConsole.getInstance()
+                                .printLibraryErrorMessage(res);
+                        showMessage(OpenConfiguratorLibraryUtils
+                                .getErrorMessage(res));
+                        return;
                     }
                 } else {
                     showErrorMessage(module.errorOfMoveModuleUpPosition(
@@ -33,7 +33,6 @@ package org.epsg.openconfigurator.views;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
 
 import org.eclipse.jface.action.Action;
@@ -41,6 +40,7 @@ import org.eclipse.jface.action.IMenuListener;
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.IToolBarManager;
 import org.eclipse.jface.action.MenuManager;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.DecoratingLabelProvider;
 import org.eclipse.jface.viewers.DoubleClickEvent;
 import org.eclipse.jface.viewers.IDoubleClickListener;
@@ -54,6 +54,7 @@ import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.ui.IActionBars;
 import org.eclipse.ui.IPageLayout;
@@ -67,12 +68,15 @@ import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.dialogs.FilteredTree;
 import org.eclipse.ui.dialogs.PatternFilter;
 import org.eclipse.ui.part.ViewPart;
+import org.epsg.openconfigurator.event.IParameterVisibilityChangeListener;
+import org.epsg.openconfigurator.event.ParameterVisibilityChangeEvent;
 import org.epsg.openconfigurator.model.DataTypeChoiceType;
 import org.epsg.openconfigurator.model.LabelDescription;
 import org.epsg.openconfigurator.model.Module;
 import org.epsg.openconfigurator.model.Node;
 import org.epsg.openconfigurator.model.Parameter;
 import org.epsg.openconfigurator.model.ParameterGroup;
+import org.epsg.openconfigurator.model.ParameterGroupVisibility;
 import org.epsg.openconfigurator.model.ParameterReference;
 import org.epsg.openconfigurator.model.VarDecleration;
 import org.epsg.openconfigurator.resources.IPluginImages;
@@ -300,6 +304,39 @@ public class ParameterView extends ViewPart implements IPropertyListener {
      */
     private TreeViewer treeViewer;
 
+    /**
+     * Visibility of the parameter groups of the selected node or module.
+     */
+    private ParameterGroupVisibility parameterGroupVisibility;
+
+    /**
+     * Refreshes the tree viewer if the visibility of parameter groups has
+     * changed due to a change in the value of a conditional parameter.
+     */
+    private IParameterVisibilityChangeListener visibilityChangeListener = new IParameterVisibilityChangeListener() {
+        @Override
+        public void parameterVisibilityChanged(
+                final ParameterVisibilityChangeEvent event) {
+            Display.getDefault().asyncExec(new Runnable() {
+
+                @Override
+                public void run() {
+                    if ((treeViewer == null)
+                            || treeViewer.getControl().isDisposed()) {
+                        return;
+                    }
+                    treeViewer.refresh();
+                    for (ParameterGroup group : event.getChangedGroups()) {
+                        if (group.isConditionsMet()) {
+                            treeViewer.expandToLevel(group,
+                                    AbstractTreeViewer.ALL_LEVELS);
+                        }
+                    }
+                }
+            });
+        }
+    };
+
     /**
      * Selection listener to update the objects and sub-objects in the Object
      * dictionary view.
@@ -316,6 +353,7 @@ public class ParameterView extends ViewPart implements IPropertyListener {
             }
 
             treeViewer.setInput(new EmptyParameter());
+            setParameterGroupVisibility(null);
 
             if (sourcePart != null) {
                 sourcePart.getSite().getPage().removePartListener(partListener);
@@ -347,6 +385,9 @@ public class ParameterView extends ViewPart implements IPropertyListener {
                             sourcePart = part;
                             setPartName(nodeObj.getNodeIDWithName());
                             if (!nodeObj.hasError()) {
+                                setParameterGroupVisibility(
+                                        nodeObj.getObjectDictionary()
+                                                .getParameterGroupVisibility());
                                 treeViewer.setInput(nodeObj);
                             }
                         }
@@ -360,6 +401,9 @@ public class ParameterView extends ViewPart implements IPropertyListener {
                             sourcePart = part;
                             setPartName(moduleObj.getModuleName());
                             if (!moduleObj.hasError()) {
+                                setParameterGroupVisibility(
+                                        moduleObj.getObjectDictionary()
+                                                .getParameterGroupVisibility());
                                 treeViewer.setInput(moduleObj);
                             }
                         }
@@ -422,124 +466,22 @@ public class ParameterView extends ViewPart implements IPropertyListener {
         @Override
         public Object[] getElements(Object inputElement) {
 
+            ParameterGroupVisibility visibility = null;
             if (inputElement instanceof Node) {
-                Node nodeObj = (Node) inputElement;
-                LinkedHashSet<Object> visibleObjectsList = new LinkedHashSet<>();
-                List<ParameterGroup> paramGrupList = nodeObj
-                        .getObjectDictionary().getParameterGroupList();
-                for (ParameterGroup pgmGrp : paramGrupList) {
-                    System.err
-                            .println("--------> " + pgmGrp.getLabel().getText()
-                                    + " m:" + pgmGrp.isConditionsMet() + " v:"
-                                    + pgmGrp.isGroupLevelVisible());
-
-                    if (pgmGrp.isConditionsMet()) {
-                        if ((pgmGrp.isGroupLevelVisible())
-                                && (pgmGrp.isConfigParameter())) {
-                            visibleObjectsList.add(pgmGrp);
-                        } else if (pgmGrp.isConfigParameter()) {
-                            List<ParameterReference> prmRefList = pgmGrp
-                                    .getParameterRefList();
-                            for (ParameterReference prmRef : prmRefList) {
-                                if (prmRef.isVisible()) {
-                                    visibleObjectsList.add(prmRef);
-                                }
-                            }
-
-                            List<ParameterGroup> prmGrpList = pgmGrp
-                                    .getParameterGroupList();
-                            for (int count = 1; count < prmGrpList
-                                    .size(); count++) {
-                                for (ParameterGroup prmGrp : prmGrpList) {
-
-                                    if (prmGrp.isGroupLevelVisible()
-                                            && prmGrp.isConfigParameter()) {
-
-                                        visibleObjectsList.add(prmGrp);
-                                    } else if (prmGrp.isConfigParameter()) {
-                                        List<ParameterReference> pgmRefList = prmGrp
-                                                .getParameterRefList();
-                                        for (ParameterReference prmRef : pgmRefList) {
-                                            if (prmRef.isVisible()) {
-                                                visibleObjectsList.add(prmRef);
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        } else {
-                            System.err.println(
-                                    "No parameter groups can be configured ");
-                        }
-
-                    } else {
-                        System.err.println(
-                                "parameter group cannot be displayed due to false condition set");
-                    }
-                }
-                if (visibleObjectsList.size() == 0) {
-                    visibleObjectsList.add("");
-                }
-                return visibleObjectsList.toArray();
-
+                visibility = ((Node) inputElement).getObjectDictionary()
+                        .getParameterGroupVisibility();
             } else if (inputElement instanceof Module) {
-                Module moduleObj = (Module) inputElement;
-                LinkedHashSet<Object> visibleObjectsList = new LinkedHashSet<>();
-                List<ParameterGroup> paramGrupList = moduleObj
-                        .getObjectDictionary().getParameterGroupList();
-                for (ParameterGroup pgmGrp : paramGrupList) {
-                    System.err.println(
-                            "Module --------> " + pgmGrp.getLabel().getText()
-                                    + " m:" + pgmGrp.isConditionsMet() + " v:"
-                                    + pgmGrp.isGroupLevelVisible());
-
-                    if (pgmGrp.isConditionsMet()) {
-                        if ((pgmGrp.isGroupLevelVisible())
-                                && (pgmGrp.isConfigParameter())) {
-                            visibleObjectsList.add(pgmGrp);
-                        } else if (pgmGrp.isConfigParameter()) {
-                            List<ParameterReference> prmRefList = pgmGrp
-                                    .getParameterRefList();
-                            for (ParameterReference prmRef : prmRefList) {
-                                if (prmRef.isVisible()) {
-                                    visibleObjectsList.add(prmRef);
-                                }
-                            }
-
-                            List<ParameterGroup> prmGrpList = pgmGrp
-                                    .getParameterGroupList();
-                            for (int count = 1; count < prmGrpList
-                                    .size(); count++) {
-                                for (ParameterGroup prmGrp : prmGrpList) {
-                                    if (prmGrp.isGroupLevelVisible()
-                                            && prmGrp.isConfigParameter()) {
-                                        visibleObjectsList.add(prmGrp);
-                                    } else if (prmGrp.isConfigParameter()) {
-                                        List<ParameterReference> pgmRefList = prmGrp
-                                                .getParameterRefList();
-                                        for (ParameterReference prmRef : pgmRefList) {
-                                            if (prmRef.isVisible()) {
-                                                visibleObjectsList.add(prmRef);
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        } else {
-                            System.err.println(
-                                    "No parameter groups can be configured ");
-                        }
+                visibility = ((Module) inputElement).getObjectDictionary()
+                        .getParameterGroupVisibility();
+            }
 
-                    } else {
-                        System.err.println(
-                                "parameter group cannot be displayed due to false condition set");
-                    }
-                }
-                if (visibleObjectsList.size() == 0) {
-                    visibleObjectsList.add("");
+            if (visibility != null) {
+                List<Object> visibleObjectsList = visibility
+                        .getVisibleRootObjects();
+                if (visibleObjectsList.isEmpty()) {
+                    return new Object[] { "" }; //$NON-NLS-1$
                 }
                 return visibleObjectsList.toArray();
-
             }
 
             return new Object[] { new EmptyParameter() };
@@ -698,6 +640,12 @@ public class ParameterView extends ViewPart implements IPropertyListener {
         });
     }
 
+    @Override
+    public void dispose() {
+        setParameterGroupVisibility(null);
+        super.dispose();
+    }
+
     @Override
     public void propertyChanged(Object source, int propId) {
 
@@ -709,6 +657,29 @@ public class ParameterView extends ViewPart implements IPropertyListener {
 
     }
 
+    /**
+     * Listens to the visibility changes of the given parameter groups instead
+     * of the previous one.
+     *
+     * @param visibility Visibility of the parameter groups or
+     *            <code>null</code>.
+     */
+    private void setParameterGroupVisibility(
+            ParameterGroupVisibility visibility) {
+        if (parameterGroupVisibility == visibility) {
+            return;
+        }
+        if (parameterGroupVisibility != null) {
+            parameterGroupVisibility
+                    .removeVisibilityChangeListener(visibilityChangeListener);
+        }
+        parameterGroupVisibility = visibility;
+        if (parameterGroupVisibility != null) {
+            parameterGroupVisibility
+                    .addVisibilityChangeListener(visibilityChangeListener);
+        }
+    }
+
     @Override
     public void setFocus() {
         treeViewer.getControl().setFocus();
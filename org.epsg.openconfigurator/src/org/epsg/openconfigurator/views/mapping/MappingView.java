@@ -37,6 +37,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -117,7 +118,8 @@ import org.eclipse.ui.forms.widgets.Section;
 import org.eclipse.ui.part.ViewPart;
 import org.epsg.openconfigurator.adapters.AbstractNodePropertySource;
 import org.epsg.openconfigurator.console.OpenConfiguratorMessageConsole;
-import org.epsg.openconfigurator.lib.wrapper.OpenConfiguratorCore;
+import org.epsg.openconfigurator.core.ICoreCallback;
+import org.epsg.openconfigurator.core.OpenConfiguratorCoreProvider;
 import org.epsg.openconfigurator.lib.wrapper.Result;
 import org.epsg.openconfigurator.model.AbstractPowerlinkObject;
 import org.epsg.openconfigurator.model.HeadNodeInterface;
@@ -134,6 +136,7 @@ import org.epsg.openconfigurator.model.PowerlinkSubobject;
 import org.epsg.openconfigurator.model.RpdoChannel;
 import org.epsg.openconfigurator.model.TpdoChannel;
 import org.epsg.openconfigurator.resources.IPluginImages;
+import org.epsg.openconfigurator.util.DisplayExecutor;
 import org.epsg.openconfigurator.util.IPowerlinkConstants;
 import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
 import org.epsg.openconfigurator.util.OpenConfiguratorProjectUtils;
@@ -255,6 +258,51 @@ public class MappingView extends ViewPart {
         }
     }
 
+    /**
+     * Callback to apply the result of a core call to the node in the UI thread
+     * and to refresh the network view.
+     *
+     * @author Ramakrishnan P
+     *
+     */
+    private abstract class CoreResultCallback
+            implements ICoreCallback<Result> {
+
+        /**
+         * Applies the successful result of the core to the node.
+         */
+        protected abstract void apply(Result res)
+                throws JDOMException, IOException;
+
+        @Override
+        public void completed(Result res) {
+            if (res.IsSuccessful()) {
+                try {
+                    apply(res);
+                } catch (JDOMException | IOException e) {
+                    e.printStackTrace();
+                }
+            } else {
+                reportError(res);
+            }
+            refreshNetworkView();
+        }
+
+        @Override
+        public void failed(Throwable cause) {
+            cause.printStackTrace();
+            refreshNetworkView();
+        }
+
+        /**
+         * Reports the failed result of the core.
+         */
+        protected void reportError(Result res) {
+            OpenConfiguratorMessageConsole.getInstance()
+                    .printLibraryErrorMessage(res);
+        }
+    }
+
     /**
      * Listener to handle the the update no.of entries modification events..
      *
@@ -731,7 +779,7 @@ public class MappingView extends ViewPart {
                             // The variable res is dead stored, so that it may
                             // return value if the
                             // result fails in all below conditions.
-                            Result res = new Result();
+                            Result res = OpenConfiguratorCoreProvider.newResult();
                             if (objectTobeMapped == emptyObject) {
                                 res = OpenConfiguratorLibraryUtils
                                         .clearSelectedmappingobject(pdoChannel,
@@ -2752,46 +2800,23 @@ public class MappingView extends ViewPart {
                     } else {
                         newNodType = "1";
                     }
-                    Integer value = Integer.valueOf(newNodType);
-                    PlkOperationMode plkMode = null;
-                    Result res = new Result();
-
-                    int val = value.intValue();
-                    if (val == 0) { // Normal Station.
-                        res = OpenConfiguratorCore.GetInstance()
-                                .ResetOperationMode(nodeObj.getNetworkId(),
-                                        nodeObj.getCnNodeIdValue());
+                    PlkOperationMode plkMode = PlkOperationMode.CHAINED;
+                    if (Integer.parseInt(newNodType) == 0) { // Normal Station.
                         plkMode = PlkOperationMode.NORMAL;
-                    } else if (val == 1) {
-                        res = OpenConfiguratorCore.GetInstance()
-                                .SetOperationModeChained(nodeObj.getNetworkId(),
-                                        nodeObj.getCnNodeIdValue());
-                        plkMode = PlkOperationMode.CHAINED;
                     }
-                    if (plkMode != null) {
+                    // The library modifies the node assignment values and the
+                    // RPDO node IDs along with the operation mode, they are
+                    // read back in the same core task.
+                    try {
+                        Result res = OpenConfiguratorProjectUtils
+                                .updateOperationMode(nodeObj, plkMode,
+                                        (short) 0);
                         if (res.IsSuccessful()) {
-                            nodeObj.setPlkOperationMode(plkMode);
-                        } else {
-                            OpenConfiguratorMessageConsole.getInstance()
-                                    .printLibraryErrorMessage(res);
+                            // Updates the generator attributes in project
+                            // file.
+                            OpenConfiguratorProjectUtils
+                                    .updateGeneratorInfo(nodeObj);
                         }
-                    } else {
-                        System.err.println("Invalid POWERLINK operation mode");
-                    }
-                    // Node Assignment values will be modified by the
-                    // library. So refresh the project file data.
-                    try {
-                        OpenConfiguratorProjectUtils
-                                .updateNodeAssignmentValues(nodeObj);
-
-                        // RPDO nodeID will be changed by the library. So
-                        // refresh the node XDD data
-                        OpenConfiguratorProjectUtils.persistNodeData(nodeObj);
-
-                        // Updates the generator attributes in project file.
-                        OpenConfiguratorProjectUtils
-                                .updateGeneratorInfo(nodeObj);
-
                     } catch (JDOMException | IOException e1) {
                         // TODO Auto-generated catch block
                         e1.printStackTrace();
@@ -2818,25 +2843,26 @@ public class MappingView extends ViewPart {
                 newPresTime = handlePresTimeout(txt_no_PResTimeOut.getText());
                 if ((!newPresTime.equalsIgnoreCase(StringUtils.EMPTY))) {
                     if (!newPresTime.equalsIgnoreCase(prestimeout)) {
-                        long presTimeoutInNs = Long.decode(newPresTime)
+                        final Node node = nodeObj;
+                        final long presTimeoutInNs = Long.decode(newPresTime)
                                 .longValue() * 1000;
-                        Result res = OpenConfiguratorCore.GetInstance()
-                                .SetPResTimeOut(nodeObj.getNetworkId(),
-                                        nodeObj.getCnNodeIdValue(),
-                                        presTimeoutInNs);
-                        if (res.IsSuccessful()) {
-                            try {
-                                nodeObj.setCnPresTimeout(
+                        submitCoreCall(new Callable<Result>() {
+                            @Override
+                            public Result call() {
+                                return OpenConfiguratorCoreProvider.getCore()
+                                        .SetPResTimeOut(node.getNetworkId(),
+                                                node.getCnNodeIdValue(),
+                                                presTimeoutInNs);
+                            }
+                        }, new CoreResultCallback() {
+                            @Override
+                            protected void apply(Result res)
+                                    throws JDOMException, IOException {
+                                node.setCnPresTimeout(
                                         String.valueOf(presTimeoutInNs));
-
-                            } catch (JDOMException | IOException e1) {
-                                // TODO Auto-generated catch block
-                                e1.printStackTrace();
                             }
-                        } else {
-                            OpenConfiguratorMessageConsole.getInstance()
-                                    .printLibraryErrorMessage(res);
-                        }
+                        });
+                        return;
                     }
                     refreshNetworkView();
                 } else {
@@ -2868,35 +2894,35 @@ public class MappingView extends ViewPart {
                         lossOfSocTolText.getText());
                 if ((!newLossOfSoc.equalsIgnoreCase(StringUtils.EMPTY))) {
                     if (!newLossOfSoc.equalsIgnoreCase(lossOfSoc)) {
-                        long lossOfSocTolerance = Long.decode(newLossOfSoc)
-                                * 1000;
-                        Result res = OpenConfiguratorCore.GetInstance()
-                                .SetLossOfSocTolerance(nodeObj.getNetworkId(),
-                                        nodeObj.getCnNodeIdValue(),
-                                        lossOfSocTolerance);
-                        if (res.IsSuccessful()) {
-                            try {
-                                nodeObj.setLossOfSocTolerance(
-                                        lossOfSocTolerance);
-                            } catch (JDOMException | IOException e1) {
-                                // TODO Auto-generated catch block
-                                e1.printStackTrace();
+                        final Node node = nodeObj;
+                        final long lossOfSocTolerance = Long
+                                .decode(newLossOfSoc) * 1000;
+                        submitCoreCall(new Callable<Result>() {
+                            @Override
+                            public Result call() {
+                                return OpenConfiguratorCoreProvider.getCore()
+                                        .SetLossOfSocTolerance(
+                                                node.getNetworkId(),
+                                                node.getCnNodeIdValue(),
+                                                lossOfSocTolerance);
                             }
-                        } else {
-                            OpenConfiguratorMessageConsole.getInstance()
-                                    .printLibraryErrorMessage(res);
-                        }
+                        }, new CoreResultCallback() {
+                            @Override
+                            protected void apply(Result res)
+                                    throws JDOMException, IOException {
+                                node.setLossOfSocTolerance(lossOfSocTolerance);
+                            }
+
+                            @Override
+                            public void completed(Result res) {
+                                super.completed(res);
+                                refreshProject(node);
+                            }
+                        });
+                        return;
                     }
                     refreshNetworkView();
-                    try {
-                        nodeObj.getProject().refreshLocal(
-                                IResource.DEPTH_INFINITE,
-                                new NullProgressMonitor());
-                    } catch (CoreException ex) {
-                        System.err.println(
-                                "unable to refresh the resource due to "
-                                        + ex.getCause().getMessage());
-                    }
+                    refreshProject(nodeObj);
 
                 } else {
                     Long val = Long.valueOf(nodeObj.getLossOfSocTolerance());
@@ -2920,21 +2946,24 @@ public class MappingView extends ViewPart {
                 newAsyncMtu = handleAsyncMtu(asyncMtuText.getText());
                 if ((!newAsyncMtu.equalsIgnoreCase(StringUtils.EMPTY))) {
                     if (!newAsyncMtu.equalsIgnoreCase(asyncMtu)) {
-                        Integer asyncMtuValue = Integer.decode(newAsyncMtu);
-                        Result res = OpenConfiguratorCore.GetInstance()
-                                .SetAsyncMtu(nodeObj.getNetworkId(),
-                                        asyncMtuValue);
-                        if (res.IsSuccessful()) {
-                            try {
-                                nodeObj.setAsyncMtuOfNode(asyncMtuValue);
-                            } catch (JDOMException | IOException e1) {
-                                // TODO Auto-generated catch block
-                                e1.printStackTrace();
+                        final Node node = nodeObj;
+                        final Integer asyncMtuValue = Integer
+                                .decode(newAsyncMtu);
+                        submitCoreCall(new Callable<Result>() {
+                            @Override
+                            public Result call() {
+                                return OpenConfiguratorCoreProvider.getCore()
+                                        .SetAsyncMtu(node.getNetworkId(),
+                                                asyncMtuValue);
                             }
-                        } else {
-                            OpenConfiguratorMessageConsole.getInstance()
-                                    .printLibraryErrorMessage(res);
-                        }
+                        }, new CoreResultCallback() {
+                            @Override
+                            protected void apply(Result res)
+                                    throws JDOMException, IOException {
+                                node.setAsyncMtuOfNode(asyncMtuValue);
+                            }
+                        });
+                        return;
                     }
                     refreshNetworkView();
                 } else {
@@ -2962,23 +2991,26 @@ public class MappingView extends ViewPart {
                         asyncTimeOutTxt.getText());
                 if ((!newAsynctimeOut.equalsIgnoreCase(StringUtils.EMPTY))) {
                     if (!newAsynctimeOut.equalsIgnoreCase(asyncTime)) {
-                        Result res = OpenConfiguratorCore.GetInstance()
-                                .SetAsyncSlotTimeout(nodeObj.getNetworkId(),
-                                        nodeObj.getCnNodeIdValue(),
-                                        Long.decode(newAsynctimeOut));
-                        if (res.IsSuccessful()) {
-                            try {
-                                nodeObj.setAsyncSlotTimeout(
-                                        Long.decode(newAsynctimeOut));
-                            } catch (NumberFormatException | JDOMException
-                                    | IOException e1) {
-                                // TODO Auto-generated catch block
-                                e1.printStackTrace();
+                        final Node node = nodeObj;
+                        final Long asyncSlotTimeout = Long
+                                .decode(newAsynctimeOut);
+                        submitCoreCall(new Callable<Result>() {
+                            @Override
+                            public Result call() {
+                                return OpenConfiguratorCoreProvider.getCore()
+                                        .SetAsyncSlotTimeout(
+                                                node.getNetworkId(),
+                                                node.getCnNodeIdValue(),
+                                                asyncSlotTimeout);
                             }
-                        } else {
-                            OpenConfiguratorMessageConsole.getInstance()
-                                    .printLibraryErrorMessage(res);
-                        }
+                        }, new CoreResultCallback() {
+                            @Override
+                            protected void apply(Result res)
+                                    throws JDOMException, IOException {
+                                node.setAsyncSlotTimeout(asyncSlotTimeout);
+                            }
+                        });
+                        return;
                     }
                     refreshNetworkView();
                 } else {
@@ -3004,21 +3036,24 @@ public class MappingView extends ViewPart {
                 newPreScaler = handlePreScalerValue(preScalerText.getText());
                 if ((!newPreScaler.equalsIgnoreCase(StringUtils.EMPTY))) {
                     if (!newPreScaler.equalsIgnoreCase(preScaler)) {
-                        Integer preScalarVal = Integer.decode(newPreScaler);
-                        Result res = OpenConfiguratorCore.GetInstance()
-                                .SetPrescaler(nodeObj.getNetworkId(),
-                                        preScalarVal);
-                        if (res.IsSuccessful()) {
-                            try {
-                                nodeObj.setPrescaler(preScalarVal);
-                            } catch (JDOMException | IOException e1) {
-                                // TODO Auto-generated catch block
-                                e1.printStackTrace();
+                        final Node node = nodeObj;
+                        final Integer preScalarVal = Integer
+                                .decode(newPreScaler);
+                        submitCoreCall(new Callable<Result>() {
+                            @Override
+                            public Result call() {
+                                return OpenConfiguratorCoreProvider.getCore()
+                                        .SetPrescaler(node.getNetworkId(),
+                                                preScalarVal);
                             }
-                        } else {
-                            OpenConfiguratorMessageConsole.getInstance()
-                                    .printLibraryErrorMessage(res);
-                        }
+                        }, new CoreResultCallback() {
+                            @Override
+                            protected void apply(Result res)
+                                    throws JDOMException, IOException {
+                                node.setPrescaler(preScalarVal);
+                            }
+                        });
+                        return;
                     }
                     refreshNetworkView();
                 } else {
@@ -3045,26 +3080,33 @@ public class MappingView extends ViewPart {
                         cycleTime);
                 if ((!newCycleTime.equalsIgnoreCase(StringUtils.EMPTY))) {
                     if (!newCycleTime.equalsIgnoreCase(cycleTime)) {
-                        Long cycleTimeValue = Long.decode(newCycleTime);
-                        Result res = OpenConfiguratorCore.GetInstance()
-                                .SetCycleTime(nodeObj.getNetworkId(),
-                                        cycleTimeValue);
-                        if (res.IsSuccessful()) {
-                            try {
-                                nodeObj.setCycleTime(cycleTimeValue);
-                            } catch (JDOMException | IOException e1) {
-                                // TODO Auto-generated catch block
-                                e1.printStackTrace();
+                        final Node node = nodeObj;
+                        final Long cycleTimeValue = Long.decode(newCycleTime);
+                        submitCoreCall(new Callable<Result>() {
+                            @Override
+                            public Result call() {
+                                return OpenConfiguratorCoreProvider.getCore()
+                                        .SetCycleTime(node.getNetworkId(),
+                                                cycleTimeValue);
                             }
-                        } else {
-                            OpenConfiguratorMessageConsole.getInstance()
-                                    .printLibraryErrorMessage(res);
-                            PluginErrorDialogUtils.showMessageWindow(
-                                    MessageDialog.ERROR,
-                                    OpenConfiguratorLibraryUtils
-                                            .getErrorMessage(res),
-                                    nodeObj.getNetworkId());
-                        }
+                        }, new CoreResultCallback() {
+                            @Override
+                            protected void apply(Result res)
+                                    throws JDOMException, IOException {
+                                node.setCycleTime(cycleTimeValue);
+                            }
+
+                            @Override
+                            protected void reportError(Result res) {
+                                super.reportError(res);
+                                PluginErrorDialogUtils.showMessageWindow(
+                                        MessageDialog.ERROR,
+                                        OpenConfiguratorLibraryUtils
+                                                .getErrorMessage(res),
+                                        node.getNetworkId());
+                            }
+                        });
+                        return;
                     }
                     refreshNetworkView();
                 } else {
@@ -3092,23 +3134,23 @@ public class MappingView extends ViewPart {
                 newNodeName = handleSetNodeName(txt_no_nodename.getText());
                 if ((!newNodeName.equalsIgnoreCase(StringUtils.EMPTY))) {
                     if ((!newNodeName.equalsIgnoreCase(nodeName))) {
-                        Result res = OpenConfiguratorCore.GetInstance()
-                                .SetNodeName(nodeObj.getNetworkId(),
-                                        nodeObj.getCnNodeIdValue(),
-                                        newNodeName);
-                        if (!res.IsSuccessful()) {
-                            OpenConfiguratorMessageConsole.getInstance()
-                                    .printLibraryErrorMessage(res);
-                        } else {
-                            try {
-                                nodeObj.setName(newNodeName);
-
-                            } catch (JDOMException | IOException ex) {
-                                // TODO Auto-generated catch block
-                                ex.printStackTrace();
+                        final Node node = nodeObj;
+                        final String name = newNodeName;
+                        submitCoreCall(new Callable<Result>() {
+                            @Override
+                            public Result call() {
+                                return OpenConfiguratorCoreProvider.getCore()
+                                        .SetNodeName(node.getNetworkId(),
+                                                node.getCnNodeIdValue(), name);
                             }
-
-                        }
+                        }, new CoreResultCallback() {
+                            @Override
+                            protected void apply(Result res)
+                                    throws JDOMException, IOException {
+                                node.setName(name);
+                            }
+                        });
+                        return;
                     }
                     refreshNetworkView();
                 } else {
@@ -5556,7 +5598,7 @@ public class MappingView extends ViewPart {
                 return StringUtils.EMPTY;
             }
 
-            Result res = OpenConfiguratorCore.GetInstance().SetNodeName(
+            Result res = OpenConfiguratorCoreProvider.getCore().SetNodeName(
                     nodeObj.getNetworkId(), nodeObj.getCnNodeIdValue(),
                     nodeName);
             if (!res.IsSuccessful()) {
@@ -5650,6 +5692,19 @@ public class MappingView extends ViewPart {
         }
     }
 
+    /**
+     * Refreshes the resources of the project of the node.
+     */
+    private void refreshProject(Node node) {
+        try {
+            node.getProject().refreshLocal(IResource.DEPTH_INFINITE,
+                    new NullProgressMonitor());
+        } catch (CoreException ex) {
+            System.err.println("unable to refresh the resource due to "
+                    + ex.getCause().getMessage());
+        }
+    }
+
     @Override
     public void setFocus() {
         // Set the focus
@@ -5725,6 +5780,19 @@ public class MappingView extends ViewPart {
         }
     }
 
+    /**
+     * Submits the call to the core thread. The result is applied by the
+     * callback in the UI thread, so that the view does not wait for the core.
+     *
+     * @param call The call of the core.
+     * @param callback The callback to apply the result.
+     */
+    private void submitCoreCall(Callable<Result> call,
+            CoreResultCallback callback) {
+        OpenConfiguratorCoreProvider.submit(call).addCallback(callback,
+                DisplayExecutor.getInstance());
+    }
+
     /**
      * updates the size of channel
      *
@@ -81,10 +81,17 @@ public class AddControlledNodeWizardPage extends WizardPage {
     private static final String NODE_ID_LABEL = "Node ID:";
     private static final String RANGE_LABEL = "Range:";
     private static final String NAME_LABEL = "Name:";
+    private static final String COUNT_LABEL = "Count:";
+
+    /**
+     * Name of the nodes added together, from the entered name and the node ID.
+     */
+    private static final String MULTIPLE_NODE_NAME_PATTERN = "{0}_{1}"; //$NON-NLS-1$
 
     private static final String ERROR_MAXIMUM_NODE_ID_LIMIT_REACHED = "Maximum Node ID limit({0}) reached.";
     private static final String ERROR_MODEL_NOT_AVAILABLE = "Editor is not available to fetch the model.";
     private static final String ERROR_NODE_ALREADY_EXISTS = "Node already exists.";
+    private static final String ERROR_NODE_ID_RANGE_NOT_AVAILABLE = "Node ID {0} of the range is not available.";
     private static final String ERROR_INVALID_NODE_ID = "Invalid node ID.";
     private static final String ERROR_INVALID_NODE_NAME = "Enter a valid node name.";
     private static final String ERROR_RMN_NOT_SUPPORTED = "{0} does not support RMN.";
@@ -192,6 +199,16 @@ public class AddControlledNodeWizardPage extends WizardPage {
      */
     private Spinner nodeIdSpinner;
 
+    /**
+     * Control to display the number of nodes to be added.
+     */
+    private Spinner nodeCountSpinner;
+
+    /**
+     * Flag to add more than one node with the page.
+     */
+    private final boolean multipleNodesSupported;
+
     /**
      * Control to display the node ID value range.
      */
@@ -217,19 +234,36 @@ public class AddControlledNodeWizardPage extends WizardPage {
      */
     private Object nodeModel = null; // TCN/TRMN
 
+    /**
+     * The models of all the nodes to be added.
+     */
+    private final List<Object> nodeModels = new ArrayList<>();
+
     private int selectionIndex;
 
     /**
      * Create the wizard.
      */
     public AddControlledNodeWizardPage(TNodeCollection nodeCollection) {
+        this(nodeCollection, false);
+    }
+
+    /**
+     * Create the wizard.
+     *
+     * @param nodeCollection The node collection instance.
+     * @param multipleNodesSupported <code>True</code> to add a range of CNs
+     *            with the page, <code>False</code> otherwise.
+     */
+    public AddControlledNodeWizardPage(TNodeCollection nodeCollection,
+            boolean multipleNodesSupported) {
         super(DIALOG_PAGE_NAME);
         setTitle(DIALOG_TILE);
         setDescription(DIALOG_DESCRIPTION);
 
         setErrorMessage(null);
         this.nodeCollection = nodeCollection;
-
+        this.multipleNodesSupported = multipleNodesSupported;
     }
 
     /**
@@ -322,6 +356,25 @@ public class AddControlledNodeWizardPage extends WizardPage {
             }
 
         });
+
+        if (multipleNodesSupported) {
+            Label lblCount = new Label(container, SWT.NONE);
+            lblCount.setBounds(21, 193, 73, 23);
+            lblCount.setText(COUNT_LABEL);
+
+            nodeCountSpinner = new Spinner(container, SWT.BORDER);
+            nodeCountSpinner.setMinimum(1);
+            nodeCountSpinner.setMaximum(IPowerlinkConstants.CN_MAX_NODE_ID);
+            nodeCountSpinner.setSelection(1);
+            nodeCountSpinner.setBounds(121, 193, 117, 22);
+            nodeCountSpinner.addModifyListener(new ModifyListener() {
+
+                @Override
+                public void modifyText(ModifyEvent e) {
+                    getWizard().getContainer().updateButtons();
+                }
+            });
+        }
     }
 
     public String getCnNodeId() {
@@ -445,6 +498,16 @@ public class AddControlledNodeWizardPage extends WizardPage {
         return nodeIdSpinner.getSelection();
     }
 
+    /**
+     * @return The number of nodes to be added.
+     */
+    int getNodeCount() {
+        if (nodeCountSpinner == null) {
+            return 1;
+        }
+        return nodeCountSpinner.getSelection();
+    }
+
     /**
      * @return the list of node IDs.
      */
@@ -465,6 +528,13 @@ public class AddControlledNodeWizardPage extends WizardPage {
         return nodeIdList;
     }
 
+    /**
+     * @return Returns the models of all the nodes to be added.
+     */
+    List<Object> getNodes() {
+        return nodeModels;
+    }
+
     /**
      * @return The name of the node selected.
      */
@@ -506,6 +576,9 @@ public class AddControlledNodeWizardPage extends WizardPage {
                 short newCnNodeId = getNewCnNodeId();
                 nodeIdSpinner.setSelection(newCnNodeId);
                 stationTypeCombo.setEnabled(true);
+                if (nodeCountSpinner != null) {
+                    nodeCountSpinner.setEnabled(true);
+                }
                 break;
 
             case REDUNDANT_MANAGING_NODE_LABEL:
@@ -517,6 +590,10 @@ public class AddControlledNodeWizardPage extends WizardPage {
                 nodeIdSpinner.setSelection(newRmnNodeId);
                 stationTypeCombo.setEnabled(false);
                 stationTypeCombo.select(0);
+                if (nodeCountSpinner != null) {
+                    nodeCountSpinner.setSelection(1);
+                    nodeCountSpinner.setEnabled(false);
+                }
                 break;
 
             default:
@@ -603,6 +680,18 @@ public class AddControlledNodeWizardPage extends WizardPage {
             return false;
         }
 
+        List<Short> nodeIdList = getNodeIDs();
+        for (int i = 1; i < getNodeCount(); i++) {
+            short nodeId = (short) (nodeIdSpinner.getSelection() + i);
+            if (!isValidNodeId(nodeId)
+                    || isNodeIdAvailable(nodeIdList, nodeId)) {
+                setErrorMessage(MessageFormat.format(
+                        ERROR_NODE_ID_RANGE_NOT_AVAILABLE,
+                        String.valueOf(nodeId)));
+                return false;
+            }
+        }
+
         boolean nameValid = isNodeNameValid(nodeName.getText());
         if (!nameValid) {
             setErrorMessage(ERROR_INVALID_NODE_NAME);
@@ -710,13 +799,25 @@ public class AddControlledNodeWizardPage extends WizardPage {
     }
 
     private void updateCnModel() {
+        nodeModels.clear();
         switch (getNodeType()) {
             case CONTROLLED_NODE_LABEL:
-                TCN cnModel = new TCN();
-                cnModel.setName(nodeName.getText());
-                cnModel.setNodeID(
-                        Integer.toString(nodeIdSpinner.getSelection()));
-                nodeModel = cnModel;
+                int nodeCount = getNodeCount();
+                for (int i = 0; i < nodeCount; i++) {
+                    String nodeId = Integer
+                            .toString(nodeIdSpinner.getSelection() + i);
+                    TCN cnModel = new TCN();
+                    if (nodeCount > 1) {
+                        cnModel.setName(MessageFormat.format(
+                                MULTIPLE_NODE_NAME_PATTERN, nodeName.getText(),
+                                nodeId));
+                    } else {
+                        cnModel.setName(nodeName.getText());
+                    }
+                    cnModel.setNodeID(nodeId);
+                    nodeModels.add(cnModel);
+                }
+                nodeModel = nodeModels.get(0);
                 break;
             case REDUNDANT_MANAGING_NODE_LABEL:
                 TRMN rmnModel = new TRMN();
@@ -724,6 +825,7 @@ public class AddControlledNodeWizardPage extends WizardPage {
                 rmnModel.setNodeID(
                         Integer.toString(nodeIdSpinner.getSelection()));
                 nodeModel = rmnModel;
+                nodeModels.add(rmnModel);
                 break;
             default:
                 nodeModel = null;
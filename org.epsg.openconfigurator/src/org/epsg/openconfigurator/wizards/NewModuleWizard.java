@@ -209,7 +209,8 @@ public class NewModuleWizard extends Wizard {
 
         ISO15745ProfileContainer xddModel = null;
         try {
-            xddModel = XddMarshaller.unmarshallXDDFile(xdcPath.toFile());
+            xddModel = XddMarshaller
+                    .unmarshallModuleXDDFile(xdcPath.toFile());
         } catch (FileNotFoundException | UnsupportedEncodingException
                 | JAXBException | SAXException | ParserConfigurationException
                 | NullPointerException e2) {
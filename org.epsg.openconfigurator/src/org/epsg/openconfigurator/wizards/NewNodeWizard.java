@@ -37,6 +37,7 @@ import java.io.UnsupportedEncodingException;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -119,15 +120,21 @@ public class NewNodeWizard extends Wizard {
             }
         }
         setWindowTitle(WINDOW_TITLE);
-        addNodePage = new AddControlledNodeWizardPage(nodeCollectionModel);
+        addNodePage = new AddControlledNodeWizardPage(nodeCollectionModel,
+                true);
         validateXddPage = new ValidateXddWizardPage();
     }
 
-    private boolean addNodeFirmwareFile(Node newNode) {
+    private boolean addNodeFirmwareFile(List<Node> newNodes) {
         List<FirmwareManager> validFwList = new ArrayList<>();
+        // The new nodes are created from the same XDD.
+        Node newNode = newNodes.get(0);
         if (nodeList != null) {
             if (!nodeList.getCnNodeList().isEmpty()) {
                 for (Node cnNode : nodeList.getCnNodeList()) {
+                    if (newNodes.contains(cnNode)) {
+                        continue;
+                    }
                     if (cnNode.getVendorIdValue()
                             .equalsIgnoreCase(newNode.getVendorIdValue())) {
                         if (cnNode.getProductCodeValue().equalsIgnoreCase(
@@ -149,10 +156,17 @@ public class NewNodeWizard extends Wizard {
                 }
 
                 if (!validFwList.isEmpty()) {
+                    StringBuilder nodeNames = new StringBuilder();
+                    for (Node node : newNodes) {
+                        if (nodeNames.length() > 0) {
+                            nodeNames.append("', '");
+                        }
+                        nodeNames.append(node.getNodeIDWithName());
+                    }
                     MessageDialog dialog = new MessageDialog(null,
                             "Add firmware file", null,
                             "The project contains firmware file for Node '"
-                                    + newNode.getNodeIDWithName() + "'."
+                                    + nodeNames + "'."
                                     + " \nDo you wish to add the firmware file? ",
                             MessageDialog.WARNING, new String[] { "Yes", "No" },
                             1);
@@ -166,15 +180,17 @@ public class NewNodeWizard extends Wizard {
 
                     }
 
-                    for (FirmwareManager fw : firmwarelist.values()) {
+                    for (Node node : newNodes) {
+                        for (FirmwareManager fw : firmwarelist.values()) {
 
-                        FirmwareManager firmwareMngr = new FirmwareManager(
-                                newNode, fw.getFirmwareXddModel(),
-                                fw.getFirmwareObjModel());
-                        newNode.getNodeFirmwareCollection().put(firmwareMngr,
-                                firmwareMngr.getFirmwarefileVersion());
-                        fw.updateFirmwareInProjectFile(firmwareMngr, newNode,
-                                firmwareMngr.getFirmwareObjModel());
+                            FirmwareManager firmwareMngr = new FirmwareManager(
+                                    node, fw.getFirmwareXddModel(),
+                                    fw.getFirmwareObjModel());
+                            node.getNodeFirmwareCollection().put(firmwareMngr,
+                                    firmwareMngr.getFirmwarefileVersion());
+                            fw.updateFirmwareInProjectFile(firmwareMngr, node,
+                                    firmwareMngr.getFirmwareObjModel());
+                        }
                     }
 
                 }
@@ -184,6 +200,86 @@ public class NewNodeWizard extends Wizard {
         return false;
     }
 
+    /**
+     * Adds the range of CNs selected in the wizard. The nodes share the XDD
+     * model, are added into the library in one batch and are written into the
+     * project file at once.
+     *
+     * @param xddModel The XDD model of the nodes.
+     * @param xdcPath The path of the XDD file.
+     * @return <code>True</code> if the wizard can be closed,
+     *         <code>False</code> otherwise.
+     */
+    private boolean addNodes(ISO15745ProfileContainer xddModel,
+            Path xdcPath) {
+        List<Node> newNodes = new ArrayList<>();
+        for (Object nodeObject : addNodePage.getNodes()) {
+            TCN cnModel = (TCN) nodeObject;
+            cnModel.setPathToXDC(xdcPath.toString());
+            newNodes.add(new Node(nodeList, selectedNodeObj.getProjectXml(),
+                    cnModel, xddModel));
+        }
+
+        // The features of the nodes are the same, so the first node is
+        // checked.
+        if (!(handleStationTypeChanged(addNodePage.getStationTypeChanged(),
+                newNodes.get(0)))) {
+            getContainer().showPage(addNodePage);
+            return false;
+        }
+        addNodePage.setErrorMessage("");
+
+        try {
+            OpenConfiguratorProjectUtils.importNodeConfigurationFiles(newNodes);
+        } catch (IOException e1) {
+            validateXddPage.getErrorStyledText(e1.getCause().getMessage());
+            PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
+                    e1.getCause().getMessage(),
+                    selectedNodeObj.getProject().getName());
+            e1.printStackTrace();
+        }
+
+        Result res = OpenConfiguratorLibraryUtils.addNodes(newNodes);
+        if (!res.IsSuccessful()) {
+            // The nodes are removed from the library already.
+            PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR, res);
+            return true;
+        }
+
+        try {
+            nodeList.addNodes(nodeCollectionModel, newNodes);
+        } catch (IOException | JDOMException e) {
+            if ((e.getMessage() != null) && !e.getMessage().isEmpty()) {
+                validateXddPage.getErrorStyledText(e.getMessage());
+                PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
+                        e.getMessage(), "");
+            } else if ((e.getCause() != null)
+                    && (e.getCause().getMessage() != null)
+                    && !e.getCause().getMessage().isEmpty()) {
+                validateXddPage.getErrorStyledText(e.getCause().getMessage());
+                PluginErrorDialogUtils.showMessageWindow(MessageDialog.ERROR,
+                        ERROR_WHILE_COPYING_XDD,
+                        selectedNodeObj.getProject().getName());
+            }
+        }
+
+        // New nodes are normal stations, so only the other station types
+        // are updated.
+        if (addNodePage.getStationTypeChanged() != 0) {
+            for (Node newNode : newNodes) {
+                try {
+                    newNode.addStationTypeofNode(
+                            addNodePage.getStationTypeChanged());
+                } catch (JDOMException | IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        addNodeFirmwareFile(newNodes);
+        return true;
+    }
+
     /**
      * Add wizard page
      */
@@ -314,6 +410,10 @@ public class NewNodeWizard extends Wizard {
             e.printStackTrace();
         }
 
+        if (addNodePage.getNodeCount() > 1) {
+            return addNodes(xddModel, xdcPath);
+        }
+
         if (nodeObject instanceof TCN) {
             TCN cnModel = (TCN) nodeObject;
             cnModel.setPathToXDC(xdcPath.toString());
@@ -439,7 +539,7 @@ public class NewNodeWizard extends Wizard {
             e.printStackTrace();
         }
 
-        if (addNodeFirmwareFile(newNode)) {
+        if (addNodeFirmwareFile(Collections.singletonList(newNode))) {
             return true;
         }
 
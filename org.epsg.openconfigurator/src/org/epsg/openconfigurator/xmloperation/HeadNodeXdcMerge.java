@@ -0,0 +1,517 @@
+/*******************************************************************************
+ * @file   HeadNodeXdcMerge.java
+ *
+ * @author Ramakrishnan Periyakaruppan, Kalycito Infotech Private Limited.
+ *
+ * @copyright (c) 2017, Kalycito Infotech Private Limited
+ *                    All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   * Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   * Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   * Neither the name of the copyright holders nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDERS BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *******************************************************************************/
+
+
+package org.epsg.openconfigurator.xmloperation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.epsg.openconfigurator.model.HeadNodeInterface;
+import org.epsg.openconfigurator.model.Module;
+import org.epsg.openconfigurator.model.Node;
+import org.epsg.openconfigurator.model.PowerlinkObject;
+import org.epsg.openconfigurator.model.PowerlinkSubobject;
+import org.epsg.openconfigurator.util.OpenConfiguratorLibraryUtils;
+import org.jdom2.Attribute;
+import org.jdom2.Content;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.Parent;
+import org.jdom2.Text;
+import org.jdom2.filter.Filters;
+
+/**
+ * Merged XDC of a modular head node.
+ *
+ * The merged XDC is the XDC of the head node together with the objects and
+ * the application process of all the connected modules. The document of the
+ * last export is kept along with the elements contributed by each module, so
+ * that the next export only replaces the contributions of the modules that
+ * have changed since then. The document is rebuilt from the XDC of the head
+ * node if the head node itself has changed, if the exported file has been
+ * modified outside or if a contribution cannot be replaced on its own.
+ *
+ * @author Ramakrishnan P
+ *
+ */
+public class HeadNodeXdcMerge {
+
+    /**
+     * Elements of the module contributed to the merged XDC.
+     */
+    private static final class ModuleContribution {
+
+        /**
+         * Fingerprint of the module at the time of the merge.
+         */
+        private final long fingerprint;
+
+        /**
+         * Elements added to the document while merging the module.
+         */
+        private final Set<Element> elements;
+
+        ModuleContribution(long fingerprint, Set<Element> elements) {
+            this.fingerprint = fingerprint;
+            this.elements = elements;
+        }
+
+        /**
+         * @return The indices of the objects the module has added elements
+         *         to.
+         */
+        Set<String> getObjectIndices() {
+            Set<String> objectIndices = new LinkedHashSet<>();
+            for (Element element : elements) {
+                String objectIndex = null;
+                if (OBJECT.equals(element.getName())) {
+                    objectIndex = element.getAttributeValue(INDEX);
+                } else if (SUB_OBJECT.equals(element.getName())
+                        && (element.getParentElement() != null)) {
+                    objectIndex = element.getParentElement()
+                            .getAttributeValue(INDEX);
+                }
+                if (objectIndex != null) {
+                    try {
+                        objectIndices.add(Long
+                                .toHexString(Long.parseLong(objectIndex, 16)));
+                    } catch (NumberFormatException e) {
+                        System.err.println(
+                                "Invalid object index " + objectIndex);
+                    }
+                }
+            }
+            return objectIndices;
+        }
+
+        /**
+         * Checks whether all elements below the given element are contributed
+         * by the module.
+         */
+        private boolean isOwned(Element element) {
+            for (Element child : element.getDescendants(Filters.element())) {
+                if (!elements.contains(child)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Removes the elements of the module from the document. The lists of
+         * the application process are shared by all modules and are kept
+         * when other elements are still available in them.
+         *
+         * @return <code>True</code> if the elements are removed,
+         *         <code>False</code> if an element of the module holds
+         *         elements of other modules.
+         */
+        boolean remove() {
+            Set<Element> sharedElements = new HashSet<>();
+            for (Element element : elements) {
+                if (!isOwned(element)) {
+                    if (!SHARED_ELEMENTS.contains(element.getName())) {
+                        return false;
+                    }
+                    sharedElements.add(element);
+                }
+            }
+
+            for (Element element : elements) {
+                if (sharedElements.contains(element)) {
+                    continue;
+                }
+                Element parent = element.getParentElement();
+                if ((parent != null) && elements.contains(parent)
+                        && !sharedElements.contains(parent)) {
+                    // Removed along with the parent.
+                    continue;
+                }
+                element.detach();
+            }
+            return true;
+        }
+    }
+
+    private static final String OBJECT = "Object"; //$NON-NLS-1$
+    private static final String SUB_OBJECT = "SubObject"; //$NON-NLS-1$
+    private static final String INDEX = "index"; //$NON-NLS-1$
+    private static final String INTERFACE = "interface"; //$NON-NLS-1$
+    private static final String UNIQUE_ID = "uniqueID"; //$NON-NLS-1$
+
+    /**
+     * Elements of the application process shared by the modules.
+     */
+    private static final Set<String> SHARED_ELEMENTS = new HashSet<>(
+            Arrays.asList(XddJdomOperation.APPLICATION_PROCESS,
+                    XddJdomOperation.DATATYPE_LIST,
+                    XddJdomOperation.TEMPLATE_LIST,
+                    XddJdomOperation.PARAMETER_LIST,
+                    XddJdomOperation.PARAMETER_GROUP_LIST));
+
+    /**
+     * Attributes of the head node XDC that change on every write.
+     */
+    private static final Set<String> FILE_MODIFICATION_ATTRIBUTES = new HashSet<>(
+            Arrays.asList("fileModificationTime", //$NON-NLS-1$
+                    "fileModificationDate", "fileModifiedBy")); //$NON-NLS-1$ //$NON-NLS-2$
+
+    /**
+     * Adds the content of the element to the checksum. The connected module
+     * list and the file modification attributes are left out, since they are
+     * updated along with the modules.
+     */
+    private static void addToChecksum(CRC32 checksum, Element element) {
+        if (XddJdomOperation.CONNECTED_MODULE_LIST.equals(element.getName())) {
+            return;
+        }
+        addToChecksum(checksum, element.getQualifiedName());
+        for (Attribute attribute : element.getAttributes()) {
+            if (!FILE_MODIFICATION_ATTRIBUTES.contains(attribute.getName())) {
+                addToChecksum(checksum, attribute.getQualifiedName() + "=" //$NON-NLS-1$
+                        + attribute.getValue());
+            }
+        }
+        for (Content content : element.getContent()) {
+            if (content instanceof Element) {
+                addToChecksum(checksum, (Element) content);
+            } else if (content instanceof Text) {
+                addToChecksum(checksum, ((Text) content).getTextTrim());
+            }
+        }
+    }
+
+    private static void addToChecksum(CRC32 checksum, String value) {
+        checksum.update(value.getBytes(StandardCharsets.UTF_8));
+        checksum.update(0);
+    }
+
+    /**
+     * @return The checksum of the XDC of the head node.
+     */
+    private static long getChecksum(Document document) {
+        CRC32 checksum = new CRC32();
+        addToChecksum(checksum, document.getRootElement());
+        return checksum.getValue();
+    }
+
+    /**
+     * @return All elements available in the document.
+     */
+    private static Set<Element> getElements(Document document) {
+        Set<Element> elements = new HashSet<>();
+        for (Element element : document.getDescendants(Filters.element())) {
+            elements.add(element);
+        }
+        return elements;
+    }
+
+    /**
+     * Computes the fingerprint of the module. The fingerprint covers the
+     * position, the address and the configuration file of the module along
+     * with the indices its objects are mapped to in the head node.
+     */
+    private static long getFingerprint(Module module) throws IOException {
+        CRC32 checksum = new CRC32();
+        addToChecksum(checksum, module.getChildID());
+        addToChecksum(checksum, String.valueOf(module.getPosition()));
+        addToChecksum(checksum, String.valueOf(module.getAddress()));
+        addToChecksum(checksum, module.getAbsolutePathToXdc());
+        File moduleXdc = new File(module.getAbsolutePathToXdc());
+        checksum.update(Files.readAllBytes(moduleXdc.toPath()));
+        for (PowerlinkObject plkObj : module.getObjectDictionary()
+                .getObjectsList()) {
+            long moduleObjectIndex = OpenConfiguratorLibraryUtils
+                    .getModuleObjectsIndex(module, plkObj.getId());
+            addToChecksum(checksum, Long.toHexString(moduleObjectIndex));
+            for (PowerlinkSubobject plkSubObj : plkObj.getSubObjects()) {
+                int moduleSubObjectIndex = OpenConfiguratorLibraryUtils
+                        .getModuleObjectsSubIndex(module, plkSubObj,
+                                plkObj.getId());
+                addToChecksum(checksum,
+                        Integer.toHexString(moduleSubObjectIndex));
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * @return The fingerprints of the modules connected to the head node in
+     *         the order of the merge.
+     */
+    private static Map<Module, Long> getFingerprints(Node node)
+            throws IOException {
+        Map<Module, Long> fingerprints = new LinkedHashMap<>();
+        for (HeadNodeInterface headNodeInterface : node
+                .getHeadNodeInterface()) {
+            for (Module module : headNodeInterface.getModuleCollection()
+                    .values()) {
+                fingerprints.put(module, getFingerprint(module));
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Merged document of the last export.
+     */
+    private Document document;
+
+    /**
+     * Checksum of the head node XDC the document is merged from.
+     */
+    private long headNodeChecksum;
+
+    /**
+     * Modification time of the exported file.
+     */
+    private long outputModified;
+
+    /**
+     * Size of the exported file.
+     */
+    private long outputLength;
+
+    /**
+     * Contributions of the modules to the document.
+     */
+    private final Map<Module, ModuleContribution> contributions = new HashMap<>();
+
+    /**
+     * Checks whether the exported file is the one written from the document.
+     */
+    private boolean isOutputUnchanged(File outputFile) {
+        return outputFile.isFile()
+                && (outputFile.lastModified() == outputModified)
+                && (outputFile.length() == outputLength);
+    }
+
+    /**
+     * Merges the module into the document and records its contribution.
+     *
+     * @return The elements of the document after the merge.
+     */
+    private Set<Element> merge(Module module, long fingerprint,
+            Set<Element> elements) {
+        XddJdomOperation.updateModuleObjectInNode(document, module);
+        Set<Element> mergedElements = getElements(document);
+        Set<Element> moduleElements = new HashSet<>(mergedElements);
+        moduleElements.removeAll(elements);
+        contributions.put(module,
+                new ModuleContribution(fingerprint, moduleElements));
+        return mergedElements;
+    }
+
+    /**
+     * Replaces the contributions of the changed modules in the document.
+     *
+     * @return <code>True</code> if the document is updated,
+     *         <code>False</code> if it has to be rebuilt.
+     */
+    private boolean patch(Node node, Document headNodeDocument,
+            Map<Module, Long> fingerprints) {
+        List<Module> changedModules = new ArrayList<>();
+        for (Map.Entry<Module, Long> entry : fingerprints.entrySet()) {
+            ModuleContribution contribution = contributions
+                    .get(entry.getKey());
+            if ((contribution == null) || (contribution.fingerprint != entry
+                    .getValue().longValue())) {
+                changedModules.add(entry.getKey());
+            }
+        }
+
+        List<Module> obsoleteModules = new ArrayList<>();
+        for (Module module : contributions.keySet()) {
+            if (!fingerprints.containsKey(module)
+                    || changedModules.contains(module)) {
+                obsoleteModules.add(module);
+            }
+        }
+
+        if (changedModules.isEmpty() && obsoleteModules.isEmpty()) {
+            return true;
+        }
+
+        // All obsolete contributions are removed before merging, since moved
+        // modules can take over the indices of each other.
+        Set<String> objectIndices = new LinkedHashSet<>();
+        for (Module module : obsoleteModules) {
+            ModuleContribution contribution = contributions.remove(module);
+            objectIndices.addAll(contribution.getObjectIndices());
+            if (!contribution.remove()) {
+                return false;
+            }
+        }
+        if (!obsoleteModules.isEmpty()) {
+            XddJdomOperation.removeNodeApplicationProcess(document);
+        }
+
+        Set<Element> elements = getElements(document);
+        for (Module module : changedModules) {
+            elements = merge(module, fingerprints.get(module).longValue(),
+                    elements);
+            objectIndices
+                    .addAll(contributions.get(module).getObjectIndices());
+        }
+
+        XddJdomOperation.updateNumberOfEntries(document, objectIndices);
+        replaceConnectedModuleLists(headNodeDocument);
+        XddJdomOperation.addConnectedModules(document, node.getInterface(),
+                node.getInterface().getModuleCollection());
+        return true;
+    }
+
+    /**
+     * Rebuilds the document from the XDC of the head node.
+     */
+    private void rebuild(Node node, Document headNodeDocument,
+            Map<Module, Long> fingerprints) {
+        document = headNodeDocument;
+        contributions.clear();
+
+        Set<Element> elements = getElements(document);
+        for (Map.Entry<Module, Long> entry : fingerprints.entrySet()) {
+            elements = merge(entry.getKey(), entry.getValue().longValue(),
+                    elements);
+        }
+
+        XddJdomOperation.updateNumberOfEntries(document, node);
+        XddJdomOperation.addConnectedModules(document, node.getInterface(),
+                node.getInterface().getModuleCollection());
+    }
+
+    /**
+     * Replaces the connected module lists of the document with the lists of
+     * the head node XDC.
+     */
+    private void replaceConnectedModuleLists(Document headNodeDocument) {
+        List<Element> connectedModuleLists = new ArrayList<>();
+        for (Element element : document.getDescendants(Filters.element(
+                XddJdomOperation.CONNECTED_MODULE_LIST))) {
+            connectedModuleLists.add(element);
+        }
+        for (Element element : connectedModuleLists) {
+            element.detach();
+        }
+
+        Map<String, Element> interfaces = new HashMap<>();
+        for (Element element : document
+                .getDescendants(Filters.element(INTERFACE))) {
+            interfaces.put(element.getAttributeValue(UNIQUE_ID), element);
+        }
+
+        connectedModuleLists.clear();
+        for (Element element : headNodeDocument.getDescendants(
+                Filters.element(XddJdomOperation.CONNECTED_MODULE_LIST))) {
+            connectedModuleLists.add(element);
+        }
+        for (Element element : connectedModuleLists) {
+            Parent parent = element.getParent();
+            if (!(parent instanceof Element)) {
+                continue;
+            }
+            Element headNodeInterface = interfaces.get(
+                    ((Element) parent).getAttributeValue(UNIQUE_ID));
+            if (headNodeInterface != null) {
+                int index = Math.min(parent.indexOf(element),
+                        headNodeInterface.getContentSize());
+                headNodeInterface.addContent(index, element.clone());
+            }
+        }
+    }
+
+    /**
+     * Discards the merged document. The next export rebuilds it.
+     */
+    public synchronized void reset() {
+        document = null;
+        contributions.clear();
+    }
+
+    /**
+     * Records the exported file written from the merged document.
+     *
+     * @param outputFile The exported XDC file.
+     */
+    public synchronized void setOutputWritten(File outputFile) {
+        outputModified = outputFile.lastModified();
+        outputLength = outputFile.length();
+    }
+
+    /**
+     * Updates the merged document with the modules of the head node. Only
+     * the contributions of the modules changed since the last export are
+     * replaced.
+     *
+     * @param node Instance of modular head node.
+     * @param outputFile The exported XDC file.
+     * @return The merged document.
+     * @throws IOException Errors with XDC file modifications.
+     * @throws JDOMException Errors with time modifications.
+     */
+    public synchronized Document update(Node node, File outputFile)
+            throws JDOMException, IOException {
+        Document headNodeDocument = JDomUtil
+                .getXmlDocument(new File(node.getAbsolutePathToXdc()));
+        long checksum = getChecksum(headNodeDocument);
+        Map<Module, Long> fingerprints = getFingerprints(node);
+
+        boolean updated = false;
+        try {
+            if ((document == null) || (checksum != headNodeChecksum)
+                    || !isOutputUnchanged(outputFile)
+                    || !patch(node, headNodeDocument, fingerprints)) {
+                rebuild(node, headNodeDocument, fingerprints);
+                headNodeChecksum = checksum;
+            }
+            updated = true;
+        } finally {
+            if (!updated) {
+                reset();
+            }
+        }
+        return document;
+    }
+}
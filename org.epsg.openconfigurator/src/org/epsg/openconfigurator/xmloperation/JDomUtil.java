@@ -39,7 +39,9 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.input.BOMInputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -65,6 +67,11 @@ import org.xml.sax.InputSource;
  */
 public class JDomUtil {
 
+    /**
+     * Locks of the XML files by their absolute path.
+     */
+    private static final Map<String, Object> fileLocks = new HashMap<>();
+
     /**
      * Adds the forced objects of module in project source file.
      *
@@ -299,6 +306,27 @@ public class JDomUtil {
         }
     }
 
+    /**
+     * Returns the lock of the XML file. The XDC and project files are updated
+     * from the UI thread and from the persistence queue, the reading, the
+     * modification and the writing of a file are done while holding its lock.
+     *
+     * @param xmlFile The XML file.
+     * @return The lock of the file.
+     */
+    public static Object getFileLock(final File xmlFile) {
+        String path = xmlFile.getAbsoluteFile().toPath().normalize()
+                .toString();
+        synchronized (fileLocks) {
+            Object lock = fileLocks.get(path);
+            if (lock == null) {
+                lock = new Object();
+                fileLocks.put(path, lock);
+            }
+            return lock;
+        }
+    }
+
     /**
      * Get the count of child elements under parent element.
      *
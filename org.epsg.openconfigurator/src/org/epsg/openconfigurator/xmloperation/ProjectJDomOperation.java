@@ -32,7 +32,9 @@
 package org.epsg.openconfigurator.xmloperation;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.epsg.openconfigurator.model.FirmwareManager;
@@ -1023,6 +1025,39 @@ public class ProjectJDomOperation {
                 new Attribute(attributeName, attributeValue));
     }
 
+    /**
+     * Updates the node ID and the configuration file path of the nodes. The
+     * elements of all the nodes are looked up before a node ID is changed, so
+     * that the nodes can exchange their node IDs.
+     *
+     * @param document Project file instance.
+     * @param newNodeIds The new node IDs of the nodes.
+     */
+    public static void updateNodeIds(Document document,
+            final Map<Node, Short> newNodeIds) {
+        Map<Element, Node> nodeElements = new LinkedHashMap<>();
+        for (Node node : newNodeIds.keySet()) {
+            Element nodeElement = JDomUtil
+                    .getXPathExpressionElement(node.getXpath(),
+                            OPENCONFIGURATOR_NAMESPACE)
+                    .evaluateFirst(document);
+            if (nodeElement != null) {
+                nodeElements.put(nodeElement, node);
+            } else {
+                System.err.println(node.getXpath() + "Element null");
+            }
+        }
+
+        for (Map.Entry<Element, Node> entry : nodeElements.entrySet()) {
+            Node node = entry.getValue();
+            entry.getKey().setAttribute(
+                    IAbstractNodeProperties.NODE_CONIFG_OBJECT,
+                    node.getPathToXDC());
+            entry.getKey().setAttribute(IAbstractNodeProperties.NODE_ID_OBJECT,
+                    String.valueOf(newNodeIds.get(node)));
+        }
+    }
+
     public static void updateOutputPath(Document document) {
         String xpath = "//oc:ProjectConfiguration";
         if (JDomUtil.isXpathPresent(document, xpath,
@@ -33,8 +33,10 @@ package org.epsg.openconfigurator.xmloperation;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -451,7 +453,12 @@ public class XddJdomOperation {
         return "UNDEFINED";
     }
 
-    private static void removeNodeApplicationProcess(Document document) {
+    /**
+     * Removes the empty lists of the application process.
+     *
+     * @param document XDD/XDC file instance.
+     */
+    static void removeNodeApplicationProcess(Document document) {
         String paramDataTypeXpath = APPLICATION_PROCESS_XPATH + "/plk:"
                 + DATATYPE_LIST + "/plk:struct";
         String paramGrpXpath = PARAMETER_GROUP_LIST_XPATH
@@ -674,441 +681,450 @@ public class XddJdomOperation {
                 Collection<Module> moduleList = interfaces.getModuleCollection()
                         .values();
                 for (Module module : moduleList) {
+                    updateModuleObjectInNode(document, module);
+                }
+            }
+        }
 
-                    List<PowerlinkObject> plkObjList = module
-                            .getObjectDictionary().getObjectsList();
+    }
 
-                    for (PowerlinkObject plkObj : plkObjList) {
+    /**
+     * Update the head node XDC with the object list and application process
+     * of the module.
+     *
+     * @param document XDD/XDC file instance.
+     * @param module Instance of Module.
+     */
+    public static void updateModuleObjectInNode(Document document,
+            Module module) {
+        List<PowerlinkObject> plkObjList = module.getObjectDictionary()
+                .getObjectsList();
 
-                        long moduleObjectIndex = OpenConfiguratorLibraryUtils
-                                .getModuleObjectsIndex(plkObj.getModule(),
-                                        plkObj.getId());
+        for (PowerlinkObject plkObj : plkObjList) {
+
+            long moduleObjectIndex = OpenConfiguratorLibraryUtils
+                    .getModuleObjectsIndex(plkObj.getModule(),
+                            plkObj.getId());
+
+            String Xpath = "//plk:ObjectList";
+            String objectXpath = "//plk:Object[@index='"
+                    + Long.toHexString(moduleObjectIndex) + "']";
+            if (JDomUtil.isXpathPresent(document, objectXpath,
+                    POWERLINK_XDD_NAMESPACE)) {
+                System.err.println("The Object index present..");
+            } else {
+                Element newObjElement = new Element("Object");
+                List<Attribute> attribList = newObjElement
+                        .getAttributes();
+                System.err.println(
+                        "The object Xpath while generating the XDC are ..."
+                                + objectXpath);
+                attribList.add(new Attribute("index",
+                        Long.toHexString(moduleObjectIndex)));
+                attribList.add(
+                        new Attribute("name", plkObj.getName()));
+                if (plkObj.getObjectType() != 0) {
+                    attribList.add(new Attribute("objectType",
+                            String.valueOf(
+                                    plkObj.getObjectType())));
+                }
+                if (!(plkObj.getDataTypeReadable().isEmpty())) {
+                    attribList.add(new Attribute("dataType",
+                            plkObj.getDataTypeReadable()));
+                }
+                if (!(plkObj.getAccessTypeReadable().isEmpty())) {
+                    attribList.add(new Attribute("accessType",
+                            plkObj.getAccessTypeReadable()));
+                }
+                if (!(plkObj.getDefaultValue().isEmpty())) {
+                    attribList.add(new Attribute("defaultValue",
+                            plkObj.getDefaultValue()));
+                }
+
+                if (!(plkObj.getActualValue().isEmpty())) {
+                    attribList.add(new Attribute("actualValue",
+                            plkObj.getActualValue()));
+                }
+
+                if (!(plkObj.getHighLimit().isEmpty())) {
+                    attribList.add(new Attribute("highLimit",
+                            plkObj.getHighLimit()));
+                }
+                if (!(plkObj.getLowLimit().isEmpty())) {
+                    attribList.add(new Attribute("lowLimit",
+                            plkObj.getLowLimit()));
+                }
+                if (!(plkObj.getPDOMappingReadable().isEmpty())) {
+                    attribList.add(new Attribute("PDOmapping",
+                            plkObj.getPDOMappingReadable()));
+                }
+
+                if (plkObj.getUniqueIDRef() != null) {
+                    if (!(plkObj.getUniqueIDRef()
+                            .equals(StringUtils.EMPTY))) {
+
+                        attribList.add(new Attribute("uniqueIDRef",
+                                plkObj.getUniqueId(
+                                        plkObj.getUniqueIDRef())));
+                    }
+                }
 
-                        String Xpath = "//plk:ObjectList";
-                        String objectXpath = "//plk:Object[@index='"
-                                + Long.toHexString(moduleObjectIndex) + "']";
-                        if (JDomUtil.isXpathPresent(document, objectXpath,
+                JDomUtil.addNewElement(document, Xpath,
+                        POWERLINK_XDD_NAMESPACE, newObjElement);
+                if (plkObj.getUniqueIDRef() != null) {
+
+                    String uniqueIdRefXPath = "//plk:Object[@uniqueIDRef='"
+                            + plkObj.getUniqueId(
+                                    plkObj.getUniqueIDRef())
+                            + "']";
+                    if (JDomUtil.isXpathPresent(document,
+                            uniqueIdRefXPath,
+                            POWERLINK_XDD_NAMESPACE)) {
+                        String mappingXpath = "//plk:Object[@PDOmapping='"
+                                + plkObj.getPDOMappingReadable()
+                                + "']";
+                        if (JDomUtil.isXpathPresent(document,
+                                mappingXpath,
                                 POWERLINK_XDD_NAMESPACE)) {
-                            System.err.println("The Object index present..");
-                        } else {
-                            Element newObjElement = new Element("Object");
-                            List<Attribute> attribList = newObjElement
-                                    .getAttributes();
                             System.err.println(
-                                    "The object Xpath while generating the XDC are ..."
-                                            + objectXpath);
-                            attribList.add(new Attribute("index",
-                                    Long.toHexString(moduleObjectIndex)));
-                            attribList.add(
-                                    new Attribute("name", plkObj.getName()));
-                            if (plkObj.getObjectType() != 0) {
-                                attribList.add(new Attribute("objectType",
-                                        String.valueOf(
-                                                plkObj.getObjectType())));
-                            }
-                            if (!(plkObj.getDataTypeReadable().isEmpty())) {
-                                attribList.add(new Attribute("dataType",
-                                        plkObj.getDataTypeReadable()));
-                            }
-                            if (!(plkObj.getAccessTypeReadable().isEmpty())) {
-                                attribList.add(new Attribute("accessType",
-                                        plkObj.getAccessTypeReadable()));
-                            }
-                            if (!(plkObj.getDefaultValue().isEmpty())) {
-                                attribList.add(new Attribute("defaultValue",
-                                        plkObj.getDefaultValue()));
-                            }
+                                    "Xpath of mapping parameter present");
+                            if (JDomUtil.isXpathPresent(document,
+                                    APPLICATION_PROCESS_XPATH,
+                                    POWERLINK_XDD_NAMESPACE)) {
+                                System.err.println(
+                                        "The Xpath Already available.....");
+                            } else {
+                                updateApplicationProcess(document);
+                                System.err.println(
+                                        "The Xpath Already  not available.....");
 
-                            if (!(plkObj.getActualValue().isEmpty())) {
-                                attribList.add(new Attribute("actualValue",
-                                        plkObj.getActualValue()));
                             }
+                            updateNodeApplicationProcessofObject(
+                                    document, module, plkObj);
 
-                            if (!(plkObj.getHighLimit().isEmpty())) {
-                                attribList.add(new Attribute("highLimit",
-                                        plkObj.getHighLimit()));
-                            }
-                            if (!(plkObj.getLowLimit().isEmpty())) {
-                                attribList.add(new Attribute("lowLimit",
-                                        plkObj.getLowLimit()));
-                            }
-                            if (!(plkObj.getPDOMappingReadable().isEmpty())) {
-                                attribList.add(new Attribute("PDOmapping",
-                                        plkObj.getPDOMappingReadable()));
-                            }
+                            updateObjectUniqueIdRef(document,
+                                    module, uniqueIdRefXPath,
+                                    plkObj.getUniqueIDRef());
+                        } else {
 
-                            if (plkObj.getUniqueIDRef() != null) {
-                                if (!(plkObj.getUniqueIDRef()
-                                        .equals(StringUtils.EMPTY))) {
+                            String removeSubObjectXpath = "//plk:ObjectList"
+                                    + "/plk:Object[@index='"
+                                    + Long.toHexString(
+                                            moduleObjectIndex)
+                                    + "']";
 
-                                    attribList.add(new Attribute("uniqueIDRef",
-                                            plkObj.getUniqueId(
-                                                    plkObj.getUniqueIDRef())));
-                                }
+                            JDomUtil.removeAttributes(document,
+                                    removeSubObjectXpath,
+                                    POWERLINK_XDD_NAMESPACE,
+                                    "uniqueIDRef");
+
+                            String actualValue = plkObj
+                                    .getActualValue(plkObj
+                                            .getUniqueIDRef());
+                            if ((actualValue == null)
+                                    || (actualValue
+                                            .equalsIgnoreCase(
+                                                    StringUtils.EMPTY))) {
+                                System.err.println(
+                                        "Actual Value Empty...");
+                            } else {
+                                Attribute newAttribute = new Attribute(
+                                        OBJECT_ACTUAL_VALUE,
+                                        actualValue);
+                                JDomUtil.setAttribute(document,
+                                        objectXpath,
+                                        POWERLINK_XDD_NAMESPACE,
+                                        newAttribute);
                             }
+                        }
+                    }
 
-                            JDomUtil.addNewElement(document, Xpath,
-                                    POWERLINK_XDD_NAMESPACE, newObjElement);
-                            if (plkObj.getUniqueIDRef() != null) {
-
-                                String uniqueIdRefXPath = "//plk:Object[@uniqueIDRef='"
-                                        + plkObj.getUniqueId(
-                                                plkObj.getUniqueIDRef())
-                                        + "']";
-                                if (JDomUtil.isXpathPresent(document,
-                                        uniqueIdRefXPath,
-                                        POWERLINK_XDD_NAMESPACE)) {
-                                    String mappingXpath = "//plk:Object[@PDOmapping='"
-                                            + plkObj.getPDOMappingReadable()
-                                            + "']";
-                                    if (JDomUtil.isXpathPresent(document,
-                                            mappingXpath,
-                                            POWERLINK_XDD_NAMESPACE)) {
-                                        System.err.println(
-                                                "Xpath of mapping parameter present");
-                                        if (JDomUtil.isXpathPresent(document,
-                                                APPLICATION_PROCESS_XPATH,
-                                                POWERLINK_XDD_NAMESPACE)) {
-                                            System.err.println(
-                                                    "The Xpath Already available.....");
-                                        } else {
-                                            updateApplicationProcess(document);
-                                            System.err.println(
-                                                    "The Xpath Already  not available.....");
-
-                                        }
-                                        updateNodeApplicationProcessofObject(
-                                                document, module, plkObj);
-
-                                        updateObjectUniqueIdRef(document,
-                                                module, uniqueIdRefXPath,
-                                                plkObj.getUniqueIDRef());
-                                    } else {
-
-                                        String removeSubObjectXpath = "//plk:ObjectList"
-                                                + "/plk:Object[@index='"
-                                                + Long.toHexString(
-                                                        moduleObjectIndex)
-                                                + "']";
-
-                                        JDomUtil.removeAttributes(document,
-                                                removeSubObjectXpath,
-                                                POWERLINK_XDD_NAMESPACE,
-                                                "uniqueIDRef");
-
-                                        String actualValue = plkObj
-                                                .getActualValue(plkObj
-                                                        .getUniqueIDRef());
-                                        if ((actualValue == null)
-                                                || (actualValue
-                                                        .equalsIgnoreCase(
-                                                                StringUtils.EMPTY))) {
-                                            System.err.println(
-                                                    "Actual Value Empty...");
-                                        } else {
-                                            Attribute newAttribute = new Attribute(
-                                                    OBJECT_ACTUAL_VALUE,
-                                                    actualValue);
-                                            JDomUtil.setAttribute(document,
-                                                    objectXpath,
-                                                    POWERLINK_XDD_NAMESPACE,
-                                                    newAttribute);
-                                        }
-                                    }
-                                }
+                }
 
-                            }
+            }
 
-                        }
+            List<PowerlinkSubobject> plkSubObjList = plkObj
+                    .getSubObjects();
+            for (PowerlinkSubobject plkSubObj : plkSubObjList) {
+                HashMap<Long, Integer> subObjectEntries = new HashMap<>();
+                int moduleSubObjectIndex = OpenConfiguratorLibraryUtils
+                        .getModuleObjectsSubIndex(
+                                plkObj.getModule(), plkSubObj,
+                                plkSubObj.getObject().getId());
+
+                String xpath = "//plk:Object[@index='"
+                        + Long.toHexString(moduleObjectIndex)
+                        + "']";
+                String subobjectXpath = xpath
+                        + "/plk:SubObject[@subIndex='"
+                        + Long.toHexString(moduleSubObjectIndex)
+                                .toUpperCase()
+                        + "']";
 
-                        List<PowerlinkSubobject> plkSubObjList = plkObj
-                                .getSubObjects();
-                        for (PowerlinkSubobject plkSubObj : plkSubObjList) {
-                            HashMap<Long, Integer> subObjectEntries = new HashMap<>();
-                            int moduleSubObjectIndex = OpenConfiguratorLibraryUtils
-                                    .getModuleObjectsSubIndex(
-                                            plkObj.getModule(), plkSubObj,
-                                            plkSubObj.getObject().getId());
-
-                            String xpath = "//plk:Object[@index='"
-                                    + Long.toHexString(moduleObjectIndex)
-                                    + "']";
-                            String subobjectXpath = xpath
-                                    + "/plk:SubObject[@subIndex='"
-                                    + Long.toHexString(moduleSubObjectIndex)
-                                            .toUpperCase()
-                                    + "']";
+                String numberOfEntriesXpath = xpath
+                        + "/plk:SubObject[@subIndex='" + "00"
+                        + "']";
 
-                            String numberOfEntriesXpath = xpath
-                                    + "/plk:SubObject[@subIndex='" + "00"
-                                    + "']";
+                if (JDomUtil.isXpathPresent(document,
+                        numberOfEntriesXpath,
+                        POWERLINK_XDD_NAMESPACE)) {
+                    System.out
+                            .println("Number of entries available");
+                } else {
+                    Element newSubObjElement = new Element(
+                            "SubObject");
+                    List<Attribute> attribList = newSubObjElement
+                            .getAttributes();
 
-                            if (JDomUtil.isXpathPresent(document,
-                                    numberOfEntriesXpath,
-                                    POWERLINK_XDD_NAMESPACE)) {
-                                System.out
-                                        .println("Number of entries available");
-                            } else {
-                                Element newSubObjElement = new Element(
-                                        "SubObject");
-                                List<Attribute> attribList = newSubObjElement
-                                        .getAttributes();
+                    attribList.add(new Attribute("subIndex", "00"));
 
-                                attribList.add(new Attribute("subIndex", "00"));
+                    attribList.add(new Attribute("name",
+                            "NumberOfEntries"));
 
-                                attribList.add(new Attribute("name",
-                                        "NumberOfEntries"));
+                    attribList
+                            .add(new Attribute("objectType", "7"));
 
-                                attribList
-                                        .add(new Attribute("objectType", "7"));
+                    attribList
+                            .add(new Attribute("dataType", "0005"));
 
-                                attribList
-                                        .add(new Attribute("dataType", "0005"));
+                    attribList.add(
+                            new Attribute("accessType", "const"));
 
-                                attribList.add(
-                                        new Attribute("accessType", "const"));
+                    attribList.add(new Attribute("defaultValue",
+                            String.valueOf(plkSubObjList.size())));
 
-                                attribList.add(new Attribute("defaultValue",
-                                        String.valueOf(plkSubObjList.size())));
+                    attribList
+                            .add(new Attribute("PDOmapping", "no"));
 
-                                attribList
-                                        .add(new Attribute("PDOmapping", "no"));
+                    JDomUtil.addNewElement(document, xpath,
+                            POWERLINK_XDD_NAMESPACE,
+                            newSubObjElement);
+                }
+                int subIndex = moduleSubObjectIndex;
+                String subobjectXpathCheck = StringUtils.EMPTY;
+
+                if (subIndex <= 15) {
+                    subobjectXpathCheck = xpath
+                            + "/plk:SubObject[@subIndex='0"
+                            + subIndex + "']";
+                    if (subObjectEntries.containsValue(
+                            (int) moduleObjectIndex)) {
+                        subObjectEntries.put(moduleObjectIndex,
+                                subIndex);
+                    }
 
-                                JDomUtil.addNewElement(document, xpath,
-                                        POWERLINK_XDD_NAMESPACE,
-                                        newSubObjElement);
-                            }
-                            int subIndex = moduleSubObjectIndex;
-                            String subobjectXpathCheck = StringUtils.EMPTY;
+                } else {
+                    subobjectXpathCheck = xpath
+                            + "/plk:SubObject[@subIndex='"
+                            + subIndex + "']";
+                    if (subObjectEntries.containsValue(
+                            (int) moduleObjectIndex)) {
+                        subObjectEntries.put(moduleObjectIndex,
+                                subIndex);
+                    }
+                }
 
-                            if (subIndex <= 15) {
-                                subobjectXpathCheck = xpath
-                                        + "/plk:SubObject[@subIndex='0"
-                                        + subIndex + "']";
-                                if (subObjectEntries.containsValue(
-                                        (int) moduleObjectIndex)) {
-                                    subObjectEntries.put(moduleObjectIndex,
-                                            subIndex);
-                                }
+                if (JDomUtil.isXpathPresent(document,
+                        subobjectXpathCheck,
+                        POWERLINK_XDD_NAMESPACE)) {
+                    System.out.println(
+                            "Sub-object index already available.");
+                } else if (JDomUtil.isXpathPresent(document, xpath,
+                        POWERLINK_XDD_NAMESPACE)) {
+                    Element newSubObjElement = new Element(
+                            "SubObject");
+                    List<Attribute> attribList = newSubObjElement
+                            .getAttributes();
 
-                            } else {
-                                subobjectXpathCheck = xpath
-                                        + "/plk:SubObject[@subIndex='"
-                                        + subIndex + "']";
-                                if (subObjectEntries.containsValue(
-                                        (int) moduleObjectIndex)) {
-                                    subObjectEntries.put(moduleObjectIndex,
-                                            subIndex);
-                                }
-                            }
+                    if (subIndex <= 15) {
+                        attribList.add(new Attribute("subIndex",
+                                "0" + Integer
+                                        .toHexString(
+                                                moduleSubObjectIndex)
+                                        .toUpperCase()));
+                    } else {
+                        attribList.add(new Attribute("subIndex",
+                                Integer.toHexString(
+                                        moduleSubObjectIndex)
+                                        .toUpperCase()));
+                    }
+                    attribList.add(new Attribute("name",
+                            plkSubObj.getName()));
+                    if (plkSubObj.getObjectType() != 0) {
+                        attribList.add(new Attribute("objectType",
+                                String.valueOf(plkSubObj
+                                        .getObjectType())));
+                    }
+                    if (plkSubObj.getDataType() != null) {
+                        attribList.add(new Attribute("dataType",
+                                DatatypeConverter.printHexBinary(
+                                        plkSubObj.getDataType())));
+                    }
+                    if (!(plkSubObj.getAccessTypeReadable()
+                            .isEmpty())) {
+                        attribList.add(new Attribute("accessType",
+                                plkSubObj.getAccessTypeReadable()));
+                    }
+                    if (!(plkSubObj.getDefaultValue().isEmpty())) {
+                        attribList.add(new Attribute("defaultValue",
+                                plkSubObj.getDefaultValue()));
+                    }
 
+                    if (!(plkSubObj.getActualValue().isEmpty())) {
+                        attribList.add(new Attribute("actualValue",
+                                plkSubObj.getActualValue()));
+                    }
+
+                    if (!(plkSubObj.getHighLimit().isEmpty())) {
+                        attribList.add(new Attribute("highLimit",
+                                plkSubObj.getHighLimit()));
+                    }
+                    if (!(plkSubObj.getLowLimit().isEmpty())) {
+                        attribList.add(new Attribute("lowLimit",
+                                plkSubObj.getLowLimit()));
+                    }
+
+                    if (!(plkSubObj.getPDOMappingReadable()
+                            .isEmpty())) {
+                        attribList.add(new Attribute("PDOmapping",
+                                plkSubObj.getPDOMappingReadable()));
+                    }
+
+                    if (plkSubObj.getUniqueIDRef() != null) {
+                        attribList.add(new Attribute("uniqueIDRef",
+                                plkSubObj.getUniqueId(plkSubObj
+                                        .getUniqueIDRef())));
+                    }
+
+                    JDomUtil.addNewElement(document, xpath,
+                            POWERLINK_XDD_NAMESPACE,
+                            newSubObjElement);
+                } else {
+                    System.err.println(
+                            "Sub-ObjectList Xpath not found in head node XDC file.");
+                }
+                if (plkSubObj.getUniqueIDRef() != null) {
+
+                    String uniqueIdRefXPath = xpath
+                            + "/plk:SubObject[@uniqueIDRef='"
+                            + plkSubObj.getUniqueId(
+                                    plkSubObj.getUniqueIDRef())
+                            + "']";
+                    if (JDomUtil.isXpathPresent(document,
+                            uniqueIdRefXPath,
+                            POWERLINK_XDD_NAMESPACE)) {
+                        String mappingXpath = objectXpath
+                                + "/plk:SubObject[@PDOmapping='"
+                                + plkSubObj.getPDOMappingReadable()
+                                + "']";
+                        if (JDomUtil.isXpathPresent(document,
+                                mappingXpath,
+                                POWERLINK_XDD_NAMESPACE)) {
+                            System.err.println(
+                                    "Xpath of mapping parameter present");
                             if (JDomUtil.isXpathPresent(document,
-                                    subobjectXpathCheck,
+                                    APPLICATION_PROCESS_XPATH,
                                     POWERLINK_XDD_NAMESPACE)) {
-                                System.out.println(
-                                        "Sub-object index already available.");
-                            } else if (JDomUtil.isXpathPresent(document, xpath,
-                                    POWERLINK_XDD_NAMESPACE)) {
-                                Element newSubObjElement = new Element(
-                                        "SubObject");
-                                List<Attribute> attribList = newSubObjElement
-                                        .getAttributes();
-
-                                if (subIndex <= 15) {
-                                    attribList.add(new Attribute("subIndex",
-                                            "0" + Integer
-                                                    .toHexString(
-                                                            moduleSubObjectIndex)
-                                                    .toUpperCase()));
-                                } else {
-                                    attribList.add(new Attribute("subIndex",
-                                            Integer.toHexString(
-                                                    moduleSubObjectIndex)
-                                                    .toUpperCase()));
-                                }
-                                attribList.add(new Attribute("name",
-                                        plkSubObj.getName()));
-                                if (plkSubObj.getObjectType() != 0) {
-                                    attribList.add(new Attribute("objectType",
-                                            String.valueOf(plkSubObj
-                                                    .getObjectType())));
-                                }
-                                if (plkSubObj.getDataType() != null) {
-                                    attribList.add(new Attribute("dataType",
-                                            DatatypeConverter.printHexBinary(
-                                                    plkSubObj.getDataType())));
-                                }
-                                if (!(plkSubObj.getAccessTypeReadable()
-                                        .isEmpty())) {
-                                    attribList.add(new Attribute("accessType",
-                                            plkSubObj.getAccessTypeReadable()));
-                                }
-                                if (!(plkSubObj.getDefaultValue().isEmpty())) {
-                                    attribList.add(new Attribute("defaultValue",
-                                            plkSubObj.getDefaultValue()));
-                                }
-
-                                if (!(plkSubObj.getActualValue().isEmpty())) {
-                                    attribList.add(new Attribute("actualValue",
-                                            plkSubObj.getActualValue()));
-                                }
-
-                                if (!(plkSubObj.getHighLimit().isEmpty())) {
-                                    attribList.add(new Attribute("highLimit",
-                                            plkSubObj.getHighLimit()));
-                                }
-                                if (!(plkSubObj.getLowLimit().isEmpty())) {
-                                    attribList.add(new Attribute("lowLimit",
-                                            plkSubObj.getLowLimit()));
-                                }
-
-                                if (!(plkSubObj.getPDOMappingReadable()
-                                        .isEmpty())) {
-                                    attribList.add(new Attribute("PDOmapping",
-                                            plkSubObj.getPDOMappingReadable()));
-                                }
-
-                                if (plkSubObj.getUniqueIDRef() != null) {
-                                    attribList.add(new Attribute("uniqueIDRef",
-                                            plkSubObj.getUniqueId(plkSubObj
-                                                    .getUniqueIDRef())));
-                                }
-
-                                JDomUtil.addNewElement(document, xpath,
-                                        POWERLINK_XDD_NAMESPACE,
-                                        newSubObjElement);
+                                System.err.println(
+                                        "The Xpath Already available.....");
                             } else {
+                                updateApplicationProcess(document);
                                 System.err.println(
-                                        "Sub-ObjectList Xpath not found in head node XDC file.");
+                                        "The Xpath Already  not available.....");
+
                             }
-                            if (plkSubObj.getUniqueIDRef() != null) {
-
-                                String uniqueIdRefXPath = xpath
-                                        + "/plk:SubObject[@uniqueIDRef='"
-                                        + plkSubObj.getUniqueId(
-                                                plkSubObj.getUniqueIDRef())
-                                        + "']";
-                                if (JDomUtil.isXpathPresent(document,
-                                        uniqueIdRefXPath,
-                                        POWERLINK_XDD_NAMESPACE)) {
-                                    String mappingXpath = objectXpath
-                                            + "/plk:SubObject[@PDOmapping='"
-                                            + plkSubObj.getPDOMappingReadable()
-                                            + "']";
-                                    if (JDomUtil.isXpathPresent(document,
-                                            mappingXpath,
-                                            POWERLINK_XDD_NAMESPACE)) {
-                                        System.err.println(
-                                                "Xpath of mapping parameter present");
-                                        if (JDomUtil.isXpathPresent(document,
-                                                APPLICATION_PROCESS_XPATH,
-                                                POWERLINK_XDD_NAMESPACE)) {
-                                            System.err.println(
-                                                    "The Xpath Already available.....");
-                                        } else {
-                                            updateApplicationProcess(document);
-                                            System.err.println(
-                                                    "The Xpath Already  not available.....");
-
-                                        }
-                                        updateNodeApplicationProcess(document,
-                                                module, plkSubObj);
-
-                                        updateObjectUniqueIdRef(document,
-                                                module, uniqueIdRefXPath,
-                                                plkSubObj.getUniqueIDRef());
-                                    } else {
-
-                                        String subIndexVal = Long
-                                                .toHexString(
-                                                        moduleSubObjectIndex)
-                                                .toUpperCase();
-                                        if (subIndex <= 15) {
-                                            subIndexVal = "0" + subIndexVal;
-                                        }
-
-                                        String removeSubObjectXpath = "//plk:ObjectList"
-                                                + "/plk:Object[@index='"
-                                                + Long.toHexString(
-                                                        moduleObjectIndex)
-                                                + "']"
-                                                + "/plk:SubObject[@subIndex='"
-                                                + subIndexVal + "']";
-
-                                        JDomUtil.removeAttributes(document,
-                                                removeSubObjectXpath,
-                                                POWERLINK_XDD_NAMESPACE,
-                                                "uniqueIDRef");
-
-                                        String actualValue = plkSubObj
-                                                .getActualValue(plkSubObj
-                                                        .getUniqueIDRef());
-
-                                        if ((actualValue == null)
-                                                || (actualValue
-                                                        .equalsIgnoreCase(
-                                                                StringUtils.EMPTY))) {
-                                            actualValue = plkSubObj
-                                                    .getActualValueFromLibrary(
-                                                            subIndex,
-                                                            moduleObjectIndex);
-                                        }
-                                        System.err.println("Actual value....."
-                                                + actualValue + " Object .."
-                                                + Long.toHexString(
-                                                        moduleObjectIndex)
-                                                + " subObject.." + Integer
-                                                        .toHexString(subIndex));
-                                        if ((actualValue != null)) {
-                                            Attribute newAttribute = new Attribute(
-                                                    OBJECT_ACTUAL_VALUE,
-                                                    actualValue);
-                                            JDomUtil.setAttribute(document,
-                                                    subobjectXpath,
-                                                    POWERLINK_XDD_NAMESPACE,
-                                                    newAttribute);
-                                        }
-                                        String defaultValue = plkSubObj
-                                                .getdefaultValue(plkSubObj
-                                                        .getUniqueIDRef());
-
-                                        if ((defaultValue != null)) {
-                                            Attribute newAttribute = new Attribute(
-                                                    "defaultValue",
-                                                    defaultValue);
-                                            JDomUtil.setAttribute(document,
-                                                    subobjectXpath,
-                                                    POWERLINK_XDD_NAMESPACE,
-                                                    newAttribute);
-                                        }
-                                        String removeactualValueXpath = "//plk:ObjectList"
-                                                + "/plk:Object[@index='"
-                                                + Long.toHexString(
-                                                        moduleObjectIndex)
-                                                + "']"
-                                                + "/plk:SubObject[@actualValue='']";
-                                        if (JDomUtil.isXpathPresent(document,
-                                                removeactualValueXpath,
-                                                POWERLINK_XDD_NAMESPACE)) {
-                                            JDomUtil.removeAttributes(document,
-                                                    removeactualValueXpath,
-                                                    POWERLINK_XDD_NAMESPACE,
-                                                    "actualValue");
-                                        }
-                                    }
-                                }
+                            updateNodeApplicationProcess(document,
+                                    module, plkSubObj);
+
+                            updateObjectUniqueIdRef(document,
+                                    module, uniqueIdRefXPath,
+                                    plkSubObj.getUniqueIDRef());
+                        } else {
 
+                            String subIndexVal = Long
+                                    .toHexString(
+                                            moduleSubObjectIndex)
+                                    .toUpperCase();
+                            if (subIndex <= 15) {
+                                subIndexVal = "0" + subIndexVal;
                             }
 
+                            String removeSubObjectXpath = "//plk:ObjectList"
+                                    + "/plk:Object[@index='"
+                                    + Long.toHexString(
+                                            moduleObjectIndex)
+                                    + "']"
+                                    + "/plk:SubObject[@subIndex='"
+                                    + subIndexVal + "']";
+
+                            JDomUtil.removeAttributes(document,
+                                    removeSubObjectXpath,
+                                    POWERLINK_XDD_NAMESPACE,
+                                    "uniqueIDRef");
+
+                            String actualValue = plkSubObj
+                                    .getActualValue(plkSubObj
+                                            .getUniqueIDRef());
+
+                            if ((actualValue == null)
+                                    || (actualValue
+                                            .equalsIgnoreCase(
+                                                    StringUtils.EMPTY))) {
+                                actualValue = plkSubObj
+                                        .getActualValueFromLibrary(
+                                                subIndex,
+                                                moduleObjectIndex);
+                            }
+                            System.err.println("Actual value....."
+                                    + actualValue + " Object .."
+                                    + Long.toHexString(
+                                            moduleObjectIndex)
+                                    + " subObject.." + Integer
+                                            .toHexString(subIndex));
+                            if ((actualValue != null)) {
+                                Attribute newAttribute = new Attribute(
+                                        OBJECT_ACTUAL_VALUE,
+                                        actualValue);
+                                JDomUtil.setAttribute(document,
+                                        subobjectXpath,
+                                        POWERLINK_XDD_NAMESPACE,
+                                        newAttribute);
+                            }
+                            String defaultValue = plkSubObj
+                                    .getdefaultValue(plkSubObj
+                                            .getUniqueIDRef());
+
+                            if ((defaultValue != null)) {
+                                Attribute newAttribute = new Attribute(
+                                        "defaultValue",
+                                        defaultValue);
+                                JDomUtil.setAttribute(document,
+                                        subobjectXpath,
+                                        POWERLINK_XDD_NAMESPACE,
+                                        newAttribute);
+                            }
+                            String removeactualValueXpath = "//plk:ObjectList"
+                                    + "/plk:Object[@index='"
+                                    + Long.toHexString(
+                                            moduleObjectIndex)
+                                    + "']"
+                                    + "/plk:SubObject[@actualValue='']";
+                            if (JDomUtil.isXpathPresent(document,
+                                    removeactualValueXpath,
+                                    POWERLINK_XDD_NAMESPACE)) {
+                                JDomUtil.removeAttributes(document,
+                                        removeactualValueXpath,
+                                        POWERLINK_XDD_NAMESPACE,
+                                        "actualValue");
+                            }
                         }
-
                     }
 
                 }
 
             }
-        }
 
+        }
     }
 
     /**
@@ -1282,8 +1298,16 @@ public class XddJdomOperation {
 
     }
 
+    /**
+     * Updates the number of entries of the module objects in the head node
+     * XDC.
+     *
+     * @param document XDD/XDC file instance.
+     * @param node Instance of Node.
+     */
     public static void updateNumberOfEntries(Document document, Node node) {
         if (node.isModularheadNode()) {
+            Set<String> objectIndices = new LinkedHashSet<>();
             List<HeadNodeInterface> interfaceList = node.getHeadNodeInterface();
             for (HeadNodeInterface interfaces : interfaceList) {
                 Collection<Module> moduleList = interfaces.getModuleCollection()
@@ -1297,51 +1321,55 @@ public class XddJdomOperation {
                         long moduleObjectIndex = OpenConfiguratorLibraryUtils
                                 .getModuleObjectsIndex(plkObj.getModule(),
                                         plkObj.getId());
+                        objectIndices.add(Long.toHexString(moduleObjectIndex));
+                    }
 
-                        String objectXpath = "//plk:Object[@index='"
-                                + Long.toHexString(moduleObjectIndex) + "']";
-                        int entriesDefaultValue = 0;
-                        if (JDomUtil.isXpathPresent(document, objectXpath,
-                                POWERLINK_XDD_NAMESPACE)) {
+                }
+            }
+            updateNumberOfEntries(document, objectIndices);
+        }
+    }
 
-                            for (int count = 0; count < 255; count++) {
-
-                                String defaultValue = Long.toHexString(count)
-                                        .toUpperCase();
-                                if (count <= 15) {
-                                    defaultValue = "0" + Long.toHexString(count)
-                                            .toUpperCase();
-                                }
-
-                                String xpath = "//plk:Object[@index='"
-                                        + Long.toHexString(moduleObjectIndex)
-                                        + "']";
-                                String subobjectXpath = xpath
-                                        + "/plk:SubObject[@subIndex='"
-                                        + defaultValue + "']";
-                                String numberOfEntriesXpath = xpath
-                                        + "/plk:SubObject[@subIndex='" + "00"
-                                        + "']";
-
-                                if (JDomUtil.isXpathPresent(document,
-                                        subobjectXpath,
-                                        POWERLINK_XDD_NAMESPACE)) {
-                                    entriesDefaultValue = entriesDefaultValue
-                                            + 1;
-                                    Attribute newAttribute = new Attribute(
-                                            "defaultValue", String.valueOf(
-                                                    entriesDefaultValue - 1));
-                                    JDomUtil.updateAttribute(document,
-                                            numberOfEntriesXpath,
-                                            POWERLINK_XDD_NAMESPACE,
-                                            newAttribute);
-                                }
-                            }
+    /**
+     * Updates the number of entries of the given objects in the head node XDC.
+     *
+     * @param document XDD/XDC file instance.
+     * @param objectIndices The indices of the objects in the format of the
+     *            index attribute.
+     */
+    public static void updateNumberOfEntries(Document document,
+            Collection<String> objectIndices) {
+        for (String objectIndex : objectIndices) {
+            String xpath = "//plk:Object[@index='" + objectIndex + "']";
+            int entriesDefaultValue = 0;
+            if (JDomUtil.isXpathPresent(document, xpath,
+                    POWERLINK_XDD_NAMESPACE)) {
 
-                        }
+                for (int count = 0; count < 255; count++) {
+
+                    String defaultValue = Long.toHexString(count)
+                            .toUpperCase();
+                    if (count <= 15) {
+                        defaultValue = "0"
+                                + Long.toHexString(count).toUpperCase();
                     }
 
+                    String subobjectXpath = xpath + "/plk:SubObject[@subIndex='"
+                            + defaultValue + "']";
+                    String numberOfEntriesXpath = xpath
+                            + "/plk:SubObject[@subIndex='" + "00" + "']";
+
+                    if (JDomUtil.isXpathPresent(document, subobjectXpath,
+                            POWERLINK_XDD_NAMESPACE)) {
+                        entriesDefaultValue = entriesDefaultValue + 1;
+                        Attribute newAttribute = new Attribute("defaultValue",
+                                String.valueOf(entriesDefaultValue - 1));
+                        JDomUtil.updateAttribute(document,
+                                numberOfEntriesXpath, POWERLINK_XDD_NAMESPACE,
+                                newAttribute);
+                    }
                 }
+
             }
         }
     }
@@ -2287,9 +2315,10 @@ public class XddJdomOperation {
         Element newParamRef = new Element(PARAMETER_REFERENCE);
         List<Attribute> attribList = newParamRef.getAttributes();
         attribList.add(new Attribute("uniqueIDRef", newUniqueId));
-        if (parameterReferenceModel.getActualValue() != null) {
-            attribList.add(new Attribute("actualValue",
-                    parameterReferenceModel.getActualValue()));
+        String actualValue = module.getObjectDictionary()
+                .getParameterReferenceActualValue(parameterReferenceModel);
+        if (actualValue != null) {
+            attribList.add(new Attribute("actualValue", actualValue));
         }
 
         attribList.add(new Attribute("locked", plkSubObj
@@ -2329,9 +2358,10 @@ public class XddJdomOperation {
         Element newParamRef = new Element(PARAMETER_REFERENCE);
         List<Attribute> attribList = newParamRef.getAttributes();
         attribList.add(new Attribute("uniqueIDRef", newUniqueId));
-        if (parameterReferenceModel.getActualValue() != null) {
-            attribList.add(new Attribute("actualValue",
-                    parameterReferenceModel.getActualValue()));
+        String actualValue = module.getObjectDictionary()
+                .getParameterReferenceActualValue(parameterReferenceModel);
+        if (actualValue != null) {
+            attribList.add(new Attribute("actualValue", actualValue));
         }
 
         attribList.add(new Attribute("locked", plkSubObj